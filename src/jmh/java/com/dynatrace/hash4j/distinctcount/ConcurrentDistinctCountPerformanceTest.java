@@ -0,0 +1,153 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class ConcurrentDistinctCountPerformanceTest {
+
+  @State(Scope.Benchmark)
+  public static class ScalingState {
+
+    @Param({"1", "2", "4", "8"})
+    public int numThreads;
+
+    @Param({"1000000"})
+    public int numElements;
+
+    @Param({"12"})
+    public int precision;
+
+    long[] hashes;
+
+    ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void init() {
+      hashes = new SplittableRandom().longs(numElements).toArray();
+      executor = Executors.newFixedThreadPool(numThreads);
+    }
+
+    @TearDown(Level.Trial)
+    public void finish() {
+      executor.shutdown();
+      hashes = null;
+    }
+
+    int getFrom(int threadIdx) {
+      return (int) ((long) hashes.length * threadIdx / numThreads);
+    }
+
+    int getTo(int threadIdx) {
+      return getFrom(threadIdx + 1);
+    }
+
+    <T> T[] runInParallel(IntFunction<T> task, IntFunction<T[]> arrayFactory) throws Exception {
+      Future<?>[] futures = new Future<?>[numThreads];
+      for (int t = 0; t < numThreads; ++t) {
+        final int threadIdx = t;
+        futures[t] = executor.submit(() -> task.apply(threadIdx));
+      }
+      T[] results = arrayFactory.apply(numThreads);
+      for (int t = 0; t < numThreads; ++t) {
+        @SuppressWarnings("unchecked")
+        T result = (T) futures[t].get();
+        results[t] = result;
+      }
+      return results;
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void sharedConcurrentUltraLogLog(ScalingState state, Blackhole blackhole)
+      throws Exception {
+    ConcurrentUltraLogLog sketch = ConcurrentUltraLogLog.create(state.precision);
+    state.runInParallel(
+        t -> {
+          for (int i = state.getFrom(t); i < state.getTo(t); ++i) {
+            sketch.add(state.hashes[i]);
+          }
+          return sketch;
+        },
+        ConcurrentUltraLogLog[]::new);
+    blackhole.consume(sketch.getDistinctCountEstimate());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void perThreadUltraLogLogThenMerge(ScalingState state, Blackhole blackhole)
+      throws Exception {
+    UltraLogLog[] sketches =
+        state.runInParallel(
+            t -> {
+              UltraLogLog sketch = UltraLogLog.create(state.precision);
+              for (int i = state.getFrom(t); i < state.getTo(t); ++i) {
+                sketch.add(state.hashes[i]);
+              }
+              return sketch;
+            },
+            UltraLogLog[]::new);
+    UltraLogLog merged = UltraLogLog.create(state.precision);
+    for (UltraLogLog sketch : sketches) {
+      merged.add(sketch);
+    }
+    blackhole.consume(merged.getDistinctCountEstimate());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void sharedConcurrentHyperLogLog(ScalingState state, Blackhole blackhole)
+      throws Exception {
+    ConcurrentHyperLogLog sketch = ConcurrentHyperLogLog.create(state.precision);
+    state.runInParallel(
+        t -> {
+          for (int i = state.getFrom(t); i < state.getTo(t); ++i) {
+            sketch.add(state.hashes[i]);
+          }
+          return sketch;
+        },
+        ConcurrentHyperLogLog[]::new);
+    blackhole.consume(sketch.getDistinctCountEstimate());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void perThreadHyperLogLogThenMerge(ScalingState state, Blackhole blackhole)
+      throws Exception {
+    HyperLogLog[] sketches =
+        state.runInParallel(
+            t -> {
+              HyperLogLog sketch = HyperLogLog.create(state.precision);
+              for (int i = state.getFrom(t); i < state.getTo(t); ++i) {
+                sketch.add(state.hashes[i]);
+              }
+              return sketch;
+            },
+            HyperLogLog[]::new);
+    HyperLogLog merged = HyperLogLog.create(state.precision);
+    for (HyperLogLog sketch : sketches) {
+      merged.add(sketch);
+    }
+    blackhole.consume(merged.getDistinctCountEstimate());
+  }
+}
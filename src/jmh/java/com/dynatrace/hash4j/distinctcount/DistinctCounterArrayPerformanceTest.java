@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022-2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class DistinctCounterArrayPerformanceTest {
+
+  private static final int NUM_OPERATIONS = 1 << 16;
+
+  @State(Scope.Benchmark)
+  public static class ArrayState {
+
+    @Param({"1000", "1000000"})
+    public int numSketches;
+
+    @Param({"6", "10"})
+    public int precision;
+
+    public UltraLogLogArray ultraLogLogArray;
+    public UltraLogLogArray sharedUltraLogLogArray;
+    public Path sharedFile;
+    public UltraLogLog[] ultraLogLogs;
+    public HyperLogLogArray hyperLogLogArray;
+    public HyperLogLog[] hyperLogLogs;
+    public int[] sketchIndices;
+    public long[] hashValues;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException {
+      SplittableRandom random = new SplittableRandom();
+      ultraLogLogArray = UltraLogLogArray.create(precision, numSketches);
+      sharedFile = Files.createTempFile("sketches", null);
+      sharedUltraLogLogArray = UltraLogLogArray.mapShared(sharedFile, precision, numSketches);
+      hyperLogLogArray = HyperLogLogArray.create(precision, numSketches);
+      ultraLogLogs = new UltraLogLog[numSketches];
+      hyperLogLogs = new HyperLogLog[numSketches];
+      for (int i = 0; i < numSketches; ++i) {
+        ultraLogLogs[i] = UltraLogLog.create(precision);
+        hyperLogLogs[i] = HyperLogLog.create(precision);
+      }
+      sketchIndices = random.ints(NUM_OPERATIONS, 0, numSketches).toArray();
+      hashValues = random.longs(NUM_OPERATIONS).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+      Files.deleteIfExists(sharedFile);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void addUltraLogLogArray(ArrayState state, Blackhole blackhole) {
+    for (int i = 0; i < NUM_OPERATIONS; ++i) {
+      state.ultraLogLogArray.add(state.sketchIndices[i], state.hashValues[i]);
+    }
+    blackhole.consume(state.ultraLogLogArray);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void addSharedUltraLogLogArray(ArrayState state, Blackhole blackhole) {
+    for (int i = 0; i < NUM_OPERATIONS; ++i) {
+      state.sharedUltraLogLogArray.add(state.sketchIndices[i], state.hashValues[i]);
+    }
+    blackhole.consume(state.sharedUltraLogLogArray);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void addUltraLogLogObjects(ArrayState state, Blackhole blackhole) {
+    for (int i = 0; i < NUM_OPERATIONS; ++i) {
+      state.ultraLogLogs[state.sketchIndices[i]].add(state.hashValues[i]);
+    }
+    blackhole.consume(state.ultraLogLogs);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void addHyperLogLogArray(ArrayState state, Blackhole blackhole) {
+    for (int i = 0; i < NUM_OPERATIONS; ++i) {
+      state.hyperLogLogArray.add(state.sketchIndices[i], state.hashValues[i]);
+    }
+    blackhole.consume(state.hyperLogLogArray);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void addHyperLogLogObjects(ArrayState state, Blackhole blackhole) {
+    for (int i = 0; i < NUM_OPERATIONS; ++i) {
+      state.hyperLogLogs[state.sketchIndices[i]].add(state.hashValues[i]);
+    }
+    blackhole.consume(state.hyperLogLogs);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void estimateUltraLogLogArray(ArrayState state, Blackhole blackhole) {
+    blackhole.consume(state.ultraLogLogArray.getDistinctCountEstimate(state.sketchIndices[0]));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void estimateHyperLogLogArray(ArrayState state, Blackhole blackhole) {
+    blackhole.consume(state.hyperLogLogArray.getDistinctCountEstimate(state.sketchIndices[0]));
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022-2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class DistinctCounterCodecPerformanceTest {
+
+  @State(Scope.Benchmark)
+  public static class CodecState {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int numElements;
+
+    @Param({"10", "14", "18"})
+    public int precision;
+
+    public UltraLogLog ultraLogLog;
+    public HyperLogLog hyperLogLog;
+    public byte[] encodedUltraLogLog;
+    public byte[] encodedHyperLogLog;
+
+    @Setup(Level.Trial)
+    public void init() {
+      SplittableRandom random = new SplittableRandom();
+      ultraLogLog = UltraLogLog.create(precision);
+      hyperLogLog = HyperLogLog.create(precision);
+      for (int i = 0; i < numElements; ++i) {
+        long hashValue = random.nextLong();
+        ultraLogLog.add(hashValue);
+        hyperLogLog.add(hashValue);
+      }
+      encodedUltraLogLog = DistinctCounterCodec.encode(ultraLogLog);
+      encodedHyperLogLog = DistinctCounterCodec.encode(hyperLogLog);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void encodeUltraLogLog(CodecState state, Blackhole blackhole) {
+    blackhole.consume(DistinctCounterCodec.encode(state.ultraLogLog));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void decodeUltraLogLog(CodecState state, Blackhole blackhole) {
+    blackhole.consume(DistinctCounterCodec.decodeUltraLogLog(state.encodedUltraLogLog));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void encodeHyperLogLog(CodecState state, Blackhole blackhole) {
+    blackhole.consume(DistinctCounterCodec.encode(state.hyperLogLog));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void decodeHyperLogLog(CodecState state, Blackhole blackhole) {
+    blackhole.consume(DistinctCounterCodec.decodeHyperLogLog(state.encodedHyperLogLog));
+  }
+}
@@ -59,6 +59,44 @@ public class HyperLogLogPerformanceTest {
     blackhole.consume(sketch);
   }
 
+  @State(Scope.Thread)
+  public static class BulkAddState {
+
+    @Param({"64", "512", "4096", "65536"})
+    public int batchSize;
+
+    @Param({"10", "14", "18"})
+    public int precision;
+
+    public long[] hashValues;
+
+    public HyperLogLog sketch;
+
+    @Setup(Level.Trial)
+    public void init() {
+      hashValues = new SplittableRandom().longs(batchSize).toArray();
+      sketch = HyperLogLog.create(precision);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountAddBatchIndividually(BulkAddState state, Blackhole blackhole) {
+    final HyperLogLog sketch = state.sketch;
+    final long[] hashValues = state.hashValues;
+    for (int i = 0; i < hashValues.length; ++i) {
+      sketch.add(hashValues[i]);
+    }
+    blackhole.consume(sketch);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountAddBatch(BulkAddState state, Blackhole blackhole) {
+    final long[] hashValues = state.hashValues;
+    blackhole.consume(state.sketch.add(hashValues, 0, hashValues.length));
+  }
+
   @Benchmark
   @BenchmarkMode(Mode.AverageTime)
   public void distinctCountAddWithMartingaleEstimator(AddState addState, Blackhole blackhole) {
@@ -212,4 +250,49 @@ public class HyperLogLogPerformanceTest {
       blackhole.consume(mergedSketch);
     }
   }
+
+  @State(Scope.Benchmark)
+  public static class MergeCollectionState {
+
+    List<HyperLogLog> sketches = null;
+
+    @Param({"6", "8", "10", "12", "14", "16", "18"})
+    public int precision;
+
+    @Param({"2", "16", "128"})
+    public int numSketches;
+
+    @Setup(Level.Trial)
+    public void init() {
+      SplittableRandom random = new SplittableRandom();
+      long numElements = 4L << precision;
+      sketches =
+          Stream.generate(() -> generate(random, numElements, precision))
+              .limit(numSketches)
+              .collect(toList());
+    }
+
+    @TearDown
+    public void finish() {
+      sketches = null;
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountMergeCollectionPairwise(
+      MergeCollectionState mergeState, Blackhole blackhole) {
+    List<HyperLogLog> sketches = mergeState.sketches;
+    HyperLogLog mergedSketch = sketches.get(0).copy();
+    for (int i = 1; i < sketches.size(); ++i) {
+      mergedSketch.add(sketches.get(i));
+    }
+    blackhole.consume(mergedSketch);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountMergeCollection(MergeCollectionState mergeState, Blackhole blackhole) {
+    blackhole.consume(HyperLogLog.merge(mergeState.sketches));
+  }
 }
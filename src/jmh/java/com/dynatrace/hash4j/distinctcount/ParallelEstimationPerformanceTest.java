@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022-2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class ParallelEstimationPerformanceTest {
+
+  private static final int NUM_SKETCHES = 100000;
+
+  @State(Scope.Benchmark)
+  public static class EstimationState {
+
+    @Param({"6", "10"})
+    public int precision;
+
+    public UltraLogLog[] ultraLogLogs;
+    public UltraLogLogArray ultraLogLogArray;
+    public double[] estimates;
+
+    @Setup(Level.Trial)
+    public void init() {
+      SplittableRandom random = new SplittableRandom(0x2f8a6c1e93d047b5L);
+      ultraLogLogs = new UltraLogLog[NUM_SKETCHES];
+      ultraLogLogArray = UltraLogLogArray.create(precision, NUM_SKETCHES);
+      for (int i = 0; i < NUM_SKETCHES; ++i) {
+        ultraLogLogs[i] = UltraLogLog.create(precision);
+        int numElements = random.nextInt(1 << random.nextInt(16));
+        for (int k = 0; k < numElements; ++k) {
+          ultraLogLogs[i].add(random.nextLong());
+        }
+        ultraLogLogArray.set(i, ultraLogLogs[i]);
+      }
+      estimates = new double[NUM_SKETCHES];
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void estimateSequential(EstimationState state, Blackhole blackhole) {
+    for (int i = 0; i < NUM_SKETCHES; ++i) {
+      state.estimates[i] = state.ultraLogLogs[i].getDistinctCountEstimate();
+    }
+    blackhole.consume(state.estimates);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void estimateParallel(EstimationState state, Blackhole blackhole) {
+    ParallelEstimation.estimate(
+        state.ultraLogLogs,
+        UltraLogLog.DEFAULT_ESTIMATOR,
+        state.estimates,
+        ForkJoinPool.commonPool());
+    blackhole.consume(state.estimates);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void estimateParallelMaximumLikelihood(EstimationState state, Blackhole blackhole) {
+    ParallelEstimation.estimate(
+        state.ultraLogLogs,
+        UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR,
+        state.estimates,
+        ForkJoinPool.commonPool());
+    blackhole.consume(state.estimates);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void estimateParallelArray(EstimationState state, Blackhole blackhole) {
+    ParallelEstimation.estimate(
+        state.ultraLogLogArray,
+        UltraLogLog.DEFAULT_ESTIMATOR,
+        state.estimates,
+        ForkJoinPool.commonPool());
+    blackhole.consume(state.estimates);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022-2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class SetOperationEstimatorPerformanceTest {
+
+  @State(Scope.Benchmark)
+  public static class SketchPairState {
+
+    @Param({"1000", "100000", "1000000"})
+    public int numElements;
+
+    @Param({"10", "14"})
+    public int precision;
+
+    public UltraLogLog ultraLogLog1;
+    public UltraLogLog ultraLogLog2;
+    public HyperLogLog hyperLogLog1;
+    public HyperLogLog hyperLogLog2;
+    public SetOperationEstimator estimator;
+
+    @Setup(Level.Trial)
+    public void init() {
+      SplittableRandom random = new SplittableRandom();
+      ultraLogLog1 = UltraLogLog.create(precision);
+      ultraLogLog2 = UltraLogLog.create(precision);
+      hyperLogLog1 = HyperLogLog.create(precision);
+      hyperLogLog2 = HyperLogLog.create(precision);
+      for (int i = 0; i < numElements; ++i) {
+        long hashValue1 = random.nextLong();
+        long hashValue2 = (i % 2 == 0) ? hashValue1 : random.nextLong();
+        ultraLogLog1.add(hashValue1);
+        ultraLogLog2.add(hashValue2);
+        hyperLogLog1.add(hashValue1);
+        hyperLogLog2.add(hashValue2);
+      }
+      estimator = new SetOperationEstimator();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void estimateUltraLogLogSetOperations(SketchPairState state, Blackhole blackhole) {
+    blackhole.consume(
+        state
+            .estimator
+            .estimate(state.ultraLogLog1, state.ultraLogLog2)
+            .getIntersectionSizeEstimate());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void estimateUltraLogLogInclusionExclusion(SketchPairState state, Blackhole blackhole) {
+    double union =
+        state
+            .ultraLogLog1
+            .copy()
+            .add(state.ultraLogLog2)
+            .getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR);
+    blackhole.consume(
+        state.ultraLogLog1.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR)
+            + state.ultraLogLog2.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR)
+            - union);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void estimateHyperLogLogSetOperations(SketchPairState state, Blackhole blackhole) {
+    blackhole.consume(
+        state
+            .estimator
+            .estimate(state.hyperLogLog1, state.hyperLogLog2)
+            .getIntersectionSizeEstimate());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void estimateHyperLogLogInclusionExclusion(SketchPairState state, Blackhole blackhole) {
+    double union =
+        state
+            .hyperLogLog1
+            .copy()
+            .add(state.hyperLogLog2)
+            .getDistinctCountEstimate(HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR);
+    blackhole.consume(
+        state.hyperLogLog1.getDistinctCountEstimate(HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR)
+            + state.hyperLogLog2.getDistinctCountEstimate(HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR)
+            - union);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022-2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class SlidingWindowUltraLogLogPerformanceTest {
+
+  @State(Scope.Benchmark)
+  public static class WindowState {
+
+    @Param({"1000", "100000"})
+    public int numElementsPerTimestamp;
+
+    @Param({"60"})
+    public int numTimestamps;
+
+    @Param({"5", "60"})
+    public int windowSize;
+
+    @Param({"10", "14"})
+    public int precision;
+
+    public SlidingWindowUltraLogLog slidingWindowSketch;
+
+    // one sketch per timestamp as alternative to the sliding window sketch
+    public List<UltraLogLog> sketchRing;
+
+    @Setup(Level.Trial)
+    public void init() {
+      SplittableRandom random = new SplittableRandom();
+      slidingWindowSketch = SlidingWindowUltraLogLog.create(precision);
+      sketchRing = new ArrayList<>();
+      for (int timestamp = 0; timestamp < numTimestamps; ++timestamp) {
+        UltraLogLog sketch = UltraLogLog.create(precision);
+        for (int i = 0; i < numElementsPerTimestamp; ++i) {
+          long hashValue = random.nextLong();
+          slidingWindowSketch.add(hashValue, timestamp);
+          sketch.add(hashValue);
+        }
+        sketchRing.add(sketch);
+      }
+      sketchRing = sketchRing.subList(numTimestamps - windowSize, numTimestamps);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void windowEstimateSlidingWindow(WindowState state, Blackhole blackhole) {
+    blackhole.consume(
+        state.slidingWindowSketch.getDistinctCountEstimate(state.numTimestamps - state.windowSize));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void windowEstimateMergeSketchRing(WindowState state, Blackhole blackhole) {
+    blackhole.consume(UltraLogLog.merge(state.sketchRing).getDistinctCountEstimate());
+  }
+
+  @State(Scope.Thread)
+  public static class AddState {
+
+    @Param({"10", "14"})
+    public int precision;
+
+    @Param({"1000000"})
+    public int numElements;
+
+    @Param({"1000"})
+    public int numElementsPerTimestamp;
+
+    public SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void init() {
+      random = new SplittableRandom();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountAdd(AddState addState, Blackhole blackhole) {
+    final SlidingWindowUltraLogLog sketch = SlidingWindowUltraLogLog.create(addState.precision);
+    for (int i = 0; i < addState.numElements; ++i) {
+      sketch.add(addState.random.nextLong(), i / addState.numElementsPerTimestamp);
+    }
+    blackhole.consume(sketch);
+  }
+}
@@ -59,6 +59,54 @@ public class UltraLogLogPerformanceTest {
     blackhole.consume(sketch);
   }
 
+  @State(Scope.Thread)
+  public static class BulkAddState {
+
+    @Param({"64", "512", "4096", "65536"})
+    public int batchSize;
+
+    @Param({"10", "14", "18"})
+    public int precision;
+
+    public long[] hashValues;
+
+    public UltraLogLog sketch;
+
+    @Setup(Level.Trial)
+    public void init() {
+      hashValues = new SplittableRandom().longs(batchSize).toArray();
+      sketch = UltraLogLog.create(precision);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountAddBatchIndividually(BulkAddState state, Blackhole blackhole) {
+    final UltraLogLog sketch = state.sketch;
+    final long[] hashValues = state.hashValues;
+    for (int i = 0; i < hashValues.length; ++i) {
+      sketch.add(hashValues[i]);
+    }
+    blackhole.consume(sketch);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountAddBatch(BulkAddState state, Blackhole blackhole) {
+    final long[] hashValues = state.hashValues;
+    blackhole.consume(state.sketch.add(hashValues, 0, hashValues.length));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountAddWithRegisterHistogram(AddState addState, Blackhole blackhole) {
+    final HistogramUltraLogLog sketch = HistogramUltraLogLog.create(addState.precision);
+    for (long i = 0; i < addState.numElements; ++i) {
+      sketch.add(addState.random.nextLong());
+    }
+    blackhole.consume(sketch);
+  }
+
   @Benchmark
   @BenchmarkMode(Mode.AverageTime)
   public void distinctCountAddWithMartingaleEstimator(AddState addState, Blackhole blackhole) {
@@ -123,6 +171,54 @@ public class UltraLogLogPerformanceTest {
     }
   }
 
+  @State(Scope.Benchmark)
+  public static class HistogramEstimationState {
+
+    int[][] registerHistograms = null;
+
+    @Param({"1", "100", "10000", "1000000"})
+    public int numElements;
+
+    @Param({"6", "10", "14", "18"})
+    public int precision;
+
+    @Param public Estimator estimator;
+
+    @Param({"1000"})
+    public int numExamples;
+
+    @Setup(Level.Trial)
+    public void init() {
+      SplittableRandom random = new SplittableRandom();
+      registerHistograms = new int[numExamples][];
+      for (int i = 0; i < numExamples; ++i) {
+        int[] registerHistogram = new int[256];
+        for (byte r : generate(random, numElements, precision).getState()) {
+          registerHistogram[r & 0xFF] += 1;
+        }
+        registerHistograms[i] = registerHistogram;
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void finish() {
+      registerHistograms = null;
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountEstimationFromRegisterHistogram(
+      HistogramEstimationState estimationState, Blackhole blackhole) {
+    UltraLogLog.RegisterHistogramEstimator estimator =
+        (UltraLogLog.RegisterHistogramEstimator) estimationState.estimator.estimator;
+    for (int i = 0; i < estimationState.registerHistograms.length; ++i) {
+      double estimate =
+          estimator.estimate(estimationState.precision, estimationState.registerHistograms[i]);
+      blackhole.consume(estimate);
+    }
+  }
+
   @State(Scope.Benchmark)
   public static class EstimationStateMixed {
 
@@ -212,4 +308,49 @@ public class UltraLogLogPerformanceTest {
       blackhole.consume(mergedSketch);
     }
   }
+
+  @State(Scope.Benchmark)
+  public static class MergeCollectionState {
+
+    List<UltraLogLog> sketches = null;
+
+    @Param({"6", "8", "10", "12", "14", "16", "18"})
+    public int precision;
+
+    @Param({"2", "16", "128"})
+    public int numSketches;
+
+    @Setup(Level.Trial)
+    public void init() {
+      SplittableRandom random = new SplittableRandom();
+      long numElements = 4L << precision;
+      sketches =
+          Stream.generate(() -> generate(random, numElements, precision))
+              .limit(numSketches)
+              .collect(toList());
+    }
+
+    @TearDown
+    public void finish() {
+      sketches = null;
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountMergeCollectionPairwise(
+      MergeCollectionState mergeState, Blackhole blackhole) {
+    List<UltraLogLog> sketches = mergeState.sketches;
+    UltraLogLog mergedSketch = sketches.get(0).copy();
+    for (int i = 1; i < sketches.size(); ++i) {
+      mergedSketch.add(sketches.get(i));
+    }
+    blackhole.consume(mergedSketch);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountMergeCollection(MergeCollectionState mergeState, Blackhole blackhole) {
+    blackhole.consume(UltraLogLog.merge(mergeState.sketches));
+  }
 }
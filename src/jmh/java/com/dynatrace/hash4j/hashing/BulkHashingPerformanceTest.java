@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.hashing;
+
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class BulkHashingPerformanceTest {
+
+  private static final int NUM_VALUES = 1024;
+  private static final int MAX_SHORT_LENGTH = 16;
+
+  private static final HashFunnel<Integer> INT_FUNNEL = (i, h) -> h.putInt(i);
+  private static final HashFunnel<Long> LONG_FUNNEL = (l, h) -> h.putLong(l);
+
+  private static final Hasher32 MURMUR3_32 = Hashing.murmur3_32();
+  private static final Hasher128 MURMUR3_128 = Hashing.murmur3_128();
+  private static final Hasher64 KOMIHASH5_0 = Hashing.komihash5_0();
+
+  @State(Scope.Thread)
+  public static class TestData {
+    private final int[] ints;
+    private final long[] longs;
+    private final CharSequence[] strings = new CharSequence[NUM_VALUES];
+    private final byte[] bytes;
+    private final int[] offsets = new int[NUM_VALUES];
+    private final int[] lengths = new int[NUM_VALUES];
+    private final int[] intHashes = new int[NUM_VALUES];
+    private final long[] longHashes = new long[NUM_VALUES];
+
+    public TestData() {
+      SplittableRandom random = new SplittableRandom(0);
+      ints = random.ints(NUM_VALUES).toArray();
+      longs = random.longs(NUM_VALUES).toArray();
+      bytes = new byte[NUM_VALUES * MAX_SHORT_LENGTH];
+      random.nextBytes(bytes);
+      for (int i = 0; i < NUM_VALUES; ++i) {
+        strings[i] = Long.toHexString(random.nextLong()).substring(random.nextInt(16));
+        offsets[i] = i * MAX_SHORT_LENGTH;
+        lengths[i] = random.nextInt(MAX_SHORT_LENGTH + 1);
+      }
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void murmur3_32Scalar(TestData testData, Blackhole blackhole) {
+    for (int i = 0; i < NUM_VALUES; ++i) {
+      testData.intHashes[i] = MURMUR3_32.hashToInt(testData.ints[i], INT_FUNNEL);
+    }
+    blackhole.consume(testData.intHashes);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void murmur3_32Bulk(TestData testData, Blackhole blackhole) {
+    MURMUR3_32.hashIntsToInts(testData.ints, 0, testData.intHashes, 0, NUM_VALUES);
+    blackhole.consume(testData.intHashes);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void murmur3_128Scalar(TestData testData, Blackhole blackhole) {
+    for (int i = 0; i < NUM_VALUES; ++i) {
+      testData.longHashes[i] = MURMUR3_128.hashToLong(testData.longs[i], LONG_FUNNEL);
+    }
+    blackhole.consume(testData.longHashes);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void murmur3_128Bulk(TestData testData, Blackhole blackhole) {
+    MURMUR3_128.hashLongsToLongs(testData.longs, 0, testData.longHashes, 0, NUM_VALUES);
+    blackhole.consume(testData.longHashes);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void komihash5_0Scalar(TestData testData, Blackhole blackhole) {
+    for (int i = 0; i < NUM_VALUES; ++i) {
+      testData.longHashes[i] = KOMIHASH5_0.hashToLong(testData.longs[i], LONG_FUNNEL);
+    }
+    blackhole.consume(testData.longHashes);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void komihash5_0Bulk(TestData testData, Blackhole blackhole) {
+    KOMIHASH5_0.hashLongsToLongs(testData.longs, 0, testData.longHashes, 0, NUM_VALUES);
+    blackhole.consume(testData.longHashes);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void komihash5_0CharsScalar(TestData testData, Blackhole blackhole) {
+    for (int i = 0; i < NUM_VALUES; ++i) {
+      testData.longHashes[i] = KOMIHASH5_0.hashCharsToLong(testData.strings[i]);
+    }
+    blackhole.consume(testData.longHashes);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void komihash5_0CharsBulk(TestData testData, Blackhole blackhole) {
+    KOMIHASH5_0.hashCharsToLongs(testData.strings, 0, testData.longHashes, 0, NUM_VALUES);
+    blackhole.consume(testData.longHashes);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void komihash5_0BytesScalar(TestData testData, Blackhole blackhole) {
+    for (int i = 0; i < NUM_VALUES; ++i) {
+      testData.longHashes[i] =
+          KOMIHASH5_0.hashBytesToLong(testData.bytes, testData.offsets[i], testData.lengths[i]);
+    }
+    blackhole.consume(testData.longHashes);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void komihash5_0BytesBulk(TestData testData, Blackhole blackhole) {
+    KOMIHASH5_0.hashBytesToLongs(
+        testData.bytes, testData.offsets, testData.lengths, 0, testData.longHashes, 0, NUM_VALUES);
+    blackhole.consume(testData.longHashes);
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.hashing;
+
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// run with the GC profiler, e.g. -prof gc, to compare the allocation rates
+public class HashStreamAllocationPerformanceTest {
+
+  private static final class TestObject {
+    private final long a;
+    private final int b;
+    private final String c;
+
+    private TestObject(SplittableRandom random) {
+      a = random.nextLong();
+      b = random.nextInt();
+      c = Long.toHexString(random.nextLong());
+    }
+  }
+
+  private static final HashFunnel<TestObject> FUNNEL =
+      (o, sink) -> sink.putLong(o.a).putInt(o.b).putString(o.c);
+
+  @State(Scope.Thread)
+  public static class TestData {
+
+    @Param({"KOMIHASH_5_0", "XXH3_64", "MURMUR3_128", "POLYMUR_HASH_2_0"})
+    public String hashFunction;
+
+    private Hasher64 hasher;
+    private Hasher64 seededHasher1;
+    private Hasher64 seededHasher2;
+    private TestObject testObject;
+
+    @Setup
+    public void init() {
+      switch (hashFunction) {
+        case "KOMIHASH_5_0":
+          hasher = Hashing.komihash5_0();
+          seededHasher1 = Hashing.komihash5_0(1L);
+          seededHasher2 = Hashing.komihash5_0(2L);
+          break;
+        case "XXH3_64":
+          hasher = Hashing.xxh3_64();
+          seededHasher1 = Hashing.xxh3_64(1L);
+          seededHasher2 = Hashing.xxh3_64(2L);
+          break;
+        case "MURMUR3_128":
+          hasher = Hashing.murmur3_128();
+          seededHasher1 = Hashing.murmur3_128(1);
+          seededHasher2 = Hashing.murmur3_128(2);
+          break;
+        case "POLYMUR_HASH_2_0":
+          hasher = Hashing.polymurHash2_0(0L, 0L);
+          seededHasher1 = Hashing.polymurHash2_0(0L, 1L);
+          seededHasher2 = Hashing.polymurHash2_0(0L, 2L);
+          break;
+        default:
+          throw new IllegalArgumentException();
+      }
+      testObject = new TestObject(new SplittableRandom(0));
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public long hashToLong(TestData testData) {
+    return testData.hasher.hashToLong(testData.testObject, FUNNEL);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public long hashToLongAlternatingSeededHashers(TestData testData) {
+    return testData.seededHasher1.hashToLong(testData.testObject, FUNNEL)
+        ^ testData.seededHasher2.hashToLong(testData.testObject, FUNNEL);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public long newHashStream(TestData testData) {
+    return testData.hasher.hashStream().put(testData.testObject, FUNNEL).getAsLong();
+  }
+}
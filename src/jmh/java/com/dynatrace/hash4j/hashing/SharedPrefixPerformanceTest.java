@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.hashing;
+
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class SharedPrefixPerformanceTest {
+
+  private static final int NUM_SUFFIXES = 100;
+  private static final int SUFFIX_LENGTH = 16;
+
+  @State(Scope.Thread)
+  public static class TestData {
+
+    @Param({"16", "64", "256", "1024"})
+    public int prefixLength;
+
+    @Param({"KOMIHASH_5_0", "XXH3_64", "MURMUR3_128"})
+    public String hashFunction;
+
+    private Hasher64 hasher;
+    private byte[] prefix;
+    private byte[][] suffixes;
+    private HashStream64 prefixHashStream;
+
+    @Setup
+    public void init() {
+      switch (hashFunction) {
+        case "KOMIHASH_5_0":
+          hasher = Hashing.komihash5_0();
+          break;
+        case "XXH3_64":
+          hasher = Hashing.xxh3_64();
+          break;
+        case "MURMUR3_128":
+          hasher = Hashing.murmur3_128();
+          break;
+        default:
+          throw new IllegalArgumentException();
+      }
+      SplittableRandom random = new SplittableRandom(0);
+      prefix = new byte[prefixLength];
+      random.nextBytes(prefix);
+      suffixes = new byte[NUM_SUFFIXES][SUFFIX_LENGTH];
+      for (byte[] suffix : suffixes) {
+        random.nextBytes(suffix);
+      }
+      prefixHashStream = hasher.hashStream().putBytes(prefix);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void rehashPrefix(TestData testData, Blackhole blackhole) {
+    HashStream64 hashStream = testData.hasher.hashStream();
+    for (byte[] suffix : testData.suffixes) {
+      blackhole.consume(hashStream.reset().putBytes(testData.prefix).putBytes(suffix).getAsLong());
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void copyPrefix(TestData testData, Blackhole blackhole) {
+    for (byte[] suffix : testData.suffixes) {
+      blackhole.consume(testData.prefixHashStream.copy().putBytes(suffix).getAsLong());
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class ProbMinHash_v1PerformanceTest extends SimilarityHashingPerformanceTest {
+
+  public static class State_64_1 extends StateBase {
+    public State_64_1() {
+      super(new ProbMinHashPolicy_v1(64, 1, getPseudoRandomGeneratorProvider()).createHasher());
+    }
+  }
+
+  public static class State_256_1 extends StateBase {
+    public State_256_1() {
+      super(new ProbMinHashPolicy_v1(256, 1, getPseudoRandomGeneratorProvider()).createHasher());
+    }
+  }
+
+  public static class State_1024_1 extends StateBase {
+    public State_1024_1() {
+      super(new ProbMinHashPolicy_v1(1024, 1, getPseudoRandomGeneratorProvider()).createHasher());
+    }
+  }
+
+  public static class State_4096_1 extends StateBase {
+    public State_4096_1() {
+      super(new ProbMinHashPolicy_v1(4096, 1, getPseudoRandomGeneratorProvider()).createHasher());
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class WeightedStateBase implements WeightedElementHashProvider {
+    public final SplittableRandom random = new SplittableRandom();
+    public final WeightedSimilarityHasher similarityHasher;
+
+    @Param({"1", "10", "100", "1000", "10000", "100000"})
+    public int numElements;
+
+    public WeightedStateBase(WeightedSimilarityHasher similarityHasher) {
+      this.similarityHasher = similarityHasher;
+    }
+
+    public final long[] elementHashes = new long[100000]; // maximum number of elements
+    public final double[] elementWeights = new double[100000]; // maximum number of elements
+
+    @Override
+    public long getElementHash(int elementIndex) {
+      return elementHashes[elementIndex];
+    }
+
+    @Override
+    public double getElementWeight(int elementIndex) {
+      return elementWeights[elementIndex];
+    }
+
+    @Override
+    public int getNumberOfElements() {
+      return numElements;
+    }
+  }
+
+  public static class WeightedState_256_1 extends WeightedStateBase {
+    public WeightedState_256_1() {
+      super(
+          new ProbMinHashPolicy_v1(256, 1, getPseudoRandomGeneratorProvider())
+              .createWeightedHasher());
+    }
+  }
+
+  public static class WeightedState_1024_1 extends WeightedStateBase {
+    public WeightedState_1024_1() {
+      super(
+          new ProbMinHashPolicy_v1(1024, 1, getPseudoRandomGeneratorProvider())
+              .createWeightedHasher());
+    }
+  }
+
+  private static void testWeightedSimilarityHashing(WeightedStateBase state, Blackhole blackhole) {
+    for (int i = 0; i < state.numElements; ++i) {
+      state.elementHashes[i] = state.random.nextLong();
+      state.elementWeights[i] = state.random.nextDouble();
+    }
+    byte[] signature = state.similarityHasher.compute(state);
+    blackhole.consume(signature);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void testSimilarityHashing_64_1(State_64_1 state, Blackhole blackhole) {
+    testSimilarityHashing(state, blackhole);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void testSimilarityHashing_256_1(State_256_1 state, Blackhole blackhole) {
+    testSimilarityHashing(state, blackhole);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void testSimilarityHashing_1024_1(State_1024_1 state, Blackhole blackhole) {
+    testSimilarityHashing(state, blackhole);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void testSimilarityHashing_4096_1(State_4096_1 state, Blackhole blackhole) {
+    testSimilarityHashing(state, blackhole);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void testWeightedSimilarityHashing_256_1(WeightedState_256_1 state, Blackhole blackhole) {
+    testWeightedSimilarityHashing(state, blackhole);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void testWeightedSimilarityHashing_1024_1(
+      WeightedState_1024_1 state, Blackhole blackhole) {
+    testWeightedSimilarityHashing(state, blackhole);
+  }
+}
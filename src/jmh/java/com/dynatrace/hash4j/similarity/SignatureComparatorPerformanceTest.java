@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class SignatureComparatorPerformanceTest {
+
+  private static final int NUM_SIGNATURES = 10000;
+  private static final int NUM_COMPONENTS = 1024;
+
+  @State(Scope.Thread)
+  public static class ComparisonState {
+
+    @Param({"1", "8", "16"})
+    public int bitsPerComponent;
+
+    public SimilarityHashPolicy policy;
+    public SignatureComparator comparator;
+    public SignatureComparator parallelComparator;
+    public byte[] query;
+    public byte[][] signatureArrays;
+    public byte[] signatures;
+    public ByteBuffer directSignatures;
+    public int[] counts;
+
+    @Setup
+    public void init() {
+      SplittableRandom random = new SplittableRandom(0x3f1a5b8c7d2e4f60L);
+      policy =
+          new SuperMinHashPolicy_v1(
+              NUM_COMPONENTS,
+              bitsPerComponent,
+              SimilarityHashingPerformanceTest.getPseudoRandomGeneratorProvider());
+      comparator = SignatureComparator.create(policy);
+      parallelComparator = SignatureComparator.create(policy, ForkJoinPool.commonPool());
+      int signatureSizeInBytes = policy.getSignatureSizeInBytes();
+      query = new byte[signatureSizeInBytes];
+      random.nextBytes(query);
+      signatureArrays = new byte[NUM_SIGNATURES][];
+      signatures = new byte[NUM_SIGNATURES * signatureSizeInBytes];
+      for (int i = 0; i < NUM_SIGNATURES; ++i) {
+        // copy the query and modify a few bytes to get similar signatures
+        byte[] signature = query.clone();
+        for (int j = 0; j < signatureSizeInBytes / 4; ++j) {
+          signature[random.nextInt(signatureSizeInBytes)] = (byte) random.nextInt();
+        }
+        signatureArrays[i] = signature;
+        System.arraycopy(signature, 0, signatures, i * signatureSizeInBytes, signatureSizeInBytes);
+      }
+      directSignatures = ByteBuffer.allocateDirect(signatures.length);
+      directSignatures.put(signatures);
+      directSignatures.flip();
+      counts = new int[NUM_SIGNATURES];
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void compareIndividually(ComparisonState state, Blackhole blackhole) {
+    for (int i = 0; i < NUM_SIGNATURES; ++i) {
+      state.counts[i] =
+          state.policy.getNumberOfEqualComponents(state.query, state.signatureArrays[i]);
+    }
+    blackhole.consume(state.counts);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void compareBlock(ComparisonState state, Blackhole blackhole) {
+    state.comparator.getNumberOfEqualComponents(state.query, state.signatures, state.counts);
+    blackhole.consume(state.counts);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void compareDirectBuffer(ComparisonState state, Blackhole blackhole) {
+    state.comparator.getNumberOfEqualComponents(
+        state.query, state.directSignatures, state.counts);
+    blackhole.consume(state.counts);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void compareBlockParallel(ComparisonState state, Blackhole blackhole) {
+    state.parallelComparator.getNumberOfEqualComponents(
+        state.query, state.signatures, state.counts);
+    blackhole.consume(state.counts);
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Base class of the sparse sketches, which holds the token list and performs the switch to the
+ * dense representation.
+ *
+ * @param <S> the sparse sketch type
+ * @param <T> the dense sketch type
+ * @param <R> the estimator type of the dense sketch
+ */
+abstract class AbstractSparseDistinctCounter<
+        S extends AbstractSparseDistinctCounter<S, T, R>,
+        T extends DistinctCounter<T, R>,
+        R extends DistinctCounter.Estimator<T>>
+    implements SparseDistinctCounter<S, T, R> {
+
+  private final int p;
+  private TokenBuffer tokenBuffer; // null in dense mode or as long as no token has been added
+  private T dense; // null in sparse mode
+
+  AbstractSparseDistinctCounter(int p) {
+    this.p = p;
+  }
+
+  AbstractSparseDistinctCounter(AbstractSparseDistinctCounter<S, T, R> other) {
+    this.p = other.p;
+    this.tokenBuffer = (other.tokenBuffer != null) ? other.tokenBuffer.copy() : null;
+    this.dense = (other.dense != null) ? other.dense.copy() : null;
+  }
+
+  abstract T createDense(int p);
+
+  abstract int computeToken(long hashValue);
+
+  // the sparse representation must not take more space than the registers of the dense sketch
+  abstract int getMaxNumTokens(int p);
+
+  @SuppressWarnings("unchecked")
+  private S self() {
+    return (S) this;
+  }
+
+  @Override
+  public int getP() {
+    return p;
+  }
+
+  @Override
+  public boolean isSparse() {
+    return dense == null;
+  }
+
+  @Override
+  public S add(long hashValue) {
+    if (dense != null) {
+      dense.add(hashValue);
+      return self();
+    }
+    return addToken(computeToken(hashValue));
+  }
+
+  @Override
+  public S addToken(int token) {
+    if (dense == null) {
+      if (tokenBuffer == null) {
+        tokenBuffer = new TokenBuffer(getMaxNumTokens(p));
+      }
+      if (tokenBuffer.add(token)) {
+        return self();
+      }
+      densify();
+    }
+    dense.addToken(token);
+    return self();
+  }
+
+  private void densify() {
+    dense = toDense();
+    tokenBuffer = null;
+  }
+
+  @Override
+  public S add(S other) {
+    requireNonNull(other, "null argument");
+    AbstractSparseDistinctCounter<S, T, R> o = other;
+    if (o.p < p) {
+      throw new IllegalArgumentException("other has smaller precision");
+    }
+    if (o.dense != null) {
+      return add(o.dense);
+    }
+    if (o.tokenBuffer != null && o != this) {
+      o.tokenBuffer.forEach(this::addToken);
+    }
+    return self();
+  }
+
+  @Override
+  public S add(T other) {
+    requireNonNull(other, "null argument");
+    if (other.getP() < p) {
+      throw new IllegalArgumentException("other has smaller precision");
+    }
+    if (dense == null) {
+      densify();
+    }
+    dense.add(other);
+    return self();
+  }
+
+  @Override
+  public double getDistinctCountEstimate() {
+    if (dense != null) {
+      return dense.getDistinctCountEstimate();
+    }
+    if (tokenBuffer == null) {
+      return 0.;
+    }
+    return tokenBuffer.getDistinctCountEstimate();
+  }
+
+  // returns a dense sketch with the same state, which is a copy if this sketch is already dense
+  T toDense() {
+    if (dense != null) {
+      return dense.copy();
+    }
+    T sketch = createDense(p);
+    if (tokenBuffer != null) {
+      tokenBuffer.forEach(sketch::addToken);
+    }
+    return sketch;
+  }
+
+  @Override
+  public S reset() {
+    tokenBuffer = null;
+    dense = null;
+    return self();
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+// package-private interface to unify method names and to simplify testing
+interface ConcurrentDistinctCounter<
+    C extends ConcurrentDistinctCounter<C, T, R>,
+    T extends DistinctCounter<T, R>,
+    R extends DistinctCounter.Estimator<T>> {
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch.
+   *
+   * @param hashValue a 64-bit hash value
+   * @return this sketch
+   */
+  C add(long hashValue);
+
+  /**
+   * Adds a new element represented by a 32-bit token obtained from {@code computeToken(long)}.
+   *
+   * @param token a 32-bit hash token
+   * @return this sketch
+   */
+  C addToken(int token);
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch and passes, if the
+   * internal state has changed, decrements of the state change probability to the given {@link
+   * StateChangeObserver}.
+   *
+   * @param hashValue a 64-bit hash value
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  C add(long hashValue, StateChangeObserver stateChangeObserver);
+
+  /**
+   * Adds a new element, represented by a 32-bit token obtained from {@code computeToken(long)}, to
+   * this sketch and passes, if the internal state has changed, decrements of the state change
+   * probability to the given {@link StateChangeObserver}.
+   *
+   * @param token a 32-bit hash token
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  C addToken(int token, StateChangeObserver stateChangeObserver);
+
+  /**
+   * Adds a non-concurrent sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  C add(T other);
+
+  /**
+   * Returns a non-concurrent sketch holding a copy of the current state of this sketch.
+   *
+   * @return the snapshot
+   */
+  T getSnapshot();
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch.
+   *
+   * @return estimated number of distinct elements
+   */
+  double getDistinctCountEstimate();
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch using the given
+   * estimator.
+   *
+   * @param estimator the estimator
+   * @return estimated number of distinct elements
+   */
+  double getDistinctCountEstimate(R estimator);
+
+  /**
+   * Returns the precision parameter of this sketch.
+   *
+   * @return the precision parameter
+   */
+  int getP();
+}
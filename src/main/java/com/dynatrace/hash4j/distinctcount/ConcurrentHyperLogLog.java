@@ -0,0 +1,235 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.util.PackedArray;
+import com.dynatrace.hash4j.util.PackedArray.PackedArrayHandler;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A thread-safe variant of {@link HyperLogLog} that allows many threads to insert elements into a
+ * single shared sketch.
+ *
+ * <p>The registers are updated lock-free using compare-and-set operations. As register values can
+ * only increase, an insertion that does not change the state of the sketch, which is by far the
+ * most frequent case for larger distinct counts, does not perform any write operation at all.
+ *
+ * <p>Unlike {@link HyperLogLog}, which packs registers into 6 bits, this sketch uses a full byte
+ * per register, so that every register can be updated atomically on its own. Estimates are
+ * computed from a {@link HyperLogLog} snapshot obtained via {@link #getSnapshot()}. Insertions
+ * that happen concurrently with taking the snapshot may or may not be reflected by the snapshot.
+ */
+public final class ConcurrentHyperLogLog
+    implements ConcurrentDistinctCounter<
+        ConcurrentHyperLogLog, HyperLogLog, HyperLogLog.Estimator> {
+
+  private static final VarHandle BYTE_HANDLE = MethodHandles.arrayElementVarHandle(byte[].class);
+
+  private static final PackedArrayHandler ARRAY_HANDLER = PackedArray.getHandler(6);
+
+  private final int p;
+  private final byte[] registers;
+
+  private ConcurrentHyperLogLog(int p) {
+    this.p = p;
+    this.registers = new byte[1 << p];
+  }
+
+  /**
+   * Creates an empty {@link ConcurrentHyperLogLog} sketch with given precision.
+   *
+   * <p>The precision parameter {@code p} must be in the range {@code {3, 4, 5, ..., 25, 26}}. It
+   * also defines the size of the internal state, which is a byte array of length {@code 2^p}.
+   *
+   * @param p the precision parameter
+   * @return the new sketch
+   * @throws IllegalArgumentException if the precision parameter is invalid
+   */
+  public static ConcurrentHyperLogLog create(int p) {
+    checkPrecisionParameter(p, HyperLogLog.MIN_P, HyperLogLog.MAX_P);
+    return new ConcurrentHyperLogLog(p);
+  }
+
+  /**
+   * Returns the precision parameter of this sketch.
+   *
+   * @return the precision parameter
+   */
+  @Override
+  public int getP() {
+    return p;
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch.
+   *
+   * <p>In order to get good estimates, it is important that the hash value is calculated using a
+   * high-quality hash algorithm.
+   *
+   * @param hashValue a 64-bit hash value
+   * @return this sketch
+   */
+  @Override
+  public ConcurrentHyperLogLog add(long hashValue) {
+    return add(hashValue, null);
+  }
+
+  /**
+   * Adds a new element represented by a 32-bit token obtained from {@link
+   * HyperLogLog#computeToken(long)}.
+   *
+   * @param token a 32-bit hash token
+   * @return this sketch
+   */
+  @Override
+  public ConcurrentHyperLogLog addToken(int token) {
+    return add(DistinctCountUtil.reconstructHash1(token));
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch and passes, if the
+   * internal state has changed, decrements of the state change probability to the given {@link
+   * StateChangeObserver}.
+   *
+   * <p>The observer is called from the inserting thread and must therefore be thread-safe if it is
+   * shared by several threads.
+   *
+   * @param hashValue a 64-bit hash value
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  @Override
+  public ConcurrentHyperLogLog add(long hashValue, StateChangeObserver stateChangeObserver) {
+    int idx = (int) (hashValue >>> -p);
+    int newValue = Long.numberOfLeadingZeros(~(~hashValue << p)) + 1;
+    int oldValue = updateRegister(idx, newValue);
+    if (stateChangeObserver != null && newValue > oldValue) {
+      stateChangeObserver.stateChanged(
+          (getScaledRegisterChangeProbability(oldValue)
+                  - getScaledRegisterChangeProbability(newValue))
+              * 0x1p-64);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a new element, represented by a 32-bit token obtained from {@link
+   * HyperLogLog#computeToken(long)}, to this sketch and passes, if the internal state has changed,
+   * decrements of the state change probability to the given {@link StateChangeObserver}.
+   *
+   * @param token a 32-bit hash token
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  @Override
+  public ConcurrentHyperLogLog addToken(int token, StateChangeObserver stateChangeObserver) {
+    return add(DistinctCountUtil.reconstructHash1(token), stateChangeObserver);
+  }
+
+  // sets the register to the maximum of its current value and the given value and returns the
+  // register value that was replaced, or the current register value if it was not smaller
+  private int updateRegister(int idx, int value) {
+    // a plain read is sufficient here, as register values never decrease and any stale value is
+    // detected by the compare-and-exchange operation
+    byte oldValue = registers[idx];
+    while (oldValue < value) {
+      byte witnessValue =
+          (byte) BYTE_HANDLE.compareAndExchange(registers, idx, oldValue, (byte) value);
+      if (witnessValue == oldValue) {
+        break;
+      }
+      oldValue = witnessValue;
+    }
+    return oldValue;
+  }
+
+  // returns register change probability scaled by 2^64
+  private long getScaledRegisterChangeProbability(int registerValue) {
+    return 0x4000000000000000L >>> (p - 2 + registerValue);
+  }
+
+  /**
+   * Adds a {@link HyperLogLog} sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * <p>Each register is merged atomically, but the sketch as a whole is not. This method can be
+   * used to periodically fold thread-local sketches into a shared one.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  @Override
+  public ConcurrentHyperLogLog add(HyperLogLog other) {
+    requireNonNull(other, "null argument");
+    if (other.getP() < p) {
+      throw new IllegalArgumentException("other has smaller precision");
+    } else if (other.getP() > p) {
+      other = other.downsize(p);
+    }
+    byte[] otherData = other.getState();
+    for (int i = 0; i < registers.length; ++i) {
+      int otherR = (int) ARRAY_HANDLER.get(otherData, i);
+      if (otherR != 0) {
+        updateRegister(i, otherR);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns a {@link HyperLogLog} sketch holding a copy of the current state of this sketch.
+   *
+   * @return the snapshot
+   */
+  @Override
+  public HyperLogLog getSnapshot() {
+    VarHandle.acquireFence();
+    return HyperLogLog.wrap(ARRAY_HANDLER.create(i -> registers[i], registers.length));
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch.
+   *
+   * <p>Equivalent to {@code getSnapshot().getDistinctCountEstimate()}.
+   *
+   * @return estimated number of distinct elements
+   */
+  @Override
+  public double getDistinctCountEstimate() {
+    return getSnapshot().getDistinctCountEstimate();
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch using the given
+   * estimator.
+   *
+   * <p>Equivalent to {@code getSnapshot().getDistinctCountEstimate(estimator)}.
+   *
+   * @param estimator the estimator
+   * @return estimated number of distinct elements
+   */
+  @Override
+  public double getDistinctCountEstimate(HyperLogLog.Estimator estimator) {
+    return getSnapshot().getDistinctCountEstimate(estimator);
+  }
+}
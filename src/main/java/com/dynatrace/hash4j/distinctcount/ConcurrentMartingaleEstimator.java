@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022-2023 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * A thread-safe variant of {@link MartingaleEstimator} that can be shared by several threads
+ * inserting into a common sketch such as {@link ConcurrentUltraLogLog} or {@link
+ * ConcurrentHyperLogLog}.
+ *
+ * <p>The state change probability is updated lock-free using compare-and-set operations, such that
+ * every state change sees the exact probability it replaces. The estimate increments are
+ * accumulated in a striped adder, which is only folded when reading the estimate. As state changes
+ * become rare with increasing distinct counts, contention between writers is low. The estimate
+ * only depends on the order in which concurrent state changes are reported, which has an effect
+ * that is negligible compared to the estimation error of the sketch. If all state changes are
+ * reported by a single thread, for example using the batched {@link DistinctCounter#add(long[],
+ * int, int, StateChangeObserver)}, the estimates are the same as those of {@link
+ * MartingaleEstimator} up to floating-point rounding errors.
+ *
+ * <p>The same restrictions as for {@link MartingaleEstimator} apply. In particular, the estimator
+ * must be updated with every single add operation of the corresponding sketch.
+ */
+public final class ConcurrentMartingaleEstimator implements StateChangeObserver {
+
+  private final DoubleAdder distinctCountEstimateIncrements = new DoubleAdder();
+  private final AtomicLong stateChangeProbabilityBits = new AtomicLong();
+  private volatile double initialDistinctCountEstimate;
+
+  /** Constructor. */
+  public ConcurrentMartingaleEstimator() {
+    reset();
+  }
+
+  /**
+   * Constructor.
+   *
+   * <p>Can be used to continue estimation if an estimate of the current distinct count is known and
+   * if the current state change probability of the accompanying sketch is known.
+   *
+   * @param distinctCountEstimate the current distinct count estimate
+   * @param stateChangeProbability the current state change probability of the accompanying sketch
+   */
+  public ConcurrentMartingaleEstimator(
+      double distinctCountEstimate, double stateChangeProbability) {
+    set(distinctCountEstimate, stateChangeProbability);
+  }
+
+  /**
+   * Resets the martingale estimator to its initial state.
+   *
+   * <p>Must not be called concurrently with {@link #stateChanged(double)}.
+   */
+  public void reset() {
+    set(0, 1);
+  }
+
+  /**
+   * Sets the martingale estimator to a given distinct count estimate and a given state change
+   * probability.
+   *
+   * <p>Must not be called concurrently with {@link #stateChanged(double)}.
+   *
+   * @param distinctCountEstimate the current distinct count estimate
+   * @param stateChangeProbability the current state change probability of the accompanying sketch
+   */
+  public void set(double distinctCountEstimate, double stateChangeProbability) {
+    checkArgument(distinctCountEstimate >= 0, "Distinct count estimate must be non-negative!");
+    checkArgument(
+        stateChangeProbability >= 0 && stateChangeProbability <= 1,
+        "State change probability must be in the range [0,1]!");
+    distinctCountEstimateIncrements.reset();
+    this.initialDistinctCountEstimate = distinctCountEstimate;
+    // if state change probability == -0.0 set it to +0.0, to avoid negative infinite estimates
+    stateChangeProbability = Math.max(stateChangeProbability, 0.);
+    stateChangeProbabilityBits.set(Double.doubleToRawLongBits(stateChangeProbability));
+  }
+
+  /**
+   * Returns the distinct count estimate.
+   *
+   * @return the distinct count estimate
+   */
+  public double getDistinctCountEstimate() {
+    return initialDistinctCountEstimate + distinctCountEstimateIncrements.sum();
+  }
+
+  // visible for testing
+  double getStateChangeProbability() {
+    return Double.longBitsToDouble(stateChangeProbabilityBits.get());
+  }
+
+  @Override
+  public void stateChanged(double probabilityDecrement) {
+    long oldBits;
+    long newBits;
+    do {
+      oldBits = stateChangeProbabilityBits.get();
+      double newStateChangeProbability = Double.longBitsToDouble(oldBits) - probabilityDecrement;
+      // numerical errors could lead to negative probability, set to zero in this case => next state
+      // change will set estimate = infinite
+      newBits = Double.doubleToRawLongBits(Math.max(newStateChangeProbability, 0.));
+    } while (!stateChangeProbabilityBits.compareAndSet(oldBits, newBits));
+    distinctCountEstimateIncrements.add(1. / Double.longBitsToDouble(oldBits));
+  }
+
+  @Override
+  public String toString() {
+    return ConcurrentMartingaleEstimator.class.getSimpleName()
+        + "{"
+        + "distinctCountEstimate="
+        + getDistinctCountEstimate()
+        + ", stateChangeProbability="
+        + getStateChangeProbability()
+        + '}';
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+import static com.dynatrace.hash4j.distinctcount.UltraLogLog.getScaledRegisterChangeProbability;
+import static com.dynatrace.hash4j.distinctcount.UltraLogLog.pack;
+import static com.dynatrace.hash4j.distinctcount.UltraLogLog.unpack;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * A thread-safe variant of {@link UltraLogLog} that allows many threads to insert elements into a
+ * single shared sketch.
+ *
+ * <p>The registers are updated lock-free using compare-and-set operations. As register values can
+ * only increase, an insertion that does not change the state of the sketch, which is by far the
+ * most frequent case for larger distinct counts, does not perform any write operation at all.
+ *
+ * <p>The state is kept in the same format as that of {@link UltraLogLog}. Estimates are computed
+ * from a snapshot obtained via {@link #getSnapshot()}. Insertions that happen concurrently with
+ * taking the snapshot may or may not be reflected by the snapshot.
+ */
+public final class ConcurrentUltraLogLog
+    implements ConcurrentDistinctCounter<
+        ConcurrentUltraLogLog, UltraLogLog, UltraLogLog.Estimator> {
+
+  private static final VarHandle BYTE_HANDLE = MethodHandles.arrayElementVarHandle(byte[].class);
+
+  private final byte[] state;
+
+  private ConcurrentUltraLogLog(int p) {
+    this.state = new byte[1 << p];
+  }
+
+  /**
+   * Creates an empty {@link ConcurrentUltraLogLog} sketch with given precision.
+   *
+   * <p>The precision parameter {@code p} must be in the range {@code {3, 4, 5, ..., 25, 26}}. It
+   * also defines the size of the internal state, which is a byte array of length {@code 2^p}.
+   *
+   * @param p the precision parameter
+   * @return the new sketch
+   * @throws IllegalArgumentException if the precision parameter is invalid
+   */
+  public static ConcurrentUltraLogLog create(int p) {
+    checkPrecisionParameter(p, UltraLogLog.MIN_P, UltraLogLog.MAX_P);
+    return new ConcurrentUltraLogLog(p);
+  }
+
+  /**
+   * Returns the precision parameter of this sketch.
+   *
+   * @return the precision parameter
+   */
+  @Override
+  public int getP() {
+    return 31 - Integer.numberOfLeadingZeros(state.length);
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch.
+   *
+   * <p>In order to get good estimates, it is important that the hash value is calculated using a
+   * high-quality hash algorithm.
+   *
+   * @param hashValue a 64-bit hash value
+   * @return this sketch
+   */
+  @Override
+  public ConcurrentUltraLogLog add(long hashValue) {
+    return add(hashValue, null);
+  }
+
+  /**
+   * Adds a new element represented by a 32-bit token obtained from {@link
+   * UltraLogLog#computeToken(long)}.
+   *
+   * @param token a 32-bit hash token
+   * @return this sketch
+   */
+  @Override
+  public ConcurrentUltraLogLog addToken(int token) {
+    return add(DistinctCountUtil.reconstructHash1(token));
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch and passes, if the
+   * internal state has changed, decrements of the state change probability to the given {@link
+   * StateChangeObserver}.
+   *
+   * <p>The observer is called from the inserting thread and must therefore be thread-safe if it is
+   * shared by several threads.
+   *
+   * @param hashValue a 64-bit hash value
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  @Override
+  public ConcurrentUltraLogLog add(long hashValue, StateChangeObserver stateChangeObserver) {
+    int q = Long.numberOfLeadingZeros(state.length - 1L); // q = 64 - p
+    int idx = (int) (hashValue >>> q);
+    int nlz = Long.numberOfLeadingZeros(~(~hashValue << -q)); // nlz in {0, 1, ..., 64-p}
+    long hashPrefixBit = 1L << (nlz + ~q); // (nlz + (~q)) = (nlz + p - 1) in {p-1, ... 63}
+    byte oldState = updateRegister(idx, hashPrefixBit);
+    if (stateChangeObserver != null) {
+      byte newState = pack(unpack(oldState) | hashPrefixBit);
+      if (newState != oldState) {
+        int p = 64 - q;
+        stateChangeObserver.stateChanged(
+            (getScaledRegisterChangeProbability(oldState, p)
+                    - getScaledRegisterChangeProbability(newState, p))
+                * 0x1p-64);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Adds a new element, represented by a 32-bit token obtained from {@link
+   * UltraLogLog#computeToken(long)}, to this sketch and passes, if the internal state has changed,
+   * decrements of the state change probability to the given {@link StateChangeObserver}.
+   *
+   * @param token a 32-bit hash token
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  @Override
+  public ConcurrentUltraLogLog addToken(int token, StateChangeObserver stateChangeObserver) {
+    return add(DistinctCountUtil.reconstructHash1(token), stateChangeObserver);
+  }
+
+  // merges the given hash prefix into the register and returns the register state that was
+  // replaced, or the current register state if the register was not changed
+  private byte updateRegister(int idx, long hashPrefix) {
+    // a plain read is sufficient here, as register states never decrease and any stale state is
+    // detected by the compare-and-exchange operation
+    byte oldState = state[idx];
+    while (true) {
+      byte newState = pack(unpack(oldState) | hashPrefix);
+      if (newState == oldState) {
+        return oldState;
+      }
+      byte witnessState = (byte) BYTE_HANDLE.compareAndExchange(state, idx, oldState, newState);
+      if (witnessState == oldState) {
+        return oldState;
+      }
+      oldState = witnessState;
+    }
+  }
+
+  /**
+   * Adds an {@link UltraLogLog} sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * <p>Each register is merged atomically, but the sketch as a whole is not. This method can be
+   * used to periodically fold thread-local sketches into a shared one.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  @Override
+  public ConcurrentUltraLogLog add(UltraLogLog other) {
+    requireNonNull(other, "null argument");
+    if (other.getState().length < state.length) {
+      throw new IllegalArgumentException("other has smaller precision");
+    } else if (other.getState().length > state.length) {
+      other = other.downsize(getP());
+    }
+    byte[] otherData = other.getState();
+    for (int i = 0; i < state.length; ++i) {
+      byte otherR = otherData[i];
+      if (otherR != 0) {
+        updateRegister(i, unpack(otherR));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns an {@link UltraLogLog} sketch holding a copy of the current state of this sketch.
+   *
+   * @return the snapshot
+   */
+  @Override
+  public UltraLogLog getSnapshot() {
+    VarHandle.acquireFence();
+    return UltraLogLog.wrap(Arrays.copyOf(state, state.length));
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch.
+   *
+   * <p>Equivalent to {@code getSnapshot().getDistinctCountEstimate()}.
+   *
+   * @return estimated number of distinct elements
+   */
+  @Override
+  public double getDistinctCountEstimate() {
+    return getSnapshot().getDistinctCountEstimate();
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch using the given
+   * estimator.
+   *
+   * <p>Equivalent to {@code getSnapshot().getDistinctCountEstimate(estimator)}.
+   *
+   * @param estimator the estimator
+   * @return estimated number of distinct elements
+   */
+  @Override
+  public double getDistinctCountEstimate(UltraLogLog.Estimator estimator) {
+    return getSnapshot().getDistinctCountEstimate(estimator);
+  }
+}
@@ -29,6 +29,19 @@ interface DistinctCounter<T extends DistinctCounter<T, R>, R extends DistinctCou
    */
   T add(long hashValue);
 
+  /**
+   * Adds new elements represented by 64-bit hash values to this sketch.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) add(hashValues[off + i]);}
+   *
+   * @param hashValues an array of 64-bit hash values
+   * @param off the index of the first hash value
+   * @param len the number of hash values
+   * @return this sketch
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  T add(long[] hashValues, int off, int len);
+
   /**
    * Adds a new element represented by a 32-bit token obtained from {@code computeToken(long)}.
    *
@@ -121,6 +134,25 @@ interface DistinctCounter<T extends DistinctCounter<T, R>, R extends DistinctCou
    */
   T add(long hashValue, StateChangeObserver stateChangeObserver);
 
+  /**
+   * Adds new elements represented by 64-bit hash values to this sketch and passes, whenever the
+   * internal state has changed, decrements of the state change probability to the given {@link
+   * StateChangeObserver}.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) add(hashValues[off + i],
+   * stateChangeObserver);}
+   *
+   * <p>This allows martingale estimation also when elements are added in batches.
+   *
+   * @param hashValues an array of 64-bit hash values
+   * @param off the index of the first hash value
+   * @param len the number of hash values
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  T add(long[] hashValues, int off, int len, StateChangeObserver stateChangeObserver);
+
   /**
    * Adds a new element, represented by a 32-bit token obtained from {@code computeToken(long)}, to
    * this sketch and passes, if the internal state has changed, decrements of the state change
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.util.PackedArray;
+import com.dynatrace.hash4j.util.PackedArray.PackedArrayHandler;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A compact, versioned serialization format for {@link UltraLogLog} and {@link HyperLogLog}
+ * sketches.
+ *
+ * <p>In contrast to the raw state returned by {@link DistinctCounter#getState()}, whose size only
+ * depends on the precision parameter, the size of the serialized form adapts to the information
+ * contained in the sketch. The serialized form starts with a 3-byte header consisting of the format
+ * version, the sketch type together with the register encoding, and the precision parameter. The
+ * registers are encoded using one of the following encodings, whichever is the smallest:
+ *
+ * <ul>
+ *   <li>raw: the state as returned by {@link DistinctCounter#getState()},
+ *   <li>sparse: the number of nonzero registers followed by the index differences and values of
+ *       all nonzero registers, which is most compact for small distinct counts,
+ *   <li>entropy-coded: the registers, one byte each, Huffman-coded using the DEFLATE format, which
+ *       exploits the small number of frequent register values for large distinct counts.
+ * </ul>
+ *
+ * <p>Decoding writes the registers directly into the state array of the returned sketch.
+ */
+public final class DistinctCounterCodec {
+
+  private static final int VERSION = 1;
+
+  private static final int TYPE_ULTRALOGLOG = 0;
+  private static final int TYPE_HYPERLOGLOG = 1;
+
+  private static final int ENCODING_RAW = 0;
+  private static final int ENCODING_SPARSE = 1;
+  private static final int ENCODING_DEFLATE = 2;
+
+  private static final int HEADER_SIZE = 3;
+
+  // entropy coding is not even tried if the sparse encoding is smaller than this fraction of the
+  // raw encoding
+  private static final int SPARSE_SIZE_SHIFT = 3;
+
+  private static final PackedArrayHandler HYPERLOGLOG_ARRAY_HANDLER = PackedArray.getHandler(6);
+
+  // deflaters and inflaters are reused by each thread, as their allocation, which includes the
+  // native zlib state, is expensive compared to the encoding or decoding of a single sketch
+  private static final ThreadLocal<Deflater> DEFLATER =
+      ThreadLocal.withInitial(
+          () -> {
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            deflater.setStrategy(Deflater.HUFFMAN_ONLY);
+            return deflater;
+          });
+  private static final ThreadLocal<Inflater> INFLATER =
+      ThreadLocal.withInitial(() -> new Inflater(true));
+
+  private DistinctCounterCodec() {}
+
+  /**
+   * Serializes the given {@link UltraLogLog} sketch.
+   *
+   * @param sketch the sketch
+   * @return the serialized sketch
+   * @throws NullPointerException if the argument is null
+   */
+  public static byte[] encode(UltraLogLog sketch) {
+    requireNonNull(sketch, "null argument");
+    byte[] state = sketch.getState();
+    return encode(TYPE_ULTRALOGLOG, sketch.getP(), state, state);
+  }
+
+  /**
+   * Serializes the given {@link HyperLogLog} sketch.
+   *
+   * @param sketch the sketch
+   * @return the serialized sketch
+   * @throws NullPointerException if the argument is null
+   */
+  public static byte[] encode(HyperLogLog sketch) {
+    requireNonNull(sketch, "null argument");
+    byte[] state = sketch.getState();
+    byte[] registers = new byte[1 << sketch.getP()];
+    for (int i = 0; i < registers.length; ++i) {
+      registers[i] = (byte) HYPERLOGLOG_ARRAY_HANDLER.get(state, i);
+    }
+    return encode(TYPE_HYPERLOGLOG, sketch.getP(), registers, state);
+  }
+
+  /**
+   * Deserializes an {@link UltraLogLog} sketch.
+   *
+   * @param data the serialized sketch as returned by {@link #encode(UltraLogLog)}
+   * @return the sketch
+   * @throws NullPointerException if the argument is null
+   * @throws IllegalArgumentException if the argument is not a valid serialized {@link UltraLogLog}
+   *     sketch
+   */
+  public static UltraLogLog decodeUltraLogLog(byte[] data) {
+    int p = readHeader(data, TYPE_ULTRALOGLOG, UltraLogLog.MIN_P, UltraLogLog.MAX_P);
+    int encoding = data[1] & 0xF;
+    byte[] state;
+    if (encoding == ENCODING_RAW) {
+      state = copyRawState(data, 1 << p);
+    } else {
+      state = new byte[1 << p];
+      decodeRegisters(data, encoding, state);
+    }
+    // a register is valid if it is zero or if it is the packed form of a hash prefix, which only
+    // has bits that can be set for the given precision parameter
+    long invalidHashPrefixBits = (1L << (p - 1)) - 1;
+    for (byte register : state) {
+      if (register != 0) {
+        long hashPrefix = UltraLogLog.unpack(register);
+        if (UltraLogLog.pack(hashPrefix) != register || (hashPrefix & invalidHashPrefixBits) != 0) {
+          throw getInvalidFormatException();
+        }
+      }
+    }
+    return UltraLogLog.wrap(state);
+  }
+
+  /**
+   * Deserializes a {@link HyperLogLog} sketch.
+   *
+   * @param data the serialized sketch as returned by {@link #encode(HyperLogLog)}
+   * @return the sketch
+   * @throws NullPointerException if the argument is null
+   * @throws IllegalArgumentException if the argument is not a valid serialized {@link HyperLogLog}
+   *     sketch
+   */
+  public static HyperLogLog decodeHyperLogLog(byte[] data) {
+    int p = readHeader(data, TYPE_HYPERLOGLOG, HyperLogLog.MIN_P, HyperLogLog.MAX_P);
+    int encoding = data[1] & 0xF;
+    int maxRegisterValue = 65 - p;
+    if (encoding == ENCODING_RAW) {
+      byte[] state = copyRawState(data, HYPERLOGLOG_ARRAY_HANDLER.numBytes(1 << p));
+      for (int i = 0; i < 1 << p; ++i) {
+        if (HYPERLOGLOG_ARRAY_HANDLER.get(state, i) > maxRegisterValue) {
+          throw getInvalidFormatException();
+        }
+      }
+      return HyperLogLog.wrap(state);
+    }
+    byte[] registers = new byte[1 << p];
+    decodeRegisters(data, encoding, registers);
+    for (byte register : registers) {
+      if ((register & 0xFF) > maxRegisterValue) {
+        throw getInvalidFormatException();
+      }
+    }
+    return HyperLogLog.wrap(HYPERLOGLOG_ARRAY_HANDLER.create(i -> registers[i], registers.length));
+  }
+
+  // registers contains one byte per register, rawState is the state as returned by getState()
+  private static byte[] encode(int type, int p, byte[] registers, byte[] rawState) {
+    int numNonZeroRegisters = 0;
+    int sparseSize = 0;
+    int previousIdx = 0;
+    for (int idx = 0; idx < registers.length; ++idx) {
+      if (registers[idx] != 0) {
+        numNonZeroRegisters += 1;
+        sparseSize += getVarIntSize(idx - previousIdx) + 1;
+        previousIdx = idx;
+      }
+    }
+    sparseSize += HEADER_SIZE + getVarIntSize(numNonZeroRegisters);
+    int rawSize = HEADER_SIZE + rawState.length;
+
+    if (sparseSize > rawSize >>> SPARSE_SIZE_SHIFT) {
+      byte[] result = new byte[Math.min(sparseSize, rawSize)];
+      int deflateSize = deflate(registers, result, HEADER_SIZE);
+      if (deflateSize >= 0) {
+        writeHeader(result, type, ENCODING_DEFLATE, p);
+        return Arrays.copyOf(result, deflateSize);
+      }
+    }
+    if (sparseSize < rawSize) {
+      byte[] result = new byte[sparseSize];
+      writeHeader(result, type, ENCODING_SPARSE, p);
+      int off = writeVarInt(result, HEADER_SIZE, numNonZeroRegisters);
+      previousIdx = 0;
+      for (int idx = 0; idx < registers.length; ++idx) {
+        if (registers[idx] != 0) {
+          off = writeVarInt(result, off, idx - previousIdx);
+          result[off++] = registers[idx];
+          previousIdx = idx;
+        }
+      }
+      return result;
+    }
+    byte[] result = new byte[rawSize];
+    writeHeader(result, type, ENCODING_RAW, p);
+    System.arraycopy(rawState, 0, result, HEADER_SIZE, rawState.length);
+    return result;
+  }
+
+  // deflates the registers into the given array starting at the given offset and returns the end
+  // offset, or -1 if the given array is too small
+  private static int deflate(byte[] registers, byte[] result, int off) {
+    Deflater deflater = DEFLATER.get();
+    try {
+      deflater.setInput(registers);
+      deflater.finish();
+      while (!deflater.finished()) {
+        if (off == result.length) {
+          return -1;
+        }
+        off += deflater.deflate(result, off, result.length - off);
+      }
+      return off;
+    } finally {
+      deflater.reset();
+    }
+  }
+
+  private static void writeHeader(byte[] result, int type, int encoding, int p) {
+    result[0] = (byte) VERSION;
+    result[1] = (byte) ((type << 4) | encoding);
+    result[2] = (byte) p;
+  }
+
+  private static int readHeader(byte[] data, int expectedType, int minP, int maxP) {
+    requireNonNull(data, "null argument");
+    if (data.length < HEADER_SIZE) {
+      throw getInvalidFormatException();
+    }
+    if (data[0] != VERSION) {
+      throw new IllegalArgumentException("unsupported serialization version!");
+    }
+    if ((data[1] & 0xFF) >>> 4 != expectedType) {
+      throw new IllegalArgumentException("unexpected sketch type!");
+    }
+    int p = data[2];
+    if (p < minP || p > maxP) {
+      throw getInvalidFormatException();
+    }
+    return p;
+  }
+
+  // the state needs to be copied, because sketches can only wrap an array holding just the state
+  private static byte[] copyRawState(byte[] data, int stateLength) {
+    if (data.length != HEADER_SIZE + stateLength) {
+      throw getInvalidFormatException();
+    }
+    return Arrays.copyOfRange(data, HEADER_SIZE, data.length);
+  }
+
+  private static void decodeRegisters(byte[] data, int encoding, byte[] registers) {
+    if (encoding == ENCODING_SPARSE) {
+      decodeSparse(data, registers);
+    } else if (encoding == ENCODING_DEFLATE) {
+      inflate(data, registers);
+    } else {
+      throw getInvalidFormatException();
+    }
+  }
+
+  private static void decodeSparse(byte[] data, byte[] registers) {
+    try {
+      long numAndOff = readVarInt(data, HEADER_SIZE);
+      int numNonZeroRegisters = (int) numAndOff;
+      int off = (int) (numAndOff >>> 32);
+      int idx = 0;
+      for (int i = 0; i < numNonZeroRegisters; ++i) {
+        long deltaAndOff = readVarInt(data, off);
+        int delta = (int) deltaAndOff;
+        off = (int) (deltaAndOff >>> 32);
+        byte register = data[off++];
+        // registers must be listed in ascending order and only if they are nonzero
+        if (delta < 0 || (delta == 0 && i > 0) || register == 0) {
+          throw getInvalidFormatException();
+        }
+        idx += delta;
+        registers[idx] = register;
+      }
+      if (off != data.length) {
+        throw getInvalidFormatException();
+      }
+    } catch (ArrayIndexOutOfBoundsException e) {
+      throw getInvalidFormatException();
+    }
+  }
+
+  private static void inflate(byte[] data, byte[] registers) {
+    Inflater inflater = INFLATER.get();
+    try {
+      inflater.setInput(data, HEADER_SIZE, data.length - HEADER_SIZE);
+      int len = 0;
+      while (len < registers.length) {
+        int n = inflater.inflate(registers, len, registers.length - len);
+        if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+          throw getInvalidFormatException();
+        }
+        len += n;
+      }
+      if ((!inflater.finished() && inflater.inflate(new byte[1]) != 0)
+          || inflater.getRemaining() != 0) {
+        throw getInvalidFormatException();
+      }
+    } catch (DataFormatException e) {
+      throw getInvalidFormatException();
+    } finally {
+      inflater.reset();
+    }
+  }
+
+  private static int getVarIntSize(int value) {
+    return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+  }
+
+  private static int writeVarInt(byte[] b, int off, int value) {
+    while ((value & 0xFFFFFF80) != 0) {
+      b[off++] = (byte) (value | 0x80);
+      value >>>= 7;
+    }
+    b[off++] = (byte) value;
+    return off;
+  }
+
+  // returns the value in the lower 32 bits and the end offset in the upper 32 bits
+  private static long readVarInt(byte[] b, int off) {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      byte x = b[off++];
+      value |= (x & 0x7F) << shift;
+      if (x >= 0) {
+        return (value & 0xFFFFFFFFL) | ((long) off << 32);
+      }
+    }
+    throw getInvalidFormatException();
+  }
+
+  private static IllegalArgumentException getInvalidFormatException() {
+    return new IllegalArgumentException("invalid serialization format!");
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * An {@link UltraLogLog} sketch that additionally maintains a histogram of its register values.
+ *
+ * <p>The histogram is updated incrementally whenever a register changes, which costs only a few
+ * additional operations per insertion. In return, estimation only needs to process the 256
+ * histogram entries instead of all {@code 2^p} registers. Furthermore, the last estimate is cached
+ * until the state of the sketch changes again. This makes this sketch a good choice if estimates
+ * are queried much more often than the sketch changes, for example, when live sketches are polled
+ * periodically.
+ *
+ * <p>Estimators other than {@link UltraLogLog#MAXIMUM_LIKELIHOOD_ESTIMATOR} and {@link
+ * UltraLogLog#OPTIMAL_FGRA_ESTIMATOR} are applied to the underlying {@link UltraLogLog} sketch.
+ */
+public final class HistogramUltraLogLog {
+
+  private static final int NUM_REGISTER_VALUES = 256;
+
+  private final UltraLogLog sketch;
+  private final int[] registerHistogram;
+  private UltraLogLog.Estimator cachedEstimator; // null if there is no cached estimate
+  private double cachedEstimate;
+
+  private HistogramUltraLogLog(UltraLogLog sketch) {
+    this.sketch = sketch;
+    this.registerHistogram = new int[NUM_REGISTER_VALUES];
+    computeRegisterHistogram();
+  }
+
+  /**
+   * Creates an empty {@link HistogramUltraLogLog} sketch with given precision.
+   *
+   * <p>The precision parameter {@code p} must be in the range {@code {3, 4, 5, ..., 25, 26}}. It
+   * also defines the size of the internal state, which is a byte array of length {@code 2^p}.
+   *
+   * @param p the precision parameter
+   * @return the new sketch
+   * @throws IllegalArgumentException if the precision parameter is invalid
+   */
+  public static HistogramUltraLogLog create(int p) {
+    checkPrecisionParameter(p, UltraLogLog.MIN_P, UltraLogLog.MAX_P);
+    return new HistogramUltraLogLog(UltraLogLog.create(p));
+  }
+
+  /**
+   * Creates a {@link HistogramUltraLogLog} sketch with the same state as the given {@link
+   * UltraLogLog} sketch.
+   *
+   * <p>The state of the given sketch is copied.
+   *
+   * @param sketch an UltraLogLog sketch
+   * @return the new sketch
+   * @throws NullPointerException if the argument is null
+   */
+  public static HistogramUltraLogLog create(UltraLogLog sketch) {
+    requireNonNull(sketch, "null argument");
+    return new HistogramUltraLogLog(sketch.copy());
+  }
+
+  private void computeRegisterHistogram() {
+    Arrays.fill(registerHistogram, 0);
+    for (byte r : sketch.getState()) {
+      registerHistogram[r & 0xFF] += 1;
+    }
+    cachedEstimator = null;
+  }
+
+  /**
+   * Returns the precision parameter of this sketch.
+   *
+   * @return the precision parameter
+   */
+  public int getP() {
+    return sketch.getP();
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch.
+   *
+   * <p>In order to get good estimates, it is important that the hash value is calculated using a
+   * high-quality hash algorithm.
+   *
+   * @param hashValue a 64-bit hash value
+   * @return this sketch
+   */
+  public HistogramUltraLogLog add(long hashValue) {
+    return add(hashValue, null);
+  }
+
+  /**
+   * Adds a new element represented by a 32-bit token obtained from {@link
+   * UltraLogLog#computeToken(long)}.
+   *
+   * @param token a 32-bit hash token
+   * @return this sketch
+   */
+  public HistogramUltraLogLog addToken(int token) {
+    return add(DistinctCountUtil.reconstructHash1(token), null);
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch and passes, if the
+   * internal state has changed, decrements of the state change probability to the given {@link
+   * StateChangeObserver}.
+   *
+   * @param hashValue a 64-bit hash value
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  public HistogramUltraLogLog add(long hashValue, StateChangeObserver stateChangeObserver) {
+    byte[] state = sketch.getState();
+    int idx = (int) (hashValue >>> Long.numberOfLeadingZeros(state.length - 1L));
+    byte oldR = state[idx];
+    sketch.add(hashValue, stateChangeObserver);
+    byte newR = state[idx];
+    if (oldR != newR) {
+      registerHistogram[oldR & 0xFF] -= 1;
+      registerHistogram[newR & 0xFF] += 1;
+      cachedEstimator = null;
+    }
+    return this;
+  }
+
+  /**
+   * Adds an {@link UltraLogLog} sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown. The register
+   * histogram is recomputed, which requires a pass over all registers.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  public HistogramUltraLogLog add(UltraLogLog other) {
+    sketch.add(other);
+    computeRegisterHistogram();
+    return this;
+  }
+
+  /**
+   * Adds another sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  public HistogramUltraLogLog add(HistogramUltraLogLog other) {
+    requireNonNull(other, "null argument");
+    return add(other.sketch);
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch.
+   *
+   * @return estimated number of distinct elements
+   */
+  public double getDistinctCountEstimate() {
+    return getDistinctCountEstimate(UltraLogLog.DEFAULT_ESTIMATOR);
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch using the given
+   * estimator.
+   *
+   * <p>The estimate is cached and returned again as long as the state of this sketch does not
+   * change and the same estimator is used.
+   *
+   * @param estimator the estimator
+   * @return estimated number of distinct elements
+   */
+  public double getDistinctCountEstimate(UltraLogLog.Estimator estimator) {
+    requireNonNull(estimator, "null argument");
+    if (estimator != cachedEstimator) {
+      if (estimator instanceof UltraLogLog.RegisterHistogramEstimator) {
+        cachedEstimate =
+            ((UltraLogLog.RegisterHistogramEstimator) estimator)
+                .estimate(sketch.getP(), registerHistogram);
+      } else {
+        cachedEstimate = estimator.estimate(sketch);
+      }
+      cachedEstimator = estimator;
+    }
+    return cachedEstimate;
+  }
+
+  /**
+   * Returns an {@link UltraLogLog} sketch with the same state as this sketch.
+   *
+   * <p>The returned sketch is a copy and does not share any state with this sketch.
+   *
+   * @return the UltraLogLog sketch
+   */
+  public UltraLogLog toUltraLogLog() {
+    return sketch.copy();
+  }
+
+  /**
+   * Creates a copy of this sketch.
+   *
+   * @return the copy
+   */
+  public HistogramUltraLogLog copy() {
+    return new HistogramUltraLogLog(sketch.copy());
+  }
+
+  /**
+   * Resets this sketch to its initial state representing an empty set.
+   *
+   * @return this sketch
+   */
+  public HistogramUltraLogLog reset() {
+    sketch.reset();
+    Arrays.fill(registerHistogram, 0);
+    registerHistogram[0] = sketch.getState().length;
+    cachedEstimator = null;
+    return this;
+  }
+}
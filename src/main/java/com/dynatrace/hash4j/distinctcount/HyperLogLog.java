@@ -16,6 +16,7 @@
 package com.dynatrace.hash4j.distinctcount;
 
 import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.*;
+import static java.util.Objects.checkFromIndexSize;
 import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.hash4j.util.PackedArray;
@@ -23,7 +24,10 @@ import com.dynatrace.hash4j.util.PackedArray.PackedArrayHandler;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * A HyperLogLog implementation for approximate distinct counting.
@@ -49,7 +53,7 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
   private static final VarHandle INT_HANDLE =
       MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
 
-  private static int getInt(byte[] b, int off) {
+  static int getInt(byte[] b, int off) {
     return (int) INT_HANDLE.get(b, off);
   }
 
@@ -87,6 +91,10 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
 
   private static final PackedArrayHandler ARRAY_HANDLER = PackedArray.getHandler(6);
 
+  // number of bytes merged in one go by merge(Collection), a multiple of 6 that fits into the L1
+  // cache
+  private static final int MERGE_BLOCK_SIZE = 6 << 9;
+
   /**
    * The minimum allowed precision parameter.
    *
@@ -236,6 +244,87 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
     }
   }
 
+  /**
+   * Merges a collection of {@link HyperLogLog} sketches into a new sketch.
+   *
+   * <p>The precision of the merged sketch is given by the smallest precision of all sketches. The
+   * registers of all sketches with that precision are folded block by block into the resulting
+   * state, so that each block of the resulting state stays in cache while it is merged and no
+   * intermediate sketches are allocated. The given sketches are not modified.
+   *
+   * @param sketches the sketches
+   * @return the merged sketch
+   * @throws NullPointerException if the collection or one of its elements is null
+   * @throws IllegalArgumentException if the collection is empty
+   */
+  public static HyperLogLog merge(Collection<HyperLogLog> sketches) {
+    requireNonNull(sketches, "null argument");
+    int minP = MAX_P;
+    for (HyperLogLog sketch : sketches) {
+      requireNonNull(sketch, "null argument");
+      minP = Math.min(minP, sketch.p);
+    }
+    if (sketches.isEmpty()) {
+      throw new IllegalArgumentException("no sketches given");
+    }
+    HyperLogLog result = create(minP);
+    List<byte[]> states = new ArrayList<>(sketches.size());
+    for (HyperLogLog sketch : sketches) {
+      if (sketch.p == minP) {
+        states.add(sketch.state);
+      } else {
+        result.add(sketch);
+      }
+    }
+    int stateLength = result.state.length;
+    for (int from = 0; from < stateLength; from += MERGE_BLOCK_SIZE) {
+      int to = Math.min(from + MERGE_BLOCK_SIZE, stateLength);
+      for (byte[] otherState : states) {
+        mergeRegisters(result.state, otherState, from, to);
+      }
+    }
+    return result;
+  }
+
+  // merges the registers of the other state within the given range, which must be aligned to
+  // multiples of 6 bytes (8 registers), into the given state
+  private static void mergeRegisters(byte[] state, byte[] otherState, int from, int to) {
+    for (int off = from; off < to; off += 6) {
+      int sOther0 = getInt(otherState, off);
+      int sOther1 = getInt(otherState, off + 2);
+      if ((sOther0 | sOther1) != 0) {
+        long word = toWord(getInt(state, off), getInt(state, off + 2));
+        long otherWord = toWord(sOther0, sOther1);
+        long r = mergeRegisters(word, otherWord);
+        setInt(state, off + 2, (int) (r >>> 16));
+        setInt(state, off, (int) r);
+      }
+    }
+  }
+
+  // combines two overlapping ints read at offsets off and off + 2 to the 48 bits starting at off
+  static long toWord(int s0, int s1) {
+    return (s0 & 0xFFFFFFFFL) | ((long) (s1 >>> 16) << 32);
+  }
+
+  // Computes the register-wise maximum of 8 registers packed into the lower 48 bits of a long.
+  // Registers with even and odd indices are processed separately in 12-bit lanes, which leaves
+  // room for a guard bit that prevents borrows from propagating between lanes.
+  //
+  // visible for testing
+  static long mergeRegisters(long word1, long word2) {
+    return maxOfEvenRegisters(word1, word2) | (maxOfEvenRegisters(word1 >>> 6, word2 >>> 6) << 6);
+  }
+
+  private static long maxOfEvenRegisters(long word1, long word2) {
+    final long registerMask = 0x03F03F03F03FL;
+    final long guardBits = 0x800800800800L;
+    long r1 = word1 & registerMask;
+    long r2 = word2 & registerMask;
+    long ge = ((((r1 | guardBits) - r2) & guardBits) >>> 11) * 0xFFF; // lanes with r1 >= r2
+    return (r1 & ge) | (r2 & ~ge);
+  }
+
   /**
    * Returns a reference to the internal state of this sketch.
    *
@@ -278,6 +367,37 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
     return this;
   }
 
+  /**
+   * Adds new elements represented by 64-bit hash values to this sketch.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) add(hashValues[off + i]);}
+   *
+   * <p>This is faster than adding the hash values individually, as the quantities that only
+   * depend on the precision parameter are computed just once for the whole batch.
+   *
+   * @param hashValues an array of 64-bit hash values
+   * @param off the index of the first hash value
+   * @param len the number of hash values
+   * @return this sketch
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  @Override
+  public HyperLogLog add(long[] hashValues, int off, int len) {
+    checkFromIndexSize(off, len, hashValues.length);
+    final byte[] state = this.state;
+    final int p = this.p;
+    final int end = off + len;
+    for (int i = off; i < end; ++i) {
+      long hashValue = hashValues[i];
+      int idx = (int) (hashValue >>> -p);
+      int newValue = Long.numberOfLeadingZeros(~(~hashValue << p)) + 1;
+      if (newValue > ARRAY_HANDLER.get(state, idx)) {
+        ARRAY_HANDLER.set(state, idx, newValue);
+      }
+    }
+    return this;
+  }
+
   /**
    * Adds a new element represented by a 32-bit token obtained from {@link #computeToken(long)}.
    *
@@ -339,6 +459,47 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
     return this;
   }
 
+  /**
+   * Adds new elements represented by 64-bit hash values to this sketch and passes, whenever the
+   * internal state has changed, decrements of the state change probability to the given {@link
+   * StateChangeObserver}.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) add(hashValues[off + i],
+   * stateChangeObserver);}
+   *
+   * @param hashValues an array of 64-bit hash values
+   * @param off the index of the first hash value
+   * @param len the number of hash values
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  @Override
+  public HyperLogLog add(
+      long[] hashValues, int off, int len, StateChangeObserver stateChangeObserver) {
+    if (stateChangeObserver == null) {
+      return add(hashValues, off, len);
+    }
+    checkFromIndexSize(off, len, hashValues.length);
+    final byte[] state = this.state;
+    final int p = this.p;
+    final int end = off + len;
+    for (int i = off; i < end; ++i) {
+      long hashValue = hashValues[i];
+      int idx = (int) (hashValue >>> -p);
+      int newValue = Long.numberOfLeadingZeros(~(~hashValue << p)) + 1;
+      int oldValue = (int) ARRAY_HANDLER.get(state, idx);
+      if (newValue > oldValue) {
+        ARRAY_HANDLER.set(state, idx, newValue);
+        stateChangeObserver.stateChanged(
+            (getScaledRegisterChangeProbability(oldValue)
+                    - getScaledRegisterChangeProbability(newValue))
+                * 0x1p-64);
+      }
+    }
+    return this;
+  }
+
   /**
    * Adds a new element, represented by a 32-bit token obtained from {@link #computeToken(long)}, to
    * this sketch and passes, if the internal state has changed, decrements of the state change
@@ -378,25 +539,7 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
     if (other.p < p) {
       throw new IllegalArgumentException("other has smaller precision");
     } else if (other.p == p) {
-
-      for (int off = 0; off + 6 <= state.length; off += 6) {
-        int s0 = getInt(state, off);
-        int s1 = getInt(state, off + 2);
-        int sOther0 = getInt(other.state, off);
-        int sOther1 = getInt(other.state, off + 2);
-        int r0 = Math.max(s0 & 0x3F, sOther0 & 0x3F);
-        int r1 = Math.max((s0 >>> 6) & 0x3F, (sOther0 >>> 6) & 0x3F);
-        int r2 = Math.max((s0 >>> 12) & 0x3F, (sOther0 >>> 12) & 0x3F);
-        int r3 = Math.max((s0 >>> 18) & 0x3F, (sOther0 >>> 18) & 0x3F);
-        int r4 = Math.max((s1 >>> 8) & 0x3F, (sOther1 >>> 8) & 0x3F);
-        int r5 = Math.max((s1 >>> 14) & 0x3F, (sOther1 >>> 14) & 0x3F);
-        int r6 = Math.max((s1 >>> 20) & 0x3F, (sOther1 >>> 20) & 0x3F);
-        int r7 = Math.max((s1 >>> 26) & 0x3F, (sOther1 >>> 26) & 0x3F);
-
-        setInt(state, off + 2, (r5 << 14) | (r6 << 20) | (r7 << 26));
-        setInt(state, off, r0 | (r1 << 6) | (r2 << 12) | (r3 << 18) | (r4 << 24) | (r5 << 30));
-      }
-
+      mergeRegisters(state, otherData, 0, state.length);
     } else {
       final int deltaP = other.p - p;
       int j = 0;
@@ -491,7 +634,13 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
   /** A distinct count estimator for HyperLogLog. */
   public interface Estimator extends DistinctCounter.Estimator<HyperLogLog> {}
 
-  static final class CorrectedRawEstimator implements Estimator {
+  // an estimator that is also able to compute the estimate from the register histogram, which
+  // holds the number of registers for each of the 66 - p possible register values
+  interface RegisterHistogramEstimator extends Estimator {
+    double estimate(int p, int[] registerHistogram);
+  }
+
+  static final class CorrectedRawEstimator implements RegisterHistogramEstimator {
 
     private CorrectedRawEstimator() {}
 
@@ -599,6 +748,21 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
         if (r6 == 0) c0 += 1;
         if (r7 == 0) c0 += 1;
       }
+      return estimate(p, c0, cMax, agg);
+    }
+
+    @Override
+    public double estimate(int p, int[] registerHistogram) {
+      int maxR = 65 - p;
+      long inc = 1L << -p;
+      long agg = 0;
+      for (int r = 0; r <= maxR; ++r) {
+        agg += (inc >>> r) * registerHistogram[r];
+      }
+      return estimate(p, registerHistogram[0], registerHistogram[maxR], agg);
+    }
+
+    private static double estimate(int p, int c0, int cMax, long agg) {
       double sum = 0;
 
       double m = 1 << p;
@@ -618,7 +782,7 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
     }
   }
 
-  private static final class MaximumLikelihoodEstimator implements Estimator {
+  static final class MaximumLikelihoodEstimator implements RegisterHistogramEstimator {
 
     // = sqrt(ln(2)/zeta(2,2))
     // where zeta is the Hurvitz zeta function,
@@ -627,7 +791,7 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
     // for a numerical evaluation see
     // https://www.wolframalpha.com/input?i=sqrt%28ln%282%29%2Fzeta%282%2C2%29%29
     private static final double INV_SQRT_FISHER_INFORMATION = 1.0367047097785012;
-    private static final double ML_EQUATION_SOLVER_EPS =
+    static final double ML_EQUATION_SOLVER_EPS =
         0.001 * INV_SQRT_FISHER_INFORMATION; // 0.1% of theoretical relative error
 
     // = 3 * ln(2) * zeta(3,2)/(zeta(2,2))^2
@@ -636,15 +800,19 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
     //
     // for a numerical evaluation see
     // https://www.wolframalpha.com/input?i=3+*+ln%282%29+*+zeta%283%2C2%29%2F%28zeta%282%2C2%29%29%5E2
-    private static final double ML_BIAS_CORRECTION_CONSTANT = 1.01015908095854;
+    static final double ML_BIAS_CORRECTION_CONSTANT = 1.01015908095854;
 
     @Override
     public double estimate(HyperLogLog hyperLogLog) {
+      return estimate(hyperLogLog, new int[64]);
+    }
+
+    // the given array c of length 64 must be filled with zeros, it is modified
+    double estimate(HyperLogLog hyperLogLog, int[] c) {
 
       byte[] state = hyperLogLog.state;
       int p = hyperLogLog.p;
       long agg = 0;
-      int[] c = new int[64];
       long inc = 1L << -p;
 
       for (int off = 0; off + 6 <= state.length; off += 6) {
@@ -675,6 +843,27 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
         c[r6] += 1;
         c[r7] += 1;
       }
+      return estimate(p, agg, c);
+    }
+
+    @Override
+    public double estimate(int p, int[] registerHistogram) {
+      return estimate(p, registerHistogram, new int[64]);
+    }
+
+    // the given array c of length 64 is overwritten
+    double estimate(int p, int[] registerHistogram, int[] c) {
+      System.arraycopy(registerHistogram, 0, c, 0, 64);
+      long inc = 1L << -p;
+      long agg = 0;
+      for (int r = 0; r <= 65 - p; ++r) {
+        agg += (inc >>> r) * c[r];
+      }
+      return estimate(p, agg, c);
+    }
+
+    // the given array c is modified
+    private static double estimate(int p, long agg, int[] c) {
       int m = 1 << p;
 
       if (c[0] == m) return 0.;
@@ -0,0 +1,444 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A container for a fixed number of {@link HyperLogLog} sketches with the same precision, whose
+ * registers are stored contiguously in off-heap memory.
+ *
+ * <p>Holding millions of small {@link HyperLogLog} instances on the heap requires an object and a
+ * byte array per sketch, which increases the memory footprint and the garbage collection effort.
+ * This container stores all registers in direct {@link ByteBuffer}s of at most 1 GiB each and
+ * addresses the sketches by their index. Elements can be added, sketches can be merged, and
+ * estimates can be computed without creating any {@link HyperLogLog} instances.
+ *
+ * <p>The buffers can also be mapped from a file using {@link #map(Path, int, int)}, which makes the
+ * sketches persistent and allows them to be used directly after a restart without any
+ * deserialization.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class HyperLogLogArray {
+
+  private final int p;
+  private final int numSketches;
+  private final int log2SketchesPerChunk;
+  private final ByteBuffer[] chunks;
+
+  private HyperLogLogArray(int p, int numSketches, int log2SketchesPerChunk, ByteBuffer[] chunks) {
+    this.p = p;
+    this.numSketches = numSketches;
+    this.log2SketchesPerChunk = log2SketchesPerChunk;
+    this.chunks = chunks;
+  }
+
+  /**
+   * Creates a container of empty {@link HyperLogLog} sketches with given precision.
+   *
+   * <p>The precision parameter {@code p} must be in the range {@code {3, 4, 5, ..., 25, 26}}. Each
+   * sketch occupies {@code 6 * 2^(p-3)} bytes of off-heap memory.
+   *
+   * @param p the precision parameter
+   * @param numSketches the number of sketches
+   * @return the new container
+   * @throws IllegalArgumentException if the precision parameter is invalid or the number of
+   *     sketches is negative
+   */
+  public static HyperLogLogArray create(int p, int numSketches) {
+    checkPrecisionParameter(p, HyperLogLog.MIN_P, HyperLogLog.MAX_P);
+    return create(p, numSketches, SketchArrayStorage.LOG2_MAX_CHUNK_SIZE - p);
+  }
+
+  // visible for testing
+  static HyperLogLogArray create(int p, int numSketches, int log2SketchesPerChunk) {
+    if (numSketches < 0) {
+      throw new IllegalArgumentException("negative number of sketches");
+    }
+    return new HyperLogLogArray(
+        p,
+        numSketches,
+        log2SketchesPerChunk,
+        SketchArrayStorage.allocate(numSketches, getSketchSize(p), log2SketchesPerChunk));
+  }
+
+  /**
+   * Creates a container of {@link HyperLogLog} sketches that is backed by the given memory-mapped
+   * file.
+   *
+   * <p>If the file does not exist or is empty, it is created and initialized with empty sketches.
+   * Otherwise, it must have been created with the same precision parameter and number of sketches,
+   * and the sketches stored in the file are used without any deserialization. Changes are written
+   * back to the file by the operating system, {@link #force()} can be used to write them
+   * immediately.
+   *
+   * @param file the path of the file
+   * @param p the precision parameter
+   * @param numSketches the number of sketches
+   * @return the new container
+   * @throws IOException if an I/O error occurs
+   * @throws NullPointerException if the path is null
+   * @throws IllegalArgumentException if the precision parameter is invalid, the number of sketches
+   *     is negative, or the file is not compatible
+   */
+  public static HyperLogLogArray map(Path file, int p, int numSketches) throws IOException {
+    requireNonNull(file, "null argument");
+    checkPrecisionParameter(p, HyperLogLog.MIN_P, HyperLogLog.MAX_P);
+    if (numSketches < 0) {
+      throw new IllegalArgumentException("negative number of sketches");
+    }
+    int log2SketchesPerChunk = SketchArrayStorage.LOG2_MAX_CHUNK_SIZE - p;
+    return new HyperLogLogArray(
+        p,
+        numSketches,
+        log2SketchesPerChunk,
+        SketchArrayStorage.map(
+            file,
+            SketchArrayStorage.TYPE_HYPERLOGLOG,
+            p,
+            numSketches,
+            getSketchSize(p),
+            log2SketchesPerChunk));
+  }
+
+  /**
+   * Creates a container of {@link HyperLogLog} sketches that is backed by the given existing
+   * memory-mapped file, which was created using {@link #map(Path, int, int)}.
+   *
+   * @param file the path of the file
+   * @return the new container
+   * @throws IOException if an I/O error occurs
+   * @throws NullPointerException if the path is null
+   * @throws IllegalArgumentException if the file is not valid
+   */
+  public static HyperLogLogArray map(Path file) throws IOException {
+    requireNonNull(file, "null argument");
+    // the header is read under the same lock as used for mapping, to see a fully initialized file
+    return SketchArrayStorage.withLock(
+        file,
+        false,
+        channel -> {
+          ByteBuffer header =
+              SketchArrayStorage.readHeader(channel, SketchArrayStorage.TYPE_HYPERLOGLOG);
+          int p = header.get(2);
+          int numSketches = header.getInt(4);
+          if (p < HyperLogLog.MIN_P || p > HyperLogLog.MAX_P || numSketches < 0) {
+            throw new IllegalArgumentException("invalid file format!");
+          }
+          int log2SketchesPerChunk = SketchArrayStorage.LOG2_MAX_CHUNK_SIZE - p;
+          return new HyperLogLogArray(
+              p,
+              numSketches,
+              log2SketchesPerChunk,
+              SketchArrayStorage.map(
+                  channel,
+                  SketchArrayStorage.TYPE_HYPERLOGLOG,
+                  p,
+                  numSketches,
+                  getSketchSize(p),
+                  log2SketchesPerChunk));
+        });
+  }
+
+  /**
+   * Forces any changes to be written to the underlying file, if this container was created by
+   * {@link #map(Path, int, int)} or {@link #map(Path)}. Otherwise, this method has no effect.
+   *
+   * @return this container
+   */
+  public HyperLogLogArray force() {
+    for (ByteBuffer chunk : chunks) {
+      if (chunk instanceof MappedByteBuffer) {
+        ((MappedByteBuffer) chunk).force();
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns the precision parameter of all sketches.
+   *
+   * @return the precision parameter
+   */
+  public int getP() {
+    return p;
+  }
+
+  /**
+   * Returns the number of sketches.
+   *
+   * @return the number of sketches
+   */
+  public int size() {
+    return numSketches;
+  }
+
+  private ByteBuffer getChunk(int sketchIndex) {
+    checkIndex(sketchIndex, numSketches);
+    return chunks[sketchIndex >>> log2SketchesPerChunk];
+  }
+
+  private int getOffset(int sketchIndex) {
+    return (sketchIndex & ((1 << log2SketchesPerChunk) - 1)) * getSketchSize(p);
+  }
+
+  // 8 registers with 6 bits each are stored in 6 bytes
+  private static int getSketchSize(int p) {
+    return 6 << (p - 3);
+  }
+
+  // reads the 8 registers stored in the 6 bytes starting at the given position
+  private static long getWord(ByteBuffer chunk, int pos) {
+    return HyperLogLog.toWord(chunk.getInt(pos), chunk.getInt(pos + 2));
+  }
+
+  private static void putWord(ByteBuffer chunk, int pos, long word) {
+    chunk.putInt(pos + 2, (int) (word >>> 16));
+    chunk.putInt(pos, (int) word);
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to the sketch with given index.
+   *
+   * @param sketchIndex the index of the sketch
+   * @param hashValue a 64-bit hash value
+   * @return this container
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   * @see HyperLogLog#add(long)
+   */
+  public HyperLogLogArray add(int sketchIndex, long hashValue) {
+    ByteBuffer chunk = getChunk(sketchIndex);
+    int idx = (int) (hashValue >>> -p);
+    int newValue = Long.numberOfLeadingZeros(~(~hashValue << p)) + 1;
+    // the register is read together with its neighbors as little-endian int, such that it does
+    // not cross the boundaries of its 6-byte block
+    int pos = getOffset(sketchIndex) + 6 * (idx >>> 3) + ((idx >>> 1) & 2);
+    int shift = 6 * (idx & 7) - ((idx << 2) & 16);
+    int word = chunk.getInt(pos);
+    int oldValue = (word >>> shift) & 0x3F;
+    if (newValue > oldValue) {
+      chunk.putInt(pos, word + ((newValue - oldValue) << shift));
+    }
+    return this;
+  }
+
+  /**
+   * Adds a new element represented by a 32-bit token obtained from {@link
+   * HyperLogLog#computeToken(long)} to the sketch with given index.
+   *
+   * @param sketchIndex the index of the sketch
+   * @param token a 32-bit hash token
+   * @return this container
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   * @see HyperLogLog#addToken(int)
+   */
+  public HyperLogLogArray addToken(int sketchIndex, int token) {
+    return add(sketchIndex, DistinctCountUtil.reconstructHash1(token));
+  }
+
+  /**
+   * Adds the given sketch to the sketch with given index.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this container. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * @param sketchIndex the index of the sketch
+   * @param other the sketch to add
+   * @return this container
+   * @throws NullPointerException if the sketch to add is null
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   */
+  public HyperLogLogArray add(int sketchIndex, HyperLogLog other) {
+    requireNonNull(other, "null argument");
+    ByteBuffer chunk = getChunk(sketchIndex);
+    if (other.getP() < p) {
+      throw new IllegalArgumentException("other has smaller precision");
+    }
+    byte[] otherState = ((other.getP() == p) ? other : other.downsize(p)).getState();
+    int offset = getOffset(sketchIndex);
+    for (int off = 0; off < otherState.length; off += 6) {
+      long otherWord =
+          HyperLogLog.toWord(
+              HyperLogLog.getInt(otherState, off), HyperLogLog.getInt(otherState, off + 2));
+      if (otherWord != 0) {
+        int pos = offset + off;
+        putWord(chunk, pos, HyperLogLog.mergeRegisters(getWord(chunk, pos), otherWord));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Merges the sketch with the source index into the sketch with the target index.
+   *
+   * @param targetSketchIndex the index of the sketch to merge into
+   * @param sourceSketchIndex the index of the sketch to be merged
+   * @return this container
+   * @throws IndexOutOfBoundsException if one of the sketch indices is out of bounds
+   */
+  public HyperLogLogArray merge(int targetSketchIndex, int sourceSketchIndex) {
+    ByteBuffer targetChunk = getChunk(targetSketchIndex);
+    ByteBuffer sourceChunk = getChunk(sourceSketchIndex);
+    int targetOffset = getOffset(targetSketchIndex);
+    int sourceOffset = getOffset(sourceSketchIndex);
+    int sketchSize = getSketchSize(p);
+    for (int off = 0; off < sketchSize; off += 6) {
+      long sourceWord = getWord(sourceChunk, sourceOffset + off);
+      if (sourceWord != 0) {
+        int pos = targetOffset + off;
+        putWord(
+            targetChunk, pos, HyperLogLog.mergeRegisters(getWord(targetChunk, pos), sourceWord));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to the sketch with given index.
+   *
+   * @param sketchIndex the index of the sketch
+   * @return estimated number of distinct elements
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   */
+  public double getDistinctCountEstimate(int sketchIndex) {
+    return getDistinctCountEstimate(sketchIndex, HyperLogLog.DEFAULT_ESTIMATOR);
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to the sketch with given index
+   * using the given estimator.
+   *
+   * <p>For {@link HyperLogLog#MAXIMUM_LIKELIHOOD_ESTIMATOR} and {@link
+   * HyperLogLog#CORRECTED_RAW_ESTIMATOR}, the estimate is computed directly from the off-heap
+   * registers. Other estimators are applied to a copy of the sketch obtained from {@link
+   * #get(int)}.
+   *
+   * @param sketchIndex the index of the sketch
+   * @param estimator the estimator
+   * @return estimated number of distinct elements
+   * @throws NullPointerException if the estimator is null
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   */
+  public double getDistinctCountEstimate(int sketchIndex, HyperLogLog.Estimator estimator) {
+    requireNonNull(estimator, "null argument");
+    if (!(estimator instanceof HyperLogLog.RegisterHistogramEstimator)) {
+      return get(sketchIndex).getDistinctCountEstimate(estimator);
+    }
+    return estimate(sketchIndex, estimator, new int[64], new int[64]);
+  }
+
+  // computes the estimates of the sketches with indices in the range [fromIndex, toIndex) and
+  // stores them at the same indices of the given array, the scratch arrays are reused for all
+  // sketches
+  void getDistinctCountEstimates(
+      int fromIndex, int toIndex, HyperLogLog.Estimator estimator, double[] estimates) {
+    if (!(estimator instanceof HyperLogLog.RegisterHistogramEstimator)) {
+      for (int i = fromIndex; i < toIndex; ++i) {
+        estimates[i] = get(i).getDistinctCountEstimate(estimator);
+      }
+      return;
+    }
+    int[] registerHistogram = new int[64];
+    int[] scratch = new int[64];
+    for (int i = fromIndex; i < toIndex; ++i) {
+      Arrays.fill(registerHistogram, 0);
+      estimates[i] = estimate(i, estimator, registerHistogram, scratch);
+    }
+  }
+
+  // the given register histogram must be filled with zeros, the scratch array is overwritten
+  private double estimate(
+      int sketchIndex, HyperLogLog.Estimator estimator, int[] registerHistogram, int[] scratch) {
+    ByteBuffer chunk = getChunk(sketchIndex);
+    int offset = getOffset(sketchIndex);
+    int sketchSize = getSketchSize(p);
+    for (int off = 0; off < sketchSize; off += 6) {
+      long word = getWord(chunk, offset + off);
+      for (int k = 0; k < 48; k += 6) {
+        registerHistogram[(int) (word >>> k) & 0x3F] += 1;
+      }
+    }
+    if (estimator instanceof HyperLogLog.MaximumLikelihoodEstimator) {
+      return ((HyperLogLog.MaximumLikelihoodEstimator) estimator)
+          .estimate(p, registerHistogram, scratch);
+    }
+    return ((HyperLogLog.RegisterHistogramEstimator) estimator).estimate(p, registerHistogram);
+  }
+
+  /**
+   * Returns a copy of the sketch with given index as {@link HyperLogLog} instance.
+   *
+   * @param sketchIndex the index of the sketch
+   * @return a copy of the sketch
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   */
+  public HyperLogLog get(int sketchIndex) {
+    ByteBuffer chunk = getChunk(sketchIndex);
+    byte[] state = new byte[getSketchSize(p)];
+    chunk.duplicate().position(getOffset(sketchIndex)).get(state);
+    return HyperLogLog.wrap(state);
+  }
+
+  /**
+   * Replaces the sketch with given index by the given sketch.
+   *
+   * <p>The precision parameter of the given sketch must not be smaller than the precision
+   * parameter of this container. Otherwise, an {@link IllegalArgumentException} will be thrown. If
+   * it is larger, the sketch is downsized.
+   *
+   * @param sketchIndex the index of the sketch
+   * @param sketch the new sketch
+   * @return this container
+   * @throws NullPointerException if the sketch is null
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   */
+  public HyperLogLogArray set(int sketchIndex, HyperLogLog sketch) {
+    requireNonNull(sketch, "null argument");
+    ByteBuffer chunk = getChunk(sketchIndex);
+    if (sketch.getP() < p) {
+      throw new IllegalArgumentException("other has smaller precision");
+    }
+    byte[] state = ((sketch.getP() == p) ? sketch : sketch.downsize(p)).getState();
+    chunk.duplicate().position(getOffset(sketchIndex)).put(state);
+    return this;
+  }
+
+  /**
+   * Resets the sketch with given index to its initial state representing an empty set.
+   *
+   * @param sketchIndex the index of the sketch
+   * @return this container
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   */
+  public HyperLogLogArray reset(int sketchIndex) {
+    ByteBuffer chunk = getChunk(sketchIndex);
+    int offset = getOffset(sketchIndex);
+    int sketchSize = getSketchSize(p);
+    for (int off = 0; off < sketchSize; off += 6) {
+      putWord(chunk, offset + off, 0L);
+    }
+    return this;
+  }
+}
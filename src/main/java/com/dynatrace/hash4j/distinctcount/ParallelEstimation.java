@@ -0,0 +1,223 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Utility class for computing the distinct count estimates of many sketches in parallel.
+ *
+ * <p>The sketches are split into ranges of consecutive indices, which are estimated by the worker
+ * threads of the given {@link ForkJoinPool}. Within each range, the scratch memory needed by the
+ * estimator is allocated only once and reused for all sketches. The estimates are written into the
+ * given {@code double} array at the same indices as the corresponding sketches.
+ *
+ * <p>The sketches must not be modified concurrently, except for an {@link UltraLogLogArray} that
+ * was created by {@link UltraLogLogArray#mapShared(java.nio.file.Path, int, int)}.
+ */
+public final class ParallelEstimation {
+
+  // the minimum number of sketches estimated by a single task
+  private static final int MIN_SKETCHES_PER_TASK = 16;
+
+  // the number of tasks per worker thread, more tasks than threads allow to balance the load
+  private static final int TASKS_PER_THREAD = 8;
+
+  private ParallelEstimation() {}
+
+  /**
+   * Computes the distinct count estimates of the given {@link UltraLogLog} sketches in parallel.
+   *
+   * @param sketches the sketches
+   * @param estimator the estimator
+   * @param estimates the array into which the estimates are written, must have the same length as
+   *     the sketches array
+   * @param pool the fork-join pool
+   * @throws NullPointerException if one of the arguments or one of the sketches is null
+   * @throws IllegalArgumentException if the arrays have different lengths
+   */
+  public static void estimate(
+      UltraLogLog[] sketches,
+      UltraLogLog.Estimator estimator,
+      double[] estimates,
+      ForkJoinPool pool) {
+    requireNonNull(sketches, "null argument");
+    requireNonNull(estimator, "null argument");
+    invoke(
+        sketches.length,
+        estimates,
+        pool,
+        (fromIndex, toIndex) -> {
+          if (estimator instanceof UltraLogLog.MaximumLikelihoodEstimator) {
+            UltraLogLog.MaximumLikelihoodEstimator maximumLikelihoodEstimator =
+                (UltraLogLog.MaximumLikelihoodEstimator) estimator;
+            int[] scratch = new int[64];
+            for (int i = fromIndex; i < toIndex; ++i) {
+              Arrays.fill(scratch, 0);
+              estimates[i] = maximumLikelihoodEstimator.estimate(sketches[i], scratch);
+            }
+          } else {
+            for (int i = fromIndex; i < toIndex; ++i) {
+              estimates[i] = estimator.estimate(sketches[i]);
+            }
+          }
+        });
+  }
+
+  /**
+   * Computes the distinct count estimates of the given {@link HyperLogLog} sketches in parallel.
+   *
+   * @param sketches the sketches
+   * @param estimator the estimator
+   * @param estimates the array into which the estimates are written, must have the same length as
+   *     the sketches array
+   * @param pool the fork-join pool
+   * @throws NullPointerException if one of the arguments or one of the sketches is null
+   * @throws IllegalArgumentException if the arrays have different lengths
+   */
+  public static void estimate(
+      HyperLogLog[] sketches,
+      HyperLogLog.Estimator estimator,
+      double[] estimates,
+      ForkJoinPool pool) {
+    requireNonNull(sketches, "null argument");
+    requireNonNull(estimator, "null argument");
+    invoke(
+        sketches.length,
+        estimates,
+        pool,
+        (fromIndex, toIndex) -> {
+          if (estimator instanceof HyperLogLog.MaximumLikelihoodEstimator) {
+            HyperLogLog.MaximumLikelihoodEstimator maximumLikelihoodEstimator =
+                (HyperLogLog.MaximumLikelihoodEstimator) estimator;
+            int[] scratch = new int[64];
+            for (int i = fromIndex; i < toIndex; ++i) {
+              Arrays.fill(scratch, 0);
+              estimates[i] = maximumLikelihoodEstimator.estimate(sketches[i], scratch);
+            }
+          } else {
+            for (int i = fromIndex; i < toIndex; ++i) {
+              estimates[i] = estimator.estimate(sketches[i]);
+            }
+          }
+        });
+  }
+
+  /**
+   * Computes the distinct count estimates of all sketches of the given {@link UltraLogLogArray} in
+   * parallel.
+   *
+   * @param sketches the container of sketches
+   * @param estimator the estimator
+   * @param estimates the array into which the estimates are written, must have a length equal to
+   *     the number of sketches
+   * @param pool the fork-join pool
+   * @throws NullPointerException if one of the arguments is null
+   * @throws IllegalArgumentException if the length of the estimates array does not match
+   */
+  public static void estimate(
+      UltraLogLogArray sketches,
+      UltraLogLog.Estimator estimator,
+      double[] estimates,
+      ForkJoinPool pool) {
+    requireNonNull(sketches, "null argument");
+    requireNonNull(estimator, "null argument");
+    invoke(
+        sketches.size(),
+        estimates,
+        pool,
+        (fromIndex, toIndex) ->
+            sketches.getDistinctCountEstimates(fromIndex, toIndex, estimator, estimates));
+  }
+
+  /**
+   * Computes the distinct count estimates of all sketches of the given {@link HyperLogLogArray} in
+   * parallel.
+   *
+   * @param sketches the container of sketches
+   * @param estimator the estimator
+   * @param estimates the array into which the estimates are written, must have a length equal to
+   *     the number of sketches
+   * @param pool the fork-join pool
+   * @throws NullPointerException if one of the arguments is null
+   * @throws IllegalArgumentException if the length of the estimates array does not match
+   */
+  public static void estimate(
+      HyperLogLogArray sketches,
+      HyperLogLog.Estimator estimator,
+      double[] estimates,
+      ForkJoinPool pool) {
+    requireNonNull(sketches, "null argument");
+    requireNonNull(estimator, "null argument");
+    invoke(
+        sketches.size(),
+        estimates,
+        pool,
+        (fromIndex, toIndex) ->
+            sketches.getDistinctCountEstimates(fromIndex, toIndex, estimator, estimates));
+  }
+
+  @FunctionalInterface
+  private interface RangeEstimator {
+    void estimate(int fromIndex, int toIndex);
+  }
+
+  private static void invoke(
+      int numSketches, double[] estimates, ForkJoinPool pool, RangeEstimator rangeEstimator) {
+    requireNonNull(estimates, "null argument");
+    requireNonNull(pool, "null argument");
+    checkArgument(estimates.length == numSketches, "estimates array has wrong length!");
+    int maxSketchesPerTask =
+        Math.max(
+            MIN_SKETCHES_PER_TASK, numSketches / (pool.getParallelism() * TASKS_PER_THREAD));
+    pool.invoke(new EstimationTask(rangeEstimator, 0, numSketches, maxSketchesPerTask));
+  }
+
+  private static final class EstimationTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient RangeEstimator rangeEstimator;
+    private final int fromIndex;
+    private final int toIndex;
+    private final int maxSketchesPerTask;
+
+    EstimationTask(
+        RangeEstimator rangeEstimator, int fromIndex, int toIndex, int maxSketchesPerTask) {
+      this.rangeEstimator = rangeEstimator;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+      this.maxSketchesPerTask = maxSketchesPerTask;
+    }
+
+    @Override
+    protected void compute() {
+      if (toIndex - fromIndex <= maxSketchesPerTask) {
+        rangeEstimator.estimate(fromIndex, toIndex);
+      } else {
+        int midIndex = (fromIndex + toIndex) >>> 1;
+        invokeAll(
+            new EstimationTask(rangeEstimator, fromIndex, midIndex, maxSketchesPerTask),
+            new EstimationTask(rangeEstimator, midIndex, toIndex, maxSketchesPerTask));
+      }
+    }
+  }
+}
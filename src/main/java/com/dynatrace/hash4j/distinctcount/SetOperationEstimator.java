@@ -0,0 +1,322 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.solveMaximumLikelihoodEquation;
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.unsignedLongToDouble;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * Estimates the sizes of the union, the intersection, and the differences of two sets represented
+ * by {@link UltraLogLog} or {@link HyperLogLog} sketches, as well as their Jaccard similarity.
+ *
+ * <p>Estimating the intersection size by the inclusion-exclusion principle, which subtracts the
+ * estimated union size from the sum of the estimated set sizes, combines three independently
+ * computed estimates, whose errors do not cancel. This is why the resulting relative error grows
+ * quickly for small intersections. This estimator rather computes maximum-likelihood estimates of
+ * the differences {@code A \ B} and {@code B \ A} directly from the register pairs. Given the
+ * registers of sketch B, the registers of the union sketch only depend on the elements of {@code A
+ * \ B}. Every register bit that is known for the union and that is known to be zero for B is
+ * therefore an observation of the corresponding bit of a sketch that would only contain {@code A \
+ * B}. The resulting conditional likelihood has the same shape as the one used by the
+ * maximum-likelihood estimators of the sketches and can therefore be maximized using the same
+ * solver. As every bit that is known to be zero for the union is also known to be zero for B, all
+ * three likelihood functions share the same exponential term and only differ in the number of
+ * observed set bits. The intersection size is finally obtained by subtracting the sizes of both
+ * differences from the union size, which is equal to the maximum-likelihood estimate of the merged
+ * sketch.
+ *
+ * <p>All estimates are computed in a single pass over both register arrays. An instance reuses
+ * its internal buffers and does not allocate any memory as long as both sketches have the same
+ * precision. Instances are not thread-safe. Example:
+ *
+ * <pre>{@code
+ * SetOperationEstimator estimator = new SetOperationEstimator();
+ * estimator.estimate(sketch1, sketch2);
+ * double intersectionSize = estimator.getIntersectionSizeEstimate();
+ * double jaccardSimilarity = estimator.getJaccardSimilarityEstimate();
+ * }</pre>
+ */
+public final class SetOperationEstimator {
+
+  private static final int NUM_REGISTER_VALUES = 256;
+
+  // the bits of the hash prefix that are known from a non-zero UltraLogLog register relative to its
+  // most significant set bit, aligned to the most significant bit
+  private static final long KNOWN_BITS_PATTERN = 0xE000000000000000L;
+
+  private final int[] unionRegisterHistogram = new int[NUM_REGISTER_VALUES];
+  private final int[] unionB = new int[64];
+  private final int[] firstMinusSecondB = new int[64];
+  private final int[] secondMinusFirstB = new int[64];
+
+  private double unionSize;
+  private double firstMinusSecondSize;
+  private double secondMinusFirstSize;
+
+  /** Creates a new set operation estimator. */
+  public SetOperationEstimator() {
+    // nothing to do here
+  }
+
+  /**
+   * Computes the set operation estimates for the sets represented by the given {@link UltraLogLog}
+   * sketches.
+   *
+   * <p>If the precisions of the sketches differ, the sketch with the larger precision is
+   * downsized first.
+   *
+   * @param sketch1 the sketch representing the first set
+   * @param sketch2 the sketch representing the second set
+   * @return this estimator
+   * @throws NullPointerException if one of the arguments is null
+   */
+  public SetOperationEstimator estimate(UltraLogLog sketch1, UltraLogLog sketch2) {
+    requireNonNull(sketch1, "null argument");
+    requireNonNull(sketch2, "null argument");
+    int p = Math.min(sketch1.getP(), sketch2.getP());
+    byte[] state1 = ((sketch1.getP() == p) ? sketch1 : sketch1.downsize(p)).getState();
+    byte[] state2 = ((sketch2.getP() == p) ? sketch2 : sketch2.downsize(p)).getState();
+    reset();
+    final int[] histogram = unionRegisterHistogram;
+    final long validBits = -1L << (p - 1);
+    for (int i = 0; i < state1.length; ++i) {
+      byte r1 = state1[i];
+      byte r2 = state2[i];
+      if (r1 == r2) {
+        histogram[r1 & 0xff] += 1;
+        continue;
+      }
+      long hashPrefix1 = UltraLogLog.unpack(r1);
+      long hashPrefix2 = UltraLogLog.unpack(r2);
+      long unionHashPrefix = hashPrefix1 | hashPrefix2;
+      histogram[UltraLogLog.pack(unionHashPrefix) & 0xff] += 1;
+      // a set bit of the union is an observation for a difference, if the corresponding bit of
+      // the subtracted sketch is known to be zero
+      long unionKnownBits = getKnownBits(unionHashPrefix) & validBits;
+      addSetBits(
+          firstMinusSecondB, hashPrefix1 & unionKnownBits & getKnownZeroBits(hashPrefix2), p);
+      addSetBits(
+          secondMinusFirstB, hashPrefix2 & unionKnownBits & getKnownZeroBits(hashPrefix1), p);
+    }
+
+    long sum = 0;
+    for (int r = 0; r < NUM_REGISTER_VALUES; ++r) {
+      int count = histogram[r];
+      if (count != 0) {
+        sum += UltraLogLog.MaximumLikelihoodEstimator.contribute(r, count, unionB, p);
+      }
+    }
+    if (sum == 0) {
+      // all registers are either 0 or saturated
+      unionSize = (histogram[0] != 0) ? 0 : Double.POSITIVE_INFINITY;
+      firstMinusSecondSize = 0;
+      secondMinusFirstSize = 0;
+      return this;
+    }
+    unionSize = UltraLogLog.MaximumLikelihoodEstimator.estimate(p, sum, unionB);
+
+    int m = 1 << p;
+    double factor = m << 1;
+    double a = unsignedLongToDouble(sum) * factor * 0x1p-64;
+    double relativeErrorLimit =
+        UltraLogLog.MaximumLikelihoodEstimator.ML_EQUATION_SOLVER_EPS / Math.sqrt(m);
+    firstMinusSecondB[63 - p] += firstMinusSecondB[64 - p];
+    secondMinusFirstB[63 - p] += secondMinusFirstB[64 - p];
+    firstMinusSecondSize =
+        factor * solveMaximumLikelihoodEquation(a, firstMinusSecondB, 63 - p, relativeErrorLimit);
+    secondMinusFirstSize =
+        factor * solveMaximumLikelihoodEquation(a, secondMinusFirstB, 63 - p, relativeErrorLimit);
+    return this;
+  }
+
+  /**
+   * Computes the set operation estimates for the sets represented by the given {@link
+   * HyperLogLog} sketches.
+   *
+   * <p>If the precisions of the sketches differ, the sketch with the larger precision is
+   * downsized first.
+   *
+   * @param sketch1 the sketch representing the first set
+   * @param sketch2 the sketch representing the second set
+   * @return this estimator
+   * @throws NullPointerException if one of the arguments is null
+   */
+  public SetOperationEstimator estimate(HyperLogLog sketch1, HyperLogLog sketch2) {
+    requireNonNull(sketch1, "null argument");
+    requireNonNull(sketch2, "null argument");
+    int p = Math.min(sketch1.getP(), sketch2.getP());
+    byte[] state1 = ((sketch1.getP() == p) ? sketch1 : sketch1.downsize(p)).getState();
+    byte[] state2 = ((sketch2.getP() == p) ? sketch2 : sketch2.downsize(p)).getState();
+    reset();
+    final int[] histogram = unionRegisterHistogram;
+    // as HyperLogLog registers only store the most significant bit of the hash prefix, a register
+    // of the union is an observation of a set bit for the first difference, if and only if the
+    // register of the first sketch is greater than that of the second
+    for (int off = 0; off + 6 <= state1.length; off += 6) {
+      long s1 = toRegisters(state1, off);
+      long s2 = toRegisters(state2, off);
+      for (int k = 0; k < 48; k += 6) {
+        int r1 = (int) (s1 >>> k) & 0x3F;
+        int r2 = (int) (s2 >>> k) & 0x3F;
+        if (r1 > r2) {
+          histogram[r1] += 1;
+          firstMinusSecondB[r1] += 1;
+        } else {
+          histogram[r2] += 1;
+          if (r2 > r1) secondMinusFirstB[r2] += 1;
+        }
+      }
+    }
+
+    int m = 1 << p;
+    if (histogram[0] == m) {
+      unionSize = 0;
+      firstMinusSecondSize = 0;
+      secondMinusFirstSize = 0;
+      return this;
+    }
+    long agg = 0;
+    long inc = 1L << -p;
+    for (int r = 0; r <= 65 - p; ++r) {
+      agg += (inc >>> r) * histogram[r];
+    }
+    histogram[0] = 0;
+    histogram[64 - p] += histogram[65 - p];
+    firstMinusSecondB[64 - p] += firstMinusSecondB[65 - p];
+    secondMinusFirstB[64 - p] += secondMinusFirstB[65 - p];
+    double a = unsignedLongToDouble(agg) * m * 0x1p-64;
+    double relativeErrorLimit =
+        HyperLogLog.MaximumLikelihoodEstimator.ML_EQUATION_SOLVER_EPS / Math.sqrt(m);
+    unionSize =
+        m
+            * solveMaximumLikelihoodEquation(a, histogram, 64 - p, relativeErrorLimit)
+            / (1. + HyperLogLog.MaximumLikelihoodEstimator.ML_BIAS_CORRECTION_CONSTANT / m);
+    firstMinusSecondSize =
+        m * solveMaximumLikelihoodEquation(a, firstMinusSecondB, 64 - p, relativeErrorLimit);
+    secondMinusFirstSize =
+        m * solveMaximumLikelihoodEquation(a, secondMinusFirstB, 64 - p, relativeErrorLimit);
+    return this;
+  }
+
+  // returns the 8 registers stored in the 6 bytes starting at the given offset
+  private static long toRegisters(byte[] state, int off) {
+    return (HyperLogLog.getInt(state, off) & 0xFFFFFFFFL)
+        | ((long) (HyperLogLog.getInt(state, off + 2) >>> 16) << 32);
+  }
+
+  /**
+   * Returns the estimated size of the union of both sets.
+   *
+   * @return the estimated union size
+   */
+  public double getUnionSizeEstimate() {
+    return unionSize;
+  }
+
+  /**
+   * Returns the estimated size of the intersection of both sets.
+   *
+   * @return the estimated intersection size
+   */
+  public double getIntersectionSizeEstimate() {
+    return Math.max(0., unionSize - firstMinusSecondSize - secondMinusFirstSize);
+  }
+
+  /**
+   * Returns the estimated number of elements of the first set that are not contained in the second
+   * set.
+   *
+   * @return the estimated size of the difference of the first and the second set
+   */
+  public double getFirstMinusSecondSizeEstimate() {
+    return firstMinusSecondSize;
+  }
+
+  /**
+   * Returns the estimated number of elements of the second set that are not contained in the first
+   * set.
+   *
+   * @return the estimated size of the difference of the second and the first set
+   */
+  public double getSecondMinusFirstSizeEstimate() {
+    return secondMinusFirstSize;
+  }
+
+  /**
+   * Returns the estimated size of the first set that is consistent with the other estimates.
+   *
+   * @return the estimated size of the first set
+   */
+  public double getFirstSizeEstimate() {
+    return Math.max(0., unionSize - secondMinusFirstSize);
+  }
+
+  /**
+   * Returns the estimated size of the second set that is consistent with the other estimates.
+   *
+   * @return the estimated size of the second set
+   */
+  public double getSecondSizeEstimate() {
+    return Math.max(0., unionSize - firstMinusSecondSize);
+  }
+
+  /**
+   * Returns the estimated Jaccard similarity of both sets, which is the ratio of the intersection
+   * and the union size.
+   *
+   * <p>If both sets are estimated to be empty, 0 is returned.
+   *
+   * @return the estimated Jaccard similarity in the range [0, 1]
+   */
+  public double getJaccardSimilarityEstimate() {
+    if (unionSize <= 0.) return 0.;
+    return Math.min(1., getIntersectionSizeEstimate() / unionSize);
+  }
+
+  private void reset() {
+    Arrays.fill(unionRegisterHistogram, 0);
+    Arrays.fill(unionB, 0);
+    Arrays.fill(firstMinusSecondB, 0);
+    Arrays.fill(secondMinusFirstB, 0);
+  }
+
+  // returns a mask of all bits of the hash prefix that are known from a non-zero UltraLogLog
+  // register
+  private static long getKnownBits(long hashPrefix) {
+    int nlz = Long.numberOfLeadingZeros(hashPrefix);
+    return ~(-1L >>> nlz) | (KNOWN_BITS_PATTERN >>> nlz);
+  }
+
+  // returns a mask of all bits of the hash prefix that are known to be zero from the UltraLogLog
+  // register
+  private static long getKnownZeroBits(long hashPrefix) {
+    if (hashPrefix == 0) return -1L;
+    return getKnownBits(hashPrefix) & ~hashPrefix;
+  }
+
+  // the hash prefix bit with index i in the range [p-1, 63] corresponds to b[i - p + 1] as used by
+  // the maximum-likelihood estimator of UltraLogLog
+  private static void addSetBits(int[] b, long setBits, int p) {
+    while (setBits != 0) {
+      int i = Long.numberOfTrailingZeros(setBits);
+      b[i + 1 - p] += 1;
+      setBits &= setBits - 1;
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Allocates or memory-maps the off-heap chunks that hold the registers of UltraLogLogArray and
+// HyperLogLogArray.
+//
+// A file starts with a header of 8 bytes [version, sketch type, p, 0, number of sketches (4 bytes,
+// little-endian)] followed by the registers of all sketches exactly as returned by getState().
+final class SketchArrayStorage {
+
+  private SketchArrayStorage() {}
+
+  static final int LOG2_MAX_CHUNK_SIZE = 30;
+
+  static final int TYPE_ULTRALOGLOG = 0;
+  static final int TYPE_HYPERLOGLOG = 1;
+
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 8;
+
+  static ByteBuffer[] allocate(int numSketches, int sketchSize, int log2SketchesPerChunk) {
+    int sketchesPerChunk = 1 << log2SketchesPerChunk;
+    ByteBuffer[] chunks = new ByteBuffer[getNumChunks(numSketches, log2SketchesPerChunk)];
+    for (int i = 0; i < chunks.length; ++i) {
+      int numSketchesInChunk = Math.min(sketchesPerChunk, numSketches - i * sketchesPerChunk);
+      chunks[i] =
+          ByteBuffer.allocateDirect(numSketchesInChunk * sketchSize).order(ByteOrder.LITTLE_ENDIAN);
+    }
+    return chunks;
+  }
+
+  // in-process locks per canonical file path, which are never removed; file locks are held on
+  // behalf of the whole JVM, and locking a file that is already locked by another thread of the
+  // same JVM throws an OverlappingFileLockException instead of waiting
+  private static final ConcurrentHashMap<Path, Object> IN_PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+  private static final OpenOption[] OPEN_OPTIONS = {
+    StandardOpenOption.READ, StandardOpenOption.WRITE
+  };
+  private static final OpenOption[] CREATE_OPEN_OPTIONS = {
+    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE
+  };
+
+  interface LockedFileFunction<T> {
+    T apply(FileChannel channel) throws IOException;
+  }
+
+  // opens the given file, which is created if it does not exist and create is set, and applies the
+  // given function while holding an exclusive lock on the file
+  //
+  // threads of the same process are serialized by an in-process lock, processes by a file lock
+  static <T> T withLock(Path file, boolean create, LockedFileFunction<T> function)
+      throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(file, create ? CREATE_OPEN_OPTIONS : OPEN_OPTIONS)) {
+      Object inProcessLock = IN_PROCESS_LOCKS.computeIfAbsent(file.toRealPath(), k -> new Object());
+      synchronized (inProcessLock) {
+        FileLock fileLock = channel.lock();
+        try {
+          return function.apply(channel);
+        } finally {
+          fileLock.release();
+        }
+      }
+    }
+  }
+
+  // maps the given file, which is created and initialized if it does not exist or is empty
+  //
+  // the file is locked while being initialized and validated, such that several threads and
+  // processes can map the same file concurrently
+  static ByteBuffer[] map(
+      Path file, int type, int p, int numSketches, int sketchSize, int log2SketchesPerChunk)
+      throws IOException {
+    return withLock(
+        file,
+        true,
+        channel -> map(channel, type, p, numSketches, sketchSize, log2SketchesPerChunk));
+  }
+
+  // maps the file of the given channel, which must be locked, and initializes it if it is empty
+  static ByteBuffer[] map(
+      FileChannel channel,
+      int type,
+      int p,
+      int numSketches,
+      int sketchSize,
+      int log2SketchesPerChunk)
+      throws IOException {
+    long fileSize = HEADER_SIZE + (long) numSketches * sketchSize;
+    if (channel.size() == 0) {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      header.put(0, (byte) VERSION);
+      header.put(1, (byte) type);
+      header.put(2, (byte) p);
+      header.putInt(4, numSketches);
+      channel.write(header, 0);
+      // writing the last byte extends the file, the registers in between are read as zeros
+      channel.write(ByteBuffer.allocate(1), fileSize - 1);
+    } else {
+      ByteBuffer header = readHeader(channel, type);
+      if (header.get(2) != p || header.getInt(4) != numSketches) {
+        throw new IllegalArgumentException("incompatible file!");
+      }
+    }
+    if (channel.size() != fileSize) {
+      throw new IllegalArgumentException("unexpected file size!");
+    }
+    int sketchesPerChunk = 1 << log2SketchesPerChunk;
+    long chunkSize = (long) sketchesPerChunk * sketchSize;
+    ByteBuffer[] chunks = new ByteBuffer[getNumChunks(numSketches, log2SketchesPerChunk)];
+    for (int i = 0; i < chunks.length; ++i) {
+      int numSketchesInChunk = Math.min(sketchesPerChunk, numSketches - i * sketchesPerChunk);
+      chunks[i] =
+          channel
+              .map(
+                  FileChannel.MapMode.READ_WRITE,
+                  HEADER_SIZE + i * chunkSize,
+                  (long) numSketchesInChunk * sketchSize)
+              .order(ByteOrder.LITTLE_ENDIAN);
+    }
+    return chunks;
+  }
+
+  // returns the header of the file of the given channel with byte 2 holding the precision parameter
+  // and bytes 4 to 7 holding the number of sketches
+  static ByteBuffer readHeader(FileChannel channel, int type) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    if (channel.read(header, 0) != HEADER_SIZE) {
+      throw new IllegalArgumentException("invalid file format!");
+    }
+    if (header.get(0) != VERSION) {
+      throw new IllegalArgumentException("unsupported file version!");
+    }
+    if (header.get(1) != type) {
+      throw new IllegalArgumentException("unexpected sketch type!");
+    }
+    return header;
+  }
+
+  private static int getNumChunks(int numSketches, int log2SketchesPerChunk) {
+    return (int) ((numSketches + (1L << log2SketchesPerChunk) - 1) >>> log2SketchesPerChunk);
+  }
+}
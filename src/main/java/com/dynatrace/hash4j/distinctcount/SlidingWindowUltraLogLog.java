@@ -0,0 +1,362 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A distinct counter for sliding windows based on {@link UltraLogLog}.
+ *
+ * <p>Every element is added together with a timestamp. The sketch allows to estimate the number of
+ * distinct elements that were added with a timestamp not smaller than any given window start. For
+ * that purpose, instead of a single register value, the sketch remembers for each register and for
+ * each bit of the hash prefix the latest timestamp at which this bit was set, similar to the
+ * approach described in <a href="https://doi.org/10.1109/ICUMT.2010.5676597">Yousra Chabchoub and
+ * Georges Hébrail, Sliding HyperLogLog: Estimating cardinality in a data stream over a sliding
+ * window, 2010</a>. Bits that cannot contribute to the register value of any window, because a bit
+ * more than two positions higher was set at the same time or later, are dropped, so that only a
+ * few entries need to be kept per register.
+ *
+ * <p>A window query computes the corresponding {@link UltraLogLog} state in a single pass over the
+ * registers, and estimates are obtained with the usual {@link UltraLogLog} estimators. No merging
+ * of several sketches is required.
+ *
+ * <p>Timestamps can be given in any unit, but must be in the range {@code [0, 2^57)}. They do not
+ * need to be monotonic. The timestamps of all entries are kept until they are explicitly removed
+ * using {@link #removeOlderThan(long)}.
+ */
+public final class SlidingWindowUltraLogLog {
+
+  private static final long[] EMPTY_ENTRIES = new long[0];
+
+  // an entry consists of a timestamp in the upper 58 bits and the bit index in the lower 6 bits
+  private static final int BIT_INDEX_SIZE = 6;
+  private static final long BIT_INDEX_MASK = (1L << BIT_INDEX_SIZE) - 1;
+
+  // a register holds at most one entry per bit index, hence at most 65 - p <= 62 entries, and the
+  // entries of a register are stored in a block of the shared entries array whose capacity is a
+  // power of two in {1, 2, 4, ..., 64}
+  private static final int NUM_CAPACITY_CLASSES = 7;
+  private static final int MIN_ENTRIES_LENGTH = 64;
+  private static final int NO_FREE_BLOCK = -1;
+
+  /** The maximum allowed timestamp. */
+  public static final long MAX_TIMESTAMP = Long.MAX_VALUE >>> BIT_INDEX_SIZE;
+
+  private final int p;
+
+  // the entries of register i are stored in entries[offsets[i]] to
+  // entries[offsets[i] + numEntries[i] - 1], the block has a capacity of capacities[i] entries
+  private final int[] offsets;
+  private final byte[] numEntries;
+  private final byte[] capacities;
+  private long[] entries;
+  private int entriesSize;
+
+  // released blocks are reused for registers of the same capacity, the first element of a free
+  // block contains the offset of the next free block of the same capacity
+  private final int[] freeBlocks = new int[NUM_CAPACITY_CLASSES];
+
+  private SlidingWindowUltraLogLog(int p) {
+    this.p = p;
+    this.offsets = new int[1 << p];
+    this.numEntries = new byte[1 << p];
+    this.capacities = new byte[1 << p];
+    this.entries = EMPTY_ENTRIES;
+    this.entriesSize = 0;
+    Arrays.fill(freeBlocks, NO_FREE_BLOCK);
+  }
+
+  /**
+   * Creates an empty {@link SlidingWindowUltraLogLog} sketch with given precision.
+   *
+   * <p>The precision parameter {@code p} must be in the range {@code {3, 4, 5, ..., 25, 26}}.
+   *
+   * @param p the precision parameter
+   * @return the new sketch
+   * @throws IllegalArgumentException if the precision parameter is invalid
+   */
+  public static SlidingWindowUltraLogLog create(int p) {
+    checkPrecisionParameter(p, UltraLogLog.MIN_P, UltraLogLog.MAX_P);
+    return new SlidingWindowUltraLogLog(p);
+  }
+
+  /**
+   * Returns the precision parameter of this sketch.
+   *
+   * @return the precision parameter
+   */
+  public int getP() {
+    return p;
+  }
+
+  private static void checkTimestamp(long timestamp) {
+    if (timestamp < 0 || timestamp > MAX_TIMESTAMP) {
+      throw new IllegalArgumentException("illegal timestamp");
+    }
+  }
+
+  private static long getTimestamp(long entry) {
+    return entry >>> BIT_INDEX_SIZE;
+  }
+
+  private static int getBitIndex(long entry) {
+    return (int) (entry & BIT_INDEX_MASK);
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value with the given timestamp to this sketch.
+   *
+   * <p>In order to get good estimates, it is important that the hash value is calculated using a
+   * high-quality hash algorithm.
+   *
+   * @param hashValue a 64-bit hash value
+   * @param timestamp the timestamp
+   * @return this sketch
+   * @throws IllegalArgumentException if the timestamp is out of range
+   */
+  public SlidingWindowUltraLogLog add(long hashValue, long timestamp) {
+    checkTimestamp(timestamp);
+    int idx = (int) (hashValue >>> -p);
+    int nlz = Long.numberOfLeadingZeros(~(~hashValue << p)); // nlz in {0, 1, ..., 64-p}
+    int bitIndex = nlz + p - 1; // in {p-1, ..., 63}, as in UltraLogLog
+    int offset = offsets[idx];
+    int end = offset + numEntries[idx];
+    long[] entries = this.entries;
+
+    int numRemoved = 0;
+    int sameBitIndexPos = -1;
+    for (int i = offset; i < end; ++i) {
+      long entry = entries[i];
+      int otherBitIndex = getBitIndex(entry);
+      long otherTimestamp = getTimestamp(entry);
+      if (otherBitIndex > bitIndex + 2) {
+        if (otherTimestamp >= timestamp) return this; // new entry would be dominated
+      } else if (otherBitIndex == bitIndex) {
+        if (otherTimestamp >= timestamp) return this; // entry is already up-to-date
+        sameBitIndexPos = i;
+      } else if (otherBitIndex < bitIndex - 2 && otherTimestamp <= timestamp) {
+        numRemoved += 1; // entry will be dominated by the new one
+      }
+    }
+
+    long newEntry = (timestamp << BIT_INDEX_SIZE) | bitIndex;
+    if (sameBitIndexPos >= 0) {
+      if (numRemoved == 0) {
+        entries[sameBitIndexPos] = newEntry;
+        return this;
+      }
+    } else if (numRemoved == 0 && end - offset == capacities[idx]) {
+      // the block is full, move the entries to a block with twice the capacity
+      offset = moveBlock(idx, Math.max(capacities[idx] << 1, 1));
+      end = offset + numEntries[idx];
+      entries = this.entries;
+    }
+    int j = offset;
+    for (int i = offset; i < end; ++i) {
+      long entry = entries[i];
+      int otherBitIndex = getBitIndex(entry);
+      if (otherBitIndex != bitIndex
+          && !(otherBitIndex < bitIndex - 2 && getTimestamp(entry) <= timestamp)) {
+        entries[j++] = entry;
+      }
+    }
+    entries[j++] = newEntry;
+    numEntries[idx] = (byte) (j - offset);
+    return this;
+  }
+
+  // moves the entries of the given register to a new block with given capacity, releases the old
+  // block, and returns the offset of the new block
+  private int moveBlock(int idx, int newCapacity) {
+    int newOffset = allocateBlock(newCapacity);
+    int oldOffset = offsets[idx];
+    System.arraycopy(entries, oldOffset, entries, newOffset, numEntries[idx]);
+    releaseBlock(oldOffset, capacities[idx]);
+    offsets[idx] = newOffset;
+    capacities[idx] = (byte) newCapacity;
+    return newOffset;
+  }
+
+  private int allocateBlock(int capacity) {
+    int capacityClass = Integer.numberOfTrailingZeros(capacity);
+    int offset = freeBlocks[capacityClass];
+    if (offset != NO_FREE_BLOCK) {
+      freeBlocks[capacityClass] = (int) entries[offset];
+      return offset;
+    }
+    offset = entriesSize;
+    entriesSize += capacity;
+    if (entriesSize > entries.length) {
+      int newLength = Math.max(Math.max(entries.length << 1, entriesSize), MIN_ENTRIES_LENGTH);
+      entries = Arrays.copyOf(entries, newLength);
+    }
+    return offset;
+  }
+
+  private void releaseBlock(int offset, int capacity) {
+    if (capacity == 0) return;
+    int capacityClass = Integer.numberOfTrailingZeros(capacity);
+    entries[offset] = freeBlocks[capacityClass];
+    freeBlocks[capacityClass] = offset;
+  }
+
+  /**
+   * Adds a new element represented by a 32-bit token obtained from {@link
+   * UltraLogLog#computeToken(long)} with the given timestamp to this sketch.
+   *
+   * @param token a 32-bit hash token
+   * @param timestamp the timestamp
+   * @return this sketch
+   * @throws IllegalArgumentException if the timestamp is out of range
+   */
+  public SlidingWindowUltraLogLog addToken(int token, long timestamp) {
+    return add(DistinctCountUtil.reconstructHash1(token), timestamp);
+  }
+
+  /**
+   * Returns an {@link UltraLogLog} sketch representing all elements that have been added with a
+   * timestamp greater than or equal to the given window start.
+   *
+   * <p>The returned sketch does not share any state with this sketch.
+   *
+   * @param windowStart the start of the window (inclusive)
+   * @return the UltraLogLog sketch
+   */
+  public UltraLogLog getWindow(long windowStart) {
+    byte[] state = new byte[offsets.length];
+    for (int i = 0; i < offsets.length; ++i) {
+      state[i] = getRegister(i, windowStart);
+    }
+    return UltraLogLog.wrap(state);
+  }
+
+  private byte getRegister(int idx, long windowStart) {
+    long hashPrefix = 0;
+    int offset = offsets[idx];
+    int end = offset + numEntries[idx];
+    for (int i = offset; i < end; ++i) {
+      long entry = entries[i];
+      if (getTimestamp(entry) >= windowStart) {
+        hashPrefix |= 1L << getBitIndex(entry);
+      }
+    }
+    return (hashPrefix != 0) ? UltraLogLog.pack(hashPrefix) : 0;
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements that have been added with a timestamp
+   * greater than or equal to the given window start.
+   *
+   * @param windowStart the start of the window (inclusive)
+   * @return estimated number of distinct elements
+   */
+  public double getDistinctCountEstimate(long windowStart) {
+    return getDistinctCountEstimate(windowStart, UltraLogLog.DEFAULT_ESTIMATOR);
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements that have been added with a timestamp
+   * greater than or equal to the given window start using the given estimator.
+   *
+   * @param windowStart the start of the window (inclusive)
+   * @param estimator the estimator
+   * @return estimated number of distinct elements
+   * @throws NullPointerException if the estimator is null
+   */
+  public double getDistinctCountEstimate(long windowStart, UltraLogLog.Estimator estimator) {
+    requireNonNull(estimator, "null argument");
+    if (estimator instanceof UltraLogLog.RegisterHistogramEstimator) {
+      // avoids materializing the window state
+      int[] registerHistogram = new int[256];
+      for (int i = 0; i < offsets.length; ++i) {
+        registerHistogram[getRegister(i, windowStart) & 0xFF] += 1;
+      }
+      return ((UltraLogLog.RegisterHistogramEstimator) estimator).estimate(p, registerHistogram);
+    }
+    return getWindow(windowStart).getDistinctCountEstimate(estimator);
+  }
+
+  /**
+   * Removes all information about elements with a timestamp smaller than the given one.
+   *
+   * <p>This releases memory but does not change the result of queries with a window start that is
+   * greater than or equal to the given timestamp.
+   *
+   * @param timestamp the timestamp
+   * @return this sketch
+   */
+  public SlidingWindowUltraLogLog removeOlderThan(long timestamp) {
+    // compact the retained entries into a new array, using the smallest sufficient block capacity
+    // for each register
+    int newEntriesSize = 0;
+    boolean removed = false;
+    for (int i = 0; i < offsets.length; ++i) {
+      int offset = offsets[i];
+      int end = offset + numEntries[i];
+      int numRetained = 0;
+      for (int k = offset; k < end; ++k) {
+        if (getTimestamp(entries[k]) >= timestamp) numRetained += 1;
+      }
+      removed |= numRetained < end - offset;
+      newEntriesSize += getMinCapacity(numRetained);
+    }
+    if (!removed) return this;
+    long[] newEntries = (newEntriesSize == 0) ? EMPTY_ENTRIES : new long[newEntriesSize];
+    int newOffset = 0;
+    for (int i = 0; i < offsets.length; ++i) {
+      int offset = offsets[i];
+      int end = offset + numEntries[i];
+      int j = newOffset;
+      for (int k = offset; k < end; ++k) {
+        long entry = entries[k];
+        if (getTimestamp(entry) >= timestamp) newEntries[j++] = entry;
+      }
+      int numRetained = j - newOffset;
+      int capacity = getMinCapacity(numRetained);
+      offsets[i] = newOffset;
+      numEntries[i] = (byte) numRetained;
+      capacities[i] = (byte) capacity;
+      newOffset += capacity;
+    }
+    entries = newEntries;
+    entriesSize = newEntriesSize;
+    Arrays.fill(freeBlocks, NO_FREE_BLOCK);
+    return this;
+  }
+
+  private static int getMinCapacity(int numEntries) {
+    return (numEntries == 0) ? 0 : Integer.highestOneBit((numEntries << 1) - 1);
+  }
+
+  /**
+   * Resets this sketch to its initial state representing an empty set.
+   *
+   * @return this sketch
+   */
+  public SlidingWindowUltraLogLog reset() {
+    Arrays.fill(offsets, 0);
+    Arrays.fill(numEntries, (byte) 0);
+    Arrays.fill(capacities, (byte) 0);
+    entries = EMPTY_ENTRIES;
+    entriesSize = 0;
+    Arrays.fill(freeBlocks, NO_FREE_BLOCK);
+    return this;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+// package-private interface to unify method names and to simplify testing
+interface SparseDistinctCounter<
+    S extends SparseDistinctCounter<S, T, R>,
+    T extends DistinctCounter<T, R>,
+    R extends DistinctCounter.Estimator<T>> {
+
+  /**
+   * Returns the precision parameter of this sketch.
+   *
+   * @return the precision parameter
+   */
+  int getP();
+
+  /**
+   * Returns {@code true} if this sketch is still in sparse mode.
+   *
+   * @return {@code true} if this sketch is in sparse mode
+   */
+  boolean isSparse();
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch.
+   *
+   * @param hashValue a 64-bit hash value
+   * @return this sketch
+   */
+  S add(long hashValue);
+
+  /**
+   * Adds a new element represented by a 32-bit token obtained from {@code computeToken(long)}.
+   *
+   * @param token a 32-bit hash token
+   * @return this sketch
+   */
+  S addToken(int token);
+
+  /**
+   * Adds another sparse sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  S add(S other);
+
+  /**
+   * Adds a dense sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown. This sketch
+   * switches to the dense representation.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  S add(T other);
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch.
+   *
+   * @return estimated number of distinct elements
+   */
+  double getDistinctCountEstimate();
+
+  /**
+   * Creates a copy of this sketch.
+   *
+   * @return the copy
+   */
+  S copy();
+
+  /**
+   * Resets this sketch to its initial state representing an empty set.
+   *
+   * @return this sketch
+   */
+  S reset();
+}
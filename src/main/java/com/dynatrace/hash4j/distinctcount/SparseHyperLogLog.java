@@ -0,0 +1,197 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+
+/**
+ * An {@link HyperLogLog} sketch that starts with a sparse representation.
+ *
+ * <p>As long as only a few distinct elements have been added, the sketch keeps the 32-bit tokens
+ * obtained from {@link HyperLogLog#computeToken(long)} in a compact, sorted list instead of
+ * allocating the full register array of {@code 6 * 2^p} bits. Once the tokens would need more
+ * space than the registers, the sketch switches transparently to the dense representation. This
+ * is useful if many sketches are kept in memory, but most of them only see a small number of
+ * distinct elements.
+ *
+ * <p>In sparse mode, estimates are computed directly from the tokens, which are more precise than
+ * the registers. The final state of the dense representation does not depend on when the switch
+ * happened.
+ */
+public final class SparseHyperLogLog
+    extends AbstractSparseDistinctCounter<SparseHyperLogLog, HyperLogLog, HyperLogLog.Estimator> {
+
+  private SparseHyperLogLog(int p) {
+    super(p);
+  }
+
+  private SparseHyperLogLog(SparseHyperLogLog other) {
+    super(other);
+  }
+
+  // the sparse representation must not take more space than the 6 * 2^p bits of the registers
+  @Override
+  int getMaxNumTokens(int p) {
+    return (3 << p) >>> 4;
+  }
+
+  @Override
+  HyperLogLog createDense(int p) {
+    return HyperLogLog.create(p);
+  }
+
+  @Override
+  int computeToken(long hashValue) {
+    return HyperLogLog.computeToken(hashValue);
+  }
+
+  /**
+   * Creates an empty {@link SparseHyperLogLog} sketch with given precision.
+   *
+   * <p>The precision parameter {@code p} must be in the range {@code {3, 4, 5, ..., 25, 26}}. The
+   * dense representation, which is a byte array of length {@code 6 * 2^p / 8}, is allocated only
+   * when needed.
+   *
+   * @param p the precision parameter
+   * @return the new sketch
+   * @throws IllegalArgumentException if the precision parameter is invalid
+   */
+  public static SparseHyperLogLog create(int p) {
+    checkPrecisionParameter(p, HyperLogLog.MIN_P, HyperLogLog.MAX_P);
+    return new SparseHyperLogLog(p);
+  }
+
+  /**
+   * Returns the precision parameter of this sketch.
+   *
+   * @return the precision parameter
+   */
+  @Override
+  public int getP() {
+    return super.getP();
+  }
+
+  /**
+   * Returns {@code true} if this sketch is still in sparse mode.
+   *
+   * @return {@code true} if this sketch is in sparse mode
+   */
+  @Override
+  public boolean isSparse() {
+    return super.isSparse();
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch.
+   *
+   * <p>In order to get good estimates, it is important that the hash value is calculated using a
+   * high-quality hash algorithm.
+   *
+   * @param hashValue a 64-bit hash value
+   * @return this sketch
+   */
+  @Override
+  public SparseHyperLogLog add(long hashValue) {
+    return super.add(hashValue);
+  }
+
+  /**
+   * Adds a new element represented by a 32-bit token obtained from {@link
+   * HyperLogLog#computeToken(long)}.
+   *
+   * @param token a 32-bit hash token
+   * @return this sketch
+   */
+  @Override
+  public SparseHyperLogLog addToken(int token) {
+    return super.addToken(token);
+  }
+
+  /**
+   * Adds another sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  @Override
+  public SparseHyperLogLog add(SparseHyperLogLog other) {
+    return super.add(other);
+  }
+
+  /**
+   * Adds an {@link HyperLogLog} sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown. This sketch
+   * switches to the dense representation.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  @Override
+  public SparseHyperLogLog add(HyperLogLog other) {
+    return super.add(other);
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch.
+   *
+   * @return estimated number of distinct elements
+   */
+  @Override
+  public double getDistinctCountEstimate() {
+    return super.getDistinctCountEstimate();
+  }
+
+  /**
+   * Returns an {@link HyperLogLog} sketch with the same state as the dense representation of this
+   * sketch.
+   *
+   * <p>The returned sketch is a copy and does not share any state with this sketch.
+   *
+   * @return the dense sketch
+   */
+  public HyperLogLog toHyperLogLog() {
+    return toDense();
+  }
+
+  /**
+   * Creates a copy of this sketch.
+   *
+   * @return the copy
+   */
+  @Override
+  public SparseHyperLogLog copy() {
+    return new SparseHyperLogLog(this);
+  }
+
+  /**
+   * Resets this sketch to its initial state representing an empty set.
+   *
+   * <p>The memory of the dense representation is released.
+   *
+   * @return this sketch
+   */
+  @Override
+  public SparseHyperLogLog reset() {
+    return super.reset();
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+
+/**
+ * An {@link UltraLogLog} sketch that starts with a sparse representation.
+ *
+ * <p>As long as only a few distinct elements have been added, the sketch keeps the 32-bit tokens
+ * obtained from {@link UltraLogLog#computeToken(long)} in a compact, sorted list instead of
+ * allocating the full register array of size {@code 2^p}. Once the tokens would need more space
+ * than the registers, the sketch switches transparently to the dense representation. This is
+ * useful if many sketches are kept in memory, but most of them only see a small number of distinct
+ * elements.
+ *
+ * <p>In sparse mode, estimates are computed directly from the tokens, which are more precise than
+ * the registers. The final state of the dense representation does not depend on when the switch
+ * happened.
+ */
+public final class SparseUltraLogLog
+    extends AbstractSparseDistinctCounter<SparseUltraLogLog, UltraLogLog, UltraLogLog.Estimator> {
+
+  private SparseUltraLogLog(int p) {
+    super(p);
+  }
+
+  private SparseUltraLogLog(SparseUltraLogLog other) {
+    super(other);
+  }
+
+  // the sparse representation must not take more space than the 2^p bytes of the registers
+  @Override
+  int getMaxNumTokens(int p) {
+    return 1 << (p - 2);
+  }
+
+  @Override
+  UltraLogLog createDense(int p) {
+    return UltraLogLog.create(p);
+  }
+
+  @Override
+  int computeToken(long hashValue) {
+    return UltraLogLog.computeToken(hashValue);
+  }
+
+  /**
+   * Creates an empty {@link SparseUltraLogLog} sketch with given precision.
+   *
+   * <p>The precision parameter {@code p} must be in the range {@code {3, 4, 5, ..., 25, 26}}. The
+   * dense representation, which is a byte array of length {@code 2^p}, is allocated only when
+   * needed.
+   *
+   * @param p the precision parameter
+   * @return the new sketch
+   * @throws IllegalArgumentException if the precision parameter is invalid
+   */
+  public static SparseUltraLogLog create(int p) {
+    checkPrecisionParameter(p, UltraLogLog.MIN_P, UltraLogLog.MAX_P);
+    return new SparseUltraLogLog(p);
+  }
+
+  /**
+   * Returns the precision parameter of this sketch.
+   *
+   * @return the precision parameter
+   */
+  @Override
+  public int getP() {
+    return super.getP();
+  }
+
+  /**
+   * Returns {@code true} if this sketch is still in sparse mode.
+   *
+   * @return {@code true} if this sketch is in sparse mode
+   */
+  @Override
+  public boolean isSparse() {
+    return super.isSparse();
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch.
+   *
+   * <p>In order to get good estimates, it is important that the hash value is calculated using a
+   * high-quality hash algorithm.
+   *
+   * @param hashValue a 64-bit hash value
+   * @return this sketch
+   */
+  @Override
+  public SparseUltraLogLog add(long hashValue) {
+    return super.add(hashValue);
+  }
+
+  /**
+   * Adds a new element represented by a 32-bit token obtained from {@link
+   * UltraLogLog#computeToken(long)}.
+   *
+   * @param token a 32-bit hash token
+   * @return this sketch
+   */
+  @Override
+  public SparseUltraLogLog addToken(int token) {
+    return super.addToken(token);
+  }
+
+  /**
+   * Adds another sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  @Override
+  public SparseUltraLogLog add(SparseUltraLogLog other) {
+    return super.add(other);
+  }
+
+  /**
+   * Adds an {@link UltraLogLog} sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown. This sketch
+   * switches to the dense representation.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  @Override
+  public SparseUltraLogLog add(UltraLogLog other) {
+    return super.add(other);
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch.
+   *
+   * @return estimated number of distinct elements
+   */
+  @Override
+  public double getDistinctCountEstimate() {
+    return super.getDistinctCountEstimate();
+  }
+
+  /**
+   * Returns an {@link UltraLogLog} sketch with the same state as the dense representation of this
+   * sketch.
+   *
+   * <p>The returned sketch is a copy and does not share any state with this sketch.
+   *
+   * @return the dense sketch
+   */
+  public UltraLogLog toUltraLogLog() {
+    return toDense();
+  }
+
+  /**
+   * Creates a copy of this sketch.
+   *
+   * @return the copy
+   */
+  @Override
+  public SparseUltraLogLog copy() {
+    return new SparseUltraLogLog(this);
+  }
+
+  /**
+   * Resets this sketch to its initial state representing an empty set.
+   *
+   * <p>The memory of the dense representation is released.
+   *
+   * @return this sketch
+   */
+  @Override
+  public SparseUltraLogLog reset() {
+    return super.reset();
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import com.dynatrace.hash4j.distinctcount.DistinctCountUtil.TokenIterable;
+import com.dynatrace.hash4j.distinctcount.DistinctCountUtil.TokenIterator;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// package-private compact list of distinct hash tokens used for sparse representations
+final class TokenBuffer implements TokenIterable {
+
+  private static final int[] EMPTY_TOKENS = {};
+
+  private static final int MIN_CAPACITY = 4;
+
+  private final int maxCapacity;
+  private int[] tokens;
+  private int size;
+  private int sortedSize;
+
+  TokenBuffer(int maxCapacity) {
+    this.maxCapacity = maxCapacity;
+    this.tokens = EMPTY_TOKENS;
+  }
+
+  private TokenBuffer(TokenBuffer tokenBuffer) {
+    this.maxCapacity = tokenBuffer.maxCapacity;
+    this.tokens = Arrays.copyOf(tokenBuffer.tokens, tokenBuffer.tokens.length);
+    this.size = tokenBuffer.size;
+    this.sortedSize = tokenBuffer.sortedSize;
+  }
+
+  TokenBuffer copy() {
+    return new TokenBuffer(this);
+  }
+
+  /**
+   * Adds a token.
+   *
+   * <p>Returns {@code false} if the token could not be added, because the maximum capacity has
+   * been reached. In this case, the caller is expected to switch to a dense representation.
+   *
+   * @param token the token
+   * @return {@code true} if the token was added
+   */
+  boolean add(int token) {
+    if (size == tokens.length) {
+      compact();
+      // after compaction, more than a quarter of the capacity must be free to keep the amortized
+      // costs of sorting low
+      if (size >= tokens.length - (tokens.length >>> 2)) {
+        if (tokens.length >= maxCapacity) {
+          return false;
+        }
+        int newCapacity = Math.min(Math.max(tokens.length << 1, MIN_CAPACITY), maxCapacity);
+        tokens = Arrays.copyOf(tokens, newCapacity);
+      }
+    }
+    tokens[size] = token;
+    size += 1;
+    return true;
+  }
+
+  /** Sorts the tokens and removes duplicates. */
+  void compact() {
+    if (sortedSize == size) {
+      return;
+    }
+    Arrays.sort(tokens, 0, size);
+    int newSize = 0;
+    for (int i = 0; i < size; ++i) {
+      int token = tokens[i];
+      if (newSize == 0 || tokens[newSize - 1] != token) {
+        tokens[newSize] = token;
+        newSize += 1;
+      }
+    }
+    size = newSize;
+    sortedSize = newSize;
+  }
+
+  void forEach(IntConsumer consumer) {
+    for (int i = 0; i < size; ++i) {
+      consumer.accept(tokens[i]);
+    }
+  }
+
+  double getDistinctCountEstimate() {
+    compact();
+    return DistinctCountUtil.estimateDistinctCountFromTokens(this);
+  }
+
+  // the tokens must be compacted before iteration
+  @Override
+  public TokenIterator iterator() {
+    return new TokenIterator() {
+      private int idx = 0;
+
+      @Override
+      public boolean hasNext() {
+        return idx < size;
+      }
+
+      @Override
+      public int nextToken() {
+        return tokens[idx++];
+      }
+    };
+  }
+}
@@ -18,9 +18,16 @@ package com.dynatrace.hash4j.distinctcount;
 import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.*;
 import static java.lang.Math.pow;
 import static java.lang.Math.sqrt;
+import static java.util.Objects.checkFromIndexSize;
 import static java.util.Objects.requireNonNull;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * A sketch for approximate distinct counting that is more space efficient than HyperLogLog as
@@ -63,6 +70,12 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
   private static final int MIN_STATE_SIZE = 1 << MIN_P;
   private static final int MAX_STATE_SIZE = 1 << MAX_P;
 
+  private static final VarHandle LONG_HANDLE =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  // number of bytes merged in one go by merge(Collection), chosen to fit into the L1 cache
+  private static final int MERGE_BLOCK_SIZE = 1 << 12;
+
   private final byte[] state;
 
   private UltraLogLog(int p) {
@@ -158,6 +171,85 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     }
   }
 
+  /**
+   * Merges a collection of {@link UltraLogLog} sketches into a new sketch.
+   *
+   * <p>The precision of the merged sketch is given by the smallest precision of all sketches. The
+   * registers of all sketches with that precision are folded block by block into the resulting
+   * state, so that each block of the resulting state stays in cache while it is merged and no
+   * intermediate sketches are allocated. The given sketches are not modified.
+   *
+   * @param sketches the sketches
+   * @return the merged sketch
+   * @throws NullPointerException if the collection or one of its elements is null
+   * @throws IllegalArgumentException if the collection is empty
+   */
+  public static UltraLogLog merge(Collection<UltraLogLog> sketches) {
+    requireNonNull(sketches, "null argument");
+    int stateLength = MAX_STATE_SIZE;
+    for (UltraLogLog sketch : sketches) {
+      requireNonNull(sketch, "null argument");
+      stateLength = Math.min(stateLength, sketch.state.length);
+    }
+    if (sketches.isEmpty()) {
+      throw new IllegalArgumentException("no sketches given");
+    }
+    UltraLogLog result = new UltraLogLog(new byte[stateLength]);
+    List<byte[]> states = new ArrayList<>(sketches.size());
+    for (UltraLogLog sketch : sketches) {
+      if (sketch.state.length == stateLength) {
+        states.add(sketch.state);
+      } else {
+        result.add(sketch);
+      }
+    }
+    for (int from = 0; from < stateLength; from += MERGE_BLOCK_SIZE) {
+      int to = Math.min(from + MERGE_BLOCK_SIZE, stateLength);
+      for (byte[] otherState : states) {
+        mergeRegisters(result.state, otherState, from, to);
+      }
+    }
+    return result;
+  }
+
+  // merges the registers of the other state within the given range, which must be aligned to
+  // multiples of 8, into the given state
+  private static void mergeRegisters(byte[] state, byte[] otherState, int from, int to) {
+    for (int off = from; off < to; off += Long.BYTES) {
+      long otherWord = (long) LONG_HANDLE.get(otherState, off);
+      if (otherWord != 0) {
+        long word = (long) LONG_HANDLE.get(state, off);
+        LONG_HANDLE.set(state, off, mergeRegisters(word, otherWord));
+      }
+    }
+  }
+
+  // Merges 8 registers packed into a long at once, which is equivalent to applying
+  // pack(unpack(r1) | unpack(r2)) to each byte. Let u = r >>> 2 be the position of the leading
+  // one of the hash prefix and f = r & 3 the flags for the next two lower positions. The result
+  // of each byte is the register with larger u, into whose flags the leading one and the upper
+  // flag of the other register are shifted, if the difference d of both u values is at most 2.
+  //
+  // visible for testing
+  static long mergeRegisters(long word1, long word2) {
+    final long ones = 0x0101010101010101L;
+    final long highBits = 0x8080808080808080L;
+    long u1 = (word1 >>> 2) & 0x3F3F3F3F3F3F3F3FL;
+    long u2 = (word2 >>> 2) & 0x3F3F3F3F3F3F3F3FL;
+    long ge = (((((u1 | highBits) - u2) & highBits) >>> 7) * 0xFF); // 0xFF for bytes with u1 >= u2
+    long x = (word1 & ge) | (word2 & ~ge); // registers with larger u
+    long y = (word2 & ge) | (word1 & ~ge); // registers with smaller u
+    long d = ((((u1 & ge) | (u2 & ~ge)) | highBits) - ((u2 & ge) | (u1 & ~ge))) & ~highBits;
+    long fy = y & 0x0303030303030303L;
+    long isD0 = ((~((d | highBits) - ones) & highBits) >>> 7) * 0xFF;
+    long isD1 = ((~(((d ^ ones) | highBits) - ones) & highBits) >>> 7) * 0xFF;
+    long isD2 = ((~(((d ^ (ones << 1)) | highBits) - ones) & highBits) >>> 7) * 0xFF;
+    long isYNonZero = (((((y & ~highBits) + ~highBits) | y) & highBits) >>> 7) * 0xFF;
+    long shifted =
+        (isD0 & fy) | (isD1 & ((ones << 1) | ((fy >>> 1) & ones))) | (isD2 & ones);
+    return x | (shifted & isYNonZero);
+  }
+
   /**
    * Returns a reference to the internal state of this sketch.
    *
@@ -195,6 +287,35 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     return this;
   }
 
+  /**
+   * Adds new elements represented by 64-bit hash values to this sketch.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) add(hashValues[off + i]);}
+   *
+   * <p>This is faster than adding the hash values individually, as the quantities that only
+   * depend on the precision parameter are computed just once for the whole batch.
+   *
+   * @param hashValues an array of 64-bit hash values
+   * @param off the index of the first hash value
+   * @param len the number of hash values
+   * @return this sketch
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  @Override
+  public UltraLogLog add(long[] hashValues, int off, int len) {
+    checkFromIndexSize(off, len, hashValues.length);
+    final byte[] state = this.state;
+    final int q = Long.numberOfLeadingZeros(state.length - 1L); // q = 64 - p
+    final int end = off + len;
+    for (int i = off; i < end; ++i) {
+      long hashValue = hashValues[i];
+      int idx = (int) (hashValue >>> q);
+      int nlz = Long.numberOfLeadingZeros(~(~hashValue << -q)); // nlz in {0, 1, ..., 64-p}
+      state[idx] = pack(unpack(state[idx]) | (1L << (nlz + ~q)));
+    }
+    return this;
+  }
+
   /**
    * Adds a new element represented by a 32-bit token obtained from {@link #computeToken(long)}.
    *
@@ -261,6 +382,49 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     return this;
   }
 
+  /**
+   * Adds new elements represented by 64-bit hash values to this sketch and passes, whenever the
+   * internal state has changed, decrements of the state change probability to the given {@link
+   * StateChangeObserver}.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) add(hashValues[off + i],
+   * stateChangeObserver);}
+   *
+   * @param hashValues an array of 64-bit hash values
+   * @param off the index of the first hash value
+   * @param len the number of hash values
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  @Override
+  public UltraLogLog add(
+      long[] hashValues, int off, int len, StateChangeObserver stateChangeObserver) {
+    if (stateChangeObserver == null) {
+      return add(hashValues, off, len);
+    }
+    checkFromIndexSize(off, len, hashValues.length);
+    final byte[] state = this.state;
+    final int q = Long.numberOfLeadingZeros(state.length - 1L); // q = 64 - p
+    final int p = 64 - q;
+    final int end = off + len;
+    for (int i = off; i < end; ++i) {
+      long hashValue = hashValues[i];
+      int idx = (int) (hashValue >>> q);
+      int nlz = Long.numberOfLeadingZeros(~(~hashValue << -q)); // nlz in {0, 1, ..., 64-p}
+      byte oldState = state[idx];
+      byte newState = pack(unpack(oldState) | (1L << (nlz + ~q)));
+      if (newState != oldState) {
+        state[idx] = newState;
+        stateChangeObserver.stateChanged(
+            (getScaledRegisterChangeProbability(oldState, p)
+                    - getScaledRegisterChangeProbability(newState, p))
+                * 0x1p-64);
+      }
+    }
+    return this;
+  }
+
   /**
    * Adds a new element, represented by a 32-bit token obtained from {@link #computeToken(long)}, to
    * this sketch and passes, if the internal state has changed, decrements of the state change
@@ -295,12 +459,7 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     if (otherData.length < state.length) {
       throw new IllegalArgumentException("other has smaller precision");
     } else if (otherData.length == state.length) {
-      for (int i = 0; i < state.length; ++i) {
-        byte otherR = otherData[i];
-        if (otherR != 0) {
-          state[i] = pack(unpack(state[i]) | unpack(otherR));
-        }
-      }
+      mergeRegisters(state, otherData, 0, state.length);
     } else {
       final int p = getP();
       final int otherP = other.getP();
@@ -400,7 +559,13 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
   /** A distinct count estimator for UltraLogLog. */
   public interface Estimator extends DistinctCounter.Estimator<UltraLogLog> {}
 
-  private static final class MaximumLikelihoodEstimator implements Estimator {
+  // an estimator that is also able to compute the estimate from the register histogram, which
+  // holds the number of registers for each of the 256 possible register values
+  interface RegisterHistogramEstimator extends Estimator {
+    double estimate(int p, int[] registerHistogram);
+  }
+
+  static final class MaximumLikelihoodEstimator implements RegisterHistogramEstimator {
 
     // = sqrt(ln(2)/zeta(2,5/4))
     // where zeta is the Hurvitz zeta function,
@@ -410,7 +575,7 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     // https://www.wolframalpha.com/input?i=sqrt%28ln%282%29%2Fzeta%282%2C5%2F4%29%29
     private static final double INV_SQRT_FISHER_INFORMATION = 0.7608621002725182;
 
-    private static final double ML_EQUATION_SOLVER_EPS =
+    static final double ML_EQUATION_SOLVER_EPS =
         0.001 * INV_SQRT_FISHER_INFORMATION; // 0.1% of theoretical relative error
 
     // = 3/2 * ln(2) * zeta(3,5/4) / (zeta(2,5/4))^2
@@ -421,20 +586,20 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     // https://www.wolframalpha.com/input?i=3%2F2+*+ln%282%29+*+zeta%283%2C5%2F4%29%2F%28zeta%282%2C5%2F4%29%29%5E2
     private static final double ML_BIAS_CORRECTION_CONSTANT = 0.48147376527720065;
 
-    // returns contribution to alpha, scaled by 2^64
-    private static long contribute(int r, int[] b, int p) {
+    // returns contribution to alpha of count registers with value r, scaled by 2^64
+    static long contribute(int r, int count, int[] b, int p) {
       int r2 = r - (p << 2) - 4;
       if (r2 < 0) {
         long ret = 4L;
         if (r2 == -2 || r2 == -8) {
-          b[0] += 1;
+          b[0] += count;
           ret -= 2;
         }
         if (r2 == -2 || r2 == -4) {
-          b[1] += 1;
+          b[1] += count;
           ret -= 1;
         }
-        return ret << (62 - p);
+        return (ret << (62 - p)) * count;
       } else {
         int k = r2 >>> 2;
         long ret = 0xE000000000000000L;
@@ -442,31 +607,60 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
         int y1 = (r >>> 1) & 1;
         ret -= (long) y0 << 63;
         ret -= (long) y1 << 62;
-        b[k] += y0;
-        b[k + 1] += y1;
-        b[k + 2] += 1;
-        return ret >>> (k + p);
+        b[k] += y0 * count;
+        b[k + 1] += y1 * count;
+        b[k + 2] += count;
+        return (ret >>> (k + p)) * count;
       }
     }
 
     @Override
     public double estimate(UltraLogLog ultraLogLog) {
+      return estimate(ultraLogLog, new int[64]);
+    }
+
+    // the given array b of length 64 must be filled with zeros, it is modified
+    double estimate(UltraLogLog ultraLogLog, int[] b) {
 
       byte[] state = ultraLogLog.state;
       int p = ultraLogLog.getP();
 
       long sum = 0;
-      int[] b = new int[64];
       for (byte r : state) {
-        sum += contribute(r & 0xff, b, p);
+        sum += contribute(r & 0xff, 1, b, p);
       }
-      int m = state.length;
       if (sum == 0) {
         // sum can only be zero if either all registers are 0 or all registers are saturated
         // therefore, it is sufficient to check if the first byte of the state is zero or not to
         // distinguish both cases
         return (state[0] == 0) ? 0 : Double.POSITIVE_INFINITY;
       }
+      return estimate(p, sum, b);
+    }
+
+    @Override
+    public double estimate(int p, int[] registerHistogram) {
+      return estimate(p, registerHistogram, new int[64]);
+    }
+
+    // the given array b of length 64 must be filled with zeros, it is modified
+    double estimate(int p, int[] registerHistogram, int[] b) {
+      long sum = 0;
+      for (int r = 0; r < registerHistogram.length; ++r) {
+        int count = registerHistogram[r];
+        if (count != 0) {
+          sum += contribute(r, count, b, p);
+        }
+      }
+      if (sum == 0) {
+        // sum can only be zero if either all registers are 0 or all registers are saturated
+        return (registerHistogram[0] != 0) ? 0 : Double.POSITIVE_INFINITY;
+      }
+      return estimate(p, sum, b);
+    }
+
+    static double estimate(int p, long sum, int[] b) {
+      int m = 1 << p;
       b[63 - p] += b[64 - p];
       double factor = m << 1;
       double a = unsignedLongToDouble(sum) * factor * 0x1p-64;
@@ -478,7 +672,7 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     }
   }
 
-  static final class OptimalFGRAEstimator implements Estimator {
+  static final class OptimalFGRAEstimator implements RegisterHistogramEstimator {
 
     static final double ETA_0 = 4.663135422063788;
     static final double ETA_1 = 2.1378502137958524;
@@ -873,7 +1067,6 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     @Override
     public double estimate(UltraLogLog ultraLogLog) {
       final byte[] state = ultraLogLog.state;
-      final int m = state.length;
       final int p = ultraLogLog.getP();
 
       int c0 = 0;
@@ -905,7 +1098,48 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
           if (r == 255) c4w3 += 1;
         }
       }
+      return estimate(p, sum, c0, c4, c8, c10, c4w0, c4w1, c4w2, c4w3);
+    }
+
+    @Override
+    public double estimate(int p, int[] registerHistogram) {
+      int off = (p << 2) + 4;
+      int c0 = 0;
+      for (int r = 0; r < off - 8; ++r) {
+        c0 += registerHistogram[r];
+      }
+      double sum = 0;
+      for (int r = off; r < 252; ++r) {
+        int count = registerHistogram[r];
+        if (count != 0) {
+          sum += count * REGISTER_CONTRIBUTIONS[r - off];
+        }
+      }
+      return estimate(
+          p,
+          sum,
+          c0,
+          registerHistogram[off - 8],
+          registerHistogram[off - 4],
+          registerHistogram[off - 2],
+          registerHistogram[252],
+          registerHistogram[253],
+          registerHistogram[254],
+          registerHistogram[255]);
+    }
 
+    private static double estimate(
+        int p,
+        double sum,
+        int c0,
+        int c4,
+        int c8,
+        int c10,
+        int c4w0,
+        int c4w1,
+        int c4w2,
+        int c4w3) {
+      final int m = 1 << p;
       if (c0 > 0 || c4 > 0 || c8 > 0 || c10 > 0) {
         double z = smallRangeEstimate(c0, c4, c8, c10, m);
         if (c0 > 0) sum += calculateContribution0(c0, z);
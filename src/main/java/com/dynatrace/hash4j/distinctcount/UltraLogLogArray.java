@@ -0,0 +1,554 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A container for a fixed number of {@link UltraLogLog} sketches with the same precision, whose
+ * registers are stored contiguously in off-heap memory.
+ *
+ * <p>Holding millions of small {@link UltraLogLog} instances on the heap requires an object and a
+ * byte array per sketch, which increases the memory footprint and the garbage collection effort.
+ * This container stores all registers in direct {@link ByteBuffer}s of at most 1 GiB each and
+ * addresses the sketches by their index. Elements can be added, sketches can be merged, and
+ * estimates can be computed without creating any {@link UltraLogLog} instances.
+ *
+ * <p>The buffers can also be mapped from a file using {@link #map(Path, int, int)}, which makes the
+ * sketches persistent and allows them to be used directly after a restart without any
+ * deserialization.
+ *
+ * <p>This class is not thread-safe, unless it was created by {@link #mapShared(Path, int, int)} or
+ * {@link #mapShared(Path)}. In this case, registers are updated atomically using compare-and-set
+ * operations, which allows several threads or even several processes, that have mapped the same
+ * file, for example located in {@code /dev/shm}, to insert elements into the same sketches and to
+ * query estimates without any serialization.
+ */
+public final class UltraLogLogArray {
+
+  private static final VarHandle INT_HANDLE =
+      MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle LONG_HANDLE =
+      MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private final int p;
+  private final int numSketches;
+  private final int log2SketchesPerChunk;
+  private final ByteBuffer[] chunks;
+  private final boolean shared;
+
+  private UltraLogLogArray(
+      int p, int numSketches, int log2SketchesPerChunk, ByteBuffer[] chunks, boolean shared) {
+    this.p = p;
+    this.numSketches = numSketches;
+    this.log2SketchesPerChunk = log2SketchesPerChunk;
+    this.chunks = chunks;
+    this.shared = shared;
+  }
+
+  /**
+   * Creates a container of empty {@link UltraLogLog} sketches with given precision.
+   *
+   * <p>The precision parameter {@code p} must be in the range {@code {3, 4, 5, ..., 25, 26}}. Each
+   * sketch occupies {@code 2^p} bytes of off-heap memory.
+   *
+   * @param p the precision parameter
+   * @param numSketches the number of sketches
+   * @return the new container
+   * @throws IllegalArgumentException if the precision parameter is invalid or the number of
+   *     sketches is negative
+   */
+  public static UltraLogLogArray create(int p, int numSketches) {
+    checkPrecisionParameter(p, UltraLogLog.MIN_P, UltraLogLog.MAX_P);
+    return create(p, numSketches, SketchArrayStorage.LOG2_MAX_CHUNK_SIZE - p);
+  }
+
+  // visible for testing
+  static UltraLogLogArray create(int p, int numSketches, int log2SketchesPerChunk) {
+    if (numSketches < 0) {
+      throw new IllegalArgumentException("negative number of sketches");
+    }
+    return new UltraLogLogArray(
+        p,
+        numSketches,
+        log2SketchesPerChunk,
+        SketchArrayStorage.allocate(numSketches, 1 << p, log2SketchesPerChunk),
+        false);
+  }
+
+  /**
+   * Creates a container of {@link UltraLogLog} sketches that is backed by the given memory-mapped
+   * file.
+   *
+   * <p>If the file does not exist or is empty, it is created and initialized with empty sketches.
+   * Otherwise, it must have been created with the same precision parameter and number of sketches,
+   * and the sketches stored in the file are used without any deserialization. Changes are written
+   * back to the file by the operating system, {@link #force()} can be used to write them
+   * immediately.
+   *
+   * @param file the path of the file
+   * @param p the precision parameter
+   * @param numSketches the number of sketches
+   * @return the new container
+   * @throws IOException if an I/O error occurs
+   * @throws NullPointerException if the path is null
+   * @throws IllegalArgumentException if the precision parameter is invalid, the number of sketches
+   *     is negative, or the file is not compatible
+   */
+  public static UltraLogLogArray map(Path file, int p, int numSketches) throws IOException {
+    return map(file, p, numSketches, false);
+  }
+
+  /**
+   * Creates a container of {@link UltraLogLog} sketches that is backed by the given memory-mapped
+   * file and that can be shared with other threads and processes.
+   *
+   * <p>Works like {@link #map(Path, int, int)}, but registers are updated atomically. Hence, the
+   * returned container is thread-safe, and several processes can map the same file, which should
+   * be located in a memory-based file system like {@code /dev/shm} to avoid any disk I/O, and
+   * insert elements into the same sketches. Adding elements and sketches as well as merging and
+   * estimation can be performed concurrently. However, {@link #set(int, UltraLogLog)} and {@link
+   * #reset(int)} must not be called while the corresponding sketch is modified concurrently.
+   * Estimates and copies may or may not reflect insertions that happen concurrently.
+   *
+   * @param file the path of the file
+   * @param p the precision parameter
+   * @param numSketches the number of sketches
+   * @return the new container
+   * @throws IOException if an I/O error occurs
+   * @throws NullPointerException if the path is null
+   * @throws IllegalArgumentException if the precision parameter is invalid, the number of sketches
+   *     is negative, or the file is not compatible
+   */
+  public static UltraLogLogArray mapShared(Path file, int p, int numSketches) throws IOException {
+    return map(file, p, numSketches, true);
+  }
+
+  private static UltraLogLogArray map(Path file, int p, int numSketches, boolean shared)
+      throws IOException {
+    requireNonNull(file, "null argument");
+    checkPrecisionParameter(p, UltraLogLog.MIN_P, UltraLogLog.MAX_P);
+    if (numSketches < 0) {
+      throw new IllegalArgumentException("negative number of sketches");
+    }
+    int log2SketchesPerChunk = SketchArrayStorage.LOG2_MAX_CHUNK_SIZE - p;
+    return new UltraLogLogArray(
+        p,
+        numSketches,
+        log2SketchesPerChunk,
+        SketchArrayStorage.map(
+            file,
+            SketchArrayStorage.TYPE_ULTRALOGLOG,
+            p,
+            numSketches,
+            1 << p,
+            log2SketchesPerChunk),
+        shared);
+  }
+
+  /**
+   * Creates a container of {@link UltraLogLog} sketches that is backed by the given existing
+   * memory-mapped file, which was created using {@link #map(Path, int, int)}.
+   *
+   * @param file the path of the file
+   * @return the new container
+   * @throws IOException if an I/O error occurs
+   * @throws NullPointerException if the path is null
+   * @throws IllegalArgumentException if the file is not valid
+   */
+  public static UltraLogLogArray map(Path file) throws IOException {
+    return map(file, false);
+  }
+
+  /**
+   * Creates a container of {@link UltraLogLog} sketches that is backed by the given existing
+   * memory-mapped file and that can be shared with other threads and processes.
+   *
+   * <p>Works like {@link #map(Path)}, but registers are updated atomically as described for {@link
+   * #mapShared(Path, int, int)}.
+   *
+   * @param file the path of the file
+   * @return the new container
+   * @throws IOException if an I/O error occurs
+   * @throws NullPointerException if the path is null
+   * @throws IllegalArgumentException if the file is not valid
+   */
+  public static UltraLogLogArray mapShared(Path file) throws IOException {
+    return map(file, true);
+  }
+
+  private static UltraLogLogArray map(Path file, boolean shared) throws IOException {
+    requireNonNull(file, "null argument");
+    // the header is read under the same lock as used for mapping, to see a fully initialized file
+    return SketchArrayStorage.withLock(
+        file,
+        false,
+        channel -> {
+          ByteBuffer header =
+              SketchArrayStorage.readHeader(channel, SketchArrayStorage.TYPE_ULTRALOGLOG);
+          int p = header.get(2);
+          int numSketches = header.getInt(4);
+          if (p < UltraLogLog.MIN_P || p > UltraLogLog.MAX_P || numSketches < 0) {
+            throw new IllegalArgumentException("invalid file format!");
+          }
+          int log2SketchesPerChunk = SketchArrayStorage.LOG2_MAX_CHUNK_SIZE - p;
+          return new UltraLogLogArray(
+              p,
+              numSketches,
+              log2SketchesPerChunk,
+              SketchArrayStorage.map(
+                  channel,
+                  SketchArrayStorage.TYPE_ULTRALOGLOG,
+                  p,
+                  numSketches,
+                  1 << p,
+                  log2SketchesPerChunk),
+              shared);
+        });
+  }
+
+  /**
+   * Forces any changes to be written to the underlying file, if this container was created by
+   * {@link #map(Path, int, int)} or {@link #map(Path)}. Otherwise, this method has no effect.
+   *
+   * @return this container
+   */
+  public UltraLogLogArray force() {
+    for (ByteBuffer chunk : chunks) {
+      if (chunk instanceof MappedByteBuffer) {
+        ((MappedByteBuffer) chunk).force();
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns the precision parameter of all sketches.
+   *
+   * @return the precision parameter
+   */
+  public int getP() {
+    return p;
+  }
+
+  /**
+   * Returns the number of sketches.
+   *
+   * @return the number of sketches
+   */
+  public int size() {
+    return numSketches;
+  }
+
+  private ByteBuffer getChunk(int sketchIndex) {
+    checkIndex(sketchIndex, numSketches);
+    return chunks[sketchIndex >>> log2SketchesPerChunk];
+  }
+
+  private int getOffset(int sketchIndex) {
+    return (sketchIndex & ((1 << log2SketchesPerChunk) - 1)) << p;
+  }
+
+  // atomically sets the given hash prefix bit in the register at the given position, registers are
+  // updated via the enclosing aligned int, as there are no atomic byte operations on buffers
+  private static void updateRegisterAtomically(ByteBuffer chunk, int pos, long hashPrefixBit) {
+    int intPos = pos & ~3;
+    int shift = (pos & 3) << 3;
+    int oldWord = (int) INT_HANDLE.getVolatile(chunk, intPos);
+    while (true) {
+      byte oldState = (byte) (oldWord >>> shift);
+      byte newState = UltraLogLog.pack(UltraLogLog.unpack(oldState) | hashPrefixBit);
+      if (newState == oldState) {
+        return;
+      }
+      int newWord = oldWord ^ (((oldState ^ newState) & 0xFF) << shift);
+      int witnessWord = (int) INT_HANDLE.compareAndExchange(chunk, intPos, oldWord, newWord);
+      if (witnessWord == oldWord) {
+        return;
+      }
+      oldWord = witnessWord;
+    }
+  }
+
+  // atomically merges the given 8 registers into the 8 registers at the given position
+  private static void mergeRegistersAtomically(ByteBuffer chunk, int pos, long otherWord) {
+    long oldWord = (long) LONG_HANDLE.getVolatile(chunk, pos);
+    while (true) {
+      long newWord = UltraLogLog.mergeRegisters(oldWord, otherWord);
+      if (newWord == oldWord) {
+        return;
+      }
+      long witnessWord = (long) LONG_HANDLE.compareAndExchange(chunk, pos, oldWord, newWord);
+      if (witnessWord == oldWord) {
+        return;
+      }
+      oldWord = witnessWord;
+    }
+  }
+
+  // plain reads of the registers are sufficient, as register values never decrease and each
+  // register is always read as a whole, like in ConcurrentUltraLogLog.getSnapshot()
+  private void acquireFenceIfShared() {
+    if (shared) {
+      VarHandle.acquireFence();
+    }
+  }
+
+  private void mergeRegisters(ByteBuffer chunk, int pos, long otherWord) {
+    if (shared) {
+      mergeRegistersAtomically(chunk, pos, otherWord);
+    } else {
+      chunk.putLong(pos, UltraLogLog.mergeRegisters(chunk.getLong(pos), otherWord));
+    }
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to the sketch with given index.
+   *
+   * @param sketchIndex the index of the sketch
+   * @param hashValue a 64-bit hash value
+   * @return this container
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   * @see UltraLogLog#add(long)
+   */
+  public UltraLogLogArray add(int sketchIndex, long hashValue) {
+    ByteBuffer chunk = getChunk(sketchIndex);
+    int q = 64 - p;
+    int pos = getOffset(sketchIndex) + (int) (hashValue >>> q);
+    int nlz = Long.numberOfLeadingZeros(~(~hashValue << -q)); // nlz in {0, 1, ..., 64-p}
+    long hashPrefixBit = 1L << (nlz + p - 1);
+    if (shared) {
+      updateRegisterAtomically(chunk, pos, hashPrefixBit);
+      return this;
+    }
+    byte oldState = chunk.get(pos);
+    byte newState = UltraLogLog.pack(UltraLogLog.unpack(oldState) | hashPrefixBit);
+    if (newState != oldState) {
+      chunk.put(pos, newState);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a new element represented by a 32-bit token obtained from {@link
+   * UltraLogLog#computeToken(long)} to the sketch with given index.
+   *
+   * @param sketchIndex the index of the sketch
+   * @param token a 32-bit hash token
+   * @return this container
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   * @see UltraLogLog#addToken(int)
+   */
+  public UltraLogLogArray addToken(int sketchIndex, int token) {
+    return add(sketchIndex, DistinctCountUtil.reconstructHash1(token));
+  }
+
+  /**
+   * Adds the given sketch to the sketch with given index.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this container. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * @param sketchIndex the index of the sketch
+   * @param other the sketch to add
+   * @return this container
+   * @throws NullPointerException if the sketch to add is null
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   */
+  public UltraLogLogArray add(int sketchIndex, UltraLogLog other) {
+    requireNonNull(other, "null argument");
+    ByteBuffer chunk = getChunk(sketchIndex);
+    if (other.getP() < p) {
+      throw new IllegalArgumentException("other has smaller precision");
+    }
+    ByteBuffer otherState =
+        ByteBuffer.wrap(((other.getP() == p) ? other : other.downsize(p)).getState())
+            .order(ByteOrder.LITTLE_ENDIAN);
+    int offset = getOffset(sketchIndex);
+    int m = 1 << p;
+    for (int i = 0; i < m; i += 8) {
+      long otherWord = otherState.getLong(i);
+      if (otherWord != 0) {
+        mergeRegisters(chunk, offset + i, otherWord);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Merges the sketch with the source index into the sketch with the target index.
+   *
+   * @param targetSketchIndex the index of the sketch to merge into
+   * @param sourceSketchIndex the index of the sketch to be merged
+   * @return this container
+   * @throws IndexOutOfBoundsException if one of the sketch indices is out of bounds
+   */
+  public UltraLogLogArray merge(int targetSketchIndex, int sourceSketchIndex) {
+    ByteBuffer targetChunk = getChunk(targetSketchIndex);
+    ByteBuffer sourceChunk = getChunk(sourceSketchIndex);
+    int targetOffset = getOffset(targetSketchIndex);
+    int sourceOffset = getOffset(sourceSketchIndex);
+    int m = 1 << p;
+    for (int i = 0; i < m; i += 8) {
+      long sourceWord = sourceChunk.getLong(sourceOffset + i);
+      if (sourceWord != 0) {
+        mergeRegisters(targetChunk, targetOffset + i, sourceWord);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to the sketch with given index.
+   *
+   * @param sketchIndex the index of the sketch
+   * @return estimated number of distinct elements
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   */
+  public double getDistinctCountEstimate(int sketchIndex) {
+    return getDistinctCountEstimate(sketchIndex, UltraLogLog.DEFAULT_ESTIMATOR);
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to the sketch with given index
+   * using the given estimator.
+   *
+   * <p>For {@link UltraLogLog#MAXIMUM_LIKELIHOOD_ESTIMATOR} and {@link
+   * UltraLogLog#OPTIMAL_FGRA_ESTIMATOR}, the estimate is computed directly from the off-heap
+   * registers. Other estimators are applied to a copy of the sketch obtained from {@link
+   * #get(int)}.
+   *
+   * @param sketchIndex the index of the sketch
+   * @param estimator the estimator
+   * @return estimated number of distinct elements
+   * @throws NullPointerException if the estimator is null
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   */
+  public double getDistinctCountEstimate(int sketchIndex, UltraLogLog.Estimator estimator) {
+    requireNonNull(estimator, "null argument");
+    if (!(estimator instanceof UltraLogLog.RegisterHistogramEstimator)) {
+      return get(sketchIndex).getDistinctCountEstimate(estimator);
+    }
+    return estimate(sketchIndex, estimator, new int[256], new int[64]);
+  }
+
+  // computes the estimates of the sketches with indices in the range [fromIndex, toIndex) and
+  // stores them at the same indices of the given array, the scratch arrays are reused for all
+  // sketches
+  void getDistinctCountEstimates(
+      int fromIndex, int toIndex, UltraLogLog.Estimator estimator, double[] estimates) {
+    if (!(estimator instanceof UltraLogLog.RegisterHistogramEstimator)) {
+      for (int i = fromIndex; i < toIndex; ++i) {
+        estimates[i] = get(i).getDistinctCountEstimate(estimator);
+      }
+      return;
+    }
+    int[] registerHistogram = new int[256];
+    int[] scratch = new int[64];
+    for (int i = fromIndex; i < toIndex; ++i) {
+      Arrays.fill(registerHistogram, 0);
+      Arrays.fill(scratch, 0);
+      estimates[i] = estimate(i, estimator, registerHistogram, scratch);
+    }
+  }
+
+  // the given register histogram and scratch array must be filled with zeros
+  private double estimate(
+      int sketchIndex, UltraLogLog.Estimator estimator, int[] registerHistogram, int[] scratch) {
+    ByteBuffer chunk = getChunk(sketchIndex);
+    int offset = getOffset(sketchIndex);
+    int m = 1 << p;
+    acquireFenceIfShared();
+    for (int i = 0; i < m; i += 8) {
+      long word = chunk.getLong(offset + i);
+      for (int k = 0; k < 64; k += 8) {
+        registerHistogram[(int) (word >>> k) & 0xFF] += 1;
+      }
+    }
+    if (estimator instanceof UltraLogLog.MaximumLikelihoodEstimator) {
+      return ((UltraLogLog.MaximumLikelihoodEstimator) estimator)
+          .estimate(p, registerHistogram, scratch);
+    }
+    return ((UltraLogLog.RegisterHistogramEstimator) estimator).estimate(p, registerHistogram);
+  }
+
+  /**
+   * Returns a copy of the sketch with given index as {@link UltraLogLog} instance.
+   *
+   * @param sketchIndex the index of the sketch
+   * @return a copy of the sketch
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   */
+  public UltraLogLog get(int sketchIndex) {
+    ByteBuffer chunk = getChunk(sketchIndex);
+    byte[] state = new byte[1 << p];
+    acquireFenceIfShared();
+    chunk.duplicate().position(getOffset(sketchIndex)).get(state);
+    return UltraLogLog.wrap(state);
+  }
+
+  /**
+   * Replaces the sketch with given index by the given sketch.
+   *
+   * <p>The precision parameter of the given sketch must not be smaller than the precision
+   * parameter of this container. Otherwise, an {@link IllegalArgumentException} will be thrown. If
+   * it is larger, the sketch is downsized.
+   *
+   * @param sketchIndex the index of the sketch
+   * @param sketch the new sketch
+   * @return this container
+   * @throws NullPointerException if the sketch is null
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   */
+  public UltraLogLogArray set(int sketchIndex, UltraLogLog sketch) {
+    requireNonNull(sketch, "null argument");
+    ByteBuffer chunk = getChunk(sketchIndex);
+    if (sketch.getP() < p) {
+      throw new IllegalArgumentException("other has smaller precision");
+    }
+    byte[] state = ((sketch.getP() == p) ? sketch : sketch.downsize(p)).getState();
+    chunk.duplicate().position(getOffset(sketchIndex)).put(state);
+    return this;
+  }
+
+  /**
+   * Resets the sketch with given index to its initial state representing an empty set.
+   *
+   * @param sketchIndex the index of the sketch
+   * @return this container
+   * @throws IndexOutOfBoundsException if the sketch index is out of bounds
+   */
+  public UltraLogLogArray reset(int sketchIndex) {
+    ByteBuffer chunk = getChunk(sketchIndex);
+    int offset = getOffset(sketchIndex);
+    int m = 1 << p;
+    for (int i = 0; i < m; i += 8) {
+      chunk.putLong(offset + i, 0L);
+    }
+    return this;
+  }
+}
@@ -15,6 +15,7 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
 import static java.lang.Long.rotateRight;
 
 abstract class AbstractFarmHash extends AbstractHasher64 {
@@ -228,6 +229,13 @@ abstract class AbstractFarmHash extends AbstractHasher64 {
 
   protected abstract long hashCharsToLongLength33Plus(CharSequence input);
 
+  private long hashLongToLong(long v) {
+    long mul = K2 + 16;
+    long a = v + K2;
+    return finalizeHash(
+        hashLength16(rotateRight(v, 37) * mul + a, (rotateRight(a, 25) + v) * mul, mul));
+  }
+
   @Override
   public final long hashLongLongToLong(long v1, long v2) {
     long mul = K2 + 32;
@@ -257,6 +265,55 @@ abstract class AbstractFarmHash extends AbstractHasher64 {
     protected abstract void processBuffer(
         long b0, long b1, long b2, long b3, long b4, long b5, long b6, long b7);
 
+    protected HashStream64 copyTo(FarmHashStreamImpl hashStream) {
+      hashStream.bufferCount = bufferCount;
+      hashStream.init = init;
+      System.arraycopy(buffer, 0, hashStream.buffer, 0, buffer.length);
+      return hashStream;
+    }
+
+    protected abstract int getNumAccumulators();
+
+    protected abstract void writeAccumulators(byte[] state, int off);
+
+    protected abstract void readAccumulators(byte[] state, int off);
+
+    @Override
+    public final byte[] getState() {
+      // the buffer is fully needed for finalization once a block has been processed
+      int accumulatorsLength = init ? 0 : getNumAccumulators() << 3;
+      int numBufferedBytes = init ? bufferCount - 8 : 64;
+      byte[] state = new byte[1 + accumulatorsLength + numBufferedBytes];
+      state[0] = (byte) (init ? bufferCount : bufferCount | 0x80);
+      if (!init) {
+        writeAccumulators(state, 1);
+      }
+      System.arraycopy(buffer, 8, state, 1 + accumulatorsLength, numBufferedBytes);
+      return state;
+    }
+
+    @Override
+    public final HashStream64 setState(byte[] state) {
+      checkArgument(state.length >= 1, "illegal state");
+      int newBufferCount = state[0] & 0x7f;
+      boolean newInit = (state[0] & 0x80) == 0;
+      int accumulatorsLength = newInit ? 0 : getNumAccumulators() << 3;
+      int numBufferedBytes = newInit ? newBufferCount - 8 : 64;
+      checkArgument(
+          newBufferCount >= 8
+              && newBufferCount <= 72
+              && state.length == 1 + accumulatorsLength + numBufferedBytes,
+          "illegal state");
+      reset();
+      bufferCount = newBufferCount;
+      init = newInit;
+      if (!init) {
+        readAccumulators(state, 1);
+      }
+      System.arraycopy(state, 1 + accumulatorsLength, buffer, 8, numBufferedBytes);
+      return this;
+    }
+
     private void processBuffer() {
       long b0 = getLong(buffer, 8);
       long b1 = getLong(buffer, 16);
@@ -479,4 +536,66 @@ abstract class AbstractFarmHash extends AbstractHasher64 {
           rotateRight(e + f, 43) + rotateRight(g, 30) + h, e + rotateRight(f + a, 18) + g, mul);
     }
   }
+
+  @Override
+  public void hashLongsToLongs(long[] input, int inputOff, long[] hashes, int hashesOff, int len) {
+    for (int i = 0; i < len; ++i) {
+      hashes[hashesOff + i] = hashLongToLong(input[inputOff + i]);
+    }
+  }
+
+  @Override
+  public void hashCharsToLongs(
+      CharSequence[] input, int inputOff, long[] hashes, int hashesOff, int len) {
+    int i = 0;
+    for (; i + 1 < len; i += 2) {
+      CharSequence input0 = input[inputOff + i];
+      CharSequence input1 = input[inputOff + i + 1];
+      if (input0.length() <= 8 && input1.length() <= 8) {
+        // both keys are short, interleave them
+        long hash0 = hashCharsToLongLength0to8(input0);
+        long hash1 = hashCharsToLongLength0to8(input1);
+        hashes[hashesOff + i] = finalizeHash(hash0);
+        hashes[hashesOff + i + 1] = finalizeHash(hash1);
+      } else {
+        hashes[hashesOff + i] = hashCharsToLong(input0);
+        hashes[hashesOff + i + 1] = hashCharsToLong(input1);
+      }
+    }
+    if (i < len) {
+      hashes[hashesOff + i] = hashCharsToLong(input[inputOff + i]);
+    }
+  }
+
+  @Override
+  public void hashBytesToLongs(
+      byte[] input,
+      int[] offsets,
+      int[] lengths,
+      int slicesOff,
+      long[] hashes,
+      int hashesOff,
+      int len) {
+    int i = 0;
+    for (; i + 1 < len; i += 2) {
+      int off0 = offsets[slicesOff + i];
+      int off1 = offsets[slicesOff + i + 1];
+      int len0 = lengths[slicesOff + i];
+      int len1 = lengths[slicesOff + i + 1];
+      if (len0 <= 16 && len1 <= 16) {
+        // both keys are short, interleave them
+        long hash0 = hashBytesToLongLength0to16(input, off0, len0);
+        long hash1 = hashBytesToLongLength0to16(input, off1, len1);
+        hashes[hashesOff + i] = finalizeHash(hash0);
+        hashes[hashesOff + i + 1] = finalizeHash(hash1);
+      } else {
+        hashes[hashesOff + i] = hashBytesToLong(input, off0, len0);
+        hashes[hashesOff + i + 1] = hashBytesToLong(input, off1, len1);
+      }
+    }
+    if (i < len) {
+      hashes[hashesOff + i] =
+          hashBytesToLong(input, offsets[slicesOff + i], lengths[slicesOff + i]);
+    }
+  }
 }
@@ -17,6 +17,8 @@ package com.dynatrace.hash4j.hashing;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.*;
 import java.util.function.ToLongFunction;
 
@@ -60,6 +62,26 @@ abstract class AbstractHashStream implements HashStream {
     return this;
   }
 
+  @Override
+  public HashStream putBytes(ByteBuffer x) {
+    int off = x.position();
+    int len = x.remaining();
+    if (x.hasArray()) {
+      return putBytes(x.array(), x.arrayOffset() + off, len);
+    }
+    boolean reverse = x.order() != ByteOrder.LITTLE_ENDIAN;
+    int end = off + len;
+    int i = off;
+    for (; i <= end - 8; i += 8) {
+      long v = x.getLong(i);
+      putLong(reverse ? Long.reverseBytes(v) : v);
+    }
+    for (; i < end; ++i) {
+      putByte(x.get(i));
+    }
+    return this;
+  }
+
   @Override
   public HashStream putByteArray(byte[] x) {
     return putBytes(x).putInt(x.length);
@@ -15,6 +15,7 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.function.ToLongFunction;
 
@@ -66,6 +67,12 @@ abstract class AbstractHashStream128 extends AbstractHashStream64 implements Has
     return this;
   }
 
+  @Override
+  public HashStream128 putBytes(ByteBuffer x) {
+    super.putBytes(x);
+    return this;
+  }
+
   @Override
   public HashStream128 putByteArray(byte[] x) {
     super.putByteArray(x);
@@ -15,6 +15,7 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.function.ToLongFunction;
 
@@ -61,6 +62,12 @@ abstract class AbstractHashStream32 extends AbstractHashStream implements HashSt
     return this;
   }
 
+  @Override
+  public HashStream32 putBytes(ByteBuffer x) {
+    super.putBytes(x);
+    return this;
+  }
+
   @Override
   public HashStream32 putByteArray(byte[] x) {
     super.putByteArray(x);
@@ -23,6 +23,62 @@ abstract class AbstractHasher implements Hasher {
 
   protected AbstractHasher() {}
 
+  /**
+   * Reusable hash streams, one per thread.
+   *
+   * <p>The thread-local belongs to this hasher instance, so that alternating hash computations
+   * with different instances, for example with different seeds, do not evict each other's hash
+   * stream.
+   */
+  private final ThreadLocal<ReusableHashStream> reusableHashStream =
+      ThreadLocal.withInitial(ReusableHashStream::new);
+
+  /**
+   * A hash stream that is reused by all hash computations of a thread to avoid allocations.
+   *
+   * <p>If the hash stream is acquired again before it has been released, which happens if a funnel
+   * computes a hash value with the same hasher, a new hash stream is returned instead.
+   */
+  protected final class ReusableHashStream {
+
+    private final HashStream stream = hashStream();
+    private boolean isInUse = false;
+
+    /**
+     * Returns a reset hash stream for exclusive use until it is given back using {@link
+     * #release(HashStream)}.
+     *
+     * @return a hash stream
+     */
+    public HashStream acquire() {
+      if (isInUse) {
+        return hashStream();
+      }
+      isInUse = true;
+      return stream.reset();
+    }
+
+    /**
+     * Releases a hash stream previously returned by {@link #acquire()}.
+     *
+     * @param hashStream the hash stream
+     */
+    public void release(HashStream hashStream) {
+      if (hashStream == stream) {
+        isInUse = false;
+      }
+    }
+  }
+
+  /**
+   * Returns the reusable hash stream of the current thread.
+   *
+   * @return the reusable hash stream
+   */
+  protected final ReusableHashStream getReusableHashStream() {
+    return reusableHashStream.get();
+  }
+
   private static final VarHandle LONG_HANDLE =
       MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
   private static final VarHandle INT_HANDLE =
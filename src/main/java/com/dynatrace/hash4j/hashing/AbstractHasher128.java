@@ -15,11 +15,24 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import java.nio.ByteBuffer;
+
 abstract class AbstractHasher128 extends AbstractHasher64 implements Hasher128 {
 
+  @Override
+  public HashStream128 hashStreamFromState(byte[] state) {
+    return hashStream().setState(state);
+  }
+
   @Override
   public <T> HashValue128 hashTo128Bits(T data, HashFunnel<T> funnel) {
-    return hashStream().put(data, funnel).get();
+    ReusableHashStream reusableHashStream = getReusableHashStream();
+    HashStream128 hashStream = (HashStream128) reusableHashStream.acquire();
+    try {
+      return hashStream.put(data, funnel).get();
+    } finally {
+      reusableHashStream.release(hashStream);
+    }
   }
 
   @Override
@@ -32,6 +45,15 @@ abstract class AbstractHasher128 extends AbstractHasher64 implements Hasher128 {
     return hashBytesTo128Bits(input, off, len).getAsLong();
   }
 
+  @Override
+  public HashValue128 hashBytesTo128Bits(ByteBuffer input) {
+    if (input.hasArray()) {
+      return hashBytesTo128Bits(
+          input.array(), input.arrayOffset() + input.position(), input.remaining());
+    }
+    return hashStream().putBytes(input).get();
+  }
+
   @Override
   public long hashCharsToLong(CharSequence input) {
     return hashCharsTo128Bits(input).getAsLong();
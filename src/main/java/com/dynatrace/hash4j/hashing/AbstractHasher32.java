@@ -15,11 +15,24 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import java.nio.ByteBuffer;
+
 abstract class AbstractHasher32 extends AbstractHasher implements Hasher32 {
 
+  @Override
+  public HashStream32 hashStreamFromState(byte[] state) {
+    return hashStream().setState(state);
+  }
+
   @Override
   public <T> int hashToInt(T data, HashFunnel<T> funnel) {
-    return hashStream().put(data, funnel).getAsInt();
+    ReusableHashStream reusableHashStream = getReusableHashStream();
+    HashStream32 hashStream = (HashStream32) reusableHashStream.acquire();
+    try {
+      return hashStream.put(data, funnel).getAsInt();
+    } finally {
+      reusableHashStream.release(hashStream);
+    }
   }
 
   @Override
@@ -27,6 +40,23 @@ abstract class AbstractHasher32 extends AbstractHasher implements Hasher32 {
     return hashBytesToInt(input, 0, input.length);
   }
 
+  @Override
+  public int hashBytesToInt(ByteBuffer input) {
+    if (input.hasArray()) {
+      return hashBytesToInt(
+          input.array(), input.arrayOffset() + input.position(), input.remaining());
+    }
+    return hashStream().putBytes(input).getAsInt();
+  }
+
+  @Override
+  public void hashIntsToInts(int[] input, int inputOff, int[] hashes, int hashesOff, int len) {
+    HashStream32 hashStream = hashStream();
+    for (int i = 0; i < len; ++i) {
+      hashes[hashesOff + i] = hashStream.reset().putInt(input[inputOff + i]).getAsInt();
+    }
+  }
+
   @Override
   public int getHashBitSize() {
     return 32;
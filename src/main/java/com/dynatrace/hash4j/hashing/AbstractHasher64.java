@@ -15,11 +15,24 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import java.nio.ByteBuffer;
+
 abstract class AbstractHasher64 extends AbstractHasher32 implements Hasher64 {
 
+  @Override
+  public HashStream64 hashStreamFromState(byte[] state) {
+    return hashStream().setState(state);
+  }
+
   @Override
   public <T> long hashToLong(T data, HashFunnel<T> funnel) {
-    return hashStream().put(data, funnel).getAsLong();
+    ReusableHashStream reusableHashStream = getReusableHashStream();
+    HashStream64 hashStream = (HashStream64) reusableHashStream.acquire();
+    try {
+      return hashStream.put(data, funnel).getAsLong();
+    } finally {
+      reusableHashStream.release(hashStream);
+    }
   }
 
   @Override
@@ -32,6 +45,20 @@ abstract class AbstractHasher64 extends AbstractHasher32 implements Hasher64 {
     return (int) hashBytesToLong(input, off, len);
   }
 
+  @Override
+  public long hashBytesToLong(ByteBuffer input) {
+    if (input.hasArray()) {
+      return hashBytesToLong(
+          input.array(), input.arrayOffset() + input.position(), input.remaining());
+    }
+    return hashStream().putBytes(input).getAsLong();
+  }
+
+  @Override
+  public int hashBytesToInt(ByteBuffer input) {
+    return (int) hashBytesToLong(input);
+  }
+
   @Override
   public int hashCharsToInt(CharSequence input) {
     return (int) hashCharsToLong(input);
@@ -51,4 +78,35 @@ abstract class AbstractHasher64 extends AbstractHasher32 implements Hasher64 {
   public long hashLongLongLongToLong(long v1, long v2, long v3) {
     return hashStream().putLong(v1).putLong(v2).putLong(v3).getAsLong();
   }
+
+  @Override
+  public void hashLongsToLongs(long[] input, int inputOff, long[] hashes, int hashesOff, int len) {
+    HashStream64 hashStream = hashStream();
+    for (int i = 0; i < len; ++i) {
+      hashes[hashesOff + i] = hashStream.reset().putLong(input[inputOff + i]).getAsLong();
+    }
+  }
+
+  @Override
+  public void hashCharsToLongs(
+      CharSequence[] input, int inputOff, long[] hashes, int hashesOff, int len) {
+    for (int i = 0; i < len; ++i) {
+      hashes[hashesOff + i] = hashCharsToLong(input[inputOff + i]);
+    }
+  }
+
+  @Override
+  public void hashBytesToLongs(
+      byte[] input,
+      int[] offsets,
+      int[] lengths,
+      int slicesOff,
+      long[] hashes,
+      int hashesOff,
+      int len) {
+    for (int i = 0; i < len; ++i) {
+      hashes[hashesOff + i] =
+          hashBytesToLong(input, offsets[slicesOff + i], lengths[slicesOff + i]);
+    }
+  }
 }
@@ -43,6 +43,7 @@
 package com.dynatrace.hash4j.hashing;
 
 import static com.dynatrace.hash4j.hashing.UnsignedMultiplyUtil.unsignedMultiplyHigh;
+import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
 
 abstract class AbstractKomihash extends AbstractHasher64 {
 
@@ -100,6 +101,20 @@ abstract class AbstractKomihash extends AbstractHasher64 {
       return this;
     }
 
+    protected HashStream64 copyTo(HashStreamImpl hashStream) {
+      hashStream.byteCount = byteCount;
+      hashStream.see1 = see1;
+      hashStream.see2 = see2;
+      hashStream.see3 = see3;
+      hashStream.see4 = see4;
+      hashStream.see5 = see5;
+      hashStream.see6 = see6;
+      hashStream.see7 = see7;
+      hashStream.see8 = see8;
+      System.arraycopy(buffer, 0, hashStream.buffer, 0, buffer.length);
+      return hashStream;
+    }
+
     @Override
     public HashStream64 putByte(byte v) {
       buffer[(int) (byteCount & 0x3FL)] = v;
@@ -343,6 +358,68 @@ abstract class AbstractKomihash extends AbstractHasher64 {
 
       return finalizeGetAsLong(se1, se5, off, len);
     }
+
+    @Override
+    public byte[] getState() {
+      byte[] state = new byte[getStateLength(byteCount)];
+      setLong(state, 0, byteCount);
+      int off = 8;
+      if (byteCount > 63) {
+        setLong(state, off, see1);
+        setLong(state, off + 8, see2);
+        setLong(state, off + 16, see3);
+        setLong(state, off + 24, see4);
+        setLong(state, off + 32, see5);
+        setLong(state, off + 40, see6);
+        setLong(state, off + 48, see7);
+        setLong(state, off + 56, see8);
+        off += 64;
+      }
+      int numBufferedBytes = state.length - off;
+      int bufferOff = ((byteCount & 0x3fL) == 0) ? 64 - numBufferedBytes : 0;
+      System.arraycopy(buffer, bufferOff, state, off, numBufferedBytes);
+      return state;
+    }
+
+    @Override
+    public HashStream64 setState(byte[] state) {
+      checkArgument(state.length >= 8, "illegal state");
+      long newByteCount = getLong(state, 0);
+      checkArgument(
+          newByteCount >= 0 && state.length == getStateLength(newByteCount), "illegal state");
+      reset();
+      byteCount = newByteCount;
+      int off = 8;
+      if (byteCount > 63) {
+        see1 = getLong(state, off);
+        see2 = getLong(state, off + 8);
+        see3 = getLong(state, off + 16);
+        see4 = getLong(state, off + 24);
+        see5 = getLong(state, off + 32);
+        see6 = getLong(state, off + 40);
+        see7 = getLong(state, off + 48);
+        see8 = getLong(state, off + 56);
+        off += 64;
+      }
+      int numBufferedBytes = state.length - off;
+      int bufferOff = ((byteCount & 0x3fL) == 0) ? 64 - numBufferedBytes : 0;
+      System.arraycopy(state, off, buffer, bufferOff, numBufferedBytes);
+      return this;
+    }
+  }
+
+  /**
+   * Returns the length of the state of a hash stream after the given number of bytes. The state
+   * consists of the byte count, the 8 seeds if at least one block has been processed, and the
+   * buffered bytes. If the buffer has just been processed, its last byte is kept as it is needed
+   * for finalization.
+   */
+  private static int getStateLength(long byteCount) {
+    int numBufferedBytes = (int) (byteCount & 0x3fL);
+    if (byteCount > 63) {
+      return 72 + ((numBufferedBytes == 0) ? 1 : numBufferedBytes);
+    }
+    return 8 + numBufferedBytes;
   }
 
   protected static long finish(long r2h, long r2l, long see5) {
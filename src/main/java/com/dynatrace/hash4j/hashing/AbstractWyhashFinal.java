@@ -16,6 +16,7 @@
 package com.dynatrace.hash4j.hashing;
 
 import static com.dynatrace.hash4j.hashing.UnsignedMultiplyUtil.unsignedMultiplyHigh;
+import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
 
 abstract class AbstractWyhashFinal extends AbstractHasher64 {
 
@@ -38,40 +39,42 @@ abstract class AbstractWyhashFinal extends AbstractHasher64 {
 
   @Override
   public long hashBytesToLong(byte[] input, int off, int len) {
+    if (len <= 16) {
+      return hashBytesToLongLength0to16(input, off, len, seed);
+    }
     long see0 = seed;
+    int i = len;
+    int p = off;
+    long see1 = seed;
+    long see2 = seed;
+    while (i > 48) {
+      see0 = wymix(getLong(input, p) ^ secret1, getLong(input, p + 8) ^ see0);
+      see1 = wymix(getLong(input, p + 16) ^ secret2, getLong(input, p + 24) ^ see1);
+      see2 = wymix(getLong(input, p + 32) ^ secret3, getLong(input, p + 40) ^ see2);
+      p += 48;
+      i -= 48;
+    }
+    see0 ^= see1 ^ see2;
+    while (i > 16) {
+      see0 = wymix(getLong(input, p) ^ secret1, getLong(input, p + 8) ^ see0);
+      i -= 16;
+      p += 16;
+    }
+    return finish(getLong(input, p + i - 16), getLong(input, p + i - 8), see0, len);
+  }
+
+  private long hashBytesToLongLength0to16(byte[] input, int off, int len, long see0) {
     long a;
     long b;
-    if (len <= 16) {
-      if (len >= 4) {
-        a = (wyr4(input, off) << 32) | wyr4(input, off + ((len >>> 3) << 2));
-        b = (wyr4(input, off + len - 4) << 32) | wyr4(input, (off + len - 4) - ((len >>> 3) << 2));
-      } else if (len > 0) {
-        a = wyr3(input, off, len);
-        b = 0;
-      } else {
-        a = 0;
-        b = 0;
-      }
+    if (len >= 4) {
+      a = (wyr4(input, off) << 32) | wyr4(input, off + ((len >>> 3) << 2));
+      b = (wyr4(input, off + len - 4) << 32) | wyr4(input, (off + len - 4) - ((len >>> 3) << 2));
+    } else if (len > 0) {
+      a = wyr3(input, off, len);
+      b = 0;
     } else {
-      int i = len;
-      int p = off;
-      long see1 = seed;
-      long see2 = seed;
-      while (i > 48) {
-        see0 = wymix(getLong(input, p) ^ secret1, getLong(input, p + 8) ^ see0);
-        see1 = wymix(getLong(input, p + 16) ^ secret2, getLong(input, p + 24) ^ see1);
-        see2 = wymix(getLong(input, p + 32) ^ secret3, getLong(input, p + 40) ^ see2);
-        p += 48;
-        i -= 48;
-      }
-      see0 ^= see1 ^ see2;
-      while (i > 16) {
-        see0 = wymix(getLong(input, p) ^ secret1, getLong(input, p + 8) ^ see0);
-        i -= 16;
-        p += 16;
-      }
-      a = getLong(input, p + i - 16);
-      b = getLong(input, p + i - 8);
+      a = 0;
+      b = 0;
     }
     return finish(a, b, see0, len);
   }
@@ -80,46 +83,48 @@ abstract class AbstractWyhashFinal extends AbstractHasher64 {
 
   @Override
   public long hashCharsToLong(CharSequence input) {
-    final long a;
-    final long b;
     int len = input.length();
-    long see0 = seed;
     if (len <= 8) {
-      if (len >= 2) {
-        a = ((long) getInt(input, 0) << 32) | (getInt(input, (len >>> 2) << 1) & 0xFFFFFFFFL);
-        b =
-            ((long) getInt(input, len - 2) << 32)
-                | (getInt(input, (len - 2) - ((len >>> 2) << 1)) & 0xFFFFFFFFL);
-      } else if (len > 0) {
-        long ch = input.charAt(0) & 0xFFFFL;
-        long c0 = ch & 0xFFL;
-        long c1 = ch >>> 8;
-        a = (c0 << 16) | (c1 << 8) | c1;
-        b = 0;
-      } else {
-        a = 0;
-        b = 0;
-      }
+      return hashCharsToLongLength0to8(input, len, seed);
+    }
+    long see0 = seed;
+    int i = len;
+    int p = 0;
+    long see1 = seed;
+    long see2 = seed;
+    while (i > 24) {
+      see0 = wymix(getLong(input, p) ^ secret1, getLong(input, p + 4) ^ see0);
+      see1 = wymix(getLong(input, p + 8) ^ secret2, getLong(input, p + 12) ^ see1);
+      see2 = wymix(getLong(input, p + 16) ^ secret3, getLong(input, p + 20) ^ see2);
+      p += 24;
+      i -= 24;
+    }
+    see0 ^= see1 ^ see2;
+    while (i > 8) {
+      see0 = wymix(getLong(input, p) ^ secret1, getLong(input, p + 4) ^ see0);
+      i -= 8;
+      p += 8;
+    }
+    return finish(getLong(input, len - 8), getLong(input, len - 4), see0, ((long) len) << 1);
+  }
+
+  private long hashCharsToLongLength0to8(CharSequence input, int len, long see0) {
+    final long a;
+    final long b;
+    if (len >= 2) {
+      a = ((long) getInt(input, 0) << 32) | (getInt(input, (len >>> 2) << 1) & 0xFFFFFFFFL);
+      b =
+          ((long) getInt(input, len - 2) << 32)
+              | (getInt(input, (len - 2) - ((len >>> 2) << 1)) & 0xFFFFFFFFL);
+    } else if (len > 0) {
+      long ch = input.charAt(0) & 0xFFFFL;
+      long c0 = ch & 0xFFL;
+      long c1 = ch >>> 8;
+      a = (c0 << 16) | (c1 << 8) | c1;
+      b = 0;
     } else {
-      int i = len;
-      int p = 0;
-      long see1 = seed;
-      long see2 = seed;
-      while (i > 24) {
-        see0 = wymix(getLong(input, p) ^ secret1, getLong(input, p + 4) ^ see0);
-        see1 = wymix(getLong(input, p + 8) ^ secret2, getLong(input, p + 12) ^ see1);
-        see2 = wymix(getLong(input, p + 16) ^ secret3, getLong(input, p + 20) ^ see2);
-        p += 24;
-        i -= 24;
-      }
-      see0 ^= see1 ^ see2;
-      while (i > 8) {
-        see0 = wymix(getLong(input, p) ^ secret1, getLong(input, p + 4) ^ see0);
-        i -= 8;
-        p += 8;
-      }
-      a = getLong(input, len - 8);
-      b = getLong(input, len - 4);
+      a = 0;
+      b = 0;
     }
     return finish(a, b, see0, ((long) len) << 1);
   }
@@ -269,6 +274,18 @@ abstract class AbstractWyhashFinal extends AbstractHasher64 {
       return this;
     }
 
+    @Override
+    public HashStream64 copy() {
+      final HashStreamImpl hashStream = new HashStreamImpl();
+      hashStream.byteCount = byteCount;
+      hashStream.offset = offset;
+      hashStream.see0 = see0;
+      hashStream.see1 = see1;
+      hashStream.see2 = see2;
+      System.arraycopy(buffer, 0, hashStream.buffer, 0, buffer.length);
+      return hashStream;
+    }
+
     @Override
     public HashStream64 putByte(byte v) {
       buffer[offset] = v;
@@ -521,6 +538,49 @@ abstract class AbstractWyhashFinal extends AbstractHasher64 {
       }
       return finish(a, b, s, byteCount);
     }
+
+    @Override
+    public byte[] getState() {
+      if (byteCount <= 48) {
+        byte[] state = new byte[8 + offset];
+        setLong(state, 0, byteCount);
+        System.arraycopy(buffer, 0, state, 8, offset);
+        return state;
+      }
+      byte[] state = new byte[80];
+      setLong(state, 0, byteCount);
+      setLong(state, 8, see0);
+      setLong(state, 16, see1);
+      setLong(state, 24, see2);
+      System.arraycopy(buffer, 0, state, 32, 48);
+      return state;
+    }
+
+    @Override
+    public HashStream64 setState(byte[] state) {
+      checkArgument(state.length >= 8, "illegal state");
+      long newByteCount = getLong(state, 0);
+      checkArgument(
+          newByteCount >= 0 && state.length == ((newByteCount <= 48) ? 8 + newByteCount : 80),
+          "illegal state");
+      reset();
+      byteCount = newByteCount;
+      if (byteCount <= 48) {
+        offset = (int) byteCount;
+        System.arraycopy(state, 8, buffer, 0, offset);
+      } else {
+        offset = (int) ((byteCount - 1) % 48) + 1;
+        see0 = getLong(state, 8);
+        see1 = getLong(state, 16);
+        see2 = getLong(state, 24);
+        System.arraycopy(state, 32, buffer, 0, 48);
+      }
+      return this;
+    }
+  }
+
+  private long hashLongToLong(long v) {
+    return finish(Long.rotateLeft(v, 32), v, seed, 8);
   }
 
   @Override
@@ -533,4 +593,66 @@ abstract class AbstractWyhashFinal extends AbstractHasher64 {
   public long hashLongLongLongToLong(long v1, long v2, long v3) {
     return finish(v2, v3, wymix(v1 ^ secret1, v2 ^ seed), 24);
   }
+
+  @Override
+  public void hashLongsToLongs(long[] input, int inputOff, long[] hashes, int hashesOff, int len) {
+    for (int i = 0; i < len; ++i) {
+      hashes[hashesOff + i] = hashLongToLong(input[inputOff + i]);
+    }
+  }
+
+  @Override
+  public void hashCharsToLongs(
+      CharSequence[] input, int inputOff, long[] hashes, int hashesOff, int len) {
+    long see0 = seed;
+    int i = 0;
+    for (; i + 1 < len; i += 2) {
+      CharSequence input0 = input[inputOff + i];
+      CharSequence input1 = input[inputOff + i + 1];
+      int len0 = input0.length();
+      int len1 = input1.length();
+      if (len0 <= 8 && len1 <= 8) {
+        // both keys are short, interleave them
+        hashes[hashesOff + i] = hashCharsToLongLength0to8(input0, len0, see0);
+        hashes[hashesOff + i + 1] = hashCharsToLongLength0to8(input1, len1, see0);
+      } else {
+        hashes[hashesOff + i] = hashCharsToLong(input0);
+        hashes[hashesOff + i + 1] = hashCharsToLong(input1);
+      }
+    }
+    if (i < len) {
+      hashes[hashesOff + i] = hashCharsToLong(input[inputOff + i]);
+    }
+  }
+
+  @Override
+  public void hashBytesToLongs(
+      byte[] input,
+      int[] offsets,
+      int[] lengths,
+      int slicesOff,
+      long[] hashes,
+      int hashesOff,
+      int len) {
+    long see0 = seed;
+    int i = 0;
+    for (; i + 1 < len; i += 2) {
+      int off0 = offsets[slicesOff + i];
+      int off1 = offsets[slicesOff + i + 1];
+      int len0 = lengths[slicesOff + i];
+      int len1 = lengths[slicesOff + i + 1];
+      if (len0 <= 16 && len1 <= 16) {
+        // both keys are short, interleave them
+        hashes[hashesOff + i] = hashBytesToLongLength0to16(input, off0, len0, see0);
+        hashes[hashesOff + i + 1] = hashBytesToLongLength0to16(input, off1, len1, see0);
+      } else {
+        hashes[hashesOff + i] = hashBytesToLong(input, off0, len0);
+        hashes[hashesOff + i + 1] = hashBytesToLong(input, off1, len1);
+      }
+    }
+    if (i < len) {
+      hashes[hashesOff + i] =
+          hashBytesToLong(input, offsets[slicesOff + i], lengths[slicesOff + i]);
+    }
+  }
 }
@@ -357,6 +357,49 @@ class FarmHashUo extends AbstractFarmHash {
       return this;
     }
 
+    @Override
+    public HashStream64 copy() {
+      final HashStreamImpl hashStream = new HashStreamImpl();
+      hashStream.x = x;
+      hashStream.y = y;
+      hashStream.z = z;
+      hashStream.v0 = v0;
+      hashStream.v1 = v1;
+      hashStream.w0 = w0;
+      hashStream.w1 = w1;
+      hashStream.u = u;
+      return copyTo(hashStream);
+    }
+
+    @Override
+    protected int getNumAccumulators() {
+      return 8;
+    }
+
+    @Override
+    protected void writeAccumulators(byte[] state, int off) {
+      setLong(state, off, x);
+      setLong(state, off + 8, y);
+      setLong(state, off + 16, z);
+      setLong(state, off + 24, v0);
+      setLong(state, off + 32, v1);
+      setLong(state, off + 40, w0);
+      setLong(state, off + 48, w1);
+      setLong(state, off + 56, u);
+    }
+
+    @Override
+    protected void readAccumulators(byte[] state, int off) {
+      x = getLong(state, off);
+      y = getLong(state, off + 8);
+      z = getLong(state, off + 16);
+      v0 = getLong(state, off + 24);
+      v1 = getLong(state, off + 32);
+      w0 = getLong(state, off + 40);
+      w1 = getLong(state, off + 48);
+      u = getLong(state, off + 56);
+    }
+
     @Override
     protected void processBuffer(
         long b0, long b1, long b2, long b3, long b4, long b5, long b6, long b7) {
@@ -15,6 +15,7 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.function.ToLongFunction;
 
@@ -59,6 +60,21 @@ public interface HashSink {
    */
   HashSink putBytes(byte[] x, int off, int len);
 
+  /**
+   * Adds the remaining bytes of the given {@link ByteBuffer} to the hash computation.
+   *
+   * <p>The bytes from the current position up to the limit of the buffer are added. Neither the
+   * position, nor the limit, nor the byte order of the buffer are modified. Direct buffers are read
+   * in place without copying their content to the heap.
+   *
+   * <p>Equivalent to <br>
+   * {@code for (int i = x.position(); i < x.limit(); i++) putByte(x.get(i));}
+   *
+   * @param x the buffer
+   * @return this
+   */
+  HashSink putBytes(ByteBuffer x);
+
   /**
    * Adds a {@code byte} array to the hash computation.
    *
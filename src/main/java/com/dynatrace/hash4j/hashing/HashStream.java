@@ -15,6 +15,7 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.function.ToLongFunction;
 
@@ -36,6 +37,9 @@ interface HashStream extends HashSink {
   @Override
   HashStream putBytes(byte[] x, int off, int len);
 
+  @Override
+  HashStream putBytes(ByteBuffer x);
+
   @Override
   HashStream putByteArray(byte[] x);
 
@@ -169,4 +173,40 @@ interface HashStream extends HashSink {
    * @return this
    */
   HashStream reset();
+
+  /**
+   * Returns a copy of this hash stream.
+   *
+   * <p>The copy has the same internal state as this hash stream, but both evolve independently
+   * afterwards. This allows to add a common prefix only once and to continue the hash computation
+   * with different suffixes.
+   *
+   * @return a new hash stream instance
+   */
+  HashStream copy();
+
+  /**
+   * Returns the internal state of this hash stream.
+   *
+   * <p>The state can be passed to {@link #setState(byte[])} of a hash stream obtained from a
+   * hasher with the same algorithm and seed, to continue the hash computation later or on another
+   * machine. Only the data needed to continue the computation is included, so the size of the
+   * state depends on the number of bytes added so far, but is bounded.
+   *
+   * @return the state
+   */
+  byte[] getState();
+
+  /**
+   * Restores the internal state of this hash stream from a state previously returned by {@link
+   * #getState()}.
+   *
+   * <p>The state must have been obtained from a hash stream of a hasher with the same algorithm
+   * and seed. Otherwise, the subsequently computed hash values are undefined.
+   *
+   * @param state the state
+   * @return this
+   * @throws IllegalArgumentException if the given state is not valid
+   */
+  HashStream setState(byte[] state);
 }
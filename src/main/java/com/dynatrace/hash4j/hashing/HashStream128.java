@@ -15,6 +15,7 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.function.ToLongFunction;
 
@@ -39,6 +40,9 @@ public interface HashStream128 extends HashStream64 {
   @Override
   HashStream128 putBytes(byte[] x, int off, int len);
 
+  @Override
+  HashStream128 putBytes(ByteBuffer x);
+
   @Override
   HashStream128 putByteArray(byte[] x);
 
@@ -173,4 +177,10 @@ public interface HashStream128 extends HashStream64 {
    */
   @Override
   HashStream128 reset();
+
+  @Override
+  HashStream128 copy();
+
+  @Override
+  HashStream128 setState(byte[] state);
 }
@@ -15,6 +15,7 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.function.ToLongFunction;
 
@@ -37,6 +38,9 @@ public interface HashStream32 extends HashStream {
   @Override
   HashStream32 putBytes(byte[] x, int off, int len);
 
+  @Override
+  HashStream32 putBytes(ByteBuffer x);
+
   @Override
   HashStream32 putByteArray(byte[] x);
 
@@ -161,4 +165,10 @@ public interface HashStream32 extends HashStream {
 
   @Override
   HashStream32 reset();
+
+  @Override
+  HashStream32 copy();
+
+  @Override
+  HashStream32 setState(byte[] state);
 }
@@ -15,6 +15,7 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.function.ToLongFunction;
 
@@ -39,6 +40,9 @@ public interface HashStream64 extends HashStream32 {
   @Override
   HashStream64 putBytes(byte[] x, int off, int len);
 
+  @Override
+  HashStream64 putBytes(ByteBuffer x);
+
   @Override
   HashStream64 putByteArray(byte[] x);
 
@@ -173,4 +177,10 @@ public interface HashStream64 extends HashStream32 {
    */
   @Override
   HashStream64 reset();
+
+  @Override
+  HashStream64 copy();
+
+  @Override
+  HashStream64 setState(byte[] state);
 }
@@ -30,6 +30,17 @@ interface Hasher {
    */
   HashStream hashStream();
 
+  /**
+   * Starts a hash stream from a state previously returned by {@link HashStream#getState()}.
+   *
+   * <p>Equivalent to {@code hashStream().setState(state)}.
+   *
+   * @param state the state
+   * @return a new {@link HashStream} instance
+   * @throws IllegalArgumentException if the given state is not valid
+   */
+  HashStream hashStreamFromState(byte[] state);
+
   /**
    * The size of the hash value in bits.
    *
@@ -15,6 +15,8 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import java.nio.ByteBuffer;
+
 /**
  * A 128-bit hash function.
  *
@@ -31,6 +33,9 @@ public interface Hasher128 extends Hasher64 {
   @Override
   HashStream128 hashStream();
 
+  @Override
+  HashStream128 hashStreamFromState(byte[] state);
+
   /**
    * Hashes an object to a 128-bit {@link HashValue128} value.
    *
@@ -63,6 +68,19 @@ public interface Hasher128 extends Hasher64 {
    */
   HashValue128 hashBytesTo128Bits(byte[] input, int off, int len);
 
+  /**
+   * Hashes the remaining bytes of a {@link ByteBuffer} to a 128-bit {@link HashValue128} value.
+   *
+   * <p>The bytes from the current position up to the limit of the buffer are hashed. Neither the
+   * position, nor the limit, nor the byte order of the buffer are modified.
+   *
+   * <p>Equivalent to {@code hashTo128Bits(input, (b, f) -> f.putBytes(b))}.
+   *
+   * @param input the buffer
+   * @return the hash value
+   */
+  HashValue128 hashBytesTo128Bits(ByteBuffer input);
+
   /**
    * Hashes a {@link CharSequence} to a 128-bit {@link HashValue128} value.
    *
@@ -15,6 +15,8 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import java.nio.ByteBuffer;
+
 /**
  * A 32-bit hash function.
  *
@@ -26,6 +28,9 @@ public interface Hasher32 extends Hasher {
   @Override
   HashStream32 hashStream();
 
+  @Override
+  HashStream32 hashStreamFromState(byte[] state);
+
   /**
    * Hashes an object to a 32-bit integer value.
    *
@@ -58,6 +63,19 @@ public interface Hasher32 extends Hasher {
    */
   int hashBytesToInt(byte[] input, int off, int len);
 
+  /**
+   * Hashes the remaining bytes of a {@link ByteBuffer} to a 32-bit integer value.
+   *
+   * <p>The bytes from the current position up to the limit of the buffer are hashed. Neither the
+   * position, nor the limit, nor the byte order of the buffer are modified.
+   *
+   * <p>Equivalent to {@code hashToInt(input, (b, f) -> f.putBytes(b))}.
+   *
+   * @param input the buffer
+   * @return the hash value
+   */
+  int hashBytesToInt(ByteBuffer input);
+
   /**
    * Hashes a {@link CharSequence} to a 32-bit {@code int} value.
    *
@@ -67,4 +85,19 @@ public interface Hasher32 extends Hasher {
    * @return the hash value
    */
   int hashCharsToInt(CharSequence input);
+
+  /**
+   * Hashes a sequence of 32-bit {@code int} values to 32-bit {@code int} values, one hash value per
+   * input value.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) hashes[hashesOff + i] =
+   * hashStream().putInt(input[inputOff + i]).getAsInt();}
+   *
+   * @param input the input values
+   * @param inputOff the offset of the first input value
+   * @param hashes the array to which the hash values are written
+   * @param hashesOff the offset of the first hash value
+   * @param len the number of values to hash
+   */
+  void hashIntsToInts(int[] input, int inputOff, int[] hashes, int hashesOff, int len);
 }
@@ -15,6 +15,8 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import java.nio.ByteBuffer;
+
 /**
  * A 64-bit hash function.
  *
@@ -31,6 +33,9 @@ public interface Hasher64 extends Hasher32 {
   @Override
   HashStream64 hashStream();
 
+  @Override
+  HashStream64 hashStreamFromState(byte[] state);
+
   /**
    * Hashes an object to a 64-bit {@code long} value.
    *
@@ -63,6 +68,19 @@ public interface Hasher64 extends Hasher32 {
    */
   long hashBytesToLong(byte[] input, int off, int len);
 
+  /**
+   * Hashes the remaining bytes of a {@link ByteBuffer} to a 64-bit {@code long} value.
+   *
+   * <p>The bytes from the current position up to the limit of the buffer are hashed. Neither the
+   * position, nor the limit, nor the byte order of the buffer are modified.
+   *
+   * <p>Equivalent to {@code hashToLong(input, (b, f) -> f.putBytes(b))}.
+   *
+   * @param input the buffer
+   * @return the hash value
+   */
+  long hashBytesToLong(ByteBuffer input);
+
   /**
    * Hashes a {@link CharSequence} to a 64-bit {@code long} value.
    *
@@ -95,4 +113,58 @@ public interface Hasher64 extends Hasher32 {
    * @return the hash value
    */
   long hashLongLongLongToLong(long v1, long v2, long v3);
+
+  /**
+   * Hashes a sequence of 64-bit {@code long} values to 64-bit {@code long} values, one hash value
+   * per input value.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) hashes[hashesOff + i] =
+   * hashStream().putLong(input[inputOff + i]).getAsLong();}
+   *
+   * @param input the input values
+   * @param inputOff the offset of the first input value
+   * @param hashes the array to which the hash values are written
+   * @param hashesOff the offset of the first hash value
+   * @param len the number of values to hash
+   */
+  void hashLongsToLongs(long[] input, int inputOff, long[] hashes, int hashesOff, int len);
+
+  /**
+   * Hashes a sequence of {@link CharSequence}s to 64-bit {@code long} values, one hash value per
+   * char sequence.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) hashes[hashesOff + i] =
+   * hashCharsToLong(input[inputOff + i]);}
+   *
+   * @param input the char sequences
+   * @param inputOff the offset of the first char sequence
+   * @param hashes the array to which the hash values are written
+   * @param hashesOff the offset of the first hash value
+   * @param len the number of char sequences to hash
+   */
+  void hashCharsToLongs(CharSequence[] input, int inputOff, long[] hashes, int hashesOff, int len);
+
+  /**
+   * Hashes a sequence of slices of a byte array to 64-bit {@code long} values, one hash value per
+   * slice. The slices are described by their offsets and lengths and may overlap.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) hashes[hashesOff + i] =
+   * hashBytesToLong(input, offsets[slicesOff + i], lengths[slicesOff + i]);}
+   *
+   * @param input the byte array
+   * @param offsets the offsets of the slices
+   * @param lengths the lengths of the slices
+   * @param slicesOff the index of the first slice in {@code offsets} and {@code lengths}
+   * @param hashes the array to which the hash values are written
+   * @param hashesOff the offset of the first hash value
+   * @param len the number of slices to hash
+   */
+  void hashBytesToLongs(
+      byte[] input,
+      int[] offsets,
+      int[] lengths,
+      int slicesOff,
+      long[] hashes,
+      int hashesOff,
+      int len);
 }
@@ -376,4 +376,66 @@ public final class Hashing {
   public static Hasher64 farmHashUo(long seed0, long seed1) {
     return FarmHashUo.create(seed0, seed1);
   }
+
+  /**
+   * Returns a {@link Hasher64} implementing the 64-bit XXH3 algorithm using a seed value of zero
+   * and the default secret.
+   *
+   * <p>This implementation is compatible with the C++ reference implementation of {@code
+   * XXH3_64bits} defined in <a
+   * href="https://github.com/Cyan4973/xxHash/blob/v0.8.2/xxhash.h">xxhash.h</a> on an Intel x86
+   * architecture.
+   *
+   * @return a hasher instance
+   */
+  public static Hasher64 xxh3_64() {
+    return XXH3_64.create();
+  }
+
+  /**
+   * Returns a {@link Hasher64} implementing the 64-bit XXH3 algorithm using the given seed value.
+   *
+   * <p>This implementation is compatible with the C++ reference implementation of {@code
+   * XXH3_64bits_withSeed} defined in <a
+   * href="https://github.com/Cyan4973/xxHash/blob/v0.8.2/xxhash.h">xxhash.h</a> on an Intel x86
+   * architecture.
+   *
+   * @param seed a 64-bit seed
+   * @return a hasher instance
+   */
+  public static Hasher64 xxh3_64(long seed) {
+    return XXH3_64.create(seed);
+  }
+
+  /**
+   * Returns a {@link Hasher128} implementing the 128-bit XXH3 algorithm using a seed value of zero
+   * and the default secret.
+   *
+   * <p>This implementation is compatible with the C++ reference implementation of {@code
+   * XXH3_128bits} defined in <a
+   * href="https://github.com/Cyan4973/xxHash/blob/v0.8.2/xxhash.h">xxhash.h</a> on an Intel x86
+   * architecture. The 64 least significant bits of the 128-bit hash value correspond to the {@code
+   * low64} field of the {@code XXH128_hash_t} structure.
+   *
+   * @return a hasher instance
+   */
+  public static Hasher128 xxh3_128() {
+    return XXH3_128.create();
+  }
+
+  /**
+   * Returns a {@link Hasher128} implementing the 128-bit XXH3 algorithm using the given seed value.
+   *
+   * <p>This implementation is compatible with the C++ reference implementation of {@code
+   * XXH3_128bits_withSeed} defined in <a
+   * href="https://github.com/Cyan4973/xxHash/blob/v0.8.2/xxhash.h">xxhash.h</a> on an Intel x86
+   * architecture. The 64 least significant bits of the 128-bit hash value correspond to the {@code
+   * low64} field of the {@code XXH128_hash_t} structure.
+   *
+   * @param seed a 64-bit seed
+   * @return a hasher instance
+   */
+  public static Hasher128 xxh3_128(long seed) {
+    return XXH3_128.create(seed);
+  }
 }
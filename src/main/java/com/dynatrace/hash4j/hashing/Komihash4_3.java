@@ -285,6 +285,11 @@ class Komihash4_3 extends AbstractKomihash {
 
   private class HashStreamImpl extends AbstractKomihash.HashStreamImpl {
 
+    @Override
+    public HashStream64 copy() {
+      return copyTo(new HashStreamImpl());
+    }
+
     @Override
     protected void processBuffer(
         long b0, long b1, long b2, long b3, long b4, long b5, long b6, long b7) {
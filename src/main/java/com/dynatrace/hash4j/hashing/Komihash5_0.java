@@ -142,27 +142,7 @@ class Komihash5_0 extends AbstractKomihash {
       len -= 16;
     }
 
-    long r2h = see5;
-    long r2l = see1;
-    int ml8 = len << 3;
-    if (len > 7) {
-      r2l ^= getLong(input, off);
-      long y = getLong(input, off + len - 8);
-      r2h ^= (1L << ml8) | (y >>> 1 >>> ~ml8);
-    } else if (len > 3) {
-      long mh = getInt(input, off + len - 4);
-      long ml = getInt(input, off) & 0xFFFFFFFFL;
-      r2l ^= (1L << ml8) | ml | (mh << 32 >>> -ml8);
-    } else if (len > 0) {
-      long m = (1L << ml8) | (input[off] & 0xFFL);
-      if (len > 1) m |= (input[off + 1] & 0xFFL) << 8;
-      if (len > 2) m |= (input[off + 2] & 0xFFL) << 16;
-      r2l ^= m;
-    } else if (nonZeroLength) {
-      r2l ^= 1L;
-    }
-
-    return finish(r2h, r2l, see5);
+    return finishBytes(input, off, len, see1, see5, nonZeroLength);
   }
 
   @Override
@@ -252,6 +232,36 @@ class Komihash5_0 extends AbstractKomihash {
       len -= 8;
     }
 
+    return finishChars(input, off, len, see1, see5, nonZeroLength);
+  }
+
+  private static long finishBytes(
+      byte[] input, int off, int len, long see1, long see5, boolean nonZeroLength) {
+    long r2h = see5;
+    long r2l = see1;
+    int ml8 = len << 3;
+    if (len > 7) {
+      r2l ^= getLong(input, off);
+      long y = getLong(input, off + len - 8);
+      r2h ^= (1L << ml8) | (y >>> 1 >>> ~ml8);
+    } else if (len > 3) {
+      long mh = getInt(input, off + len - 4);
+      long ml = getInt(input, off) & 0xFFFFFFFFL;
+      r2l ^= (1L << ml8) | ml | (mh << 32 >>> -ml8);
+    } else if (len > 0) {
+      long m = (1L << ml8) | (input[off] & 0xFFL);
+      if (len > 1) m |= (input[off + 1] & 0xFFL) << 8;
+      if (len > 2) m |= (input[off + 2] & 0xFFL) << 16;
+      r2l ^= m;
+    } else if (nonZeroLength) {
+      r2l ^= 1L;
+    }
+
+    return finish(r2h, r2l, see5);
+  }
+
+  private static long finishChars(
+      CharSequence input, int off, int len, long see1, long see5, boolean nonZeroLength) {
     long r2h = see5;
     long r2l = see1;
     int ml8 = len << 4;
@@ -275,6 +285,11 @@ class Komihash5_0 extends AbstractKomihash {
 
   private class HashStreamImpl extends AbstractKomihash.HashStreamImpl {
 
+    @Override
+    public HashStream64 copy() {
+      return copyTo(new HashStreamImpl());
+    }
+
     @Override
     protected void processBuffer(
         long b0, long b1, long b2, long b3, long b4, long b5, long b6, long b7) {
@@ -322,6 +337,10 @@ class Komihash5_0 extends AbstractKomihash {
     }
   }
 
+  private long hashLongToLong(long v) {
+    return finish(this.seed5 ^ 1L, this.seed1 ^ v, this.seed5);
+  }
+
   @Override
   public long hashLongLongToLong(long v1, long v2) {
     long tmp1 = this.seed1 ^ v1;
@@ -337,4 +356,68 @@ class Komihash5_0 extends AbstractKomihash {
     long see5 = unsignedMultiplyHigh(tmp1, tmp2) + this.seed5;
     return finish(see5 ^ 1L, (tmp1 * tmp2) ^ (see5 ^ v3), see5);
   }
+
+  @Override
+  public void hashLongsToLongs(long[] input, int inputOff, long[] hashes, int hashesOff, int len) {
+    for (int i = 0; i < len; ++i) {
+      hashes[hashesOff + i] = hashLongToLong(input[inputOff + i]);
+    }
+  }
+
+  @Override
+  public void hashCharsToLongs(
+      CharSequence[] input, int inputOff, long[] hashes, int hashesOff, int len) {
+    long see1 = this.seed1;
+    long see5 = this.seed5;
+    int i = 0;
+    for (; i + 1 < len; i += 2) {
+      CharSequence input0 = input[inputOff + i];
+      CharSequence input1 = input[inputOff + i + 1];
+      int len0 = input0.length();
+      int len1 = input1.length();
+      if (len0 < 8 && len1 < 8) {
+        // both keys are short, interleave them
+        hashes[hashesOff + i] = finishChars(input0, 0, len0, see1, see5, len0 > 0);
+        hashes[hashesOff + i + 1] = finishChars(input1, 0, len1, see1, see5, len1 > 0);
+      } else {
+        hashes[hashesOff + i] = hashCharsToLong(input0);
+        hashes[hashesOff + i + 1] = hashCharsToLong(input1);
+      }
+    }
+    if (i < len) {
+      hashes[hashesOff + i] = hashCharsToLong(input[inputOff + i]);
+    }
+  }
+
+  @Override
+  public void hashBytesToLongs(
+      byte[] input,
+      int[] offsets,
+      int[] lengths,
+      int slicesOff,
+      long[] hashes,
+      int hashesOff,
+      int len) {
+    long see1 = this.seed1;
+    long see5 = this.seed5;
+    int i = 0;
+    for (; i + 1 < len; i += 2) {
+      int off0 = offsets[slicesOff + i];
+      int off1 = offsets[slicesOff + i + 1];
+      int len0 = lengths[slicesOff + i];
+      int len1 = lengths[slicesOff + i + 1];
+      if (len0 < 16 && len1 < 16) {
+        // both keys are short, interleave them
+        hashes[hashesOff + i] = finishBytes(input, off0, len0, see1, see5, len0 > 0);
+        hashes[hashesOff + i + 1] = finishBytes(input, off1, len1, see1, see5, len1 > 0);
+      } else {
+        hashes[hashesOff + i] = hashBytesToLong(input, off0, len0);
+        hashes[hashesOff + i + 1] = hashBytesToLong(input, off1, len1);
+      }
+    }
+    if (i < len) {
+      hashes[hashesOff + i] =
+          hashBytesToLong(input, offsets[slicesOff + i], lengths[slicesOff + i]);
+    }
+  }
 }
@@ -15,6 +15,8 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
+
 class Murmur3_128 extends AbstractHasher128 {
 
   private static final long C1 = 0x87c37b91114253d5L;
@@ -241,6 +243,17 @@ class Murmur3_128 extends AbstractHasher128 {
       return this;
     }
 
+    @Override
+    public HashStream128 copy() {
+      final HashStreamImpl hashStream = new HashStreamImpl();
+      hashStream.h1 = h1;
+      hashStream.h2 = h2;
+      hashStream.buffer0 = buffer0;
+      hashStream.buffer1 = buffer1;
+      hashStream.bitCount = bitCount;
+      return hashStream;
+    }
+
     @Override
     public HashStream128 putByte(byte b) {
       buffer1 |= ((b & 0xFFL) << bitCount);
@@ -594,6 +607,48 @@ class Murmur3_128 extends AbstractHasher128 {
     public int getHashBitSize() {
       return 128;
     }
+
+    @Override
+    public byte[] getState() {
+      int numBufferedBytes = (int) (bitCount >>> 3) & 0xF;
+      byte[] state = new byte[24 + numBufferedBytes];
+      setLong(state, 0, bitCount >>> 3);
+      setLong(state, 8, h1);
+      setLong(state, 16, h2);
+      long b0 = ((bitCount & 0x40L) != 0) ? buffer0 : buffer1;
+      for (int i = 0; i < numBufferedBytes; ++i) {
+        state[24 + i] = (byte) (((i < 8) ? b0 : buffer1) >>> (i << 3));
+      }
+      return state;
+    }
+
+    @Override
+    public HashStream128 setState(byte[] state) {
+      checkArgument(state.length >= 24, "illegal state");
+      long byteCount = getLong(state, 0);
+      int numBufferedBytes = (int) byteCount & 0xF;
+      checkArgument(byteCount >= 0 && state.length == 24 + numBufferedBytes, "illegal state");
+      bitCount = byteCount << 3;
+      h1 = getLong(state, 8);
+      h2 = getLong(state, 16);
+      long b0 = 0;
+      long b1 = 0;
+      for (int i = 0; i < numBufferedBytes; ++i) {
+        if (i < 8) {
+          b0 |= (state[24 + i] & 0xFFL) << (i << 3);
+        } else {
+          b1 |= (state[24 + i] & 0xFFL) << (i << 3);
+        }
+      }
+      if (numBufferedBytes >= 8) {
+        buffer0 = b0;
+        buffer1 = b1;
+      } else {
+        buffer0 = 0;
+        buffer1 = b0;
+      }
+      return this;
+    }
   }
 
   @Override
@@ -622,4 +677,15 @@ class Murmur3_128 extends AbstractHasher128 {
 
     return finalizeHashToLong(h1, h2, 24);
   }
+
+  private long hashLongToLong(long v) {
+    return finalizeHashToLong(seed ^ mixK1(v), seed, 8);
+  }
+
+  @Override
+  public void hashLongsToLongs(long[] input, int inputOff, long[] hashes, int hashesOff, int len) {
+    for (int i = 0; i < len; ++i) {
+      hashes[hashesOff + i] = hashLongToLong(input[inputOff + i]);
+    }
+  }
 }
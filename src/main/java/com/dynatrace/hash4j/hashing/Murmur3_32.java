@@ -15,6 +15,8 @@
  */
 package com.dynatrace.hash4j.hashing;
 
+import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
+
 class Murmur3_32 extends AbstractHasher32 {
 
   private static final int C1 = 0xcc9e2d51;
@@ -95,6 +97,13 @@ class Murmur3_32 extends AbstractHasher32 {
     return fmix32(h1);
   }
 
+  @Override
+  public void hashIntsToInts(int[] input, int inputOff, int[] hashes, int hashesOff, int len) {
+    for (int i = 0; i < len; ++i) {
+      hashes[hashesOff + i] = fmix32(mixH1(seed, mixK1(input[inputOff + i])) ^ 4);
+    }
+  }
+
   private static int mixK1(int k1) {
     k1 *= C1;
     k1 = Integer.rotateLeft(k1, 15);
@@ -134,6 +143,16 @@ class Murmur3_32 extends AbstractHasher32 {
       return this;
     }
 
+    @Override
+    public HashStream32 copy() {
+      final HashStreamImpl hashStream = new HashStreamImpl();
+      hashStream.h1 = h1;
+      hashStream.buffer = buffer;
+      hashStream.shift = shift;
+      hashStream.length = length;
+      return hashStream;
+    }
+
     @Override
     public HashStream32 putByte(byte b) {
       buffer |= ((b & 0xFFL) << shift);
@@ -284,5 +303,33 @@ class Murmur3_32 extends AbstractHasher32 {
     public int getHashBitSize() {
       return 32;
     }
+
+    @Override
+    public byte[] getState() {
+      int numBufferedBytes = length & 3;
+      byte[] state = new byte[8 + numBufferedBytes];
+      setInt(state, 0, length);
+      setInt(state, 4, h1);
+      for (int i = 0; i < numBufferedBytes; ++i) {
+        state[8 + i] = (byte) (buffer >>> (i << 3));
+      }
+      return state;
+    }
+
+    @Override
+    public HashStream32 setState(byte[] state) {
+      checkArgument(state.length >= 8, "illegal state");
+      int newLength = getInt(state, 0);
+      int numBufferedBytes = newLength & 3;
+      checkArgument(state.length == 8 + numBufferedBytes, "illegal state");
+      length = newLength;
+      h1 = getInt(state, 4);
+      buffer = 0;
+      for (int i = 0; i < numBufferedBytes; ++i) {
+        buffer |= (state[8 + i] & 0xFFL) << (i << 3);
+      }
+      shift = numBufferedBytes << 3;
+      return this;
+    }
   }
 }
@@ -41,6 +41,7 @@
 package com.dynatrace.hash4j.hashing;
 
 import static com.dynatrace.hash4j.hashing.UnsignedMultiplyUtil.unsignedMultiplyHigh;
+import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
 
 class PolymurHash2_0 extends AbstractHasher64 {
 
@@ -254,8 +255,6 @@ class PolymurHash2_0 extends AbstractHasher64 {
   @Override
   public long hashBytesToLong(byte[] input, int off, int len) {
     long polyAcc = tweak;
-    long t1Hi;
-    long t1Lo;
     long k3Local = this.k3;
     long k4Local = this.k4;
 
@@ -274,6 +273,13 @@ class PolymurHash2_0 extends AbstractHasher64 {
       polyAcc += polymurExtrared611(hk14);
     }
 
+    return finishBytes(input, off, len, polyAcc, k3Local, k4Local);
+  }
+
+  private long finishBytes(
+      byte[] input, int off, int len, long polyAcc, long k3Local, long k4Local) {
+    long t1Hi;
+    long t1Lo;
     if (len >= 8) {
       long m0 = getLong7(input, off) + k2;
       long m1 = getLong7(input, off + ((len - 7) >>> 1)) + k7;
@@ -319,8 +325,6 @@ class PolymurHash2_0 extends AbstractHasher64 {
   @Override
   public long hashCharsToLong(CharSequence input) {
     long polyAcc = tweak;
-    long t1Hi;
-    long t1Lo;
     long k3Local = this.k3;
     long k4Local = this.k4;
 
@@ -342,6 +346,13 @@ class PolymurHash2_0 extends AbstractHasher64 {
       polyAcc += polymurExtrared611(hk14);
     }
 
+    return finishChars(input, off, len, polyAcc, k3Local, k4Local);
+  }
+
+  private long finishChars(
+      CharSequence input, long off, long len, long polyAcc, long k3Local, long k4Local) {
+    long t1Hi;
+    long t1Lo;
     if (len >= 8) {
       long m0 = getLong7(input, off) + k2;
       long m1 = getLong7(input, off + ((len - 7) >>> 1)) + k7;
@@ -527,6 +538,16 @@ class PolymurHash2_0 extends AbstractHasher64 {
       return this;
     }
 
+    @Override
+    public HashStream64 copy() {
+      final HashStreamImpl hashStream = new HashStreamImpl();
+      hashStream.byteCount = byteCount;
+      hashStream.offset = offset;
+      hashStream.h = h;
+      System.arraycopy(buffer, 0, hashStream.buffer, 0, buffer.length);
+      return hashStream;
+    }
+
     @Override
     public HashStream64 putByte(byte v) {
       buffer[offset] = v;
@@ -780,6 +801,46 @@ class PolymurHash2_0 extends AbstractHasher64 {
     public long getAsLong() {
       return polymurMix(finish()) + s;
     }
+
+    @Override
+    public byte[] getState() {
+      boolean isProcessed = byteCount > 49;
+      byte[] state = new byte[(isProcessed ? 16 : 8) + offset];
+      setLong(state, 0, byteCount);
+      if (isProcessed) {
+        setLong(state, 8, h);
+      }
+      System.arraycopy(buffer, 0, state, state.length - offset, offset);
+      return state;
+    }
+
+    @Override
+    public HashStream64 setState(byte[] state) {
+      checkArgument(state.length >= 8, "illegal state");
+      long newByteCount = getLong(state, 0);
+      boolean isProcessed = newByteCount > 49;
+      int newOffset = isProcessed ? (int) ((newByteCount - 1) % 49) + 1 : (int) newByteCount;
+      checkArgument(
+          newByteCount >= 0 && state.length == (isProcessed ? 16 : 8) + newOffset, "illegal state");
+      byteCount = newByteCount;
+      offset = newOffset;
+      h = isProcessed ? getLong(state, 8) : 0;
+      System.arraycopy(state, state.length - offset, buffer, 0, offset);
+      return this;
+    }
+  }
+
+  private long hashLongToLong(long v) {
+    long m0 = (v & 0x00ffffffffffffffL) + k2;
+    long m1 = (v & 0x00ffffffffffffffL) + k7;
+    long m2 = (v >>> 8) + k;
+    long t0Hi = unsignedMultiplyHigh(m0, m1);
+    long t0Lo = m0 * m1;
+    long k31 = this.k3 + 8;
+    long t1Hi = unsignedMultiplyHigh(m2, k31);
+    long t1Lo = m2 * k31 + t0Lo;
+    t1Hi += t0Hi + ((t1Lo + 0x8000000000000000L < t0Lo + 0x8000000000000000L) ? 1 : 0);
+    return polymurMix(tweak + polymurRed611(t1Hi, t1Lo)) + s;
   }
 
   @Override
@@ -828,4 +889,70 @@ class PolymurHash2_0 extends AbstractHasher64 {
 
     return polymurMix(tweak + polymurRed611(t1Hi, t1Lo)) + s;
   }
+
+  @Override
+  public void hashLongsToLongs(long[] input, int inputOff, long[] hashes, int hashesOff, int len) {
+    for (int i = 0; i < len; ++i) {
+      hashes[hashesOff + i] = hashLongToLong(input[inputOff + i]);
+    }
+  }
+
+  @Override
+  public void hashCharsToLongs(
+      CharSequence[] input, int inputOff, long[] hashes, int hashesOff, int len) {
+    long polyAcc = tweak;
+    long k3Local = this.k3;
+    long k4Local = this.k4;
+    int i = 0;
+    for (; i + 1 < len; i += 2) {
+      CharSequence input0 = input[inputOff + i];
+      CharSequence input1 = input[inputOff + i + 1];
+      long len0 = ((long) input0.length()) << 1;
+      long len1 = ((long) input1.length()) << 1;
+      if (len0 <= 49 && len1 <= 49) {
+        // both keys are short, interleave them
+        hashes[hashesOff + i] = finishChars(input0, 0, len0, polyAcc, k3Local, k4Local);
+        hashes[hashesOff + i + 1] = finishChars(input1, 0, len1, polyAcc, k3Local, k4Local);
+      } else {
+        hashes[hashesOff + i] = hashCharsToLong(input0);
+        hashes[hashesOff + i + 1] = hashCharsToLong(input1);
+      }
+    }
+    if (i < len) {
+      hashes[hashesOff + i] = hashCharsToLong(input[inputOff + i]);
+    }
+  }
+
+  @Override
+  public void hashBytesToLongs(
+      byte[] input,
+      int[] offsets,
+      int[] lengths,
+      int slicesOff,
+      long[] hashes,
+      int hashesOff,
+      int len) {
+    long polyAcc = tweak;
+    long k3Local = this.k3;
+    long k4Local = this.k4;
+    int i = 0;
+    for (; i + 1 < len; i += 2) {
+      int off0 = offsets[slicesOff + i];
+      int off1 = offsets[slicesOff + i + 1];
+      int len0 = lengths[slicesOff + i];
+      int len1 = lengths[slicesOff + i + 1];
+      if (len0 <= 49 && len1 <= 49) {
+        // both keys are short, interleave them
+        hashes[hashesOff + i] = finishBytes(input, off0, len0, polyAcc, k3Local, k4Local);
+        hashes[hashesOff + i + 1] = finishBytes(input, off1, len1, polyAcc, k3Local, k4Local);
+      } else {
+        hashes[hashesOff + i] = hashBytesToLong(input, off0, len0);
+        hashes[hashesOff + i + 1] = hashBytesToLong(input, off1, len1);
+      }
+    }
+    if (i < len) {
+      hashes[hashesOff + i] =
+          hashBytesToLong(input, offsets[slicesOff + i], lengths[slicesOff + i]);
+    }
+  }
 }
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * This file includes a Java port of the XXH3 algorithm originally published
+ * at https://github.com/Cyan4973/xxHash under the following license:
+ *
+ * BSD 2-Clause License (https://www.opensource.org/licenses/bsd-license.php)
+ *
+ * Copyright (C) 2012-2023 Yann Collet
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are
+ * met:
+ *
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following disclaimer
+ *      in the documentation and/or other materials provided with the
+ *      distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dynatrace.hash4j.hashing;
+
+import static com.dynatrace.hash4j.hashing.AbstractHasher.getLong;
+import static com.dynatrace.hash4j.hashing.AbstractHasher.setLong;
+import static com.dynatrace.hash4j.hashing.UnsignedMultiplyUtil.unsignedMultiplyHigh;
+import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
+
+final class XXH3Util {
+
+  private XXH3Util() {}
+
+  static final long PRIME32_1 = 0x9E3779B1L;
+  static final long PRIME32_2 = 0x85EBCA77L;
+  static final long PRIME32_3 = 0xC2B2AE3DL;
+  static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  static final long PRIME64_3 = 0x165667B19E3779F9L;
+  static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+  static final long PRIME_MX1 = 0x165667919E3779F9L;
+  static final long PRIME_MX2 = 0x9FB21C651E98DF25L;
+
+  static final int SECRET_SIZE = 192;
+  static final int STRIPE_LEN = 64;
+  static final int NUM_STRIPES_PER_BLOCK = (SECRET_SIZE - STRIPE_LEN) >>> 3;
+  static final int BLOCK_LEN = STRIPE_LEN * NUM_STRIPES_PER_BLOCK;
+  static final int SECRET_LAST_ACC_START = SECRET_SIZE - STRIPE_LEN - 7;
+  static final int SECRET_MERGE_ACCS_START = 11;
+  static final int MID_SIZE_MAX = 240;
+  static final int MID_SIZE_START_OFFSET = 3;
+  static final int MID_SIZE_LAST_OFFSET = 136 - 17;
+
+  // hash streams keep the last stripe of the previously processed chunk in front of the buffer
+  static final int STREAM_BUFFER_START = STRIPE_LEN;
+  static final int STREAM_BUFFER_SIZE = 4 * STRIPE_LEN;
+  static final int STREAM_BUFFER_END = STREAM_BUFFER_START + STREAM_BUFFER_SIZE;
+
+  static final byte[] DEFAULT_SECRET = {
+    (byte) 0xb8, (byte) 0xfe, (byte) 0x6c, (byte) 0x39, (byte) 0x23, (byte) 0xa4, (byte) 0x4b,
+    (byte) 0xbe, (byte) 0x7c, (byte) 0x01, (byte) 0x81, (byte) 0x2c, (byte) 0xf7, (byte) 0x21,
+    (byte) 0xad, (byte) 0x1c, (byte) 0xde, (byte) 0xd4, (byte) 0x6d, (byte) 0xe9, (byte) 0x83,
+    (byte) 0x90, (byte) 0x97, (byte) 0xdb, (byte) 0x72, (byte) 0x40, (byte) 0xa4, (byte) 0xa4,
+    (byte) 0xb7, (byte) 0xb3, (byte) 0x67, (byte) 0x1f, (byte) 0xcb, (byte) 0x79, (byte) 0xe6,
+    (byte) 0x4e, (byte) 0xcc, (byte) 0xc0, (byte) 0xe5, (byte) 0x78, (byte) 0x82, (byte) 0x5a,
+    (byte) 0xd0, (byte) 0x7d, (byte) 0xcc, (byte) 0xff, (byte) 0x72, (byte) 0x21, (byte) 0xb8,
+    (byte) 0x08, (byte) 0x46, (byte) 0x74, (byte) 0xf7, (byte) 0x43, (byte) 0x24, (byte) 0x8e,
+    (byte) 0xe0, (byte) 0x35, (byte) 0x90, (byte) 0xe6, (byte) 0x81, (byte) 0x3a, (byte) 0x26,
+    (byte) 0x4c, (byte) 0x3c, (byte) 0x28, (byte) 0x52, (byte) 0xbb, (byte) 0x91, (byte) 0xc3,
+    (byte) 0x00, (byte) 0xcb, (byte) 0x88, (byte) 0xd0, (byte) 0x65, (byte) 0x8b, (byte) 0x1b,
+    (byte) 0x53, (byte) 0x2e, (byte) 0xa3, (byte) 0x71, (byte) 0x64, (byte) 0x48, (byte) 0x97,
+    (byte) 0xa2, (byte) 0x0d, (byte) 0xf9, (byte) 0x4e, (byte) 0x38, (byte) 0x19, (byte) 0xef,
+    (byte) 0x46, (byte) 0xa9, (byte) 0xde, (byte) 0xac, (byte) 0xd8, (byte) 0xa8, (byte) 0xfa,
+    (byte) 0x76, (byte) 0x3f, (byte) 0xe3, (byte) 0x9c, (byte) 0x34, (byte) 0x3f, (byte) 0xf9,
+    (byte) 0xdc, (byte) 0xbb, (byte) 0xc7, (byte) 0xc7, (byte) 0x0b, (byte) 0x4f, (byte) 0x1d,
+    (byte) 0x8a, (byte) 0x51, (byte) 0xe0, (byte) 0x4b, (byte) 0xcd, (byte) 0xb4, (byte) 0x59,
+    (byte) 0x31, (byte) 0xc8, (byte) 0x9f, (byte) 0x7e, (byte) 0xc9, (byte) 0xd9, (byte) 0x78,
+    (byte) 0x73, (byte) 0x64, (byte) 0xea, (byte) 0xc5, (byte) 0xac, (byte) 0x83, (byte) 0x34,
+    (byte) 0xd3, (byte) 0xeb, (byte) 0xc3, (byte) 0xc5, (byte) 0x81, (byte) 0xa0, (byte) 0xff,
+    (byte) 0xfa, (byte) 0x13, (byte) 0x63, (byte) 0xeb, (byte) 0x17, (byte) 0x0d, (byte) 0xdd,
+    (byte) 0x51, (byte) 0xb7, (byte) 0xf0, (byte) 0xda, (byte) 0x49, (byte) 0xd3, (byte) 0x16,
+    (byte) 0x55, (byte) 0x26, (byte) 0x29, (byte) 0xd4, (byte) 0x68, (byte) 0x9e, (byte) 0x2b,
+    (byte) 0x16, (byte) 0xbe, (byte) 0x58, (byte) 0x7d, (byte) 0x47, (byte) 0xa1, (byte) 0xfc,
+    (byte) 0x8f, (byte) 0xf8, (byte) 0xb8, (byte) 0xd1, (byte) 0x7a, (byte) 0xd0, (byte) 0x31,
+    (byte) 0xce, (byte) 0x45, (byte) 0xcb, (byte) 0x3a, (byte) 0x8f, (byte) 0x95, (byte) 0x16,
+    (byte) 0x04, (byte) 0x28, (byte) 0xaf, (byte) 0xd7, (byte) 0xfb, (byte) 0xca, (byte) 0xbb,
+    (byte) 0x4b, (byte) 0x40, (byte) 0x7e
+  };
+
+  static byte[] deriveSecret(long seed) {
+    byte[] secret = new byte[SECRET_SIZE];
+    for (int i = 0; i < SECRET_SIZE; i += 16) {
+      setLong(secret, i, getLong(DEFAULT_SECRET, i) + seed);
+      setLong(secret, i + 8, getLong(DEFAULT_SECRET, i + 8) - seed);
+    }
+    return secret;
+  }
+
+  static void initAccumulators(long[] acc) {
+    acc[0] = PRIME32_3;
+    acc[1] = PRIME64_1;
+    acc[2] = PRIME64_2;
+    acc[3] = PRIME64_3;
+    acc[4] = PRIME64_4;
+    acc[5] = PRIME32_2;
+    acc[6] = PRIME64_5;
+    acc[7] = PRIME32_1;
+  }
+
+  static long avalanche64(long h) {
+    h ^= h >>> 33;
+    h *= PRIME64_2;
+    h ^= h >>> 29;
+    h *= PRIME64_3;
+    return h ^ (h >>> 32);
+  }
+
+  static long avalanche3(long h) {
+    h ^= h >>> 37;
+    h *= PRIME_MX1;
+    return h ^ (h >>> 32);
+  }
+
+  static long rrmxmx(long h, long len) {
+    h ^= Long.rotateLeft(h, 49) ^ Long.rotateLeft(h, 24);
+    h *= PRIME_MX2;
+    h ^= (h >>> 35) + len;
+    h *= PRIME_MX2;
+    return h ^ (h >>> 28);
+  }
+
+  static long mul128Fold64(long x, long y) {
+    return (x * y) ^ unsignedMultiplyHigh(x, y);
+  }
+
+  static long mix16B(byte[] b, int off, int secOff, long seed) {
+    return mul128Fold64(
+        getLong(b, off) ^ (getLong(DEFAULT_SECRET, secOff) + seed),
+        getLong(b, off + 8) ^ (getLong(DEFAULT_SECRET, secOff + 8) - seed));
+  }
+
+  static long mix16B(long b0, long b1, int secOff, long seed) {
+    return mul128Fold64(
+        b0 ^ (getLong(DEFAULT_SECRET, secOff) + seed),
+        b1 ^ (getLong(DEFAULT_SECRET, secOff + 8) - seed));
+  }
+
+  /**
+   * Processes a single stripe of 64 bytes.
+   *
+   * @param acc the accumulators
+   * @param b the byte array
+   * @param off the offset of the stripe
+   * @param secret the secret
+   * @param secOff the offset within the secret
+   */
+  static void accumulate512(long[] acc, byte[] b, int off, byte[] secret, int secOff) {
+    for (int i = 0; i < 8; ++i) {
+      long dataVal = getLong(b, off + (i << 3));
+      long dataKey = dataVal ^ getLong(secret, secOff + (i << 3));
+      acc[i ^ 1] += dataVal;
+      acc[i] += (dataKey & 0xFFFFFFFFL) * (dataKey >>> 32);
+    }
+  }
+
+  static void accumulate(
+      long[] acc, byte[] b, int off, byte[] secret, int firstStripe, int numStripes) {
+    for (int s = 0; s < numStripes; ++s) {
+      accumulate512(acc, b, off + (s << 6), secret, (firstStripe + s) << 3);
+    }
+  }
+
+  static void scrambleAcc(long[] acc, byte[] secret) {
+    for (int i = 0; i < 8; ++i) {
+      long a = acc[i];
+      a ^= a >>> 47;
+      a ^= getLong(secret, SECRET_SIZE - STRIPE_LEN + (i << 3));
+      acc[i] = a * PRIME32_1;
+    }
+  }
+
+  static long mergeAccs(long[] acc, byte[] secret, int secOff, long start) {
+    long result = start;
+    for (int i = 0; i < 4; ++i) {
+      result +=
+          mul128Fold64(
+              acc[2 * i] ^ getLong(secret, secOff + (i << 4)),
+              acc[2 * i + 1] ^ getLong(secret, secOff + (i << 4) + 8));
+    }
+    return avalanche3(result);
+  }
+
+  /**
+   * Fills the accumulators for a byte sequence longer than {@link #MID_SIZE_MAX} bytes including
+   * the last stripe.
+   *
+   * @param b the byte array
+   * @param off the offset
+   * @param len the length
+   * @param secret the secret
+   * @return the accumulators
+   */
+  static long[] hashLongToAccumulators(byte[] b, int off, int len, byte[] secret) {
+    long[] acc = new long[8];
+    initAccumulators(acc);
+    int numBlocks = (len - 1) / BLOCK_LEN;
+    for (int n = 0; n < numBlocks; ++n) {
+      accumulate(acc, b, off + n * BLOCK_LEN, secret, 0, NUM_STRIPES_PER_BLOCK);
+      scrambleAcc(acc, secret);
+    }
+    int numStripes = ((len - 1) - BLOCK_LEN * numBlocks) >>> 6;
+    accumulate(acc, b, off + numBlocks * BLOCK_LEN, secret, 0, numStripes);
+    accumulate512(acc, b, off + len - STRIPE_LEN, secret, SECRET_LAST_ACC_START);
+    return acc;
+  }
+
+  /**
+   * Processes a chunk of {@link #STREAM_BUFFER_SIZE} bytes, which is always aligned with the block
+   * boundaries.
+   *
+   * @param acc the accumulators
+   * @param b the byte array
+   * @param off the offset of the chunk
+   * @param secret the secret
+   * @param numStripes the number of stripes already processed within the current block
+   * @return the number of stripes processed within the current block after processing the chunk
+   */
+  static int accumulateChunk(long[] acc, byte[] b, int off, byte[] secret, int numStripes) {
+    accumulate(acc, b, off, secret, numStripes, 4);
+    numStripes += 4;
+    if (numStripes == NUM_STRIPES_PER_BLOCK) {
+      scrambleAcc(acc, secret);
+      numStripes = 0;
+    }
+    return numStripes;
+  }
+
+  /**
+   * Computes the final accumulators of a hash stream without modifying its state.
+   *
+   * @param acc the accumulators of the hash stream
+   * @param finalAcc the array to which the final accumulators are written
+   * @param buffer the buffer of the hash stream
+   * @param bufferedSize the number of bytes in the buffer, must be positive
+   * @param secret the secret
+   * @param numStripes the number of stripes already processed within the current block
+   */
+  static void finalizeAccumulators(
+      long[] acc, long[] finalAcc, byte[] buffer, int bufferedSize, byte[] secret, int numStripes) {
+    System.arraycopy(acc, 0, finalAcc, 0, 8);
+    accumulate(
+        finalAcc, buffer, STREAM_BUFFER_START, secret, numStripes, (bufferedSize - 1) >>> 6);
+    accumulate512(
+        finalAcc,
+        buffer,
+        STREAM_BUFFER_START + bufferedSize - STRIPE_LEN,
+        secret,
+        SECRET_LAST_ACC_START);
+  }
+
+  /**
+   * Returns the number of bytes in the buffer of a hash stream after the given number of bytes.
+   *
+   * @param byteCount the number of bytes added to the hash stream
+   * @return the number of buffered bytes
+   */
+  static int getStreamBufferedSize(long byteCount) {
+    if (byteCount <= STREAM_BUFFER_SIZE) {
+      return (int) byteCount;
+    }
+    return (int) ((byteCount - 1) % STREAM_BUFFER_SIZE) + 1;
+  }
+
+  /**
+   * Returns the state of a hash stream.
+   *
+   * <p>The state consists of the byte count and the buffered bytes. If a chunk has already been
+   * processed, it additionally contains the accumulators and the last stripe of the previously
+   * processed chunk.
+   *
+   * @param acc the accumulators of the hash stream
+   * @param buffer the buffer of the hash stream
+   * @param byteCount the number of bytes added to the hash stream
+   * @param bufferedSize the number of bytes in the buffer
+   * @return the state
+   */
+  static byte[] getStreamState(long[] acc, byte[] buffer, long byteCount, int bufferedSize) {
+    if (byteCount <= STREAM_BUFFER_SIZE) {
+      byte[] state = new byte[8 + bufferedSize];
+      setLong(state, 0, byteCount);
+      System.arraycopy(buffer, STREAM_BUFFER_START, state, 8, bufferedSize);
+      return state;
+    }
+    byte[] state = new byte[72 + STREAM_BUFFER_START + bufferedSize];
+    setLong(state, 0, byteCount);
+    for (int i = 0; i < 8; ++i) {
+      setLong(state, 8 + (i << 3), acc[i]);
+    }
+    System.arraycopy(buffer, 0, state, 72, STREAM_BUFFER_START + bufferedSize);
+    return state;
+  }
+
+  /**
+   * Restores the accumulators and the buffer of a hash stream from a state returned by {@link
+   * #getStreamState(long[], byte[], long, int)}.
+   *
+   * @param state the state
+   * @param acc the accumulators of the hash stream
+   * @param buffer the buffer of the hash stream
+   * @return the number of bytes added to the hash stream
+   * @throws IllegalArgumentException if the given state is not valid
+   */
+  static long setStreamState(byte[] state, long[] acc, byte[] buffer) {
+    checkArgument(state.length >= 8, "illegal state");
+    long byteCount = getLong(state, 0);
+    checkArgument(byteCount >= 0, "illegal state");
+    int bufferedSize = getStreamBufferedSize(byteCount);
+    if (byteCount <= STREAM_BUFFER_SIZE) {
+      checkArgument(state.length == 8 + bufferedSize, "illegal state");
+      initAccumulators(acc);
+      System.arraycopy(state, 8, buffer, STREAM_BUFFER_START, bufferedSize);
+    } else {
+      checkArgument(state.length == 72 + STREAM_BUFFER_START + bufferedSize, "illegal state");
+      for (int i = 0; i < 8; ++i) {
+        acc[i] = getLong(state, 8 + (i << 3));
+      }
+      System.arraycopy(state, 72, buffer, 0, STREAM_BUFFER_START + bufferedSize);
+    }
+    return byteCount;
+  }
+}
@@ -0,0 +1,442 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * This file includes a Java port of the XXH3 algorithm originally published
+ * at https://github.com/Cyan4973/xxHash under the following license:
+ *
+ * BSD 2-Clause License (https://www.opensource.org/licenses/bsd-license.php)
+ *
+ * Copyright (C) 2012-2023 Yann Collet
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are
+ * met:
+ *
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following disclaimer
+ *      in the documentation and/or other materials provided with the
+ *      distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dynatrace.hash4j.hashing;
+
+import static com.dynatrace.hash4j.hashing.UnsignedMultiplyUtil.unsignedMultiplyHigh;
+import static com.dynatrace.hash4j.hashing.XXH3Util.*;
+
+class XXH3_128 extends AbstractHasher128 {
+
+  private static final Hasher128 DEFAULT_HASHER_INSTANCE = create(0L);
+
+  static Hasher128 create() {
+    return DEFAULT_HASHER_INSTANCE;
+  }
+
+  static Hasher128 create(long seed) {
+    return new XXH3_128(seed);
+  }
+
+  private final byte[] secret;
+  private final long seed;
+
+  private final HashValue128 hash0;
+  private final long bitflip00;
+  private final long bitflip01;
+  private final long bitflip12;
+  private final long bitflip23;
+  private final long bitflip34;
+
+  private XXH3_128(long seed) {
+    this.secret = deriveSecret(seed);
+    this.seed = seed;
+
+    this.hash0 =
+        new HashValue128(
+            avalanche64(seed ^ getLong(DEFAULT_SECRET, 80) ^ getLong(DEFAULT_SECRET, 88)),
+            avalanche64(seed ^ getLong(DEFAULT_SECRET, 64) ^ getLong(DEFAULT_SECRET, 72)));
+    this.bitflip00 =
+        ((getInt(DEFAULT_SECRET, 0) ^ getInt(DEFAULT_SECRET, 4)) & 0xFFFFFFFFL) + seed;
+    this.bitflip01 =
+        ((getInt(DEFAULT_SECRET, 8) ^ getInt(DEFAULT_SECRET, 12)) & 0xFFFFFFFFL) - seed;
+    this.bitflip12 =
+        (getLong(DEFAULT_SECRET, 16) ^ getLong(DEFAULT_SECRET, 24))
+            + (seed ^ ((long) Integer.reverseBytes((int) seed) << 32));
+    this.bitflip23 = (getLong(DEFAULT_SECRET, 32) ^ getLong(DEFAULT_SECRET, 40)) - seed;
+    this.bitflip34 = (getLong(DEFAULT_SECRET, 48) ^ getLong(DEFAULT_SECRET, 56)) + seed;
+  }
+
+  @Override
+  public HashStream128 hashStream() {
+    return new HashStreamImpl();
+  }
+
+  private HashValue128 hash1To3(int c1, int c2, int c3, int len) {
+    int combinedl = (c1 << 16) | (c2 << 24) | c3 | (len << 8);
+    int combinedh = Integer.rotateLeft(Integer.reverseBytes(combinedl), 13);
+    long keyedLo = (combinedl & 0xFFFFFFFFL) ^ bitflip00;
+    long keyedHi = (combinedh & 0xFFFFFFFFL) ^ bitflip01;
+    return new HashValue128(avalanche64(keyedHi), avalanche64(keyedLo));
+  }
+
+  private HashValue128 hash4To8(long inputLo, long inputHi, int len) {
+    long keyed = (inputLo + (inputHi << 32)) ^ bitflip12;
+    long m = PRIME64_1 + (len << 2);
+    long lowLo = keyed * m;
+    long lowHi = unsignedMultiplyHigh(keyed, m);
+    lowHi += lowLo << 1;
+    lowLo ^= lowHi >>> 3;
+    lowLo ^= lowLo >>> 35;
+    lowLo *= PRIME_MX2;
+    lowLo ^= lowLo >>> 28;
+    return new HashValue128(avalanche3(lowHi), lowLo);
+  }
+
+  private HashValue128 hash9To16(long inputLo, long inputHi, int len) {
+    long x = inputLo ^ inputHi ^ bitflip23;
+    long mLo = x * PRIME64_1;
+    long mHi = unsignedMultiplyHigh(x, PRIME64_1);
+    mLo += (long) (len - 1) << 54;
+    inputHi ^= bitflip34;
+    mHi += inputHi + (inputHi & 0xFFFFFFFFL) * (PRIME32_2 - 1);
+    mLo ^= Long.reverseBytes(mHi);
+    long hLo = mLo * PRIME64_2;
+    long hHi = unsignedMultiplyHigh(mLo, PRIME64_2) + mHi * PRIME64_2;
+    return new HashValue128(avalanche3(hHi), avalanche3(hLo));
+  }
+
+  private HashValue128 finalizeMidSize(long accLo, long accHi, int len) {
+    long hLo = accLo + accHi;
+    long hHi = accLo * PRIME64_1 + accHi * PRIME64_4 + (len - seed) * PRIME64_2;
+    return new HashValue128(-avalanche3(hHi), avalanche3(hLo));
+  }
+
+  private HashValue128 finalizeHash(long[] acc, long len) {
+    long lo = mergeAccs(acc, secret, SECRET_MERGE_ACCS_START, len * PRIME64_1);
+    long hi =
+        mergeAccs(
+            acc, secret, SECRET_SIZE - STRIPE_LEN - SECRET_MERGE_ACCS_START, ~(len * PRIME64_2));
+    return new HashValue128(hi, lo);
+  }
+
+  @Override
+  public HashValue128 hashBytesTo128Bits(byte[] input, int off, int len) {
+    if (len <= 16) {
+      if (len > 8) {
+        return hash9To16(getLong(input, off), getLong(input, off + len - 8), len);
+      }
+      if (len >= 4) {
+        return hash4To8(
+            getInt(input, off) & 0xFFFFFFFFL, getInt(input, off + len - 4) & 0xFFFFFFFFL, len);
+      }
+      if (len > 0) {
+        return hash1To3(
+            input[off] & 0xFF, input[off + (len >> 1)] & 0xFF, input[off + len - 1] & 0xFF, len);
+      }
+      return hash0;
+    }
+    if (len <= 128) {
+      long accLo = len * PRIME64_1;
+      long accHi = 0;
+      if (len > 32) {
+        if (len > 64) {
+          if (len > 96) {
+            long b0 = getLong(input, off + 48);
+            long b1 = getLong(input, off + 56);
+            long b2 = getLong(input, off + len - 64);
+            long b3 = getLong(input, off + len - 56);
+            accLo += mix16B(b0, b1, 96, seed);
+            accLo ^= b2 + b3;
+            accHi += mix16B(b2, b3, 112, seed);
+            accHi ^= b0 + b1;
+          }
+          long b0 = getLong(input, off + 32);
+          long b1 = getLong(input, off + 40);
+          long b2 = getLong(input, off + len - 48);
+          long b3 = getLong(input, off + len - 40);
+          accLo += mix16B(b0, b1, 64, seed);
+          accLo ^= b2 + b3;
+          accHi += mix16B(b2, b3, 80, seed);
+          accHi ^= b0 + b1;
+        }
+        long b0 = getLong(input, off + 16);
+        long b1 = getLong(input, off + 24);
+        long b2 = getLong(input, off + len - 32);
+        long b3 = getLong(input, off + len - 24);
+        accLo += mix16B(b0, b1, 32, seed);
+        accLo ^= b2 + b3;
+        accHi += mix16B(b2, b3, 48, seed);
+        accHi ^= b0 + b1;
+      }
+      long b0 = getLong(input, off);
+      long b1 = getLong(input, off + 8);
+      long b2 = getLong(input, off + len - 16);
+      long b3 = getLong(input, off + len - 8);
+      accLo += mix16B(b0, b1, 0, seed);
+      accLo ^= b2 + b3;
+      accHi += mix16B(b2, b3, 16, seed);
+      accHi ^= b0 + b1;
+      return finalizeMidSize(accLo, accHi, len);
+    }
+    if (len <= MID_SIZE_MAX) {
+      long accLo = len * PRIME64_1;
+      long accHi = 0;
+      for (int i = 0; i < 4; ++i) {
+        long b0 = getLong(input, off + (i << 5));
+        long b1 = getLong(input, off + (i << 5) + 8);
+        long b2 = getLong(input, off + (i << 5) + 16);
+        long b3 = getLong(input, off + (i << 5) + 24);
+        accLo += mix16B(b0, b1, i << 5, seed);
+        accLo ^= b2 + b3;
+        accHi += mix16B(b2, b3, (i << 5) + 16, seed);
+        accHi ^= b0 + b1;
+      }
+      accLo = avalanche3(accLo);
+      accHi = avalanche3(accHi);
+      int numRounds = len >>> 5;
+      for (int i = 4; i < numRounds; ++i) {
+        long b0 = getLong(input, off + (i << 5));
+        long b1 = getLong(input, off + (i << 5) + 8);
+        long b2 = getLong(input, off + (i << 5) + 16);
+        long b3 = getLong(input, off + (i << 5) + 24);
+        accLo += mix16B(b0, b1, ((i - 4) << 5) + MID_SIZE_START_OFFSET, seed);
+        accLo ^= b2 + b3;
+        accHi += mix16B(b2, b3, ((i - 4) << 5) + MID_SIZE_START_OFFSET + 16, seed);
+        accHi ^= b0 + b1;
+      }
+      long b0 = getLong(input, off + len - 16);
+      long b1 = getLong(input, off + len - 8);
+      long b2 = getLong(input, off + len - 32);
+      long b3 = getLong(input, off + len - 24);
+      accLo += mix16B(b0, b1, MID_SIZE_LAST_OFFSET - 16, -seed);
+      accLo ^= b2 + b3;
+      accHi += mix16B(b2, b3, MID_SIZE_LAST_OFFSET, -seed);
+      accHi ^= b0 + b1;
+      return finalizeMidSize(accLo, accHi, len);
+    }
+    long[] acc = hashLongToAccumulators(input, off, len, secret);
+    return finalizeHash(acc, len);
+  }
+
+  @Override
+  public HashValue128 hashCharsTo128Bits(CharSequence input) {
+    int len = input.length();
+    if (len <= 8) {
+      if (len > 4) {
+        return hash9To16(getLong(input, 0), getLong(input, len - 4), len << 1);
+      }
+      if (len >= 2) {
+        return hash4To8(
+            getInt(input, 0) & 0xFFFFFFFFL, getInt(input, len - 2) & 0xFFFFFFFFL, len << 1);
+      }
+      if (len > 0) {
+        int c = input.charAt(0);
+        return hash1To3(c & 0xFF, c >>> 8, c >>> 8, 2);
+      }
+      return hash0;
+    }
+    return hashStream().putChars(input).get();
+  }
+
+  @Override
+  public long hashLongLongToLong(long v1, long v2) {
+    return hash9To16(v1, v2, 16).getAsLong();
+  }
+
+  private class HashStreamImpl extends AbstractHashStream128 {
+
+    private final byte[] buffer = new byte[STREAM_BUFFER_END + 8];
+    private final long[] acc = new long[8];
+    private final long[] finalAcc = new long[8];
+    private long byteCount = 0;
+    private int offset = 0;
+    private int numStripes = 0;
+
+    HashStreamImpl() {
+      initAccumulators(acc);
+    }
+
+    @Override
+    public HashStream128 reset() {
+      initAccumulators(acc);
+      byteCount = 0;
+      offset = 0;
+      numStripes = 0;
+      return this;
+    }
+
+    @Override
+    public HashStream128 copy() {
+      final HashStreamImpl hashStream = new HashStreamImpl();
+      hashStream.byteCount = byteCount;
+      hashStream.offset = offset;
+      hashStream.numStripes = numStripes;
+      System.arraycopy(acc, 0, hashStream.acc, 0, 8);
+      System.arraycopy(buffer, 0, hashStream.buffer, 0, buffer.length);
+      return hashStream;
+    }
+
+    private void processBuffer() {
+      numStripes = accumulateChunk(acc, buffer, STREAM_BUFFER_START, secret, numStripes);
+      System.arraycopy(buffer, STREAM_BUFFER_END - STRIPE_LEN, buffer, 0, STRIPE_LEN);
+    }
+
+    @Override
+    public HashStream128 putByte(byte v) {
+      buffer[STREAM_BUFFER_START + offset] = v;
+      offset += 1;
+      byteCount += 1;
+      if (offset > STREAM_BUFFER_SIZE) {
+        processBuffer();
+        buffer[STREAM_BUFFER_START] = buffer[STREAM_BUFFER_END];
+        offset -= STREAM_BUFFER_SIZE;
+      }
+      return this;
+    }
+
+    @Override
+    public HashStream128 putShort(short v) {
+      setShort(buffer, STREAM_BUFFER_START + offset, v);
+      offset += 2;
+      byteCount += 2;
+      if (offset > STREAM_BUFFER_SIZE) {
+        processBuffer();
+        setShort(buffer, STREAM_BUFFER_START, getShort(buffer, STREAM_BUFFER_END));
+        offset -= STREAM_BUFFER_SIZE;
+      }
+      return this;
+    }
+
+    @Override
+    public HashStream128 putChar(char v) {
+      setChar(buffer, STREAM_BUFFER_START + offset, v);
+      offset += 2;
+      byteCount += 2;
+      if (offset > STREAM_BUFFER_SIZE) {
+        processBuffer();
+        setChar(buffer, STREAM_BUFFER_START, getChar(buffer, STREAM_BUFFER_END));
+        offset -= STREAM_BUFFER_SIZE;
+      }
+      return this;
+    }
+
+    @Override
+    public HashStream128 putInt(int v) {
+      setInt(buffer, STREAM_BUFFER_START + offset, v);
+      offset += 4;
+      byteCount += 4;
+      if (offset > STREAM_BUFFER_SIZE) {
+        processBuffer();
+        setInt(buffer, STREAM_BUFFER_START, getInt(buffer, STREAM_BUFFER_END));
+        offset -= STREAM_BUFFER_SIZE;
+      }
+      return this;
+    }
+
+    @Override
+    public HashStream128 putLong(long v) {
+      setLong(buffer, STREAM_BUFFER_START + offset, v);
+      offset += 8;
+      byteCount += 8;
+      if (offset > STREAM_BUFFER_SIZE) {
+        processBuffer();
+        setLong(buffer, STREAM_BUFFER_START, getLong(buffer, STREAM_BUFFER_END));
+        offset -= STREAM_BUFFER_SIZE;
+      }
+      return this;
+    }
+
+    @Override
+    public HashStream128 putBytes(byte[] b, int off, int len) {
+      byteCount += len;
+      int x = STREAM_BUFFER_SIZE - offset;
+      if (len > x) {
+        System.arraycopy(b, off, buffer, STREAM_BUFFER_START + offset, x);
+        off += x;
+        len -= x;
+        offset = 0;
+        processBuffer();
+        if (len > STREAM_BUFFER_SIZE) {
+          do {
+            numStripes = accumulateChunk(acc, b, off, secret, numStripes);
+            off += STREAM_BUFFER_SIZE;
+            len -= STREAM_BUFFER_SIZE;
+          } while (len > STREAM_BUFFER_SIZE);
+          System.arraycopy(b, off - STRIPE_LEN, buffer, 0, STRIPE_LEN);
+        }
+      }
+      System.arraycopy(b, off, buffer, STREAM_BUFFER_START + offset, len);
+      offset += len;
+      return this;
+    }
+
+    @Override
+    public HashStream128 putChars(CharSequence s) {
+      int len = s.length();
+      int i = 0;
+      for (; i <= len - 4; i += 4) {
+        putLong(getLong(s, i));
+      }
+      for (; i < len; ++i) {
+        putChar(s.charAt(i));
+      }
+      return this;
+    }
+
+    @Override
+    public HashValue128 get() {
+      if (byteCount <= MID_SIZE_MAX) {
+        return hashBytesTo128Bits(buffer, STREAM_BUFFER_START, (int) byteCount);
+      }
+      finalizeAccumulators(acc, finalAcc, buffer, offset, secret, numStripes);
+      return finalizeHash(finalAcc, byteCount);
+    }
+
+    @Override
+    public long getAsLong() {
+      if (byteCount <= MID_SIZE_MAX) {
+        return hashBytesTo128Bits(buffer, STREAM_BUFFER_START, (int) byteCount).getAsLong();
+      }
+      finalizeAccumulators(acc, finalAcc, buffer, offset, secret, numStripes);
+      return mergeAccs(finalAcc, secret, SECRET_MERGE_ACCS_START, byteCount * PRIME64_1);
+    }
+
+    @Override
+    public byte[] getState() {
+      return getStreamState(acc, buffer, byteCount, offset);
+    }
+
+    @Override
+    public HashStream128 setState(byte[] state) {
+      byteCount = setStreamState(state, acc, buffer);
+      offset = getStreamBufferedSize(byteCount);
+      numStripes = (int) (((byteCount - offset) / STRIPE_LEN) % NUM_STRIPES_PER_BLOCK);
+      return this;
+    }
+  }
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * This file includes a Java port of the XXH3 algorithm originally published
+ * at https://github.com/Cyan4973/xxHash under the following license:
+ *
+ * BSD 2-Clause License (https://www.opensource.org/licenses/bsd-license.php)
+ *
+ * Copyright (C) 2012-2023 Yann Collet
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are
+ * met:
+ *
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following disclaimer
+ *      in the documentation and/or other materials provided with the
+ *      distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dynatrace.hash4j.hashing;
+
+import static com.dynatrace.hash4j.hashing.XXH3Util.*;
+
+class XXH3_64 extends AbstractHasher64 {
+
+  private static final Hasher64 DEFAULT_HASHER_INSTANCE = create(0L);
+
+  static Hasher64 create() {
+    return DEFAULT_HASHER_INSTANCE;
+  }
+
+  static Hasher64 create(long seed) {
+    return new XXH3_64(seed);
+  }
+
+  private final byte[] secret;
+  private final long seed;
+
+  private final long hash0;
+  private final long bitflip00;
+  private final long bitflip12;
+  private final long bitflip34;
+  private final long bitflip56;
+
+  private XXH3_64(long seed) {
+    this.secret = deriveSecret(seed);
+    this.seed = seed;
+
+    this.hash0 =
+        avalanche64(seed ^ getLong(DEFAULT_SECRET, 56) ^ getLong(DEFAULT_SECRET, 64));
+    this.bitflip00 =
+        ((getInt(DEFAULT_SECRET, 0) ^ getInt(DEFAULT_SECRET, 4)) & 0xFFFFFFFFL) + seed;
+    this.bitflip12 =
+        (getLong(DEFAULT_SECRET, 8) ^ getLong(DEFAULT_SECRET, 16))
+            - (seed ^ ((long) Integer.reverseBytes((int) seed) << 32));
+    this.bitflip34 = (getLong(DEFAULT_SECRET, 24) ^ getLong(DEFAULT_SECRET, 32)) + seed;
+    this.bitflip56 = (getLong(DEFAULT_SECRET, 40) ^ getLong(DEFAULT_SECRET, 48)) - seed;
+  }
+
+  @Override
+  public HashStream64 hashStream() {
+    return new HashStreamImpl();
+  }
+
+  @Override
+  public long hashBytesToLong(byte[] input, int off, int len) {
+    if (len <= 16) {
+      if (len > 8) {
+        long lo = getLong(input, off) ^ bitflip34;
+        long hi = getLong(input, off + len - 8) ^ bitflip56;
+        long acc = len + Long.reverseBytes(lo) + hi + mul128Fold64(lo, hi);
+        return avalanche3(acc);
+      }
+      if (len >= 4) {
+        long input1 = getInt(input, off);
+        long input2 = getInt(input, off + len - 4) & 0xFFFFFFFFL;
+        long keyed = (input2 + (input1 << 32)) ^ bitflip12;
+        return rrmxmx(keyed, len);
+      }
+      if (len > 0) {
+        int c1 = input[off] & 0xFF;
+        int c2 = input[off + (len >> 1)] & 0xFF;
+        int c3 = input[off + len - 1] & 0xFF;
+        long combined = ((c1 << 16) | (c2 << 24) | c3 | (len << 8)) & 0xFFFFFFFFL;
+        return avalanche64(combined ^ bitflip00);
+      }
+      return hash0;
+    }
+    if (len <= 128) {
+      long acc = len * PRIME64_1;
+      if (len > 32) {
+        if (len > 64) {
+          if (len > 96) {
+            acc += mix16B(input, off + 48, 96, seed);
+            acc += mix16B(input, off + len - 64, 112, seed);
+          }
+          acc += mix16B(input, off + 32, 64, seed);
+          acc += mix16B(input, off + len - 48, 80, seed);
+        }
+        acc += mix16B(input, off + 16, 32, seed);
+        acc += mix16B(input, off + len - 32, 48, seed);
+      }
+      acc += mix16B(input, off, 0, seed);
+      acc += mix16B(input, off + len - 16, 16, seed);
+      return avalanche3(acc);
+    }
+    if (len <= MID_SIZE_MAX) {
+      long acc = len * PRIME64_1;
+      long accEnd = mix16B(input, off + len - 16, MID_SIZE_LAST_OFFSET, seed);
+      for (int i = 0; i < 8; ++i) {
+        acc += mix16B(input, off + (i << 4), i << 4, seed);
+      }
+      acc = avalanche3(acc);
+      int numRounds = len >>> 4;
+      for (int i = 8; i < numRounds; ++i) {
+        accEnd += mix16B(input, off + (i << 4), ((i - 8) << 4) + MID_SIZE_START_OFFSET, seed);
+      }
+      return avalanche3(acc + accEnd);
+    }
+    long[] acc = hashLongToAccumulators(input, off, len, secret);
+    return mergeAccs(acc, secret, SECRET_MERGE_ACCS_START, len * PRIME64_1);
+  }
+
+  @Override
+  public long hashCharsToLong(CharSequence input) {
+    int len = input.length();
+    if (len <= 8) {
+      if (len > 4) {
+        long lo = getLong(input, 0) ^ bitflip34;
+        long hi = getLong(input, len - 4) ^ bitflip56;
+        long acc = (len << 1) + Long.reverseBytes(lo) + hi + mul128Fold64(lo, hi);
+        return avalanche3(acc);
+      }
+      if (len >= 2) {
+        long input1 = getInt(input, 0);
+        long input2 = getInt(input, len - 2) & 0xFFFFFFFFL;
+        long keyed = (input2 + (input1 << 32)) ^ bitflip12;
+        return rrmxmx(keyed, len << 1);
+      }
+      if (len > 0) {
+        int c = input.charAt(0);
+        long combined = (((c & 0xFF) << 16) | ((c >>> 8) << 24) | (c >>> 8) | (2 << 8));
+        return avalanche64((combined & 0xFFFFFFFFL) ^ bitflip00);
+      }
+      return hash0;
+    }
+    if (len <= 64) {
+      long acc = (len << 1) * PRIME64_1;
+      if (len > 16) {
+        if (len > 32) {
+          if (len > 48) {
+            acc += mix16B(getLong(input, 24), getLong(input, 28), 96, seed);
+            acc += mix16B(getLong(input, len - 32), getLong(input, len - 28), 112, seed);
+          }
+          acc += mix16B(getLong(input, 16), getLong(input, 20), 64, seed);
+          acc += mix16B(getLong(input, len - 24), getLong(input, len - 20), 80, seed);
+        }
+        acc += mix16B(getLong(input, 8), getLong(input, 12), 32, seed);
+        acc += mix16B(getLong(input, len - 16), getLong(input, len - 12), 48, seed);
+      }
+      acc += mix16B(getLong(input, 0), getLong(input, 4), 0, seed);
+      acc += mix16B(getLong(input, len - 8), getLong(input, len - 4), 16, seed);
+      return avalanche3(acc);
+    }
+    if (len <= (MID_SIZE_MAX >>> 1)) {
+      long acc = (len << 1) * PRIME64_1;
+      long accEnd =
+          mix16B(getLong(input, len - 8), getLong(input, len - 4), MID_SIZE_LAST_OFFSET, seed);
+      for (int i = 0; i < 8; ++i) {
+        acc += mix16B(getLong(input, i << 3), getLong(input, (i << 3) + 4), i << 4, seed);
+      }
+      acc = avalanche3(acc);
+      int numRounds = len >>> 3;
+      for (int i = 8; i < numRounds; ++i) {
+        accEnd +=
+            mix16B(
+                getLong(input, i << 3),
+                getLong(input, (i << 3) + 4),
+                ((i - 8) << 4) + MID_SIZE_START_OFFSET,
+                seed);
+      }
+      return avalanche3(acc + accEnd);
+    }
+    return hashStream().putChars(input).getAsLong();
+  }
+
+  @Override
+  public long hashLongLongToLong(long v1, long v2) {
+    long lo = v1 ^ bitflip34;
+    long hi = v2 ^ bitflip56;
+    long acc = 16 + Long.reverseBytes(lo) + hi + mul128Fold64(lo, hi);
+    return avalanche3(acc);
+  }
+
+  @Override
+  public long hashLongLongLongToLong(long v1, long v2, long v3) {
+    long acc = 24 * PRIME64_1;
+    acc += mix16B(v1, v2, 0, seed);
+    acc += mix16B(v2, v3, 16, seed);
+    return avalanche3(acc);
+  }
+
+  private class HashStreamImpl extends AbstractHashStream64 {
+
+    private final byte[] buffer = new byte[STREAM_BUFFER_END + 8];
+    private final long[] acc = new long[8];
+    private final long[] finalAcc = new long[8];
+    private long byteCount = 0;
+    private int offset = 0;
+    private int numStripes = 0;
+
+    HashStreamImpl() {
+      initAccumulators(acc);
+    }
+
+    @Override
+    public HashStream64 reset() {
+      initAccumulators(acc);
+      byteCount = 0;
+      offset = 0;
+      numStripes = 0;
+      return this;
+    }
+
+    @Override
+    public HashStream64 copy() {
+      final HashStreamImpl hashStream = new HashStreamImpl();
+      hashStream.byteCount = byteCount;
+      hashStream.offset = offset;
+      hashStream.numStripes = numStripes;
+      System.arraycopy(acc, 0, hashStream.acc, 0, 8);
+      System.arraycopy(buffer, 0, hashStream.buffer, 0, buffer.length);
+      return hashStream;
+    }
+
+    private void processBuffer() {
+      numStripes = accumulateChunk(acc, buffer, STREAM_BUFFER_START, secret, numStripes);
+      System.arraycopy(buffer, STREAM_BUFFER_END - STRIPE_LEN, buffer, 0, STRIPE_LEN);
+    }
+
+    @Override
+    public HashStream64 putByte(byte v) {
+      buffer[STREAM_BUFFER_START + offset] = v;
+      offset += 1;
+      byteCount += 1;
+      if (offset > STREAM_BUFFER_SIZE) {
+        processBuffer();
+        buffer[STREAM_BUFFER_START] = buffer[STREAM_BUFFER_END];
+        offset -= STREAM_BUFFER_SIZE;
+      }
+      return this;
+    }
+
+    @Override
+    public HashStream64 putShort(short v) {
+      setShort(buffer, STREAM_BUFFER_START + offset, v);
+      offset += 2;
+      byteCount += 2;
+      if (offset > STREAM_BUFFER_SIZE) {
+        processBuffer();
+        setShort(buffer, STREAM_BUFFER_START, getShort(buffer, STREAM_BUFFER_END));
+        offset -= STREAM_BUFFER_SIZE;
+      }
+      return this;
+    }
+
+    @Override
+    public HashStream64 putChar(char v) {
+      setChar(buffer, STREAM_BUFFER_START + offset, v);
+      offset += 2;
+      byteCount += 2;
+      if (offset > STREAM_BUFFER_SIZE) {
+        processBuffer();
+        setChar(buffer, STREAM_BUFFER_START, getChar(buffer, STREAM_BUFFER_END));
+        offset -= STREAM_BUFFER_SIZE;
+      }
+      return this;
+    }
+
+    @Override
+    public HashStream64 putInt(int v) {
+      setInt(buffer, STREAM_BUFFER_START + offset, v);
+      offset += 4;
+      byteCount += 4;
+      if (offset > STREAM_BUFFER_SIZE) {
+        processBuffer();
+        setInt(buffer, STREAM_BUFFER_START, getInt(buffer, STREAM_BUFFER_END));
+        offset -= STREAM_BUFFER_SIZE;
+      }
+      return this;
+    }
+
+    @Override
+    public HashStream64 putLong(long v) {
+      setLong(buffer, STREAM_BUFFER_START + offset, v);
+      offset += 8;
+      byteCount += 8;
+      if (offset > STREAM_BUFFER_SIZE) {
+        processBuffer();
+        setLong(buffer, STREAM_BUFFER_START, getLong(buffer, STREAM_BUFFER_END));
+        offset -= STREAM_BUFFER_SIZE;
+      }
+      return this;
+    }
+
+    @Override
+    public HashStream64 putBytes(byte[] b, int off, int len) {
+      byteCount += len;
+      int x = STREAM_BUFFER_SIZE - offset;
+      if (len > x) {
+        System.arraycopy(b, off, buffer, STREAM_BUFFER_START + offset, x);
+        off += x;
+        len -= x;
+        offset = 0;
+        processBuffer();
+        if (len > STREAM_BUFFER_SIZE) {
+          do {
+            numStripes = accumulateChunk(acc, b, off, secret, numStripes);
+            off += STREAM_BUFFER_SIZE;
+            len -= STREAM_BUFFER_SIZE;
+          } while (len > STREAM_BUFFER_SIZE);
+          System.arraycopy(b, off - STRIPE_LEN, buffer, 0, STRIPE_LEN);
+        }
+      }
+      System.arraycopy(b, off, buffer, STREAM_BUFFER_START + offset, len);
+      offset += len;
+      return this;
+    }
+
+    @Override
+    public HashStream64 putChars(CharSequence s) {
+      int len = s.length();
+      int i = 0;
+      for (; i <= len - 4; i += 4) {
+        putLong(getLong(s, i));
+      }
+      for (; i < len; ++i) {
+        putChar(s.charAt(i));
+      }
+      return this;
+    }
+
+    @Override
+    public long getAsLong() {
+      if (byteCount <= MID_SIZE_MAX) {
+        return hashBytesToLong(buffer, STREAM_BUFFER_START, (int) byteCount);
+      }
+      finalizeAccumulators(acc, finalAcc, buffer, offset, secret, numStripes);
+      return mergeAccs(finalAcc, secret, SECRET_MERGE_ACCS_START, byteCount * PRIME64_1);
+    }
+
+    @Override
+    public byte[] getState() {
+      return getStreamState(acc, buffer, byteCount, offset);
+    }
+
+    @Override
+    public HashStream64 setState(byte[] state) {
+      byteCount = setStreamState(state, acc, buffer);
+      offset = getStreamBufferedSize(byteCount);
+      numStripes = (int) (((byteCount - offset) / STRIPE_LEN) % NUM_STRIPES_PER_BLOCK);
+      return this;
+    }
+  }
+}
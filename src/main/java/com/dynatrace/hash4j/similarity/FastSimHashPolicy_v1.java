@@ -16,6 +16,7 @@
 package com.dynatrace.hash4j.similarity;
 
 import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
+import static com.dynatrace.hash4j.util.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.hash4j.random.PseudoRandomGenerator;
@@ -34,6 +35,11 @@ final class FastSimHashPolicy_v1 extends AbstractSimilarityHashPolicy {
     return new Hasher();
   }
 
+  @Override
+  public IncrementalSimilarityHasher createIncrementalHasher() {
+    return new IncrementalHasher();
+  }
+
   // visible for testing
   static long calculateBulkMask(int bulkConstant) {
     long mask = 1;
@@ -124,4 +130,77 @@ final class FastSimHashPolicy_v1 extends AbstractSimilarityHashPolicy {
           i -> (counts[i] + (i & (~numberOfElements & 1)) > limit) ? 1L : 0L, numberOfComponents);
     }
   }
+
+  private class IncrementalHasher implements IncrementalSimilarityHasher {
+
+    // long counts, as the number of elements of a stream is not limited
+    private final long[] counts = new long[numberOfComponents];
+    private final long[] tmpCounts =
+        new long[(numberOfComponents + (63 >>> (6 - BULK_CONSTANT))) >>> BULK_CONSTANT];
+    private long numberOfElements = 0;
+    private long numberOfTemporaryCountedElements = 0;
+
+    private final PseudoRandomGenerator pseudoRandomGenerator =
+        pseudoRandomGeneratorProvider.create();
+
+    @Override
+    public void update(long elementHash) {
+      int numTmpCountChunks = tmpCounts.length >>> (6 - BULK_CONSTANT);
+      int numTmpCountRemaining = tmpCounts.length & (0x3f >>> BULK_CONSTANT);
+
+      pseudoRandomGenerator.reset(elementHash);
+
+      for (int h = 0; h < numTmpCountChunks; ++h) {
+        long randomValue = pseudoRandomGenerator.nextLong();
+        int off = h << (6 - BULK_CONSTANT);
+        for (int j = 0; j < (1 << (6 - BULK_CONSTANT)); ++j) {
+          tmpCounts[off + j] += (randomValue >>> j) & BULK_MASK;
+        }
+      }
+      if (numTmpCountRemaining > 0) {
+        long randomValue = pseudoRandomGenerator.nextLong();
+        int off = numTmpCountChunks << (6 - BULK_CONSTANT);
+        for (int j = 0; j < numTmpCountRemaining; ++j) {
+          tmpCounts[off + j] += (randomValue >>> j) & BULK_MASK;
+        }
+      }
+      numberOfElements += 1;
+      numberOfTemporaryCountedElements += 1;
+      if (numberOfTemporaryCountedElements == TEMPORARY_COUNTER_LIMIT) {
+        addTemporaryCounts();
+      }
+    }
+
+    // adds temporary counts to final counts and resets temporary counts
+    private void addTemporaryCounts() {
+      numberOfTemporaryCountedElements = 0;
+      for (int h = 0; h < tmpCounts.length; ++h) {
+        long tmp = tmpCounts[h];
+        tmpCounts[h] = 0;
+        int off = h << BULK_CONSTANT;
+        int numCounts = Math.min(1 << BULK_CONSTANT, counts.length - off);
+        for (int g = 0; g < numCounts; ++g) {
+          counts[off + g] += (tmp >>> (g << (6 - BULK_CONSTANT))) & TEMPORARY_COUNTER_LIMIT;
+        }
+      }
+    }
+
+    @Override
+    public byte[] getSignature() {
+      checkState(numberOfElements > 0);
+      addTemporaryCounts();
+      final long limit = numberOfElements >>> 1;
+      final long parity = ~numberOfElements & 1;
+      return packedArrayHandler.create(
+          i -> (counts[i] + (i & parity) > limit) ? 1L : 0L, numberOfComponents);
+    }
+
+    @Override
+    public void reset() {
+      Arrays.fill(counts, 0);
+      Arrays.fill(tmpCounts, 0);
+      numberOfElements = 0;
+      numberOfTemporaryCountedElements = 0;
+    }
+  }
 }
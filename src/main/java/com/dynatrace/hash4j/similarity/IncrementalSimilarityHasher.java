@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+/**
+ * A hasher that computes a hash signature incrementally from element hash values that are added one
+ * at a time.
+ *
+ * <p>In contrast to {@link SimilarityHasher}, the number of elements does not need to be known in
+ * advance and the element hash values do not need to be buffered. Therefore, this hasher can be
+ * used to maintain hash signatures of unbounded streams of elements. After adding the same element
+ * hash values, the hash signature is the same as computed by the {@link SimilarityHasher} of the
+ * same {@link SimilarityHashPolicy}.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public interface IncrementalSimilarityHasher {
+
+  /**
+   * Adds an element hash value.
+   *
+   * @param elementHash a 64-bit element hash value
+   */
+  void update(long elementHash);
+
+  /**
+   * Returns the hash signature of all element hash values added since creation or the last call of
+   * {@link #reset()}.
+   *
+   * <p>Further element hash values can be added after calling this method.
+   *
+   * @return the hash signature
+   * @throws IllegalStateException if no element hash value has been added
+   */
+  byte[] getSignature();
+
+  /**
+   * Resets this hasher to its initial state, so that it can be reused for a new set of elements.
+   */
+  void reset();
+}
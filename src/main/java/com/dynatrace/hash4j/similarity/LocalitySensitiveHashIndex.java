@@ -0,0 +1,306 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.hashing.Hasher64;
+import com.dynatrace.hash4j.hashing.Hashing;
+import java.util.Arrays;
+
+/**
+ * An in-memory index for finding similar hash signatures using locality-sensitive hashing (LSH)
+ * with banding.
+ *
+ * <p>The components of a signature computed by a {@link SimilarityHashPolicy} are divided into
+ * {@code b} bands of {@code r} consecutive components. Signatures that agree in all components of
+ * at least one band end up in the same bucket of that band and are therefore returned as
+ * candidates by {@link #query(byte[], double)}, which avoids the comparison with all indexed
+ * signatures. If {@code s} denotes the probability that the components of two signatures are
+ * equal, which corresponds to the Jaccard similarity for MinHash-like policies, the probability of
+ * being a candidate is {@code 1 - (1 - s^r)^b}. This S-shaped function has its steepest increase at
+ * roughly {@code (1/b)^(1/r)}, which should be chosen close to the similarity threshold of
+ * interest. Candidates are finally verified by comparing their signatures with the query
+ * signature.
+ *
+ * <p>Buckets are stored in open-addressing hash tables with primitive {@code long} keys, and the
+ * entries of a bucket are linked via {@code int} arrays, such that no objects are allocated per
+ * indexed signature except for a copy of the signature itself.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * <p>References:
+ *
+ * <ul>
+ *   <li>Leskovec, Jure, Anand Rajaraman, and Jeffrey David Ullman. "Mining of massive datasets."
+ *       Chapter 3, Cambridge University Press, 2020.
+ * </ul>
+ */
+public final class LocalitySensitiveHashIndex {
+
+  private static final Hasher64 HASHER = Hashing.komihash5_0();
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private static final int NO_SLOT = LongIntHashMap.NO_VALUE;
+
+  private static final long[] EMPTY = {};
+
+  private final SimilarityHashPolicy policy;
+  private final int numberOfBands;
+  private final int numberOfComponentsPerBand;
+
+  // maps ids to slots
+  private final LongIntHashMap slots = new LongIntHashMap();
+
+  // for each band maps the band hash to the first slot of the bucket
+  private final LongIntHashMap[] buckets;
+
+  // for each band and slot the next slot in the same bucket, or NO_SLOT
+  private final int[][] nextSlots;
+
+  private long[] ids;
+  private byte[][] signatures;
+  private int[] queryMarks;
+  private int queryCounter;
+  private int[] freeSlots;
+  private int numberOfFreeSlots;
+  private int numberOfUsedSlots;
+
+  private LocalitySensitiveHashIndex(
+      SimilarityHashPolicy policy, int numberOfBands, int numberOfComponentsPerBand) {
+    this.policy = policy;
+    this.numberOfBands = numberOfBands;
+    this.numberOfComponentsPerBand = numberOfComponentsPerBand;
+    this.buckets = new LongIntHashMap[numberOfBands];
+    this.nextSlots = new int[numberOfBands][INITIAL_CAPACITY];
+    for (int band = 0; band < numberOfBands; ++band) {
+      buckets[band] = new LongIntHashMap();
+    }
+    this.ids = new long[INITIAL_CAPACITY];
+    this.signatures = new byte[INITIAL_CAPACITY][];
+    this.queryMarks = new int[INITIAL_CAPACITY];
+    this.freeSlots = new int[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Creates an empty index for signatures of the given {@link SimilarityHashPolicy}.
+   *
+   * <p>The product of the number of bands and the number of components per band must not exceed the
+   * number of components of the policy. Components not covered by any band are only used for
+   * verifying candidates.
+   *
+   * @param policy the similarity hash policy
+   * @param numberOfBands the number of bands
+   * @param numberOfComponentsPerBand the number of components per band
+   * @return the new index
+   * @throws NullPointerException if the policy is null
+   * @throws IllegalArgumentException if the number of bands or components per band is not positive
+   *     or if the bands would require more components than available
+   */
+  public static LocalitySensitiveHashIndex create(
+      SimilarityHashPolicy policy, int numberOfBands, int numberOfComponentsPerBand) {
+    requireNonNull(policy);
+    checkArgument(numberOfBands > 0, "Number of bands must be positive!");
+    checkArgument(numberOfComponentsPerBand > 0, "Number of components per band must be positive!");
+    checkArgument(
+        (long) numberOfBands * numberOfComponentsPerBand <= policy.getNumberOfComponents(),
+        "Number of bands times number of components per band exceeds number of components!");
+    return new LocalitySensitiveHashIndex(policy, numberOfBands, numberOfComponentsPerBand);
+  }
+
+  /**
+   * Returns the number of bands.
+   *
+   * @return the number of bands
+   */
+  public int getNumberOfBands() {
+    return numberOfBands;
+  }
+
+  /**
+   * Returns the number of components per band.
+   *
+   * @return the number of components per band
+   */
+  public int getNumberOfComponentsPerBand() {
+    return numberOfComponentsPerBand;
+  }
+
+  /**
+   * Returns the number of indexed signatures.
+   *
+   * @return the number of indexed signatures
+   */
+  public int size() {
+    return slots.size();
+  }
+
+  /**
+   * Returns {@code true} if a signature with the given id is indexed.
+   *
+   * @param id the id
+   * @return {@code true} if a signature with the given id is indexed
+   */
+  public boolean contains(long id) {
+    return slots.get(id) != NO_SLOT;
+  }
+
+  /**
+   * Inserts a signature with the given id. If a signature with the same id is already indexed, it
+   * is replaced.
+   *
+   * <p>The signature is copied.
+   *
+   * @param id the id
+   * @param signature the signature
+   * @throws NullPointerException if the signature is null
+   * @throws IllegalArgumentException if the signature does not have the expected size
+   */
+  public void insert(long id, byte[] signature) {
+    checkSignature(signature);
+    remove(id);
+    int slot = allocateSlot();
+    ids[slot] = id;
+    signatures[slot] = signature.clone();
+    slots.put(id, slot);
+    for (int band = 0; band < numberOfBands; ++band) {
+      nextSlots[band][slot] = buckets[band].put(getBandHash(signature, band), slot);
+    }
+  }
+
+  /**
+   * Removes the signature with the given id.
+   *
+   * @param id the id
+   * @return {@code true} if a signature with the given id was indexed
+   */
+  public boolean remove(long id) {
+    int slot = slots.remove(id);
+    if (slot == NO_SLOT) {
+      return false;
+    }
+    byte[] signature = signatures[slot];
+    for (int band = 0; band < numberOfBands; ++band) {
+      long bandHash = getBandHash(signature, band);
+      int[] next = nextSlots[band];
+      int firstSlot = buckets[band].get(bandHash);
+      if (firstSlot == slot) {
+        if (next[slot] == NO_SLOT) {
+          buckets[band].remove(bandHash);
+        } else {
+          buckets[band].put(bandHash, next[slot]);
+        }
+      } else {
+        int previousSlot = firstSlot;
+        while (next[previousSlot] != slot) {
+          previousSlot = next[previousSlot];
+        }
+        next[previousSlot] = next[slot];
+      }
+    }
+    signatures[slot] = null;
+    freeSlots[numberOfFreeSlots++] = slot;
+    return true;
+  }
+
+  /**
+   * Returns the ids of all indexed signatures that share at least one band with the given signature
+   * and whose fraction of equal components with the given signature, as returned by {@link
+   * SimilarityHashPolicy#getFractionOfEqualComponents(byte[], byte[])}, is at least the given
+   * threshold.
+   *
+   * <p>A threshold of 0 returns all candidates without verification.
+   *
+   * @param signature the query signature
+   * @param threshold the minimum fraction of equal components in the range [0, 1]
+   * @return the ids of the similar signatures in no particular order
+   * @throws NullPointerException if the signature is null
+   * @throws IllegalArgumentException if the signature does not have the expected size or if the
+   *     threshold is not in the range [0, 1]
+   */
+  public long[] query(byte[] signature, double threshold) {
+    checkSignature(signature);
+    checkArgument(threshold >= 0 && threshold <= 1, "Threshold must be in the range [0, 1]!");
+    int mark = nextQueryMark();
+    long[] result = EMPTY;
+    int resultSize = 0;
+    for (int band = 0; band < numberOfBands; ++band) {
+      int[] next = nextSlots[band];
+      for (int slot = buckets[band].get(getBandHash(signature, band));
+          slot != NO_SLOT;
+          slot = next[slot]) {
+        if (queryMarks[slot] == mark) {
+          continue;
+        }
+        queryMarks[slot] = mark;
+        if (threshold > 0
+            && policy.getFractionOfEqualComponents(signature, signatures[slot]) < threshold) {
+          continue;
+        }
+        if (resultSize == result.length) {
+          result = Arrays.copyOf(result, Math.max(INITIAL_CAPACITY, resultSize << 1));
+        }
+        result[resultSize++] = ids[slot];
+      }
+    }
+    return Arrays.copyOf(result, resultSize);
+  }
+
+  private void checkSignature(byte[] signature) {
+    requireNonNull(signature);
+    checkArgument(
+        signature.length == policy.getSignatureSizeInBytes(), "Signature has wrong size!");
+  }
+
+  private long getBandHash(byte[] signature, int band) {
+    long hash = band;
+    int fromIdx = band * numberOfComponentsPerBand;
+    int toIdx = fromIdx + numberOfComponentsPerBand;
+    for (int idx = fromIdx; idx < toIdx; ++idx) {
+      hash = HASHER.hashLongLongToLong(hash, policy.getComponent(signature, idx));
+    }
+    return hash;
+  }
+
+  private int nextQueryMark() {
+    queryCounter += 1;
+    if (queryCounter == 0) {
+      // the counter has wrapped around, marks of previous queries must be cleared
+      Arrays.fill(queryMarks, 0);
+      queryCounter = 1;
+    }
+    return queryCounter;
+  }
+
+  private int allocateSlot() {
+    if (numberOfFreeSlots > 0) {
+      return freeSlots[--numberOfFreeSlots];
+    }
+    if (numberOfUsedSlots == ids.length) {
+      int newCapacity = ids.length << 1;
+      ids = Arrays.copyOf(ids, newCapacity);
+      signatures = Arrays.copyOf(signatures, newCapacity);
+      queryMarks = Arrays.copyOf(queryMarks, newCapacity);
+      freeSlots = Arrays.copyOf(freeSlots, newCapacity);
+      for (int band = 0; band < numberOfBands; ++band) {
+        nextSlots[band] = Arrays.copyOf(nextSlots[band], newCapacity);
+      }
+    }
+    return numberOfUsedSlots++;
+  }
+}
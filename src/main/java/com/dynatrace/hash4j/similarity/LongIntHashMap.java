@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import java.util.Arrays;
+
+// An open-addressing hash map with linear probing that maps long keys to non-negative int values,
+// which avoids the boxing of keys and values and the entry objects of a java.util.HashMap.
+//
+// Negative values are used to mark empty slots. Removal uses backward shift deletion, which
+// avoids tombstones.
+final class LongIntHashMap {
+
+  static final int NO_VALUE = -1;
+
+  private static final int MIN_LOG2_CAPACITY = 4;
+
+  private long[] keys;
+  private int[] values;
+  private int size;
+  private int log2Capacity;
+
+  LongIntHashMap() {
+    allocate(MIN_LOG2_CAPACITY);
+  }
+
+  private void allocate(int log2Capacity) {
+    this.log2Capacity = log2Capacity;
+    this.keys = new long[1 << log2Capacity];
+    this.values = new int[1 << log2Capacity];
+    Arrays.fill(values, NO_VALUE);
+  }
+
+  // Fibonacci hashing, which also spreads consecutive keys well
+  private int getHomeIndex(long key) {
+    return (int) ((key * 0x9E3779B97F4A7C15L) >>> -log2Capacity);
+  }
+
+  int size() {
+    return size;
+  }
+
+  // returns the value associated with the given key or NO_VALUE if there is none
+  int get(long key) {
+    int mask = values.length - 1;
+    for (int i = getHomeIndex(key); values[i] >= 0; i = (i + 1) & mask) {
+      if (keys[i] == key) {
+        return values[i];
+      }
+    }
+    return NO_VALUE;
+  }
+
+  // associates the given non-negative value with the given key and returns the previous value or
+  // NO_VALUE if there was none
+  int put(long key, int value) {
+    int mask = values.length - 1;
+    int i = getHomeIndex(key);
+    for (; values[i] >= 0; i = (i + 1) & mask) {
+      if (keys[i] == key) {
+        int oldValue = values[i];
+        values[i] = value;
+        return oldValue;
+      }
+    }
+    keys[i] = key;
+    values[i] = value;
+    size += 1;
+    if (size > (values.length >>> 1)) {
+      grow();
+    }
+    return NO_VALUE;
+  }
+
+  // removes the given key and returns its value or NO_VALUE if the key was not present
+  int remove(long key) {
+    int mask = values.length - 1;
+    int i = getHomeIndex(key);
+    while (true) {
+      if (values[i] < 0) {
+        return NO_VALUE;
+      }
+      if (keys[i] == key) {
+        break;
+      }
+      i = (i + 1) & mask;
+    }
+    int oldValue = values[i];
+    // shift back subsequent entries of the same cluster that would otherwise become unreachable
+    int j = i;
+    while (true) {
+      j = (j + 1) & mask;
+      if (values[j] < 0) {
+        break;
+      }
+      int k = getHomeIndex(keys[j]);
+      if (((j - k) & mask) >= ((j - i) & mask)) {
+        keys[i] = keys[j];
+        values[i] = values[j];
+        i = j;
+      }
+    }
+    values[i] = NO_VALUE;
+    size -= 1;
+    return oldValue;
+  }
+
+  private void grow() {
+    long[] oldKeys = keys;
+    int[] oldValues = values;
+    allocate(log2Capacity + 1);
+    int mask = values.length - 1;
+    for (int j = 0; j < oldValues.length; ++j) {
+      if (oldValues[j] >= 0) {
+        int i = getHomeIndex(oldKeys[j]);
+        while (values[i] >= 0) {
+          i = (i + 1) & mask;
+        }
+        keys[i] = oldKeys[j];
+        values[i] = oldValues[j];
+      }
+    }
+  }
+}
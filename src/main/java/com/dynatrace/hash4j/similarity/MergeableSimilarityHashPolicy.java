@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+/**
+ * A policy for similarity hashing that allows to compute hash signatures of unions of sets by
+ * merging intermediate states.
+ *
+ * <p>The intermediate state of a set keeps the full 64-bit values of all components. Hence, unlike
+ * the hash signature, which may only keep a few bits per component, intermediate states can be
+ * merged. This allows to compute the state of different partitions of a large set independently,
+ * for example on different machines, to merge the states, and to obtain the final hash signature
+ * using {@link #finish(long[])}. The resulting hash signature is the same as computed by {@link
+ * #createHasher()} over all elements.
+ */
+public interface MergeableSimilarityHashPolicy extends SimilarityHashPolicy {
+
+  /**
+   * Computes the intermediate state for a given collection of 64-bit element hash values provided
+   * by the given element hash provider.
+   *
+   * <p>The returned array has a length equal to {@link #getNumberOfComponents()}.
+   *
+   * @param elementHashProvider the element hash provider
+   * @return the intermediate state
+   * @throws IllegalArgumentException if the number of elements is not positive
+   */
+  long[] computeState(ElementHashProvider elementHashProvider);
+
+  /**
+   * Merges two intermediate states.
+   *
+   * <p>The resulting state corresponds to the union of the sets of both given states. The given
+   * states are not modified.
+   *
+   * @param state1 the first intermediate state
+   * @param state2 the second intermediate state
+   * @return the merged intermediate state
+   * @throws IllegalArgumentException if one of the states does not have the expected length
+   */
+  long[] merge(long[] state1, long[] state2);
+
+  /**
+   * Computes the hash signature from an intermediate state.
+   *
+   * @param state the intermediate state
+   * @return the hash signature
+   * @throws IllegalArgumentException if the state does not have the expected length
+   */
+  byte[] finish(long[] state);
+}
@@ -16,13 +16,15 @@
 package com.dynatrace.hash4j.similarity;
 
 import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
+import static com.dynatrace.hash4j.util.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.hash4j.random.PseudoRandomGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
 import java.util.Arrays;
 
-final class MinHashPolicy_v1 extends AbstractSimilarityHashPolicy {
+final class MinHashPolicy_v1 extends AbstractSimilarityHashPolicy
+    implements MergeableSimilarityHashPolicy {
 
   public MinHashPolicy_v1(
       int numberOfComponents,
@@ -36,6 +38,66 @@ final class MinHashPolicy_v1 extends AbstractSimilarityHashPolicy {
     return new Hasher();
   }
 
+  @Override
+  public IncrementalSimilarityHasher createIncrementalHasher() {
+    return new IncrementalHasher();
+  }
+
+  @Override
+  public long[] computeState(ElementHashProvider elementHashProvider) {
+    long[] state = new long[numberOfComponents];
+    computeState(elementHashProvider, state, pseudoRandomGeneratorProvider.create());
+    return state;
+  }
+
+  // fills the given array with the component-wise minima over all elements
+  private static void computeState(
+      ElementHashProvider elementHashProvider,
+      long[] state,
+      PseudoRandomGenerator pseudoRandomGenerator) {
+    requireNonNull(elementHashProvider);
+    int numberOfElements = elementHashProvider.getNumberOfElements();
+    checkArgument(numberOfElements > 0, "Number of elements must be positive!");
+
+    Arrays.fill(state, Long.MAX_VALUE);
+    for (int k = 0; k < numberOfElements; ++k) {
+      updateMinima(pseudoRandomGenerator, state, elementHashProvider.getElementHash(k));
+    }
+  }
+
+  private static void updateMinima(
+      PseudoRandomGenerator pseudoRandomGenerator, long[] work, long elementHash) {
+    pseudoRandomGenerator.reset(elementHash);
+    for (int i = 0; i < work.length; ++i) {
+      long hash = pseudoRandomGenerator.nextLong();
+      if (hash < work[i]) {
+        work[i] = hash;
+      }
+    }
+  }
+
+  private void checkStateLength(long[] state) {
+    requireNonNull(state);
+    checkArgument(state.length == numberOfComponents, "State has wrong length!");
+  }
+
+  @Override
+  public long[] merge(long[] state1, long[] state2) {
+    checkStateLength(state1);
+    checkStateLength(state2);
+    long[] state = new long[numberOfComponents];
+    for (int i = 0; i < numberOfComponents; ++i) {
+      state[i] = Math.min(state1[i], state2[i]);
+    }
+    return state;
+  }
+
+  @Override
+  public byte[] finish(long[] state) {
+    checkStateLength(state);
+    return packedArrayHandler.create(i -> state[i], numberOfComponents);
+  }
+
   private class Hasher implements SimilarityHasher {
 
     private final long[] work = new long[getNumberOfComponents()];
@@ -44,25 +106,38 @@ final class MinHashPolicy_v1 extends AbstractSimilarityHashPolicy {
 
     @Override
     public byte[] compute(ElementHashProvider elementHashProvider) {
+      computeState(elementHashProvider, work, pseudoRandomGenerator);
+      return finish(work);
+    }
+  }
 
-      requireNonNull(elementHashProvider);
-      int numberOfElements = elementHashProvider.getNumberOfElements();
-      checkArgument(numberOfElements > 0, "Number of elements must be positive!");
+  private class IncrementalHasher implements IncrementalSimilarityHasher {
 
-      Arrays.fill(work, Long.MAX_VALUE);
+    private final long[] work = new long[getNumberOfComponents()];
+    private final PseudoRandomGenerator pseudoRandomGenerator =
+        pseudoRandomGeneratorProvider.create();
+    private boolean isEmpty;
 
-      int numberOfComponents = getNumberOfComponents();
-      for (int k = 0; k < numberOfElements; ++k) {
-        pseudoRandomGenerator.reset(elementHashProvider.getElementHash(k));
-        for (int i = 0; i < numberOfComponents; ++i) {
-          long hash = pseudoRandomGenerator.nextLong();
-          if (hash < work[i]) {
-            work[i] = hash;
-          }
-        }
-      }
+    IncrementalHasher() {
+      reset();
+    }
 
-      return packedArrayHandler.create(i -> work[i], numberOfComponents);
+    @Override
+    public void update(long elementHash) {
+      updateMinima(pseudoRandomGenerator, work, elementHash);
+      isEmpty = false;
+    }
+
+    @Override
+    public byte[] getSignature() {
+      checkState(!isEmpty);
+      return finish(work);
+    }
+
+    @Override
+    public void reset() {
+      Arrays.fill(work, Long.MAX_VALUE);
+      isEmpty = true;
     }
   }
 }
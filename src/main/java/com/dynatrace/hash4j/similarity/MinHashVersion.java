@@ -27,7 +27,7 @@ public enum MinHashVersion {
    */
   DEFAULT {
     @Override
-    SimilarityHashPolicy create(int numberOfComponents, int bitsPerComponent) {
+    MergeableSimilarityHashPolicy create(int numberOfComponents, int bitsPerComponent) {
       return new MinHashPolicy_v1(
           numberOfComponents, bitsPerComponent, PseudoRandomGeneratorProvider.splitMix64_V1());
     }
@@ -35,11 +35,11 @@ public enum MinHashVersion {
   /** Version 1. */
   V1 {
     @Override
-    SimilarityHashPolicy create(int numberOfComponents, int bitsPerComponent) {
+    MergeableSimilarityHashPolicy create(int numberOfComponents, int bitsPerComponent) {
       return new MinHashPolicy_v1(
           numberOfComponents, bitsPerComponent, PseudoRandomGeneratorProvider.splitMix64_V1());
     }
   };
 
-  abstract SimilarityHashPolicy create(int numberOfComponents, int bitsPerComponent);
+  abstract MergeableSimilarityHashPolicy create(int numberOfComponents, int bitsPerComponent);
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
+import static com.dynatrace.hash4j.util.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.hashing.Hasher64;
+import com.dynatrace.hash4j.hashing.Hashing;
+import com.dynatrace.hash4j.random.PermutationGenerator;
+import com.dynatrace.hash4j.random.PseudoRandomGenerator;
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.Arrays;
+
+/**
+ * ProbMinHash for weighted sets.
+ *
+ * <p>For each element and each component, an exponentially distributed random value with rate
+ * equal to the element weight is considered. The components of the signature are given by the
+ * elements with the smallest random values. As described in the paper, the random values of an
+ * element are generated in ascending order together with a random permutation of the components,
+ * which allows to stop as soon as the random values exceed the largest value of all components. The
+ * largest value is tracked using a binary tree.
+ */
+final class ProbMinHashPolicy_v1 extends AbstractSimilarityHashPolicy
+    implements WeightedSimilarityHashPolicy {
+
+  private static final Hasher64 COMPONENT_HASHER = Hashing.komihash5_0();
+
+  // reciprocals[i] = 1 / (numberOfComponents - i)
+  private final double[] reciprocals;
+
+  public ProbMinHashPolicy_v1(
+      int numberOfComponents,
+      int bitsPerComponent,
+      PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider) {
+    super(numberOfComponents, bitsPerComponent, pseudoRandomGeneratorProvider);
+    this.reciprocals = new double[numberOfComponents];
+    for (int i = 0; i < numberOfComponents; ++i) {
+      reciprocals[i] = 1. / (numberOfComponents - i);
+    }
+  }
+
+  @Override
+  public SimilarityHasher createHasher() {
+    return new Hasher();
+  }
+
+  @Override
+  public IncrementalSimilarityHasher createIncrementalHasher() {
+    return new Hasher();
+  }
+
+  @Override
+  public WeightedSimilarityHasher createWeightedHasher() {
+    return new Hasher();
+  }
+
+  private class Hasher
+      implements SimilarityHasher, WeightedSimilarityHasher, IncrementalSimilarityHasher {
+
+    private final PseudoRandomGenerator pseudoRandomGenerator =
+        pseudoRandomGeneratorProvider.create();
+    private final PermutationGenerator permutationGenerator =
+        new PermutationGenerator(numberOfComponents);
+
+    private final double[] hashValues = new double[numberOfComponents];
+    private final long[] elementHashes = new long[numberOfComponents];
+
+    // binary tree with the hash values as leaves at indices [numberOfComponents,
+    // 2 * numberOfComponents), each inner node holds the maximum of its children, and the root at
+    // index 1 holds the maximum of all hash values
+    private final double[] maxTree = new double[2 * numberOfComponents];
+
+    Hasher() {
+      reset();
+    }
+
+    @Override
+    public byte[] compute(ElementHashProvider elementHashProvider) {
+
+      requireNonNull(elementHashProvider);
+      int numberOfElements = elementHashProvider.getNumberOfElements();
+      checkArgument(numberOfElements > 0, "Number of elements must be positive!");
+
+      reset();
+      for (int k = 0; k < numberOfElements; ++k) {
+        add(elementHashProvider.getElementHash(k), 1.);
+      }
+      return createSignature();
+    }
+
+    @Override
+    public byte[] compute(WeightedElementHashProvider elementHashProvider) {
+
+      requireNonNull(elementHashProvider);
+      int numberOfElements = elementHashProvider.getNumberOfElements();
+      checkArgument(numberOfElements > 0, "Number of elements must be positive!");
+
+      double maxWeight = 0;
+      for (int k = 0; k < numberOfElements; ++k) {
+        double weight = elementHashProvider.getElementWeight(k);
+        checkArgument(
+            weight >= 0 && weight < Double.POSITIVE_INFINITY,
+            "Weights must be nonnegative and finite!");
+        maxWeight = Math.max(maxWeight, weight);
+      }
+      checkArgument(maxWeight > 0, "At least one weight must be positive!");
+
+      // scaling all weights by a power of two does not change the signature, but ensures finite
+      // hash values for the largest weight, even if all weights are subnormal
+      int scaleExponent = -Math.getExponent(maxWeight);
+      reset();
+      for (int k = 0; k < numberOfElements; ++k) {
+        double weight = elementHashProvider.getElementWeight(k);
+        if (weight > 0) {
+          add(elementHashProvider.getElementHash(k), Math.scalb(weight, scaleExponent));
+        }
+      }
+      return createSignature();
+    }
+
+    @Override
+    public void update(long elementHash) {
+      add(elementHash, 1.);
+    }
+
+    @Override
+    public byte[] getSignature() {
+      checkState(!isEmpty());
+      return createSignature();
+    }
+
+    @Override
+    public void reset() {
+      Arrays.fill(hashValues, Double.POSITIVE_INFINITY);
+      Arrays.fill(maxTree, Double.POSITIVE_INFINITY);
+    }
+
+    private boolean isEmpty() {
+      return maxTree[1] == Double.POSITIVE_INFINITY;
+    }
+
+    private void add(long elementHash, double weight) {
+      pseudoRandomGenerator.reset(elementHash);
+      permutationGenerator.reset();
+      double sum = 0;
+      for (int i = 0; i < numberOfComponents; ++i) {
+        // the i-th smallest of numberOfComponents exponentially distributed random values
+        sum += pseudoRandomGenerator.nextExponential() * reciprocals[i];
+        // dividing instead of multiplying with the reciprocal avoids an overflow for tiny weights
+        double hashValue = sum / weight;
+        if (hashValue >= maxTree[1]) {
+          break;
+        }
+        int idx = permutationGenerator.next(pseudoRandomGenerator);
+        if (hashValue < hashValues[idx]) {
+          hashValues[idx] = hashValue;
+          elementHashes[idx] = elementHash;
+          updateMaxTree(idx, hashValue);
+        }
+      }
+    }
+
+    private void updateMaxTree(int idx, double hashValue) {
+      int nodeIdx = idx + numberOfComponents;
+      maxTree[nodeIdx] = hashValue;
+      while (nodeIdx > 1) {
+        double max = Math.max(maxTree[nodeIdx], maxTree[nodeIdx ^ 1]);
+        nodeIdx >>>= 1;
+        if (maxTree[nodeIdx] == max) {
+          break;
+        }
+        maxTree[nodeIdx] = max;
+      }
+    }
+
+    private byte[] createSignature() {
+      return packedArrayHandler.create(
+          i -> COMPONENT_HASHER.hashLongLongToLong(elementHashes[i], i), numberOfComponents);
+    }
+  }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.util.PackedArray;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Compares a hash signature with many hash signatures, or many hash signatures with each other, at
+ * once.
+ *
+ * <p>The hash signatures to compare with are expected to be stored consecutively in a single block,
+ * either a byte array or a {@link ByteBuffer}, which can also be a direct buffer located off-heap.
+ * The i-th signature occupies the bytes from {@code i * signatureSizeInBytes} to {@code (i + 1) *
+ * signatureSizeInBytes} of the block, where {@code signatureSizeInBytes} is given by {@link
+ * SimilarityHashPolicy#getSignatureSizeInBytes()}. The signatures are compared directly within the
+ * block, which avoids the allocation of individual byte arrays for each signature.
+ *
+ * <p>If a {@link ForkJoinPool} is given, the comparisons are split into ranges that are processed
+ * by the worker threads of the pool.
+ *
+ * <p>Instances of this class are immutable and can be used by multiple threads concurrently.
+ */
+public final class SignatureComparator {
+
+  // the minimum number of signature comparisons performed by a single task
+  private static final int MIN_COMPARISONS_PER_TASK = 1024;
+
+  // the number of tasks per worker thread, more tasks than threads allow to balance the load
+  private static final int TASKS_PER_THREAD = 8;
+
+  // the size of the buffer into which signatures are copied from a byte buffer
+  private static final int CHUNK_SIZE_IN_BYTES = 1 << 16;
+
+  private final PackedArray.PackedArrayHandler packedArrayHandler;
+  private final int numberOfComponents;
+  private final int signatureSizeInBytes;
+  private final ForkJoinPool pool;
+
+  private SignatureComparator(SimilarityHashPolicy policy, ForkJoinPool pool) {
+    this.numberOfComponents = policy.getNumberOfComponents();
+    this.packedArrayHandler = PackedArray.getHandler(policy.getComponentSizeInBits());
+    this.signatureSizeInBytes = policy.getSignatureSizeInBytes();
+    this.pool = pool;
+  }
+
+  /**
+   * Creates a new {@link SignatureComparator} for the hash signatures of the given policy that
+   * performs all comparisons in the calling thread.
+   *
+   * @param policy the similarity hash policy
+   * @return a new comparator
+   */
+  public static SignatureComparator create(SimilarityHashPolicy policy) {
+    requireNonNull(policy);
+    return new SignatureComparator(policy, null);
+  }
+
+  /**
+   * Creates a new {@link SignatureComparator} for the hash signatures of the given policy that
+   * performs the comparisons in parallel using the given {@link ForkJoinPool}.
+   *
+   * @param policy the similarity hash policy
+   * @param pool the fork-join pool
+   * @return a new comparator
+   */
+  public static SignatureComparator create(SimilarityHashPolicy policy, ForkJoinPool pool) {
+    requireNonNull(policy);
+    requireNonNull(pool);
+    return new SignatureComparator(policy, pool);
+  }
+
+  /**
+   * Computes the number of equal components of the given hash signature and each of the hash
+   * signatures in the given block.
+   *
+   * <p>The number of signatures in the block is given by the length of the result array.
+   *
+   * @param signature a hash signature
+   * @param signatures the block of consecutive hash signatures
+   * @param result the array into which the numbers of equal components are written
+   * @throws IllegalArgumentException if the signature or the block do not have the expected size
+   */
+  public void getNumberOfEqualComponents(byte[] signature, byte[] signatures, int[] result) {
+    requireNonNull(result);
+    compare(signature, signatures, result.length, result, null);
+  }
+
+  /**
+   * Computes the fraction of equal components of the given hash signature and each of the hash
+   * signatures in the given block.
+   *
+   * <p>The number of signatures in the block is given by the length of the result array.
+   *
+   * @param signature a hash signature
+   * @param signatures the block of consecutive hash signatures
+   * @param result the array into which the fractions of equal components are written
+   * @throws IllegalArgumentException if the signature or the block do not have the expected size
+   */
+  public void getFractionOfEqualComponents(byte[] signature, byte[] signatures, double[] result) {
+    requireNonNull(result);
+    compare(signature, signatures, result.length, null, result);
+  }
+
+  /**
+   * Computes the number of equal components of the given hash signature and each of the hash
+   * signatures in the given block.
+   *
+   * <p>The block consists of the remaining bytes of the given buffer. The position of the buffer is
+   * not changed. The number of signatures in the block is given by the length of the result array.
+   *
+   * @param signature a hash signature
+   * @param signatures the buffer containing the block of consecutive hash signatures
+   * @param result the array into which the numbers of equal components are written
+   * @throws IllegalArgumentException if the signature or the block do not have the expected size
+   */
+  public void getNumberOfEqualComponents(byte[] signature, ByteBuffer signatures, int[] result) {
+    requireNonNull(result);
+    compare(signature, signatures, result.length, result, null);
+  }
+
+  /**
+   * Computes the fraction of equal components of the given hash signature and each of the hash
+   * signatures in the given block.
+   *
+   * <p>The block consists of the remaining bytes of the given buffer. The position of the buffer is
+   * not changed. The number of signatures in the block is given by the length of the result array.
+   *
+   * @param signature a hash signature
+   * @param signatures the buffer containing the block of consecutive hash signatures
+   * @param result the array into which the fractions of equal components are written
+   * @throws IllegalArgumentException if the signature or the block do not have the expected size
+   */
+  public void getFractionOfEqualComponents(
+      byte[] signature, ByteBuffer signatures, double[] result) {
+    requireNonNull(result);
+    compare(signature, signatures, result.length, null, result);
+  }
+
+  /**
+   * Computes the number of equal components of all pairs of hash signatures from the two given
+   * blocks.
+   *
+   * <p>The number of equal components of the i-th signature of the first block and the j-th
+   * signature of the second block is written to {@code result[i * n2 + j]}, where {@code n2} is the
+   * number of signatures in the second block.
+   *
+   * @param signatures1 the first block of consecutive hash signatures
+   * @param signatures2 the second block of consecutive hash signatures
+   * @param result the array into which the numbers of equal components are written
+   * @throws IllegalArgumentException if the blocks do not contain a whole number of signatures or
+   *     if the result array does not have the expected length
+   */
+  public void getPairwiseNumberOfEqualComponents(
+      byte[] signatures1, byte[] signatures2, int[] result) {
+    requireNonNull(result);
+    comparePairwise(signatures1, signatures2, result.length, result, null);
+  }
+
+  /**
+   * Computes the fraction of equal components of all pairs of hash signatures from the two given
+   * blocks.
+   *
+   * <p>The fraction of equal components of the i-th signature of the first block and the j-th
+   * signature of the second block is written to {@code result[i * n2 + j]}, where {@code n2} is the
+   * number of signatures in the second block.
+   *
+   * @param signatures1 the first block of consecutive hash signatures
+   * @param signatures2 the second block of consecutive hash signatures
+   * @param result the array into which the fractions of equal components are written
+   * @throws IllegalArgumentException if the blocks do not contain a whole number of signatures or
+   *     if the result array does not have the expected length
+   */
+  public void getPairwiseFractionOfEqualComponents(
+      byte[] signatures1, byte[] signatures2, double[] result) {
+    requireNonNull(result);
+    comparePairwise(signatures1, signatures2, result.length, null, result);
+  }
+
+  private void checkSignature(byte[] signature) {
+    requireNonNull(signature);
+    checkArgument(signature.length == signatureSizeInBytes, "Signature has wrong size!");
+  }
+
+  private void compare(
+      byte[] signature, byte[] signatures, int numSignatures, int[] counts, double[] fractions) {
+    checkSignature(signature);
+    requireNonNull(signatures);
+    checkArgument(
+        signatures.length == (long) numSignatures * signatureSizeInBytes,
+        "Signature block has wrong size!");
+    invoke(
+        numSignatures,
+        MIN_COMPARISONS_PER_TASK,
+        (fromIndex, toIndex) ->
+            compare(
+                signature,
+                0,
+                signatures,
+                fromIndex * signatureSizeInBytes,
+                toIndex - fromIndex,
+                counts,
+                fractions,
+                fromIndex));
+  }
+
+  private void compare(
+      byte[] signature,
+      ByteBuffer signatures,
+      int numSignatures,
+      int[] counts,
+      double[] fractions) {
+    checkSignature(signature);
+    requireNonNull(signatures);
+    checkArgument(
+        signatures.remaining() == (long) numSignatures * signatureSizeInBytes,
+        "Signature block has wrong size!");
+    int startPosition = signatures.position();
+    int maxSignaturesPerChunk = Math.max(1, CHUNK_SIZE_IN_BYTES / signatureSizeInBytes);
+    invoke(
+        numSignatures,
+        MIN_COMPARISONS_PER_TASK,
+        (fromIndex, toIndex) -> {
+          ByteBuffer buffer = signatures.duplicate();
+          buffer.position(startPosition + fromIndex * signatureSizeInBytes);
+          byte[] chunk =
+              new byte[Math.min(maxSignaturesPerChunk, toIndex - fromIndex) * signatureSizeInBytes];
+          for (int i = fromIndex; i < toIndex; i += maxSignaturesPerChunk) {
+            int numSignaturesInChunk = Math.min(maxSignaturesPerChunk, toIndex - i);
+            buffer.get(chunk, 0, numSignaturesInChunk * signatureSizeInBytes);
+            compare(signature, 0, chunk, 0, numSignaturesInChunk, counts, fractions, i);
+          }
+        });
+  }
+
+  private void comparePairwise(
+      byte[] signatures1, byte[] signatures2, int resultLength, int[] counts, double[] fractions) {
+    requireNonNull(signatures1);
+    requireNonNull(signatures2);
+    checkArgument(
+        signatures1.length % signatureSizeInBytes == 0
+            && signatures2.length % signatureSizeInBytes == 0,
+        "Signature block has wrong size!");
+    int numSignatures1 = signatures1.length / signatureSizeInBytes;
+    int numSignatures2 = signatures2.length / signatureSizeInBytes;
+    checkArgument(
+        resultLength == (long) numSignatures1 * numSignatures2, "Result array has wrong length!");
+    invoke(
+        numSignatures1,
+        Math.max(1, MIN_COMPARISONS_PER_TASK / Math.max(1, numSignatures2)),
+        (fromIndex, toIndex) -> {
+          for (int i = fromIndex; i < toIndex; ++i) {
+            compare(
+                signatures1,
+                i * signatureSizeInBytes,
+                signatures2,
+                0,
+                numSignatures2,
+                counts,
+                fractions,
+                i * numSignatures2);
+          }
+        });
+  }
+
+  private void compare(
+      byte[] signature,
+      int signatureOffset,
+      byte[] signatures,
+      int signaturesOffset,
+      int numSignatures,
+      int[] counts,
+      double[] fractions,
+      int resultOffset) {
+    for (int i = 0; i < numSignatures; ++i) {
+      int numEqualComponents =
+          packedArrayHandler.numEqualComponents(
+              signature,
+              signatureOffset,
+              signatures,
+              signaturesOffset + i * signatureSizeInBytes,
+              numberOfComponents);
+      if (counts != null) {
+        counts[resultOffset + i] = numEqualComponents;
+      } else {
+        fractions[resultOffset + i] = numEqualComponents / (double) numberOfComponents;
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface RangeComparator {
+    void compare(int fromIndex, int toIndex);
+  }
+
+  private void invoke(int numItems, int minItemsPerTask, RangeComparator rangeComparator) {
+    if (pool == null) {
+      rangeComparator.compare(0, numItems);
+    } else {
+      int maxItemsPerTask =
+          Math.max(minItemsPerTask, numItems / (pool.getParallelism() * TASKS_PER_THREAD));
+      pool.invoke(new ComparisonTask(rangeComparator, 0, numItems, maxItemsPerTask));
+    }
+  }
+
+  private static final class ComparisonTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient RangeComparator rangeComparator;
+    private final int fromIndex;
+    private final int toIndex;
+    private final int maxItemsPerTask;
+
+    ComparisonTask(
+        RangeComparator rangeComparator, int fromIndex, int toIndex, int maxItemsPerTask) {
+      this.rangeComparator = rangeComparator;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+      this.maxItemsPerTask = maxItemsPerTask;
+    }
+
+    @Override
+    protected void compute() {
+      if (toIndex - fromIndex <= maxItemsPerTask) {
+        rangeComparator.compare(fromIndex, toIndex);
+      } else {
+        int midIndex = (fromIndex + toIndex) >>> 1;
+        invokeAll(
+            new ComparisonTask(rangeComparator, fromIndex, midIndex, maxItemsPerTask),
+            new ComparisonTask(rangeComparator, midIndex, toIndex, maxItemsPerTask));
+      }
+    }
+  }
+}
@@ -16,6 +16,7 @@
 package com.dynatrace.hash4j.similarity;
 
 import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
+import static com.dynatrace.hash4j.util.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.hash4j.random.PseudoRandomGenerator;
@@ -34,6 +35,11 @@ final class SimHashPolicy_v1 extends AbstractSimilarityHashPolicy {
     return new Hasher();
   }
 
+  @Override
+  public IncrementalSimilarityHasher createIncrementalHasher() {
+    return new IncrementalHasher();
+  }
+
   private class Hasher implements SimilarityHasher {
 
     private final int[] counts = new int[numberOfComponents];
@@ -80,4 +86,54 @@ final class SimHashPolicy_v1 extends AbstractSimilarityHashPolicy {
           i -> (counts[i] + (i & (~numberOfElements & 1)) > limit) ? 1L : 0L, numberOfComponents);
     }
   }
+
+  private class IncrementalHasher implements IncrementalSimilarityHasher {
+
+    // long counts, as the number of elements of a stream is not limited
+    private final long[] counts = new long[numberOfComponents];
+    private long numberOfElements = 0;
+
+    private final PseudoRandomGenerator pseudoRandomGenerator =
+        pseudoRandomGeneratorProvider.create();
+
+    @Override
+    public void update(long elementHash) {
+      int numChunks = numberOfComponents >>> 6;
+      int numRemaining = numberOfComponents & 0x3F;
+
+      pseudoRandomGenerator.reset(elementHash);
+
+      for (int j = 0; j < numChunks; j++) {
+        long randomValue = pseudoRandomGenerator.nextLong();
+        int off = j << 6;
+        for (int h = 0; h < 64; ++h) {
+          counts[off + h] += ((randomValue >>> h) & 1);
+        }
+      }
+
+      if (numRemaining > 0) {
+        long randomValue = pseudoRandomGenerator.nextLong();
+        int off = numChunks << 6;
+        for (int h = 0; h < numRemaining; ++h) {
+          counts[off + h] += ((randomValue >>> h) & 1);
+        }
+      }
+      numberOfElements += 1;
+    }
+
+    @Override
+    public byte[] getSignature() {
+      checkState(numberOfElements > 0);
+      final long limit = numberOfElements >>> 1;
+      final long parity = ~numberOfElements & 1;
+      return packedArrayHandler.create(
+          i -> (counts[i] + (i & parity) > limit) ? 1L : 0L, numberOfComponents);
+    }
+
+    @Override
+    public void reset() {
+      Arrays.fill(counts, 0);
+      numberOfElements = 0;
+    }
+  }
 }
@@ -25,6 +25,13 @@ public interface SimilarityHashPolicy {
    */
   SimilarityHasher createHasher();
 
+  /**
+   * Creates a new {@link IncrementalSimilarityHasher} instance.
+   *
+   * @return a new incremental hasher instance
+   */
+  IncrementalSimilarityHasher createIncrementalHasher();
+
   /**
    * Returns the number of hash signature components.
    *
@@ -50,6 +50,80 @@ public interface SimilarityHashing {
     return minHashVersion.create(numberOfComponents, bitsPerComponent);
   }
 
+  /**
+   * Returns a {@link MergeableSimilarityHashPolicy} for a modified version of b-bit minwise hashing
+   * described in <a href="https://doi.org/10.1145/1772690.1772759">Ping Li and Christian König,
+   * B-Bit minwise hashing, 2010.</a>.
+   *
+   * <p>The hash signatures are the same as those of the policy returned by {@link #minHash(int,
+   * int)}.
+   *
+   * @param numberOfComponents the number of components of the signature
+   * @param bitsPerComponent the number of bits per component in the range [1, 64]
+   * @return a policy
+   */
+  static MergeableSimilarityHashPolicy mergeableMinHash(
+      int numberOfComponents, int bitsPerComponent) {
+    return mergeableMinHash(numberOfComponents, bitsPerComponent, MinHashVersion.DEFAULT);
+  }
+
+  /**
+   * Returns a {@link MergeableSimilarityHashPolicy} for a modified version of b-bit minwise hashing
+   * described in <a href="https://doi.org/10.1145/1772690.1772759">Ping Li and Christian König,
+   * B-Bit minwise hashing, 2010.</a>.
+   *
+   * <p>The hash signatures are the same as those of the policy returned by {@link #minHash(int,
+   * int, MinHashVersion)}. Specifying the version of the implementation ensures compatibility with
+   * later hash4j versions that may change the default implementation. This is especially important
+   * if the signatures or intermediate states are persisted.
+   *
+   * @param numberOfComponents the number of components of the signature
+   * @param bitsPerComponent the number of bits per component in the range [1, 64]
+   * @param minHashVersion the version of the implementation
+   * @return a policy
+   */
+  static MergeableSimilarityHashPolicy mergeableMinHash(
+      int numberOfComponents, int bitsPerComponent, MinHashVersion minHashVersion) {
+    return minHashVersion.create(numberOfComponents, bitsPerComponent);
+  }
+
+  /**
+   * Returns a {@link WeightedSimilarityHashPolicy} for ProbMinHash described in <a
+   * href="https://doi.org/10.1109/TKDE.2020.3021176">Otmar Ertl, ProbMinHash - A Class of
+   * Locality-Sensitive Hash Algorithms for the (Probability) Jaccard Similarity, 2020.</a>.
+   *
+   * <p>The probability that components of two signatures are equal corresponds to the probability
+   * Jaccard similarity of the weighted sets, which is invariant to the scaling of the weights and
+   * equals the Jaccard similarity if all weights are equal. Like for {@link #minHash(int, int)},
+   * components of different elements are equal with a probability of 2^(-bitsPerComponent).
+   *
+   * @param numberOfComponents the number of components of the signature
+   * @param bitsPerComponent the number of bits per component in the range [1, 64]
+   * @return a policy
+   */
+  static WeightedSimilarityHashPolicy probMinHash(int numberOfComponents, int bitsPerComponent) {
+    return probMinHash(numberOfComponents, bitsPerComponent, ProbMinHashVersion.DEFAULT);
+  }
+
+  /**
+   * Returns a {@link WeightedSimilarityHashPolicy} for ProbMinHash described in <a
+   * href="https://doi.org/10.1109/TKDE.2020.3021176">Otmar Ertl, ProbMinHash - A Class of
+   * Locality-Sensitive Hash Algorithms for the (Probability) Jaccard Similarity, 2020.</a>.
+   *
+   * <p>Specifying the version of the implementation ensures compatibility with later hash4j
+   * versions that may change the default implementation. This is especially important if the
+   * signatures are persisted.
+   *
+   * @param numberOfComponents the number of components of the signature
+   * @param bitsPerComponent the number of bits per component in the range [1, 64]
+   * @param probMinHashVersion the version of the implementation
+   * @return a policy
+   */
+  static WeightedSimilarityHashPolicy probMinHash(
+      int numberOfComponents, int bitsPerComponent, ProbMinHashVersion probMinHashVersion) {
+    return probMinHashVersion.create(numberOfComponents, bitsPerComponent);
+  }
+
   /**
    * Returns a {@link SimilarityHashPolicy} for SuperMinHash described in <a
    * href="https://arxiv.org/abs/1706.05698">Otmar Ertl, SuperMinHash - A New Minwise Hashing
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static com.dynatrace.hash4j.util.Preconditions.checkState;
+
+import com.dynatrace.hash4j.random.PermutationGenerator;
+import com.dynatrace.hash4j.random.PseudoRandomGenerator;
+import com.dynatrace.hash4j.util.PackedArray;
+import java.util.Arrays;
+
+/**
+ * Incremental hasher for all versions of SuperMinHash.
+ *
+ * <p>Processes each element as in the original SuperMinHash algorithm, which iterates over the
+ * permutation of the components only as long as the integral part can be smaller than the largest
+ * integral part of all components. A histogram of the integral parts is used to keep track of the
+ * largest integral part. Empty components are represented by an integral part equal to the number
+ * of components.
+ */
+final class SuperMinHashIncrementalHasher implements IncrementalSimilarityHasher {
+
+  private final int numberOfComponents;
+  private final PackedArray.PackedArrayHandler packedArrayHandler;
+  private final PseudoRandomGenerator pseudoRandomGenerator;
+  private final PermutationGenerator permutationGenerator;
+
+  private final long[] hashValuesFractionalPart;
+  private final int[] hashValuesIntegralPart;
+  private final int[] histogram;
+  private int maxHashValuesIntegralPart;
+
+  SuperMinHashIncrementalHasher(
+      int numberOfComponents,
+      PackedArray.PackedArrayHandler packedArrayHandler,
+      PseudoRandomGenerator pseudoRandomGenerator) {
+    this.numberOfComponents = numberOfComponents;
+    this.packedArrayHandler = packedArrayHandler;
+    this.pseudoRandomGenerator = pseudoRandomGenerator;
+    this.permutationGenerator = new PermutationGenerator(numberOfComponents);
+    this.hashValuesFractionalPart = new long[numberOfComponents];
+    this.hashValuesIntegralPart = new int[numberOfComponents];
+    this.histogram = new int[numberOfComponents + 1];
+    reset();
+  }
+
+  @Override
+  public void update(long elementHash) {
+    pseudoRandomGenerator.reset(elementHash);
+    permutationGenerator.reset();
+
+    for (int hashValueIntegralPart = 0;
+        hashValueIntegralPart <= maxHashValuesIntegralPart
+            && hashValueIntegralPart < numberOfComponents;
+        ++hashValueIntegralPart) {
+      long hashValueFractionalPart = pseudoRandomGenerator.nextLong();
+      int idx = permutationGenerator.next(pseudoRandomGenerator);
+
+      int currentHashValuesIntegralPart = hashValuesIntegralPart[idx];
+      if (currentHashValuesIntegralPart > hashValueIntegralPart) {
+        hashValuesFractionalPart[idx] = hashValueFractionalPart;
+        hashValuesIntegralPart[idx] = hashValueIntegralPart;
+        histogram[hashValueIntegralPart] += 1;
+        histogram[currentHashValuesIntegralPart] -= 1;
+        while (histogram[maxHashValuesIntegralPart] == 0) {
+          maxHashValuesIntegralPart -= 1;
+        }
+      } else if (currentHashValuesIntegralPart == hashValueIntegralPart
+          && hashValueFractionalPart < hashValuesFractionalPart[idx]) {
+        hashValuesFractionalPart[idx] = hashValueFractionalPart;
+      }
+    }
+  }
+
+  @Override
+  public byte[] getSignature() {
+    checkState(maxHashValuesIntegralPart < numberOfComponents);
+    return packedArrayHandler.create(i -> hashValuesFractionalPart[i], numberOfComponents);
+  }
+
+  @Override
+  public void reset() {
+    Arrays.fill(hashValuesIntegralPart, numberOfComponents);
+    Arrays.fill(histogram, 0);
+    histogram[numberOfComponents] = numberOfComponents;
+    maxHashValuesIntegralPart = numberOfComponents;
+  }
+}
@@ -157,4 +157,10 @@ final class SuperMinHashPolicy_v1 extends AbstractSimilarityHashPolicy {
   public SimilarityHasher createHasher() {
     return new SuperMinHashPolicy_v1.Hasher();
   }
+
+  @Override
+  public IncrementalSimilarityHasher createIncrementalHasher() {
+    return new SuperMinHashIncrementalHasher(
+        numberOfComponents, packedArrayHandler, pseudoRandomGeneratorProvider.create());
+  }
 }
@@ -105,4 +105,10 @@ final class SuperMinHashPolicy_v1a extends AbstractSimilarityHashPolicy {
   public SimilarityHasher createHasher() {
     return new SuperMinHashPolicy_v1a.Hasher();
   }
+
+  @Override
+  public IncrementalSimilarityHasher createIncrementalHasher() {
+    return new SuperMinHashIncrementalHasher(
+        numberOfComponents, packedArrayHandler, pseudoRandomGeneratorProvider.create());
+  }
 }
@@ -168,4 +168,10 @@ final class SuperMinHashPolicy_v1b extends AbstractSimilarityHashPolicy {
   public SimilarityHasher createHasher() {
     return new SuperMinHashPolicy_v1b.Hasher();
   }
+
+  @Override
+  public IncrementalSimilarityHasher createIncrementalHasher() {
+    return new SuperMinHashIncrementalHasher(
+        numberOfComponents, packedArrayHandler, pseudoRandomGeneratorProvider.create());
+  }
 }
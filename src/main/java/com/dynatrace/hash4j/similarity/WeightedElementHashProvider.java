@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static com.dynatrace.hash4j.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/** A provider of element hashes together with element weights. */
+public interface WeightedElementHashProvider {
+
+  /**
+   * Returns a 64-bit hash value of the element with given index.
+   *
+   * <p>The same requirements apply as for {@link ElementHashProvider#getElementHash(int)}.
+   *
+   * @param elementIndex the element index
+   * @return the hash value
+   */
+  long getElementHash(int elementIndex);
+
+  /**
+   * Returns the weight of the element with given index.
+   *
+   * <p>The weight must be nonnegative and finite. Multiple calls with the same element index must
+   * always return the same weight.
+   *
+   * @param elementIndex the element index
+   * @return the weight
+   */
+  double getElementWeight(int elementIndex);
+
+  /**
+   * Returns the number of elements.
+   *
+   * <p>The number of elements must be positive.
+   *
+   * @return the number of elements
+   */
+  int getNumberOfElements();
+
+  /**
+   * Creates a {@link WeightedElementHashProvider} given non-empty arrays of element hashes and
+   * corresponding weights.
+   *
+   * @param elementHashes array of element hashes
+   * @param elementWeights array of element weights
+   * @return a weighted element hash provider
+   * @throws IllegalArgumentException if the arrays are empty or have different lengths
+   */
+  static WeightedElementHashProvider ofValues(long[] elementHashes, double[] elementWeights) {
+    requireNonNull(elementHashes);
+    requireNonNull(elementWeights);
+    checkArgument(elementHashes.length > 0, "Number of elements must be positive.");
+    checkArgument(
+        elementHashes.length == elementWeights.length,
+        "Number of element hashes and weights must be equal.");
+    return new WeightedElementHashProvider() {
+      @Override
+      public long getElementHash(int elementIndex) {
+        return elementHashes[elementIndex];
+      }
+
+      @Override
+      public double getElementWeight(int elementIndex) {
+        return elementWeights[elementIndex];
+      }
+
+      @Override
+      public int getNumberOfElements() {
+        return elementHashes.length;
+      }
+    };
+  }
+
+  /**
+   * Creates a {@link WeightedElementHashProvider} given a collection of elements, a function that
+   * maps an element to a 64-bit hash value, and a function that maps an element to its weight.
+   *
+   * @param <T> the element type
+   * @param collection a collection of elements
+   * @param elementHashFunction a function that maps an element to a 64-bit hash value
+   * @param elementWeightFunction a function that maps an element to its weight
+   * @return a weighted element hash provider
+   * @throws IllegalArgumentException if the collection is empty
+   */
+  static <T> WeightedElementHashProvider ofCollection(
+      Collection<T> collection,
+      ToLongFunction<? super T> elementHashFunction,
+      ToDoubleFunction<? super T> elementWeightFunction) {
+    requireNonNull(collection);
+    requireNonNull(elementHashFunction);
+    requireNonNull(elementWeightFunction);
+    return ofValues(
+        collection.stream().mapToLong(elementHashFunction).toArray(),
+        collection.stream().mapToDouble(elementWeightFunction).toArray());
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+/**
+ * A policy for similarity hashing of weighted sets.
+ *
+ * <p>The hashers created by {@link #createHasher()} and {@link #createIncrementalHasher()} assign a
+ * weight of 1 to all elements.
+ */
+public interface WeightedSimilarityHashPolicy extends SimilarityHashPolicy {
+
+  /**
+   * Creates a new {@link WeightedSimilarityHasher} instance.
+   *
+   * @return a new weighted hasher instance
+   */
+  WeightedSimilarityHasher createWeightedHasher();
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+/**
+ * A hasher that is able to compute hash signatures of weighted sets which can be used for
+ * similarity estimations.
+ */
+public interface WeightedSimilarityHasher {
+
+  /**
+   * Computes a hash signature for a given collection of 64-bit element hash values and
+   * corresponding weights provided by the given weighted element hash provider.
+   *
+   * <p>Elements with zero weight are ignored. If an element hash value occurs multiple times, the
+   * maximum of the corresponding weights is used.
+   *
+   * @param elementHashProvider the weighted element hash provider
+   * @return the hash signature
+   * @throws IllegalArgumentException if the number of elements is not positive, if a weight is
+   *     negative or not finite, or if all weights are zero
+   */
+  byte[] compute(WeightedElementHashProvider elementHashProvider);
+}
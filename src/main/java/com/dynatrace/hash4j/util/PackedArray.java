@@ -61,6 +61,18 @@ public final class PackedArray {
 
   private static final byte[] ZERO_BYTES = new byte[0];
 
+  // returns the number of bytes of the given long value that are equal to zero
+  private static int numZeroBytes(long x) {
+    long y = (x & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL;
+    return Long.bitCount(~(y | x | 0x7F7F7F7F7F7F7F7FL));
+  }
+
+  // returns the number of 16-bit chunks of the given long value that are equal to zero
+  private static int numZeroShorts(long x) {
+    long y = (x & 0x7FFF7FFF7FFF7FFFL) + 0x7FFF7FFF7FFF7FFFL;
+    return Long.bitCount(~(y | x | 0x7FFF7FFF7FFF7FFFL));
+  }
+
   /** Gives access to indexed long values. */
   @FunctionalInterface
   public interface IndexedLongValueProvider {
@@ -172,6 +184,34 @@ public final class PackedArray {
      */
     int numEqualComponents(byte[] array1, byte[] array2, int length);
 
+    /**
+     * Returns the number of equal components of two packed arrays with given length, which are
+     * stored at the given byte offsets of the given byte arrays.
+     *
+     * <p>This allows to compare packed arrays that are stored consecutively within a larger byte
+     * array without copying. The packed arrays occupy {@link #numBytes(int) numBytes(length)} bytes
+     * starting at the given offsets.
+     *
+     * <p>The default implementation compares the arrays component by component.
+     *
+     * @param array1 the byte array containing the first packed array
+     * @param offset1 the byte offset of the first packed array
+     * @param array2 the byte array containing the second packed array
+     * @param offset2 the byte offset of the second packed array
+     * @param length the total number of components
+     * @return the number of equal components
+     */
+    default int numEqualComponents(
+        byte[] array1, int offset1, byte[] array2, int offset2, int length) {
+      ParallelXorPackedArrayReadIterator x =
+          new ParallelXorPackedArrayReadIterator(this, array1, offset1, array2, offset2, length);
+      int c = 0;
+      for (int i = 0; i < length; ++i) {
+        if (x.next() == 0) c += 1;
+      }
+      return c;
+    }
+
     /**
      * Sets all components of the given packed array to 0.
      *
@@ -211,6 +251,91 @@ public final class PackedArray {
     long next();
   }
 
+  private static final class ParallelXorPackedArrayReadIterator {
+    private final int bitSize;
+    private final long mask;
+
+    private long buffer;
+    private int availableBits;
+
+    private int readPos;
+
+    private final byte[] array1;
+    private final byte[] array2;
+    private final int offset1;
+    private final int offset2;
+
+    ParallelXorPackedArrayReadIterator(
+        PackedArrayHandler handler,
+        byte[] array1,
+        int offset1,
+        byte[] array2,
+        int offset2,
+        int length) {
+      requireNonNull(array1);
+
+      this.bitSize = handler.getBitSize();
+      this.mask = (1L << 1 << (bitSize - 1)) - 1;
+
+      this.array1 = array1;
+      this.array2 = array2;
+      this.offset1 = offset1;
+      this.offset2 = offset2;
+      int numBytes = handler.numBytes(length);
+      int remainingBytes = numBytes & 0x7;
+      this.availableBits = remainingBytes << 3;
+
+      if (numBytes >= 8) {
+        buffer =
+            ((long) LONG_HANDLE.get(array1, offset1))
+                ^ ((long) LONG_HANDLE.get(array2, offset2));
+        readPos = remainingBytes;
+      } else {
+        readPos = 0;
+        buffer = 0;
+        if (remainingBytes >= 4) {
+          buffer |=
+              (((int) INT_HANDLE.get(array1, offset1 + readPos))
+                      ^ ((int) INT_HANDLE.get(array2, offset2 + readPos)))
+                  & 0xFFFFFFFFL;
+          readPos += 4;
+          remainingBytes -= 4;
+        }
+        if (remainingBytes >= 2) {
+          buffer |=
+              ((((short) SHORT_HANDLE.get(array1, offset1 + readPos))
+                          ^ ((short) SHORT_HANDLE.get(array2, offset2 + readPos)))
+                      & 0xFFFFL)
+                  << (readPos << 3);
+          readPos += 2;
+          remainingBytes -= 2;
+        }
+        if (remainingBytes >= 1) {
+          buffer |=
+              ((array1[offset1 + readPos] ^ array2[offset2 + readPos]) & 0xFFL)
+                  << (readPos << 3);
+          readPos += 1;
+        }
+      }
+    }
+
+    long next() {
+      long result = buffer;
+      buffer >>>= bitSize;
+      if (availableBits < bitSize) {
+        buffer =
+            ((long) LONG_HANDLE.get(array1, offset1 + readPos))
+                ^ ((long) LONG_HANDLE.get(array2, offset2 + readPos));
+        result |= buffer << availableBits;
+        buffer >>>= 1;
+        buffer >>>= ~(availableBits - bitSize);
+        readPos += 8;
+        availableBits += 64;
+      }
+      availableBits -= bitSize;
+      return result & mask;
+    }
+  }
   private static final long MAX_NUM_BITS = Integer.MAX_VALUE * 8L;
 
   private static void checkArrayLength(int length, int bitSize) {
@@ -245,13 +370,7 @@ public final class PackedArray {
 
     @Override
     public int numEqualComponents(byte[] array1, byte[] array2, int length) {
-      ParallelXorPackedArrayReadIterator x =
-          new ParallelXorPackedArrayReadIterator(array1, array2, length);
-      int c = 0;
-      for (int i = 0; i < length; ++i) {
-        if (x.next() == 0) c += 1;
-      }
-      return c;
+      return numEqualComponents(array1, 0, array2, 0, length);
     }
 
     @Override
@@ -677,68 +796,6 @@ public final class PackedArray {
       return new PackedArrayReadIteratorImpl(array, length);
     }
 
-    private class ParallelXorPackedArrayReadIterator {
-      private long buffer;
-      private int availableBits;
-
-      private int readPos;
-
-      private final byte[] array1;
-      private final byte[] array2;
-
-      public ParallelXorPackedArrayReadIterator(byte[] array1, byte[] array2, int length) {
-        requireNonNull(array1);
-
-        this.array1 = array1;
-        this.array2 = array2;
-        int remainingBytes = numBytes(length) & 0x7;
-        this.availableBits = remainingBytes << 3;
-
-        if (array1.length >= 8) {
-          buffer = ((long) LONG_HANDLE.get(array1, 0)) ^ ((long) LONG_HANDLE.get(array2, 0));
-          readPos = remainingBytes;
-        } else {
-          readPos = 0;
-          buffer = 0;
-          if (remainingBytes >= 4) {
-            buffer |=
-                (((int) INT_HANDLE.get(array1, readPos)) ^ ((int) INT_HANDLE.get(array2, readPos)))
-                    & 0xFFFFFFFFL;
-            readPos += 4;
-            remainingBytes -= 4;
-          }
-          if (remainingBytes >= 2) {
-            buffer |=
-                ((((short) SHORT_HANDLE.get(array1, readPos))
-                            ^ ((short) SHORT_HANDLE.get(array2, readPos)))
-                        & 0xFFFFL)
-                    << (readPos << 3);
-            readPos += 2;
-            remainingBytes -= 2;
-          }
-          if (remainingBytes >= 1) {
-            buffer |= ((array1[readPos] ^ array2[readPos]) & 0xFFL) << (readPos << 3);
-            readPos += 1;
-          }
-        }
-      }
-
-      public long next() {
-        long result = buffer;
-        buffer >>>= bitSize;
-        if (availableBits < bitSize) {
-          buffer =
-              ((long) LONG_HANDLE.get(array1, readPos)) ^ ((long) LONG_HANDLE.get(array2, readPos));
-          result |= buffer << availableBits;
-          buffer >>>= 1;
-          buffer >>>= ~(availableBits - bitSize);
-          readPos += 8;
-          availableBits += 64;
-        }
-        availableBits -= bitSize;
-        return result & mask;
-      }
-    }
   }
 
   private abstract static class AbstractPackedArrayHandlerPeriod1
@@ -838,6 +895,12 @@ public final class PackedArray {
           return length;
         }
 
+        @Override
+        public int numEqualComponents(
+            byte[] array1, int offset1, byte[] array2, int offset2, int length) {
+          return length;
+        }
+
         @Override
         public void clear(byte[] array) {
           // do nothing
@@ -883,40 +946,41 @@ public final class PackedArray {
         }
 
         @Override
-        public int numEqualComponents(byte[] array1, byte[] array2, int length) {
+        public int numEqualComponents(
+            byte[] array1, int offset1, byte[] array2, int offset2, int length) {
           int result = 0;
           int bytePos = 0;
           while (length >= 64) {
-            long l1 = getLong(array1, bytePos);
-            long l2 = getLong(array2, bytePos);
+            long l1 = getLong(array1, offset1 + bytePos);
+            long l2 = getLong(array2, offset2 + bytePos);
             result += Long.bitCount(~(l1 ^ l2));
             bytePos += 8;
             length -= 64;
           }
           if (length >= 32) {
-            int l1 = getInt(array1, bytePos);
-            int l2 = getInt(array2, bytePos);
+            int l1 = getInt(array1, offset1 + bytePos);
+            int l2 = getInt(array2, offset2 + bytePos);
             result += Integer.bitCount(~(l1 ^ l2));
             bytePos += 4;
             length -= 32;
           }
           if (length >= 16) {
-            int l1 = getShort(array1, bytePos);
-            int l2 = getShort(array2, bytePos);
+            int l1 = getShort(array1, offset1 + bytePos);
+            int l2 = getShort(array2, offset2 + bytePos);
             result += Integer.bitCount(~(l1 ^ l2) & 0xFFFF);
             bytePos += 2;
             length -= 16;
           }
           if (length >= 8) {
-            int l1 = array1[bytePos];
-            int l2 = array2[bytePos];
+            int l1 = array1[offset1 + bytePos];
+            int l2 = array2[offset2 + bytePos];
             result += Integer.bitCount(~(l1 ^ l2) & 0xFF);
             bytePos += 1;
             length -= 8;
           }
           if (length > 0) {
-            int l1 = array1[bytePos];
-            int l2 = array2[bytePos];
+            int l1 = array1[offset1 + bytePos];
+            int l2 = array2[offset2 + bytePos];
             result += Integer.bitCount(~(l1 ^ l2) & ((0xFF << length) >>> 8));
           }
           return result;
@@ -1237,6 +1301,20 @@ public final class PackedArray {
         public long update(byte[] array, int idx, long value, LongBinaryOperator operator) {
           return update1(array, idx, 0, 0, value, operator);
         }
+
+        @Override
+        public int numEqualComponents(
+            byte[] array1, int offset1, byte[] array2, int offset2, int length) {
+          int result = 0;
+          int i = 0;
+          for (; i <= length - 8; i += 8) {
+            result += numZeroBytes(getLong(array1, offset1 + i) ^ getLong(array2, offset2 + i));
+          }
+          for (; i < length; ++i) {
+            if (array1[offset1 + i] == array2[offset2 + i]) result += 1;
+          }
+          return result;
+        }
       };
 
   private static final PackedArrayHandler HANDLER_9 =
@@ -1578,6 +1656,25 @@ public final class PackedArray {
         public long update(byte[] array, int idx, long value, LongBinaryOperator operator) {
           return update2(array, idx, 0, 0, value, operator);
         }
+
+        @Override
+        public int numEqualComponents(
+            byte[] array1, int offset1, byte[] array2, int offset2, int length) {
+          int result = 0;
+          int bytePos = 0;
+          int bytePosEnd = length << 1;
+          for (; bytePos <= bytePosEnd - 8; bytePos += 8) {
+            result +=
+                numZeroShorts(
+                    getLong(array1, offset1 + bytePos) ^ getLong(array2, offset2 + bytePos));
+          }
+          for (; bytePos < bytePosEnd; bytePos += 2) {
+            if (getShort(array1, offset1 + bytePos) == getShort(array2, offset2 + bytePos)) {
+              result += 1;
+            }
+          }
+          return result;
+        }
       };
 
   private static final PackedArrayHandler HANDLER_17 =
@@ -2260,6 +2357,18 @@ public final class PackedArray {
         public long update(byte[] array, int idx, long value, LongBinaryOperator operator) {
           return update4(array, idx, 0, 0, value, operator);
         }
+
+        @Override
+        public int numEqualComponents(
+            byte[] array1, int offset1, byte[] array2, int offset2, int length) {
+          int result = 0;
+          for (int bytePos = 0; bytePos < length << 2; bytePos += 4) {
+            if (getInt(array1, offset1 + bytePos) == getInt(array2, offset2 + bytePos)) {
+              result += 1;
+            }
+          }
+          return result;
+        }
       };
 
   private static final PackedArrayHandler HANDLER_33 =
@@ -3624,6 +3733,18 @@ public final class PackedArray {
         public long update(byte[] array, int idx, long value, LongBinaryOperator operator) {
           return update8(array, idx, 0, 0, value, operator);
         }
+
+        @Override
+        public int numEqualComponents(
+            byte[] array1, int offset1, byte[] array2, int offset2, int length) {
+          int result = 0;
+          for (int bytePos = 0; bytePos < length << 3; bytePos += 8) {
+            if (getLong(array1, offset1 + bytePos) == getLong(array2, offset2 + bytePos)) {
+              result += 1;
+            }
+          }
+          return result;
+        }
       };
 
   private static final PackedArrayHandler[] HANDLER_INSTANCES = createHandlerInstances();
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+abstract class ConcurrentDistinctCounterTest<
+    C extends ConcurrentDistinctCounter<C, T, R>,
+    T extends DistinctCounter<T, R>,
+    R extends DistinctCounter.Estimator<T>> {
+
+  protected abstract int getMinP();
+
+  protected abstract int getMaxP();
+
+  protected abstract C create(int p);
+
+  protected abstract T createSketch(int p);
+
+  protected abstract List<? extends R> getEstimators();
+
+  protected abstract int computeToken(long hashValue);
+
+  @Test
+  void testIllegalPrecision() {
+    assertThatIllegalArgumentException().isThrownBy(() -> create(getMinP() - 1));
+    assertThatIllegalArgumentException().isThrownBy(() -> create(getMaxP() + 1));
+  }
+
+  @Test
+  void testSequentialInsertion() {
+    SplittableRandom random = new SplittableRandom(0x3e0c7d9a2b1f4658L);
+    for (int p = getMinP(); p <= 16; ++p) {
+      T expectedSketch = createSketch(p);
+      C sketch = create(p);
+      MartingaleEstimator expectedEstimator = new MartingaleEstimator();
+      MartingaleEstimator estimator = new MartingaleEstimator();
+      for (int i = 0; i < 10000; ++i) {
+        long hash = random.nextLong();
+        expectedSketch.add(hash, expectedEstimator);
+        assertThat(sketch.add(hash, estimator)).isSameAs(sketch);
+      }
+      assertThat(sketch.getP()).isEqualTo(p);
+      assertThat(sketch.getSnapshot().getState()).isEqualTo(expectedSketch.getState());
+      assertThat(estimator.getDistinctCountEstimate())
+          .isEqualTo(expectedEstimator.getDistinctCountEstimate());
+      assertThat(sketch.getDistinctCountEstimate())
+          .isEqualTo(expectedSketch.getDistinctCountEstimate());
+      for (R distinctCountEstimator : getEstimators()) {
+        assertThat(sketch.getDistinctCountEstimate(distinctCountEstimator))
+            .isEqualTo(expectedSketch.getDistinctCountEstimate(distinctCountEstimator));
+      }
+    }
+  }
+
+  @Test
+  void testAddToken() {
+    SplittableRandom random = new SplittableRandom(0x5d3b7e9c1a2f4e60L);
+    T expectedSketch = createSketch(12);
+    C sketch1 = create(12);
+    C sketch2 = create(12);
+    MartingaleEstimator expectedEstimator = new MartingaleEstimator();
+    MartingaleEstimator estimator = new MartingaleEstimator();
+    for (int i = 0; i < 10000; ++i) {
+      long hash = random.nextLong();
+      int token = computeToken(hash);
+      expectedSketch.addToken(token, expectedEstimator);
+      assertThat(sketch1.addToken(token)).isSameAs(sketch1);
+      assertThat(sketch2.addToken(token, estimator)).isSameAs(sketch2);
+    }
+    assertThat(sketch1.getSnapshot().getState()).isEqualTo(expectedSketch.getState());
+    assertThat(sketch2.getSnapshot().getState()).isEqualTo(expectedSketch.getState());
+    assertThat(estimator.getDistinctCountEstimate())
+        .isEqualTo(expectedEstimator.getDistinctCountEstimate());
+  }
+
+  @Test
+  void testSnapshotIsCopy() {
+    C sketch = create(8);
+    T snapshot = sketch.getSnapshot();
+    sketch.add(0x1234567890abcdefL);
+    assertThat(snapshot.getDistinctCountEstimate()).isZero();
+    assertThat(sketch.getSnapshot().getState()).isNotEqualTo(snapshot.getState());
+  }
+
+  @Test
+  void testAddSketch() {
+    SplittableRandom random = new SplittableRandom(0x0a1b2c3d4e5f6789L);
+    for (int otherP = 10; otherP <= 14; ++otherP) {
+      T other = createSketch(otherP);
+      T expectedSketch = createSketch(10);
+      C sketch = create(10);
+      for (int i = 0; i < 5000; ++i) {
+        long hash1 = random.nextLong();
+        long hash2 = random.nextLong();
+        expectedSketch.add(hash1);
+        sketch.add(hash1);
+        other.add(hash2);
+      }
+      expectedSketch.add(other);
+      assertThat(sketch.add(other)).isSameAs(sketch);
+      assertThat(sketch.getSnapshot().getState()).isEqualTo(expectedSketch.getState());
+    }
+    assertThatIllegalArgumentException().isThrownBy(() -> create(10).add(createSketch(9)));
+    assertThatNullPointerException().isThrownBy(() -> create(10).add((T) null));
+  }
+
+  @Test
+  void testConcurrentInsertion() throws Exception {
+    int numThreads = 4;
+    int numHashesPerThread = 100000;
+    int p = 10;
+    SplittableRandom random = new SplittableRandom(0x7f4a2c9e1b3d5068L);
+    long[] hashes = random.longs((long) numThreads * numHashesPerThread).toArray();
+
+    T expectedSketch = createSketch(p);
+    for (long hash : hashes) {
+      expectedSketch.add(hash);
+    }
+
+    C sketch = create(p);
+    DoubleAdder probabilityDecrementSum = new DoubleAdder();
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      Future<?>[] futures =
+          IntStream.range(0, numThreads)
+              .mapToObj(
+                  t ->
+                      executor.submit(
+                          () -> {
+                            for (int i = t; i < hashes.length; i += numThreads) {
+                              sketch.add(hashes[i], probabilityDecrementSum::add);
+                            }
+                          }))
+              .toArray(Future<?>[]::new);
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(sketch.getSnapshot().getState()).isEqualTo(expectedSketch.getState());
+    assertThat(1. - probabilityDecrementSum.sum())
+        .isCloseTo(expectedSketch.getStateChangeProbability(), within(1e-12));
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.HyperLogLog.CORRECTED_RAW_ESTIMATOR;
+import static com.dynatrace.hash4j.distinctcount.HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR;
+
+import java.util.Arrays;
+import java.util.List;
+
+class ConcurrentHyperLogLogTest
+    extends ConcurrentDistinctCounterTest<
+        ConcurrentHyperLogLog, HyperLogLog, HyperLogLog.Estimator> {
+
+  @Override
+  protected int getMinP() {
+    return HyperLogLog.MIN_P;
+  }
+
+  @Override
+  protected int getMaxP() {
+    return HyperLogLog.MAX_P;
+  }
+
+  @Override
+  protected ConcurrentHyperLogLog create(int p) {
+    return ConcurrentHyperLogLog.create(p);
+  }
+
+  @Override
+  protected HyperLogLog createSketch(int p) {
+    return HyperLogLog.create(p);
+  }
+
+  @Override
+  protected List<HyperLogLog.Estimator> getEstimators() {
+    return Arrays.asList(CORRECTED_RAW_ESTIMATOR, MAXIMUM_LIKELIHOOD_ESTIMATOR);
+  }
+
+  @Override
+  protected int computeToken(long hashValue) {
+    return HyperLogLog.computeToken(hashValue);
+  }
+}
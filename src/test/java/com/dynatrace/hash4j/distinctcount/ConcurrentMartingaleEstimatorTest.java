@@ -0,0 +1,161 @@
+/*
+ * Copyright 2022-2023 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentMartingaleEstimatorTest {
+
+  @Test
+  void testToString() {
+    assertThat(new ConcurrentMartingaleEstimator())
+        .hasToString(
+            "ConcurrentMartingaleEstimator{distinctCountEstimate=0.0, stateChangeProbability=1.0}");
+    assertThat(new ConcurrentMartingaleEstimator(2, 0.25))
+        .hasToString(
+            "ConcurrentMartingaleEstimator{distinctCountEstimate=2.0, "
+                + "stateChangeProbability=0.25}");
+  }
+
+  @Test
+  void testConstructorWithNegativeZeroStateChangeProbability() {
+    ConcurrentMartingaleEstimator estimator = new ConcurrentMartingaleEstimator(0, -0.0);
+    estimator.stateChanged(0.5);
+    assertThat(estimator.getDistinctCountEstimate()).isPositive().isInfinite();
+  }
+
+  @Test
+  void testConstructorWithIllegalArguments() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new ConcurrentMartingaleEstimator(-1, 1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new ConcurrentMartingaleEstimator(Double.NaN, 1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new ConcurrentMartingaleEstimator(Double.NEGATIVE_INFINITY, 1));
+    assertThatIllegalArgumentException().isThrownBy(() -> new ConcurrentMartingaleEstimator(0, 2));
+    assertThatIllegalArgumentException().isThrownBy(() -> new ConcurrentMartingaleEstimator(0, -1));
+  }
+
+  @Test
+  void testBasicUsage() {
+    ConcurrentMartingaleEstimator estimator = new ConcurrentMartingaleEstimator();
+    assertThat(estimator.getDistinctCountEstimate()).isZero();
+    assertThat(estimator.getStateChangeProbability()).isOne();
+    for (int i = 1; i <= 100; ++i) {
+      estimator.stateChanged(Math.pow(0.5, i));
+      assertThat(estimator.getStateChangeProbability()).isEqualTo(Math.pow(0.5, i));
+      assertThat(estimator.getDistinctCountEstimate()).isEqualTo(Math.pow(2., i) - 1.);
+    }
+  }
+
+  @Test
+  void testSetAndReset() {
+    double distinctCountEstimate = 23478952;
+    double stateChangeProbability = 0.823568;
+
+    ConcurrentMartingaleEstimator estimator = new ConcurrentMartingaleEstimator();
+    estimator.stateChanged(0.25);
+    estimator.set(distinctCountEstimate, stateChangeProbability);
+    assertThat(estimator.getStateChangeProbability()).isEqualTo(stateChangeProbability);
+    assertThat(estimator.getDistinctCountEstimate()).isEqualTo(distinctCountEstimate);
+
+    estimator.reset();
+    assertThat(estimator.getStateChangeProbability()).isEqualTo(1.);
+    assertThat(estimator.getDistinctCountEstimate()).isEqualTo(0.);
+  }
+
+  @Test
+  void testSetArguments() {
+    ConcurrentMartingaleEstimator estimator = new ConcurrentMartingaleEstimator();
+    assertThatIllegalArgumentException().isThrownBy(() -> estimator.set(-2, 0.5));
+    assertThatIllegalArgumentException().isThrownBy(() -> estimator.set(1, 1.5));
+    assertThatNoException().isThrownBy(() -> estimator.set(2, -0.0));
+    assertThatIllegalArgumentException().isThrownBy(() -> estimator.set(2, -0.1));
+  }
+
+  @Test
+  void testSingleThreadedUsageMatchesMartingaleEstimator() {
+    int p = 8;
+    SplittableRandom random = new SplittableRandom(0x5d27c1e04a9b3f86L);
+    UltraLogLog expectedSketch = UltraLogLog.create(p);
+    MartingaleEstimator expectedEstimator = new MartingaleEstimator();
+    UltraLogLog sketch = UltraLogLog.create(p);
+    ConcurrentMartingaleEstimator estimator = new ConcurrentMartingaleEstimator();
+    long[] hashValues = new long[1000];
+    for (int k = 0; k < 100; ++k) {
+      for (int i = 0; i < hashValues.length; ++i) {
+        hashValues[i] = random.nextLong();
+        expectedSketch.add(hashValues[i], expectedEstimator);
+      }
+      sketch.add(hashValues, 0, hashValues.length, estimator);
+      assertThat(estimator.getDistinctCountEstimate())
+          .isCloseTo(expectedEstimator.getDistinctCountEstimate(), withPercentage(1e-9));
+      assertThat(estimator.getStateChangeProbability())
+          .isCloseTo(expectedEstimator.getStateChangeProbability(), withPercentage(1e-9));
+    }
+  }
+
+  @Test
+  void testConcurrentUsage() throws Exception {
+    int numThreads = 4;
+    int numHashesPerThread = 250000;
+    int p = 10;
+    SplittableRandom random = new SplittableRandom(0x1e6b93d07fa45c28L);
+    long[] hashes = random.longs((long) numThreads * numHashesPerThread).toArray();
+
+    UltraLogLog expectedSketch = UltraLogLog.create(p);
+    MartingaleEstimator expectedEstimator = new MartingaleEstimator();
+    for (long hash : hashes) {
+      expectedSketch.add(hash, expectedEstimator);
+    }
+
+    ConcurrentUltraLogLog sketch = ConcurrentUltraLogLog.create(p);
+    ConcurrentMartingaleEstimator estimator = new ConcurrentMartingaleEstimator();
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      Future<?>[] futures =
+          IntStream.range(0, numThreads)
+              .mapToObj(
+                  t ->
+                      executor.submit(
+                          () -> {
+                            for (int i = t; i < hashes.length; i += numThreads) {
+                              sketch.add(hashes[i], estimator);
+                            }
+                          }))
+              .toArray(Future<?>[]::new);
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(sketch.getSnapshot().getState()).isEqualTo(expectedSketch.getState());
+    assertThat(estimator.getStateChangeProbability())
+        .isCloseTo(expectedSketch.getStateChangeProbability(), within(1e-12));
+    // the estimate depends slightly on the order in which concurrent state changes are reported
+    assertThat(estimator.getDistinctCountEstimate())
+        .isCloseTo(expectedEstimator.getDistinctCountEstimate(), withPercentage(1));
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR;
+import static com.dynatrace.hash4j.distinctcount.UltraLogLog.OPTIMAL_FGRA_ESTIMATOR;
+
+import java.util.Arrays;
+import java.util.List;
+
+class ConcurrentUltraLogLogTest
+    extends ConcurrentDistinctCounterTest<
+        ConcurrentUltraLogLog, UltraLogLog, UltraLogLog.Estimator> {
+
+  @Override
+  protected int getMinP() {
+    return UltraLogLog.MIN_P;
+  }
+
+  @Override
+  protected int getMaxP() {
+    return UltraLogLog.MAX_P;
+  }
+
+  @Override
+  protected ConcurrentUltraLogLog create(int p) {
+    return ConcurrentUltraLogLog.create(p);
+  }
+
+  @Override
+  protected UltraLogLog createSketch(int p) {
+    return UltraLogLog.create(p);
+  }
+
+  @Override
+  protected List<UltraLogLog.Estimator> getEstimators() {
+    return Arrays.asList(MAXIMUM_LIKELIHOOD_ESTIMATOR, OPTIMAL_FGRA_ESTIMATOR);
+  }
+
+  @Override
+  protected int computeToken(long hashValue) {
+    return UltraLogLog.computeToken(hashValue);
+  }
+}
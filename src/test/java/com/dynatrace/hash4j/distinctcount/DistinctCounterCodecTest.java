@@ -0,0 +1,287 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.zip.Deflater;
+import org.junit.jupiter.api.Test;
+
+class DistinctCounterCodecTest {
+
+  private static final long[] DISTINCT_COUNTS = {
+    0, 1, 2, 5, 10, 100, 1000, 10000, 100000, 1000000
+  };
+
+  @Test
+  void testUltraLogLogRoundTrip() {
+    SplittableRandom random = new SplittableRandom(0x6c44198c4a475817L);
+    for (int p = UltraLogLog.MIN_P; p <= 16; ++p) {
+      for (long distinctCount : DISTINCT_COUNTS) {
+        UltraLogLog sketch = UltraLogLog.create(p);
+        for (long i = 0; i < distinctCount; ++i) {
+          sketch.add(random.nextLong());
+        }
+        byte[] data = DistinctCounterCodec.encode(sketch);
+        assertThat(data.length).isLessThanOrEqualTo(sketch.getState().length + 3);
+        UltraLogLog decoded = DistinctCounterCodec.decodeUltraLogLog(data);
+        assertThat(decoded.getState()).isEqualTo(sketch.getState());
+        assertThat(decoded.getState()).isNotSameAs(sketch.getState());
+      }
+    }
+  }
+
+  @Test
+  void testHyperLogLogRoundTrip() {
+    SplittableRandom random = new SplittableRandom(0x431d67c49c100d4cL);
+    for (int p = HyperLogLog.MIN_P; p <= 16; ++p) {
+      for (long distinctCount : DISTINCT_COUNTS) {
+        HyperLogLog sketch = HyperLogLog.create(p);
+        for (long i = 0; i < distinctCount; ++i) {
+          sketch.add(random.nextLong());
+        }
+        byte[] data = DistinctCounterCodec.encode(sketch);
+        assertThat(data.length).isLessThanOrEqualTo(sketch.getState().length + 3);
+        HyperLogLog decoded = DistinctCounterCodec.decodeHyperLogLog(data);
+        assertThat(decoded.getState()).isEqualTo(sketch.getState());
+      }
+    }
+  }
+
+  @Test
+  void testSaturatedUltraLogLogRoundTrip() {
+    byte[] state = new byte[1 << 10];
+    Arrays.fill(state, (byte) 0xFF);
+    byte[] data = DistinctCounterCodec.encode(UltraLogLog.wrap(state));
+    assertThat(DistinctCounterCodec.decodeUltraLogLog(data).getState()).isEqualTo(state);
+  }
+
+  @Test
+  void testCompactness() {
+    SplittableRandom random = new SplittableRandom(0x1f83d9abfb41bd6bL);
+    UltraLogLog sketch = UltraLogLog.create(14);
+    assertThat(DistinctCounterCodec.encode(sketch)).hasSize(4);
+    sketch.add(random.nextLong());
+    assertThat(DistinctCounterCodec.encode(sketch)).hasSize(7);
+    for (int i = 1; i < 100; ++i) {
+      sketch.add(random.nextLong());
+    }
+    assertThat(DistinctCounterCodec.encode(sketch).length).isLessThan(400);
+    for (int i = 100; i < 1000000; ++i) {
+      sketch.add(random.nextLong());
+    }
+    assertThat(DistinctCounterCodec.encode(sketch).length)
+        .isLessThan(sketch.getState().length * 3 / 5);
+  }
+
+  @Test
+  void testNullArguments() {
+    assertThatNullPointerException()
+        .isThrownBy(() -> DistinctCounterCodec.encode((UltraLogLog) null));
+    assertThatNullPointerException()
+        .isThrownBy(() -> DistinctCounterCodec.encode((HyperLogLog) null));
+    assertThatNullPointerException().isThrownBy(() -> DistinctCounterCodec.decodeUltraLogLog(null));
+    assertThatNullPointerException().isThrownBy(() -> DistinctCounterCodec.decodeHyperLogLog(null));
+  }
+
+  @Test
+  void testInvalidData() {
+    SplittableRandom random = new SplittableRandom(0x5be0cd19137e2179L);
+    UltraLogLog ultraLogLog = UltraLogLog.create(12);
+    HyperLogLog hyperLogLog = HyperLogLog.create(12);
+    for (int i = 0; i < 10; ++i) {
+      long hash = random.nextLong();
+      ultraLogLog.add(hash);
+      hyperLogLog.add(hash);
+    }
+    byte[] ultraLogLogData = DistinctCounterCodec.encode(ultraLogLog);
+    byte[] hyperLogLogData = DistinctCounterCodec.encode(hyperLogLog);
+
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> DistinctCounterCodec.decodeUltraLogLog(hyperLogLogData));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> DistinctCounterCodec.decodeHyperLogLog(ultraLogLogData));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> DistinctCounterCodec.decodeUltraLogLog(new byte[2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                DistinctCounterCodec.decodeUltraLogLog(
+                    Arrays.copyOf(ultraLogLogData, ultraLogLogData.length - 1)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                DistinctCounterCodec.decodeUltraLogLog(
+                    Arrays.copyOf(ultraLogLogData, ultraLogLogData.length + 1)));
+
+    byte[] wrongVersion = ultraLogLogData.clone();
+    wrongVersion[0] = 2;
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> DistinctCounterCodec.decodeUltraLogLog(wrongVersion));
+
+    byte[] wrongPrecision = ultraLogLogData.clone();
+    wrongPrecision[2] = (byte) (UltraLogLog.MAX_P + 1);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> DistinctCounterCodec.decodeUltraLogLog(wrongPrecision));
+
+    byte[] wrongEncoding = ultraLogLogData.clone();
+    wrongEncoding[1] = 0x0F;
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> DistinctCounterCodec.decodeUltraLogLog(wrongEncoding));
+
+    byte[] rawWithWrongLength = new byte[3 + 100];
+    rawWithWrongLength[0] = 1;
+    rawWithWrongLength[2] = 12;
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> DistinctCounterCodec.decodeUltraLogLog(rawWithWrongLength));
+  }
+
+  @Test
+  void testCorruptedEntropyCodedData() {
+    SplittableRandom random = new SplittableRandom(0x243f6a8885a308d3L);
+    UltraLogLog sketch = UltraLogLog.create(12);
+    for (int i = 0; i < 100000; ++i) {
+      sketch.add(random.nextLong());
+    }
+    byte[] data = DistinctCounterCodec.encode(sketch);
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () -> DistinctCounterCodec.decodeUltraLogLog(Arrays.copyOf(data, data.length / 2)));
+  }
+
+  @Test
+  void testDownsizedUltraLogLogRoundTrip() {
+    SplittableRandom random = new SplittableRandom(0x9b05688c2b3e6c1fL);
+    UltraLogLog sketch = UltraLogLog.create(16);
+    for (int i = 0; i < 100000; ++i) {
+      sketch.add(random.nextLong());
+    }
+    for (int p = UltraLogLog.MIN_P; p <= 16; ++p) {
+      UltraLogLog downsized = sketch.downsize(p);
+      byte[] data = DistinctCounterCodec.encode(downsized);
+      assertThat(DistinctCounterCodec.decodeUltraLogLog(data).getState())
+          .isEqualTo(downsized.getState());
+    }
+  }
+
+  private static byte[] createSparseData(int type, int p, int... deltasAndRegisters) {
+    byte[] data = new byte[4 + deltasAndRegisters.length];
+    data[0] = 1;
+    data[1] = (byte) ((type << 4) | 1);
+    data[2] = (byte) p;
+    data[3] = (byte) (deltasAndRegisters.length / 2);
+    for (int i = 0; i < deltasAndRegisters.length; ++i) {
+      data[4 + i] = (byte) deltasAndRegisters[i];
+    }
+    return data;
+  }
+
+  private static byte[] createRawData(int type, int p, byte[] state) {
+    byte[] data = new byte[3 + state.length];
+    data[0] = 1;
+    data[1] = (byte) (type << 4);
+    data[2] = (byte) p;
+    System.arraycopy(state, 0, data, 3, state.length);
+    return data;
+  }
+
+  private static byte[] createDeflateData(int type, int p, byte[] registers) {
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    deflater.setInput(registers);
+    deflater.finish();
+    byte[] buffer = new byte[registers.length + 100];
+    int len = deflater.deflate(buffer);
+    deflater.end();
+    byte[] data = new byte[3 + len];
+    data[0] = 1;
+    data[1] = (byte) ((type << 4) | 2);
+    data[2] = (byte) p;
+    System.arraycopy(buffer, 0, data, 3, len);
+    return data;
+  }
+
+  @Test
+  void testInvalidUltraLogLogRegisters() {
+    int p = 12;
+    // valid registers
+    byte[] validData1 = createSparseData(0, p, 5, 44);
+    byte[] validData2 = createSparseData(0, p, 0, 0xFF);
+    assertThat(DistinctCounterCodec.decodeUltraLogLog(validData1).getState()[5])
+        .isEqualTo((byte) 44);
+    assertThat(DistinctCounterCodec.decodeUltraLogLog(validData2).getState()[0])
+        .isEqualTo((byte) 0xFF);
+    // registers that are not the packed form of a hash prefix
+    for (int register : new int[] {1, 2, 3, 7}) {
+      byte[] state = new byte[1 << p];
+      state[7] = (byte) register;
+      byte[] sparseData = createSparseData(0, p, 7, register);
+      byte[] rawData = createRawData(0, p, state);
+      byte[] deflateData = createDeflateData(0, p, state);
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> DistinctCounterCodec.decodeUltraLogLog(sparseData));
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> DistinctCounterCodec.decodeUltraLogLog(rawData));
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> DistinctCounterCodec.decodeUltraLogLog(deflateData));
+    }
+    // registers with hash prefix bits that cannot be set for the given precision parameter
+    for (int register : new int[] {40, 41, 45}) {
+      byte[] sparseData = createSparseData(0, p, 7, register);
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> DistinctCounterCodec.decodeUltraLogLog(sparseData));
+    }
+  }
+
+  @Test
+  void testInvalidHyperLogLogRegisters() {
+    int p = 12;
+    int maxRegisterValue = 65 - p;
+    HyperLogLog decoded =
+        DistinctCounterCodec.decodeHyperLogLog(createSparseData(1, p, 3, maxRegisterValue));
+    assertThat(decoded.getState()).isEqualTo(HyperLogLog.create(p).add(0x003L << 52).getState());
+    for (int register : new int[] {maxRegisterValue + 1, 0x3F, 0x40, 0xC1}) {
+      byte[] registers = new byte[1 << p];
+      registers[3] = (byte) register;
+      byte[] sparseData = createSparseData(1, p, 3, register);
+      byte[] deflateData = createDeflateData(1, p, registers);
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> DistinctCounterCodec.decodeHyperLogLog(sparseData));
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> DistinctCounterCodec.decodeHyperLogLog(deflateData));
+    }
+    byte[] rawState = new byte[(6 << p) / 8];
+    Arrays.fill(rawState, (byte) 0xFF);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> DistinctCounterCodec.decodeHyperLogLog(createRawData(1, p, rawState)));
+  }
+
+  @Test
+  void testNonCanonicalSparseData() {
+    int p = 12;
+    // zero registers must not be listed
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> DistinctCounterCodec.decodeUltraLogLog(createSparseData(0, p, 5, 0)));
+    // registers must be listed only once and in ascending order
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () -> DistinctCounterCodec.decodeUltraLogLog(createSparseData(0, p, 5, 44, 0, 48)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () -> DistinctCounterCodec.decodeHyperLogLog(createSparseData(1, p, 5, 3, 0, 4)));
+  }
+}
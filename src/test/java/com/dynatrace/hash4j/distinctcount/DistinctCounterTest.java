@@ -49,6 +49,8 @@ abstract class DistinctCounterTest<
 
   protected abstract T merge(T sketch1, T sketch2);
 
+  protected abstract T merge(Collection<T> sketches);
+
   protected abstract double calculateTheoreticalRelativeStandardErrorML(int p);
 
   protected abstract double calculateTheoreticalRelativeStandardErrorMartingale(int p);
@@ -173,6 +175,48 @@ abstract class DistinctCounterTest<
     }
   }
 
+  @Test
+  void testMergeCollection() {
+    SplittableRandom random = new SplittableRandom(0x7c1e5b39d04a26f3L);
+    int maxP = Math.min(16, getMaxP());
+    for (int numSketches : new int[] {1, 2, 3, 5, 10}) {
+      for (int i = 0; i < 20; ++i) {
+        List<T> sketches = new ArrayList<>();
+        int minP = maxP;
+        for (int k = 0; k < numSketches; ++k) {
+          int p = getMinP() + random.nextInt(maxP - getMinP() + 1);
+          minP = Math.min(minP, p);
+          sketches.add(create(p));
+        }
+        T sketchTotal = create(minP);
+        long distinctCount = 1L << random.nextInt(18);
+        for (long c = 0; c < distinctCount; ++c) {
+          long hashValue = random.nextLong();
+          sketches.get(random.nextInt(numSketches)).add(hashValue);
+          sketchTotal.add(hashValue);
+        }
+        List<byte[]> statesBefore = new ArrayList<>();
+        for (T sketch : sketches) {
+          statesBefore.add(sketch.getState().clone());
+        }
+        T mergedSketch = merge(sketches);
+        assertThat(mergedSketch.getState()).isEqualTo(sketchTotal.getState());
+        for (int k = 0; k < numSketches; ++k) {
+          assertThat(mergedSketch).isNotSameAs(sketches.get(k));
+          assertThat(sketches.get(k).getState()).isEqualTo(statesBefore.get(k));
+        }
+      }
+    }
+  }
+
+  @Test
+  void testMergeCollectionIllegalArguments() {
+    assertThatIllegalArgumentException().isThrownBy(() -> merge(Collections.emptyList()));
+    assertThatNullPointerException().isThrownBy(() -> merge((Collection<T>) null));
+    assertThatNullPointerException()
+        .isThrownBy(() -> merge(Arrays.asList(create(getMinP()), null)));
+  }
+
   private void testAddAndMerge2(int p1, int p2, long seed) {
     T sketch1a = create(p1);
     T sketch2a = create(p2);
@@ -619,6 +663,80 @@ abstract class DistinctCounterTest<
     }
   }
 
+  @Test
+  void testAddBulk() {
+    SplittableRandom random = new SplittableRandom(0x0f1e2d3c4b5a6978L);
+    for (int p = getMinP(); p <= Math.min(getMaxP(), 16); ++p) {
+      for (int len : new int[] {0, 1, 10, 1000, 100000}) {
+        int off = random.nextInt(10);
+        long[] hashValues = random.longs(off + len + random.nextInt(10)).toArray();
+        T expectedSketch = create(p);
+        for (int i = off; i < off + len; ++i) {
+          expectedSketch.add(hashValues[i]);
+        }
+        T sketch = create(p);
+        assertThat(sketch.add(hashValues, off, len)).isSameAs(sketch);
+        assertThat(sketch.getState()).isEqualTo(expectedSketch.getState());
+      }
+    }
+  }
+
+  @Test
+  void testAddBulkIllegalArguments() {
+    T sketch = create(getMinP());
+    long[] hashValues = new long[10];
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> sketch.add(hashValues, -1, 5));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> sketch.add(hashValues, 6, 5));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> sketch.add(hashValues, 0, -1));
+    assertThatNullPointerException().isThrownBy(() -> sketch.add(null, 0, 0));
+  }
+
+  @Test
+  void testAddBulkWithStateChangeObserver() {
+    SplittableRandom random = new SplittableRandom(0x3b8e1f6a0c2d4957L);
+    for (int p = getMinP(); p <= Math.min(getMaxP(), 16); ++p) {
+      for (int len : new int[] {0, 1, 10, 1000, 100000}) {
+        int off = random.nextInt(10);
+        long[] hashValues = random.longs(off + len + random.nextInt(10)).toArray();
+        T expectedSketch = create(p);
+        MartingaleEstimator expectedEstimator = new MartingaleEstimator();
+        for (int i = off; i < off + len; ++i) {
+          expectedSketch.add(hashValues[i], expectedEstimator);
+        }
+        T sketch = create(p);
+        MartingaleEstimator estimator = new MartingaleEstimator();
+        assertThat(sketch.add(hashValues, off, len, estimator)).isSameAs(sketch);
+        assertThat(sketch.getState()).isEqualTo(expectedSketch.getState());
+        assertThat(estimator.getDistinctCountEstimate())
+            .isEqualTo(expectedEstimator.getDistinctCountEstimate());
+        assertThat(estimator.getStateChangeProbability())
+            .isEqualTo(expectedEstimator.getStateChangeProbability());
+
+        T sketchWithoutObserver = create(p);
+        assertThat(sketchWithoutObserver.add(hashValues, off, len, null))
+            .isSameAs(sketchWithoutObserver);
+        assertThat(sketchWithoutObserver.getState()).isEqualTo(expectedSketch.getState());
+      }
+    }
+  }
+
+  @Test
+  void testAddBulkWithStateChangeObserverIllegalArguments() {
+    T sketch = create(getMinP());
+    long[] hashValues = new long[10];
+    MartingaleEstimator estimator = new MartingaleEstimator();
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> sketch.add(hashValues, -1, 5, estimator));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> sketch.add(hashValues, 6, 5, estimator));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> sketch.add(hashValues, 0, -1, estimator));
+    assertThatNullPointerException().isThrownBy(() -> sketch.add(null, 0, 0, estimator));
+  }
+
   @Test
   void testWrapZeros() {
     for (int p = getMinP(); p <= getMaxP(); p += 1) {
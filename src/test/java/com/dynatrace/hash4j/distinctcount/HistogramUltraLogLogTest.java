@@ -0,0 +1,205 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+
+class HistogramUltraLogLogTest {
+
+  private static void assertEstimatesEqual(HistogramUltraLogLog sketch, UltraLogLog expected) {
+    assertThat(sketch.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR))
+        .isEqualTo(expected.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR));
+    double expectedEstimate = expected.getDistinctCountEstimate(UltraLogLog.OPTIMAL_FGRA_ESTIMATOR);
+    if (expectedEstimate == 0 || Double.isInfinite(expectedEstimate)) {
+      assertThat(sketch.getDistinctCountEstimate(UltraLogLog.OPTIMAL_FGRA_ESTIMATOR))
+          .isEqualTo(expectedEstimate);
+    } else {
+      assertThat(sketch.getDistinctCountEstimate(UltraLogLog.OPTIMAL_FGRA_ESTIMATOR))
+          .isCloseTo(expectedEstimate, Percentage.withPercentage(1e-10));
+    }
+    assertThat(sketch.getDistinctCountEstimate())
+        .isEqualTo(sketch.getDistinctCountEstimate(UltraLogLog.DEFAULT_ESTIMATOR));
+  }
+
+  @Test
+  void testIllegalPrecision() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistogramUltraLogLog.create(UltraLogLog.MIN_P - 1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistogramUltraLogLog.create(UltraLogLog.MAX_P + 1));
+  }
+
+  @Test
+  void testEmpty() {
+    HistogramUltraLogLog sketch = HistogramUltraLogLog.create(12);
+    assertThat(sketch.getP()).isEqualTo(12);
+    assertThat(sketch.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR)).isZero();
+    assertThat(sketch.getDistinctCountEstimate(UltraLogLog.OPTIMAL_FGRA_ESTIMATOR)).isZero();
+    assertThat(sketch.toUltraLogLog().getState()).isEqualTo(UltraLogLog.create(12).getState());
+  }
+
+  @Test
+  void testEstimatesEqualUltraLogLog() {
+    SplittableRandom random = new SplittableRandom(0x3c6ef372fe94f82bL);
+    for (int p = UltraLogLog.MIN_P; p <= 16; ++p) {
+      UltraLogLog expectedSketch = UltraLogLog.create(p);
+      HistogramUltraLogLog sketch = HistogramUltraLogLog.create(p);
+      for (long i = 1; i <= 1L << 22; ++i) {
+        long hash = random.nextLong();
+        expectedSketch.add(hash);
+        assertThat(sketch.add(hash)).isSameAs(sketch);
+        if ((i & (i - 1)) == 0) {
+          assertThat(sketch.toUltraLogLog().getState()).isEqualTo(expectedSketch.getState());
+          assertEstimatesEqual(sketch, expectedSketch);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testSaturatedSketch() {
+    for (int p = UltraLogLog.MIN_P; p <= 16; ++p) {
+      byte[] state = new byte[1 << p];
+      Arrays.fill(state, (byte) 0xFF);
+      UltraLogLog expectedSketch = UltraLogLog.wrap(state);
+      HistogramUltraLogLog sketch = HistogramUltraLogLog.create(expectedSketch);
+      assertEstimatesEqual(sketch, expectedSketch);
+    }
+  }
+
+  @Test
+  void testAddToken() {
+    SplittableRandom random = new SplittableRandom(0xbb67ae8584caa73bL);
+    UltraLogLog expectedSketch = UltraLogLog.create(10);
+    HistogramUltraLogLog sketch = HistogramUltraLogLog.create(10);
+    for (int i = 0; i < 10000; ++i) {
+      int token = UltraLogLog.computeToken(random.nextLong());
+      expectedSketch.addToken(token);
+      assertThat(sketch.addToken(token)).isSameAs(sketch);
+    }
+    assertThat(sketch.toUltraLogLog().getState()).isEqualTo(expectedSketch.getState());
+    assertEstimatesEqual(sketch, expectedSketch);
+  }
+
+  @Test
+  void testStateChangeObserver() {
+    SplittableRandom random = new SplittableRandom(0xa54ff53a5f1d36f1L);
+    MartingaleEstimator expectedEstimator = new MartingaleEstimator();
+    MartingaleEstimator estimator = new MartingaleEstimator();
+    UltraLogLog expectedSketch = UltraLogLog.create(8);
+    HistogramUltraLogLog sketch = HistogramUltraLogLog.create(8);
+    for (int i = 0; i < 10000; ++i) {
+      long hash = random.nextLong();
+      expectedSketch.add(hash, expectedEstimator);
+      sketch.add(hash, estimator);
+    }
+    assertThat(estimator.getDistinctCountEstimate())
+        .isEqualTo(expectedEstimator.getDistinctCountEstimate());
+  }
+
+  @Test
+  void testCachedEstimate() {
+    UltraLogLog.Estimator countingEstimator =
+        new UltraLogLog.Estimator() {
+          private int numCalls = 0;
+
+          @Override
+          public double estimate(UltraLogLog sketch) {
+            numCalls += 1;
+            return numCalls;
+          }
+        };
+    HistogramUltraLogLog sketch = HistogramUltraLogLog.create(8);
+    assertThat(sketch.getDistinctCountEstimate(countingEstimator)).isEqualTo(1.);
+    assertThat(sketch.getDistinctCountEstimate(countingEstimator)).isEqualTo(1.);
+    sketch.add(0x8f1bbcdcca62c1d6L);
+    assertThat(sketch.getDistinctCountEstimate(countingEstimator)).isEqualTo(2.);
+    sketch.add(0x8f1bbcdcca62c1d6L);
+    assertThat(sketch.getDistinctCountEstimate(countingEstimator)).isEqualTo(2.);
+    assertThat(sketch.getDistinctCountEstimate()).isCloseTo(1., Percentage.withPercentage(1));
+    assertThat(sketch.getDistinctCountEstimate(countingEstimator)).isEqualTo(3.);
+    assertThatNullPointerException().isThrownBy(() -> sketch.getDistinctCountEstimate(null));
+  }
+
+  @Test
+  void testAddSketch() {
+    SplittableRandom random = new SplittableRandom(0x510e527fade682d1L);
+    UltraLogLog expectedSketch = UltraLogLog.create(10);
+    HistogramUltraLogLog sketch1 = HistogramUltraLogLog.create(10);
+    HistogramUltraLogLog sketch2 = HistogramUltraLogLog.create(11);
+    UltraLogLog sketch3 = UltraLogLog.create(12);
+    for (int i = 0; i < 30000; ++i) {
+      long hash = random.nextLong();
+      expectedSketch.add(hash);
+      switch (i % 3) {
+        case 0:
+          sketch1.add(hash);
+          break;
+        case 1:
+          sketch2.add(hash);
+          break;
+        default:
+          sketch3.add(hash);
+      }
+    }
+    double estimateBefore = sketch1.getDistinctCountEstimate();
+    assertThat(sketch1.add(sketch2)).isSameAs(sketch1);
+    assertThat(sketch1.add(sketch3)).isSameAs(sketch1);
+    assertThat(sketch1.getDistinctCountEstimate()).isGreaterThan(estimateBefore);
+    assertThat(sketch1.toUltraLogLog().getState()).isEqualTo(expectedSketch.getState());
+    assertEstimatesEqual(sketch1, expectedSketch);
+
+    assertThatIllegalArgumentException().isThrownBy(() -> sketch2.add(sketch1));
+    assertThatNullPointerException().isThrownBy(() -> sketch1.add((UltraLogLog) null));
+    assertThatNullPointerException().isThrownBy(() -> sketch1.add((HistogramUltraLogLog) null));
+  }
+
+  @Test
+  void testCreateFromUltraLogLog() {
+    SplittableRandom random = new SplittableRandom(0x9b05688c2b3e6c1fL);
+    UltraLogLog ultraLogLog = UltraLogLog.create(9);
+    for (int i = 0; i < 1000; ++i) {
+      ultraLogLog.add(random.nextLong());
+    }
+    HistogramUltraLogLog sketch = HistogramUltraLogLog.create(ultraLogLog);
+    assertEstimatesEqual(sketch, ultraLogLog);
+    sketch.add(random.nextLong());
+    assertThat(sketch.toUltraLogLog().getState()).isNotEqualTo(ultraLogLog.getState());
+    assertThatNullPointerException().isThrownBy(() -> HistogramUltraLogLog.create(null));
+  }
+
+  @Test
+  void testCopyAndReset() {
+    SplittableRandom random = new SplittableRandom(0x1f83d9abfb41bd6bL);
+    HistogramUltraLogLog sketch = HistogramUltraLogLog.create(10);
+    for (int i = 0; i < 1000; ++i) {
+      sketch.add(random.nextLong());
+    }
+    double estimate = sketch.getDistinctCountEstimate();
+    HistogramUltraLogLog copy = sketch.copy();
+    assertThat(sketch.reset()).isSameAs(sketch);
+    assertThat(sketch.getDistinctCountEstimate()).isZero();
+    assertThat(sketch.toUltraLogLog().getState()).isEqualTo(UltraLogLog.create(10).getState());
+    assertThat(copy.getDistinctCountEstimate()).isEqualTo(estimate);
+    sketch.add(random.nextLong());
+    assertThat(sketch.getDistinctCountEstimate()).isCloseTo(1., Percentage.withPercentage(1));
+  }
+}
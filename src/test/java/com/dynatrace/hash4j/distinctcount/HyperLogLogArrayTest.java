@@ -0,0 +1,207 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HyperLogLogArrayTest {
+
+  private static void assertSketchEquals(HyperLogLogArray array, int idx, HyperLogLog expected) {
+    assertThat(array.get(idx).getState()).isEqualTo(expected.getState());
+    assertThat(array.getDistinctCountEstimate(idx, HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR))
+        .isEqualTo(expected.getDistinctCountEstimate(HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR));
+    assertThat(array.getDistinctCountEstimate(idx))
+        .isEqualTo(expected.getDistinctCountEstimate(HyperLogLog.CORRECTED_RAW_ESTIMATOR));
+  }
+
+  @Test
+  void testIllegalArguments() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HyperLogLogArray.create(HyperLogLog.MIN_P - 1, 10));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HyperLogLogArray.create(HyperLogLog.MAX_P + 1, 10));
+    assertThatIllegalArgumentException().isThrownBy(() -> HyperLogLogArray.create(10, -1));
+
+    HyperLogLogArray array = HyperLogLogArray.create(10, 3);
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> array.add(3, 0L));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> array.add(-1, 0L));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> array.getDistinctCountEstimate(3));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> array.merge(0, 3));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> array.get(3));
+    assertThatNullPointerException().isThrownBy(() -> array.add(0, (HyperLogLog) null));
+    assertThatNullPointerException().isThrownBy(() -> array.set(0, null));
+    assertThatNullPointerException().isThrownBy(() -> array.getDistinctCountEstimate(0, null));
+    assertThatIllegalArgumentException().isThrownBy(() -> array.add(0, HyperLogLog.create(9)));
+    assertThatIllegalArgumentException().isThrownBy(() -> array.set(0, HyperLogLog.create(9)));
+  }
+
+  @Test
+  void testEmpty() {
+    HyperLogLogArray array = HyperLogLogArray.create(12, 5);
+    assertThat(array.getP()).isEqualTo(12);
+    assertThat(array.size()).isEqualTo(5);
+    for (int i = 0; i < 5; ++i) {
+      assertSketchEquals(array, i, HyperLogLog.create(12));
+    }
+    assertThat(HyperLogLogArray.create(12, 0).size()).isZero();
+  }
+
+  @Test
+  void testAdd() {
+    SplittableRandom random = new SplittableRandom(0x452821e638d01377L);
+    int numSketches = 7;
+    for (int p = HyperLogLog.MIN_P; p <= 16; ++p) {
+      // use small chunks to cover sketches in different chunks
+      HyperLogLogArray array = HyperLogLogArray.create(p, numSketches, 1);
+      HyperLogLog[] expected = new HyperLogLog[numSketches];
+      for (int i = 0; i < numSketches; ++i) {
+        expected[i] = HyperLogLog.create(p);
+      }
+      for (int n = 0; n < 100000; ++n) {
+        int idx = random.nextInt(numSketches);
+        long hash = random.nextLong();
+        if (n % 2 == 0) {
+          array.add(idx, hash);
+          expected[idx].add(hash);
+        } else {
+          int token = HyperLogLog.computeToken(hash);
+          array.addToken(idx, token);
+          expected[idx].addToken(token);
+        }
+      }
+      for (int i = 0; i < numSketches; ++i) {
+        assertSketchEquals(array, i, expected[i]);
+      }
+    }
+  }
+
+  @Test
+  void testMergeAndAddSketch() {
+    SplittableRandom random = new SplittableRandom(0xbe5466cf34e90c6cL);
+    int p = 11;
+    HyperLogLogArray array = HyperLogLogArray.create(p, 3, 1);
+    HyperLogLog expected0 = HyperLogLog.create(p);
+    HyperLogLog expected2 = HyperLogLog.create(p);
+    HyperLogLog other = HyperLogLog.create(p + 2);
+    for (int n = 0; n < 20000; ++n) {
+      long hash0 = random.nextLong();
+      long hash2 = random.nextLong();
+      long hashOther = random.nextLong();
+      array.add(0, hash0);
+      array.add(2, hash2);
+      expected0.add(hash0);
+      expected2.add(hash2);
+      other.add(hashOther);
+    }
+
+    array.merge(0, 2);
+    expected0.add(expected2);
+    assertSketchEquals(array, 0, expected0);
+    assertSketchEquals(array, 2, expected2);
+
+    array.add(1, other);
+    assertSketchEquals(array, 1, other.downsize(p));
+    array.add(2, other);
+    assertSketchEquals(array, 2, expected2.add(other));
+  }
+
+  @Test
+  void testSetAndReset() {
+    SplittableRandom random = new SplittableRandom(0xc0ac29b7c97c50ddL);
+    HyperLogLogArray array = HyperLogLogArray.create(8, 4, 1);
+    HyperLogLog sketch = HyperLogLog.create(10);
+    for (int n = 0; n < 1000; ++n) {
+      sketch.add(random.nextLong());
+    }
+    array.set(3, sketch);
+    assertSketchEquals(array, 3, sketch.downsize(8));
+    assertSketchEquals(array, 2, HyperLogLog.create(8));
+    array.reset(3);
+    assertSketchEquals(array, 3, HyperLogLog.create(8));
+  }
+
+  @Test
+  void testOtherEstimator() {
+    SplittableRandom random = new SplittableRandom(0x3f84d5b5b5470917L);
+    HyperLogLogArray array = HyperLogLogArray.create(10, 2);
+    HyperLogLog expected = HyperLogLog.create(10);
+    for (int n = 0; n < 5000; ++n) {
+      long hash = random.nextLong();
+      array.add(1, hash);
+      expected.add(hash);
+    }
+    HyperLogLog.Estimator estimator = hyperLogLog -> hyperLogLog.getState().length;
+    assertThat(array.getDistinctCountEstimate(1, estimator)).isEqualTo(768.);
+    assertThat(array.getDistinctCountEstimate(1, HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR))
+        .isEqualTo(expected.getDistinctCountEstimate(HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR));
+  }
+
+  @Test
+  void testMap(@TempDir Path tempDir) throws IOException {
+    SplittableRandom random = new SplittableRandom(0xd1310ba698dfb5acL);
+    Path file = tempDir.resolve("sketches");
+    int p = 9;
+    int numSketches = 5;
+    HyperLogLog[] expected = new HyperLogLog[numSketches];
+    HyperLogLogArray array = HyperLogLogArray.map(file, p, numSketches);
+    for (int i = 0; i < numSketches; ++i) {
+      expected[i] = HyperLogLog.create(p);
+      assertSketchEquals(array, i, expected[i]);
+    }
+    for (int n = 0; n < 10000; ++n) {
+      int idx = random.nextInt(numSketches);
+      long hash = random.nextLong();
+      array.add(idx, hash);
+      expected[idx].add(hash);
+    }
+    array.force();
+
+    HyperLogLogArray reopened = HyperLogLogArray.map(file);
+    assertThat(reopened.getP()).isEqualTo(p);
+    assertThat(reopened.size()).isEqualTo(numSketches);
+    for (int i = 0; i < numSketches; ++i) {
+      assertSketchEquals(reopened, i, expected[i]);
+    }
+    reopened = HyperLogLogArray.map(file, p, numSketches);
+    for (int i = 0; i < numSketches; ++i) {
+      assertSketchEquals(reopened, i, expected[i]);
+    }
+
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HyperLogLogArray.map(file, p + 1, numSketches));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HyperLogLogArray.map(file, p, numSketches + 1));
+    assertThatIllegalArgumentException().isThrownBy(() -> UltraLogLogArray.map(file));
+    assertThatNullPointerException().isThrownBy(() -> HyperLogLogArray.map(null));
+
+    Path invalidFile = tempDir.resolve("invalid");
+    Files.write(invalidFile, new byte[] {1, 2});
+    assertThatIllegalArgumentException().isThrownBy(() -> HyperLogLogArray.map(invalidFile));
+  }
+
+  @Test
+  void testForceWithoutFile() {
+    HyperLogLogArray array = HyperLogLogArray.create(8, 2);
+    assertThat(array.force()).isSameAs(array);
+  }
+}
@@ -25,6 +25,7 @@ import com.dynatrace.hash4j.distinctcount.TestUtils.HashGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.SplittableRandom;
 import java.util.stream.IntStream;
@@ -95,6 +96,11 @@ class HyperLogLogTest extends DistinctCounterTest<HyperLogLog, HyperLogLog.Estim
     return HyperLogLog.merge(sketch1, sketch2);
   }
 
+  @Override
+  protected HyperLogLog merge(Collection<HyperLogLog> sketches) {
+    return HyperLogLog.merge(sketches);
+  }
+
   /**
    * Visible for testing.
    *
@@ -355,6 +361,26 @@ class HyperLogLogTest extends DistinctCounterTest<HyperLogLog, HyperLogLog.Estim
     }
   }
 
+  @Test
+  void testMergeRegisterWords() {
+    SplittableRandom random = new SplittableRandom(0x2f9d1c37a5e04b68L);
+    for (int i = 0; i < 100000; ++i) {
+      long word1 = 0;
+      long word2 = 0;
+      for (int k = 0; k < 8; ++k) {
+        word1 |= ((long) random.nextInt(64)) << (6 * k);
+        word2 |= ((long) random.nextInt(64)) << (6 * k);
+      }
+      long mergedWord = HyperLogLog.mergeRegisters(word1, word2);
+      for (int k = 0; k < 8; ++k) {
+        long r1 = (word1 >>> (6 * k)) & 0x3F;
+        long r2 = (word2 >>> (6 * k)) & 0x3F;
+        assertThat((mergedWord >>> (6 * k)) & 0x3F).isEqualTo(Math.max(r1, r2));
+      }
+      assertThat(mergedWord >>> 48).isZero();
+    }
+  }
+
   @Test
   void testCreateFromUltraLogLog() {
     PseudoRandomGenerator pseudoRandomGenerator =
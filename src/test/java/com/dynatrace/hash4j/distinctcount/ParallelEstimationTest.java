@@ -0,0 +1,204 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ParallelEstimationTest {
+
+  private static final List<UltraLogLog.Estimator> ULTRALOGLOG_ESTIMATORS =
+      Arrays.asList(
+          UltraLogLog.OPTIMAL_FGRA_ESTIMATOR,
+          UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR,
+          ultraLogLog -> ultraLogLog.getP() + 0.5);
+
+  private static final List<HyperLogLog.Estimator> HYPERLOGLOG_ESTIMATORS =
+      Arrays.asList(
+          HyperLogLog.CORRECTED_RAW_ESTIMATOR,
+          HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR,
+          hyperLogLog -> hyperLogLog.getP() + 0.5);
+
+  private static final int[] NUM_SKETCHES = {0, 1, 15, 100, 1000};
+
+  private static long[] createHashValues(SplittableRandom random) {
+    // sizes are spread over several orders of magnitude to cover all register states
+    return random.longs(random.nextInt(1 << random.nextInt(17))).toArray();
+  }
+
+  @Test
+  void testUltraLogLog() {
+    SplittableRandom random = new SplittableRandom(0x6e20b4d1c97a3f58L);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int numSketches : NUM_SKETCHES) {
+        UltraLogLog[] sketches = new UltraLogLog[numSketches];
+        for (int i = 0; i < numSketches; ++i) {
+          sketches[i] = UltraLogLog.create(random.nextInt(3, 13));
+          for (long hash : createHashValues(random)) {
+            sketches[i].add(hash);
+          }
+        }
+        for (UltraLogLog.Estimator estimator : ULTRALOGLOG_ESTIMATORS) {
+          double[] estimates = new double[numSketches];
+          ParallelEstimation.estimate(sketches, estimator, estimates, pool);
+          for (int i = 0; i < numSketches; ++i) {
+            assertThat(estimates[i]).isEqualTo(sketches[i].getDistinctCountEstimate(estimator));
+          }
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testHyperLogLog() {
+    SplittableRandom random = new SplittableRandom(0x0a9d47c3e15f62b8L);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int numSketches : NUM_SKETCHES) {
+        HyperLogLog[] sketches = new HyperLogLog[numSketches];
+        for (int i = 0; i < numSketches; ++i) {
+          sketches[i] = HyperLogLog.create(random.nextInt(3, 13));
+          for (long hash : createHashValues(random)) {
+            sketches[i].add(hash);
+          }
+        }
+        for (HyperLogLog.Estimator estimator : HYPERLOGLOG_ESTIMATORS) {
+          double[] estimates = new double[numSketches];
+          ParallelEstimation.estimate(sketches, estimator, estimates, pool);
+          for (int i = 0; i < numSketches; ++i) {
+            assertThat(estimates[i]).isEqualTo(sketches[i].getDistinctCountEstimate(estimator));
+          }
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testUltraLogLogArray() {
+    SplittableRandom random = new SplittableRandom(0x3c58f1e07b2a94d6L);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int numSketches : NUM_SKETCHES) {
+        int p = random.nextInt(3, 13);
+        UltraLogLogArray sketches = UltraLogLogArray.create(p, numSketches);
+        for (int i = 0; i < numSketches; ++i) {
+          for (long hash : createHashValues(random)) {
+            sketches.add(i, hash);
+          }
+        }
+        for (UltraLogLog.Estimator estimator : ULTRALOGLOG_ESTIMATORS) {
+          double[] estimates = new double[numSketches];
+          ParallelEstimation.estimate(sketches, estimator, estimates, pool);
+          for (int i = 0; i < numSketches; ++i) {
+            assertThat(estimates[i]).isEqualTo(sketches.getDistinctCountEstimate(i, estimator));
+          }
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testHyperLogLogArray() {
+    SplittableRandom random = new SplittableRandom(0xd1f7a0b6395c2e84L);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int numSketches : NUM_SKETCHES) {
+        int p = random.nextInt(3, 13);
+        HyperLogLogArray sketches = HyperLogLogArray.create(p, numSketches);
+        for (int i = 0; i < numSketches; ++i) {
+          for (long hash : createHashValues(random)) {
+            sketches.add(i, hash);
+          }
+        }
+        for (HyperLogLog.Estimator estimator : HYPERLOGLOG_ESTIMATORS) {
+          double[] estimates = new double[numSketches];
+          ParallelEstimation.estimate(sketches, estimator, estimates, pool);
+          for (int i = 0; i < numSketches; ++i) {
+            assertThat(estimates[i]).isEqualTo(sketches.getDistinctCountEstimate(i, estimator));
+          }
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testIllegalArguments() {
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+    UltraLogLog[] ultraLogLogs = {UltraLogLog.create(8)};
+    HyperLogLog[] hyperLogLogs = {HyperLogLog.create(8)};
+    UltraLogLogArray ultraLogLogArray = UltraLogLogArray.create(8, 1);
+    HyperLogLogArray hyperLogLogArray = HyperLogLogArray.create(8, 1);
+    double[] estimates = new double[1];
+    double[] wrongEstimates = new double[2];
+
+    assertThatNullPointerException()
+        .isThrownBy(
+            () ->
+                ParallelEstimation.estimate(
+                    (UltraLogLog[]) null, UltraLogLog.DEFAULT_ESTIMATOR, estimates, pool));
+    assertThatNullPointerException()
+        .isThrownBy(() -> ParallelEstimation.estimate(ultraLogLogs, null, estimates, pool));
+    assertThatNullPointerException()
+        .isThrownBy(
+            () ->
+                ParallelEstimation.estimate(
+                    ultraLogLogs, UltraLogLog.DEFAULT_ESTIMATOR, null, pool));
+    assertThatNullPointerException()
+        .isThrownBy(
+            () ->
+                ParallelEstimation.estimate(
+                    ultraLogLogs, UltraLogLog.DEFAULT_ESTIMATOR, estimates, null));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                ParallelEstimation.estimate(
+                    ultraLogLogs, UltraLogLog.DEFAULT_ESTIMATOR, wrongEstimates, pool));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                ParallelEstimation.estimate(
+                    hyperLogLogs, HyperLogLog.DEFAULT_ESTIMATOR, wrongEstimates, pool));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                ParallelEstimation.estimate(
+                    ultraLogLogArray, UltraLogLog.DEFAULT_ESTIMATOR, wrongEstimates, pool));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                ParallelEstimation.estimate(
+                    hyperLogLogArray, HyperLogLog.DEFAULT_ESTIMATOR, wrongEstimates, pool));
+    assertThatNullPointerException()
+        .isThrownBy(
+            () ->
+                ParallelEstimation.estimate(
+                    new UltraLogLog[1], UltraLogLog.DEFAULT_ESTIMATOR, estimates, pool));
+  }
+}
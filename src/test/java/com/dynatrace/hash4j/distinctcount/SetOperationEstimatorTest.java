@@ -0,0 +1,261 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+
+class SetOperationEstimatorTest {
+
+  private static final long[][] SET_SIZES = {
+    {0, 0, 0},
+    {1, 0, 0},
+    {10, 10, 5},
+    {1000, 1000, 500},
+    {100000, 100000, 0},
+    {20000, 200000, 10000}
+  };
+
+  private static void assertConsistent(SetOperationEstimator estimator) {
+    assertThat(estimator.getIntersectionSizeEstimate()).isGreaterThanOrEqualTo(0.);
+    assertThat(estimator.getFirstMinusSecondSizeEstimate()).isGreaterThanOrEqualTo(0.);
+    assertThat(estimator.getSecondMinusFirstSizeEstimate()).isGreaterThanOrEqualTo(0.);
+    assertThat(estimator.getJaccardSimilarityEstimate()).isBetween(0., 1.);
+    assertThat(estimator.getFirstSizeEstimate())
+        .isLessThanOrEqualTo(estimator.getUnionSizeEstimate());
+    assertThat(estimator.getSecondSizeEstimate())
+        .isLessThanOrEqualTo(estimator.getUnionSizeEstimate());
+  }
+
+  @Test
+  void testNullArguments() {
+    SetOperationEstimator estimator = new SetOperationEstimator();
+    UltraLogLog ultraLogLog = UltraLogLog.create(10);
+    HyperLogLog hyperLogLog = HyperLogLog.create(10);
+    assertThatNullPointerException().isThrownBy(() -> estimator.estimate(ultraLogLog, null));
+    assertThatNullPointerException().isThrownBy(() -> estimator.estimate(null, ultraLogLog));
+    assertThatNullPointerException().isThrownBy(() -> estimator.estimate(hyperLogLog, null));
+    assertThatNullPointerException().isThrownBy(() -> estimator.estimate(null, hyperLogLog));
+  }
+
+  @Test
+  void testEmpty() {
+    SetOperationEstimator estimator = new SetOperationEstimator();
+    for (SetOperationEstimator result :
+        new SetOperationEstimator[] {
+          estimator.estimate(UltraLogLog.create(12), UltraLogLog.create(12)),
+          estimator.estimate(HyperLogLog.create(12), HyperLogLog.create(12))
+        }) {
+      assertThat(result).isSameAs(estimator);
+      assertThat(estimator.getUnionSizeEstimate()).isZero();
+      assertThat(estimator.getIntersectionSizeEstimate()).isZero();
+      assertThat(estimator.getFirstMinusSecondSizeEstimate()).isZero();
+      assertThat(estimator.getSecondMinusFirstSizeEstimate()).isZero();
+      assertThat(estimator.getJaccardSimilarityEstimate()).isZero();
+    }
+  }
+
+  @Test
+  void testIdenticalSketches() {
+    SplittableRandom random = new SplittableRandom(0x9b05688c2b3e6c1fL);
+    SetOperationEstimator estimator = new SetOperationEstimator();
+    for (long n : new long[] {1, 10, 1000, 100000}) {
+      UltraLogLog ultraLogLog = UltraLogLog.create(10);
+      HyperLogLog hyperLogLog = HyperLogLog.create(10);
+      for (long i = 0; i < n; ++i) {
+        long hash = random.nextLong();
+        ultraLogLog.add(hash);
+        hyperLogLog.add(hash);
+      }
+      estimator.estimate(ultraLogLog, ultraLogLog.copy());
+      assertThat(estimator.getFirstMinusSecondSizeEstimate()).isZero();
+      assertThat(estimator.getSecondMinusFirstSizeEstimate()).isZero();
+      assertThat(estimator.getIntersectionSizeEstimate())
+          .isEqualTo(estimator.getUnionSizeEstimate());
+      assertThat(estimator.getJaccardSimilarityEstimate()).isEqualTo(1.);
+
+      estimator.estimate(hyperLogLog, hyperLogLog.copy());
+      assertThat(estimator.getFirstMinusSecondSizeEstimate()).isZero();
+      assertThat(estimator.getSecondMinusFirstSizeEstimate()).isZero();
+      assertThat(estimator.getIntersectionSizeEstimate())
+          .isEqualTo(estimator.getUnionSizeEstimate());
+      assertThat(estimator.getJaccardSimilarityEstimate()).isEqualTo(1.);
+    }
+  }
+
+  @Test
+  void testUnionEqualsMaximumLikelihoodEstimateOfMergedSketch() {
+    SplittableRandom random = new SplittableRandom(0x1f83d9abfb41bd6bL);
+    SetOperationEstimator estimator = new SetOperationEstimator();
+    for (int p = 4; p <= 14; p += 2) {
+      for (long[] sizes : SET_SIZES) {
+        UltraLogLog ultraLogLog1 = UltraLogLog.create(p);
+        UltraLogLog ultraLogLog2 = UltraLogLog.create(p);
+        HyperLogLog hyperLogLog1 = HyperLogLog.create(p);
+        HyperLogLog hyperLogLog2 = HyperLogLog.create(p);
+        for (long i = 0; i < sizes[0]; ++i) {
+          long hash = random.nextLong();
+          ultraLogLog1.add(hash);
+          hyperLogLog1.add(hash);
+          if (i < sizes[2]) {
+            ultraLogLog2.add(hash);
+            hyperLogLog2.add(hash);
+          }
+        }
+        for (long i = sizes[2]; i < sizes[1]; ++i) {
+          long hash = random.nextLong();
+          ultraLogLog2.add(hash);
+          hyperLogLog2.add(hash);
+        }
+
+        estimator.estimate(ultraLogLog1, ultraLogLog2);
+        assertConsistent(estimator);
+        assertThat(estimator.getUnionSizeEstimate())
+            .isEqualTo(
+                ultraLogLog1
+                    .copy()
+                    .add(ultraLogLog2)
+                    .getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR));
+
+        estimator.estimate(hyperLogLog1, hyperLogLog2);
+        assertConsistent(estimator);
+        assertThat(estimator.getUnionSizeEstimate())
+            .isEqualTo(
+                hyperLogLog1
+                    .copy()
+                    .add(hyperLogLog2)
+                    .getDistinctCountEstimate(HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR));
+      }
+    }
+  }
+
+  @Test
+  void testSymmetry() {
+    SplittableRandom random = new SplittableRandom(0x5be0cd19137e2179L);
+    SetOperationEstimator estimator = new SetOperationEstimator();
+    UltraLogLog sketch1 = UltraLogLog.create(11);
+    UltraLogLog sketch2 = UltraLogLog.create(11);
+    for (int i = 0; i < 5000; ++i) {
+      sketch1.add(random.nextLong());
+      sketch2.add(random.nextLong());
+    }
+    estimator.estimate(sketch1, sketch2);
+    double union = estimator.getUnionSizeEstimate();
+    double firstMinusSecond = estimator.getFirstMinusSecondSizeEstimate();
+    double secondMinusFirst = estimator.getSecondMinusFirstSizeEstimate();
+    estimator.estimate(sketch2, sketch1);
+    assertThat(estimator.getUnionSizeEstimate()).isEqualTo(union);
+    assertThat(estimator.getFirstMinusSecondSizeEstimate()).isEqualTo(secondMinusFirst);
+    assertThat(estimator.getSecondMinusFirstSizeEstimate()).isEqualTo(firstMinusSecond);
+  }
+
+  @Test
+  void testDifferentPrecisions() {
+    SplittableRandom random = new SplittableRandom(0xcbbb9d5dc1059ed8L);
+    SetOperationEstimator estimator = new SetOperationEstimator();
+    UltraLogLog ultraLogLog1 = UltraLogLog.create(12);
+    UltraLogLog ultraLogLog2 = UltraLogLog.create(9);
+    HyperLogLog hyperLogLog1 = HyperLogLog.create(12);
+    HyperLogLog hyperLogLog2 = HyperLogLog.create(9);
+    for (int i = 0; i < 10000; ++i) {
+      long hash = random.nextLong();
+      ultraLogLog1.add(hash);
+      hyperLogLog1.add(hash);
+      if (i % 2 == 0) {
+        ultraLogLog2.add(hash);
+        hyperLogLog2.add(hash);
+      }
+    }
+
+    estimator.estimate(ultraLogLog1.downsize(9), ultraLogLog2);
+    double expectedIntersection = estimator.getIntersectionSizeEstimate();
+    estimator.estimate(ultraLogLog1, ultraLogLog2);
+    assertThat(estimator.getIntersectionSizeEstimate()).isEqualTo(expectedIntersection);
+    estimator.estimate(ultraLogLog2, ultraLogLog1);
+    assertThat(estimator.getIntersectionSizeEstimate()).isEqualTo(expectedIntersection);
+
+    estimator.estimate(hyperLogLog1.downsize(9), hyperLogLog2);
+    expectedIntersection = estimator.getIntersectionSizeEstimate();
+    estimator.estimate(hyperLogLog1, hyperLogLog2);
+    assertThat(estimator.getIntersectionSizeEstimate()).isEqualTo(expectedIntersection);
+    estimator.estimate(hyperLogLog2, hyperLogLog1);
+    assertThat(estimator.getIntersectionSizeEstimate()).isEqualTo(expectedIntersection);
+  }
+
+  // the intersection estimate must be more accurate than the inclusion-exclusion principle
+  @Test
+  void testIntersectionErrorSmallerThanInclusionExclusion() {
+    SplittableRandom random = new SplittableRandom(0x6a09e667f3bcc908L);
+    SetOperationEstimator estimator = new SetOperationEstimator();
+    int p = 10;
+    int numIterations = 200;
+    long size = 50000;
+    long intersectionSize = 5000;
+    double sumSquaredErrorUltraLogLog = 0;
+    double sumSquaredErrorUltraLogLogInclusionExclusion = 0;
+    double sumSquaredErrorHyperLogLog = 0;
+    double sumSquaredErrorHyperLogLogInclusionExclusion = 0;
+    double sumJaccardSimilarity = 0;
+    for (int k = 0; k < numIterations; ++k) {
+      UltraLogLog ultraLogLog1 = UltraLogLog.create(p);
+      UltraLogLog ultraLogLog2 = UltraLogLog.create(p);
+      HyperLogLog hyperLogLog1 = HyperLogLog.create(p);
+      HyperLogLog hyperLogLog2 = HyperLogLog.create(p);
+      for (long i = 0; i < size; ++i) {
+        long hash1 = random.nextLong();
+        long hash2 = (i < intersectionSize) ? hash1 : random.nextLong();
+        ultraLogLog1.add(hash1);
+        ultraLogLog2.add(hash2);
+        hyperLogLog1.add(hash1);
+        hyperLogLog2.add(hash2);
+      }
+
+      estimator.estimate(ultraLogLog1, ultraLogLog2);
+      sumSquaredErrorUltraLogLog +=
+          Math.pow(estimator.getIntersectionSizeEstimate() - intersectionSize, 2);
+      sumSquaredErrorUltraLogLogInclusionExclusion +=
+          Math.pow(
+              ultraLogLog1.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR)
+                  + ultraLogLog2.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR)
+                  - estimator.getUnionSizeEstimate()
+                  - intersectionSize,
+              2);
+      sumJaccardSimilarity += estimator.getJaccardSimilarityEstimate();
+
+      estimator.estimate(hyperLogLog1, hyperLogLog2);
+      sumSquaredErrorHyperLogLog +=
+          Math.pow(estimator.getIntersectionSizeEstimate() - intersectionSize, 2);
+      sumSquaredErrorHyperLogLogInclusionExclusion +=
+          Math.pow(
+              hyperLogLog1.getDistinctCountEstimate(HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR)
+                  + hyperLogLog2.getDistinctCountEstimate(HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR)
+                  - estimator.getUnionSizeEstimate()
+                  - intersectionSize,
+              2);
+    }
+    assertThat(sumSquaredErrorUltraLogLog)
+        .isLessThan(0.7 * sumSquaredErrorUltraLogLogInclusionExclusion);
+    assertThat(sumSquaredErrorHyperLogLog)
+        .isLessThan(0.7 * sumSquaredErrorHyperLogLogInclusionExclusion);
+    double expectedJaccardSimilarity =
+        intersectionSize / (double) (2 * size - intersectionSize);
+    assertThat(sumJaccardSimilarity / numIterations)
+        .isCloseTo(expectedJaccardSimilarity, Percentage.withPercentage(5));
+  }
+}
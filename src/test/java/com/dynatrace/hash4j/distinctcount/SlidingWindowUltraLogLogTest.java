@@ -0,0 +1,170 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowUltraLogLogTest {
+
+  private static final long[] WINDOW_STARTS = {0, 1, 10, 100, 500, 999, 1000, 2000};
+
+  private static void testWindows(int p, int numElements, boolean monotonic, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    long[] hashValues = new long[numElements];
+    long[] timestamps = new long[numElements];
+    SlidingWindowUltraLogLog sketch = SlidingWindowUltraLogLog.create(p);
+    for (int i = 0; i < numElements; ++i) {
+      hashValues[i] = random.nextLong();
+      timestamps[i] = monotonic ? (1000L * i) / numElements : random.nextInt(1000);
+      assertThat(sketch.add(hashValues[i], timestamps[i])).isSameAs(sketch);
+    }
+    for (long windowStart : WINDOW_STARTS) {
+      UltraLogLog expected = UltraLogLog.create(p);
+      for (int i = 0; i < numElements; ++i) {
+        if (timestamps[i] >= windowStart) {
+          expected.add(hashValues[i]);
+        }
+      }
+      assertThat(sketch.getWindow(windowStart).getState()).isEqualTo(expected.getState());
+      double expectedEstimate = expected.getDistinctCountEstimate();
+      if (expectedEstimate == 0) {
+        assertThat(sketch.getDistinctCountEstimate(windowStart)).isZero();
+      } else {
+        assertThat(sketch.getDistinctCountEstimate(windowStart))
+            .isCloseTo(expectedEstimate, Percentage.withPercentage(1e-10));
+      }
+      assertThat(
+              sketch.getDistinctCountEstimate(
+                  windowStart, UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR))
+          .isEqualTo(expected.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR));
+    }
+  }
+
+  @Test
+  void testWindowsMonotonicTimestamps() {
+    SplittableRandom random = new SplittableRandom(0x2b7e151628aed2a6L);
+    for (int p = UltraLogLog.MIN_P; p <= 12; ++p) {
+      for (int numElements : new int[] {0, 1, 10, 1000, 100000}) {
+        testWindows(p, numElements, true, random.nextLong());
+      }
+    }
+  }
+
+  @Test
+  void testWindowsRandomTimestamps() {
+    SplittableRandom random = new SplittableRandom(0xabf7158809cf4f3cL);
+    for (int p = UltraLogLog.MIN_P; p <= 12; ++p) {
+      for (int numElements : new int[] {0, 1, 10, 1000, 100000}) {
+        testWindows(p, numElements, false, random.nextLong());
+      }
+    }
+  }
+
+  @Test
+  void testAddToken() {
+    SplittableRandom random = new SplittableRandom(0x762e7160f38b4da5L);
+    SlidingWindowUltraLogLog sketch = SlidingWindowUltraLogLog.create(10);
+    UltraLogLog expected = UltraLogLog.create(10);
+    for (int i = 0; i < 10000; ++i) {
+      int token = UltraLogLog.computeToken(random.nextLong());
+      sketch.addToken(token, i);
+      if (i >= 5000) {
+        expected.addToken(token);
+      }
+    }
+    assertThat(sketch.getWindow(5000).getState()).isEqualTo(expected.getState());
+  }
+
+  @Test
+  void testRemoveOlderThan() {
+    SplittableRandom random = new SplittableRandom(0x9216d5d98979fb1bL);
+    SlidingWindowUltraLogLog sketch = SlidingWindowUltraLogLog.create(8);
+    for (int i = 0; i < 100000; ++i) {
+      sketch.add(random.nextLong(), random.nextInt(1000));
+    }
+    UltraLogLog window500 = sketch.getWindow(500);
+    UltraLogLog window800 = sketch.getWindow(800);
+    assertThat(sketch.removeOlderThan(500)).isSameAs(sketch);
+    assertThat(sketch.getWindow(0).getState()).isEqualTo(window500.getState());
+    assertThat(sketch.getWindow(500).getState()).isEqualTo(window500.getState());
+    assertThat(sketch.getWindow(800).getState()).isEqualTo(window800.getState());
+    sketch.removeOlderThan(1000);
+    assertThat(sketch.getDistinctCountEstimate(0)).isZero();
+  }
+
+  @Test
+  void testAddAfterRemoveOlderThan() {
+    SplittableRandom random = new SplittableRandom(0x4f3cabf715880ed2L);
+    int p = 6;
+    int numElements = 20000;
+    long[] hashValues = new long[numElements];
+    long[] timestamps = new long[numElements];
+    SlidingWindowUltraLogLog sketch = SlidingWindowUltraLogLog.create(p);
+    for (int i = 0; i < numElements; ++i) {
+      hashValues[i] = random.nextLong();
+      timestamps[i] = i + random.nextInt(1000);
+      sketch.add(hashValues[i], timestamps[i]);
+      if (i % 1000 == 999) {
+        long windowStart = i - 500;
+        sketch.removeOlderThan(windowStart);
+        UltraLogLog expected = UltraLogLog.create(p);
+        for (int k = 0; k <= i; ++k) {
+          if (timestamps[k] >= windowStart) expected.add(hashValues[k]);
+        }
+        assertThat(sketch.getWindow(windowStart).getState()).isEqualTo(expected.getState());
+      }
+    }
+    sketch.reset();
+    UltraLogLog expected = UltraLogLog.create(p);
+    for (int i = 0; i < numElements; ++i) {
+      sketch.add(hashValues[i], timestamps[i]);
+      expected.add(hashValues[i]);
+    }
+    assertThat(sketch.getWindow(0).getState()).isEqualTo(expected.getState());
+  }
+
+  @Test
+  void testEmptyAndReset() {
+    SlidingWindowUltraLogLog sketch = SlidingWindowUltraLogLog.create(12);
+    assertThat(sketch.getP()).isEqualTo(12);
+    assertThat(sketch.getDistinctCountEstimate(0)).isZero();
+    sketch.add(0x3c6ef372fe94f82bL, 5);
+    assertThat(sketch.getDistinctCountEstimate(5)).isGreaterThan(0.);
+    assertThat(sketch.getDistinctCountEstimate(6)).isZero();
+    assertThat(sketch.reset()).isSameAs(sketch);
+    assertThat(sketch.getDistinctCountEstimate(0)).isZero();
+  }
+
+  @Test
+  void testIllegalArguments() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> SlidingWindowUltraLogLog.create(UltraLogLog.MIN_P - 1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> SlidingWindowUltraLogLog.create(UltraLogLog.MAX_P + 1));
+    SlidingWindowUltraLogLog sketch = SlidingWindowUltraLogLog.create(12);
+    assertThatIllegalArgumentException().isThrownBy(() -> sketch.add(0L, -1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> sketch.add(0L, SlidingWindowUltraLogLog.MAX_TIMESTAMP + 1));
+    sketch.add(0L, SlidingWindowUltraLogLog.MAX_TIMESTAMP);
+    assertThat(sketch.getDistinctCountEstimate(SlidingWindowUltraLogLog.MAX_TIMESTAMP))
+        .isGreaterThan(0.);
+    assertThatNullPointerException().isThrownBy(() -> sketch.getDistinctCountEstimate(0, null));
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+
+abstract class SparseDistinctCounterTest<
+    S extends SparseDistinctCounter<S, T, R>,
+    T extends DistinctCounter<T, R>,
+    R extends DistinctCounter.Estimator<T>> {
+
+  protected abstract int getMinP();
+
+  protected abstract int getMaxP();
+
+  protected abstract S create(int p);
+
+  protected abstract T createDense(int p);
+
+  /** Returns the number of tokens above which the sketch switches to the dense representation. */
+  protected abstract int getMaxNumTokens(int p);
+
+  protected abstract T toDense(S sketch);
+
+  protected abstract int computeToken(long hashValue);
+
+  @Test
+  void testIllegalPrecision() {
+    assertThatIllegalArgumentException().isThrownBy(() -> create(getMinP() - 1));
+    assertThatIllegalArgumentException().isThrownBy(() -> create(getMaxP() + 1));
+  }
+
+  @Test
+  void testEmpty() {
+    S sketch = create(12);
+    assertThat(sketch.getP()).isEqualTo(12);
+    assertThat(sketch.isSparse()).isTrue();
+    assertThat(sketch.getDistinctCountEstimate()).isZero();
+    assertThat(toDense(sketch).getState()).isEqualTo(createDense(12).getState());
+    S copy = sketch.copy();
+    assertThat(copy.isSparse()).isTrue();
+    assertThat(copy.getDistinctCountEstimate()).isZero();
+    assertThat(sketch.add(copy)).isSameAs(sketch);
+    assertThat(sketch.getDistinctCountEstimate()).isZero();
+  }
+
+  @Test
+  void testAddNull() {
+    S sketch = create(12);
+    assertThatNullPointerException().isThrownBy(() -> sketch.add((S) null));
+    assertThatNullPointerException().isThrownBy(() -> sketch.add((T) null));
+  }
+
+  @Test
+  void testStateEqualsDenseSketch() {
+    SplittableRandom random = new SplittableRandom(0x1d2c3b4a59687f0eL);
+    for (int p = getMinP(); p <= 12; ++p) {
+      T expectedSketch = createDense(p);
+      S sketch = create(p);
+      int maxNumTokens = getMaxNumTokens(p);
+      for (int i = 1; i <= 2 << p; ++i) {
+        long hash = random.nextLong();
+        expectedSketch.add(hash);
+        assertThat(sketch.add(hash)).isSameAs(sketch);
+        if (i <= maxNumTokens - (maxNumTokens >>> 2)) {
+          assertThat(sketch.isSparse()).isTrue();
+        }
+        if (i <= 256 || (i & (i - 1)) == 0) {
+          assertThat(toDense(sketch).getState()).isEqualTo(expectedSketch.getState());
+        }
+      }
+      assertThat(sketch.isSparse()).isFalse();
+      assertThat(toDense(sketch).getState()).isEqualTo(expectedSketch.getState());
+      assertThat(sketch.getDistinctCountEstimate())
+          .isEqualTo(expectedSketch.getDistinctCountEstimate());
+    }
+  }
+
+  @Test
+  void testDuplicatesKeepSketchSparse() {
+    S sketch = create(8);
+    for (int i = 0; i < 10000; ++i) {
+      sketch.add(0x9e3779b97f4a7c15L * (i % 10));
+    }
+    assertThat(sketch.isSparse()).isTrue();
+    assertThat(sketch.getDistinctCountEstimate()).isCloseTo(10., Percentage.withPercentage(1));
+    int maxNumTokens = getMaxNumTokens(8);
+    for (int i = 10; i < maxNumTokens - (maxNumTokens >>> 2); ++i) {
+      sketch.add(0x9e3779b97f4a7c15L * i);
+    }
+    double estimate = sketch.getDistinctCountEstimate();
+    assertThat(sketch.add(sketch)).isSameAs(sketch);
+    assertThat(sketch.isSparse()).isTrue();
+    assertThat(sketch.getDistinctCountEstimate()).isEqualTo(estimate);
+  }
+
+  @Test
+  void testSparseEstimation() {
+    SplittableRandom random = new SplittableRandom(0x6a09e667f3bcc908L);
+    for (int distinctCount : new int[] {1, 2, 3, 5, 10, 100, 1000}) {
+      S sketch = create(14);
+      for (int i = 0; i < distinctCount; ++i) {
+        sketch.add(random.nextLong());
+      }
+      assertThat(sketch.isSparse()).isTrue();
+      assertThat(sketch.getDistinctCountEstimate())
+          .isCloseTo(distinctCount, Percentage.withPercentage(1));
+    }
+  }
+
+  @Test
+  void testAddToken() {
+    SplittableRandom random = new SplittableRandom(0xbb67ae8584caa73bL);
+    S sketch1 = create(10);
+    S sketch2 = create(10);
+    for (int i = 0; i < 1000; ++i) {
+      long hash = random.nextLong();
+      sketch1.add(hash);
+      sketch2.addToken(computeToken(hash));
+    }
+    assertThat(toDense(sketch2).getState()).isEqualTo(toDense(sketch1).getState());
+  }
+
+  @Test
+  void testMerge() {
+    SplittableRandom random = new SplittableRandom(0x3c6ef372fe94f82bL);
+    int[] counts = {0, 10, 1000};
+    for (int count1 : counts) {
+      for (int count2 : counts) {
+        for (int p2 = 8; p2 <= 10; ++p2) {
+          S sketch1 = create(8);
+          S sketch2 = create(p2);
+          T expectedSketch1 = createDense(8);
+          T expectedSketch2 = createDense(p2);
+          for (int i = 0; i < count1; ++i) {
+            long hash = random.nextLong();
+            sketch1.add(hash);
+            expectedSketch1.add(hash);
+          }
+          for (int i = 0; i < count2; ++i) {
+            long hash = random.nextLong();
+            sketch2.add(hash);
+            expectedSketch2.add(hash);
+          }
+          T expected = expectedSketch1.copy().add(expectedSketch2);
+          assertThat(toDense(sketch1.copy().add(sketch2)).getState())
+              .isEqualTo(expected.getState());
+          assertThat(toDense(sketch1.copy().add(expectedSketch2)).getState())
+              .isEqualTo(expected.getState());
+          if (p2 > 8) {
+            assertThatIllegalArgumentException().isThrownBy(() -> sketch2.add(sketch1));
+            assertThatIllegalArgumentException()
+                .isThrownBy(() -> sketch2.add(expectedSketch1));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void testCopyAndReset() {
+    S sketch = create(6);
+    sketch.add(0x243f6a8885a308d3L);
+    S copy = sketch.copy();
+    sketch.add(0x13198a2e03707344L);
+    assertThat(copy.getDistinctCountEstimate()).isCloseTo(1., Percentage.withPercentage(1));
+    for (int i = 0; i < 1000; ++i) {
+      sketch.add(0x9e3779b97f4a7c15L * i);
+    }
+    assertThat(sketch.isSparse()).isFalse();
+    S denseCopy = sketch.copy();
+    assertThat(denseCopy.isSparse()).isFalse();
+    assertThat(toDense(denseCopy).getState()).isEqualTo(toDense(sketch).getState());
+    assertThat(sketch.reset()).isSameAs(sketch);
+    assertThat(sketch.isSparse()).isTrue();
+    assertThat(sketch.getDistinctCountEstimate()).isZero();
+    assertThat(denseCopy.getDistinctCountEstimate()).isGreaterThan(100.);
+  }
+}
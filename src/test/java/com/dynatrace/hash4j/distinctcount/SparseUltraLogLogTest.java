@@ -0,0 +1,55 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+class SparseUltraLogLogTest
+    extends SparseDistinctCounterTest<SparseUltraLogLog, UltraLogLog, UltraLogLog.Estimator> {
+
+  @Override
+  protected int getMinP() {
+    return UltraLogLog.MIN_P;
+  }
+
+  @Override
+  protected int getMaxP() {
+    return UltraLogLog.MAX_P;
+  }
+
+  @Override
+  protected SparseUltraLogLog create(int p) {
+    return SparseUltraLogLog.create(p);
+  }
+
+  @Override
+  protected UltraLogLog createDense(int p) {
+    return UltraLogLog.create(p);
+  }
+
+  @Override
+  protected int getMaxNumTokens(int p) {
+    return 1 << (p - 2);
+  }
+
+  @Override
+  protected UltraLogLog toDense(SparseUltraLogLog sketch) {
+    return sketch.toUltraLogLog();
+  }
+
+  @Override
+  protected int computeToken(long hashValue) {
+    return UltraLogLog.computeToken(hashValue);
+  }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UltraLogLogArrayTest {
+
+  private static void assertSketchEquals(UltraLogLogArray array, int idx, UltraLogLog expected) {
+    assertThat(array.get(idx).getState()).isEqualTo(expected.getState());
+    assertThat(array.getDistinctCountEstimate(idx, UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR))
+        .isEqualTo(expected.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR));
+    double expectedEstimate = expected.getDistinctCountEstimate(UltraLogLog.OPTIMAL_FGRA_ESTIMATOR);
+    if (expectedEstimate == 0) {
+      assertThat(array.getDistinctCountEstimate(idx)).isZero();
+    } else {
+      assertThat(array.getDistinctCountEstimate(idx))
+          .isCloseTo(expectedEstimate, Percentage.withPercentage(1e-10));
+    }
+  }
+
+  @Test
+  void testIllegalArguments() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> UltraLogLogArray.create(UltraLogLog.MIN_P - 1, 10));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> UltraLogLogArray.create(UltraLogLog.MAX_P + 1, 10));
+    assertThatIllegalArgumentException().isThrownBy(() -> UltraLogLogArray.create(10, -1));
+
+    UltraLogLogArray array = UltraLogLogArray.create(10, 3);
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> array.add(3, 0L));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> array.add(-1, 0L));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> array.getDistinctCountEstimate(3));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> array.merge(0, 3));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> array.get(3));
+    assertThatNullPointerException().isThrownBy(() -> array.add(0, (UltraLogLog) null));
+    assertThatNullPointerException().isThrownBy(() -> array.set(0, null));
+    assertThatNullPointerException().isThrownBy(() -> array.getDistinctCountEstimate(0, null));
+    assertThatIllegalArgumentException().isThrownBy(() -> array.add(0, UltraLogLog.create(9)));
+    assertThatIllegalArgumentException().isThrownBy(() -> array.set(0, UltraLogLog.create(9)));
+  }
+
+  @Test
+  void testEmpty() {
+    UltraLogLogArray array = UltraLogLogArray.create(12, 5);
+    assertThat(array.getP()).isEqualTo(12);
+    assertThat(array.size()).isEqualTo(5);
+    for (int i = 0; i < 5; ++i) {
+      assertSketchEquals(array, i, UltraLogLog.create(12));
+    }
+    assertThat(UltraLogLogArray.create(12, 0).size()).isZero();
+  }
+
+  @Test
+  void testAdd() {
+    SplittableRandom random = new SplittableRandom(0x243f6a8885a308d3L);
+    int numSketches = 7;
+    for (int p = UltraLogLog.MIN_P; p <= 16; ++p) {
+      // use small chunks to cover sketches in different chunks
+      UltraLogLogArray array = UltraLogLogArray.create(p, numSketches, 1);
+      UltraLogLog[] expected = new UltraLogLog[numSketches];
+      for (int i = 0; i < numSketches; ++i) {
+        expected[i] = UltraLogLog.create(p);
+      }
+      for (int n = 0; n < 100000; ++n) {
+        int idx = random.nextInt(numSketches);
+        long hash = random.nextLong();
+        if (n % 2 == 0) {
+          array.add(idx, hash);
+          expected[idx].add(hash);
+        } else {
+          int token = UltraLogLog.computeToken(hash);
+          array.addToken(idx, token);
+          expected[idx].addToken(token);
+        }
+      }
+      for (int i = 0; i < numSketches; ++i) {
+        assertSketchEquals(array, i, expected[i]);
+      }
+    }
+  }
+
+  @Test
+  void testMergeAndAddSketch() {
+    SplittableRandom random = new SplittableRandom(0x13198a2e03707344L);
+    int p = 11;
+    UltraLogLogArray array = UltraLogLogArray.create(p, 3, 1);
+    UltraLogLog expected0 = UltraLogLog.create(p);
+    UltraLogLog expected2 = UltraLogLog.create(p);
+    UltraLogLog other = UltraLogLog.create(p + 2);
+    for (int n = 0; n < 20000; ++n) {
+      long hash0 = random.nextLong();
+      long hash2 = random.nextLong();
+      long hashOther = random.nextLong();
+      array.add(0, hash0);
+      array.add(2, hash2);
+      expected0.add(hash0);
+      expected2.add(hash2);
+      other.add(hashOther);
+    }
+
+    array.merge(0, 2);
+    expected0.add(expected2);
+    assertSketchEquals(array, 0, expected0);
+    assertSketchEquals(array, 2, expected2);
+
+    array.add(1, other);
+    assertSketchEquals(array, 1, other.downsize(p));
+    array.add(2, other);
+    assertSketchEquals(array, 2, expected2.add(other));
+  }
+
+  @Test
+  void testSetAndReset() {
+    SplittableRandom random = new SplittableRandom(0xa4093822299f31d0L);
+    UltraLogLogArray array = UltraLogLogArray.create(8, 4, 1);
+    UltraLogLog sketch = UltraLogLog.create(10);
+    for (int n = 0; n < 1000; ++n) {
+      sketch.add(random.nextLong());
+    }
+    array.set(3, sketch);
+    assertSketchEquals(array, 3, sketch.downsize(8));
+    assertSketchEquals(array, 2, UltraLogLog.create(8));
+    array.reset(3);
+    assertSketchEquals(array, 3, UltraLogLog.create(8));
+  }
+
+  @Test
+  void testOtherEstimator() {
+    SplittableRandom random = new SplittableRandom(0x082efa98ec4e6c89L);
+    UltraLogLogArray array = UltraLogLogArray.create(10, 2);
+    UltraLogLog expected = UltraLogLog.create(10);
+    for (int n = 0; n < 5000; ++n) {
+      long hash = random.nextLong();
+      array.add(1, hash);
+      expected.add(hash);
+    }
+    UltraLogLog.Estimator estimator = ultraLogLog -> ultraLogLog.getState().length;
+    assertThat(array.getDistinctCountEstimate(1, estimator)).isEqualTo(1024.);
+    assertThat(array.getDistinctCountEstimate(1, UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR))
+        .isEqualTo(expected.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR));
+  }
+
+  @Test
+  void testMap(@TempDir Path tempDir) throws IOException {
+    SplittableRandom random = new SplittableRandom(0x9216d5d98979fb1bL);
+    Path file = tempDir.resolve("sketches");
+    int p = 9;
+    int numSketches = 5;
+    UltraLogLog[] expected = new UltraLogLog[numSketches];
+    UltraLogLogArray array = UltraLogLogArray.map(file, p, numSketches);
+    for (int i = 0; i < numSketches; ++i) {
+      expected[i] = UltraLogLog.create(p);
+      assertSketchEquals(array, i, expected[i]);
+    }
+    for (int n = 0; n < 10000; ++n) {
+      int idx = random.nextInt(numSketches);
+      long hash = random.nextLong();
+      array.add(idx, hash);
+      expected[idx].add(hash);
+    }
+    array.force();
+
+    UltraLogLogArray reopened = UltraLogLogArray.map(file);
+    assertThat(reopened.getP()).isEqualTo(p);
+    assertThat(reopened.size()).isEqualTo(numSketches);
+    for (int i = 0; i < numSketches; ++i) {
+      assertSketchEquals(reopened, i, expected[i]);
+    }
+    reopened = UltraLogLogArray.map(file, p, numSketches);
+    for (int i = 0; i < numSketches; ++i) {
+      assertSketchEquals(reopened, i, expected[i]);
+    }
+
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> UltraLogLogArray.map(file, p + 1, numSketches));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> UltraLogLogArray.map(file, p, numSketches + 1));
+    assertThatIllegalArgumentException().isThrownBy(() -> HyperLogLogArray.map(file));
+    assertThatNullPointerException().isThrownBy(() -> UltraLogLogArray.map(null));
+
+    Path invalidFile = tempDir.resolve("invalid");
+    Files.write(invalidFile, new byte[] {1, 2});
+    assertThatIllegalArgumentException().isThrownBy(() -> UltraLogLogArray.map(invalidFile));
+  }
+
+  @Test
+  void testMapShared(@TempDir Path tempDir) throws Exception {
+    int numThreads = 4;
+    int numHashesPerThread = 50000;
+    int p = 8;
+    int numSketches = 3;
+    SplittableRandom random = new SplittableRandom(0x4c0b7e2a9f13d865L);
+    long[] hashes = random.longs((long) numThreads * numHashesPerThread).toArray();
+    Path file = tempDir.resolve("shared");
+
+    UltraLogLog[] expected = new UltraLogLog[numSketches];
+    for (int i = 0; i < numSketches; ++i) {
+      expected[i] = UltraLogLog.create(p);
+    }
+    for (int i = 0; i < hashes.length; ++i) {
+      expected[i % numSketches].add(hashes[i]);
+    }
+
+    // every thread uses its own mapping of the file, like separate processes would do
+    UltraLogLogArray[] arrays = new UltraLogLogArray[numThreads];
+    arrays[0] = UltraLogLogArray.mapShared(file, p, numSketches);
+    for (int t = 1; t < numThreads; ++t) {
+      arrays[t] = UltraLogLogArray.mapShared(file);
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      Future<?>[] futures =
+          IntStream.range(0, numThreads)
+              .mapToObj(
+                  t ->
+                      executor.submit(
+                          () -> {
+                            for (int i = t; i < hashes.length; i += numThreads) {
+                              arrays[t].add(i % numSketches, hashes[i]);
+                            }
+                          }))
+              .toArray(Future<?>[]::new);
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    for (int i = 0; i < numSketches; ++i) {
+      for (UltraLogLogArray array : arrays) {
+        assertSketchEquals(array, i, expected[i]);
+      }
+    }
+
+    UltraLogLog other = UltraLogLog.create(p + 1);
+    for (int n = 0; n < 1000; ++n) {
+      other.add(random.nextLong());
+    }
+    arrays[1].add(0, other);
+    expected[0].add(other);
+    arrays[2].merge(1, 0);
+    expected[1].add(expected[0]);
+    for (int i = 0; i < numSketches; ++i) {
+      assertSketchEquals(arrays[3], i, expected[i]);
+    }
+  }
+
+  @Test
+  void testConcurrentMapShared(@TempDir Path tempDir) throws Exception {
+    int numThreads = 8;
+    int numRepetitions = 20;
+    int p = 6;
+    int numSketches = 5;
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      for (int r = 0; r < numRepetitions; ++r) {
+        Path file = tempDir.resolve("shared" + r);
+        CyclicBarrier barrier = new CyclicBarrier(numThreads);
+        List<Future<UltraLogLogArray>> futures = new ArrayList<>();
+        for (int t = 0; t < numThreads; ++t) {
+          boolean withParameters = (t & 1) == 0;
+          futures.add(
+              executor.submit(
+                  () -> {
+                    barrier.await();
+                    if (withParameters) {
+                      return UltraLogLogArray.mapShared(file, p, numSketches);
+                    }
+                    // the file might not yet exist or be initialized by the other threads
+                    while (true) {
+                      try {
+                        return UltraLogLogArray.mapShared(file);
+                      } catch (NoSuchFileException | IllegalArgumentException e) {
+                        Thread.yield();
+                      }
+                    }
+                  }));
+        }
+        UltraLogLog expected = UltraLogLog.create(p);
+        for (int t = 0; t < numThreads; ++t) {
+          UltraLogLogArray array = futures.get(t).get();
+          assertThat(array.getP()).isEqualTo(p);
+          assertThat(array.size()).isEqualTo(numSketches);
+          array.add(t % numSketches, 0x9e3779b97f4a7c15L * t);
+          if (t % numSketches == 0) {
+            expected.add(0x9e3779b97f4a7c15L * t);
+          }
+        }
+        for (Future<UltraLogLogArray> future : futures) {
+          assertSketchEquals(future.get(), 0, expected);
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testForceWithoutFile() {
+    UltraLogLogArray array = UltraLogLogArray.create(8, 2);
+    assertThat(array.force()).isSameAs(array);
+  }
+}
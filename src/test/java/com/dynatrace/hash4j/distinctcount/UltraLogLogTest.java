@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.*;
 import com.dynatrace.hash4j.distinctcount.TestUtils.HashGenerator;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.SplittableRandom;
 import java.util.stream.IntStream;
@@ -120,6 +121,38 @@ class UltraLogLogTest extends DistinctCounterTest<UltraLogLog, UltraLogLog.Estim
     }
   }
 
+  @Test
+  void testMergeRegisterWords() {
+    int smallestRegisterValue = (MIN_P << 2) - 4;
+    List<Integer> registerValues = new ArrayList<>();
+    registerValues.add(0);
+    for (int i = smallestRegisterValue; i < 256; i += 1) {
+      registerValues.add(i);
+    }
+    SplittableRandom random = new SplittableRandom(0x4a6bcd1e8f2c0b39L);
+    for (int r1 : registerValues) {
+      for (int r2 : registerValues) {
+        int byteIdx = random.nextInt(8);
+        long word1 = 0;
+        long word2 = 0;
+        for (int k = 0; k < 8; ++k) {
+          int v1 = (k == byteIdx) ? r1 : registerValues.get(random.nextInt(registerValues.size()));
+          int v2 = (k == byteIdx) ? r2 : registerValues.get(random.nextInt(registerValues.size()));
+          word1 |= ((long) v1) << (k << 3);
+          word2 |= ((long) v2) << (k << 3);
+        }
+        long mergedWord = UltraLogLog.mergeRegisters(word1, word2);
+        for (int k = 0; k < 8; ++k) {
+          byte b1 = (byte) (word1 >>> (k << 3));
+          byte b2 = (byte) (word2 >>> (k << 3));
+          byte expected =
+              (b2 == 0) ? b1 : UltraLogLog.pack(UltraLogLog.unpack(b1) | UltraLogLog.unpack(b2));
+          assertThat((byte) (mergedWord >>> (k << 3))).isEqualTo(expected);
+        }
+      }
+    }
+  }
+
   @Test
   void testSmallestRegisterValues() {
     for (int p = MIN_P; p <= MAX_P; ++p) {
@@ -186,6 +219,11 @@ class UltraLogLogTest extends DistinctCounterTest<UltraLogLog, UltraLogLog.Estim
     return UltraLogLog.merge(sketch1, sketch2);
   }
 
+  @Override
+  protected UltraLogLog merge(Collection<UltraLogLog> sketches) {
+    return UltraLogLog.merge(sketches);
+  }
+
   /**
    * Returns the theoretical asymptotic (for large p and as the distinct count goes to infinity)
    * relative standard error of the distinct count estimate for a given precision parameter.
@@ -38,6 +38,21 @@ class AbstractHashStreamCompatibilityTest {
             return this;
           }
 
+          @Override
+          public byte[] getState() {
+            return new byte[0];
+          }
+
+          @Override
+          public HashStream128 setState(byte[] state) {
+            return this;
+          }
+
+          @Override
+          public HashStream128 copy() {
+            return this;
+          }
+
           @Override
           public int getHashBitSize() {
             return 128;
@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.dynatrace.hash4j.testutils.TestUtils;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -48,9 +49,10 @@ abstract class AbstractHasher128Test extends AbstractHasherTest {
 
   @Override
   protected HashStream createNonOptimizedHashStream(Hasher hasher) {
+    return createNonOptimizedHashStream((HashStream128) hasher.hashStream());
+  }
 
-    HashStream hashStream = hasher.hashStream();
-    HashStream128 hashStream128 = (HashStream128) hashStream;
+  private static HashStream128 createNonOptimizedHashStream(HashStream128 hashStream128) {
     return new AbstractHashStream128() {
       @Override
       public HashValue128 get() {
@@ -68,6 +70,22 @@ abstract class AbstractHasher128Test extends AbstractHasherTest {
         hashStream128.reset();
         return this;
       }
+
+      @Override
+      public byte[] getState() {
+        return hashStream128.getState();
+      }
+
+      @Override
+      public HashStream128 setState(byte[] state) {
+        hashStream128.setState(state);
+        return this;
+      }
+
+      @Override
+      public HashStream128 copy() {
+        return createNonOptimizedHashStream(hashStream128.copy());
+      }
     };
   }
 
@@ -122,6 +140,21 @@ abstract class AbstractHasher128Test extends AbstractHasherTest {
                 return this;
               }
 
+              @Override
+              public byte[] getState() {
+                return new byte[0];
+              }
+
+              @Override
+              public HashStream128 setState(byte[] state) {
+                return this;
+              }
+
+              @Override
+              public HashStream128 copy() {
+                return this;
+              }
+
               @Override
               public HashValue128 get() {
                 return hash;
@@ -173,4 +206,23 @@ abstract class AbstractHasher128Test extends AbstractHasherTest {
       // no compatibility check necessary, if 128-bit hash value is not supported
     }
   }
+
+  @Test
+  void testHashLongsToLongs() {
+    SplittableRandom random = new SplittableRandom(0L);
+    int numValues = 100;
+    int inputOff = 3;
+    int hashesOff = 5;
+    long[] input = random.longs(inputOff + numValues).toArray();
+    for (Hasher128 hasher : getHashers()) {
+      long[] hashes = new long[hashesOff + numValues + 1];
+      hasher.hashLongsToLongs(input, inputOff, hashes, hashesOff, numValues);
+      for (int i = 0; i < numValues; ++i) {
+        assertThat(hashes[hashesOff + i])
+            .isEqualTo(hasher.hashStream().putLong(input[inputOff + i]).get().getAsLong());
+      }
+      assertThat(hashes[hashesOff - 1]).isZero();
+      assertThat(hashes[hashesOff + numValues]).isZero();
+    }
+  }
 }
@@ -19,6 +19,7 @@ import static com.dynatrace.hash4j.testutils.TestUtils.byteArrayToCharSequence;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -41,9 +42,10 @@ abstract class AbstractHasher32Test extends AbstractHasherTest {
 
   @Override
   protected HashStream createNonOptimizedHashStream(Hasher hasher) {
+    return createNonOptimizedHashStream((HashStream32) hasher.hashStream());
+  }
 
-    HashStream hashStream = hasher.hashStream();
-    HashStream32 hashStream32 = (HashStream32) hashStream;
+  private static HashStream32 createNonOptimizedHashStream(HashStream32 hashStream32) {
     return new AbstractHashStream32() {
       @Override
       public int getAsInt() {
@@ -61,6 +63,22 @@ abstract class AbstractHasher32Test extends AbstractHasherTest {
         hashStream32.reset();
         return this;
       }
+
+      @Override
+      public byte[] getState() {
+        return hashStream32.getState();
+      }
+
+      @Override
+      public HashStream32 setState(byte[] state) {
+        hashStream32.setState(state);
+        return this;
+      }
+
+      @Override
+      public HashStream32 copy() {
+        return createNonOptimizedHashStream(hashStream32.copy());
+      }
     };
   }
 
@@ -115,6 +133,21 @@ abstract class AbstractHasher32Test extends AbstractHasherTest {
                 return this;
               }
 
+              @Override
+              public byte[] getState() {
+                return new byte[0];
+              }
+
+              @Override
+              public HashStream32 setState(byte[] state) {
+                return this;
+              }
+
+              @Override
+              public HashStream32 copy() {
+                return this;
+              }
+
               @Override
               public int getAsInt() {
                 return hash;
@@ -136,4 +169,23 @@ abstract class AbstractHasher32Test extends AbstractHasherTest {
     assertThat(hasher.hashCharsToInt(s)).isEqualTo(hash);
     assertThat(hasher.getHashBitSize()).isEqualTo(32);
   }
+
+  @Test
+  void testHashIntsToInts() {
+    SplittableRandom random = new SplittableRandom(0L);
+    int numValues = 100;
+    int inputOff = 3;
+    int hashesOff = 5;
+    int[] input = random.ints(inputOff + numValues).toArray();
+    for (Hasher32 hasher : getHashers()) {
+      int[] hashes = new int[hashesOff + numValues + 1];
+      hasher.hashIntsToInts(input, inputOff, hashes, hashesOff, numValues);
+      for (int i = 0; i < numValues; ++i) {
+        assertThat(hashes[hashesOff + i])
+            .isEqualTo(hasher.hashStream().putInt(input[inputOff + i]).getAsInt());
+      }
+      assertThat(hashes[hashesOff - 1]).isZero();
+      assertThat(hashes[hashesOff + numValues]).isZero();
+    }
+  }
 }
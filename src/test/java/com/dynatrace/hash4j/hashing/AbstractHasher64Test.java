@@ -19,6 +19,7 @@ import static com.dynatrace.hash4j.testutils.TestUtils.byteArrayToCharSequence;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -47,9 +48,10 @@ abstract class AbstractHasher64Test extends AbstractHasherTest {
 
   @Override
   protected HashStream createNonOptimizedHashStream(Hasher hasher) {
+    return createNonOptimizedHashStream((HashStream64) hasher.hashStream());
+  }
 
-    HashStream hashStream = hasher.hashStream();
-    HashStream64 hashStream64 = (HashStream64) hashStream;
+  private static HashStream64 createNonOptimizedHashStream(HashStream64 hashStream64) {
     return new AbstractHashStream64() {
       @Override
       public long getAsLong() {
@@ -67,6 +69,22 @@ abstract class AbstractHasher64Test extends AbstractHasherTest {
         hashStream64.reset();
         return this;
       }
+
+      @Override
+      public byte[] getState() {
+        return hashStream64.getState();
+      }
+
+      @Override
+      public HashStream64 setState(byte[] state) {
+        hashStream64.setState(state);
+        return this;
+      }
+
+      @Override
+      public HashStream64 copy() {
+        return createNonOptimizedHashStream(hashStream64.copy());
+      }
     };
   }
 
@@ -119,6 +137,21 @@ abstract class AbstractHasher64Test extends AbstractHasherTest {
                 return this;
               }
 
+              @Override
+              public byte[] getState() {
+                return new byte[0];
+              }
+
+              @Override
+              public HashStream64 setState(byte[] state) {
+                return this;
+              }
+
+              @Override
+              public HashStream64 copy() {
+                return this;
+              }
+
               @Override
               public long getAsLong() {
                 return hash;
@@ -146,4 +179,89 @@ abstract class AbstractHasher64Test extends AbstractHasherTest {
 
     assertThat(hasher.getHashBitSize()).isEqualTo(64);
   }
+
+  @Test
+  void testHashLongsToLongs() {
+    SplittableRandom random = new SplittableRandom(0L);
+    int numValues = 100;
+    int inputOff = 3;
+    int hashesOff = 5;
+    long[] input = random.longs(inputOff + numValues).toArray();
+    for (Hasher64 hasher : getHashers()) {
+      long[] hashes = new long[hashesOff + numValues + 1];
+      hasher.hashLongsToLongs(input, inputOff, hashes, hashesOff, numValues);
+      for (int i = 0; i < numValues; ++i) {
+        assertThat(hashes[hashesOff + i])
+            .isEqualTo(hasher.hashStream().putLong(input[inputOff + i]).getAsLong());
+      }
+      assertThat(hashes[hashesOff - 1]).isZero();
+      assertThat(hashes[hashesOff + numValues]).isZero();
+    }
+  }
+
+  @Test
+  void testHashCharsToLongs() {
+    testHashCharsToLongs(100, 100);
+  }
+
+  @Test
+  void testHashCharsToLongsShortInputs() {
+    testHashCharsToLongs(101, 20);
+  }
+
+  private void testHashCharsToLongs(int numValues, int maxLength) {
+    SplittableRandom random = new SplittableRandom(0L);
+    int inputOff = 3;
+    int hashesOff = 5;
+    CharSequence[] input = new CharSequence[inputOff + numValues];
+    for (int i = 0; i < input.length; ++i) {
+      StringBuilder sb = new StringBuilder();
+      random.ints(random.nextInt(maxLength)).forEach(c -> sb.append((char) c));
+      input[i] = sb;
+    }
+    for (Hasher64 hasher : getHashers()) {
+      long[] hashes = new long[hashesOff + numValues + 1];
+      hasher.hashCharsToLongs(input, inputOff, hashes, hashesOff, numValues);
+      for (int i = 0; i < numValues; ++i) {
+        assertThat(hashes[hashesOff + i]).isEqualTo(hasher.hashCharsToLong(input[inputOff + i]));
+      }
+      assertThat(hashes[hashesOff - 1]).isZero();
+      assertThat(hashes[hashesOff + numValues]).isZero();
+    }
+  }
+
+  @Test
+  void testHashBytesToLongs() {
+    testHashBytesToLongs(100, 1000);
+  }
+
+  @Test
+  void testHashBytesToLongsShortInputs() {
+    testHashBytesToLongs(101, 32);
+  }
+
+  private void testHashBytesToLongs(int numValues, int maxLength) {
+    SplittableRandom random = new SplittableRandom(0L);
+    int slicesOff = 3;
+    int hashesOff = 5;
+    byte[] input = new byte[1000];
+    random.nextBytes(input);
+    int[] offsets = new int[slicesOff + numValues];
+    int[] lengths = new int[slicesOff + numValues];
+    for (int i = 0; i < offsets.length; ++i) {
+      offsets[i] = random.nextInt(input.length);
+      lengths[i] = random.nextInt(Math.min(input.length - offsets[i], maxLength) + 1);
+    }
+    for (Hasher64 hasher : getHashers()) {
+      long[] hashes = new long[hashesOff + numValues + 1];
+      hasher.hashBytesToLongs(input, offsets, lengths, slicesOff, hashes, hashesOff, numValues);
+      for (int i = 0; i < numValues; ++i) {
+        assertThat(hashes[hashesOff + i])
+            .isEqualTo(
+                hasher.hashBytesToLong(input, offsets[slicesOff + i], lengths[slicesOff + i]));
+      }
+      assertThat(hashes[hashesOff - 1]).isZero();
+      assertThat(hashes[hashesOff + numValues]).isZero();
+    }
+  }
 }
@@ -25,6 +25,7 @@ import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
 import com.dynatrace.hash4j.testutils.TestUtils;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -311,6 +312,253 @@ abstract class AbstractHasherTest {
     }
   }
 
+  private static List<ByteBuffer> toByteBuffers(byte[] data, int prefixLength) {
+    byte[] dataWithPrefix = new byte[prefixLength + data.length];
+    System.arraycopy(data, 0, dataWithPrefix, prefixLength, data.length);
+    ByteBuffer heapBuffer = ByteBuffer.wrap(dataWithPrefix);
+    heapBuffer.position(prefixLength);
+    ByteBuffer slicedHeapBuffer = heapBuffer.slice();
+    ByteBuffer readOnlyHeapBuffer = heapBuffer.asReadOnlyBuffer();
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(dataWithPrefix.length);
+    directBuffer.put(dataWithPrefix);
+    directBuffer.position(prefixLength);
+    ByteBuffer directLittleEndianBuffer = directBuffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    return Arrays.asList(
+        heapBuffer,
+        slicedHeapBuffer,
+        readOnlyHeapBuffer,
+        directBuffer,
+        directLittleEndianBuffer,
+        directBuffer.slice());
+  }
+
+  @ParameterizedTest
+  @MethodSource("getHashers")
+  void testHashByteBuffer(Hasher hasher) {
+    int numCycles = 10000;
+    int maxByteLength = 300;
+    int maxPrefixLength = 20;
+    SplittableRandom random = new SplittableRandom(0);
+
+    for (int i = 0; i < numCycles; ++i) {
+      byte[] data = new byte[random.nextInt(maxByteLength + 1)];
+      random.nextBytes(data);
+      int prefixLength = random.nextInt(maxPrefixLength + 1);
+      byte[] expectedStreamHash =
+          getBytes(hasher.hashStream().putInt(prefixLength).putBytes(data));
+
+      for (ByteBuffer buffer : toByteBuffers(data, prefixLength)) {
+        int position = buffer.position();
+        int limit = buffer.limit();
+        ByteOrder order = buffer.order();
+        if (hasher instanceof Hasher32) {
+          Hasher32 hasher32 = (Hasher32) hasher;
+          assertThat(hasher32.hashBytesToInt(buffer)).isEqualTo(hasher32.hashBytesToInt(data));
+        }
+        if (hasher instanceof Hasher64) {
+          Hasher64 hasher64 = (Hasher64) hasher;
+          assertThat(hasher64.hashBytesToLong(buffer)).isEqualTo(hasher64.hashBytesToLong(data));
+        }
+        if (hasher instanceof Hasher128) {
+          Hasher128 hasher128 = (Hasher128) hasher;
+          assertThat(hasher128.hashBytesTo128Bits(buffer))
+              .isEqualTo(hasher128.hashBytesTo128Bits(data));
+        }
+        assertThat(getBytes(hasher.hashStream().putInt(prefixLength).putBytes(buffer)))
+            .isEqualTo(expectedStreamHash);
+        assertThat(buffer.position()).isEqualTo(position);
+        assertThat(buffer.limit()).isEqualTo(limit);
+        assertThat(buffer.order()).isEqualTo(order);
+      }
+    }
+  }
+
+  private static void putBytesUsingRandomMethods(
+      HashStream hashStream, byte[] data, int off, int len, SplittableRandom random) {
+    int end = off + len;
+    while (off < end) {
+      int remaining = end - off;
+      switch (random.nextInt(6)) {
+        case 0:
+          hashStream.putByte(data[off]);
+          off += 1;
+          break;
+        case 1:
+          if (remaining >= 2) {
+            hashStream.putShort(AbstractHasher.getShort(data, off));
+            off += 2;
+          }
+          break;
+        case 2:
+          if (remaining >= 4) {
+            hashStream.putInt(AbstractHasher.getInt(data, off));
+            off += 4;
+          }
+          break;
+        case 3:
+          if (remaining >= 8) {
+            hashStream.putLong(AbstractHasher.getLong(data, off));
+            off += 8;
+          }
+          break;
+        case 4:
+          {
+            int numChars = random.nextInt((remaining >>> 1) + 1);
+            StringBuilder sb = new StringBuilder(numChars);
+            for (int i = 0; i < numChars; ++i) {
+              sb.append(AbstractHasher.getChar(data, off + 2 * i));
+            }
+            hashStream.putChars(sb);
+            off += 2 * numChars;
+          }
+          break;
+        default:
+          {
+            int numBytes = random.nextInt(remaining + 1);
+            hashStream.putBytes(data, off, numBytes);
+            off += numBytes;
+          }
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("getHashers")
+  void testGetAndSetState(Hasher hasher) {
+    int numCycles = 3000;
+    int maxByteLength = 1200;
+    SplittableRandom random = new SplittableRandom(0);
+
+    for (int i = 0; i < numCycles; ++i) {
+      byte[] data = new byte[random.nextInt(maxByteLength + 1)];
+      random.nextBytes(data);
+      int splitIdx = random.nextInt(data.length + 1);
+      byte[] expected = getBytes(hasher.hashStream().putBytes(data));
+
+      HashStream hashStream = hasher.hashStream();
+      putBytesUsingRandomMethods(hashStream, data, 0, splitIdx, random);
+      byte[] state = hashStream.getState();
+
+      HashStream restoredHashStream = hasher.hashStreamFromState(state);
+      assertThat(restoredHashStream.getState()).isEqualTo(state);
+      putBytesUsingRandomMethods(
+          restoredHashStream, data, splitIdx, data.length - splitIdx, random);
+      assertThat(getBytes(restoredHashStream)).isEqualTo(expected);
+
+      HashStream reusedHashStream = hasher.hashStream().putBytes(data).setState(state);
+      putBytesUsingRandomMethods(reusedHashStream, data, splitIdx, data.length - splitIdx, random);
+      assertThat(getBytes(reusedHashStream)).isEqualTo(expected);
+
+      putBytesUsingRandomMethods(hashStream, data, splitIdx, data.length - splitIdx, random);
+      assertThat(getBytes(hashStream)).isEqualTo(expected);
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("getHashers")
+  void testNestedHashComputations(Hasher hasher) {
+    Hasher32 hasher32 = (Hasher32) hasher;
+    List<String> data = Arrays.asList("a", "bc", "def", "ghij");
+    HashFunnel<List<String>> funnel =
+        (l, sink) -> {
+          for (String s : l) {
+            sink.putInt(hasher32.hashToInt(s, CHAR_FUNNEL));
+          }
+        };
+
+    HashStream32 hashStream = hasher32.hashStream();
+    for (String s : data) {
+      hashStream.putInt(hasher32.hashStream().putChars(s).getAsInt());
+    }
+    int expected = hashStream.getAsInt();
+
+    assertThat(hasher32.hashToInt(data, funnel)).isEqualTo(expected);
+    assertThat(hasher32.hashToInt(data, funnel)).isEqualTo(expected);
+  }
+
+  @Test
+  void testNestedHashComputationsWithDifferentHashers() {
+    for (Hasher outerHasher : getHashers()) {
+      for (Hasher innerHasher : getHashers()) {
+        Hasher32 outerHasher32 = (Hasher32) outerHasher;
+        Hasher32 innerHasher32 = (Hasher32) innerHasher;
+        HashFunnel<String> funnel =
+            (s, sink) -> sink.putInt(innerHasher32.hashToInt(s, CHAR_FUNNEL)).putChars(s);
+        int innerHash = innerHasher32.hashStream().putChars("abc").getAsInt();
+        int expected = outerHasher32.hashStream().putInt(innerHash).putChars("abc").getAsInt();
+
+        assertThat(outerHasher32.hashToInt("abc", funnel)).isEqualTo(expected);
+        assertThat(innerHasher32.hashToInt("abc", CHAR_FUNNEL)).isEqualTo(innerHash);
+        assertThat(outerHasher32.hashToInt("abc", funnel)).isEqualTo(expected);
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("getHashers")
+  void testHashComputationAfterFunnelException(Hasher hasher) {
+    Hasher32 hasher32 = (Hasher32) hasher;
+    HashFunnel<String> failingFunnel =
+        (s, sink) -> {
+          sink.putChars(s);
+          throw new IllegalStateException();
+        };
+    int expected = hasher32.hashStream().putChars("xyz").getAsInt();
+
+    assertThatIllegalStateException().isThrownBy(() -> hasher32.hashToInt("abc", failingFunnel));
+    assertThat(hasher32.hashToInt("xyz", CHAR_FUNNEL)).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @MethodSource("getHashers")
+  void testCopy(Hasher hasher) {
+    int numCycles = 3000;
+    int maxByteLength = 1200;
+    SplittableRandom random = new SplittableRandom(0);
+
+    for (int i = 0; i < numCycles; ++i) {
+      byte[] data1 = new byte[random.nextInt(maxByteLength + 1)];
+      random.nextBytes(data1);
+      int prefixLength = random.nextInt(data1.length + 1);
+      byte[] data2 = Arrays.copyOf(data1, prefixLength + random.nextInt(maxByteLength + 1));
+      random.nextBytes(data2);
+      System.arraycopy(data1, 0, data2, 0, prefixLength);
+      byte[] expected1 = getBytes(hasher.hashStream().putBytes(data1));
+      byte[] expected2 = getBytes(hasher.hashStream().putBytes(data2));
+
+      HashStream hashStream = hasher.hashStream();
+      putBytesUsingRandomMethods(hashStream, data1, 0, prefixLength, random);
+      HashStream copiedHashStream = hashStream.copy();
+      assertThat(copiedHashStream).isNotSameAs(hashStream);
+      assertThat(copiedHashStream.getState()).isEqualTo(hashStream.getState());
+
+      putBytesUsingRandomMethods(
+          copiedHashStream, data2, prefixLength, data2.length - prefixLength, random);
+      putBytesUsingRandomMethods(
+          hashStream, data1, prefixLength, data1.length - prefixLength, random);
+      assertThat(getBytes(hashStream)).isEqualTo(expected1);
+      assertThat(getBytes(copiedHashStream)).isEqualTo(expected2);
+      assertThat(getBytes(hashStream.copy())).isEqualTo(expected1);
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("getHashers")
+  void testSetIllegalState(Hasher hasher) {
+    HashStream hashStream = hasher.hashStream();
+    assertThatIllegalArgumentException().isThrownBy(() -> hashStream.setState(new byte[0]));
+    SplittableRandom random = new SplittableRandom(0);
+    for (int len = 0; len < 300; ++len) {
+      byte[] data = new byte[len];
+      random.nextBytes(data);
+      byte[] state = hasher.hashStream().putBytes(data).getState();
+      byte[] tooLongState = Arrays.copyOf(state, state.length + 1);
+      byte[] tooShortState = Arrays.copyOf(state, state.length - 1);
+      assertThatIllegalArgumentException().isThrownBy(() -> hashStream.setState(tooLongState));
+      assertThatIllegalArgumentException().isThrownBy(() -> hashStream.setState(tooShortState));
+    }
+  }
+
   private byte[] getBytes(HashStream hashStream) {
     byte[] result = new byte[hashStream.getHashBitSize() / 8];
     if (hashStream.getHashBitSize() == 32) {
@@ -1097,6 +1345,21 @@ abstract class AbstractHasherTest {
           public HashStream64 reset() {
             return referenceHashStream.reset();
           }
+
+          @Override
+          public byte[] getState() {
+            return referenceHashStream.getState();
+          }
+
+          @Override
+          public HashStream64 setState(byte[] state) {
+            return referenceHashStream.setState(state);
+          }
+
+          @Override
+          public HashStream64 copy() {
+            return referenceHashStream.copy();
+          }
         };
       }
 
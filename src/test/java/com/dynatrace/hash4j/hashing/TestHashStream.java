@@ -55,6 +55,23 @@ class TestHashStream extends AbstractHashStream {
     return Arrays.copyOf(data, size);
   }
 
+  @Override
+  public byte[] getState() {
+    return getData();
+  }
+
+  @Override
+  public HashStream setState(byte[] state) {
+    data = Arrays.copyOf(state, Math.max(1, state.length));
+    size = state.length;
+    return this;
+  }
+
+  @Override
+  public HashStream copy() {
+    return new TestHashStream().setState(getState());
+  }
+
   @Override
   public int hashCode() {
     int result = Objects.hash(size);
@@ -0,0 +1,10134 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.hashing;
+
+import com.dynatrace.hash4j.testutils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
+
+final class XXH3_128ReferenceData {
+
+  private XXH3_128ReferenceData() {}
+
+  private static final List<ReferenceRecord> REFERENCE_DATA = createReferenceData();
+
+  public static class ReferenceRecord extends BaseReferenceRecord {
+    private final byte[] hash0;
+    private final byte[] hash1;
+    private final long seed;
+
+    public ReferenceRecord(byte[] hash0, byte[] hash1, long seed, String input) {
+      super(input);
+      this.hash0 = hash0;
+      this.hash1 = hash1;
+      this.seed = seed;
+    }
+
+    public byte[] getHash0() {
+      return hash0;
+    }
+
+    public byte[] getHash1() {
+      return hash1;
+    }
+
+    public long getSeed() {
+      return seed;
+    }
+  }
+
+  private static class ReferenceDataBuilder {
+
+    private final List<ReferenceRecord> referenceData = new ArrayList<>();
+
+    public ReferenceDataBuilder add(String hash0, String hash1, long seed, String input) {
+      referenceData.add(
+          new ReferenceRecord(
+              TestUtils.hexStringToByteArray(hash0),
+              TestUtils.hexStringToByteArray(hash1),
+              seed,
+              input));
+      return this;
+    }
+
+    public List<ReferenceRecord> build() {
+      return referenceData;
+    }
+  }
+
+  public static List<ReferenceRecord> get() {
+    return REFERENCE_DATA;
+  }
+
+  private static List<ReferenceRecord> createReferenceData() {
+    // the reference data can be reproduced using
+    // reference-implementations/xxh3/reference_data_128.cpp
+    // on an Intel x86 architecture with little endianness
+
+    ReferenceDataBuilder builder = new ReferenceDataBuilder();
+    builder.add(
+        "7f498d4624c30160d8984701d306aa99",
+        "3019c8484d4a8556ca355f8cbdf3e3b0",
+        0x28e837c5cb41dc3eL,
+        "");
+    builder.add(
+        "7f498d4624c30160d8984701d306aa99",
+        "116abc3a75e28100fb6e47ec2086d1c5",
+        0xfdfd3a7c3e40f98bL,
+        "");
+    builder.add(
+        "7f498d4624c30160d8984701d306aa99",
+        "da0b190f8eb9c98b8e0d1c932d4b0e24",
+        0x0a213217f032e8b9L,
+        "");
+    builder.add(
+        "7f498d4624c30160d8984701d306aa99",
+        "9f1997990c5f965afcfd2c573863ac92",
+        0x98f56903cee3fceeL,
+        "");
+    builder.add(
+        "7f498d4624c30160d8984701d306aa99",
+        "3eb5393d03dc1a8f2d6afa7e01fd301e",
+        0x8ad330133b0725acL,
+        "");
+    builder.add(
+        "7f498d4624c30160d8984701d306aa99",
+        "7444ca5c0a357e36ed7e22d51f4c8a3c",
+        0x0ea2062afd5fe9eeL,
+        "");
+    builder.add(
+        "7f498d4624c30160d8984701d306aa99",
+        "106ba0a71a22e2ee9d74dcd135509c90",
+        0xa1abd7f3042ae12fL,
+        "");
+    builder.add(
+        "7f498d4624c30160d8984701d306aa99",
+        "125e8be06ca1b4f4dae114e8f5ffc2db",
+        0x6c6f1e45458246e8L,
+        "");
+    builder.add(
+        "7f498d4624c30160d8984701d306aa99",
+        "53904bc5977145f51af7782a77a3e5bb",
+        0xd79e62976f604366L,
+        "");
+    builder.add(
+        "7f498d4624c30160d8984701d306aa99",
+        "3644535a0a44aa243d546ba7806ebf0e",
+        0xe8035e3725df4a19L,
+        "");
+    builder.add(
+        "3a0c0c584f9d0fc011dd8113e0169fc8",
+        "eec919e7356b7a80b61b5a5d6af128e3",
+        0xa7d08ac58a5cf6f8L,
+        "6c");
+    builder.add(
+        "0f4ccf74acd49bc8bb1551d9fbf933b0",
+        "9032c8f2ff419c04f5de8ae0f216eeca",
+        0x5829a6e6164ff306L,
+        "ee");
+    builder.add(
+        "8534555ce096d4d0ec9b83e3cb98049b",
+        "c2eb0395a57fcfa64c0299c00cb879b5",
+        0x71d5f3d8d6af3241L,
+        "41");
+    builder.add(
+        "464ed008cebb77bd38cfc322e9d9a1d0",
+        "f846895cbdd503ed82da97aff788ce5e",
+        0xb207125f669ef749L,
+        "ca");
+    builder.add(
+        "370504f624c826d620d8ad91fa5b8846",
+        "68dbdec8610f839928d766cbc9f4180c",
+        0x49950aa05a7f5e9cL,
+        "8e");
+    builder.add(
+        "20d79219e2bdcf5c9a63a5b02a3dd265",
+        "3e1a1b6501193459f63499041cf693e1",
+        0x944aa62c65f6a8f1L,
+        "25");
+    builder.add(
+        "cc940699e40911eb82110ba1a1c8fcac",
+        "0dcff7e5e1d77c228d6d9e1e85b97df4",
+        0x257ba86bc6240dcaL,
+        "90");
+    builder.add(
+        "e68b014d405b1dc16c709bb2546a060a",
+        "d3dc3c9ec8862c9d5a6a95cf9c627ed3",
+        0x051a63c496f8b52fL,
+        "26");
+    builder.add(
+        "bef54e9d17d724accda07bd31facb5bf",
+        "6b72d8ba516081111a8897e3ebc82ff5",
+        0xaff5006cf2dab62aL,
+        "8d");
+    builder.add(
+        "1bf8b9469a21408c85de747fd1bdd812",
+        "17ce5700ba2a848992429e4fbb22ecfb",
+        0xedc51a7f204c1569L,
+        "63");
+    builder.add(
+        "a47249b4bdd7d6d2cec975c3b8ef3ce8",
+        "9b297b30cee4903e07e3124e22f1e689",
+        0x79e62ec29d25cf8bL,
+        "2e30");
+    builder.add(
+        "73c87bb6a0f80f338b1b671633dd14e4",
+        "e13ade11ef3c4aa2b8a6d4621e027850",
+        0xfc47cbb307ee004fL,
+        "41fa");
+    builder.add(
+        "2e5dbd84de77e53a0ec3133be588840a",
+        "9a0696eb5c6af96d0232c2cd28566f01",
+        0xc48ca8f37ed75121L,
+        "28ab");
+    builder.add(
+        "7a82480c6c2d3fe86787efb294691863",
+        "4c0ff517325f01431281a1377ac07444",
+        0x2149a6c8751e6809L,
+        "d62c");
+    builder.add(
+        "c3768de9b91c4a59bbd9857aa62b9e06",
+        "e6e96362c2da4d912f9efbd76d78196f",
+        0x66598a6e9c41167eL,
+        "51e2");
+    builder.add(
+        "8370b07e5f9b5e1deb1a58295b20d32d",
+        "de0b65ed4b3d6b1f63b0769693d6cd3b",
+        0x7ebb3c72234ae251L,
+        "6a84");
+    builder.add(
+        "c4034db10e323e3bbe1e9e5d3cbdcb9a",
+        "7e9dc65692f7949898db799d07daf601",
+        0x24d65589a8529ad0L,
+        "1dc2");
+    builder.add(
+        "f0a07277b5b4a07f3319ed4cbeb04553",
+        "5eeec8dfe736ab66d2c63b5d88652996",
+        0x988e0f3f2a3c9bacL,
+        "3631");
+    builder.add(
+        "aedc6aa47f6aa86594c548551ecae69f",
+        "390c69cd25f6a1ae83afd396cadc1739",
+        0x878ddf94f8b0c702L,
+        "d7dd");
+    builder.add(
+        "15620115deda6832129d673f3686baf6",
+        "af87a368e8d6c9913c9ba9ceddd682c5",
+        0x1db2ec6afc40040fL,
+        "8a88");
+    builder.add(
+        "973f69d1919593bb17d60b5ce6c89dfa",
+        "e177c1f4fa750b4fb12b533bd7883d55",
+        0x8d9868f90fa100dfL,
+        "f3cc47");
+    builder.add(
+        "d9719e9c5beb0f29a8f69c5b5dc53ed5",
+        "4b107839d92959749e18f018418cc598",
+        0x32bd14b53c2e7764L,
+        "4d0011");
+    builder.add(
+        "c1d2785a8e7abf5e07eb227e0d3b5cb4",
+        "74758064df4657d81cd7254973cd4f88",
+        0x688775b7d3dc215cL,
+        "0c69e4");
+    builder.add(
+        "5be50dc4c70e859f6a68f404c8d44203",
+        "28b78e6980c41f571f77a0ac96bf63da",
+        0x01719cc56a2a4eb3L,
+        "c5b113");
+    builder.add(
+        "c9fabac6980ff83643f368297eecb1b3",
+        "69d063320c18f03f5e0de9da3a6a04b0",
+        0x54962a263735104dL,
+        "46ace7");
+    builder.add(
+        "a78b5cfa4fd777193063bbb4bfa16e56",
+        "b13e21e197339c1efaf18fada156e4d2",
+        0xbf7dd5d89b01508aL,
+        "3acd99");
+    builder.add(
+        "c95ae3e53f89322d0d12fa76cfec99ba",
+        "6ab604cc68bfdfb804b3b974e7684372",
+        0x7c5332673c7213bfL,
+        "aa279a");
+    builder.add(
+        "eb16045b2ffd75df19251789799e20f1",
+        "f4e585eabec6f80e8b69a4fce7ad345d",
+        0xbcd57ed3810bee69L,
+        "0cafb6");
+    builder.add(
+        "1ab06dd47ae3214c64259e2390f7e869",
+        "9ef152f36c4b37aaf56c627460e74f6a",
+        0xd6fa952966b72349L,
+        "9055ff");
+    builder.add(
+        "8f47e31ad2e83b5e1f7c483ce654067d",
+        "df88a51d5ac50ec5640d9afb39a43303",
+        0xce1384ea52c3250bL,
+        "d9a9c9");
+    builder.add(
+        "0d40ee1c8af8d910b61a82e209da81cc",
+        "5eeb6631aca9bafa5c326364b6569a70",
+        0xd4cb942ec80277bdL,
+        "67cda018");
+    builder.add(
+        "56cc9d0cc7e62beafaf6b9bb7ea8ac1c",
+        "eb4fad108d125fc384b3b7a3469b3b71",
+        0x5fdc43e5312caf28L,
+        "919974bd");
+    builder.add(
+        "fadbf7fdb56d0f0c46cdb32500a7a71f",
+        "e4bbb65b253b1a916ab9e870a01c3efe",
+        0x46a84945c2a61fddL,
+        "1a97f81a");
+    builder.add(
+        "b02669139e85adb93e895c6440d223dd",
+        "4fc958490662ec18f526ffe2d050ea84",
+        0xb7ac7a86645365dbL,
+        "a57193af");
+    builder.add(
+        "9b1e00c32e8854c6c7fdf0c163c20bd3",
+        "9c789cdc08b21f500b1549f81fffe794",
+        0x1a70aa6cb4ceacc2L,
+        "f5c681f3");
+    builder.add(
+        "7072b42d8c3ef1c2dc9e787576dc160a",
+        "bbea153374840e394bb273e562a870e3",
+        0x575b0050ab4c7996L,
+        "d37c469f");
+    builder.add(
+        "21375d1576195fdf7ee94d1e21a72f0a",
+        "e72eae90cf2f462a6a8ffb6e0a0d36c1",
+        0x6780b45bda00d026L,
+        "c9117f0e");
+    builder.add(
+        "7ca2306c6631978e9050d309f3ef9fa4",
+        "356e607f9afb5d0af6d5272fc11c0ad4",
+        0xafe099913620d30aL,
+        "ab987c4e");
+    builder.add(
+        "7143694ce4ea279f48556521feb15255",
+        "55e5880cdf509da9b58fb66cad884acc",
+        0x60dc49bf8f7de898L,
+        "098fdc1a");
+    builder.add(
+        "45dd474163b090811cde385e15fa00ef",
+        "7848c95f43bd37a3fa19df8e1a96ecf1",
+        0x743fcfad69d14ae5L,
+        "6bf77364");
+    builder.add(
+        "6a533466bf29f146a43e39184158a83e",
+        "ceb2b78b473d9389708a04d2256b1c05",
+        0x9895a7b16ea1317eL,
+        "9fd4410073");
+    builder.add(
+        "5cb54127ccd7fe170971efee5e2cf26e",
+        "35c42931c3a55dd3fddd789e4b5f57ba",
+        0x5438458d7fb847f8L,
+        "fa20541b7d");
+    builder.add(
+        "dc9144cb0e163224e3bf1728abdfc0cd",
+        "1cf908e27ff0467a2c086a0f3c538683",
+        0xfbbd1cecb86fb171L,
+        "2fa654b332");
+    builder.add(
+        "9cf8aab896efbdd46553c949689904d6",
+        "792e7ed957437ade769f9dcee2bc7d55",
+        0xc06622948d7cc8f1L,
+        "1855f3207c");
+    builder.add(
+        "1fa29df3972e1311e7a1edd578355e18",
+        "1b9eecb32c259df31e93e8db2f06e579",
+        0xfe2fc1e4d43853b9L,
+        "927102a6bb");
+    builder.add(
+        "3b0a52d8c0cbf484496caaef9f0f008e",
+        "88790e9aab642654b82a00ee44b5b082",
+        0x47b5ad38e3628a1bL,
+        "96f18a54e9");
+    builder.add(
+        "d3629062ee33681bca490083df49fce9",
+        "1ebd35d11507d76d7630688e000f9f5e",
+        0x25ce5cd25b1faf93L,
+        "a5bd2eaed0");
+    builder.add(
+        "982a0a8b83762d236fa0b30afd0d7e67",
+        "04bcbf566c77f97aecbd39ba84c0338c",
+        0x80a6da9e23f476c6L,
+        "9e3813b2af");
+    builder.add(
+        "256b69545d596858608d6dc3d4434538",
+        "d61ede8458640f6940d82dcc4d212660",
+        0x71aadff4067fa9f3L,
+        "c68d76d234");
+    builder.add(
+        "0b3a38649ed5e1f7223c991a4092005c",
+        "1753b710a2cb33ef3d048b1e15d53abe",
+        0xbcf4bba40c1ec703L,
+        "939b74e867");
+    builder.add(
+        "75ff2f110094a44075f006fd54534e8d",
+        "2637a067b9cc1e63056ea40d0741bfea",
+        0xe89031bb16e8d4a1L,
+        "f0443a42d7cf");
+    builder.add(
+        "1e9d5154e81d5aac97b81b36d9906066",
+        "eb91b9d84de8dd3188c722b4aaa32eb3",
+        0x08c6c7ca2c9e59d6L,
+        "f4af5baaec02");
+    builder.add(
+        "612c90fb9116415a8fa809ad779decea",
+        "53111006319a9dea506a17c70c2e8317",
+        0xff3ffd09af42ebd4L,
+        "ecb498778ee5");
+    builder.add(
+        "1bd7203e155063485afb33f1ddee6178",
+        "7d91d2518051b26e8d79a127e0461369",
+        0x8dc62605d0a7f65dL,
+        "73c8edcaeba8");
+    builder.add(
+        "b6afbe0c41260b0f640c50e664322ff5",
+        "76190683e6232c40b207b87dd6ced795",
+        0x4822c1419ecae0b7L,
+        "24bfca79527a");
+    builder.add(
+        "c01d9c9ae9477e8ab47471bf52c947cc",
+        "6ee24ce68ab7cbbb5a12fd852eda0985",
+        0x74d6676c839c5f78L,
+        "e69a5766c8e9");
+    builder.add(
+        "62a50375e2b947db5016bb3e45301915",
+        "d2364dd3cec26526f2700914da614aa0",
+        0x782cd2059f23d2bfL,
+        "80de644b337a");
+    builder.add(
+        "aed22369eeffc131813f4bc5e66d7c7b",
+        "c55eea6938367222b7a5aeab2aae0767",
+        0xaa11d399bd4770afL,
+        "810affa3b29a");
+    builder.add(
+        "811274beecd44779a44f3d298e3e4ef2",
+        "b8e53c9f54330b0059c8a6b1bcd71227",
+        0xb4224261a8fb6c8dL,
+        "7751aa1cd31f");
+    builder.add(
+        "e3739cc7c57582b7bdb5c13f7fac619a",
+        "07c6e0dd97e2b00335eccf01737668e5",
+        0x4bde42158d1939e1L,
+        "970d501f515d");
+    builder.add(
+        "b63dd3da8f482b6fcdc20063f0f03fd7",
+        "07e8f25893fb07e9a6016453a6e56250",
+        0x3581ba3a259706abL,
+        "9bfee6bf73e683");
+    builder.add(
+        "a393f5dbd221c9acd803506dba9869db",
+        "ffd0b468635a2ad9c3360cc2aadba75c",
+        0xd83c567a471f07f6L,
+        "e2d906bc7f17e6");
+    builder.add(
+        "0c76a6260f1fc085e19efdd91ce596aa",
+        "31c04631bdaf7d62c0e816ec3df88cb4",
+        0x5f390ab7ec9e4d93L,
+        "a3f43e6eb2ac94");
+    builder.add(
+        "37abfe1591630534d151fc2df121c0b5",
+        "1458223af61ef045960dc8aa657e839f",
+        0x9bd3214b97007557L,
+        "4a0ca09251d3c4");
+    builder.add(
+        "c74313e63371b49ea5a9363dd29d8a06",
+        "be74dcda4ea189865b91a60014deeca6",
+        0xae21d493696f5989L,
+        "f5fa3c2fd18b8c");
+    builder.add(
+        "6e03d0d47819b0d77f6075ca0aad3f4a",
+        "dd64daa681b69ea69704041d41756833",
+        0xfc64c5ee43bd76f4L,
+        "57bed5f87ef2f7");
+    builder.add(
+        "2b18ad9a5f20fa3ccfc33db30aaf12a6",
+        "48d9ff5ffece49dedeafeba5e52bd9dc",
+        0x80294e2cb92eb95dL,
+        "6a2eb7c67282c5");
+    builder.add(
+        "574e3c2b442573585852b648de6463b2",
+        "ad869cacaf43335fc9a5c18333443a95",
+        0x13a9a0475bbfe895L,
+        "9c9ac56dc97d00");
+    builder.add(
+        "70c9dad53035379041a5068843a76053",
+        "ed05abf21c504867f536c0c59a21f076",
+        0x41d9ba18ed68b77fL,
+        "a62a13633dcc12");
+    builder.add(
+        "3239e8ec3331fbb79ef19bbc52f0a3f6",
+        "a59ed39c6aa38354181c32904f41167a",
+        0xb7c2cbb5604dd2c2L,
+        "42bb9d7ef7da9c");
+    builder.add(
+        "872a88abae0a0fdec6fd3400970cf726",
+        "4e5ef5594e6d0c55694c423f5612e173",
+        0x21c071c4d213bebdL,
+        "8b66fe27829169d5");
+    builder.add(
+        "50eeb112d5b75de880f93d79c0beb0f9",
+        "fc5d2dea4fc2b4c38045a4140728e2d5",
+        0x48c7f94316beb157L,
+        "b7e29d997e99486e");
+    builder.add(
+        "9cbe640b41c2fa5eb3fcdb37f25090c6",
+        "e1f0220cee0e8670c4c254a4786d80e1",
+        0xb5e68a364a43b644L,
+        "d3fa580a8165ae07");
+    builder.add(
+        "1632aa5e88a0dfb50b6bc723946eef8d",
+        "56810cf507e577fb8fa0a64fee03201d",
+        0x3832a5b9d55976f8L,
+        "d877235f1377fa56");
+    builder.add(
+        "8111bb704ee9971c360169ad0693865e",
+        "6e10ac083a788557eec9f8abee0bfab7",
+        0x6c2b81c7d53c10a5L,
+        "168d6bf4ac25243e");
+    builder.add(
+        "ef243ad67837bc202e1cc6ffda938ac2",
+        "d3e083d5ca122e0cdb4f907b66b1bf54",
+        0x724f2162dcf0d0e9L,
+        "fbcf1f5dc1018e6c");
+    builder.add(
+        "6d6b43024cd35aecee9b855dbfd3b676",
+        "18275480bf1f8c9408dc49ca8c09d1a4",
+        0x06a1a95ee1dfdbbfL,
+        "ee3bfdb9dda1212b");
+    builder.add(
+        "14de638079b06977f6da9bf0749eb3fe",
+        "3f4c02b76df63d76c4958e933193189c",
+        0xae4b4b44da27f761L,
+        "79d46c5642ab61b5");
+    builder.add(
+        "4dc08f812b98f628768bd966192361bb",
+        "6d960b9d8a2952dd4770deb6128d28f8",
+        0x3bcfd5990b4ef9d1L,
+        "a0222219884ca13c");
+    builder.add(
+        "771ce0c6a3d0f92aac01effdf47ecd2c",
+        "5a4abfc604d650fccbd7d2a09f5ef8c6",
+        0x2e05ec3a3fa79e3bL,
+        "cccbc840aafa7524");
+    builder.add(
+        "0046cc280f93b3eef067a4aeb69320a6",
+        "1ed8a96692ad3aa7aca5f898e546c5b0",
+        0x637ef6d58612c9f1L,
+        "183009da94ae31d230");
+    builder.add(
+        "dda54f8067c0e4fa4b7d84efd640dc6b",
+        "b6128bc6a667ee54ba5bb76cbec74905",
+        0xa64128f579c1fe8cL,
+        "bd726bd82431eb685f");
+    builder.add(
+        "06a7914896dad2c027d16686c9fb2123",
+        "8494052344277923fe8d578768e42e95",
+        0x06a0891697b4fee9L,
+        "65bd4164bd1483ead4");
+    builder.add(
+        "296104e011659bc7daa7c4cc48784089",
+        "c09b85a154bff20687a4c10ed82bdf2d",
+        0x69c328f98b62ae27L,
+        "66a59ad20c397431c8");
+    builder.add(
+        "15ba2d18b5fbffe5748012538c3e4220",
+        "b5c4e1b64c19ab7416d81cc7261e3872",
+        0x51eb8d00cded7d2cL,
+        "92e4d6b5ca234c5bb0");
+    builder.add(
+        "5831719f5c337d0afcb2321a9f58d4a8",
+        "2c72ffa7fcb849dbe4466135529194e5",
+        0xda4ccb62c899d751L,
+        "f853903b781c0d3816");
+    builder.add(
+        "c3f3326af7445e5fdc915d1e11730ade",
+        "2d7f129ec80dd9f82fe96914660daa0f",
+        0xca61055a07d87bfbL,
+        "a4d53a3f716f51bf6e");
+    builder.add(
+        "947922f4f1656b39747ac2382a00a7be",
+        "8628a8a5a3e6ce8d4e003567b5e41fc0",
+        0xbaecaf6570095457L,
+        "e25ed66017ae114603");
+    builder.add(
+        "607d37feb5755af5b0aaf0235c36727d",
+        "89911c454d4f6577e0e74857ef79a328",
+        0x515ef691e61d9edfL,
+        "d934174b95d42e6b93");
+    builder.add(
+        "2ad3872fe2e35374737ea21718c1e93e",
+        "bc024ade496ad6f2104f1f698cb74fbe",
+        0xf29d4db90d3c2d09L,
+        "ed6dc9255b10078b6a");
+    builder.add(
+        "500c4101d18d1f4aa4854c3152e8546f",
+        "43c320a86bbb45eaa2b83a603c411645",
+        0xdaa0a4968d1cfb03L,
+        "7f59dc1e5b1ff926cb17");
+    builder.add(
+        "e8b7e0d999f1f65b9e34606164871014",
+        "c53cb525433954c74a4351f7e4ea5d7d",
+        0x1e119bef4d45f71dL,
+        "2e44caa6a944003f7ab4");
+    builder.add(
+        "042ebe5abb634f73509206ccdf0ad30e",
+        "e0c05b357b11c7e5404a5f47480d7c1d",
+        0x90329e44ce7e22d3L,
+        "767517ee4974c9e3a284");
+    builder.add(
+        "dc3c4152d23758923f169eefc114b330",
+        "61b0db33f17e75c8e421bc6429b39114",
+        0x0a48eee8646e0906L,
+        "fc328bb2b24cccdbd78b");
+    builder.add(
+        "f28818659988fbd9efb1aec83c5af8b7",
+        "2d6b8adc88c13b3e5d8c6f2f6abf4c7a",
+        0xdb6314ab10e908c6L,
+        "84c9178fb219f6a3a0f6");
+    builder.add(
+        "7720aadde958418561a69d3604cc0911",
+        "596aad90b3995b39e36ba2f0db72bdbe",
+        0x94cc0754a5e3ab01L,
+        "29e68cae3af1fe874adb");
+    builder.add(
+        "a691d1f5f587c1b17b7e79ca458e1180",
+        "065fa57038c3c20e3baf39a8ccfeefef",
+        0x0ef1a5adf0355cb9L,
+        "520877ab856f82a9c261");
+    builder.add(
+        "5998145ad74f6aece6cf15fc47138587",
+        "9068b329f0ba59b4e62fd4aade7eb72b",
+        0x625b1a8fc121452dL,
+        "6b6de73a9e34d08bb3ea");
+    builder.add(
+        "1b031c8c0bd29083d399e125cacc762d",
+        "fd7f69b16a17b211617f3cb4884701a7",
+        0xf1e077c30130cc5eL,
+        "72da0aa6b4899ad444c3");
+    builder.add(
+        "f612d5d488c218d5103d362c029ae829",
+        "90ec6db175a77775e8596e1bf0cd83e4",
+        0x69974142ee8a2310L,
+        "4f7d9ec9ecbd3e80812b");
+    builder.add(
+        "940b443a7bed9d776cc6ea4a28a8fd75",
+        "074c735ef2faba2dbed156323faa88f7",
+        0x6726a83d44ddd602L,
+        "c0eaaa20fbdec0b9f9b2fc");
+    builder.add(
+        "73175c973a6ed88d2d26a81c8c76f74c",
+        "0ca242a5bcfab79539a40496d6ecb8af",
+        0x0415cdeee21d4d09L,
+        "c876e88cefd2bbeeaf1a42");
+    builder.add(
+        "cfbdfaafe46e463cbadbab2a772b0f1b",
+        "9aaba5fe56ed06daa0f5817c9e77d7f7",
+        0xb5cf5697e8d44b91L,
+        "fadb7167c25bd47dc5472f");
+    builder.add(
+        "0d41a467898776399ed55fe4682e4831",
+        "439fc01873c1b7b6e8653effb95196f2",
+        0xdb7ee19eca803cccL,
+        "10ccbf6d967664070f98cc");
+    builder.add(
+        "1a3b465c98ccf88b1bef24fcc36104fb",
+        "5293425778066850faca91a25ead5fd3",
+        0xbcbcae1685a412adL,
+        "878d6ad1faa54a52f9518e");
+    builder.add(
+        "c367f6fd2a0c6acb851c5b96c6280cc4",
+        "2001f9a5312da7f2c58d5cc0946860c5",
+        0x3144fa1dfc2e9cf0L,
+        "cecc129529a99e42ec937b");
+    builder.add(
+        "e20dd51fa6cff2ebcda2f0300ea4fce6",
+        "76041aaa0f4d72c7b73551405b6f7cd7",
+        0x73cc1b57eae7b715L,
+        "0d1cf1a61b6559a287b901");
+    builder.add(
+        "ab426b19fc5dad83fdbc80cf90e9ba30",
+        "342f3442fe78690616a67c5b2b7d4ed9",
+        0xcb2bec2c6032ce5bL,
+        "f37a1196277d7f9b7d240e");
+    builder.add(
+        "9b327b682354fc61cbec7fbc1ef751e2",
+        "eeeb2d6a84cd265e92fa7f31fb561dec",
+        0x43e9cca619a4e4bbL,
+        "84ce007c9efed1ee393d56");
+    builder.add(
+        "c7cea155d4156710ab2acdd6ee3640a3",
+        "47190390d3ac6213acbdc52f041631a4",
+        0x87f4c2d9dc68c544L,
+        "4ac80a1e9101c038c7d7eb");
+    builder.add(
+        "add722f9ebac38d36647445bf3d9a279",
+        "ae48a75bc09de9c7bf9ba3d62893256a",
+        0xdc579f18b5e42bbaL,
+        "c73611ff290dec5af220706a");
+    builder.add(
+        "54f96b014dbf35df5eaeb0d6e7341d33",
+        "abcaf5aef647104b1570de424ffda5bb",
+        0x113d96896fa0e629L,
+        "6caafb624a5bc6851a6e7338");
+    builder.add(
+        "e6dae9141fb690d208a09243721052d3",
+        "008bdded51c7d632f7f30960ef057dd7",
+        0xbc509fdf5a9bf76bL,
+        "5eed9ea4f9772751607b9fb7");
+    builder.add(
+        "7f86451021e909748c907ebdc94671c4",
+        "71df99b780b0435acacc9da06710346b",
+        0xdecee5260036ad3eL,
+        "189910c030700c1780aa5247");
+    builder.add(
+        "55eef91b4e55ee7f2aa2d35d64e8fc2d",
+        "7521cc2e102720b6b41719a01bffe413",
+        0x41ddf2e8a17372fdL,
+        "8ee265dcc9653ce157de6d2d");
+    builder.add(
+        "e85e0a15562661271cb60b5b694cd1d2",
+        "a06f85c222a71f9f2c6fa693670d9e61",
+        0x2deca498e915a0f8L,
+        "2b9764182b756781ba27878a");
+    builder.add(
+        "37d7fedd52526fb4d316140ef3650642",
+        "a9f5cabb17e52eeb41215275203ee445",
+        0x40644dd55bd8243dL,
+        "9759009633f060ad3e7a9bbd");
+    builder.add(
+        "1eb1682d1da5ac1c76ac7b5b5f1ad645",
+        "08200c643c2e283360713bceeb62db7a",
+        0xae275705f08dfb45L,
+        "73a2c013430e53ae167b3380");
+    builder.add(
+        "bc8d38838e2f1cf030413b5efd64a33c",
+        "07c7f0bbf25ed2cf635bddb808a31bba",
+        0x8380b365f4186eb4L,
+        "e2e5f82e629c003613f93ab9");
+    builder.add(
+        "6f241498ce0d433166d53a0d5e92b11d",
+        "bae0beb670572fcf585764ad05f7a9fb",
+        0x51db29aa771b8f81L,
+        "3f5c2509066ea127867ebfd8");
+    builder.add(
+        "2713d465fbecf56d6dee70db96437560",
+        "d3d3131dd63cf57b89dbc9b04067a2a7",
+        0x3615d344f85f561bL,
+        "c30af8fe4e13c990c86102d3d3");
+    builder.add(
+        "cf22d64a06d51e22fe244e9abfde1a60",
+        "3784c5e24df9943811c605a857171e3d",
+        0x5f9d36c3c5684838L,
+        "2f17d932cfb9e63f7a50de557a");
+    builder.add(
+        "02193348190f30a4deab57f1a2f6966a",
+        "47f941df3b15cb369b8d3a9f8ec03cfa",
+        0x373277d90b174b8fL,
+        "682a0c2708b35095605666f37c");
+    builder.add(
+        "b9ed9cd2bd7fb760c1977c8e25d0981a",
+        "8f8d6602bd1d14ae94bf3092687f849c",
+        0xfbf1e3b934deb51aL,
+        "8d7e7e72ac7582a4a6b0451477");
+    builder.add(
+        "72f9cc95047137bdbceee89b96de2cac",
+        "a21cc46d435ee5e6d4363cb1dc1fa5fc",
+        0xe6ee7aa00735bc6fL,
+        "7bc8bf05b97151c612575dd712");
+    builder.add(
+        "4522b0ce9f595d29e5689835b581c259",
+        "0c0c07446a592b5b707aeeaa2d17e161",
+        0xe39d9859e063a53eL,
+        "749f8e2672990e2736c6603aca");
+    builder.add(
+        "d242f1e46c0336177a4ff620df587311",
+        "824a343af56f598c673329273c8f2feb",
+        0x92c2f6ce2b512237L,
+        "1ad475a1e7bcdda83df0ebdac5");
+    builder.add(
+        "8368820544f2712a1284faeeb5bc0174",
+        "ccc50f3681cb99aa05949e81189de04c",
+        0x4362aef96b346cfcL,
+        "b482bfc812a3da48f86612a55f");
+    builder.add(
+        "eb18f956c864de768489fd9febd322c0",
+        "f8721b2075d26ed13e8e89e4a7ea991e",
+        0x295d4ec8762d7e23L,
+        "6b5b1b79375ca270d0df64a4a8");
+    builder.add(
+        "f44ee927d0b371f521326f00265fdc5f",
+        "219ac3b9f1fe5415005870c9f54c87e5",
+        0x9fcb6f96c5051712L,
+        "6544712ecea0f5628cac7aea91");
+    builder.add(
+        "5f376275d638fb467388721c4aed2929",
+        "610b62b0a062a0d9e923174d9bbe25ab",
+        0xfad46cff58aa3bf1L,
+        "84a522f6b96dbaf8e3b8d09d0162");
+    builder.add(
+        "acc6828463cd733555a369d71330843f",
+        "b3796cc18238f8d9aa220891ba2db8eb",
+        0xecc88c71402e5781L,
+        "d66edee9d49e6e82db2ce87ee61d");
+    builder.add(
+        "c342db207ddd91f13658387dd38383f5",
+        "e20dafcdb07d14594e5a36c4b354ddb0",
+        0xcdf476b1f598451eL,
+        "074f66685afae269ebba43468bc8");
+    builder.add(
+        "324c57a35e6c979066007c0af3a0d894",
+        "01c6ca93d72143c7d66540b4f8a38c25",
+        0x08b4877dcc0e0653L,
+        "3319f9bb366105aa799c8720d636");
+    builder.add(
+        "d5a5ff4ecf0521c9257c07929ebb1322",
+        "dc0d3cc9fec64529f3866eb19497aa36",
+        0x610f9ac5a585cafaL,
+        "dbb47a0ac9af9b5bd546f226c32d");
+    builder.add(
+        "eeb2c1b5967e3ee50612db46914b985a",
+        "591d66e0ff6d1b444589cd29aa8f4ede",
+        0x26050abc08b01989L,
+        "5acd01b495c274e64d888fa0bd76");
+    builder.add(
+        "c979aaa28e4a76dbcc7851c4bb341636",
+        "989dbfeb572e2a907371cbd6f8d50b32",
+        0xb6f15f20de4f5026L,
+        "3347b628150100f092e7bd99e913");
+    builder.add(
+        "413fdc963fe19ef9b3e134f42d6203f8",
+        "db5284f01fd5c56fac08fdd46185a6ae",
+        0xbf646cf73728f6b2L,
+        "2bbb45e73894b67e0138f76f127f");
+    builder.add(
+        "eb20c8408b367a68b8d66cc48e60bfca",
+        "06811307ea445d33d4fd082766d232f9",
+        0x7f96fc88eacb3240L,
+        "34a179a92475d47ae46911b6f21e");
+    builder.add(
+        "affb4e8cb64866302e968e0611a2fcb4",
+        "cda240759d313a8e7f2b68afb998b070",
+        0x629f81baa69601a7L,
+        "0171d46f7bbebc5d11f32c7d4190");
+    builder.add(
+        "4f10ebe91bc2a1845d2aa7984e35e4a0",
+        "3d1de667831c90b0489c829194499106",
+        0x2d4ce22005b3982dL,
+        "237e1327f7e7fee954293728f78a3b");
+    builder.add(
+        "6ff065c6527257183a5eb624c0432334",
+        "6c57fea9fd88d716e021ef1a38e5a205",
+        0x8388677cca3af893L,
+        "cf06fe331e71da1041548cc18ef0c0");
+    builder.add(
+        "edac0a30e2347cfb62b1b9428de3676a",
+        "f9e226464c00db62f2619f24ebae6ada",
+        0x57f2a0eaa717cca8L,
+        "acc67f91dbba1f54f92c801c2fac66");
+    builder.add(
+        "1bd839dfc5e739c22ba8ca1c71f40b04",
+        "027665eee6bbd1f671220187aa89b235",
+        0x307019176f030b45L,
+        "ca93e1c37f666b702dd5aa84f826f9");
+    builder.add(
+        "4bffe5db0552474dc9f60bade8129c4c",
+        "82f42bef03e5de0dab265cfdd1133dbf",
+        0x8b9ba334447d464cL,
+        "afb038eb61a6c53d416be6b44e7be1");
+    builder.add(
+        "701da36d127706bae4e51547cd6281b7",
+        "78f21b6e378c2581908157edf1f0e08a",
+        0x18d99baf177c1421L,
+        "76f866d0bd1fcdc85064ee546c1431");
+    builder.add(
+        "bbe9a79ee0488e4f6ed3c2cd173b2aa2",
+        "1fcaa4189b7de7e99290418dec5eed34",
+        0x10fb729ab6bb3dd4L,
+        "652292ccf405bf3ddcaf9c82062a79");
+    builder.add(
+        "1438bf8a069fe025fb7410688c0b8369",
+        "bbbb337b2758cba3ec1d2a306ea29e3b",
+        0x044f0967ffb22d1eL,
+        "3ad8039b19377ac206a6d819f8c6ad");
+    builder.add(
+        "d24bf668ac54616b188a9795b1453e86",
+        "c03e29c48e117e8085968be07bf2799c",
+        0x9383b82b5ddbf0e4L,
+        "2d1bd43fc19d66d678004c7e26f51e");
+    builder.add(
+        "b7b9e2ef514ac7c753ba104fb801d756",
+        "d0278d769a095b372e2e2da9f71dd56a",
+        0xf46be3a6481d746cL,
+        "0de84b774463bede3d6540421f577a");
+    builder.add(
+        "135ea5f46f30a80c5fed105751722670",
+        "69bf0df618dd3db84a1332cd8c715c56",
+        0xb47b05ca5e197be8L,
+        "7f188241d0df63221fd5aff7cd56e251");
+    builder.add(
+        "71e7cbc9403cf6b28aa3635631a52b4c",
+        "f24a878e057725dc2f100302c5f85d67",
+        0x8e223a5bdf3209d5L,
+        "cd6fa591f0c122cdc3d46bb55ba4a7d3");
+    builder.add(
+        "20842553cedb99140ed2afefef82b221",
+        "e48c583cf8a82e999a3617f785a45142",
+        0x63e321ed71e2e1d1L,
+        "1ceeff4d025888c10574c6fdd91e9a37");
+    builder.add(
+        "57264bc2b61244ae7cd5141f335091e1",
+        "aba89cecb37f7e75f170ed3965c35ab8",
+        0x5c45e6b18f3b55f4L,
+        "fb713f5813b3d30a85679205b1205d03");
+    builder.add(
+        "742ca4d165669b6a82a970d0f9c47f8a",
+        "c17a17ef2cb35b612a54d3f826e479b1",
+        0x476e9f8b235ddc6dL,
+        "d72b390bf38202b274d47a8d043fe928");
+    builder.add(
+        "0a3647fd5e6b36000ebb1e7f88e34127",
+        "b8bfc0c42985f85d2a446bf92c3fe5ed",
+        0x56acc9019d97b7d8L,
+        "007be90db1a59bc01cc4232fe3a10c6b");
+    builder.add(
+        "223223020775a6b6010b1c71ed7d387f",
+        "22f62a89f36d30a3b0ebbcef294e143f",
+        0x98d41ddb322e6ed0L,
+        "cf20a6028cf2f068baed3847f4e652b2");
+    builder.add(
+        "45e811c7be272a3209a8bd77a24ed26e",
+        "1e2194391c8b13ad6104bf8f04f8ba4c",
+        0xed4b77a264ed270bL,
+        "97ea8ffa6682da6e70bced109af9a80b");
+    builder.add(
+        "67db9703d2831eb4691a44df66d56000",
+        "7c9a4b25051f6ea7fa25951d45bf47fa",
+        0xd5aacdaae135834cL,
+        "b1baf505bb2f86f8bdfa09072d3b3e2d");
+    builder.add(
+        "8a8aacbf8e3a61a19c5cd1c486b060f6",
+        "10d1962b987d50ef358e3bf5d7e8a7a8",
+        0x1d54bf7bbc8c8898L,
+        "95c6b6b14a59a6d141ab0aa7cc02f37c");
+    builder.add(
+        "f788297ebbfa2fd947aea7256177e7cf",
+        "ca8c5cb203e4fbb42c1c54a5114c415b",
+        0xdd3053582a64eb21L,
+        "9b35ffedcbb2054116331428ffe7ac30b9");
+    builder.add(
+        "eca8058683ac69d6b23e08a2a9b3c002",
+        "44f88d47524e6d2a8246080fac5d1cf9",
+        0x3c13047ab6d007f2L,
+        "b6d5f78617415124eb32897529b817490a");
+    builder.add(
+        "e4e45e91a5fedf2dba42947af5f05491",
+        "eee49cab337d865d2839cb2a7b6bbeaf",
+        0xc142727b7346ad7eL,
+        "a5bc2521c7eb4343f000634a29639f99d4");
+    builder.add(
+        "637f01b16b6b7e544dfd8eade9baeff1",
+        "52a5e9420e528bac7902d810cc8c7987",
+        0x1f75018829d02629L,
+        "27700219ea3390cbd9c134035f92c38cd4");
+    builder.add(
+        "9a307c8474ef371919f83b0f03a0defb",
+        "bdfb13b1985de8e8e45eb3cb66a9d4c2",
+        0x11449727f5d60543L,
+        "37e5154ad3891bcaccb1ec5452da911a96");
+    builder.add(
+        "6667f909fa6417fc867165690162fa76",
+        "629c834dc5c1f779d15af078de55ff2d",
+        0xfa9ec39f2f492b42L,
+        "71ebce62ac3ff423f52ea76486840933a3");
+    builder.add(
+        "5ef8b3bfe1833e9703ddb3720b21e404",
+        "1abed489975be5418d2367ecd04a55e7",
+        0x19a36edf79ee007aL,
+        "378cd653374ca299412cafa6045d06cc9a");
+    builder.add(
+        "935c535742e9a2f5ec913382778b6fd6",
+        "0d7f50a4da4b537246324fe71258f49d",
+        0xa34b52b916933becL,
+        "aa11810eaac6380a4d22ccd4fd95af601c");
+    builder.add(
+        "5a564132b21e1d1d91e01f2a48f6ec64",
+        "09dc3c8b6ce60dab910ab78d7d8e31af",
+        0xd36e147a10cab0ccL,
+        "2cf3324401e2de5ce933bf56dd88ef9515");
+    builder.add(
+        "901bee606464933c66f771351194a80c",
+        "7c7094d0687225c4d339947b761e47e9",
+        0xae50b8e8965c0409L,
+        "bc8ce559da592d914d1b727f76405c7c36");
+    builder.add(
+        "17a1ef2befd1d0dd4124b7d5ea2b8d19",
+        "48f8fc8455f67b250dfc6a49c62a4e5e",
+        0x3863d2d9125f95fbL,
+        "e85839784fb0e2248064916e5daa5c1adcc8");
+    builder.add(
+        "0157b0ecde9b4b2a9b3bf1f3b4382648",
+        "7551c48921f6da959201de4c28c235bf",
+        0xfe5193ef48bc3fdaL,
+        "911a064a4928fd5ff6eb005c683f2799cf5c");
+    builder.add(
+        "f253f08780e731c8fd1d02241834a893",
+        "97c9099b6bc5af38c188c2ff702548b9",
+        0x5b5a786c0dc5bd39L,
+        "3c495cb8c2902e74d0e2373f0cd09447df01");
+    builder.add(
+        "ab2eb688cf18737f1ead6e86c2cae7fe",
+        "3619089d18ff6ea7946374ce143687d3",
+        0x271191ac5f0f6615L,
+        "e359237ac7e5c342291c5892bca1d2f9c7fe");
+    builder.add(
+        "32db9298b5280279e154cf0cf666bf3e",
+        "19a4b453ce03e43663903527cec95941",
+        0x0418da921e71bd99L,
+        "1b5b9ed3aec56334b36062ca6a51a4dc9f1c");
+    builder.add(
+        "fb20e1a51559675e4e1d738ca006c528",
+        "56792e88f8e0f3e931c78993c1ca6d09",
+        0x602769eeaee50872L,
+        "35101a3b570c6c28d2fac5c52bb4896b6485");
+    builder.add(
+        "e44b0e1bdc619fb689fcad780ccf37a5",
+        "4ebe17aebaa83faff70488d8992ad0fc",
+        0x28a1259317a7a5caL,
+        "5156968f5d250b58de6b2dbea8d148d5f34a");
+    builder.add(
+        "bd2c96584243f421b1f4ab13452695a9",
+        "41ed90291aed1a27dd32b7950ad2e0eb",
+        0xe99832292e4f9c68L,
+        "f292489b374b5eb830d1ada6ef7339d0263f");
+    builder.add(
+        "a1eb3c70562e532af8b29854becd59b0",
+        "6af04a966928b1339a83ba1dfe686bd5",
+        0xefee0c5a7d1e1f30L,
+        "1d2c2c12618e90378a6de05437621e7012cf");
+    builder.add(
+        "eac03182471e7f3043a599035eaf0bab",
+        "d1cc11abce615a064b93f5c9d745d30c",
+        0x0a019fe4eb8d02d2L,
+        "3d65de0bc851c97572d02a8d9603f71aca49");
+    builder.add(
+        "0a1c7c6370a97b916e970309905653a2",
+        "b414368ad6f3ac1054f8314cfe7250f2",
+        0x818c7b61be8a6704L,
+        "bd3b8f39bd22f0242e7e060b8f1c6f75d22578");
+    builder.add(
+        "26e3bfb4d7c0f1df1b4937a34a64a526",
+        "dffb1671644f48d751dc63788e8880ae",
+        0xd79f9a9449a97cc9L,
+        "7938c6498276a91106c2642d5cf5441449db58");
+    builder.add(
+        "dd5192f2067e4d42d27e2584b05640ee",
+        "f37084e6267e035a5ae11a9fa9cfb146",
+        0xe270d87ba2dcd82cL,
+        "d0ed6e2e9f5cc3e29783a867943608c7425f8f");
+    builder.add(
+        "da10f3cff6e6d3a020d10e992f523d97",
+        "4512a7df80c34a3256d0c960d8d67f6e",
+        0x360ebc0b62fcb05fL,
+        "0384fe338e6f981f1bbcea8ddf91bc78f91ce7");
+    builder.add(
+        "722124db3fb7207c42fc5ee735401747",
+        "e272823c452249f0f25f94d9a28da0d7",
+        0x7618301c59c23bccL,
+        "770cbda7d5d9619d52b021959a56ffcab03bfd");
+    builder.add(
+        "dc2713845a34f833fe9f4f505b1c3332",
+        "143ae27d0152a05ac97fb8da73b91704",
+        0xab44451fcb5fd3acL,
+        "3043dbbd35e179d27bbffc5371f7ef8b30fb9b");
+    builder.add(
+        "9359c6b6e8cdfe7ec13bfb622583e7b2",
+        "f3f95da359943b0712a654c16f0cd7eb",
+        0xe61c888f7b5e48b8L,
+        "0e8902df5a1d2a69353caf870443ea346bf3c0");
+    builder.add(
+        "c253190800f5c0b8e2a8004a7d2c7f86",
+        "e4c34cfb2a7f95748f5a934804a3bbf7",
+        0xa0b20c9d6a8d3573L,
+        "cdbc3ecd7785bbc6c2f0ce2bcf37a3f4185b48");
+    builder.add(
+        "757dc9af53adad0b27771061847159af",
+        "de07d1465edd3e12c07c6561ef999506",
+        0x72043b873ff577c0L,
+        "3c07a15c86fc291cec1764bd70a6d9aaf9bde7");
+    builder.add(
+        "31ea8699fd0d636fb6f820c73cbc115f",
+        "defc31101675b7fdbe70c398810349c0",
+        0x5ea1acb2d7d3b581L,
+        "bf5aa898f08f46c8b324f10a14a40906619835");
+    builder.add(
+        "a179d9817d6f85c8122a99de755395ef",
+        "abed7ba288439cc6576e055fe22e459a",
+        0x8bb317fae5d5f89aL,
+        "46ca317fa5f47839cd155fc360d517185f4f3275");
+    builder.add(
+        "db245c02f4e5298dcae2db58e10e9e89",
+        "95317e81e7b430f3a590bf89a6761a23",
+        0x460151d02d0b5920L,
+        "a2313bc636ca253611b7e85454315cfa69ecab10");
+    builder.add(
+        "d672ba4f28cddbb85231c79b35ffa589",
+        "100c1a78888ad9ea661c44443c07583a",
+        0xe3bbd4ccccca9167L,
+        "8123f1cbd4a945fd45398287566e9e97f0c848a0");
+    builder.add(
+        "2568cb18c54a3667c754e5306b5d5ffc",
+        "6668185891583cac76fe1b0c61937630",
+        0x0cb9bd165dcabfc6L,
+        "023da7f39aaa8fb6b4839e9b644641d87360a615");
+    builder.add(
+        "f3f4ba6da09597f4272cf88ff1608323",
+        "9e7ee15aff523e5bd4ca4d06c69557e6",
+        0xae75dd143b686365L,
+        "0bc568dbcf491bcad270db648eef87c3ba816af3");
+    builder.add(
+        "3731e6d6a88969286582b4d9d5e5e653",
+        "7ca9502f5aab6ae04ec67ab692743317",
+        0xf2205b19b6d0e44eL,
+        "707443e4f61d47df44520d4535992c4c7e6d4f3e");
+    builder.add(
+        "deaca6c9a8ecedb7806cc9549e691522",
+        "894d33015a2d1e3e8654e8c0c17f7834",
+        0xb27c7be39a6787b3L,
+        "0a3c593787f31cc4cf2aaee74cd1d503c94a701b");
+    builder.add(
+        "acab40c7002e1b7f1dfaa9e32a538c42",
+        "481cae6028dca6c3a5728735eda73386",
+        0x29fa45a7f55ead79L,
+        "67f49d9f53954d79a2d2f2fd122a5248eb331b63");
+    builder.add(
+        "e6bf2672dacbedee775fa3162fe712e4",
+        "7fbabeacf4374ffccaf2245d80748334",
+        0x7cc7d509a0679ffdL,
+        "e8a50c3aecf0ffb8c4daa32bf9fe1315da034a6d");
+    builder.add(
+        "a8cf63c3cc8d8562c86c5a3d459fa867",
+        "c7a7ca9eb192f252605dc1aba548039d",
+        0x53be79b49b507554L,
+        "6acf93db0fbdadeae708e5aec722c6bee6be4fa8");
+    builder.add(
+        "bf211e1d207c0e699570a1c9ee81863f",
+        "133ec70b3ddb345e7513694233ade47c",
+        0x6e67cf78117e5cb3L,
+        "65310c459c29091bd145f6d664d52730a91fb89228");
+    builder.add(
+        "521d7d1659ebf31f03ef21ae3b4dbed8",
+        "4906de81d9ec82299a7d3d94d5e0552a",
+        0xf1cb150d33445adeL,
+        "c2110848dca72f7dc0b2c430d8f535a75bba1d3bb0");
+    builder.add(
+        "f17c014e464d0c91246bce8b02afdc41",
+        "dcd37aafdb31c94aea2e083054f102ae",
+        0x55349376a7e8640aL,
+        "e5cb39b683ffbeca46c819be0ffd2b46b900ac18d9");
+    builder.add(
+        "0dc703b67ce75e6f1964732898b38fff",
+        "7f718145f6506fed49e7284ba746016e",
+        0x33e157d542bf1f44L,
+        "cc13b6c9914948210cf78c224b6dd5e2f59714599c");
+    builder.add(
+        "17c150b84b177f3be236a4279eb7bfcb",
+        "495020d30e38744df466c8dd1f3968f2",
+        0xe7edab7aadba2b6fL,
+        "42fb6260f6b60943c82b219cb8735fd8fa20cbaa2f");
+    builder.add(
+        "5f1aaad5b7e5c10de8e0c0394660e567",
+        "78b46407af5077e8421677aee851c19c",
+        0x9b83cee065dcb889L,
+        "8d1f84a708aa95e2582051799ee88002b02a76439e");
+    builder.add(
+        "80c9e8c0c5592b7afdf510b4af87ba4c",
+        "e58c847c181f393ebfba6a389eabd2d9",
+        0xc1a6a7c9e63dd26aL,
+        "9e72a56d005a8412712aa42c56afd13391d28d2066");
+    builder.add(
+        "b95597e4dc86e216312bfadc148f22de",
+        "e94cf54124e21e9f471c34e81846e93a",
+        0x1c5195b99d46a32bL,
+        "cb699e4c8729b9fd0cbd16e8c7adbde6a043f6eeba");
+    builder.add(
+        "3a40ca6a9f0953c8baff7fe81e6bfa4b",
+        "d12a00c71dca3fad27b8efa35f61bf4d",
+        0x9f815f35ee1ce4d3L,
+        "c2423de31fd3315fafb41ddccf34dcc037e040ef3b");
+    builder.add(
+        "b6ea1b1618a63686446027ccb39c90bd",
+        "ca30df243fd82dc0a60aa607a1d67eb9",
+        0x561a7bd1a6f641efL,
+        "bf1feb2ded807311887663d5203948be91ec1915bd");
+    builder.add(
+        "973a002680f5a9d4ce2730bcae5d3e23",
+        "bc75df23614e77bd25096135bab21875",
+        0x6a204fd24675acbfL,
+        "bcda58a959847fd25238503b4ddbf8ff14c025018e08");
+    builder.add(
+        "6055c0683a51f8143b51226149afa4cd",
+        "5dab83b600c1a0e48dc082ee140a48d3",
+        0x112fe9fc84ecb18bL,
+        "2b36935bb6b3f05d1e828b93d3f0e8a835aa35e6627e");
+    builder.add(
+        "0b19bdfef4dbbcfb7ad22007a037f2bd",
+        "bbd03be57407fb220691a021c847c579",
+        0x1ae9a12179110f78L,
+        "bd7fdbc8e344dce5ae71245b9070494afca6e983441c");
+    builder.add(
+        "0a4126a894db66c4f05def71ca98c3c8",
+        "3dcaa8dee269a8761fe2430c6fbba021",
+        0x4701f2e2b1b2c123L,
+        "b4c9e27581b9ee5d74a2f205ae5f062cf2aac88e1743");
+    builder.add(
+        "1b5bdb16691e148256275e3c375ad744",
+        "d1da1bd9701336eab5ba6a1ecedfd033",
+        0x905398a0a020b1e1L,
+        "4d388e3881521517973cc28c52f5bb885a1a59097f04");
+    builder.add(
+        "3c45f9ecc0936fcec7eb82627cbb4ad0",
+        "57d20e878ef5e79460cdd21e88f8e731",
+        0x298f06080258b8e5L,
+        "95609251bc83057ee597e1c2e82d42a012aa69a7e32d");
+    builder.add(
+        "85057175de59f3dbaccebc214d6876f5",
+        "aba54fd4c2c5790e6f1013af4a3e8465",
+        0x787c10decefb9f55L,
+        "a510faf6b82f62a6bdf52a65d45f19653cbb4bd22ef3");
+    builder.add(
+        "a7ceaebbfbb216f2cd467bb287aef087",
+        "d2d2d61740ed95abc2c011248187bd00",
+        0x9bcf87f3a8dc77b4L,
+        "c7442f27d83d74b84a74be1cfedab11c648e910ee21a");
+    builder.add(
+        "0ee5e70363940df4ebb654657858e6dd",
+        "8ac00bb54e55963d8aac0818cd3a1a56",
+        0x709786422f6c1123L,
+        "dd8aec027fa6882e9a0e8d3c94f82b633d72d75ef23c");
+    builder.add(
+        "ba3fb84c1565e2cbf4764a3d5f533ce3",
+        "94550d8e6455165435763e5477748f8d",
+        0xee4c76359812dba7L,
+        "5a37346173e9c99db1d3e9f5d097cbad9bb45da7db03");
+    builder.add(
+        "5ebe7787c8efbec85cd00af704fed89b",
+        "806d2fdb5ebea98abb27e77fdcd87044",
+        0x2207c5ba46e62961L,
+        "28229e3ac14452a4a07f605f32202d432c22e3ecaeca0b");
+    builder.add(
+        "8241df8e3ccb56975a67b226a3e10ded",
+        "e5b6137c845933a90af614ccf7d723f7",
+        0xe4112846235d055dL,
+        "93f6f4bf25ee0bd05c7cea194addfe0439cf9ebd10e3dc");
+    builder.add(
+        "7c32a47d8238baa73f45e9dd60d8fa1c",
+        "a9b471f406226d9dd311e624dbdc9c9c",
+        0xdb2adbd73d5bd024L,
+        "35b10edad5161539560def1ff3c9ac5de8f1bbd8155f95");
+    builder.add(
+        "b621e35e6d629d7a81e3d17d401e59ee",
+        "ef8fdda7b4cc6dd7e24abb1b18006542",
+        0x71780d3cfb4616feL,
+        "650973de677d6674e5e9d1db2c9c2bf85c2e8d192cce9e");
+    builder.add(
+        "dbcc1ea1a925a976d0df704abc33a963",
+        "91f7d1af26d85ba12144ac100d0979fd",
+        0x39d28df7421bbe88L,
+        "7786ce0fe7ae112932cca614dad1a8142d2c68b6d4f35a");
+    builder.add(
+        "e878358369791a12aab43b299f658925",
+        "920e050b44d4fae3a4efc880d2bbd6f4",
+        0xd85ff0738d6b191fL,
+        "92c424e4f758411552ed7f322a7babab41d8e1b7c7dfa3");
+    builder.add(
+        "6f70a7a6351d27755ce344121bba0dcb",
+        "1c9ed37f0fa863cda538bd02efc9d7fe",
+        0x636c9aa90e104274L,
+        "934705692bfbf82badd542fbbc3ef00b66e89e221ced67");
+    builder.add(
+        "b3f45fee7c035fdc00044aa5258987a2",
+        "52247431401399d93b870493b32a0473",
+        0xdfddb39c661a39f6L,
+        "ceb4cd4aac685770dfa398d09d7ad8febc0b0be8ebd523");
+    builder.add(
+        "4f7e1a20af94162666aefa8734752005",
+        "d48c55eba7f28ab436b78b36c4fd7c25",
+        0x38ca41a4246a5ee7L,
+        "9de440475d114760f766d65cb3aecdca159a7fdd647e18");
+    builder.add(
+        "683eebb46230c1c599c5065ffdcc52fe",
+        "074d987eb77fe84cb0afb1d026871559",
+        0xfc8547bb92fb474bL,
+        "ffbef694a98c9e33538d6cbddda16295977d56660fc9b4");
+    builder.add(
+        "6b9ea2d37f93ba13615ba15705072b48",
+        "20bf4d2cf30fd9bea1199737e763fd62",
+        0x7abb223afce0a235L,
+        "caf6e2e181bb6f4aba1d50d7d3c681a249ebda816f092146");
+    builder.add(
+        "0ca19e41e9ca04ff12f6bd7459caaccd",
+        "cd7995c755576daab765830057546d42",
+        0x3dbfa7453727d9a8L,
+        "ef11b5bc50536421728a1d7819f41f91f1c747cd472b1304");
+    builder.add(
+        "5199e5459917ed96316052e143ba0419",
+        "381b16f798263e9d7ab3a6b16c2c3c7f",
+        0x3e5531263f165f86L,
+        "6845528ae1f2d8361dfc02e73dc2636f0ae7b065f599dd2a");
+    builder.add(
+        "c0b818f2c53d57ec4fe93f0dfc590bf4",
+        "bbf9249c82e2b701c53e5249f6d455b9",
+        0xca27916467eee186L,
+        "defdc0e9d0422ba8c6fd7181d17ef879ce57c240c9be4b13");
+    builder.add(
+        "53351f0d188ed52e15ece7c76b92e831",
+        "484a795a1a43e7b56c0dbd2e224d14b9",
+        0xe0a54aea658cc7ddL,
+        "65d022dd23cdc8235cedce16be8b4bf7a73a70bea4056d39");
+    builder.add(
+        "f6ae809b8c628b9bc133424a77efa2ac",
+        "3a5c0fceb88e389a1f6e69612f4b1c81",
+        0x3ce9fc7d4b07e346L,
+        "95da2960783fce5e9b390eb373f17f4275c799602be2026b");
+    builder.add(
+        "f850bfe06a702ebb0ec431a35f2f0bf0",
+        "3b4671e87e02b300e1ec2f1b053a9eb7",
+        0x753426cd58ed5550L,
+        "a64958db7853695263447a12ff071e9f5fcbab8052ae2978");
+    builder.add(
+        "c428c41262ebea41d5b0fbfb28cf7b9d",
+        "d57db1867cb59d93b42b40e763b39ad1",
+        0xcad13e5fcd4efe0aL,
+        "48f1e7b99fefff7e0e222782de7dbaba2e0129454fe20102");
+    builder.add(
+        "25df98c1a914a5e31783c0a172dccdc8",
+        "d6363594ad8043884d0b5cdd4951c232",
+        0xb38fe8384abfe579L,
+        "e4c9b4c7d68227e7111bc9b38af93933bcfeeda4a5d533fa");
+    builder.add(
+        "e0c3141653f97f8ba4ac78755df0ce6b",
+        "3e86173cd63d7155d5196aabafb2c167",
+        0x02b99f0fd1e2691fL,
+        "ac5b27ee02acee85798b38874b141675874e8d9b0d351546");
+    builder.add(
+        "824d6b4f0f8201e77ea866c44276e1e5",
+        "9625a9fd7671e8d934e14b6737f480ba",
+        0x1d32926a7b1f22ceL,
+        "c1cef3bea8f14f21afe9adf8d3cf24ad167b4e777d7a9b2894");
+    builder.add(
+        "df01f934cd0428459a831536a6bfea1f",
+        "600510751fda49bb9afd5ede0e755521",
+        0x74f830859ab09837L,
+        "9b8a35c8640c3f9e0a20e91e98011a2364c470899fd81c7091");
+    builder.add(
+        "40855571e792529ecaebe8e6df57807f",
+        "b6e1c7fbc9872438546a94ea453acc1f",
+        0xe3323986e2ec6ee6L,
+        "60023a14b0114dea85f238cd15b958378c03a4538ad4c112cf");
+    builder.add(
+        "b76b5255488ca410e6631d8280a58ab1",
+        "860c987c8b6fc1bd32a846e133c31e22",
+        0xd3b4a509443b5cfdL,
+        "e788ae269d76b8b946b7f229326511192b2b0ebbfe0212b7e6");
+    builder.add(
+        "6c222fab2d45aec610832a7dacb0d5d0",
+        "854ed201b96656b16f3f772214c51df8",
+        0xfcee3cadf038af07L,
+        "a57075ca151629c6db147d0089b163c6889e08c647b4557588");
+    builder.add(
+        "f415243b781a3183320c29f127a036bb",
+        "0c0856062b6aa87ced266fa648a985d0",
+        0x437c89061e9be730L,
+        "301deb2c5fe0cc483218a39d9e7070c61364914eedeeb263be");
+    builder.add(
+        "cebc0e71ba5a9f1e635724bb6974ebbe",
+        "a14dd427cacf6f2a886bf7dee496ef53",
+        0x8e23d1c74f285f95L,
+        "11515bcc63252e71324e6255de80e7bf9753c7b3fdcc249f91");
+    builder.add(
+        "8e8fa40b0bbac386b841dd45cb31f478",
+        "b5368c1d9bd65cd22b4624afbf6d93a3",
+        0x066754651c4a792fL,
+        "4154b66be22cd4d2e59f7065242dde4a699a2102e665faca86");
+    builder.add(
+        "5a19e7225813c3755ee2878939631ac6",
+        "80f7cffb7b9ed5a775a26dbfaf51c487",
+        0x3b3382cb8f3ee4ccL,
+        "5f58f60898c3252abe346e6f1bdc8feeb3a2210ba98a53a29b");
+    builder.add(
+        "42f3a0830c3b1cc378703feca85e7fd2",
+        "7961ed078859ccb1d82b0633807f31c5",
+        0xb3cf1a9d777d4fd4L,
+        "102fae74a887a68f8d44128191c1f6dc3d2a865398920f109b");
+    builder.add(
+        "19f3b0b8c9aca4759f44073e44638509",
+        "ee3a3e0270530bcfabf7dcb80da34afe",
+        0x652925f1231af494L,
+        "d65e98f2ccc6b64eff5c5420953e88aabc8cf8a9fec638acdba6");
+    builder.add(
+        "8b9c9083364ca5681b6dfc22e1a9f527",
+        "e8a4e8db25d3a6f968d141f2e8881eec",
+        0x3486eca7498d6673L,
+        "d07c676b0fb7496327d86adcee4ceb2d8b50b0fbd83ad212d1b6");
+    builder.add(
+        "bd15fa434db75637c4e2338060f27b64",
+        "deddf11ab40e7b2319bca2c5b5eccfdc",
+        0x56ca5d31dc1a21b9L,
+        "60e0aec16ec8e3830525b3d536b9fc9880134386c20dd71f8570");
+    builder.add(
+        "cfedaea043898466d0d185501076de76",
+        "e18d26598e8fa07f26f2692fe1ac7109",
+        0x543e3c46dc7ed6b2L,
+        "a2a8961d71967127173de2e9e3fe0d78017c864dec27f1f74aae");
+    builder.add(
+        "ecd38c505b399d0adb481b031311bf8e",
+        "bbe24b9a8f6ef4254780849a558c4414",
+        0xdb40593ee79edda1L,
+        "5d18b72fad2950d81ddc32e9f7f70bdbcfb5c3a968fdfdda4652");
+    builder.add(
+        "6fcc350bd59649d03abc947f66514ebe",
+        "932fa9d4dcacbc458fd0c8b9c1f28a14",
+        0xcba07f540f85674aL,
+        "24c0736eeab2e832e945946031a79db6c7bbcfaab7040b9009e7");
+    builder.add(
+        "b6035755ec303804f6764ee8d758b109",
+        "1212435fc9229ad09bc004acc621a03d",
+        0x4346dd9fc02c6037L,
+        "b7adeb128b02ad9e18627e56a91d6a3473fc882fc123c8e68cda");
+    builder.add(
+        "e5886cb82b7b8a897e8a29af46f3e930",
+        "8edf2fca4cec65f00486d09c27a8bbe6",
+        0x55163c06fa39bea8L,
+        "f95375e39df4c4c53991b19e9590ae79bab3fdad0c71297ec47a");
+    builder.add(
+        "567e53516c8e94d51a923ebaae015792",
+        "26888e449870882cd5043cc052f9b7d3",
+        0x1fdb8a339fbcd409L,
+        "0dab8706ae365c3388f6828552e3390c53853999e6494150bef5");
+    builder.add(
+        "280a18846a92cd078ded59c36b9fa17d",
+        "4ada0db505e101a60ae0926e8f23eff0",
+        0x5c8127cd10b13dbfL,
+        "574d5bce1d9a12640615582a25ec05c9106867aa590bc5831576");
+    builder.add(
+        "1895d9367c89c5208f235fa05877da99",
+        "29e025cdfc8ac50def85e30605edcb27",
+        0x79a916300f74c9cfL,
+        "9f897b10d362be494e6675283cea6b24d7b42558b5875d7ce223da");
+    builder.add(
+        "511acbf3ce91e044ecc3225b254ccd59",
+        "d4ace51eef4997d52801f761407d6285",
+        0x47ee6900d373ffc9L,
+        "b06346a45caad6da8b9f22cdf3f80a72c039fb38ed0e89503dfe19");
+    builder.add(
+        "900be6077afa38fa036ccb695614352f",
+        "6b4fcfa1ad4c46147f2d912bb0e01a13",
+        0xd5c80234d70b556cL,
+        "8fcbe71a140f0b4ef7ebcb008f212ddf7d6e037a9af3b984b89695");
+    builder.add(
+        "dbd40d31813f50d5ef69437a36c0e5b0",
+        "4d800fc3f9bce77367571213e180b89e",
+        0x0a39e84b5bdb6f05L,
+        "85afafbf3072f59f2a06301f2cf69470c21e1bf6913a7e795df1c8");
+    builder.add(
+        "b535b2748de7c6de85946589983eae17",
+        "b78b5e59971cbf3a7b7040444c27493a",
+        0x04e1ad842081b7d2L,
+        "6aa1178391c709897d6627158c33ff3c767a81f37706cdb010c8cf");
+    builder.add(
+        "280146fdebb1932d7844225b190a6021",
+        "1ad3336c8641c481bba225a0ff11c0ec",
+        0x7ad316315ecd801eL,
+        "eae256a0583ebaa080541820246b6ba612a2554f96232369b997ab");
+    builder.add(
+        "9ebe2f4e12977b217e22de08e734f506",
+        "bf3a92caf4d55ad50e18336ef7caecd8",
+        0xe8124af3020bad06L,
+        "f88603ddb0136cf3696280ab253bc6792d9432b21d8eba9a637c00");
+    builder.add(
+        "19666a436113d2c239c5cc1560cea07a",
+        "80929b1559d5c812c501996fb7ab02a0",
+        0x3f55a5f1be7601e2L,
+        "24e9e9093cbc4c0cc83ad5dd56cee3bf6cde6c6dc3ea6863ff5d80");
+    builder.add(
+        "dde6db0deaf69582ef228042d4a0713b",
+        "7345d2e9bca5f136a7cf132fcc581c39",
+        0x613480bcaa08c340L,
+        "10da7aa2cbd4a691cddf3505a9a48c2d9e7a86251008f5a2e349ff");
+    builder.add(
+        "a693431cb0d923994b5632f841aff706",
+        "2af7211e969a7dccf11f732398aca3ac",
+        0x27c380254474fe1cL,
+        "b0913590d86bcc3a9071b8b1ecd13d53845f52119da338b6d8aa4e");
+    builder.add(
+        "7d83ceb2e10fe22065485aaf4d84e745",
+        "9084633ae9c30f3f1ed843f961643423",
+        0x8a778d7793760e7dL,
+        "9b26bf3d860a313c68d6ce35d3fe7357cdf54445bc2cdd532dad2a26");
+    builder.add(
+        "d31ccfc653cb72d463e7e367cd9807f9",
+        "ebf183982b0767fa0cd1c63b72481ca3",
+        0x161698b11c7eeaa8L,
+        "9873926bb00c55979abb5f2e61d748549ecc0652e70be39929ec455d");
+    builder.add(
+        "a6a96e242d3dafd555b03ef74e374aa9",
+        "ea73eb82e48ddc6a23cf93407b07a590",
+        0x4336e150f4314813L,
+        "beda38cecbbe2c28c52801daa0870e364ee54b6d98391c4e477fc0ad");
+    builder.add(
+        "1f92d5ccee40d0c104267b27e9d5f187",
+        "3180d5ce0f897c22a94d9a45ec98b9ab",
+        0x0ed73f4280466e50L,
+        "dcff53b522ef3681c70214dceefec5ef86432fd91544df15975da937");
+    builder.add(
+        "42a45b7f05e77118e4b5328a40330406",
+        "7c425760f8d19cf6fb889760b330b97a",
+        0x4a88c9ce53a3c13aL,
+        "7dff6c6f91d03c51acefbdd01ca4d94a123b6a39bafea3751ce6f637");
+    builder.add(
+        "9c5dc9237fef0b6467d2da629add608f",
+        "cc590ef221db80593ade9e9943052071",
+        0x960f206ff59b548cL,
+        "cf85bd534f1cbb91b7400a01298bde1d32d7d1980c2f28c9fcbec130");
+    builder.add(
+        "2f3f18c2f86d8f4c93f3a7442a917eab",
+        "a1f2b4880da4feb78d21c95e46dd6b3a",
+        0x850cff7ce09d1dbdL,
+        "8fc62fc047819010cd74a2928945c4d943f5bb62607c6a6aaf76024c");
+    builder.add(
+        "f9b8d2311e86ce7489598125beb3c2cd",
+        "dee6a3ea1e2597c6f7df7cf9e8779983",
+        0xbd434eb3256b8d8cL,
+        "dc2eb918f1dcf23391792cb82412a85523e1f513ca501e644cc8838e");
+    builder.add(
+        "f7de302c4489bc1792c6ea4d26e07ab0",
+        "3bb4b89c8f0fbdac2892bcb295e10886",
+        0x0cbe938eef7eb236L,
+        "2731454cbae493586354586827f44ec5a8611d78d860950531f0c4ec");
+    builder.add(
+        "380515ebc82b4435bacbdb3b27c9159c",
+        "fee53df22ff91b837f0e633963d484d4",
+        0x5a73c5297333468dL,
+        "e3b37c5562a4bea07aa632e9a3fb23dd822040abf3d6bb1e9f3ac031");
+    builder.add(
+        "f3d6ea8c2a107718e11e337fa0bec982",
+        "f59fd17312d06732dac417d79c5b9d50",
+        0x43a5901578c5d136L,
+        "d40a5bc515817793dc611f0210f9d7f56fb451927e56b6918eb2e47a5b");
+    builder.add(
+        "032e3271961cfdf18a1b48294e6b9486",
+        "11317643529e7b9770f375a0038df044",
+        0x08a6c2dbdb2c33c7L,
+        "417d16eb4fd6fb73ac227e8e383be19487d9de12bb61fe20e3b4a0e05a");
+    builder.add(
+        "88b741624fcdf17c8d7c22425e1ebda2",
+        "10e626b95aeff2b0b34fda60d414fb7c",
+        0x39903857af012427L,
+        "64bce9f7d8d712904c1449beaa6f2893a45965f65c89f379b2ea6c1deb");
+    builder.add(
+        "479c640b37abc6431d70173d6ad356e2",
+        "a7bd769aaaeba47b5aaf1fd56e772172",
+        0xc971fe1f67496d64L,
+        "a4221f5f82e6d63619393cb3acb0ce02cd9337e597b3cd664570481457");
+    builder.add(
+        "f2d8756b552ce4997875130054650d8e",
+        "b0145e529d448a14ff05dcebfdf81d70",
+        0x34e59118637a8359L,
+        "2e16897610aceabf484804b4bddcca7def901917ca96364abd1607f5da");
+    builder.add(
+        "bab62553b54a89dd769679eca97cd349",
+        "efdaa0f20914e3a12b2d0f000fe50305",
+        0xd2f6bcd76e292600L,
+        "9dbc3101fcb79cff5ec1a33b8d058f39659715f65978540e9dc4bfa78b");
+    builder.add(
+        "5e94611e89ec91f6a9d78e6eb06bca6b",
+        "48eb3111a04269f9383300bf8921b72a",
+        0x1d681ef044ac5eb4L,
+        "8a211798d3d719fa6cb43ee47d58eb0096449f8281477cc137faa193e2");
+    builder.add(
+        "fe68b838e49cc1507a35f2cbcf3ca0ce",
+        "7bf5e18a6eda40691fce4849af6df0d7",
+        0x11296242a086951dL,
+        "4706ef2253e49cde02184d1d7ae26fae9d455e7324edcfe81d4c2659e8");
+    builder.add(
+        "3d0b5866155f4ba5705c910b27af46d6",
+        "d316b76c95fdac54a9ee45a375681183",
+        0xacde48b90906a254L,
+        "1ae5f9b16fcb7aaab396ef364100aeb18a6bb59752a507f2ffaa5269f5");
+    builder.add(
+        "7abffea929997a95c3cb5b7740d15ac0",
+        "88b79a0a05e1a0204862ac783c5bd303",
+        0x51d57de89f3a23d9L,
+        "4d6777b9bb354e3801c6997a0c20aa84d5aaca04be9a096d2d7af10b4f");
+    builder.add(
+        "3ca1f84d488b82250385d8cedc1cb8c0",
+        "c81ab3eba7f395c64243c7baeb0fda2a",
+        0x1649ff1f74cb0f0dL,
+        "6efac8c5e8f37fffc2a7a10360cff7326f744deb744996e5bdf3734b1e58");
+    builder.add(
+        "f3f627d8403160eff21fbf9ed5ad0751",
+        "6a045e25ffdea810dd186d840276191c",
+        0x3dc2446620ca53c7L,
+        "9c47293e24bf086b0fa827a4f5c93a3b84cb74892059597fbb16502bba1d");
+    builder.add(
+        "4be70d383a24090acd3c436f5a712578",
+        "46728521c64a916d991290f45fb3af05",
+        0x048d8176371ab5adL,
+        "630938fc07ca8f111b53a4a0e845a41f92644f76e8fbd905591363c8835a");
+    builder.add(
+        "d431fd369de1ad7bb4efd3c3e4901dda",
+        "8057ec73586eb94040d78215e1840ee3",
+        0xaafaae3073f9e301L,
+        "4c9a6fdc74b4ac60c68a9548b5fe2d4b77cb771b961db1464de93c1dd4e3");
+    builder.add(
+        "7db7ca48388d2c8f4243b43c7236ef82",
+        "4cb79bf418d039375fa945cfd30228ec",
+        0xb9fd4f941669cb20L,
+        "383250e8e5d880747fd9bee845bf46810d53583dbb96f9b6f4d755cd25cd");
+    builder.add(
+        "4728a2c8a04a49656f463786bfdaafdb",
+        "bd6d4e2bf1de48a9074037f145f8a0aa",
+        0x93ec65d5a713326aL,
+        "eb90d80a470d2fc1ad3282a2837c7c52b3d96060e14be8e36e84a4f83bfa");
+    builder.add(
+        "b9e6a3352081dc34d4cdbfc9edb04daf",
+        "f3ee03149d44c1e630a8054e277d25c0",
+        0x3d1918d7297f68fbL,
+        "8b821d880b71fd68fbcececed52443b25d544a3f2991202dc8f18da390c0");
+    builder.add(
+        "6383e3a3b116d1192dbb15ade48b856d",
+        "2053873337f0116426fff4de66a80740",
+        0x143a0fe71b086600L,
+        "1aae3fa6a713845eb3100f64a4fc788305c040a8dc986d34b42dc7eee521");
+    builder.add(
+        "23cf43ecb8f64d4fdf44a283ba5d87c2",
+        "7a369b33ae74c014daf60a18896720d9",
+        0x0c7599075e5cf3e8L,
+        "3690afbe2ee7a61b04b2fa6cffe0682517cec07366a3ed59bea5af1631d2");
+    builder.add(
+        "09001c8d830c53e0a35d5e7c19af8277",
+        "eb79d30cffdf06931d8f073b15a4f619",
+        0xcc85775db03ad728L,
+        "5292ebd7110fa0589f9fcd749c0bb381e4aef7840c5f49481640c8780776");
+    builder.add(
+        "d90c0e681695fb0e16783b678d6080e6",
+        "91c33ab981b8b978b4166e7df07b7be5",
+        0x174eabd6dea12f90L,
+        "25801c790ebf764801bb7b2ee8d6a37bd4b1e6871613edbe38bfc52739de2d");
+    builder.add(
+        "331e7f7f0dcec0c80a6ea71fcefa7213",
+        "1c393a4336f20e12d4a4c63d224dd45a",
+        0x0e03971f232ac37dL,
+        "0390213f17a32311288e9dcaaefe5dde10695b4d7fe5b0295c8e81f96128c3");
+    builder.add(
+        "814f3ecf7a3d4ccb1e1dd713d9f044bf",
+        "905a4204c2fdde396aa96ce4d5dfe0bb",
+        0xe18d292ead6a69fdL,
+        "431bf5a1e4d947b996c382ac7aa15afa161e2c98198ba12e1abe4b8f95fba3");
+    builder.add(
+        "d38caf46cadd7f90ae6c51480e1340ad",
+        "470769115f1da46e465b9d0d2b8374cd",
+        0xb624d63b1f70d746L,
+        "1f98c695e9fb35ca558cb2d0f81d20e098703575ebc4645b69a8ebf8d62d72");
+    builder.add(
+        "c29e9a12d29bc910767e877e8ddae343",
+        "951ae56cd299bd8087436e9089262418",
+        0x7947a7b3868d3584L,
+        "b49fc6a71056d17d73231a2a9144836082157aa77dce4927c87f9c7a6c4d79");
+    builder.add(
+        "d430420fc981630effd63070998cdb5b",
+        "196e85434ad88aae1883806a627c327b",
+        0xf5f22e3b7d573013L,
+        "a207cd62ac3677ffd226a919d0694dfe9152d9b4c409a09976b705526a520a");
+    builder.add(
+        "320f0ce47ee50700db0e95e0f6117fc2",
+        "a42335451dbd56ba14380594b42f7760",
+        0x609b266f640faac4L,
+        "bab02f86ecf33b740a987501b9fde0664a1637480cadf03561b30fcb433943");
+    builder.add(
+        "da2d1f2f44095aea53fea1743ffbdc87",
+        "9ac221d79a382e4a5fa4e4ccb8a1808c",
+        0x5f93fe6d95f93b39L,
+        "496e14827f17e2b8146bed8889181b5813e151b65760b63a9aa1cfd57696ec");
+    builder.add(
+        "84b28536ec700515ef9644f19c128efc",
+        "e20eb8861af0baaf3e7e6e167a5f5167",
+        0xc6bd282491e7969aL,
+        "2b0b5adb0e8830c3f975e7c213ced7e2b26ae90965768fc551b8c46a0f1b09");
+    builder.add(
+        "3d29777c8e8198df82ec0309d0c8da7a",
+        "1703e73f57cabe11a41c9cef492c4a90",
+        0x1284ef5192312d87L,
+        "488c0ebdd31e23d365279c33dfae642d14c2574fa646a4ba2e3e11894b53cd");
+    builder.add(
+        "68a70e7c7598e3cb71ba52804e2e40d7",
+        "5b54019e0e480b027271a8401f96dca6",
+        0xf88e4ff3b0705a19L,
+        "39394697ca94081a58242f1636f24d333b2fce38dc4f919496aea24175f31959");
+    builder.add(
+        "77cfc8c3af319b578fb2b5ee6420329c",
+        "387c3b6718242266c12586eb7e8a9505",
+        0x2f203a61c0a1dc10L,
+        "34f1cde35b12b40f3b280219ab4e896ce11dbc502f1b9891fd40461843322bf8");
+    builder.add(
+        "93a4111a91efa5bd93c729e9092af485",
+        "3e0a33441f8d463bee79f3babadebde5",
+        0xd2970101f25af197L,
+        "6760e4aa09a7741f45908000726f80c3596b903181167d98042ae61279f3ada4");
+    builder.add(
+        "2c8a49137b3c5b1c317b9fed0be9f286",
+        "0e4fd0c999465f967d3be94e0aff702b",
+        0xdb12ee1c1c19975cL,
+        "b27d95307f09f341c3b3f4ac2d0c5105ec004199bfe67b4bf30fcb8b213b804b");
+    builder.add(
+        "e6d6c54ca90033ae0bd3eb8f2c8afe6c",
+        "7c283906e47a29d4229c79cbda62f34a",
+        0x7a52026816563e20L,
+        "2487d07718e442fd1887326b86a5f401923dc2b7b119798a9334c0ca688ce237");
+    builder.add(
+        "246ea867eb89efc3aa0eb74282ec9f7c",
+        "bda2b462132cea120c715d71a65a99ca",
+        0x99f95307c9a3e6d1L,
+        "e7e565abd88f84fb9efa686b0b6d1a169245cce05067c2dee88d65248d604050");
+    builder.add(
+        "b9d5c165c954430e790da27ea399db60",
+        "5b65fb4cd8b5211c2d982681d7b80179",
+        0x0aea530e48d5dabbL,
+        "32a8b58e518bd38f80ffe1f5f22cc2abf3aae6871608575f5a8a8684556382d6");
+    builder.add(
+        "d45b065f7a368fa0eaa6d102143aac37",
+        "d36f6fb4935803a1cd2da32e9b3e474e",
+        0xc3be2dc4e24d3ba1L,
+        "e6312609b5e9828c0428b0d110d56bf91379ef6e5d3d351012f061249a0fdcc5");
+    builder.add(
+        "6a8f9fc9a604dde63e2b7a16d7bcd080",
+        "8d876cb822e04a50bbbe30497f51b3c4",
+        0x912136e2679974c2L,
+        "4a3db672641101c75698b8d80c58b622217a6ab3c5e8cb2f39786d0232d5252c");
+    builder.add(
+        "3e33e69e19bae7583a1a6ca4a39bb147",
+        "71786494ac70a5992d01c4187f23f8ee",
+        0xc4deabf603e1dbb8L,
+        "c605b4b1c3fded756df02420c686c7b9544361d133684469a6400119bb001af5");
+    builder.add(
+        "ec1f7896ed71da99c65e60eef18c1656",
+        "98039156e6b5a407d1d233390a815280",
+        0x98acd228b0dbe5c3L,
+        "afdd5175a5d70f4802a0bc7585f8608431b8a36072d16f5e7a5761d6130e69253a");
+    builder.add(
+        "c8ad5bed741a6731b5ddcf6f26238f15",
+        "f4d5c1942009c0c48e10ffae4a6c5bf4",
+        0x3b895909f624641fL,
+        "447b8bf94696a9de6021ed08838ceb51b5ac39700eb5f395bfa5c547f2f8578568");
+    builder.add(
+        "e2dfe348e41ca885f6cb4527ba8c2e4e",
+        "6f780105ffa36566798e75cb9ffe139b",
+        0xc78ec1f572b82162L,
+        "183761116831c393cebb76d267a74f0b7cdb4a2ddcb6643dc5f2c0d6a00fa3a6c2");
+    builder.add(
+        "bc59d78528caf089e97f0a059c064753",
+        "d365c36d1280dc726061a6a5ec2c1df0",
+        0x0f4550d507da2a77L,
+        "0447286115632d7a363a07367df86911ca640616a893542e95644b964a525a69dd");
+    builder.add(
+        "cb39121d02d8f5cafab06602082a36db",
+        "7d1e43527b357ba56976436f2a2c9547",
+        0x86852e55259aae10L,
+        "9b5821d9c8807215a7fecdbe14d0901a904bb346c28b47d07994704e388522f362");
+    builder.add(
+        "2bf5da871281061689843306c521a459",
+        "3349704c58fd20b3c7a737d7a733dee8",
+        0x3ff6a0322992bcaeL,
+        "921466576d6c45b9a0929aa1c89770673dbad75e9304cc98a3f3826143feb0fa73");
+    builder.add(
+        "03ee2b1c55d7a73cb639d6fcf82e0ce0",
+        "27536c10ce551d94c68db9e467993550",
+        0x60782646d12ab6c1L,
+        "ebe8787fbecced3b1953b40478eab214e92b219b8cab29c1b78791253e5fc5b161");
+    builder.add(
+        "21f693640e8950fb20489a55c1a1c7fc",
+        "f737bfb60649a94e7dd6bb77ddf37970",
+        0x3e2be6f7d669b358L,
+        "427b1ecbaff621d0ae1a66cae738fda741cab3c0f1b610834014222d9e74a39892");
+    builder.add(
+        "b212048916bc1c8b95b3dc8678b0811b",
+        "11ed549868b6b41662bebca86a548b90",
+        0xfe4d4449859c5a59L,
+        "f0a2e16d4b06692b5129785335f6f18a5cbfc3d0340f318a0672732cc2fb79afac");
+    builder.add(
+        "4395d3522a16aa7e38ad09ef83c12a66",
+        "a522c0143ad5407a470332adaa8e6bd1",
+        0x3e77036a4a18d4ebL,
+        "d8c05ce939036f717a781f5da1b76cdc3a03cd25db1bb287be845c671bd8c5651f");
+    builder.add(
+        "24b7a2b92d55b020551af26a341fa3e1",
+        "8e4be11d596b03991eac704968144acc",
+        0x821a1aa7524ea74bL,
+        "b230872c83530a241f3401be21e8a9e11d0bac88c26fc8f5fab99267093fba148828");
+    builder.add(
+        "26b7d4f274a0f54aabf4acc6d09aab59",
+        "3f8ebc9d3c9adae8121ffc703dab23c5",
+        0x1f21578368512293L,
+        "06eebf9749760f92d933a8fe3eeeeb64efcb04b9de172d5693baabc914472cbc3e78");
+    builder.add(
+        "f0ab11ec12382454d8864f72b1c43daa",
+        "b542df88407910bb92e2c5a4872a5030",
+        0x23779fd398cf3fc2L,
+        "6b951c87f1a53aad866652242d8e1f0eb5d8abd45563073f7a4fa0d47ff6bb713195");
+    builder.add(
+        "f476a9c9d2b82f9975665f1bd5a77a47",
+        "69e205c4fe562569bc0452ac5c47af98",
+        0x7a80aaac3c577722L,
+        "f3a1f37bf9fb36664b3fd41320071e5180688a1ad50845ec97a93f2cf363068544b9");
+    builder.add(
+        "659c7412c36d0064e9753b9e680f972a",
+        "c47a3d9121ead8f28c5e512e4f7316b9",
+        0xbfe1ccac10ea62c3L,
+        "dc363a85016bdf9ececd9d295b66a69ae2d35aa8a5f2e8d346ad2ebd942bddaca110");
+    builder.add(
+        "03a1478c5c745cc69cf5680b4b2f2f0d",
+        "e942ef5a126015df2d182ca3243d2d35",
+        0x6a0f7652aa42777aL,
+        "939f381c65d6e747ad773e82c1b435fb7e65e0af319c069aa46c53a9c32116341a7c");
+    builder.add(
+        "722936ddf4d2ac20a6e4c50eb9062f59",
+        "7c7514e28f5251e5f0bda9b696b54655",
+        0xe4d5b4eed932b241L,
+        "6bda31ccaab01e3fe69025893460b48720adcdf31996e18e9c88741b35ad1c3e619c");
+    builder.add(
+        "f53b4e4600be4f83c33af834478ed7bb",
+        "7d8f5d83668b88fefa23e3caefbfecbd",
+        0xa42d3f54b22137acL,
+        "3f422f4cd7e5cb5013d5f497a2f6f11ab0492708b84ecdcf4b36124e5c0b5f02e63c");
+    builder.add(
+        "7e3ed36701a163a7a34816616e260178",
+        "595dbd766de71e03f2b1f6bdbdd5b729",
+        0xd2d69a6445071e27L,
+        "78dc0f2e950d63b31f5bf153532f622a3341c1fa32df583b54bb348c0905307897ea");
+    builder.add(
+        "64ef4f7c72fe2a22a23f53bca6595482",
+        "7d2d26d5402c9ddc26c5b65086e5116f",
+        0x365f263e64363346L,
+        "40cd3ad5843a7bfe62ac26d3578f909252f03ac22ea2e88c89c2f7cb629b1ee31009");
+    builder.add(
+        "dd4ce594f0d265cbe02bd315919f94c2",
+        "972f8075e862c71f6043bb6197b8db1c",
+        0x4a71227d509979c8L,
+        "05e4a39eebf43742802575710a00d66d4d8ada16a956dc92f3d3dd290511f8f819532d");
+    builder.add(
+        "d19327f915075cff9340948ed1f24963",
+        "c71ac9e0f195b66f7fe70a467bc67d8c",
+        0xe3f3407a2bc2a39bL,
+        "254debb5061a13bf8674a448e164f5029da882cf4c605698c12657826c9f4cf989e650");
+    builder.add(
+        "b5021c2898a8fa7ebf330d6470b520df",
+        "e6ff882ac5e318cc6163ce802c20a0a3",
+        0x72755906b89ebaa8L,
+        "cc67ddb74502d0a6c85485664f5277edc2f851ca98d8e21f09aad8c409dc1991c8ea50");
+    builder.add(
+        "485af47e1baeb381370b1aa6a1886f30",
+        "8151b2bedac54d4e7a8402070d758575",
+        0x8fa99a60cfc3f6dfL,
+        "4c6a41398b0700c29dbae85662ee75acf8e645e7b2dd6037fd84fb8df73e6c3df539de");
+    builder.add(
+        "8def26652492fe474d96b46a68a39284",
+        "fd1c8f09af5717561547a1850d3f9b4d",
+        0x90b6d46990fba7ffL,
+        "b8cd01e22fe45e1ffb18c46ea64a69dabbdb4d1f25d8ee59060b636952e9fb68e77194");
+    builder.add(
+        "e6e0c76e9c2505ba991e14c86b7b93e8",
+        "b752a3ce002966d3921200db7e3b539a",
+        0xc6b54b2e02a922b5L,
+        "741d2be3a292b0a76600ce5b911b4525d9e403395a0f1676ac5ebdfdf25269f47eba45");
+    builder.add(
+        "c35b9ac4f0fabf18d64ece2f39822490",
+        "ca5101ae5467e644c047e9d422d6432e",
+        0x4fda4a2822d2dae7L,
+        "6882c92764b306199887262a8c176e13e2657e5557381343b9da0d97f83e4246c67b74");
+    builder.add(
+        "881f48bf1175f5a06ea77dc9c7c7e893",
+        "a363ae50ad29e65817e0c5725d959db9",
+        0x59374c3e34b0afe7L,
+        "e0380d751f4c6373ce564c4472cb34d7df71e9d4f0fe25af1b009302d79a731b22efad");
+    builder.add(
+        "2154691db93abb12f6bec1474f7477a1",
+        "95a3fe438620fc40b00339a8d6523e07",
+        0x5c6bbdead79d712cL,
+        "3ee890bd83baaa443ad3b5326892a52d6d7d9f6b0cb92e67d7abb8ef981dd72c4cc2b3");
+    builder.add(
+        "f462c139bce7f8c0956dd08980921150",
+        "e89932adbc209265c0e2a94d19b0b8da",
+        0x7af0d0184b3c2095L,
+        "e47b33352af762f22fc4421be5f9eaa3ce37dd1dbed711c1dfea91c1b54c4178975a1c");
+    builder.add(
+        "cb08129e675692a087403a6d82bec3e2",
+        "4f9bb2804780f23abc0af00f5dcbadd6",
+        0x8a894ad8f3382d5dL,
+        "338f98edf00bffa8c24add110e933b9f8d2784223f8a0b765a92dce397168fad62ed5683");
+    builder.add(
+        "9f40990e1f2b8e9b1234b9625dcc0546",
+        "28820c7102c00edee72b6efa0ef0f434",
+        0x2766b7fb33cf0febL,
+        "5ccd7a90f81f6ac9a306ae2114561e22ccccd684ecdb4039eaedf0a4ce97f5e9ee1003b3");
+    builder.add(
+        "c95f576dcc1213be86dd825f5f3076a7",
+        "9c71c07ca31220e750ed8348d60ad461",
+        0x1028bc1500455b1fL,
+        "78cf0502e99a1e7bd603a29b08c54e43c056a537b1d0c9f905b0601026a16d3cae55111a");
+    builder.add(
+        "5713e93b81fc9ba60d826f358f12b347",
+        "95eaa59546bd6b2ef6eda0c46bae7ee2",
+        0x7fcfc1a63a820caaL,
+        "60085caa8729ca6d2fea7361f510a3cc88075b0e121b08eb119caf32a4b0d7f6275e4f9d");
+    builder.add(
+        "eb0591ee7dbd3c2920c6148755f161cd",
+        "4e0c67d07d46cc02f6ca9fce00934661",
+        0x1dbd9501afef3f6eL,
+        "c24e7af373dce44c237a2466a8f484418e02d230d3ed5b798065abbe77624e3465722f78");
+    builder.add(
+        "ff4de63c10c57f3d0f72858d1b1c2efb",
+        "4c6c9f87e0d10118fb972636f9dc9c73",
+        0x741527d94c768ea8L,
+        "171e032719bba2cb67ae53e8fcf4a8d200c186825bcbdddb107e7d370a4dc0555953972d");
+    builder.add(
+        "dd9e7a1c1ed2b6a6b7b100c51468f0da",
+        "e4ced284cb67265f2eed0660adfc6ce7",
+        0x47c9c1066b00249aL,
+        "120e56a4048700bd84d9bb7c663e2bb7de4a3b1f299407039844f8c58a03fc777ae0f876");
+    builder.add(
+        "7a9a7331cae68459a00f860f0c898678",
+        "cbb63b39af5fdea5ed7741d5c48ba2db",
+        0xb7323de9d741a0dbL,
+        "313e0de88d6f5899a9772882590c4098c203738f09e6c237bc88e3609e6f0fac68996686");
+    builder.add(
+        "cdc2f88c4b8470b333f046f7614d0a43",
+        "747cb983613a6ece743ee5659850f1b7",
+        0xeabb2d9f5b0d2534L,
+        "a81e1344187773c218ac5da6b96c8f098bee711b1729dc406956d0be93bca5188c01a830");
+    builder.add(
+        "1ada560642112799fef4ed56efdcc486",
+        "53f22ed1e277f3de195a957a28c6be8b",
+        0x46506679e8e828a7L,
+        "0cdbd95b3e5b54c957d638852543da7b5416f08851c9b7a55cb4d661275c482726ad12bb");
+    builder.add(
+        "f7729c691f5aae12c3563060e6bdd1d0",
+        "206c0b68e1388ef0dee1c14a6f49f365",
+        0xe221dbe44efd30b2L,
+        "dbe3b576e56be0404020283c05ef46ac5a08482955d3738a918988e187d67a1d47ed4cd73c");
+    builder.add(
+        "6adb5de28e841f8a73dc00511f0fdf40",
+        "6e8f5317c98af6b923fbf5486ddf614a",
+        0x4902ef20d8af57f8L,
+        "6753d9b2cb046fe6262bc83e400548cee78b9cedc0d929efd7e72b50758ade6c6d6cf23722");
+    builder.add(
+        "11719724d4483e589f2098bece84c85e",
+        "faf8db62aa951899199d8e2d853ee372",
+        0xa21e898f879575baL,
+        "bd233345a5900de58d6206dbf6723cf8f743631e1fd0e27ae8e0e5f7369a3adf91764d49ea");
+    builder.add(
+        "c113a22edbd3a352456cb4236ff5517a",
+        "a6a452c9b204a672fc8c96b7661c9841",
+        0x8bcf699526d87ba6L,
+        "bcd170343733fe37f197e142d1f722a909ee3f10f5ae213e19c7adfef8899b2657bfc846cc");
+    builder.add(
+        "dae6330781b9320ad706b927a90fe4c0",
+        "db4f485820312264091aefb9b45028ce",
+        0x4ed112c607e1b043L,
+        "3f1249a9376a26b7006b5dfd29d3a695558158467652772bb286707ee834c4c72796a07c4e");
+    builder.add(
+        "ac9066b1b75258084107fd36785e17ea",
+        "c57c013b913d4428990cbb3380c14c00",
+        0x7da502a9e68ebd03L,
+        "64330b5d0b3215e174f3df188d91fec6ae13e2c3d6e7c2558a5b5fcd608035250e712956d6");
+    builder.add(
+        "2cd9636a9ae565c61447fa11b05ddbac",
+        "e7ad00c706203e4f0059c8e55fa8c86e",
+        0xd7383b1605c17e5bL,
+        "f8fb06b1da0c4e7637fe4501e5a4a5e45a474ac7369f572fe73f54126f1524a83bf4187a61");
+    builder.add(
+        "6d833cc83a1cf621a226fc24bc82222b",
+        "1c03e1043e76e9cbc9dd2b290bc005b7",
+        0x949323a8cf33e165L,
+        "38ae9589613083c30aef03b09a47e58a333d111cf12a99d55c117689d7ee08f7af908d3b19");
+    builder.add(
+        "d0e48ba5d3d367bdf91498ecc36d85e1",
+        "8cf471496cf97deb9c77713dd4d922e8",
+        0xbec85b27f55b7112L,
+        "6a13a56ce9a7250ea87c8b0548c5d9dde354fd8513ecabd96936acb46a558fad3e1b0ff015");
+    builder.add(
+        "d8667f7f3219064e2e906e357da5795a",
+        "b9bdac971728cc546a7f5c3182508069",
+        0x55770b82471e85e0L,
+        "712198fe4e8cb0facb0128195ee128fb4c2266784fdf8805902e260978127adf8b4085e733");
+    builder.add(
+        "c2ee9348afb93536ea2d1c592f0dff1a",
+        "089c72bb6ddd112e70ca50f1701df125",
+        0x05d793681e71176bL,
+        "54c974e24ed850d29439a66317b288636ec5a50c32f511e3b197b6aafe7f28677a0a8c63307a");
+    builder.add(
+        "2683fc3ceb81b1d4d50f180c3566955a",
+        "2a468c2bd19e398343518b38746d72f2",
+        0x45e13376918f45d5L,
+        "896202d3a7716730644cc7875210e5949de29a1ce7671a2bc2764fd2162192d36e5849d8b4c9");
+    builder.add(
+        "6647832ab25cfc40039ea36dbe019673",
+        "7e482a4158231b8f37a19aea0052ec11",
+        0xd5dd4fb7d7028385L,
+        "63c6e03d7cdbe666b72843948cb7453b310824a3fe8c39ee9a99da9aa36df30b3a9673725ee7");
+    builder.add(
+        "1a5591a343b111bbf6d100801af9d196",
+        "5214143e3f1fe1acaa0ddad3207bcdb7",
+        0xd061e3e44287e3dfL,
+        "1e510a3f18885e25d94e1032dc2245a309853fd5849da1e6bf885e6e930b9f1781ac368b9ec0");
+    builder.add(
+        "7615bf51f7b95978be9bdd23ff3e1cc8",
+        "8fcb3374ba0ac3cdbfc9dfb57ae2c535",
+        0x69c430d63cd90ef6L,
+        "41d2dc8ec6971bb286600dbeb8b6053d518c2038164ddfd1b3beac4ee76aceaf8d05e1c4e18b");
+    builder.add(
+        "a8c191ad993970c36b04d8a8a4691e11",
+        "2eae43734f53d16e4d785d74dbeb30e6",
+        0x7197d00de323cf5aL,
+        "f4becb2c4e6476ee3a627d755de2a5c21f60256632d3f895ed22576d213134ec9e6bf613e0b6");
+    builder.add(
+        "362800b78b76a075a0bfee53392ccdce",
+        "d8edc2eef89ca6e9da4b8b1527f01cd1",
+        0x057280dbe37f4d0eL,
+        "bc904d758cfb355bfbd3c6f8e57fa7a6327f603094f7c6e414fd64e2e8d3d4dd45a954f28a62");
+    builder.add(
+        "952e667cb25e2596b9d446929877471a",
+        "b3a9a78eaacbd1c73c5a17d4b72eae6c",
+        0x3192b558f503dd5fL,
+        "4f6417442af0651ffa2bc7a247df1a03333f4321c65347bc002885a6eae4350b16747ade9018");
+    builder.add(
+        "92925320dd80a4493c68d3c331dc3539",
+        "c45c6073422ebd93dc8809470ef63ba4",
+        0xa29eaf7e49fc6224L,
+        "4b63f7cbfcaa16bae16f62869561699011b38ecfcf5f65a68363089191f625308499015c6263");
+    builder.add(
+        "55af27754cd06707ad68424f0f7e7b61",
+        "908fc084c39a8ade544726bf280ec315",
+        0xfa2f5989b4f3ced4L,
+        "7238c6fc490887820c3454d4ba0f0180995fa78bacfc2f6756dbbf4ddbf4bee78c56541cc367");
+    builder.add(
+        "febaf14dc689cb3d83cae6ededa4d46a",
+        "b67211c7d03ae1c4425c07575089e0a7",
+        0xbbac1a684d383181L,
+        "cdc7fe9a83cd99fcc91a6d8e55eac2afdc7a01cc6fcb69999066edbd200598055abaca54956c37");
+    builder.add(
+        "74f769af09d6c7fca7a54f9b0a91d04d",
+        "3c2f8cf30afccd05dc43b286a9953040",
+        0x8bc2ea89a65a3e54L,
+        "989d3577464d996ee8ea7a242d6fe5bd514fe49450bbc43cf0ef63e5868db65e5eae2484ba292e");
+    builder.add(
+        "698dc3ad9a76e02de3ffb76109260f28",
+        "7d9f8c66101c336cd434180eb90f8b01",
+        0x2457357c9fd0899eL,
+        "8de958ff646b8b7a3b342b51dfd3c7da2e2f368ad6a41b5ce63d09872432edfa2c0b8311bd606b");
+    builder.add(
+        "70f23237dc82f321ef0434bd8598e629",
+        "611f88414b235ef99bf2da94babd4203",
+        0x455d12ebcac78f2dL,
+        "4e4046bb6d48c0e7b0a4a66db1b8e2a2bb2ba874df0adf280c8fa2d1e73f575ba914a2a540494b");
+    builder.add(
+        "7a010a3176dee7e946f5324df071f3cd",
+        "f3bbe1fe9744aec7b8a0ddb93fd33fc3",
+        0x940a5f89255e4d4cL,
+        "0ab0360b1fef18006a3051e0b0e312673ee73afe138146fa6b85dec37a32847370cd728150c820");
+    builder.add(
+        "8871b6dc06580cc9dd51f9dcf5ff317e",
+        "f634625a015e1576de8cfb7fdbbf09d9",
+        0x9caec25533e6bc5dL,
+        "996a5a1592456929b5d681a8d7b4af1a574a1a3c76d23a267d4ca895e57c65c91ec2aff03a83a4");
+    builder.add(
+        "e83b05ee53a6643d2dc30a9be6e8d786",
+        "77db4216bd525e30b8b8c0d6a3b921e4",
+        0x6413cc2fe114a3fbL,
+        "752b1711799649909a00818822533d9e35000395277cc2436b2ed04fdc9d93a417e18b605a91d8");
+    builder.add(
+        "37a77a141a5d697ec13d3cd170947a43",
+        "b36658a263a39019743847b61179e3bb",
+        0x4f44bc6600e35c49L,
+        "4f061aee864344e95978ee7b967cbfa40341e2da57040d933f7d76f15d15c648ac1dd6f90730dc");
+    builder.add(
+        "b33a00fa7e9f6184b72f63e6c703d166",
+        "32031dcfd91696974121bcaafac3fbb1",
+        0x4f0266ed2d7bf304L,
+        "e8a6ee8f0e339019b892d93d60d407062a13ce61a21ea23e5173eee6f5c6f1d552400d55cd42bc");
+    builder.add(
+        "b57d22da44793806d6b24ed0dd232724",
+        "2ee98aa612759172c9f294ddb756b026",
+        0x36f11d84df8e6ea8L,
+        "b2a344f57f0c97cc6f14d0848b5e9ef2d6249f288430daec346476eafbdb15e4d52e4f78f3e136");
+    builder.add(
+        "200c8f7bac02a74c9a1601d22fdc7fdf",
+        "76e770794af4fb0d670ef336a02b3fd0",
+        0x8809d395fe4e6104L,
+        "30260939b47c1efc0fd3adce5545e07d91eb38c4d53e27f80b0bd5999707709c857b32c4a9911b84");
+    builder.add(
+        "794d3df58980eb3b2d2fdd29901e3ac2",
+        "ea12d5caf6bdc86fea34b1f72cbbeb66",
+        0x9e0ecdddcc9d0027L,
+        "29a017fa4469ff61058cc18aec020f9955143f6afd7999baac5e5fd3409989ba53f3f9bb4ed0de58");
+    builder.add(
+        "fb4ca9faf86b267940f65107b85b9240",
+        "fa432047fe16c3d3b11a70a3a2bf575f",
+        0x1738fe88ec5d5b2dL,
+        "35288af266a7e34d13a6cdb90e8eeaf1e7222d3be15ddb7dbc6e2a9868e56cf9f23e9de947f6e7b6");
+    builder.add(
+        "44874d342bbad765d5a43cdb69076bef",
+        "b40d59cd6bbed5774d182afd032b77e2",
+        0x683f68131e45105fL,
+        "5a63b059af0ee3751718849a4527cd3c0fbf229d13fd0790674daa7f9af6820730b177f2b2ce25c4");
+    builder.add(
+        "9e400669db9e9a37ecae4f64367deeac",
+        "225da89c2b5549031c8118ea75662fb7",
+        0x205b580aec6d2d1cL,
+        "8fd3ace68d361947c573175643a5856d3c73fad7f2f337a4bf2b3f919596008c0a3478202120077b");
+    builder.add(
+        "57bb178647de44e32e2c099ad8074e60",
+        "dce2850c01c6ba16df86eb7732512f28",
+        0x4f6ebbbbe829a746L,
+        "48e9cbbdd11cdd44bbe994d33102b2fec84b8b58ceff65ced5b18d078d12ba49a814d062f690fb3b");
+    builder.add(
+        "4ff8b68e537b99df1b43b084f5a76367",
+        "06c20da6d171ec01c6fc98ccd50d6379",
+        0x505856cfedc35f9eL,
+        "9116a85eb8d38aa03c425beb4e0cdb0e8d25af4145c9a2e3bec6b031c662cf19b1fbfab34deaac83");
+    builder.add(
+        "d776a6b6f120482659175892f7fc54c2",
+        "3c2314a3c8608e042666a52038d565d2",
+        0x48e9cb34486c7715L,
+        "42a066c504454898612801faec6d1a889282dd4f28acf163145fa2343b99608574df3d32f977f364");
+    builder.add(
+        "abe37ff891747bda044f3dae811b6eeb",
+        "dcc362b77471f0f7d3f2cc8179060dc1",
+        0x1fbf226d39a5b003L,
+        "7dde05e2ad032448f671d66df71904a2c67e043e6e2d374f6fa26d4b882038c95b0eb88fa6ee510c");
+    builder.add(
+        "84172c6214ed10eb45220edcfcb928e0",
+        "4e3d094f79261442825b40f69ae79080",
+        0x77ecaad4fb753033L,
+        "8293fceb45e1ec13effd907403e544938eeb33b38cafd2922978fa2d8c5ff3ea82c9f99d69f46c9d");
+    builder.add(
+        "362dca6e92fecda4afd3155239934e01",
+        "f928b8a407947537e254541bbf3aa270",
+        0xad4446ee367ad47dL,
+        "c95e82860a230d417de9c400938319981d05ae2773015e2df1c11a3670c76fb805405b9305dc72de47");
+    builder.add(
+        "f5f2b2b9238e17b3f132b9287387bc87",
+        "8994b3b09ffa3d5eb49c748bd89d3188",
+        0x8c303602019fe1b4L,
+        "8153cc3625c01e3529c7ec7a561a0e5b792e505ccca80b21ce710055f49a5728380362cc55ae2986f3");
+    builder.add(
+        "8c2fbd4642b0a8f982771d91e012a1a8",
+        "b44d8460ab4da7cc7cefc8a4b76132ec",
+        0xd85367b51dbb5b05L,
+        "ae467ce5c34673cad97b07b43d9a2519ef04d1b01449a211b5159ea08a7827b2aaa734aec9288c82fc");
+    builder.add(
+        "651d6f324e4562d320d252d17dbea917",
+        "c1afafb968586e589783db322f658836",
+        0x1ec927f7eac39bc4L,
+        "7741a8ea99dbd42b272996e84c76ac08b63f2e5391dd6730509a0d743cdeb7151ef22be2c864e5fb69");
+    builder.add(
+        "949e5bb3b2296fffb2c590b396a60ab9",
+        "36df2a082fa956cd6048ac875da4808e",
+        0xb8cd3cdc62ed70d1L,
+        "e2a7721dfa02d54a1355b70cfb6dd5b31018bea5c1a13214fff6d4af57b9d9eb455aa2a5d665d2a5f4");
+    builder.add(
+        "f43c9e118fca50553602c164c10c9723",
+        "874c568efdfdf1b873bece450ecf988c",
+        0x1551083b8681f905L,
+        "7f50d90024f34aa5f622c03891961cf9db3472864b94acabb9450a818b22d00afef8ec1824d9440496");
+    builder.add(
+        "46fcaec39f1fc67b5d628d166e766d44",
+        "0203c6008df57dac399eeffaf9f9e6d0",
+        0xc3f9e028e04abbdcL,
+        "a4a1f6c31c56a91138d047fd3fa2c61416c149009a8ce0633dc1e1d190624d13c616ffa76bbdc4281f");
+    builder.add(
+        "d10feae007762254e496f173f276ab8c",
+        "58a85446fd37495cd75ec4772b6fa447",
+        0x79e886b463034b05L,
+        "6f5096d79a0089fe96f32875355edb814619fa23e54e1a6430800841badc7f3d21d086adce8de4468b");
+    builder.add(
+        "592453c61995ab318af7c99801eda75c",
+        "0d8cdc8c05c747eb2f3310e5515b0a5c",
+        0xfe8d27a9274293bfL,
+        "3d1e622ebac5d43e42fb86b845946e91232e5a9097fe0ec53a9eed08c1de09c7936eae85f98f5483f0");
+    builder.add(
+        "bf02483a18197ab04b9b769806ec21af",
+        "0ec206356834202cb13258ee8c37c2fc",
+        0x6796ed85ed20d5ddL,
+        "15a75de6ec562d5452e51cf6479429b5a25e7e28e8af2addc1ac2030a5deb4efa08cf916dc79e6313e");
+    builder.add(
+        "dacaf0b7e2814e2262bbdf51c2062edb",
+        "f42dbf2eac61c9dfd6fc56db2374039a",
+        0x76198ce8bd3ab855L,
+        "8d4b10aa5f16b7f1816fe07ddefc33da478ccd57d6f4fe2eeab1a128eafa917e29a01597ffe58ddaa864");
+    builder.add(
+        "2bc245a8098df9aaa3a6d568145b3470",
+        "ee2459f83c0b7f03dbeb9eeae9f5d4d9",
+        0x26b6dc50ae2a96ffL,
+        "ca1fd182ba9ef3b82fcf7ee82e071aed72cb59fcf5fef4913b5891daefbab422154a7fec7d8f0b5a4366");
+    builder.add(
+        "69923561eacb4701b1ff32099bb1d4eb",
+        "5f7f60a317a37fc74fdfa0af0eb20c82",
+        0xb9b800e23cb03b52L,
+        "c87b9c544ee901ffd7df748ae66690cc7f534095df64178715aba5475ee52b6052a6566a25ab1dd7119d");
+    builder.add(
+        "edbbfb7814656a7e8e2c8ed1a2565f67",
+        "c2734a522322f099d3297f26e8b474d0",
+        0x96449360728526c5L,
+        "fc7a82c6262fb2d878261700f9ae93527e44f6a37e9d69b1dc22820c986ccfe73c0200c493d0bf2f295d");
+    builder.add(
+        "72e998e9f365391abb8bf4b7981df465",
+        "28bcf7a0ccfa66badb869ef3922e8243",
+        0x81fd9ffcec659d4bL,
+        "a5c749421d7014815be000cb4d7ce0ce6053b0cc2e4775dc294bd5e27d39b927de6ac40c8ceb7230e4bb");
+    builder.add(
+        "3a02978cad9ebcddf1f56498024e21da",
+        "8e75cd46ca53021df7db7b4f900f98e5",
+        0xabf2e9a586e91337L,
+        "d52c19bf0e09af4c9ebaa0bc68e94c4567402fe5c01c76619c9d9e4e60b21d2c93424695a644a9f6f12f");
+    builder.add(
+        "4a5d4b30a7b0cbc19a8c837832e8472a",
+        "1146178dc0bc9aacc256b644a817e884",
+        0xc4c394d1838f845bL,
+        "c651ba353573a0cfdad8b959ba4c7340a61711bfc9a47aa453553f017be468760dd59460c45f2f129c47");
+    builder.add(
+        "dc0c3ecfee47e68bd40fe7f0170912b0",
+        "e8b7a0a5bbcef5c2bdb599214628d4c6",
+        0x80588ffa2c572f10L,
+        "ffb9540414fd93aa6c5225ed636f05efbf338aed75cb931dc92e0334173543b318115b0bb9299769e281");
+    builder.add(
+        "3f3f3d421f6345da80632c3701844f41",
+        "56707e98a29947043d7af8a7f885c463",
+        0xb5682b1f57ccc101L,
+        "78bae8e69dbdd3cc4f72c08c36ea9d8a8cdf9a23b0ffd25b00a83366255f1546bb989cb06a8895f8960f");
+    builder.add(
+        "754134621feecdd674fc16590d8651e8",
+        "bf14f402996d02ec5f0597cffd2f2eac",
+        0x01391feb06d32b55L,
+        "203ba363ad523c6f007ad6bbab0d73515d51d501bb087c18b6ae5768cd5b0cccea2b5469843df1120046");
+    builder.add(
+        "6dc3fe653456aef050809defa252ddb4",
+        "1cd6ff5088403501be1d087d0d1b7607",
+        0x4c02b6e541ed7067L,
+        "88bb2ec2ff3478d2393a28b4519a49e155402cc77b21fbda5b1cda3f991bfce5149a3b980487902c8d7db3");
+    builder.add(
+        "33fc5a9ab72d260fa9eadda4363f641f",
+        "4507e35cf3ad250c86103cb8b2bb296a",
+        0x7a1fe260c0b16eafL,
+        "c6b1618f60b3ed604baa6e668c3bbfbc5e30c9a2b9f762c5c41b6322ababa3680cd331067c6fa7ef7927ee");
+    builder.add(
+        "8ec71c929821af8edf7e1ab3936b48d2",
+        "8fad58dc326bfff9fdd3d02e5adbff56",
+        0x4aeac3e661061491L,
+        "02e48e59bb8d9e10d1405dfe21bf9e3b723bfaed58ee5d2b59082f7cc7493eb819c156d18485b80b95a344");
+    builder.add(
+        "6a915b545f634e4a6b816023c7037770",
+        "e777572a69d5a1325cc58c2892c91499",
+        0x0a2d298cb2d9a442L,
+        "c7ec781f184ddec808d61bc5d742a31612354bd516891467eebbcd179b20aa11e5ca7f6460a91f27dcf80f");
+    builder.add(
+        "2484fa190288256305ebceb74fde67c8",
+        "21c1f12be055b31d9dd0888973ba5209",
+        0x772d38e358a8c995L,
+        "5fbe68f0e4b09d2c4f03bb4d2468f01920d69a1a49995a2396628516072595d15203969f14b110f2be54fa");
+    builder.add(
+        "e3b7831e881217dc73d2aa30623da283",
+        "b040ee7058cbaa2408b81343a9491130",
+        0x2aaf9badc24ecc11L,
+        "c2a247f714b251723a229320a5036b059b5212d5535c604d384bfcf4d124fd677e1179e73d9f0a2a503b4c");
+    builder.add(
+        "afb485dcc041b9496e3beecefdac12f9",
+        "07ca706a603e2e4c1fef6785f1c5ec37",
+        0xadf046b9fea95249L,
+        "8f71b102b5de6f44d93953049ecd2fd4e7ddfee0a142daef85c84cc3d61694a88b3fe131bd4a77e8e56636");
+    builder.add(
+        "8b87410b0148a060cf5d50c317513c28",
+        "20febf244875d787b27fcc5a6902d75e",
+        0xae434501460bd81aL,
+        "031dfa28c13685ff5661eed1f0cb28164105b5f5084b87ef9dffdcb91f0603a8e428a70b9a3dc8d9ca3374");
+    builder.add(
+        "6a4e740da1675603be97cb223cfeb23e",
+        "bdac5537fe5f70f5118fc11a2d4c1d7f",
+        0xbd3e217fabcfc3abL,
+        "6bd24918776ff3c54e3cba7fab7c085209a8182b4be975fff5ee7895e4983708d94e76daa92abaf2d8044e");
+    builder.add(
+        "ccf5555cb81b55e421e117aa6b7c61a1",
+        "0d5dfae520c926fadeb0cb52221814fc",
+        0x02a1342685524b69L,
+        "04e26b384c8227f295e218e0b0ed38b2b31dadaab420a9af242480d4c420e1a2f6b43f363ead249f48d9e5");
+    builder.add(
+        "05bb34e433a97b16451327d3456e26d0",
+        "7442d00a303e0ccb842bc5e6f222f4a7",
+        0x7fb18f1df5347356L,
+        "ebb4d37a0652bbd34ddcc0c45bcea99cb0de77565773c5f649393276aad7b4207235481afee7ed39b1796ab7");
+    builder.add(
+        "caeb3ceaa8a9f41e9bb6513c8ae71f2e",
+        "2e8b7296b4bff531e70e025d11771f3f",
+        0xdbc3de1bda08d085L,
+        "30cc20cca57ca0a3d89243694dcb38424c8036075706f1674d04495abb808c01989a7e80d4641a8154bd819c");
+    builder.add(
+        "dc26c9c1f68f88659edc6fac9ef1fe61",
+        "cdfd4b31a89aa4808d0053298e77dbd2",
+        0x66750cb651214457L,
+        "5fa1f426c80aba5b9ae2184e93c35f6f686bfa7c28fbabcf8fd9873ba225acb70faa4a51ee303c743d317bb5");
+    builder.add(
+        "9013f8c5c96ff80f8876a61c65eab478",
+        "4fefc906381338cffc168e9353fd0150",
+        0x2199d4ee1795a326L,
+        "2c770e4722bec49f2486b386f771cf6697fc5b6d8c5074c9596e16a5d16f3935fa27010d4cdae1e9c913fa80");
+    builder.add(
+        "8ba8b10babd11be1a5637fca182cbb81",
+        "82b279d6fe4d189cd2912b5765bc17f1",
+        0x6ae757005752415bL,
+        "6c25f9bae3a9090ee7c2beed84d86fa56baa3ace162adfa7b53a7c981c5e9a26251d5c2f8967dc5cb1224f42");
+    builder.add(
+        "e421a8732af9ac552d6971fadf342a94",
+        "750553ce52086a9568262e8c29d83a4f",
+        0x0279b4e34211ace2L,
+        "f76d48ef8615bc79205c43014123e57261eeba07b48511995e1354510c9da9a22c9aea1a44f03e7505cf0491");
+    builder.add(
+        "99ee63e729b8522b225c345cbec29869",
+        "7f9db8e4d808a30ab3b787ff6de1c068",
+        0x4863579a0b7f6cf6L,
+        "957f87300086a1b2528fe72ec5312e15fb1dd9f52c74d4aa501227407f699ef2663799166f5c82025fbac00d");
+    builder.add(
+        "cb96b87b03b341fcb98115aca3a73f9b",
+        "c049e619ab298782da56f4a0dd95ec66",
+        0x535d4afd41bc628aL,
+        "8d712cfbe844d3e98de7e912dded7077604bf336a48cc5c7ad75a97d501761c2567a4f9daa0d08cb9bd82e63");
+    builder.add(
+        "8b5a119b9798392c1e40cde8a9a4600a",
+        "6bd98de3f686640d2a14365d30141008",
+        0x1565c7120aee4727L,
+        "306a6cd2e1a9deb93f04719a79d75b03809ce46e91b73c4b4f4a6dbc22c382cf70704e4e215533eb983c84ee");
+    builder.add(
+        "cc094fc80b57f5542daea798635f1057",
+        "a210a667a67428a0aa1757dfb9506088",
+        0x345863b4cc0e6e9aL,
+        "266b0f555a8537ba4d960d477f99ce8f92d61625a5f41c2fa09082612af13279a67b2e36a0248e77e714ebc1");
+    builder.add(
+        "3bc49dfd53fdecbf685423246c84f044",
+        "f956bba819b47741f06056eb62a68815",
+        0x5a3a921544a92ac5L,
+        "38bfefa7c391c12b78349ae7223864a33ecbdc1e7c9dcd79d06491c26f300040c1da0b394f362c0663da96a3d1");
+    builder.add(
+        "b42b1b3e1a103b307b963e1911c3e129",
+        "b7cfadab67a5b86c6415032ca59954ff",
+        0x414083a88cefe15fL,
+        "bb6618b767e7250a56528536ede59c2e556f8b1c729e27997e4d79bfff39faec711b248b351331b88374feffa0");
+    builder.add(
+        "4c9b87fdb72a122b193c8d2ee4e3b0ca",
+        "2f6eb015cbfb1c2ed2bd39c732d329e2",
+        0xb39450d83e2d2285L,
+        "e191b1c6fd8af43acdc23e6eb846090dd843bf40a6710e1d71f2263e750e14990ec36617c285c2850f1960b091");
+    builder.add(
+        "710c6bcd842cb50154b6a22a65607fa5",
+        "eda3555ac2501175f4d8a9f1ff99228e",
+        0x41985c9450a35fedL,
+        "8c65c5865a1cdd33a621774e81513fdce012e26e9c77cbe829a511f0999a109b11422e167b49a33b1f09cea883");
+    builder.add(
+        "b41c472b0dbb560daa96d36bddacfc30",
+        "07a9e5566f056b6f5181603926812378",
+        0x8af1265cd003a310L,
+        "19511d4d3fab289ba11a952d152bcef9b6293ab2dfab61ca27d24655fa003b3f3e069f1c8d51ec3c4f60f56569");
+    builder.add(
+        "5842c7a52d39e23dbc1aa3eb90bc90e0",
+        "71d5d6ae75e51b3b878702d3daa7df11",
+        0xc9d641bb51bc1117L,
+        "39bc0e241bf03b6f9a59c07d9a67eff3b1a18447db7e1273177f1cd78f138d0651f5501abd5c683dc95db95602");
+    builder.add(
+        "a8d98a3437eefd69fe4072a9097aa7af",
+        "d6d86b5ad597edae6fec9e81a3b4e478",
+        0x2ed0fe2abf2ead91L,
+        "f970cfc72e946246d2564d37b5aed08aaaae813b3f56ef372875243b364143f6379133b58b2d9b6a3b831ffb51");
+    builder.add(
+        "26da9659700d344fcaa2b56ba0ef84cb",
+        "376674561f3643a94251fbba11d7f0d2",
+        0xd010536dafac07d2L,
+        "4499531d6b02d493f4b47035cec97a0549f788d520a58708382c7109a70619f0cf7c1e9dcacd67c9995fec5a24");
+    builder.add(
+        "13fead5b2f56b33a0b2e6ec2f3f177e5",
+        "659c95afa0048f651eaed4c21df28422",
+        0x8aa42915355c3c76L,
+        "ace8fd7bfc07b3c4fbd08283b3d2a38a72e6eb7bb3866dd9940bab2b08f5b8f1798597a32985df24295c11ef2f");
+    builder.add(
+        "b5a3ed6171cd7e538be8aa32096ef486",
+        "12375651676655f7d31ca3bcf491915c",
+        0x1979285bede24feeL,
+        "3bb99fcf17344d3b677ed427bd8b96711fc7ddf5346841ffc419de0726f76d36ee912cff0fa2bd10634ab8946d");
+    builder.add(
+        "c988ae3cce0b6e420a335a5e73d9a0a3",
+        "d789ebaa317353b693c88e84cc5b73b7",
+        0x37b857564e7d1fdeL,
+        "a60437861392450c622b5934caeb2a0ddf63f151d44ebd9e66e36d5effc6a835988c7c4b39995c854d7eed52ed24");
+    builder.add(
+        "3b8e2ba2fbc8459b69961ace4fc7ce35",
+        "3532dca6ab831843135efd72ed2ffbed",
+        0x5baca1002d6541a3L,
+        "50fd3e76016fd3899739636ed35d8dc3d890cbcf3909fd201ea7265d4a09b37999e61f323d81fe23e3478bb26cb2");
+    builder.add(
+        "0bd5f4212a0f3bbbb467adface8c137c",
+        "6adade7f3b8e11674c0ef62d7ddeaf44",
+        0x2c3e43861e265f74L,
+        "5d2db7f966bdc7e5a033ff4efe06b114c7948709998802d24ee85753a91a3fd246639a998eb95c00fd3b303507a6");
+    builder.add(
+        "f75df49196f88b982b4027742a36a8b8",
+        "a01617de81f3a240b741f4e1b6f57c6d",
+        0xa25ad1c6d1748ae4L,
+        "62cb13d18f5fc84cb488a2ded53580a9dcdc6f4c1a82639dce9e6d4eb2daafa0499667e3a1cbb8a08045b7b81c33");
+    builder.add(
+        "421829235494a983eb5a44a1a6ec492e",
+        "b29416e2ed50eb3a76ff0e4a7793f5da",
+        0x65501d76d0c9d7a3L,
+        "d068260ef46c821a46c96f4c7106900a190edd6e68061a18795c0c5023328d0ac5e3e08a1e5bfafe50c9e30815d1");
+    builder.add(
+        "532f659769596a02daff9093bac680a9",
+        "c873d1363afa512a3017e2699fac531a",
+        0xfc1bff827d00bedeL,
+        "9884b41089fbf3183f9c2984dbcee3fabb80734e0f866678833523cc5ca7376d2613e65d459fc72f23fc7af70383");
+    builder.add(
+        "19d5414c0a1fa1a620ba342564a991a7",
+        "7af2d3e48a55ceb679c58807e60ea88a",
+        0x6181978b97994a65L,
+        "ca3fc3e480b55768bab5acb054dc57ce5479f977aaa6a6b9412faac87cc7e7f941d9d197e56946d675e6594434c7");
+    builder.add(
+        "22d27ec49c112b9ead65244b0bd6cb12",
+        "a276b3518d86ce80f0acc0065e7befad",
+        0xace265362e00f7a7L,
+        "979033168dee8d29cc3970b668d7ccc3bd471b1eb02d50afeaa8c9147b91734db93f7f7b19b006e6fa09c0be5f9c");
+    builder.add(
+        "c8909a2b6a694853a0fba9023e8a3d75",
+        "2a7ea4184184af9e36a0b883a7706a00",
+        0x9386e375df347253L,
+        "c7ccbbb49480a029b2fc668348028f5c6f3bd5d7ac57efc8d4ece91cce924633702e8516419bb090a5da1bc9b7df");
+    builder.add(
+        "267981748930275568afe59d087cca2c",
+        "fb516ba5c64197fbefbaa4f4ee1f8e43",
+        0x52b004175008c245L,
+        "a173dc797c5b928e5ff6bddbd36362e79ea44aeb5b4258f3a70134aaf82a68b163310236451d1db3ed9bf2535090");
+    builder.add(
+        "95a4cf58723d86dd1945eb8c7534f2bd",
+        "ca15694c1e06446fcb66f354cc1d0e65",
+        0x21a2ec48f8821ccdL,
+        "39e7296d856973e6a199515cab59dd3cf868d98ace862aa790df778b61d7c8c788239381f8f6a25902a3da2f6be7a1");
+    builder.add(
+        "10f200477c8fa90fc22a4fcc3c754b86",
+        "1083f19ac8e237c9565e312d6e6993a2",
+        0x36197762ea38df23L,
+        "b4258e338fa0b204781361cdb0752e3661b26c261d7a67609c170bedc8543e0f9ab2f03c716c66f02b29cfabbac312");
+    builder.add(
+        "ca2f38082ebf4b444af6d4c770e799c2",
+        "b586fe821258fe39cdc36bba96ffef45",
+        0x44b9db3d153e8f12L,
+        "cbb47ac117fd25f24993ee60eddbd0efb6bff5d2da0bd450b2c336cce0feee76a74cc1fcb805662e80a3fd92745366");
+    builder.add(
+        "925482149b0b9e2b00539330b0a94ef9",
+        "0e4c94422f1995dba69dfec15c415bc0",
+        0xa522d90a6ffc94b3L,
+        "e5463b7e5ca9b178f06917afd07986ffd4f20740f207d32c79582ece33df991b4a2813b13e7de8f97efb4569684ede");
+    builder.add(
+        "4ef70c4d2cd4f637f487bf04eb958059",
+        "06f0423c5fd2751dc1a6a86ae4bcd9db",
+        0xfae7d3e7a97c2614L,
+        "4da7e95eda32555d5b0de9cfca774d15da6ab740ffdd5525fe1974dd732a7feb0d9b7402d0af827504b69bf667328f");
+    builder.add(
+        "fb77f39e726092f00dd36d423f47d4f2",
+        "5df247fb34a83ac9573cdcddf96f6f0c",
+        0x1ccb3ee000e673a2L,
+        "8f0731354f912a211877da7263863ff4383dbe5e8c2a3f2439085a0c3f215ab47fc12f07c2f5e89d8a76fa9c09597e");
+    builder.add(
+        "5876a68eece95600b38a60adad3b98a4",
+        "4cf04c3c4d83bf29a9d1e10b09b9d802",
+        0x46fff31c4e870551L,
+        "69cda795b5df3ce8bc7567f86b20996f46113f6e77a7ff94e71e911c541a46fe074104b5760a0b3078d59cd47620fa");
+    builder.add(
+        "ba2929e6b973cc9b83b0ba1b848c790f",
+        "d77332a6f99b4c07ab043695a3a43e3e",
+        0xd00317d1b24b8e8aL,
+        "04063609998d9eca5d9f78b3680f05a91c455ffefd02b1e205ae1f77cb9b11f419b4ffac68612429c08f1a48374298");
+    builder.add(
+        "17aed5b6daa20d4a73eccfb655a42f7a",
+        "cf70ab1c87407a8e0bc807d2077816a7",
+        0xe38ee2ccbaaa8062L,
+        "d34ab37ab0a30223451de1a0393fe21594811c745f4fdd9d1d3dd4674c1636bf60390ca7808f1636107584a4b0865b");
+    builder.add(
+        "689dfa2a663f76c4b6f28bf840805ca4",
+        "9761171f4f8be89fe35f67ff331bc731",
+        0x1d03a14eea8248c3L,
+        "249a615a325250b9e652d153ca037b6fd2e5cf917941107d5d1e079446f23a29ba29c5dd5833b9cf078dad65f968b9");
+    builder.add(
+        "37438847fde47e54d79a6dae57df3947",
+        "a77cc9a849af0b06bd0ace84cfda691b",
+        0x0ddd37a5c28b758eL,
+        "372f87652dcc5a2749a63729c7f7c4f7d6ac8f4e64de11a3986c64518c9a23dbc3bad1bc02990a749b82112219187902");
+    builder.add(
+        "f87f0331b59cb22fe13b3827c38dedb2",
+        "056474ffb09997333bed75dd36b77868",
+        0xeb6dab0bce1b3d59L,
+        "620ca84a9a992a6fcc94882a957cf88a82b57a264c9aeb4daa7de4d6dd4e5154baffd4cf5ad205f43a9f9a54f15b9e13");
+    builder.add(
+        "85e7f57cbf6d860b4e950713270a35a4",
+        "440afc680d1db9ec861ce343505c9cfb",
+        0xa0055b4751b3a776L,
+        "c5e5513dd4d98f6dd2886e4ef197cae135888a21c463d6e8607b93120fab30315c561165f69f287ce3375884c94c3055");
+    builder.add(
+        "e57109b723e43efc5df59f60c95d9652",
+        "043a59776c211213515ce25a74c54f53",
+        0xaa2668c250bbfbd8L,
+        "e1cc079becc9bcabd63d7e20a455c3f095f1ac7d917207d5cd687e86dbffe212e54461c37f4f6a6eee597931632921af");
+    builder.add(
+        "a8a2996b01d4467859bf0ab048949e9f",
+        "be71955e102015c3c85380842dabec9f",
+        0x9a96254e06c9f4a0L,
+        "0bd9f9bd8141fca00b9d3bcb379a9ecabdbdf5a27393d329e94cdd947c0892395a08d9c69be515d95e98ac5d74e96230");
+    builder.add(
+        "53b299df9e2184bebdb256c39b0e98a1",
+        "f91aeb3355ddef663cb0def4bd1176a0",
+        0x36be88919e92ad94L,
+        "71693b16e0a65046252228446bb4c6e9f4a4dd4b29948fbf332a950bd3bc176e44be2a1d679c57a22ceffbd468249f4d");
+    builder.add(
+        "ce70736f273fbcb60221cc7ea97660c7",
+        "1f1f8a62e80d4551fe9638051e20ddf9",
+        0xdfb83d43ca7a1000L,
+        "c6f9faeab4bb81faed655eb96fe44e9fe2a49fa3c22e1bd484347c783cc28b866efa076c13d5e8aee6d26ece39e8905b");
+    builder.add(
+        "392825a45e581c166ce63a11d6a03f6f",
+        "fb6f9633b65b62d01ebd0d22e2648468",
+        0x237e3acc4047b909L,
+        "6e9434bd19f6aa4c4257f3e28e20e6b7fec0890174f46649ff8bab5d64c77444b2ca828a93fb331f2fc9587c2e8daa85");
+    builder.add(
+        "de2d084eb6f576f6bb2b4d0565bab7a7",
+        "9b61aa86a2fd97f902fcd42b78edd6a9",
+        0x90cbdd77e2d0e143L,
+        "059e668d9e8e7ba48aeea23bb5a3a6c4ab5d37eb3be6191eb86bb54aab6d2cb1fb4fafab2c341d6cbf854a8f1c55d824");
+    builder.add(
+        "cfb47aa807effb77a970159f3bed5252",
+        "74018ab8b70a1980cdccfcc50cc940bb",
+        0x6b42351901724b25L,
+        "3b0d7100c827637af5d887c9032d01663facc55931d5aa77b6f47d059f18a6b1766176f36542a6c33b47933ecd723a73");
+    builder.add(
+        "e61ff6745f8c7e5b690e6d37d6dab970",
+        "3c305a800f49414b08582134220825d3",
+        0x07f1491f4f33a18eL,
+        "0d557530e00acad86c47ced25aab03d0582a535ec19bb5fd9d0ead1df418f1ec4b66e81539e0ec151797ee270c3eb8f4aa");
+    builder.add(
+        "a9d5afff9a5a6c44c875da57f41a5ed4",
+        "a6761c4bc0b4752add59e3e1c3bc881a",
+        0x46e46e43a65fca1bL,
+        "75e82385f339cd27e07926706283f629c972af795f04fc8bf51e091d083ef6883ad533c54162edbc1f5ea6a91deee3a950");
+    builder.add(
+        "dcd58a042ba4ce3cf71b1f31a70a035c",
+        "64c67e423eb1e3f7557cf3b9f93d0072",
+        0x709fd357b3418e38L,
+        "d896a92ce9b4f106db1bef5431211d5440549967d1a9fc8e863c2a478dfa816d2bd6bfda0bff047b84f5e45ea85715132d");
+    builder.add(
+        "322ac1616ef35ab6da7b17f3ace67976",
+        "2c53161f06550f8f3127416e7e9cb532",
+        0xd6f9ed695b8f78e0L,
+        "4964c32aabc137e6c29d622d1b1a923dcebdfefd3db5235e14b359108ba6be436ac5e0c3a302ebd6cede3c0d655eec930c");
+    builder.add(
+        "b2efa194e537a23a28d9d844faa76b51",
+        "b3981beb8a518ef491a0ffd4aec1a2b4",
+        0x151e0b24ec2d81baL,
+        "351484bc7dbb1e43f1c4a81b2fedca0aaf16a4a99638f52507f0e4b499c041732e1349a5b10e43ecea66dcf25510757518");
+    builder.add(
+        "40b61d131540b80e689d62e0d2839d2e",
+        "163a47caec91c7827b16991a234b533e",
+        0xac612f24bb270f25L,
+        "b5f558618b7d320ea1605d00e20a8324018ed0c65cc9f30d504431f2778cad3ae36bc5be4c2289e7e2d4328b69c00b3a55");
+    builder.add(
+        "3a46390c9fac42cf44e372e8a96bb634",
+        "7637cf8a94342a8a8da870000dbbe9e5",
+        0xb5b1cf245792f9c3L,
+        "61d33ec7e10a7dfd206b5e7b4ec895e4c6a4918e151f5903a62ef039937ea5f448090a5ec5c928a86bd012df60bf88e00d");
+    builder.add(
+        "555d500eb7893102dcb616e68de57e41",
+        "916ac4c8c2ef122f7741e4465fcf3537",
+        0x826c15ff2b30e8ebL,
+        "a13c61094b82c4d68b2b44165322ced755d0116e815759141b97c27bdbaa9b0868e185d2f11f1e215c541065bee3a6f9ce");
+    builder.add(
+        "1be6be5e09646b86f6514377305ecc73",
+        "5c972ab4ec2c7caf7db8cfc692eebe95",
+        0x89f6221e0980aa55L,
+        "c6bc79febac0ed2cd9c4e9e7f9987b4cfcd9138e87bfde95ec4a7669cc6e6055ab0fe4f3436b60aab5a9bdf4cb63f627d0");
+    builder.add(
+        "14afee4e10a531b205835a67b6b6f3f8",
+        "7c842697409b1888c89239cb2734e258",
+        0x8b6d2f3d78ddb413L,
+        "c77372b2acc5a4e4ec8c33bf14424385f0b187c5ac689bdc41a473e8ec12561f5a29688d1185a415b3872e0a036c2d461e");
+    builder.add(
+        "d54809e3157215ca2614206743ef92da",
+        "a8a73a1c6cf83a7363739ccd33136abc",
+        0xedec8d66c0204b9aL,
+        "dc696504685f4d1839c61d64ccf6a7cfc23f6ba8d62f2e6bb3e7e6ef1718d5b9daa1818186fdccd2252bd0bb6f64636f9df6");
+    builder.add(
+        "0f22a3094fa40a316112b36c46144d78",
+        "4bd83b8034a222672e2a887b2d3bb00e",
+        0x483dafced49f6845L,
+        "5488e40f26ef28724027998dabbd8e5364d10fe5667fbf54577c43c55e89707413d619584fbb384914c625b0f6dcf4a2499f");
+    builder.add(
+        "8b0e76dc9e9abdad3360637cf79cbfe0",
+        "50f74ba17970c77e27bb5905c480975e",
+        0x97c00e8650caf91bL,
+        "a7beb3f953b13624bc908727a723a1405a4ed290ace29e7687fbb67f56dfa25d48888734cfd418ac28768ca0e309dee04135");
+    builder.add(
+        "1017d68fe86b5d088c36bf731b53da32",
+        "973a61c398c80fef0283dcb5a78a67eb",
+        0xc3aebb6bda8d38acL,
+        "6884ac4f96a2b8b692b64ad0cbcb410735051497c9b83675f71a3c90996a85d66d99999e585ca37ec290b93251c4a116ee73");
+    builder.add(
+        "777cf847e0d386b58bd4a2aeecdaea5e",
+        "84bb11d58f0fd4e9613f1562585d3d23",
+        0x3a51b5e17d307e5dL,
+        "57c8bcb0618a3fccaddde151e8f97a3ab4dde688d9637f62984dc5c3308c5180eb329a2e6f870a07663c0ca6df37288a16ab");
+    builder.add(
+        "6a8fc0a7686847c01d5f35aaa3b6611e",
+        "ef5f259a92668aefce784c221bd71567",
+        0xed4b79617834cbafL,
+        "166cf3319a816c284e611f869592f4a37e501af8c7b9f6e90d2f52266a5122b64fcd2251375dccfa2c1160bca937175b667f");
+    builder.add(
+        "c6526b78ab09e2094ac146ad6b1420f5",
+        "a5c77fb60f2b80bfbbf6e2c68691578c",
+        0x27849957bab93683L,
+        "841c914a83a4336dc8a836ae113baf9f38687db9d7d20ff51461331108e82e0e9d481a80bf36a9afa89f10dd85c5a27005cd");
+    builder.add(
+        "29ab9b64d4d47f90da46155e54a3bb9a",
+        "ece3ffcdc164c753827198655675e636",
+        0xc12d878d80d29299L,
+        "02f53ad0221ed57e6045ae54680110ab5694fbe1a1f008b0ace7972399081798661e5590d22ffccd4400d9a79e3c971928bd");
+    builder.add(
+        "28986b847c475b7fecbc215010fd5bbd",
+        "cd0f5f75db58f0c0b0a18f1cbf57d6e6",
+        0x4d2cd5db90dbd861L,
+        "9f6acd3afdec553385244d7167c531fd0b39416d77169d954b28c993300512614fb4b1126898ce3cc2eaeea53388c43bc409");
+    builder.add(
+        "647202f06877302a3664d47e508baad1",
+        "0097ba6dd59aadbc334a45650349e3a0",
+        0x1acbe4f4d75896dfL,
+        "41502257225acc5798407e2e1afb83ffccec9accfa8133640594841cb2effb9492797af71e93633a162baca804ecc15c77f9");
+    builder.add(
+        "63c4a6d22c2fc94a8067c8ab48a803cf",
+        "eb6f6cd32866737e60506af189e1b12e",
+        0xa201c3c83acc5df2L,
+        "b6fe888259ec2f75ae135ded87e875e4dc12eb2a1f1de446457086f5ff3938180d6e33e3a9f01b1ed0592b66d922a8a415f88c");
+    builder.add(
+        "a0accc9e58606587501c7081b4746d73",
+        "22c8676dadff986031fa5923af3933e5",
+        0xe08ec6776ceea40dL,
+        "2bbc4e8841d188068c2476ab5afc83d64f5e37b81a409296f97ad3346dbab79f02ab8c3f76ac0bd5ef0969168819d316a3ee4c");
+    builder.add(
+        "b92bae03e721eb5be64f9558740a6245",
+        "0994519ee4e990f8e271a4165bf5cc47",
+        0xd3aa3d608d258daeL,
+        "e86fb0642797b75a57d69d3b693a3a6392b447e39121864c418c879e58c27fafcfcbc7073852ed15678ce019bfff975d28494d");
+    builder.add(
+        "aae2ce8705ca8bb2fa3e7473a5cd6948",
+        "658d00982ce03439389611f797e4402c",
+        0x14a10ab2d2c23b50L,
+        "9375ae155dd734b0b4db51402c8be7a84fb3c75efa2eadcbc562fdc215b47fa773040bffbeb2ebe2d6fba21a2b6f0c3527251e");
+    builder.add(
+        "635202f3aaab9c0a729c424336294da5",
+        "3652463bd0eebd52104ff93054b85871",
+        0xc0b6c02d3705bdf9L,
+        "1244ef52ea3895c8b3e3bbfa3f9a0c1be17c9387f4a4149550447dfd5e58f8560a27cdafea4e5846dd75cc25660ba2ef90cd6b");
+    builder.add(
+        "f8c3aaf959e07405be6b3e501321d939",
+        "2cf148cf552e482ab777c8f4793cd107",
+        0x17afe8ba60da813cL,
+        "2a0c01d421c26223f3f9a700008b9b7c40af50f3ca6ad5bfa7e4d01d12448793cb8310d832b94f5f6b36c98390f4aa5fd62b56");
+    builder.add(
+        "5060f69adb341513c0f7973aabcd5bfd",
+        "97fd3d4cbe13b01551c7028a9f3451f1",
+        0xda543c7f2a2d17c3L,
+        "9eb79dd9fd4a1cbc1c155df52c76f5e9b0fa34656c6fb58cb32a2309ac43b3c0aeae187256f41d086873778f7bac4eea463abc");
+    builder.add(
+        "694611fa18e3460f27c374b57d1916df",
+        "9b1b80486d8d84f335190ad8941e5390",
+        0x1bf9c035cd128f80L,
+        "ac95b7891eaae96f5b2e24a506dee9cfd115385ae2994f5f9b2c11870445ec473374d1d3a06d67a792672d1c10bb31cd7ee5f1");
+    builder.add(
+        "e5b3de1f1bcba44208e5c667dffd8cde",
+        "5b298779ab5e2b2da5bd21ef5987565b",
+        0x9f9c3069371aa58cL,
+        "9c58dddc6d284d931b086b3c5280b0550129a6f5e4ae962a44dbb94c67d8c6a44bac71aec702795303051314fa83144c9c00d3");
+    builder.add(
+        "9605e7f4f572b769762845b933fbb45c",
+        "1042fa2fb3337650ae3053c25f61ca8a",
+        0xaf5efeaf05d56831L,
+        "107ec9909af264445cbf4411ace6e67c33eb69d4f205fd5a88b157a91c0f4bef344d150c97c499651376383aaa05b430e7987a");
+    builder.add(
+        "899ccecbbb3a60e9c6fa4fac69be986b",
+        "e1dbf519fbaa70d7cdf941e8338e5fab",
+        0x179e1c68fab86d93L,
+        "72bc3ea2d344178bd83fea97c7a971bcad837bff79b8bc8763dca8768a94cf34a3e8a5ca132476bca806b5fd2c4cacaa12ff9cfd");
+    builder.add(
+        "d2627c78e408c2128f5c19f70003eeb9",
+        "a8b8ae3a66db19e6d644b6d4f353bb69",
+        0xda0837b99136534aL,
+        "4cf7f0a57670c7fa7a42cfa8113e55e462bbb438ccd6bc4792b7fc10b840bdd2d89a4c6eff8e1324f83259c5f8d17d3f19e4e068");
+    builder.add(
+        "483fbabef20fcbdd0a3cd701ca3c7817",
+        "fb14d0293321d72dfb9ab3817963ead8",
+        0x14211b063383a8c0L,
+        "ff52ad17b82cfbce42f7d8912868ef6851cf31fcee7808c6c29cfe15dc6fd0306115f8388f83046e0c9809d94eded6005c326d21");
+    builder.add(
+        "54d3d52cd3d5bd4d2268de2ffaa3a90b",
+        "47a21a0b949e3b58ca79d64e571e09bb",
+        0x772c3ae135a4e586L,
+        "712f77f4c55b74eeeb8dd8c690c74570bf71044380897ce44568ddb5eaff891c0b78bade9c6505afd88aa954fd27daed8d9857be");
+    builder.add(
+        "43428e57e8df7a8f26ab8aea1e98b4e0",
+        "e5e7e3b20d43cf6d3c4824f1f600c797",
+        0xfccef797846fcdadL,
+        "79da47295c2183e9fb2140ced084ce7ec857308b6bb41f0fd5ea43ca6b819bd9cc2ea31eb4315e7607512d6a557841a150fe5033");
+    builder.add(
+        "4babe9fe06e447d5a06e9c358ef71992",
+        "2d3aeaaae3502dc7aa632165212ccc92",
+        0x2eb1b5f33f04a3faL,
+        "a100d7ff11d41aaa854847108de0f7387db3da17b34c58a2269a6929b20e8e740af4fc1330b9f36c959fcda36316721c0ef81052");
+    builder.add(
+        "da2681cc758b4ea79271b0bedb1a99f5",
+        "2eb718765962d79c676de57df31f7d31",
+        0x34bf26d41bf80078L,
+        "845c92ba2cc36042f2a4a9de76e69d2253347a702f77b53e39db640b89126cea84ffa084381414539b72c7ce7174cb443b0e729f");
+    builder.add(
+        "2788ae0ad6b038d3832c0e4f4ce77d08",
+        "18ec94e39828f64f1d4fdcc0293b49f9",
+        0x3d9d8f437539db05L,
+        "54c8e1d9abfb3ac7c106f23c7f410becdfdd884ec2b2bab1afcd32ea4df4fe42760ece2953ce57a0d2046f51b38cb3c4bad98d34");
+    builder.add(
+        "e956697e3596e25706b6421cbe80c03a",
+        "af033ed4e4097041fdd023d51f7c0e6e",
+        0x0969425fdaa13f82L,
+        "7810a42ff43e45d5470f08fdd58d4328fc9934a6a4190ea38112de50926189e9e573bb4b37e06e2fb3f63844e73c84118ca43dd8");
+    builder.add(
+        "ed479f1fbcb92a02b3a5794d1724f90f",
+        "6add2420866a4a81a35fa70c9d09cce0",
+        0x8fe7f0982a180760L,
+        "6171323aad15af6f9dd24d39295246f4c81c40ae30fc501af3ddf2b3caeae4449e443f37112c52b5d276feb3b23e445aa909e15d");
+    builder.add(
+        "8c65b3b18b1d4475396718e7b6594a8e",
+        "17d7bfc831abceb3d11b3de2216a8ca7",
+        0x4ec93c795e34e7bcL,
+        "8af933905d78d418b58bae3ba9eebca86c2713d5c4dcc188ddd406ba1470d5ed882a32986fc7a845a49ba4533a1e6808497a1fcfbe");
+    builder.add(
+        "ceae51fe0b9571d5110b78bebac95ff5",
+        "cd996233d4c79e03383e77e9ee5261d3",
+        0x319040e67d44fd7bL,
+        "bf2eeda5318f508563b6604af6325f6c164f74083e32bc192d27fb670292a726536c65903c9043cfe3611b0dce49732052f9cea861");
+    builder.add(
+        "add148039b544c050e575e4498eb5b5d",
+        "bb078f3f1d7ba94c10d2c9955fe5d6be",
+        0x66e1a7055bb3bf37L,
+        "108eb69730cd34358f4f423388903ea6295b5e114fa31d8adf40240a893933732f85cf415e0ebd4744e5c93934459fd117720d5f3c");
+    builder.add(
+        "f810aa4a9c8181ec72f9e2b95e4390a8",
+        "ba2245be2d550425424667ca1a40d175",
+        0x2d98c8c175cea31dL,
+        "f3a3db27ae7b134680d986a49d2fba93b1920929f346416f04904f4a9a27ad661b9470e6a219819aa59f7d57b906f0441837dc1a2f");
+    builder.add(
+        "51e16d03d32b1fa191d4148a09db2da5",
+        "79f94a70acde86240b6d414e28c69390",
+        0x93a5ddb5105ed42bL,
+        "e9a9c7689150a0a862a0cdc6d225428f9240b24f6ec8a2e396824cf7733c1b1ecdcc5f466340a47ec6f43232b5e5792b57bc1bb1cc");
+    builder.add(
+        "99e3b9d0156944c402d600dfbd15bbc6",
+        "95da69fbf6866516bb5c4448744da912",
+        0x07d6c4abb47b6f4cL,
+        "b190d89d61ce59883bcf262837888e2b6adf09986f7234fae08ef8ac99dc333e6012d2f4734efeb994d5cf66ebb40326701ccbf0ea");
+    builder.add(
+        "ae647630f232d76b418889ce33bc37d3",
+        "d238f0da71cfd3c402b9acff1281a444",
+        0x2e6ac47ffd8b6d62L,
+        "717f007602fdd8e121aec88b974a517cb0d13066e2f6fe2479908e44e8dca134211e5c8f36e4c8ed92a5f419f03d5e0daa9fc5edc4");
+    builder.add(
+        "e672c2b26852ae1612b158a673cdebbe",
+        "dcad5137d56f9c9ee68c53784ba16cdf",
+        0x9a6820241831a12cL,
+        "57b432898f6a9af0e62b16076813580bbf0054a9251f0aea79f8ec7030f00504bc710e2db17ddb96019dfb654fbdf2e056622c8619");
+    builder.add(
+        "a291f93d04efcc95e66f2216072bd39e",
+        "74acb6cc594a0ffcbc32748ab7bd7a20",
+        0x61e6138c64776a23L,
+        "151d387b1e7ec340e917974bbdda8587966dd9197fe381978a51e544076164e1ca9b0308c4f37a5dc251b490cea54d59e00a23e12b");
+    builder.add(
+        "e50694c3902dcb58b8f638ac9fc836cf",
+        "e7c7c8e2a576135d92116fd0cbcf3218",
+        0x049e6e5883fa4d5cL,
+        "5dd336e1ef2c727453f70116bb16a0b427a6de029899a4e26a10aca66654565a4b912b68c3f4e8d815876acb0b94a2745e21d91bf3");
+    builder.add(
+        "04ae05f75a0a67b83504bfbe2ac1c26b",
+        "9160c19456548c5ab8ab12320f8ddb0b",
+        0xe0f6f94feb10d413L,
+        "b208f22261d8603c8b8103b1da88c124ab5941083a77f5ca760999b010f01c2e4144b3f7c7753afccd625475fc414146bed67fe48339");
+    builder.add(
+        "7e3eab6c4fa4ebe3b44dc63902fa8972",
+        "b6fb95e4339ae0550972b61d59bb6136",
+        0xd06ca3fb174ff67aL,
+        "ac66105e1b4606c590cb8013105963ddea87fc8902ad9463426d560568cad2c15518bddeafc29114381ac1559300d563686d1d9729a9");
+    builder.add(
+        "721038970a0cac4066c04dba30de69e0",
+        "b47a9b2715e06c0265afbe205bee3413",
+        0xe8fa748804ed5d55L,
+        "31d66558ded34f12516a9a7589f8f3662f3d6a1e63c57f165cfe7c87da18fbb5fe7ad34660629d1623e4e6c92a52cbb1008982c0bd63");
+    builder.add(
+        "f6f61c28543f956fb3404a67b515f89d",
+        "5374a2d4713e0a964fd58ac75d19aa27",
+        0x21fa3191e017c7ecL,
+        "735fd362664a4729a29fa39ab9a53a8bbc0fe10be7e6ce043b97a6d8351b6d5d09b285b756856e55175948b247e2915df9194a596343");
+    builder.add(
+        "57e9ca40a7e24308fc6e98e457caedc9",
+        "3a1dc550eeb228821de02c195dc4a53b",
+        0xe80619ae3c5d6e99L,
+        "0c4f2479bb2beccb3eb7f84b0260564a82dbaa7a1a07133da0a7d7c9f0d3820585263a13a083c220b94041fa8314d2f202e032b7b05f");
+    builder.add(
+        "64eb41c8fe8da53b522ea185e3e380cb",
+        "5e5624a81b419fcadf42bd8a9c856f9e",
+        0x7eb02e9baf2951e8L,
+        "1355d08d0ee2e89ee05bacee0fb3550381294ad88ae12fca8bd301375db504d7cdb3424b992d87fd03fd5ac8c6d6f381751d54cc1853");
+    builder.add(
+        "ab55c217c6fbe8e1894b09760b765c9b",
+        "e4356b6a1a503e69f39397971dc86b50",
+        0x1732e4f04be02a94L,
+        "296dd77e0873b80ceabfe0717428a941e3a4a559cbc76452b798c5caa125b0083aebd9d14e550ea5b52d2dd4b7095310df77d8941ba8");
+    builder.add(
+        "682b559d729220e20c99fb8f4829fe0b",
+        "f008e465fdbf1e14e4312bc5c2a186cb",
+        0xdabb3063e9a5b15dL,
+        "6df87667314d314243190a8797bb79b402a7ff7b8cf02ca29a6471308e34e5e21e0330c1ed8ae4ef0fb046a7cc59f054b1fc4fa38b0f");
+    builder.add(
+        "1a0e2c75a327283b4c6b8c150a848d17",
+        "3cbf91e9550db8bf4a7a4fbc5ad1269d",
+        0x868f5e08103bdc47L,
+        "0f6abb5a94e9033e6aa1e1a1610e2e8ae96e6fec9ef217ff94022b9e26ad8a7648fea3f96056f207ec53ded41a293ad9e35cc3c60435");
+    builder.add(
+        "1e0fb6dec725b9b7d0d53aabd31a2921",
+        "ea791cb4702a2617d7cd97991cb5b664",
+        0x14edda73657b191bL,
+        "ee00896e51aa29a1e6913b7bc7b349fe98ea0479893183b8adc1d30be5590786165382230d499969f8c0c58ad933b3f1636a15c1eac4");
+    builder.add(
+        "35d3840775212c0c83cebe02c555d0bb",
+        "7259bbaffb15be73953cc6e5b1147514",
+        0x8e3bfdf64fbc3823L,
+        "b32511a3e3f3fa3e694b10497566bf00b1558e59cb0a31e1b41c30258c0f5d296bc4cffa6e94ea94515ddb0e5deaff0160a8577059c3bd");
+    builder.add(
+        "ab48cad4295a7b5e0d663729af8cb6de",
+        "ec458b5151b9bf11bf67707062ebadbd",
+        0x905ca0bfa26cfe42L,
+        "4c018f62294c5ec6271b9789b74dfc051c09166caa06bed3e4a0f1bbba57829d89a9c0c86b43584bd91b4b5ec53721146db8a6c7ca6f5e");
+    builder.add(
+        "d88cb75acfef2c8f5e8c0bb0c486ba56",
+        "d039d8cd4ae61d6d21b61919506a3249",
+        0xb9679b07993c41dbL,
+        "f7458f4ea73af1345230ee5abb04f2b70a38d42d908d461252fdeb2587021499d8b9c30c047f2cf44f99c0a58bd13b81dc03cb3557af47");
+    builder.add(
+        "d00d2cb7956dda370e628b680abf634a",
+        "b219d7623c52b1079ac8902c80e957d1",
+        0x3c67bb43af9fdbd9L,
+        "7d270d690c0ddcc198cebcff58a00100cb1a4a5e9335206d7a1e3628894c530607a18ed3c05a024f898f78cb9045e4918b2f6f58f52a4e");
+    builder.add(
+        "1e2144db29bfd8ed5e72868c5aa5c7dc",
+        "fc1b60a31666306e092af8667cbafd68",
+        0x5fbf7641ae1daf0bL,
+        "84eda093f7b4b5c286d12a9c635241929c10e221384fdaa3aad5fc0452ae39bc8fbd00bbcc5cb00343651294ca6347bc6adfcbb0eb0a95");
+    builder.add(
+        "654bed5c7ee66fdb83569f095398c808",
+        "d52c3701e921b043e481abac97682b53",
+        0x2466d675b321c552L,
+        "1f7f80f8ccd93d3dbfbeeec167c9635bd528ecf6ecd1505b0f1ec2c934b30f2a7f5bd858955f8951f0d1cc550509259d804e201541b590");
+    builder.add(
+        "3c4c71be70511dc1768b1b4b2442b564",
+        "b84a39ab817e93a867e751047178e714",
+        0xe47f0529ea6a064dL,
+        "03971ea4776621874d793e55f6a1808064d89ddbdfcc9d9dfac6dbd5bc8f6e3320260ff3ce34110e532237a397cd1bbb5ab771a41d77f2");
+    builder.add(
+        "a68c9184fb8039f8036fb9d3695382f6",
+        "f0ecdd7fb021275a36a809a66328c937",
+        0x572bca53dd904f1cL,
+        "770f75ce3a95a14fdb58e6fc2b6c3df98235ba03db99ee658de524626463b64390df06789a0b582cb06fbb70dff55f5955141a0a6f3442");
+    builder.add(
+        "dbb5fd53a82fe230aeaa27df6a2e2a83",
+        "26b982bdb28a91b1b64441d5d6133b91",
+        0xb2d14119569ff0baL,
+        "730e1bc991ccc44220a40ab7a558e16c04e203d0dc88f25f53972225dd8daacacf04214f078ad510fe5560cabc0cae9412dd131ec4ce08");
+    builder.add(
+        "bc6d6e83eee53768a5fceeebc3735761",
+        "c8ca8fd1aba61561d537c1defb2a6790",
+        0x20fd38e6b9ba6a82L,
+        "109f579b494941fd992e56b318a3bb6a630bdab36dc1cae1cea92c86414d3bf69f52e5f8a5e4b9205028c701d0617f423f454480bcdff9");
+    builder.add(
+        "dddf3f99980156c534057288d45c5575",
+        "7874669bed3552464836d899a529d0e7",
+        0xb3f65459e1dc98b8L,
+        "8ad3520755835d4eb3a6c8d3891eb3626ab36e83ddceb272481df0fbdf5a9b6090d9f4847d7bc4c7833bf6a6bd51c83b8e1de572154e2d69");
+    builder.add(
+        "46faaf29b7673dc559eee8e1d24b741a",
+        "c290a12589157a8f50cbae8c1576db60",
+        0x32fff436ca95d79eL,
+        "117c5230520c9da2002e7bf32dee1489260a6e2b828d507bc0420ae391c50b47f8b268e2c6257324693413ac866c1be99f9cc343292f1793");
+    builder.add(
+        "51a09e2b7f090327a617638d5698232f",
+        "6decb915ee41439962138da376b272d9",
+        0xbefe2a16b7775a42L,
+        "da4e6c7067f549088a36d3e3ae55c80eef5c73d62dd434d62eb2e4a91bc0c393bfe23d61ef8d24c2bc68b18566373773024bdb9503e43ce1");
+    builder.add(
+        "37e14ae1206b37840a30eb26873d45a7",
+        "92da56393bebaf74fce218246d9d4d59",
+        0xcdb8487f88e93befL,
+        "44baacf4522d0433e11414514dfa8ae13d210f6a9e2b109fdeababb9c5166913db7870d7d7b478f471ec0a928ffbe8b6b36bb7d0e72c13ad");
+    builder.add(
+        "8103f5e3c7272c31674bf6785fd09799",
+        "5de2a4bea0688da5c72a33d706920fa7",
+        0x190ab9a0395702d9L,
+        "7027a18dcccec3c72330e39d1ea67191d86d309bbedc9dbea7692f66c163eaf3833057feac657f65e169a2e758b1bc5f9fb21753ac6232cb");
+    builder.add(
+        "f1ccc14c6a79092c244b744b93a1e101",
+        "ef769ba8be8355eeae8c6a0bfaca10fc",
+        0x78cc2b12f35b696aL,
+        "2c31608cde1eada7073811e769bcae5f09fb05971c88a656af5d66e468063f2b6757105d13cf11af38e7ee98da103d336a065893c4e50fa0");
+    builder.add(
+        "b0562bb39893d9742542d4142df9f3b2",
+        "16f72a8e2dc2accc7907948612c18bf7",
+        0x349e891e595e7d8eL,
+        "d93237e2e78d0b4530bc5d21864fa4f69e389536608303e54e12e51137aef86021f9fb75b946b3ed431039c2ed50e1b3505f9edf9a862da6");
+    builder.add(
+        "eef6cde0c69d553ede8265e6e04b1c7c",
+        "4f02182a74214f99474c3812b269a464",
+        0x99febe6ad618053aL,
+        "ff8ec6d8af4523d17aaf3e9d2ffab0761432e91ebfee169a43275fc9f5cc587fe22f891ce31e0e9dcce5cf4f6158f88beb87f06a68f2641b");
+    builder.add(
+        "c539ff2723a7917e3f8ba7c3d94e598b",
+        "bb66c505248a315a8dc07eef8b351248",
+        0xaa147397a5760ac8L,
+        "65a7a28fdc89312d8f03538cf1ebf03706d85026d66f8c0ecfce8bf67365d90036b9430900528dccecbf8fab37556be5ae0df3a5a8943138");
+    builder.add(
+        "cee15cf205fadedb0eaeab585628e04c",
+        "fce5f3737e74e3c7a9c4b63b929c1246",
+        0x326f618262f141ebL,
+        "d2d13935bf83b63847c1f57ba35f6fbdc2f0d552df4d88c1d39775e3b283cdd3477a663404088859f2f8893173634f7ffee5083f7a66097b");
+    builder.add(
+        "dbb2620851fdb4fa54c7bab285eb788a",
+        "d022b1d33028e3d24fed3560a54b6c78",
+        0x264bd6bec0aad828L,
+        "9ad4825fff2eb2c95f4bf3ecb119e821297bf522be2858d0bdee3c92a68eeb13f0e1252b1b45ccd12706c34119c25d056e18fac8191d343acb");
+    builder.add(
+        "f5755893e4762760859159ddd0b5bc6c",
+        "06028c0c7b23742b587976dfbf431c17",
+        0x27ca8a7cfd30a82bL,
+        "81528c22ec8a838600a905dfc4f0878be4dbae99697961fe9fbb4d796889d3c068d4ed75eef157b49ee89bb33370b30fc8c13f4b70f8c03ef6");
+    builder.add(
+        "8414f01d1684d4a2164c9158ca6e3cb2",
+        "8624428f856538a0e4340bd3180fbbe0",
+        0x4c812730fb34c7f4L,
+        "ccc3a3f5c09c75dbed2000c595172b01b282036a024eaafcfa69d6bed67d94f1db139d7a1ce7ec67d4fdd29a0d54481df628a89bb61bd3311c");
+    builder.add(
+        "ac0eee1e98b8cd56ebdd3d5acd5d7875",
+        "61d8b2f5bfccfd61ae78b04a016d081d",
+        0x772b18afd2990a73L,
+        "673ac14d2a0651927796bb80a3f4084b8acd81418eb6b4023af6749b232044d02e667bc028db2b8d6ecd6b3e292edc4f041b2fce562d7102b0");
+    builder.add(
+        "6d57b21c711c15c055bfcbb51b31331a",
+        "dfda40142ae5e805f29b7a14fdea44fa",
+        0x7f0b09070ca22086L,
+        "6d797b110233b89aeaa8928640c5ac72f16b63b47064fb7ef58a1abc726db10c1120d58e5c62db086fd1315c0e7d494d1f97cc07246fbc1c6b");
+    builder.add(
+        "2c7a403cdbebea1316ca4ccc9b967466",
+        "fe8c5212e96e3430365d98556a5f2006",
+        0x9453ba458b7551cbL,
+        "aa6d4151d416c8e6d40db00e65f30e786879eddc5707745fff9dbe1f56399cdbfe20612f29a47dd5a50b573d3b8ef25b0155b68fdeea85d8b1");
+    builder.add(
+        "e3137c70a37055127374f8a8ea3b3de3",
+        "7a8bdf4f009c10d7cbb7e5a798b1abf1",
+        0x3c5851688a92e72aL,
+        "a999a6a80891868d6ce4e6ac95aac46034061860081050f617bb594e5210f25060def5fbc270c1b446ffa4ff3e44aa7801b03b329f388d16f3");
+    builder.add(
+        "1199814c0affe69df5dbb71b498b4c83",
+        "0c509f1050d2e21c211e1906cfb53ec0",
+        0x0a6f28a9b65265a4L,
+        "aa2dd9559076535163ad37a19dfaaba8e098ccc3bcdb03b519e156496d58a4a5a3d5ba8a82a1c83f94bb99dabc643563895116b5060d5f7166");
+    builder.add(
+        "398053683b1f6b834c085f0d06cbecc6",
+        "7930c1410bc9e368b22e172661437069",
+        0xedee44a8e040a822L,
+        "4934db38ea2bcc8bb03fc0eb56506f6abb46cf1513ba6ea82362e9fdb559e2e93f002fc8705c9067acd915c6b7ae28bb8f040ddfde691a3185");
+    builder.add(
+        "71da70052fed4fc40b8e3d758863ba95",
+        "80c963542abe255a1110ca6ec37636d5",
+        0xdf78f59bc0593a99L,
+        "711e73ba1561e27fcb7218f9f5b832d3becf2ccb885cd908387124ef98517f81746033207b02c5afd75edbfc12a9cc4bfb2de4571f7efe9d95");
+    builder.add(
+        "84f2e09265e5cae7afdf133caebb1fa1",
+        "37278e9fd3900d94046a8f47033cd290",
+        0x35a4c754058fb3a1L,
+        "03001ad1882408f57200a8be1777549f10cf2ce2f71ebdac7cc997fff606b383e49aed72f102e86d65879ad23250c90093a91a13d7ac136911bb");
+    builder.add(
+        "946d2134339785af1cc701bcba9ebc1a",
+        "8677a9f23d8008ae7ce8f836ca89f298",
+        0x05faea1d145a54e0L,
+        "19fb12abf7aeadb5440ed68cfabab0f99e04d80f64929f998b2499486cb2d3623bd3f2690f6b7e8c97281d29e5efbb210c2434fdd74a4f45cb4f");
+    builder.add(
+        "f160297e54c1aa9ed262e547ed1c006f",
+        "8c8a16226878b914a7bf2683f2adf605",
+        0xc100c1d31a30bf36L,
+        "9888d0ffddee6d31b7875faa50923e2afd49efb4d2f0b150a90592035ae4f7ef101c59655cd29217d3b6990494515a9b666ec1aacd93d7f02dde");
+    builder.add(
+        "60b88e76b6e51ac48cf1e4561b249386",
+        "2d803c7535bfa41b7e56b362b809d671",
+        0x2a29b3779d17f014L,
+        "d3548f068559636da4e41d2a8171e93bb05aca044f70a80e39603022db553a8e2b3ea81d0affd441968afb151a4f0f15ae6b8bef48fc30e6c888");
+    builder.add(
+        "e14fd9a0863cbf30e9be93158534faf5",
+        "fbbc24da991f6fdcf92ec2d6d7cfbcd3",
+        0xc5c01170a9bfc363L,
+        "33968d96378adf3b1b61077cf43534a2a9e7d2c3c1f6637ee21d323859a776f8bcf1a9cd24d3e20e0981491135e7dad035e48463b595ca9e53d0");
+    builder.add(
+        "eb2a30cba9ccc197529969311dd9b5cf",
+        "80e3ad663e8b375df96231b632a9de75",
+        0x53f133c5dc0e9bb4L,
+        "a7cb8606697b9b4a701ff2debc3e7674ca8d393988324f8cfe1e38cecc9f3a48fe6dee1c760a8d3e6344d88c48e9f266b99b82f2e7f24f0226d4");
+    builder.add(
+        "0a8745f3931fdc1d238ed3f12d62ecfc",
+        "aef1c125d19fcc3da8bf76577466520a",
+        0x37bd21a9f54b15b8L,
+        "abe7a32ab9c207eb6700f120c91ffcaccc70c56ccb46989270ff9cd2a6ff10815d885ff577293e0057fa7650fc7d5871f561920f25b192a68364");
+    builder.add(
+        "d83512cfead1417c8625c120df31cee8",
+        "14706edf3e4bc27d0cb11a952df078bd",
+        0x923228bbc41acee5L,
+        "ee7a005f198f0388568f256bd94b1b0fdb48efde4f2aa5017048d5c30d219d2ea1b339afacb68755282b66b76c7d2c743c1c64512877d4d76f13");
+    builder.add(
+        "fe1ea24e7eba8a6050ec4f9c41e86082",
+        "6df5ad91103092506863003cca50b774",
+        0xb441fcff03636fb2L,
+        "db26b41a5bbcd180cd62931856160a3c135dd2cccbf7ff1b7c07a08b41847ba8f726eb638c8b70a0c2ce50ea971b48985b595aa722506b9854a5");
+    builder.add(
+        "9e2fe0c7d3163487b5534a2a519ba32e",
+        "5003c3909bcfab52073c26f5fc671d47",
+        0xd3baf994709f7de9L,
+        "ea68ce63ac557150f41d12edeea647253a97d49de62162769bee503b485fca220e9a2424d642ae99add04a2c04492295f12c9bccc3333657cc35");
+    builder.add(
+        "567368fcf3d1e47a106eb35d81a55e46",
+        "17bc2ef15a28eb1c8f76911e0f1cb490",
+        0xb2935599b793594aL,
+        "d8ae7da439268048575f43a9ce880c16119a58b36a81db1fbd59eb801645f31b7dac3dff472002123520cd5b82f861aec309aa3cef019d33fc43bf");
+    builder.add(
+        "d3a4013850ed855c704d8e762ce82e28",
+        "2b9911110f53b7353578401749fb1de5",
+        0xe19be3be48dcbb7bL,
+        "ab4a425245952c70e49ee9d0afb0dfdccfb7bf8d794c56f826b2744c2b3b0ec87639fcf04ef40476e3b6137a10f9b76625761e058919cfe5b3aa1a");
+    builder.add(
+        "12254516b09c1f6d36ebad631c0ae8bd",
+        "09bbf8acb9f4e0d5ae021c71207df95f",
+        0xef991a4383772858L,
+        "36c2c38e0b6293d274b76bd2cc4b7bf9fe8da5c875c2cde44c74b0218401c93ab02019fc0330b6d3eafe903f8c402ac4be04749ce1c8cfd3af10ea");
+    builder.add(
+        "7e4d195f1a4406bce9038f6ea07fa139",
+        "2e9d4b558c715f92992bcf2f046c9dbc",
+        0x8fed28cf861914cdL,
+        "1bf35ba858eaa58de80299aa5e0967b060d28d47b3e93b6dca969c8fe50a6fb15c620b5ac763cc86e45c87caf23f9dbe033dc130d5835474890c59");
+    builder.add(
+        "8fe96d8db88c4e64d4f928e7b508d464",
+        "ebd4a4097f7aaf9385c2dcfef7afa24e",
+        0x23912c1cacb9b557L,
+        "ecbdde2897ab7a12f8a244d58932ae0fbd828bfb63c8b7b27e706dcdbf2235a214894e740bfabb7d45adc02e217857cb5da0e88d8f706766da3858");
+    builder.add(
+        "940cc333bb8db2caf01ac16966631710",
+        "7f9f8e5ddf18ef440ca7aa3d1a0c42c6",
+        0x6a734a6b41e59c77L,
+        "cb49225c5e733cb3023ff20ab173a30baba5c0a8f5cba5ba3edd0a52644e4bc42360e4185d4537812be8c565f9f6bfee59054633cc55cab539efed");
+    builder.add(
+        "67367d941316b1dfe90a90da88385aa2",
+        "dbdf5eb7c6558125dfbd672c18bbd889",
+        0xd712fe22ab9db4d6L,
+        "f3daaa85adc59ec739b93532923e0edaa2f727e2e80a67fc92f4d62a82020976cc7cc306a74b8f82b336fe07abb590d4b16caacf24fd08e2120e65");
+    builder.add(
+        "97333630e1fe8e712718eccdb969175b",
+        "61bbd853898fe7dab41fa74214030fef",
+        0x12a7a9af16163e28L,
+        "39307de322a87e80a1348a10f128266845475e6f04c3e729c582401936993681c31f1004ebcd85bd19b3fb5a63df9fa047bbdb768b4c10ecdf913c");
+    builder.add(
+        "7231907dfde9d9b1866ddcc5469c1068",
+        "2b52cbefcd94e6ca93fe9cecfdc15e88",
+        0x752f584bd47abd27L,
+        "dffbfbd1882c05ea4b41791f678e9d5df9fabede061481d4f45715cadb3ed7201c8494eae980c19c843487355253500ac8383b3578dad3c620d037");
+    builder.add(
+        "715fbf992ebb00a3465a306e97818461",
+        "dec6434ef0c23a4afcbcdc136517b3fd",
+        0x0b89cb1fe58a5042L,
+        "315896c99be656ccfb99b31df0915b1754f08d1525a5dfb8b02c7862070f79a439dbda3e146096e832f00ac8f9a273785d3dd44bbad8bdc83276cb");
+    builder.add(
+        "03b3fae22a6dab98fd8f52e06a34bab2",
+        "fb14e1b5d1db2c9d0951fd825b117b47",
+        0xbf93026dab61e699L,
+        "71c28b973c8874f716ee8d4c22220cf8c78299ecb574e71d16aabed1eaed12362dc08ccc63b34a4a05b381fc3d96cb778be80ca283fb6581f36fcc2f");
+    builder.add(
+        "d5f29b4d18b6b0ba0d8b0a16c26a2e76",
+        "f4b026d91e2498619b7ea10d58f37c99",
+        0xd789ca99f08cab76L,
+        "6261317e510db6deba9d9a6a152ff93c0688e2185e8e27a0c2f06bfd7295e3a0d2dd4014202cd4d10537088d102568fd4813499952a7d53912ac3cda");
+    builder.add(
+        "6f49dbb95a9fc3f71776a110177dd37f",
+        "33e9e4466a2b3bb3a856ed4004d5f0eb",
+        0x92512f3932c7544eL,
+        "5050037191fff186ab4d8ad2c28b363d937cb552642855d5311248bcbb277841c2ba07d3cd46ba05aba291d1db27cc1806d6412af2162e89a68a0412");
+    builder.add(
+        "a44539771da9558452cb0628c6a4aa81",
+        "d6f66c8121208d33f1457d804a980875",
+        0xfa4442ccd5f6afd3L,
+        "259215c3563151a95b13da655f6cf7a25d713e38a82563c0448cb2eca1786b4ec809092169ea5b450034e8246490474348d7c96cb8c963d33e1e7d7d");
+    builder.add(
+        "b62b84ac97254418ad5559365d0be14e",
+        "8261fa3bab79dff27d7c6b4daa9dc85b",
+        0xf9fcbe9d5245986dL,
+        "0e357eb8428db93beaa96e6cdf003412161a9642c4a2d8a1a4b32a2a209e7c9f6aaeae06661b675c870e0dc2cb4557bbed571e88d0c1c62977b80b2d");
+    builder.add(
+        "a0d5f7ca08b8f1ae4660f120951cc15f",
+        "e9596b916dba53da3344b1243cf3d8af",
+        0x0a5406387776cdeeL,
+        "5104faabe9e89f849a34eedb32d41e6799e6373238af1db58e0703ec215dae5ba351783b99ac5ba6f923556d27855f31b539ad9a2112fd404cdd88e7");
+    builder.add(
+        "7aa87445cd2301dc729fc34a44093c1a",
+        "a8f88fe177c68f6d1c7802ca9dc7d0d5",
+        0x904d5546b3f0a075L,
+        "a2cfa30ff96923e5a6894b0524484b2c07d6a5072f03181496eec859e452dfd9dc1f1adfeb115d2ac907e3fed01a782b2c68b2bb415a82206def22b0");
+    builder.add(
+        "c1e9df3e329c0542f33232b9ad0d8d8c",
+        "dfff39bbdd5eee92dfbd149e4145161f",
+        0x23a01a13c6185a0eL,
+        "bf23e0689142d27197b6adb60b3e31a4742ed459174631ca819a0e66761cfd6dd2ce5180a35bf7b36a889a791a8ff047ac38be945a295534505fbd64");
+    builder.add(
+        "15d5af65b19421e1cde6ca3918d3f822",
+        "1e36c39963373801240b440c60f2c09c",
+        0xa302dff87cc2ff89L,
+        "7392833c1a85a5ea99c74410dca5491a581342d8855fa6232d683f1e954d6c7be9ac094194c828fe1b5df611141d41b9b62860f22d9f82fef844de62");
+    builder.add(
+        "b5a3e97fa25e8193c58d2bfc934114a1",
+        "ef35ac9811ccf3695df74bb69b098022",
+        0x99522d2a96259719L,
+        "f727a3962f8a4cb79f51be105defde7ea80ae9829038caec2663c1f4130ece95816b37b36399fec793f1b3a742131327c15f76581d1dafaa8f43f69b");
+    builder.add(
+        "b38e1271b03b1df3b8afa0698e622370",
+        "f1ffcb44729aa810263a15a7a295f66f",
+        0xebf20ab1baed5e4aL,
+        "f7953770441dc719330856d710e23b1c2310e4308e4d86b76dabd653d41ece57aadbd759506a79d653210e8c94ec9ce39efeafac58d8d4004aa5815c70");
+    builder.add(
+        "134bf70da988f4e9795c0b89fa36c536",
+        "2191fa28b2cb4669db725c0e1c881a9b",
+        0x305aa7ab9d6bc8aaL,
+        "d29c296c1444e7dd35490c9e75ea3f098df8048141a772fede8810b00858a8e9dca4b14f03df3481aa4949688c8873b3311c43a636d1b779890a78988a");
+    builder.add(
+        "6e8ef61aa48eed9ef8d6fe456e62a564",
+        "a760877d0aceb7dd5ded39408018413f",
+        0xa37e101fe45488b9L,
+        "25e70a9bb29cd25a2973f84854d2c5b29ab2f0b8ea9f3b005ef4cee8f0e6a761af92bce4e81d7c181f55514de2156ab30b8d39b9fe274f702ea47e65af");
+    builder.add(
+        "c45d03e28a7888bb92d492dbb368a9cd",
+        "2e203bb7310afc390a434df0d0aa7017",
+        0x4550282cb0571092L,
+        "654e82660db3e70bdb5d3c9042da80dfc19c3054652fc6b591f55bc5fa636b359d456e7d32ff2bb0bbf14ecbd059cc16dea4891ea859caf9355eb47572");
+    builder.add(
+        "0c384b9e596d9389b7c452c08cab7788",
+        "02735bc5d0ff7c6ef18bb5e8cb95e923",
+        0xca461a9eb345e8d9L,
+        "62052b0d29386bcfc45e806d967c1c4f1dc5a737878cf5eb334ebf143d2def0805d679656e3a141c7366fbbd7946697955479e023ffea485e97d2c25b1");
+    builder.add(
+        "1690ff512032a671f8a034d1e9961578",
+        "e9bca7244246c056e57142e3008f589f",
+        0x6bae28e8ccd738d7L,
+        "034408d80ec00ee9c0a7add5441b95639522582f6bd85d2de960ecaf70c63b457474e49574ad7bb607f554928d508477f5df631ce6ccab505e15fbb6cb");
+    builder.add(
+        "bd41ab5a6ccd200ed0c7e77f112afa07",
+        "5c9976eea9540168e5bf3e79d6219b64",
+        0x7ea1036c33184aaeL,
+        "a4310d75ecc764a0027ce08403a0800fa01cb34948cf664b11eafe3a190ac17e38a68739512f9330c64e05ec70b2d237bc889cb26934d30ada6f013198");
+    builder.add(
+        "e44897bf88cd335308c01b74e8ac9d58",
+        "62e1179ffa3f35cfe2e283447759e515",
+        0xe28fe50bed8ce870L,
+        "11ac22a49fb8b741393a5c84f16091d80edbb64f51bce5263b55f260d93f373f4905ff6b391d599bd79a43ba7945caf0d542c1f5548ac6e447599284fc");
+    builder.add(
+        "1aeed114cbba943bb9a3704b7821a204",
+        "ee549b490448ccd5fe88b2f0d7ba1704",
+        0xd5da54ac43044149L,
+        "43906a3a427952060d85bfebea8e9d57e58da3e142af490f25b14b0a2fca79ac85340c5f822cb75743570f767d2ce8082d84a8ee54739f1c19b54ee93f");
+    builder.add(
+        "66f28b6751d2f80a2d5f6bf9d9f0dede",
+        "c6239b74c69c840eb8f2c0da697fc3db",
+        0x653080363b6630bbL,
+        "92b475eaabf71c0c00258a15695404f3a52e874a9654adbdd04830cd394ec466f2d36905a185962aeddb956840d1548fa3f53943c1c2ee512ba66dda83");
+    builder.add(
+        "9e8d01b5ffbe7c0ffd3b166b731f2e32",
+        "34b82de96483a2637623fd4176be38fb",
+        0x394f00f2ddf05fbdL,
+        "f784134f3f62ebb0c00550068242d955b6aa68adaea7b04e642f1272d930c5a6620af4a73cc1952ff3478b2ddd2967c1199992c3cbc9052cd9ab01f941d4");
+    builder.add(
+        "51d9a1a271dea2847a84885c461e4a34",
+        "a828eb372e14ba9943b32768a09b480c",
+        0xd3273ca4a08fc72aL,
+        "792c15aaae34f8a9d5d333d42b45f65c542811dc269979bce21cbd6fc6991b9a2846cd3073919a0f71c07b6488325428bcc048beb44a38e52a761120eb06");
+    builder.add(
+        "df884a750bd18a3b5912577208bc4dd1",
+        "64f4e8486fc6c4bcbbe503c2e73ff337",
+        0x359c606d55f866f2L,
+        "38ab99570b65b789dd226636ee72aaafc3ec5ed33f1d29e4b076d4e74eee793e24b033a9bd51b21aec512389677f3c639587600ca0fe493191a07fe135fa");
+    builder.add(
+        "f663e7f92ac8521c34ef3d13cbb8428a",
+        "963ec200dde3ac59b876566797423995",
+        0x1637969ead557f37L,
+        "97bc4346c22125ac18cddadf08743f8d72a2013af679b3052d9605a42f419c10757b9e8329994b920a51732c9adc5045546d4df1b4a95a7a5fd0925d9c34");
+    builder.add(
+        "5c85188710f565007267564cfcc33173",
+        "bb2c1dab8cfaff21b2810bc4162af914",
+        0xc3d56da0e81b8435L,
+        "ed86967c69174a60fca6d034168573a228fa7755a43ff2e3044dae3987ab0ef252131b3aa9298854b38d9d27df04bd7709aba5a4b0db76c54d5e48b7b385");
+    builder.add(
+        "ce7316cb332d9e4ac5eae3e82fd1f78d",
+        "9fb91443cdcfbaf57cfb86a74e96e7dd",
+        0xa352915f059dc39aL,
+        "357796f2d1cf4c32d4ec61f0ff5d78f41c3d685fd347b2068afdf048266cd056525c991f3c2de57ae02ef05e7f235e53c377a446d5c9669d1c1a771134b9");
+    builder.add(
+        "d7f0aaf84b2c02f7ba122beb75d3d081",
+        "979dc8892d65c9412cb39b23d3a6baab",
+        0x1c63227d4e00553bL,
+        "0b49ba3ce86ca2a9305fd562bba40c658e960994bd9b9a92b41ad72795de5941c796ca387614bbfedae5705da0771333abb35b6a027b0d521b5c2ad8b0c7");
+    builder.add(
+        "615c018d565ec9eb292df62bd05ecd38",
+        "d00e744bd1f7baee27e02026eb51707f",
+        0xad989e219b8f46fcL,
+        "f1822c0f850f1ebb7e894e69785ff084e2e2f8d380eb409a606863bc9639c758206a0e5af9b263173efddd26b3f2c05b448cc79d4c369ef848f4a0f0e08b");
+    builder.add(
+        "fc2e49cedfec618303cf4c05f9287a54",
+        "19eb4ecb208d57120636c1a78be23db3",
+        0x57f68d955f310e2cL,
+        "f72d13ba5f3e387718a186c4394378f268b80aafbbbc935ec7b62eb19abd9504e0de20c0a113fb71abe23aa0665cadf864de500a9d85d20d8c1fcfe4c797");
+    builder.add(
+        "f5fd1d07bb493cf763e9a43ff3745bd1",
+        "0fc3fec74d035b4691396ba12d39d1d5",
+        0xdf7d5b61049baf82L,
+        "5f0eaf05fa51ae9249527542452de423e952f0138e2c5fdcec38cc6de6a3126c804883dc3aedd7f58aa0f4151105ea316d2940150a595f893dbac4622ee0");
+    builder.add(
+        "bd66aaf597624d1a7e55993761b43818",
+        "c80b3b12889b48237d3daa82959927dd",
+        0xe0888713671b00cbL,
+        "bbb966aca35ff8d6ba6951912a70cd661a4b7579e0e2ad24ba600d1e16e9237d903855caa8e162d3e4b0a57f2cb030d24fb4e9b61bb50e8ddf0bcfbf000245");
+    builder.add(
+        "59b8bbe8ff16b63ac56bb2a3d9488b83",
+        "14f8f78d2cab7785212be43391e86c56",
+        0xe099f6c63ef2c0caL,
+        "94644ce650df43712465e7fabcb39a034c8fbe01b64b646482e44b9ce7b5a9e831ebdc21749bbbe56bfd8bb301e663f738c687bc72ce06728cf0944f62cf22");
+    builder.add(
+        "83245a1116a495ef367447d232f21bea",
+        "ae9b255a911c4adb44d5042ce44a6d56",
+        0x027920fc3405ca8eL,
+        "38399b272472ff7a8f59830e6bb8695ed70064d3b2e3e39bb7205c89c808197ba6c48f82f9cf0b65d193fbfef0fd79536989f8a2bac2fca91065a13458f9f9");
+    builder.add(
+        "d78c7fae171ead70585b8961606e089c",
+        "7ea1d1733f710e22279ef41843edb30a",
+        0xfc28ccd400ae4e7aL,
+        "fade627f3464e310066be3aa212590b2fcbc6ab66565c0579f2fb6b2bccb210a23bac6bd59bae0b7e7da0d08bbd5db6271d704fc2340f87c127c7e0d56acda");
+    builder.add(
+        "0c54a8ee8efbfe743f6d3643e63d6482",
+        "4573227bfbb07ad08cce620f9f93edde",
+        0xeb60e17cf5973694L,
+        "6c97ef314f326bce68b745990a636701acf6db6336a2ea45d041a7737558ad659846d503a1ce49809ab2ea45038414d38ed7c3153bf901bfe9ce41d510d86c");
+    builder.add(
+        "da4c4a0d76e5b67d7c2d4ee0a628745a",
+        "93aea184172cfa8c2993846db23c8101",
+        0xa365d065e6b5f3b5L,
+        "0ae98968add0ef00c1029fc97e014993299913ccee34e2a079331a004e3cceaf14012f2a86cf859bec1c7540a7723f93cf6d2de442939b563f4af3dcc2a016");
+    builder.add(
+        "18cccb9b737d7259e347dcfe65ac3fdc",
+        "2208ba690eb804fe28c08054706ba983",
+        0x6a7b613a620aa261L,
+        "27e98dbda73f3596e06f1402a43bb6d840fa3bf1ddbbf16dbda629b02db5d3b161f8e451115bba5a3dee03983f6059da5a914857dfc5c5d2f378d4540fd61e");
+    builder.add(
+        "420f1ac176be100fa6b55e0341238a63",
+        "022dd787b14d9fdaf3745abb6ddbc15c",
+        0xbf9086350dbcdbb0L,
+        "ecf3d307163fc4dbaa1b4d505550e0d9ea3283ca405eea36e47932ec64f193b40afdf8d93403ecae45d1a4c6c0b08c7d87ecab57f522f6e29188522426a6dc");
+    builder.add(
+        "ba87884ad583a3f4f5a64dae28c3c19f",
+        "acda41aa6946aedd21acfad3bebc9523",
+        0x77341cbb8b102a6fL,
+        "70e7a4fe02052b31fa699ad1021ed9d4e9dec7dbf73b4236fed21ddad55509b9b3f787183ab0c8cb6c44b8753f394ce8d99dd490c22bde02ecbc5a9dfbdb16");
+    builder.add(
+        "5f6b3b5c1a78acfccbef94c6b1a5b214",
+        "883a97b5eac65cffca1d80fcf2f0cda6",
+        0xa36a55536919fa78L,
+        "53f30b7289fb06492d51d24c2c96b8ca51e9dbb3ca2cf6f3e2b5423f089e375ba354812aa5de4be3e2c7844abacdefb2fbbec835885db46e2a922370b7415f");
+    builder.add(
+        "fb2d63f5987a39e4a9a46432ab3b547c",
+        "9c6bc4af2e8931c7ce499d73ea98c14d",
+        0x144b0ec4ccada664L,
+        "b16706baf8198aa07e8a8fa38c510bef6c0661d1c23c09c1fddc8c4e47f81b219419f3515b3b99a39b2c3a40c08198352bcae032037c59e06bbba118e5d8ad80");
+    builder.add(
+        "007edf09d63a5cd32be337a7c60ea1a5",
+        "14b9c8e7ddd4c74d28358e1bec13552a",
+        0x9d2edb47c8d1a6afL,
+        "ed99de5ce8036ac660bb3c1eaa865ecc58b0dc9d92343b23bcdcaf637f7ffc2e4a1dc8446beca5a6987cb3a2c87975d315dcabd7ab4b9713bc28bd9658439d12");
+    builder.add(
+        "e4b10709695f94ff404cfa4f3d20a4a2",
+        "9642d24b500d8b5bfce22a47497cd228",
+        0x992afb4de18451e2L,
+        "f6397bda38d9d72c6697e83dc7e10e8ab894f514cefbc5657dc1ae2095d3444471a961476de4c6e070883d2435fc392b4eb1eeb3ff43724562b8d29130404bc7");
+    builder.add(
+        "2b5c295a6060606797fbe176b1a4c8da",
+        "3bc786bcc237e5a742ebbdc08738767a",
+        0x2e861fa1973703d3L,
+        "3d090fe34d3f23e25aad7ae06c3ed27db72fd501b812ec0f7eee1c41a773b49d9bf958d4a32906abe87e8eb436ef29d22f3fc4544cb017c4303063836e0651d5");
+    builder.add(
+        "f40a772d8ed19721935f7bbd7b41af8a",
+        "ee680ec3bea552c035e833084bbee763",
+        0xb0e2a0bcb685b1d9L,
+        "3731ba4f8b10451678bebd02cb36a1fd856b55ba38dc536ade426a12c913c440489f0cb839642c3ca71127325fafbb32b749a58bfe1e68e854f4f241b95c81a8");
+    builder.add(
+        "d7329efc1a10095ee4fcc8abb7c300c2",
+        "06e570a4986b6929d551bfa3aef101cb",
+        0x9378091be13e5afcL,
+        "72668b6a3cf0ee9eeb30155450ed25434bfa08382cadea35e4e81bda2a93c5196f9e12fceef7a05381c4e933192c696fa69a43841deb816ba43372fd7a8fe349");
+    builder.add(
+        "548f9cce9ff5875d6d1be7f6e3012b1b",
+        "97c75584748c1e570afec7ac71878e41",
+        0x10681801332a226dL,
+        "e6abe430df71da024ec5a3fb9874fca1e7d9d1a8487024fcba34f783d62f0e73255551027114ac7e23bb8fab02f4335f87257d3a6373f17ca66f42639978a6c3");
+    builder.add(
+        "462c7634dbbd136c29d18c3a2e4fd887",
+        "afe18b31c2fc890e18c97419361f5902",
+        0xdafec225fd1bb74bL,
+        "7d11b5069a8fe9de42ae51d4fc1be6cf653da42da4aca224f2adb86de94547dcd3ef7e675bf3a5ab1a13fa3fcb41c533e2edd99cde9afa6d6cc34755a23cb61c");
+    builder.add(
+        "9784664fe92c67a5c01e3e50afb29878",
+        "2d63e7075a0e43f490d992ac9412cea6",
+        0xba0ae6b39eef9cabL,
+        "82ed22471e42956024efb65d764fe30392dbc0afa2faaa137b33bc62b0be834249a08835baf73c2e77a529758f7bb8fa7b47b4515a3dc75a4d30e5206e5e330f");
+    builder.add(
+        "fb5eda1d43a20e2fddb4605dab7bbd77",
+        "b8cecea911f3dfe8e0698ebb0264fe28",
+        0x67c73695cff7ef7bL,
+        "600b2391335d007507e8ff05692303848afabc16260601ef55954ea342da02648bac4297d11cf9c704aa8d6641c2b2049c9ca299b49e59ebe29e9f9346db432e");
+    builder.add(
+        "0af043bcd43974297990bd76db503e9c",
+        "cb5b733e9f1c974c81633ca91e08a745",
+        0xf35324ad252c005eL,
+        "88c777eb7e0451e6b851286cf3eb6a372e5f86c20ab5d85940d8d2560d5e2159ed717609c865d275aeb419c41be8194c60189799f8013e9f5c6ace82baf2b7c157");
+    builder.add(
+        "4c0b534b198cb9ec0c8d703a616d7c79",
+        "afc86d9b28d14954fa2b89e90eb5a101",
+        0x030e4c2cb24e7c74L,
+        "fc70af7a28086a9a5e5abe48621c250b31e3b0ecbde70b96a13ef286c88d1300e26af326bf11a89c1026546e15b6056c521f011cc400116e74b6ab8b97d8c3bd30");
+    builder.add(
+        "daf7269f5bb4ba0afe23db05007f4430",
+        "bd50c95cda5983c626320c403d17b458",
+        0x63f8556e22b959e1L,
+        "390c228cc4f7fb8fcdebcb7c700223c6324334182210b69b25823a40d740960b6f2691421a7212a65bbd7267b3ed71747da59e906fe970dfaece5b51553059da70");
+    builder.add(
+        "d8abfb4d8db60c82d337fd1eced5bc9e",
+        "7cfa5698fa35346e2571fcdb46bf0eb4",
+        0x37b943de19f2bfa0L,
+        "c5b2439fa7f4cf9f2e92bc48263e47074323422efc1b3733438ccb763ffd408d9c9e898902ddca327cb91d58789c22b99a1e856d721ccdd9d40bff934841e5fa56");
+    builder.add(
+        "422e826dfe0a85541fbbc5b587a62872",
+        "d8027df3ffedf758f4cff9ccdc65598f",
+        0x523a2db92a3527efL,
+        "487b4c0db505e6c5d6fa2657b4e16cfcbc78811f8bbed4cdf29678798096590ce6dbd74e5c658f9145b6a3270eb5ab1fadd18ca10c5501502a65738a5e50d33973");
+    builder.add(
+        "36da9967097d78c3c7f6a40050e3c320",
+        "fb87be68eaf0e233a1a3b3061ba350bc",
+        0xf0f4a865a2f44e7bL,
+        "58b7bd75ec0baeaefac903aee00cc0a756a15862f9dc5a2ae551bea8b111348ae3c4bd516cc55aa44a96899bb2b3a8e3ac4e63d7dd6d9791331a72e3358ad9ad81");
+    builder.add(
+        "60700bcbb1f485a1349c352e7dc177bd",
+        "f3f74d23cf7d08b9d212764f3a8a3c41",
+        0x7fd211e33a28086bL,
+        "8b06b87eb63fa6efc021b8d0161b7fdbeb23a0b54f36dc2e1426624dcbbd5f61d8468afa1ddfa21a9c60415740a933f0871b0dbcac4d6ef2f67dd3a2a239852a1c");
+    builder.add(
+        "236dc925dfdc337bf395af684cf9378b",
+        "3ef3d314dd4e56840d418882771bda76",
+        0xf055cbd1ebfdbed9L,
+        "1a3eb076aec41e462552cc87906ca21946325ab3a426ddd060f1e70f9671d798b7d6ad69d671b2e08cc9b01ddbc4e7c1a2edfbb13b64d8ceb4f2f2cb09bfb317d2");
+    builder.add(
+        "ffcf81ef099a2b1de354f9279573af22",
+        "7f2a515ec44cc36c76d84dcef6c155e5",
+        0xecfe06610cad0717L,
+        "800bebbac0437fb83587f0473dfa3671ad71e74edec73c913a634411c0636d0ac3a1b13e73b671afbe7b854b51094aa1abc7a8a94401407de90d08b0043b442b2c");
+    builder.add(
+        "b9483cedbcad34882fe4fa6919c93ffa",
+        "8616e319835b29e0b44779fb7752f299",
+        0xf12297b05da7d257L,
+        "6853d89ce31c7e51b63c4647497afe903827831fef98007a914b12f275545a212840dd4ee952dad2af70d500a32607cf0e59a7476032aa409338312c40832d8518");
+    builder.add(
+        "1968d69cf371b5021082c5eea3cf8648",
+        "a7850fb0c7c1b8186d2f91cfbd5db314",
+        0x4777c0a57fa19707L,
+        "61e4055b9c70797f588032b02f561b1f9b314f6d45be5d66580aa652259e9affbbced3708dc8efd845f4796b218003f5ca95997bc3677cb91823d1b09b2567008f30");
+    builder.add(
+        "d771647dafcb66b16e8a33b6b72824a0",
+        "9979caed0a2ad5826a4deed23c6ecd4e",
+        0xd65359cb50fa2f2fL,
+        "b3717383cf01aa2c3a82d377d628fad73fa2eb83b4fee605f5b3d065f1e3f6173d502ae5d8e553c630c3eef14ed09a17150283e49a4637d360f5edb4b178e1b10bb1");
+    builder.add(
+        "f6edf2e734e9fd88e57158f86715fd39",
+        "556bd8bb97f9f351f1c8ac2fd5f9b5e9",
+        0x5d0b2d3e3122a23cL,
+        "28c6b4e0ba5c8fe968997592b731ef26d5016fc6b51bf7c54e0d84d94595c576a58e81f81f56683ba10a1786a00df0127091af3bd6b3dd96acb4c94513e1a96b355c");
+    builder.add(
+        "783b63e641b02713feb024970f907f47",
+        "ffc41df67c5243853e2a584ead1884d5",
+        0xb59b90e3adbfc2b2L,
+        "257f807f166a379656410bac65ad72f271c8a95a91d5ca7a4754a8d7fbd4a627c611772ff0efdcacb9c9b46c3a5cb6fd27fedf8b1c80cfe3715afedeefb7dae94429");
+    builder.add(
+        "c62b938b71ec2096a69dbb6dea7806b8",
+        "3115c651a67f8059ba61c4eb11df4bab",
+        0x0cf3b4b58845f8f5L,
+        "9f9ced41c6ac66a37ae631df678c8631b4ba8aa611c042d4be0f9a438d97f4ee267b4ac0d44e75ed766d19bb8d33db6a3480729e4fd6db1b424aa7d46dec83252203");
+    builder.add(
+        "f0277c1c12fdcad6a98fe9dab3d62346",
+        "38193edb943ebc757bc370c822194480",
+        0x525252e1974940e3L,
+        "188654edfedb1ed5695cb0d01512b033ec24d7fdc95b4c98f12117ddd858a873be6ef1eb5c129a27a81076e8eebc771cbcfcf7c94bc3cb500b2a7d64ad3bd41cce47");
+    builder.add(
+        "2c15e701e82ee20fbf95a7aa9e4d7893",
+        "424cacbbbbf0a7d602271bccf15948e1",
+        0xce0ef349590f20caL,
+        "8589d5cf4a8d1d1c205045bd937a0acaf4247375764666c5d8c1b2652240fc3e0e7be3bb6d153a0a3df38422305ea8dedb9d9139ef9fad8311df922e9b241942cba0");
+    builder.add(
+        "cdedd92de234b57b8ce88a7bed6fe229",
+        "edeb4c90bbbcb2e3c3d8ef21d09d94da",
+        0x085001b052dbc53fL,
+        "549486fdc088ac1c47f983f8fb97ad47b9433bbe2e2f0f3a7705d9520e19ea2b25e77524df24e60a118c7e6a83feea861e18b3b4045f59c7ba2189207005e0542462");
+    builder.add(
+        "96a9bb4ee434833490368e9cf2dd92ff",
+        "83190e2a20668b12d7ed093a1b3b5d29",
+        0xd4c1218d93f0cf11L,
+        "43d7288315694636712fddaa773e0fc832c0a85d385c18fd288a73d9144b3a3e3cdd9f224d01af3318aa7e1393a38e62e8980f40059a27f93948f5a4b32656d25048");
+    builder.add(
+        "8a7047a4b97977fdc6b30e437d1ac42a",
+        "8218b33eb35aac0970b83fb713a11233",
+        0x59308bbf5c37dee8L,
+        "cf65024e8a4e5db5559521859a7b74316b193205e66c8c5661eb88decab8e301730568ba5db1392c1504d27acde5f904d28bdc17ee9ec6d4814ed77c0703ab304d7a");
+    builder.add(
+        "b112261dd3be6885034564989da361fd",
+        "a9720dcdfab205f2dbf3b611a06acf84",
+        0xfdbbde915bee4179L,
+        "4b4af2296903dfd9095a8c11877b24e2bbbf21543d513297ef2efe55ea690b118b1098334dc6ad81e2e30366c0c923e598170566fa4d4a1e0c3a83a3396d35ba49d189");
+    builder.add(
+        "bf050b54310fd55835482e1e37093c19",
+        "5b20e2bdfc8503b4c5970809e0906c61",
+        0x74b53965a42b064eL,
+        "8336d190a2069bb0971c4e094085c478a774deeb49875cdf4bee6b47805bbd27cc6352c9cc0707dfb7d9147ef45ca52660b81183993570779529be68705c28e1ce7768");
+    builder.add(
+        "3896ad6c598a5d0b45b1ce6c664cd1c9",
+        "868dc8829b462daba02440cc23b5b1c8",
+        0x67786070795e96faL,
+        "9ce7f7da677c48503d029097a2d9c4eb2b6be769f352d6da257de8929c323143e6c229ca75d7580045b602c64e374e34eacf183616bd926fd79e2fe46a4dff43e67d59");
+    builder.add(
+        "a78a9dff48d62e3bb08d21f1e493fe6b",
+        "131413c0fa9a75aca5c71ab7fd9fed34",
+        0x181847bee30bcb76L,
+        "cf687d7aaf385857798ac58a57b0b4c8a6e431b20714095226bf1ae88fc9d8eb377fc3a04c636fd36482663d684d351ef8cfead6a6f67a2697924c2dda2a7d48fa732e");
+    builder.add(
+        "2a0c481657a61899df89c961fb7fa0c8",
+        "ed1912dbda1aaee21e994adf8d5e562a",
+        0x51fe37607128ae74L,
+        "de60f0bb39e6d35ad5401145bf9892419f12f1178620e8e08c781a298aedf470590163300d608b1f858e0fd7dc6674c85311dc23fad4a535fc940241b126578cfba2f6");
+    builder.add(
+        "071af79c278ca0104a54d5de1f16c64e",
+        "9ee1db17776a993002d0803de6ccd23c",
+        0x9e3d69a6a5c84b63L,
+        "f388bcdbff958b8d169e89b8fa755d440af3aa8b15a5aa0b6a3760b8f64b9a90bec4e819725ce4b966699380fe18b6c8fa2f9dfa2157eea6e4726c063da4f715e8dff5");
+    builder.add(
+        "97589a951915d1134dbe4ff0da1b6e20",
+        "6d53aeff9cf61370b31aae049a17d996",
+        0x672a605b64c86eadL,
+        "5a432bc392bf939703f9f46885c12c265942f880a5bfee43876256ea6c62889915ab916e99f9123c3b06a77da5e96745fceff47a4a9f60fedc2d49c3aded445524e04b");
+    builder.add(
+        "b1d95f778f19e042a9d234021a93ae92",
+        "a8d304263838d747c2eca7c41c85607d",
+        0x3d7e2b7043c77b6bL,
+        "66f6d2f4d7c8f7cafb65db7fd188fbb7de88d4b0631feae9046e14906c793714052dffa1385106a6ecc7c9c5157bc01cca23263697799655f0a8ce63f83172592e85c7");
+    builder.add(
+        "4be76752e59a717793da3989e91850c3",
+        "d9a6a454326bf66e627b5d65a142596e",
+        0xda1c7b532b516f53L,
+        "274597e04f2a30057dfba1283b2a229f327af53beef3b28f08c94facfcc3f8044423b5d77dfa7b767ecd702e96fa043f1f47c6032333e7819156de24dd4cf296c1d9df");
+    builder.add(
+        "4f7fe86a28067bd4b33433750388b5fa",
+        "1e9393a4061353e72a3684cf8629e3c7",
+        0x1282ed437825411cL,
+        "1b296a1c0e6d2af5e4997fd446751e76c0f036aaedd39f5e83d9c6f564825fd08ef2cf128b282ce629b50e77c439d7ebd5909e7a665a0996e3ec92652e1407bc3ccb95");
+    builder.add(
+        "f5e1e2cfaa4cd4ff7961dee438b602b7",
+        "47119b08209754574642ba3afb3ca267",
+        0xe0b4f37407a5d416L,
+        "5c1e521068a2cc7c41e1b1ca23ccac576d8a5fab1632584997a692eedaf1f700850fd3631973abb268cd0cd48ed26c35e559181d793fa464126240defeb54407482ab350");
+    builder.add(
+        "3aa66d354968cda6a3aeff6851fecd73",
+        "0190ff38ae4fcef7259ba05ebb9745f2",
+        0xbdb672d8460e3991L,
+        "31bd49e3274e098d8186841c6006c0836403007c024ec4c29eddd4aa7b0a5495aeec63e1e9c4be874fec38fffda39b49ce8f4bbdb9ad2d72daecdf9ea129005385347ce6");
+    builder.add(
+        "1eac0c22266afc5c4762ab95ac075fa1",
+        "d6a854ec6dc5af95b58235359fe26ab5",
+        0x610f85b3830c8f72L,
+        "189dd74c209b37c413a2a74f316017809a4df9192bc347ca57d42463b47d4fa68ed40ec6baa603ecfb07cc93e4d9f3c6530245a73154cf19a50356a1704062ba06fc43aa");
+    builder.add(
+        "4f5312bfc3e35906d961db327db726b4",
+        "9634ee29cce391b47a6855aa09062dff",
+        0xa3deda19f62d7df9L,
+        "8a4cac78c2b9bbc947c977653eaab72493d03ebf404590e2928b975560391983ef76f1ec39f8a7a9b7666ad41d377e2f92c9f398524bc25c578d222b945b41d68723265a");
+    builder.add(
+        "d1c5029636ca4c1eda7eb07961ed3b50",
+        "1c04482106446f8fe45c209881bf722f",
+        0x38f5ddefddace44dL,
+        "fe2107cb217b1c0f45b6993fb9d57b7b8bfe6123e7ceed2243c41c6a98c3622d8ddacd09cdac0911de4a99bc64c068ab5354ae542220c802122985e21d4d959427bfc98d");
+    builder.add(
+        "3e23ed4d32ff0beccc6a9efd2274c769",
+        "9b1947b3782c4a17b75169bd40f13f33",
+        0x51c4746f6dca3e95L,
+        "0b4b9ad478fa183b1b6377ce6eab8ef6f1772c5493fd95a739390a8d910fe443b66de5fc03f1c3fe0a1fd7ef108b5aaa33283507bf48298e98505e61c254dec024328eb3");
+    builder.add(
+        "04db374eb715cbbdf45cf45925805de0",
+        "7ba06f42f13e16c9576b8cc1683c887e",
+        0x5ef79bbb2a25557bL,
+        "08e5fcae847e7bd7318041bd3b0a3bee7fa73f23b093aeed9f8fbb1ccf3fcc03b6db3ea2e9c90c07200d94cb5459682e86d2378eb50c568fc450ce16aebf11d7cee9aab4");
+    builder.add(
+        "dbe3ff6fd5d05ae65621d07ebbb00727",
+        "e4ba428fb6f2eb4aa75d42a287f84ef9",
+        0x29a5a87bf9fe70caL,
+        "a3a794cefb5bb41c0b5029e39bf635e3bb34167e564a0cef447081b92c26d44d681656422b7a52df8d501b9328c389dcff9fb49a68a57edb1f0af6f022d7819732bb1c65");
+    builder.add(
+        "996f7ebc20a8f7b88f585b75c90ff9ee",
+        "ba748b057afb3043aa2625fba1952a9a",
+        0x854774d461acbf04L,
+        "7a0aac7716441f9f81b0a0ddccb53de4cddf3adaa0b3356ac7d6715582ee003f3a1ccd0bff642d4de369f09d3290f474f95e9fedff455cb320a4f737e0782fb1d729cc66");
+    builder.add(
+        "e827efc0aef41d6ff8b24053c923fbb4",
+        "5eadb1b6c0e352bda3f7a7be603a18c2",
+        0xd469f4f08d80334dL,
+        "b929bddda70640127aac421a89a60160d68aca6f79e2e09af6b83e8eeccaa358f46ad965efb17718d12106a50489256f373238b422283443be88ed472c26e4b0af74d6c8");
+    builder.add(
+        "ccff4c67cb796bf5ab44904a2bebe61b",
+        "7372be9d87cebbe25d2743ff2a7bef17",
+        0x7d5fdca6fae1fe77L,
+        "fc8192563a9f409b47966ef11440fca67263756914b5cf6e293ac92931f31720b2818c2b7389bce23600aa466d58f78cd9225f3b91b575296ea20a9fa2a7ca3c4bbe67ee00");
+    builder.add(
+        "d41ffa8cf829212c3e213a77c8eb9287",
+        "66284a8957ab0e062c4cadc29aa22ad7",
+        0x3016f9ee82655d47L,
+        "d985d1ef5e27617a9e75fa9c3f5f2d923052fafcbe4a16dc1001f536f9944775776a3093b0653d9e6b4e45095f940a77bde2e116c0e7a5d5258eb68a91d3a6b22e56dc1661");
+    builder.add(
+        "0fb94a747fe40cf4f622468208c1ef8f",
+        "1514bec3ad4cb9cc154b14b744b11828",
+        0x116197a85cf36699L,
+        "ddf5201ff9ed4c0403cfd7402fac41b6e505f91aa09e7865bb148e97d3dcc3287971bf5b70485406b5bf3167103547301c4cc392cdc8eb3687c1d6d0eb12bfcedfe64c6729");
+    builder.add(
+        "33eb3b5141468a8c3c7a4485865b866e",
+        "e105224c2d5c509429b9eba98c46a38e",
+        0x91b83b32a2bb6f02L,
+        "59dfc0fed97d28819df248f26bfa7acff088a811077b3fe6dcdc444b423fe34777bc6c80368f00c4aabd17bebbfe210e78fdc4f91430aea6b4d736fdef68c5a340aba4c551");
+    builder.add(
+        "1bc51da07752a450f7671c6177933a9d",
+        "e528afb3ce4fe25e6f73887b64676ed3",
+        0xcb98814a32574b51L,
+        "6245cac3e517c6396567638918bf5a650132d6e58546daff3879ed5a7d8c21503f13c8f8f6dd42f5c3d761fc817e8dd8b11d00e92dcc2ce021e38c5a3352b419b8515791ac");
+    builder.add(
+        "f650b9613cf40cd625b3122fcd08868f",
+        "baf4a7495bb4f8d61f7959689cdfa253",
+        0x2f895f5ec9992b87L,
+        "6aceffe94721936d3d42efb1c7593f5f28eaefd81ce7c29bb99125320828ea641bc3fdd70d348bcb31840c695b4d9fc4f0aeb802c39641e54327e4811d443bd9f733073567");
+    builder.add(
+        "829121de1feea0b37c0f31e68d3ba95e",
+        "5e90495da4a97f6dc9d42790f24c41a7",
+        0x8328e1139fc3634bL,
+        "2787fab203059874cf1603693dd70a23f02a301bb321b4806a92ef04d41026ef6951967c34c98feeb1ecf1c2319ee5fd676ceb5733b75455c6b08b759d7b4eb0f7aadc1ec7");
+    builder.add(
+        "68823d288c96c6021c4078586c88114d",
+        "962aa28a3201f3922535f852b5c0e44a",
+        0x57ce388e91546f3fL,
+        "1746f320fb7507297b8ae216651c621e4e54a44df7308ee8428561df1f79859c00ff05bb379e1c62df62c4ae4b84d552c959882e037c06451b5057ce969ff0d0375fc32efc");
+    builder.add(
+        "44e03c0cecaafcba8feb9ec85aaacf26",
+        "d7cee4fd36c2331e83ebc01c20d6d709",
+        0x808f3b417fee865fL,
+        "613956dc088f97a1f27f1e21dabf03198d3ecfcb75b9c62a0ab24ff8686572b8f8756d541bf5d3c9052c69ec6614510c502ae364287ab154d342eb9bdfcf9ace9e02f6507b");
+    builder.add(
+        "27026c545323479e48db9a874d90ef23",
+        "a20064ee9ad5a13338ff7d91108cb1b6",
+        0x016591819cc2e68eL,
+        "6ef3a1bcc1439ef22dd3d95d330342dc6a96fe066e58709c8d60f8572de8dd270e1dadbda07dbd1d21c3ccb67b2cd5b77014e6ae19d3776d23d15da3587976995d4600002a");
+    builder.add(
+        "caa8889a8f76a9876a33e2c966b6863e",
+        "e1e93e981a1040ccad9213929b7de90d",
+        0xa3721173dcf7c81aL,
+        "ba5a263800259b91d0ec72ded69a6d4c26fa98ffbb4bc6c151dd49bdf1cfbfa0f489933f45a19d944ed2ec05e470f5e814a60b35c5e38c5741725575166347e1fed38b093034");
+    builder.add(
+        "dd17c4309625faf18d8c91311cbb853c",
+        "5e13d3670f9ca3a9230f4088034c5521",
+        0xa07589d5b7d858d3L,
+        "c00730ea2a2f4ec05c188d7cfdea4af6a8e77d2e39be8a9b11fc42ad0bb993fe52815208ff37b3762216fdda5a49667f9ff42d5bb586fc6320b3be55cd9b3b6582519ce9bfe1");
+    builder.add(
+        "dab56651499d00057af943eda5f00849",
+        "23cf7fb5ba4f2a4845447e4fbfe87637",
+        0x9c609ffca7a4dd33L,
+        "c3c96538fdc6d4a1774f2e26318551685937eb584ea191129018e6f0330c61ca467e071a7b223c38dbdb53d89c8d1911729856c6a1482ec338f4ac35f073daeb7845b8f8f081");
+    builder.add(
+        "0cd061cc96e4ffa6c46260db123b3b0b",
+        "93444d38908908de87252372d4609f15",
+        0xc878b72697d4eb1eL,
+        "0a397c533e60495c2e5a0d556736fd8780cfc82251805b736f844723d392017a59473fca0e7150f8e74ff54ee5f9e2a1e55078f8041f18c45bd4b6cc91cd1dc2147c1374bf85");
+    builder.add(
+        "012ed1a81be0bea57c2cda9b5ede6662",
+        "bfb4f5204b53abc99d2431412150732c",
+        0x2bca42dc80beea3cL,
+        "bcc1f48bd0d1b77b8756795498e5046d74fefc094f32f58fba27296b38b3fb9ea14454174b68e77980e8e4522d4022c350ca68658f2ab93d83debee0084b77a2791b45065333");
+    builder.add(
+        "51443019206df99864fc6a5c4aba4b59",
+        "4b7897bf9d99cc67330844b118027024",
+        0x7304fcdd6f08efdbL,
+        "659b8b4565b67f0fc3a5b5055d9077d3ee36051dcecffba184275bd6168252420b4809148301548892885d12ec8ff4e123272536076a8d7a2aa3bf48970b121c3a605d0f9d5b");
+    builder.add(
+        "66e33d8150cf67a4143e0af808f1284f",
+        "79c3724c3313e6d4005a67027d6444fd",
+        0x04c286d59e2619cbL,
+        "35f5d6db6c1f1a9a0b22a6d173c07f5ec09adf575d7a215b339fb3c6adb6845ddce044e3b2e49a277c595e773c857a7cd9f3407f52f6298959d242cb87612f04fcd72f83bb2a");
+    builder.add(
+        "481d5d6245d2f13e2549f216cc3f24ce",
+        "a3adc67c6f0e8fc5acc6543abb9ddae4",
+        0xee0516c47e8feea8L,
+        "e84bd2b203d193deb4321b1268096b727876015d77dff4dd34ffb8ca9f680140352949bc9871463f927cfe38b7f61fde43b27eb938773d89d35aaba8552ad20a1c8a205d0819");
+    builder.add(
+        "059f7c097c8d881c089699af6682f59b",
+        "7a073ba9adcb033c0332ea3528661416",
+        0xa4bb052c1c795f23L,
+        "02255ed91e4c189127430f0c1f5c35f3ef47d8589db32c4c1cfb9a11b0b025315c50cf14eed4f5967f12e40ce0b50de0b54c9390ddd731b9eb496b969e22ce6e293c1e8b3437");
+    builder.add(
+        "9b5bce26612c2fdb33bae4f88502cd7f",
+        "42e43aab99ba12449ea624fea36d3f11",
+        0xc45e68d4edd13714L,
+        "8f3216da44170359d464666d71108e2d3e6e5d6d8ce9a0d659f43c1bbd6c9a688a394578051b37c649d4f6bc52b7e9d4be12cd5f9e2f440b4de69367389cad235f9e7057f2db");
+    builder.add(
+        "9e2cbf0051f95a22de03a65b9dce1c67",
+        "657292833e45dd3dd9a660fad41b0b28",
+        0x8b8f7ea8d959d572L,
+        "8003b43a4e0aaa23f52dbeb528d8345fb813c603196c39544bdfac0efbd9f969be0c5c0c621914bcf4eb86f46b751d7fe48e942c133151a5834289ba1878654211759ecdc99527");
+    builder.add(
+        "98842c7193d913f0496b75de7eb566cd",
+        "da98ddf51d471841960cac51afd7be31",
+        0xcf295f054e89bca9L,
+        "78c747d129e359c90c2a4e9af5cb1012bf5dea8d37a29375d7d16fc607bba105a2712bee339c66d6d674503cfe949373cfbd810748d22f7267662b331f65b7e21c85f9825d670c");
+    builder.add(
+        "df26be877feaa0d54d3563789eef4eab",
+        "fbe45e790d73fdd8c5b8e08175b29425",
+        0xe224610f023c8331L,
+        "023524e0f47fa673e20e03fae791fdd05c350bfab32951575d2a8835271410d203624eb41d39f6a918a81a2d0c6d1658fa19a53087e8425bfcc1c54c8a2878f9d11eec604e410e");
+    builder.add(
+        "17818099c9f77710ea0f1bd8032c2712",
+        "ff3c426f45ff9624b5fc7411b4b90f91",
+        0xfd791d9f7cc4c6c4L,
+        "640ffdb9b47b7df88a0c2c2bc747c2f7d48dd10275401e8f6767fe6197c799fb4e611a851853f7972b349645e3fd3de05b44ef24afac097e7e5b30b87f2b5afb3a7b3cd0321f27");
+    builder.add(
+        "9d6b85594c3ca618fecac8903a9a623a",
+        "17f17dc9468a87851e6a9fff14197434",
+        0xe05049d52cdda34aL,
+        "74a0c74a2c20c1cef5c7eb675dcaf3856f0e5f8646d748d97aebaa2bb21389e3a51ebb9e7336dcf85a5836a8d4bc5ef8e67b995f7bee7a389617e4b49805198713913751c4ad0e");
+    builder.add(
+        "ae4d8e797e072f3252fab8ce6d855bb4",
+        "f9327fe8f75a24021fd600a9ca3f661c",
+        0x211382eab3d4e695L,
+        "e310f9a5fa7b69f96aaf2d1687636b082a6922e26a75251da454d14926eadb90920b83d9d2800b01fd068553773374d59f9e43ed2b9fb515ed9873fa758f8f65b266ec021c8336");
+    builder.add(
+        "e24575e303adf9078bddc2dace26cdc9",
+        "5cf68524e7d51eaf7e0d444134772cf8",
+        0x71adeb6ec0f7ec68L,
+        "14db37c4ddbbdf0c92497a011d9075355a614a98dec61c657365dd2015ea1948bf686ee494b6b3407b8cc6f4613923dba8519c489b404e03d41bef4c42201f523bd93dd9c23b9c");
+    builder.add(
+        "7cb346f5420ef7b09d2d9415b1cad0bf",
+        "6e3ee4e27be582b9e36e1bd7fdbf7cce",
+        0x7d2b70a296410d6eL,
+        "3f43c2248c1817b8447a9eaaf90a87be38e5502dffbb340083a91a9d8a4ffab1001e405eca947aee6ccf1929f7e4776bef73f37f0a14710cfa69b06d106079ac656c3b676d0d87");
+    builder.add(
+        "8e8e7113847200573bdaa03a4b4cc0d7",
+        "b0deed5a270ed25379c958d5d8f789ef",
+        0x59ef402b5df3c431L,
+        "1d9cb41bf7a5d33a099ad192c8ab4bce8b06133e5837bce8ff790f28b248d9ff5cfd83ca44f1397026d0c41feb34b01b88473f6c6bff0efd5b643a5fac9fd853322e2e246baa37");
+    builder.add(
+        "968cfebc1c4c37870477486951e38a57",
+        "d3f3559598f92c390397e7861202edb9",
+        0xc24241a34bea4f6cL,
+        "41d7198cba579e3321399296a061f914a8ea74c9bd39726d9100ef4749a5b8d6f361d80c85f5ad27051580319a18b30dcf8027e14dfed84be7b27046d3f9c22cfd7319bb2ce6b6");
+    builder.add(
+        "c96466963d2e005dc7224ea62f7b7afb",
+        "7fefc739e36fb7f7fb445bc126fa1285",
+        0x6b92aafc4919f52aL,
+        "28010932d63db41ad35a47b083fb60fc96531f2b6de9a2c5aacd7e92d52e33d12f4356fdbcf02d3083b931343d2b4c2742b22b0d3ae8ebca4dd26b028b7b24e3c409dedf8c3ba92d");
+    builder.add(
+        "13cf24f5ad308c34d7ac5cd743dfafcb",
+        "4d5fd31612208e516194cbb72ec2396c",
+        0x938ccc940d22074aL,
+        "2447e2e5d9f195aa57e78dc053e3b7ed8ab3074b91f8bb4954f7ebfefbb167ff150817239a9d4e687bd3a648f275b1a38af576a11ec370504c91037da4cacbc6cea262f852c45c76");
+    builder.add(
+        "356e23a5003ca32869eb05a7cc29d3e2",
+        "66904cccf63e26f278d6a121416949a5",
+        0x84cc8a1da6f265a6L,
+        "e97d2ea918bdb7c6c64878bec15c8564fbe73a9253b5fa0762526d631b72bf0843bcca3bf2eb6c531a6ed9d9fb799c28642a1e11a2e38aa2b2ced5bee4117a0d0b4b7051aec445da");
+    builder.add(
+        "b7114bb6a8671bca890c9f7e157b857d",
+        "f9bc5ddfed8aef10dcf47847e18aecea",
+        0x1abe5852b346fcf4L,
+        "f333b38259c8c86837f6acf358a30d2665e2bb2c11824de98e1abfbaf2938d6b61a1adceaf58ffc7d1655b2b3e4ecc64755f2073a135285cac8c0d1716d5b4ded5b65b12e29e592e");
+    builder.add(
+        "97685ca8b451ecf797415a12ddfc72d0",
+        "c5679447dd6525464f555db7833c8e56",
+        0x9d910dc9f0b3b0ebL,
+        "7fc1c0f3e2753b654623be06af776d9ab4c766f82a740ae8a213ef6b23a72b1b7d3b0ce9630aeec52f0a01a06410b11ceffd0f25b02505421d689409157bc805197ffe353c15761c");
+    builder.add(
+        "e5793449840f502360c1881ecbf9b9ba",
+        "41a4c3bb2051b4be26b8d5175bb6fafa",
+        0x963e1bf79842ded7L,
+        "517cdc759c80a28e5ff67be60984f841590edd408bfebf466d0720dbd09ece7db96e62fb8cc33a2fcd285b18438b82ff90e2e884c238ab15185773108c976d7e7e709bdc58459784");
+    builder.add(
+        "eb2d94df60e6d17b2331759cf3c50088",
+        "b8260b78ce634b08cc69bcf0a7180310",
+        0xd8a527b38bcd8549L,
+        "efb7547b42474c2141a711950a7122ed7ee867a6a6b4ff06ff6abe83c505c2a31d0fa5f23941c28139078593ea8f515cb7455eee085cda92c0f52bcfd8f8be739bd97a8496010bcb");
+    builder.add(
+        "0c24c370e31122ab176f3ad79f869134",
+        "48156d2e92b33b11326076daa525bd80",
+        0xb985c390765bea51L,
+        "c7094285b7096b88998e72a6cc1abc7306fc9df269aaf2fdd77660cfca6d87d3089bbefe35f7253105415df69a3fc0b252981081416d4975e9df73679605e88a823831b0ca5d3fed");
+    builder.add(
+        "be59272991a0781a027e4eb32d4fb27e",
+        "2f41767d7d0920c2693d762a4b8d6be1",
+        0x1dd152e34c3e35c6L,
+        "867d48c1dc59ef2fa3415ae1ced788e82c94f2425f6f910f7a87e7dd47f772c158bc2fb2995ac46ff0b3ef1f0091484cd38671a0115923b5bc7b7db089495707b16458ca3610b314");
+    builder.add(
+        "e07707a78d465ec4d543abd8373e6a73",
+        "7c6877f08748457f7ef368636afc41be",
+        0x646a9d2d891f777dL,
+        "40eff5999ea7ef0099916b2f57b7949a40f717ed57021eca0d39146ab48bdd9d55cae6e34aabef4fa78d3d2d3dff801621a36be9eeb3541ada0ad1508c12b2f0460549474184eae2");
+    builder.add(
+        "312ee603969d0b9b336fbbf045129c6b",
+        "6243f91e07751c2cee7085ccfff1c277",
+        0x2229808f57384fd9L,
+        "3b431cd0b6f76ffa72f33486be84a8d000eed39624a271b52d27759e819aa57fe2b77a101e2d47df1df564e7d3eb4ed63227701f841c21909c0f930613b98e23f6023a7cb112e458c8");
+    builder.add(
+        "99b930df7a735ec82707855b37ddae71",
+        "2fa3b140b3074c61e2c54d440555b610",
+        0x71c83059982cdbe3L,
+        "9e658da32961d1095425c7a293241010b0fb804744e12b54efbff8de9e56d84b7f832bb061b34a1ae8d27b5974ba2410c360fa74b1888ae964ca007945f2eb61d16483516cb8b660dc");
+    builder.add(
+        "566791f6df172bbb48bedf6247865ef5",
+        "be7eed5ad66d06f947dc39976ff686f8",
+        0x74efec43dd0d7140L,
+        "dd71acbb323014b5a98555b32007b22e13f5f902d3a62752df4c5ccd300d4a07e3c9a3c81867414fb8cf0a7cc5c8919af8bb107c848887bd3e580d594dd1b573d13c2b7db27d1733e0");
+    builder.add(
+        "3c620d3bd7da6df336dbbcdddfa0de14",
+        "8e9390f8c52664a3c6f47ab4005046ce",
+        0x34a5c44668bbc0edL,
+        "4086682b285dfa1781a87eb3cf62c5fa217493fe9e0880de718c6813678d959b84db7e3a8537ebe8442db7b8bd910b921d0d332255f229828629f048313e5f3f3bdc5bb2c19b7c5304");
+    builder.add(
+        "9c5b9dc8ad6dec649f02f149d2f4d578",
+        "0856c1dbe62c162deff82960ded0a062",
+        0xb23a241f6ee1c264L,
+        "dbdddd13636dfe4977737ff680112443588d863c1a74c635bdd5cdb5c01a5dc4af46d10fde59c68918b5521a25c2288ef1d116a69b592185a9d90aec08fc68047a69a5a96ca67105fb");
+    builder.add(
+        "8160a95e6816750e72781006c944c310",
+        "4091ec24c85e90e64288a9a7f64bc764",
+        0x6714a09db24c3204L,
+        "62e9919d326bc3eafb2e8f57838883f2e8dfc96ed1080246bec26181ae4510e7e0b05e8f522330ef902e7faa28c2b4a5903fa58d8323eface75822107667e337525ee0819978897906");
+    builder.add(
+        "16bc4820928297705c85d5458b8ea8ba",
+        "3cbf6a65caacbeb881d8d01e0d539b60",
+        0x158990a0f438884fL,
+        "7be0f0fb97e11f47221f333f03593e29d192cd01155916625d92fde20296e38725b6f0c19aa3ebfe9f483a93ae26e8c2a021cefe1932391517122da5eb64ba5e427b87a8fbf48a1a1f");
+    builder.add(
+        "bdf407f7a444fdbe07b7186bc487be2d",
+        "a8366b4b32554f9d29388730b6f9fa61",
+        0x8ac8e9673f36d378L,
+        "8677b197ca2755a7d0bab32b13432a33d92d2b33449a71786e6b80c0d194e796975eb78e6ffcf844ac0a39996f7c34d393a37a04bc8f25a6c44a71b862dae40ee62e1e5de4bcdfa3bc");
+    builder.add(
+        "7e047852ce699d1ae50aa4c52d9ef091",
+        "222d159946ad620443710c4c335bb48d",
+        0xbe1c4aaa5d785110L,
+        "c9c0c406084f6b70205264c95450b0067765e4ec0d276d424c95dffa502f2b54e722e73b60aa59b730740d233429affdf3eaf5e908b179ce852670a873f241848bd917639f4d86b3a2");
+    builder.add(
+        "979f1a64eee17d22ab65f033dc0be0e1",
+        "c569547aea4933d5d2532dbd60bfa004",
+        0x22bd2e2005392802L,
+        "39f78396b126a9cc43e9166113bff1eac9e197ac2784f25f2b857bbc558f7969d18f8c9e5467f6b2bcea24ad4594ab99df8beaa37e1c7a7e59ca197735be978dbc9017537fda4576b3");
+    builder.add(
+        "9b82b83e4a6182e9af1ef6346bb8003c",
+        "45398a8154b03460a4d2fc3e6a966327",
+        0x14027597ed80bca4L,
+        "6c9e4a40496d1ab611ff8b79890672583fdadaf917d441a908fe3fd0866ae3901490752ade69f7e84680147d5fa8bb8a92d62938e42bc01debb7e0868075e8466156d58a93a4593f9c7c");
+    builder.add(
+        "aa8b15ae8c1f64f1f6d009ccc19f6b5b",
+        "736e46460fe006defcd3afa866f99526",
+        0xfb2b46c6779fbb48L,
+        "ad13f0e6ef7212336f970cf1a18e3708b839ae2d862497c8c19f27b0803eb4029f0685a3d82f0f07f04000dd3f68d80efc40b2ecc11a9a18e3f102fb76cfd63dfd33be4817757bcdb1c5");
+    builder.add(
+        "9afd8ef4e8053a4028db606edd037c92",
+        "92d4ce9880c6b6f87fe658a3f02f6bf0",
+        0x8169761d88fd9586L,
+        "33e91d72f6b2b2a2b67a0c144f5808582fd15790ea7a31bf1152aedd41b24ff831067e1e89046d7ce771bb56ce179ed36a50168f5593bc29d243c6d338821123ee0aa8beea7c2e60abd3");
+    builder.add(
+        "82418a7ef98c5a7e25e6cd6dbbe7a322",
+        "abf52dfa60dab3c8488c6c37cb692f2b",
+        0x048857c91b0d06c7L,
+        "829576cc61013abcf9a47c38888f3e296839b3da8af79c5831bd8aba74bee4d5502592ed1505886b33ba78681e0bb40eb483d0e5436fda1fbb9c1a1f60861f1ea13c194662ee7b0b3bf7");
+    builder.add(
+        "d9ee6efbfd6c019c3bbcac413e2fe94e",
+        "1d09c17d1b385e9598ba7f706c713ecd",
+        0x03f4f817e6618955L,
+        "a23b3337c662b61355ab564e1405f6ab6e2c6e5e74cd7caa897e2b018810192904d7d87914216d652c31fe2020bdba0c1affb44f91575c7e3f0846862760205b3eeeead8cc230e312fb8");
+    builder.add(
+        "4777fb5178ff4d141de4cae7e3dbd062",
+        "adab1b1ce3d68f94d5b45024c330ddd1",
+        0xc8b2008c74b29efcL,
+        "d008bc85c7c646a1c33bd1bcb167db16d8076f43b1acbf7280af1188a6929afcbd387c506d628ced4499dfd74f351f71df7340839f526c63278f660f0228580fb710c60314342a143e1c");
+    builder.add(
+        "4ae0f401212b91baa572815c3f3cdd3a",
+        "2aa31e37d4b2e048db744b4f42e89bc4",
+        0x9da27dd88ed94327L,
+        "ed35bdddba4566098d7a0573aeff1d9fd3c91fadc3227df39007c674792d57389b1753fb248cee9ce047327018aab5766c9f3b95257099e548c8018a7bb2cb137094badc5d3411c9bb1b");
+    builder.add(
+        "390918bbe1720f081aa5cc03a29a2082",
+        "9eeb70ac1c44ff89b803ec00a0c5e01d",
+        0x25e5dfd4ca57d9e4L,
+        "40d2ee2eb668ecb056fbdfe73d4c7b3e351fdc8b6220a51955a9fd4019387df467179147ca7ac69934c58e7c9dc71adb3aa75257ea9a57c5f9d0cfc5aeb2812a0023925f1c4e7a1a1798");
+    builder.add(
+        "21ca54ea092be66e000fd5506a2f8374",
+        "1f1a836a1665c110795ad65a7737192e",
+        0x5af16e46871aa502L,
+        "0781621f766014afc7dbc55fdf6f2276f533ba2612ca9c3a03c5cdf5c4da42a085dec8edd7d111f967424541f9b1b64aad3b88bbc3f116fcf690581832b254e3bade850d6c70c850a2fd");
+    builder.add(
+        "1a8aeb2b4f1acd0c3e6579662a952fe7",
+        "657ade4ea53e2253e3a0259713471640",
+        0xacb3dacd44ec7af5L,
+        "a34423e56f54a7ae98aeac383cbcbefaecee9f7dd92ae5b9422090f0d4a19599c7ab597ca062f528a93e52b2a519bee755b49ccf8ae95bdbd00e42f068cf03168e613f2d6fed2af845e6");
+    builder.add(
+        "0563e21f95d40d643d4d790eb494f98b",
+        "5bf6c90458eafa8bf149a492f1bf186e",
+        0x5ec15434555c5d61L,
+        "ac002150a4d9fe853940387be7aad8c0a36ae7ca4e3ef952dd5dfeb72411b15e4791ed9d96843ea06640ffea63eeb55a3ceeb04293a7693bcebf26e21632fa46c0e2d3ac6ea15702c0de91");
+    builder.add(
+        "17692aaf61d545dfcec880b009f40b36",
+        "2dea98221cdd068dac56447141d4dab3",
+        0xed5d00742342a7a3L,
+        "5a2ae3b7584585714e92722272fd8a7c87f08a9d3ce69bd61d3c0f70e919ace0af8427e8844f059e1ac2c90abdc98a4e10ee3202da8af8eea0169096f23f3978e6452724ade7316116929d");
+    builder.add(
+        "841f4ec9333b9a2de8e44fe29199ed75",
+        "fa854cfa84f3d1201106a36e8555d328",
+        0x66a3792ab93904c4L,
+        "ab03732478bde3e7e170649e88df5709bdc763fdb574887a829198904cdbcfe8957f631a62ca06b39fc0e956188faec4e00dd2a7cd994b88ea07799c20a1cede94ddbecf6c9668361d96a4");
+    builder.add(
+        "ae51138d80b574a487725b53f45a8180",
+        "b0cf66bf643208dd16b91253ae932fa6",
+        0xae16e819049e23f1L,
+        "4793a70cf76cbebd1cd2fe0e3fee9dee424d6845745de282b158c0bf70c275d0479e625eba433ba07a9cc6c09376cf64b02ec9c29153d1bdce096d25fc2aaf2f1c7fd029f046b66b2901df");
+    builder.add(
+        "d415ebdefbe29599dae9351f3992894e",
+        "040754497a846e3ea1443578c674fe69",
+        0x48bde13f1e131a48L,
+        "af2ae167c567599df904e30c5d85edf981ecd6f914ffd37f311bada0347670a9c14e12c662c83c9a48784011b5b8b256eafc9405ca3ed4e1fcc43216cf54d03eb55c7d3d89fb76fde67e78");
+    builder.add(
+        "b1391b0d55ea7576b3745056505e12aa",
+        "932e415e6b78d84928f48f5a6c3de0cd",
+        0xcb19d7ee170e4a42L,
+        "75e2f70774ed80d9123dd3f6fde31ef2eae5337b4f7ea46afc87b1282789c2b1ab5986639e162bb8961932c06d7a9d7f10737d5f3dbd3fef99e7894a7f56729583aa99cebded321e0802ac");
+    builder.add(
+        "67f4ffc3bfe81b2958b6ebe139a57aa5",
+        "5a787112e09ddea44e4a1e72fdd53d18",
+        0x7e341d80d8db3266L,
+        "8410df732ceb4b5c18bac8a4a82127fd9be729f2382691c34150af0d2582d0f41614f8ed8b907b9743715bd896afcdc2863da97bd834214579f6594d3ae7310328a67a8e4f75945cbd9777");
+    builder.add(
+        "a8cd1aff19bdeca2b346b66dfb148159",
+        "9c645246343628a7ca5e1657561974e5",
+        0xc827a6a09173e704L,
+        "37646f68d64a8bb5fe07e092142bb98f47307c817f8b264bf85d6eefa93f79703d81a58befe05066c4f7d8ff69cc032ef14a51805e4bb8a9a3522d4d22024118ae9e3e069d9baada1d86f8");
+    builder.add(
+        "1b76e3f49e543ea3caa4a3376f0876ab",
+        "a25a447f2c4ad7482d637e338cfae04e",
+        0xa426345c77182480L,
+        "ae175dea5503cbe18ceb431206b7e13198b0eab9ad6bf0d8cd55c156d9034a4be16e013f2595921018d25b2085e9a3587143b77695cd17a81c3f374e978762436a1b8ebf2947f676217400");
+    builder.add(
+        "b90c6ee13ea1f17f5bf96f69d09bbc9c",
+        "d0252ca64363bac254eaea6c1aa00534",
+        0x39fc7a7f18ec3ce5L,
+        "36f9bfdff07f7c72d9400aca625266ed4d6cbf8d9659f30ffe1bf7639c38ca40f8deca8637e6f59261a0d889b6c258199d4035a92c6976af61dc5579393781bdab6fa38e3ac4d9154b9c7b");
+    builder.add(
+        "72b2bcb384a3c4cf65a0ab25baff1b25",
+        "2efd481bc4660a7a497fbcec449b42d6",
+        0x91d94295b099c867L,
+        "69b9789c478cd0173c230e9a96e39ad82b004efd934d836dc72174482df0ddb91f1ce4a683194f137250016ac1ff250c4d6f87c94aed8815f1cfc119cee428ccdba52f2948be5518688f5f73");
+    builder.add(
+        "eaadffe35463f09081573daf6737c587",
+        "9cbf598d5d5546d83b249f9be2615e38",
+        0x803af85f16484de1L,
+        "e518e39dc41e0fdd8a6a45c5d8c7169d6dee71d90e3cf08630777d592e6481f8612207d631aff9cd37fe7a2aca9d5ec2e2239df8bc829597571f1d17600b54e8c00a7885543cb79e7e690ab4");
+    builder.add(
+        "71e84de5e77b045033f7c11ce5c9d6e1",
+        "428f794485a0cf7967c0a3f1fc072bb7",
+        0x50ca605a5025dcdcL,
+        "9e6978fd261ccae259e6867df99ba4c5753e6ca3f11d28232bc76963b12df99decac1d5f3c3ae6f2ec154504fbb7d69ebfb11a6087366fba6c76598ab52bd2a786bfb1aa0a142dd7a7c84c98");
+    builder.add(
+        "da0f28a73936888cfcba685be67d5844",
+        "3af3f3f857e7b319abbc487a79fc3f5c",
+        0x1f7b6a4d34d75d35L,
+        "5b9783e7328895d0f2e6855769d020a8b5f79638aa94770a19e93669f68538efe8a95546086f49e401d655fdd43f797a53e9622172b6d6d80365ab73a3ade5cf32d45a4e60665cbf659bbfff");
+    builder.add(
+        "37165b8fa07772f0a68052b64c1c298b",
+        "9bf78d7428a0023c4a18e15a5157f246",
+        0x63da930a8afed429L,
+        "bcc7fffaa4bbcfd4e0c603a1011e1f346ed264c8aebf956688e2a4dd7270d99d3e8b8e1c32bb0285704bcda156033e3ec4e2fc3ed3646b87021115039ab428aec8883247deea4cbe0c89b5c4");
+    builder.add(
+        "94b772ad6bfdf89f80a3bc7f4f5876dd",
+        "4f64b0a2ae1fe40394c1c85cafa222fb",
+        0xbf42263a42e5d8fbL,
+        "62d4d397c3e4057e8218c561681f8d2b9354f5ca347f366d7a57e257afa0f0526a5a85e3197cd3d2768512afe226a47dde2a58d8077869714184f8ba87dc0544255281f5720cb022fcc9df0a");
+    builder.add(
+        "604809b418ecf5a8ad4f26f2e38e3a98",
+        "3d42776608f888b57feeaec0422c3219",
+        0x515a3c2900f5325eL,
+        "7baf2671037c10ec1bd6b1865170c616aeb1c0dac18d838c7d44f52ca60d5f68d4671534671da94afc792803906a22caaf0df39e141389ff35dea61b2332a21acd803a7834c8a26c34adaa13");
+    builder.add(
+        "5e03eb5ce2d28808c0d1c57d01b01de0",
+        "39088672a70a7016fb83c6248511d16a",
+        0xb7886c9f70716e45L,
+        "880659ce382c0d462a2ae0ce7319c90ba914481c69d245276ec199d18ab3ecf64af2a3077bd4a677530cff0e30a3aa7d4c2efb03ec14918f91228df3292bc2f5bc26ae38dc094f9be036c910");
+    builder.add(
+        "686c1d2527cfd33f4d2eb440abeb8bc7",
+        "7f880aa573f11dc7cacda2122e2c0b81",
+        0xdff89c0614575d9eL,
+        "c74d68cdb2280d7c6fcd866b6efe742a0193109e8fd7bb1fe34532bf9459250768a8b9dabc58347ebec83c7dfe27c35fb83b5747d266313421687e9dbee3c6cb5ec4dfac5a22e4a033dd0082");
+    builder.add(
+        "6195c5ca540561e1b42e8c314b0b3283",
+        "b87667c848992a57ada7daaaa10358bb",
+        0x395d5caaa586e232L,
+        "37a744b7202bae391758d4f6a5d9a8f9cd65b00ab32aac77fa4a9f13c057ef75a29244a8747e11495a6a9a40eb4a08242d98c2f7f8f5d236da303df9935338ffb42b00dc72cf7ff6350bba9c");
+    builder.add(
+        "b10b3706fce34b0db39d28b25397b0a6",
+        "e83482f6d363e1858702055958fb2896",
+        0x8c9265161f2d1395L,
+        "cc42c468ba4c3237de1d69d28b0f9241159742d10f46c238546d081c9378de865c9f9ae0c94cc024574ef649f3d933a1a44520fd5e00e9a551a70379b3c50bba3a0e2ecb2ca2aa1e51543fc432");
+    builder.add(
+        "bdf77bfd6cd377c4a69f6ddd6ee78cff",
+        "908a6e4bd5f4df7f050230d9695641d3",
+        0x44b6cf83e31f215cL,
+        "7cfc587535426e9c81790c915c2a980c8c83d9313ab573b092f846e1a59aabf0b64eeaad66ed4fc30e09c70ddad809c536210791fb4c999a85e690bb690f89466b6f8bdc52f2a42bed58259058");
+    builder.add(
+        "4d45bea6f0c055f34f64cb53ab14c522",
+        "8585dd580ef03e0cb08a58a785bdae90",
+        0xcd1856f1322992c4L,
+        "21705e0abdb9a41f7c17c4f2666b5f32bd48442acb6d63c93c7b88194f8a9ebac2840ea502d4faeb190520d4cf1552893e46710c89f0352cc64634d96c0111c80882d5b631e24c1fcb3c1d1e10");
+    builder.add(
+        "906ba8f076ffc4db7d43a69194d00b8d",
+        "3844938a281ce8ee6e30ab58b4182ccb",
+        0x011dbbc5f43bc79fL,
+        "aac34ac3cd4b1ee25c7193c9f7c27cdc7da0560976eb9ed53dd465cac9dac2c7da848c9d2f2b02d3f7f36a7d9773511aa385f6faebb054a887af3499ca84aa15de9fdcdfc9168b09e3788f7945");
+    builder.add(
+        "84f4e28d7828c772e1b155baf64983fd",
+        "47145470276f658484b55301ceb26df7",
+        0x5e61385d4a20d775L,
+        "0fca5ef8d68b5c6647ae135157237ebabf3f495aba6ee53d87100324946a7f87cfcecfdc2b2e99823ace3499f2471d6fa27e8e25bea140c9b9fb7709126d7b128c5e99d10372288b3cb57af431");
+    builder.add(
+        "cc6f935f21ebda4ff6cfac5f5c8c1bc8",
+        "2d64312d3ca6603bc38ff09fb887e135",
+        0xe835235afcd217f3L,
+        "d2743ba8408151ecade22e73864f459320f943b814bab0e30e91457829651f91431e0292b53da948855401a647365a1ee1001e8e1402f96707cd493ab5a322e0eb3de32e9cf20d6b14410590fb");
+    builder.add(
+        "5c32dc37ea6e067c0910ef9cfc2801fe",
+        "58d45821134df701babb441bf8711830",
+        0x72b30315e40bec8fL,
+        "d906404a0b1992b82bbef27d24d99bcdbacd043e1d9357a7819c60b982ddc9941fbdcb01b8b340cb10cd357b2bb0701ce259d5674db973aece3f99026eb0b8e3073675299468c030438b6e353b");
+    builder.add(
+        "e43de46a82830724c64b1262dd7591cf",
+        "3878f90f8a7b19690f99127d05d4a423",
+        0xe0716841b48138ebL,
+        "2890db58c22226be424a53d5ef99d4c01a6d0c754cbd501753f55f0497a5ee758e4988fc82a6a26de39fd2b0e98add0bd27c4500ca6fc6d1adb438b3455c1f6bad4b91f4c14b5a21e7f9586a89");
+    builder.add(
+        "297f4e2b6a36430b05d8c5d28c0a7d99",
+        "ff4357023d45f820eef629f88e287a90",
+        0x6e95cefc6be1bf4bL,
+        "593b4c1566150c25c283828442b16e319ec00498ea8a7d888d0bc27251633b2fd43a61a7b3615f11dc72896e642febe7bb88115fa3ae4bb5fd162752e265bbaec0181c6122f1e9058adaaec1c0");
+    builder.add(
+        "f6aba692ebd9abbdda04264ecdf564d3",
+        "45161638719919114c51496460f5c884",
+        0xede392b0252240f4L,
+        "bdcb3440708512b08ac07f70cf8367df813daba1499306a852cbfca317b48d77724fb1c8c6202c86811940aeb29732d2803a71fd77c70c2a98a32e895d43784c0f7c35a7c17e71763df709ecc6");
+    builder.add(
+        "02ab7e55b637d91a85b649ff7a13c146",
+        "18cc201b99eab09bcd52feafdd497e18",
+        0x8b27d9cc4d8dbf22L,
+        "61b62e363097771f67e7d2587f058a354a891f277735a49445b0d712e5b87336bf29f3fbb990d4bcdd43f13402db2b56317ba35c56c3185ac9e27105b43db8513e25802a5a177d2b549d7258dac8");
+    builder.add(
+        "8e07aa89b1c79110b79d73503dab5573",
+        "e27edb64fd09f61e679f857f3371ffd4",
+        0xd40057a50e2f8212L,
+        "8257f44f8c44c721e5a4c2fa37b77b0a4755fe195504b1c6cdce59e14ca310368fd1fb263f9f52c102e2fdf360e99aced0886a4d804ea4ff468875040b6d14f1f79c24c88e726957f3131e14ce7e");
+    builder.add(
+        "398bde7a677292318c14ed7d9deccac7",
+        "100bd0f76f2ef49fb991411c181bbbb4",
+        0xb6b0e77f3741eebfL,
+        "86cf03ed0fd6702aeb159d3661246c7fa851d016660a2888ae29407b2f45c077d68e218ad32622318bdbc0d37c7f19c072b0b47578740db72fab4cf96048ef3581deb7e1d3c9e79b45df6bce40b8");
+    builder.add(
+        "ab94fe594a46fba71539580e663f6902",
+        "6abd12bd95b67c050985f0601b429689",
+        0x15f91ced4bb358c7L,
+        "05c70b31bf99c339a6ebd4f6d7afee10beb72814808589f66db6a17d00cfbe93c8fbb3259ed09786f55073a0f10d1dbadf714198c215cc3df660b61b41ed14b434329113652050d13439ae1fb1f2");
+    builder.add(
+        "cdc7923134b0aaeb528895448c3430f7",
+        "121d67a7d9497f8ccab7dba8b1adb9a7",
+        0xc7507cbaa674464cL,
+        "1593e220419c4a54fb548fc87f3b805a30dd0f274fef67bfbb24be5de85654a1e7287e645d6c99beebb14966141ac57ebb583e49e01d4544beb84b4f8c7c5773847f001ad02e4581d3a9ad7ab11b");
+    builder.add(
+        "365d2bbfed5fcc859a50b9458b694b16",
+        "181b66105c752d0760cd1fa9eb37cc87",
+        0xcf817f1cbea0e1b5L,
+        "6a673afbc0799bbe88c5d8e32c7757c92bf2ceb5f4252ebe9fbd1272836574bef279e327fd7f7450cd5a2825585798c6f7f4c9e5f50548e5a210fe74939428485e87c22b0bc7d90c1735b4865151");
+    builder.add(
+        "005ab24314ddd00285198764fb897566",
+        "cb1e8f85347a01bc3e69c7d23edeb105",
+        0x4aebb2cd491a28ffL,
+        "5af0b6e6e49923f0de9e7a6d84c7291b4358f2396417b81352b4e045de915a8c4199c1a9166b5cac8b335824130a6137999b1ebf2efcc3d76262449088595a278a118dfb1106893c4843ef9570c5");
+    builder.add(
+        "98978091e4ed893b67c94263ab02e531",
+        "dc7bafb767f9a7e935b3bc2a436611aa",
+        0xa0cdcc7e4839caa0L,
+        "b117c20ea59d1e7c10a519e1afd66708be8ff5792c09e175e0b6f5d6d3d30c20c430aa78a01017f5bdb790752e5c9d3551fe2475203ecc291dfb5ab7b8b57d7ef957c37611ba92399dc0660eba33");
+    builder.add(
+        "26726a9f926e2a356d47f94af3f70943",
+        "e96e9af5091a2bab8da93d80f1449983",
+        0x453cdfb9f6015d41L,
+        "076b614b46aadeb41875866a4e16cd5a32fe8f0837917112896d525b91d045e55f4c1e518494637657effaf90550c153db78ee5cf2cb60d3a8f018160c4da9262e93ab076d36a4333aff3eee1907");
+    builder.add(
+        "ffbfd7afa42fbfbf16db05f4d52957c3",
+        "fe5667e19f946342cee2bc82889719de",
+        0x608699d7d2e0aef2L,
+        "6b48beae318a196a5d9dbe1d2e46250ceb1b856b91bd7607bcefa5e9d71e5fa3424fe3bae8dd4c5d199afca8c935b23fc224ce5ac6cd58eac20baa95239aec78a15b839f9b70b7fd3e2c07628ab2");
+    builder.add(
+        "ffa3ee97b71e7f62f8c16cb8d10f0318",
+        "adb8045f1463f318177055cdd05e2e93",
+        0x9fc77627527520feL,
+        "fb8eddc54c2271cee14f13dd8ccb108a0e03bf68e2a17eab55f670c2b32a60b1408570ca20234ae79ac2d5f048878566a75e307325c7305f79134834c05bd0c716fc6f1e857c08a93688806e430296");
+    builder.add(
+        "a1051aebd99758215dd7afeeda8c5476",
+        "c44ff805aea9186f39b47321f90feb92",
+        0xd94c95e0e160ce2eL,
+        "a2b93cea788528751652d8aaad791f1316a436889c7776563cd442b32c23a7334ac0f4edc3baf020cd68e68dd3b791cac9265523402c33094075a153038bf2234a905b3651482ab4686b4b5d4b018d");
+    builder.add(
+        "0ba35446e4ab58a346bb145d44d548fa",
+        "b0424bbe89b2347faee23518149afae3",
+        0x066c4ba8c42fb6dcL,
+        "fc6208fb7ba1b66885c3600657d3ea07e6fc5b6c9e68afa795dea097064c9f5526816960d8843f7880ed395d1a3c17955fc5c24b69b30b069393d6d987e617e928fe3f5413dbbd47c3c5e576d4c12a");
+    builder.add(
+        "5679abe8f1220ab826f3a468e4673d7b",
+        "31f42482972df85cd6597d0a752436c3",
+        0xee0e0add5f05be0dL,
+        "498eeb4acf0378d56313a29a28b03f03b514c6622240e268bf7a870df0688dfbd4924bc9fb0ba80e458d5efa859b992006f55bdf3b6356ded33a30538cf659175ce26f94ccded7b6ee2d72da677cb3");
+    builder.add(
+        "5c7aba6703afabf1d09b68990aa4d10b",
+        "90647badd4224690e76079a1e5714725",
+        0x281a9537d795ea5cL,
+        "029224e99cfad785c71b44582b9a895d62fb48d015c8b599bb496df8435f92f99e87350d0f91a123c0d071898ac3134f711291ed6f7e543c280adef95f3576385130e40adeda538b59dfc73d19634f");
+    builder.add(
+        "aab37911c3f1640f11e0eaac7a3f1d50",
+        "4c21aaa0ad9fa1676cd7c3d8b05db73d",
+        0x69aefeeba5bf882dL,
+        "e44ac11a76751b758effa0ff67e69406852a9d8b4881f8389e451675c3e8f73921785a594d7aae3a031c6cbbedcb97b06cf3f1362f51fde01658c05bbfcab810896250c16ce49063d271f1eb744724");
+    builder.add(
+        "611f128c0f5ac5a0fc5d31cddaaf1028",
+        "0f2340b8c130d59492593ae41c7560f3",
+        0xe4e14ba9349edf36L,
+        "0a7db88cdbfe159805c5001a142182f10fd801cd419e1bd12e652db4ee3a70c763ccc773db5e5fd4b005103f8426ab3c9b979e969064d1fdd1ebf6bff1988ba9a0a49ffd105f72f84d203120397c58");
+    builder.add(
+        "83b4aef59243c77ed7f3875cdf14e0f2",
+        "60ea6ea2f054720b2c533384b767c0fc",
+        0x96a0c7b62d0c88f5L,
+        "375bdc89627cac1e6fff59c9223ad09ba62c2323d3476e77eb93dc831a602424a62d882b7b6f7135cb5ddab4ba21b9afbaa35896313656670e1625770d9fd88b51c4b3482b7ddb96f12c9fa121d851");
+    builder.add(
+        "ac89c9632face97ec0cb64d5858d645e",
+        "45ba5e1a3d70b368ca51e6e496bfad14",
+        0x4531cb964e3623d6L,
+        "fd980c2cc141413069b57d867baa7acdee636e4ff112aca47d3cccbdefab3e32731b294bab287c38c5f224a5d4e40bfeaf969be1631ca04f593879be3d3fe4b457bb215d37d902a52a591af50ec92f");
+    builder.add(
+        "e5313a3675da762766d2e1d4bf09b57e",
+        "6f2c4ecd4aa3d976dd27e3c4ac0f1deb",
+        0xd6f8b9aebcd279bdL,
+        "efda4b7ac19e654280a84f5354f01d0117ea52c670b1dca8ae72dd45c81b2f5cef458999eb7b9f11d9c4d8093c6f3d8c67468253e4962402cf929d11f2acdd600f8a80068e570a43370876e1354d7e");
+    builder.add(
+        "247a556bbe0b92668d1c63171c37e217",
+        "e62ad334aacf8dfde440a39909935933",
+        0x14927da519c30de1L,
+        "e7ec9fcb433500cadc9628e84824312785e7c03719888132b714209840294f23947fa1178c084f8f2b764764e2de0223d17166dcd43a86555dfd985851a2ec81378018e992b3a58e10e560cb0878090e");
+    builder.add(
+        "3e82609bf17c54c0eae7494a9a117b69",
+        "b5526e6cf39c5a4293a886a1139eed38",
+        0x0cbfe33f76e75493L,
+        "0ac002235ae68f52765f658f1787e174c1315b26b390be9b4afe8eb1997f9b74763384778bdf395b1bb8809d7ab8a4dc7a57bacaad069646357396145842f14792f15e17c94107717c675e906c6131c5");
+    builder.add(
+        "a322de1d2506a69fe1c464eb6f98bcea",
+        "1ca0206e744f7065e44e99dd289f8dbe",
+        0x518c06c76ea38113L,
+        "5a1c1776b5aca747033ed2f167d79d7094fe461be99a780222e5509d68e5003b24b20914749e8e072de51d53bbb0b0206b8d5bfb0de2b6f06330aa9026ff07e3cdf49f970c3dcb3095876de7696339b5");
+    builder.add(
+        "def190a7d6160028ad7e1bdf02c69222",
+        "2c777251ddc33a2b3333f37fecc05f52",
+        0x94ecac5090fed567L,
+        "d4b1c74794b940042713ffa44c4325e27a2a63e3017a3ea6a3a0ac8dff1243922c8163b2a8888dbff8e2bd6b22fe0aa5672c3d681d86a6fb12b551597eb70799167012c5191009f9516726740bc3c6b8");
+    builder.add(
+        "0027da7573952e3021ff46b010e1db42",
+        "3f48d8b825d126f2a54ca6ed6d4ef473",
+        0x4a0d159f476870b5L,
+        "3ff49b96af47b46cd8f819b322d0f5b6899a02cc8c3251b49321a269ce648b073201cd6b026f3b0a721f011c036cc5fcd47a8390e8e47e46de71999672445ac2b171b38e24c6ca3b17788514f62e9a9a");
+    builder.add(
+        "56bdacedc57dcea3074ad5f66de9c8ce",
+        "c05fae77ff758b7f34c0ff8553a6061e",
+        0x2631f2c58be237f5L,
+        "27fccf336d0df91343fe3e75c6894ddf85769b24b71b477df70c53d46c6de0b08b2a685c211715ebb6669bb0d96dc1a39063a64118b4cb939a638dde8413820bfd434f98ec10dfd51d4060c4ec541fc7");
+    builder.add(
+        "52b2927edb6c1193bde014a897048f19",
+        "d98a89f90fada3227dc8b52b36210a94",
+        0x47f497c198c8229dL,
+        "11bd6c68aed6992ee5e4090da8e4864e741ba9a563f0edb514dce713c0bc30c379d663f28bba572b85f690497332c13a93e7df44b3b10a3650827e9485a6bd7d4005c903266df7ac9576c37fa3449a28");
+    builder.add(
+        "b04bad2ea4c31e1bc6ba917ab06a784c",
+        "474f912462e4bf3f0ad291be954d8efe",
+        0x294d18acaae37638L,
+        "80d30f972e8e031e9836bf157e4a6955d063cd2d8b95cdf57697334add4b087d8b5719b48eb8c1844ade0ed21390383a33eabecdce49b05aed7bb9b80b97d72ffac8bf63d9d7f5d470c4b12c5d1e729a");
+    builder.add(
+        "c6748da91cadb228e4d8aced04fb5e3a",
+        "dbeb6f64c086456026fcec960e85dcd1",
+        0xce1ca68f54100435L,
+        "b0eb13528b77896325500fa721f82f7150f046402bb73428d6376ce44b9f1faafd0fd60b710b4095f971bca3c8b86d0beb08db8e6aa79e97846244586e7c9cb03df8f0284cfc9ec1fc2610a2336bd711");
+    builder.add(
+        "278d198895eaa3e2ac98a3f0606e13bc",
+        "6d118a310d88729c1917cfe8a2cac483",
+        0xfe92ac08793c6a04L,
+        "f0ead8c73642afbc2feed6ff427e8f8f27bb73a37cba2639b153342059d7bed3cec19503ca54d71c2aa1878393d3eedffad1d23f3850483cd3428cb2c90276c26d6af49704c2b726424c9cf0858f4a32");
+    builder.add(
+        "66c4bd92d87c230215893dc401f70ef6",
+        "b39d3fb4bcf34a87340a40e2f53e1605",
+        0xad2f3828144a8395L,
+        "cceff9cc74e71a100bf3885db529ec0b08d98c913a9fe5edc5eb9e11faea9ea7e495eed30f80fd5ce1f3c9caa1fe3d8061097b0005ece713fe68f327d93a85611b00f584138d5d2f4251d539ddc645fd12");
+    builder.add(
+        "1d10960f9e47fbdcde9f0a7e9eafa4ec",
+        "3d90f06d8417483ed25f45e8da50da7b",
+        0x0906110854937442L,
+        "9a32601f60cdaaaa9b6d3a1363a397f54641b02df3f5d8e91eeaf535582545510d1ed7420c2eed82c0f8f647bcd419d4d1efec0a36828846f80d93a06835ec9f2728a146f1dcc08005e65b6282a5af12d2");
+    builder.add(
+        "cfd3eac4db1f6db88340d033913aac99",
+        "db49a118f7dab6687792af0a00662dd1",
+        0xbb8b24204e7a7d78L,
+        "44ea9fef4c3a81cffc7ab5be0cc63e6b3e66b25280ff42e842b8d95d6fbc1541286eb72ad88e80047b0ad03ad7239630bc38e297726379c5ea957489038c22648a53454dc34a916a967130e73aaa5ca782");
+    builder.add(
+        "e7f2b08c0b7144c6baa238ae82bf86e9",
+        "2545ac518eed2620fefa89d1f518660b",
+        0x51cb13d8fae8b5b4L,
+        "fb45c3391d0f94be3952b71bee190474d927b3c36690df1731eb22bc23e499511ea46d2de691d9df02f24dd90008784918ce435164fd2e898d943d2c095a4083f17175c062319434d8bbbbb927cac71af8");
+    builder.add(
+        "957b46cd11ec796af2ca80a6c40fd955",
+        "dcd861fe452c7f44d20cdf34c0cbe60f",
+        0xc18ef983d68f9c54L,
+        "df98e55b518208f86ccb5c524e0264294bf4394f615ed88a908c3003305a469c2773efb260bf0625269268abae5d29170e713853f9c6f5cb5ff5b2a3b85ad95eb5422c435a9138092190b9c47ef5a54d62");
+    builder.add(
+        "d7f87acfff1c62b67b72f8eb9b0f4f7e",
+        "4dd95a86f5df69bf0ece54266b22a3f8",
+        0x6318e85890749a01L,
+        "24888d12f6d0438e711ce139cc6bc61c0a140fbde163c0004899b8adae3032242947c8f13d2e445920b32bbb0dd1c8b346cbbaac4063d80ca0092f54fa25ee1c3f17ae786873df4c8a9270cd0a31b48a03");
+    builder.add(
+        "11ff36cff2db7efaa420b598b3348311",
+        "8269b26d33c8119c90c0afe0f99581d2",
+        0x497396b3e1c9a2ffL,
+        "748fea5ca3fc1b57b2f2b1574f9fa46392684e0c56322804455b093e0237019c5d2afcdafedc607706548460660cab1acf189b16fee1df677a0aea10f4161304b8049064866b96631f5f0cfc380b2ab232");
+    builder.add(
+        "c29596732cff1a7ff6127c12ccbe0d44",
+        "918eac1944a7d24ab97ed9d6477ba708",
+        0x6a49728d6519a63cL,
+        "ccd9ece4e8701389f64dc42dfc3bd5fa17b5f18142434e6a46baf9cc83094ea763ba0500b47ba0f18696cb0b760a66f8dfd50fd72f7f7ceddc91596956271ef1b878062a4dfb1a1c69240dd85fff848c89");
+    builder.add(
+        "dd5cf7c7353f950fc9656448adabcbf6",
+        "edab94f9d6044e2bea471aec9d6dd311",
+        0xe9ba0e74cc94f3daL,
+        "08386f897d5efb314623d1c1c2b93300f1c1749996ba9bb4d011a908619a0da026dab1996165f9e7cb245f3a1ce99d9b4ca9493c51f10b72b17a5f09a1690940b50cf6509610e3bec9b46a1e55433d7723");
+    builder.add(
+        "2ff11b1db052680e80f8414134cc2c25",
+        "8d171f861fc863a946221d6143ecef00",
+        0xcf534ef6e8dd0bf5L,
+        "7de4a1016973be81ae840fa3af0f592666f88462aec3a21b4e923ab84df760817f478da5c2009394fde9ab9a1a8488e907d383ee1b62271cd05d68c2280082945d2988d63e7346f3e9ba553fde698d8e99");
+    builder.add(
+        "2dcf03508c24a25a9bd1c8e718869612",
+        "d0c28f8f127067974cca8f4f5d440aa6",
+        0xb268519dcf555362L,
+        "3680335dc8cb1bc9142a8d97ad1750af076714d38bbe8f9e36f6ad02b3e26f4ba109a5c265be91a28561151a5395f40ae20ff4e9c1d3e07c9c7759f769326c087c6744a4ce5fce8fb575db18fc8137cba51b");
+    builder.add(
+        "aa19c1a56dae4249c0bf2d05ed1e7673",
+        "48533cf069f515e8e6a233b9ccb55cf3",
+        0x96cc7fd48f19d1d9L,
+        "475ee42d8cedd7994627292ec133da822fc0161d756ff8ac01da0bcbecc44a4bed2417af0aff353adcfdd4fba30339134d27812020a30e809cd008407f1a6da93fa34080d0e609b2e1f7313cceb67d4af943");
+    builder.add(
+        "cbcfc77e045ecfa01ef5d354dc7110b9",
+        "56411b8ce5caebe0f9a893ead13e7dbe",
+        0xc8f93995d45d766eL,
+        "b7595c2b6cd9002403b0fbafea73d354f3140f3343f86a18881f7f412dd56a6191e5081bb1dc749ab4c6f1ea1a509080636f3ee4691f6fb12c0070209b029edc76eaab017ff51549372dfbfc841b93f6c533");
+    builder.add(
+        "5ecb0f36869877d11fa605a3edfe61bf",
+        "1100876fcbc45c94b13efa403982272a",
+        0xc1904ebc52a5564fL,
+        "cefac9964a8827309b8347d6639e38e1b37b8aa35d935ecca30d694dbdffa86c870d4749a34082f57e3b145c36d62ecdb8e39d3b97f345cbff40a6e5875333159c0468745b23541fc75553e6a8c5200a5cdd");
+    builder.add(
+        "ed09b53a72faa0797365d1a55269f626",
+        "fa8b2a09fc3ae49573a8299b23fb4d6c",
+        0xa684994593803be0L,
+        "fa801d367876a084570461338562a00acabb07b269b29aed020e6be71cbade17557bdce23807684fb37a888000a7692ea3ecbe78896dd3c5a7d0963efd181fe8ef626d3f22096e4ebd8cf914c829374b43ce");
+    builder.add(
+        "6293204fdbf20fbd2aad883eb592e4cc",
+        "710789cb49a144d24870ad2e53364570",
+        0x4177ae2f6c32ee93L,
+        "42bf171441c687be4d8d50ad2d59d1e532e9ad536d087e1f9355bf7c7cfe04515379c453560731f3340f654bdef62cd73d4b8bee6c9d545666715119967072af1e0d2805da2cb976f3cdcadcf1b5a3b51bd6");
+    builder.add(
+        "c6678cea4b4ca13354112920e498b7c4",
+        "a7597cf8665c09cc1bfdba79e71a0aa7",
+        0xd0efb03b865540d4L,
+        "dcca0e4930b7cc85601ae053987b6ad5305138054b2a856c552603af018e099e51d576abdfd71dca54863c07fe7374a236fa3fa9b73f707d7b46be41f33d32d62410995fe924abfac817f3f237623dbba1e9");
+    builder.add(
+        "78e5aecc9fb38b654254957d028b59cc",
+        "b5f29b40bf3cc8a09835eb6fa5909603",
+        0x89658f3119e50baeL,
+        "133e2dca0550dbfe139c1b721d0c0c5fc3dad893ce39c096ca5436fb61a13582c3c353dbb383e0c56cd2792cdc9bf18427803960ddb40073839c49cca15f77665c295a8d2b7452455270a9a6f86ff7cd2f79");
+    builder.add(
+        "ee0b901db53556ffbe936eeb4fe0b58b",
+        "cd8911860a20167d5803a41201e72239",
+        0x1120e0b33cf22797L,
+        "c5040616a69fd23004d377df128ab227f8903c0abcd12cd5aa024fa51336666808c342f32b1d6c9e72c6eb2657c3d4fcbcbc65f9dab3f4e5a101e434c7e33336e9fb41c22b81c8a725ce7334ca61f5b1ff31");
+    builder.add(
+        "ba184ec2db490321d5d11eea08aecacf",
+        "9b3f2a05b5bb3175ccd5b90302957e7c",
+        0x58156aafbdd78a5bL,
+        "3b107c05f7c95e2d86e7a95c373ec2a0148455e84d23154fa29373a4083a4435283eefe572ff5683414c23003efbdfd22d3bc8d33f814f42ae08f6d20be105d0a9b059a69a34861c05871b621b3d9cd2aa3c");
+    builder.add(
+        "cc3af35783bcd7713e82161a945dbd80",
+        "bf198ae731b3c22dc54f20a8c03e6aa3",
+        0xc096b23fe63d0c9fL,
+        "7b765e7134f7fe7399df12817c2eb87e709562d9de73289279cb118e6704b54a92e38083e1e4baa18e9d2fc8fb74808f7270cfd137760e02653e03f46b6c298b9d7b32eb4a93700dafd7b94c3253988a124d6b");
+    builder.add(
+        "56e97aeee930196819bf266d88ed2d69",
+        "bcc1de1fcab6afbc65b66d7b9e5e3198",
+        0xdab03a654411e43dL,
+        "2092db0f8e8b8d13838b8d5e7b40696b79fb9f0f9cfd9233bc7823a0d4060115fd1f2bede937589d139a2d90896937377a0f2b7b853f6403befa0c1dd9c073ef6aca2546c64724b2c91ac67be8a45919810396");
+    builder.add(
+        "c9600c72479d4c4599da454b7da6177c",
+        "076e66b4d64e22d203ca4ab58e9c14e2",
+        0x50454e5de8543b38L,
+        "27ed5cd85d1461c72743176aaa84e7c45f20f44f44760d0c50acebef3d389a5980e721eb8f3d7a95d8f05054581e6d6b49889dfc05926ba4db362cd7e89f694ab79708ed31ff068e37e73d42037cbf3dd8159f");
+    builder.add(
+        "ffc416ef8c0dd60a596350ee9a0543ff",
+        "89aba28acb290f78b585657b3be88a82",
+        0x3f88d78b83e78405L,
+        "2688f7fe50b93264f7e05c3dca55977137e19845baeb1e3e0075dc1b2d52f748b5b019835bccaacb4e289f5bf12aaead8c9e8edcce96caa1df3172af8a8fa2d54749250f4e0656adb78769786f7ced20c5f59b");
+    builder.add(
+        "8be1cd3f219de0078911d8b725eb641a",
+        "acba50b765edfa787d274c03fdad0575",
+        0x98ae3144c256d2cbL,
+        "c79659e2251fb26e75149d873285f508739eac1d3c3c1e7bd15645e26913988f270a89a30f7f3db9faad25df2e9c877a826d95f1d196846b06286d048b517fd69b74e9570238417172720eaa79b823f83b48a5");
+    builder.add(
+        "1a90eee23d404feb0074e808f08e38e9",
+        "7deab90b72d13ed3cbb471d12c5f63d9",
+        0x84ac1a3b2c69ed43L,
+        "ab72df4cbc2bde2ef9ff431bcf927137b1a7cb9d92cd1953a204c5b914e26df3abd2fec31a062f07cba3fe714080c29dc9dce1ce27ecf4febdb5cd1fbedd0f84d876d254800e84086bcdedd2e03e61c6ef405e");
+    builder.add(
+        "96b78348924cde0ec2724d4320abd7a3",
+        "65f1641521e4d7d9bf9ae065031e2b2f",
+        0xd7822bae3f3ea6d6L,
+        "a554d463b5d97bcc06dd213371c0d97ae4496d69207b7bb15f5f5a450b715a511bf25e4687f681cf7be854888281a9e02ea711824fd5bc71c29974bdb496807d32cec675b13e84da3dc4ded61bcb0e983e45f9");
+    builder.add(
+        "18c6aa2fcb16bf15f02f7f0b8ea22c82",
+        "a95d178b038c496ce3cb23610393186c",
+        0x4d72ccaa05035735L,
+        "6e6ae018654fc286f9457020e310787408893ac36a0c4624fc9cf9d74cbada94238a6d4c2ab7fb55b45d9b92116ae1e50b241f393ec073671378a072cb5b06a717a7a5f2ec3ae0feaabbf29968a50d5451f3fc");
+    builder.add(
+        "0b1a10bf8ecefcc30debae94fea44a3e",
+        "7298ff399a07f2e9cb66fad8a76851d9",
+        0xf458e7d2de45b2a7L,
+        "69c879f64eff048783c8c5181950febb62603888bb74fce40242c031cc716ac7bfc67c48104e0462cbb6dafa70a528f22584f96126a59dc256e2e6729c1d03b2814c8d6e7340697fd894f1a046c97d37485e7f");
+    builder.add(
+        "567f2652226aca46cf09b761458e6eea",
+        "362f45aa6b5d307c3609b67dcecfd9ef",
+        0x4ad22b6915fa1674L,
+        "642fe726e4308405a17bc53d6da1dc96eb547c5953e04343149b30ebf95d6e295359b9163f6dce3751317e171c9a4154a6ef8f3135ac59d44f565f1bfc72ce5b6bb384f10e4b91dd077cd35eb09bd3839927ba");
+    builder.add(
+        "bd8fb2c890ecc00b12561f727df56265",
+        "ab8f72b7ad09cef98889b6bcf86e194c",
+        0xcb1a08cdf176699bL,
+        "bafb45a21bdce12f9b51d652aa5283a6d45cbdeaf004043ca12c80f4a235dfc48e7abe4d776214afffca35d08267c2469aa8a81f7ba6a75a88d97d0a9f798e95bae5db5a2a16babcce60726114db8c61d8cd0843");
+    builder.add(
+        "e5c75be87c6e7707a4c9e0ef6fc43cb5",
+        "8959ab4b4cefc71241bce404726cd3f8",
+        0xef2bd1b14f2a639eL,
+        "b3b83695b5d21c5582d76901445d3efa8c616e44b81f02be2a329705d648e15849e95352f45e724580de889a95e5e4de8bd6ec6044dd5fbdefb38f2937065a35d9aa498ecc312fd17b831dba6f2a242b042b7774");
+    builder.add(
+        "202a8b3335a5aab684502697f7820f84",
+        "ceaafe13a1d5b775a602cc9cb654e77a",
+        0x6da6d65860e717f4L,
+        "4f3d5232d5a5ca9fb6986c2a0ae8a477eebdf396255b482a2b65ed47e7ee53785ee578280fcd8f5d4ee17951543d2c8ed8d715fc35655ade5ba4805d3461216cf9cc7eef83a7fab0ef00647a0e48b009e8917e23");
+    builder.add(
+        "5747d95b09943e9024406a474cc04cea",
+        "b96bbbc6f795ce4ee10cc23b35db932f",
+        0x0ccb097198cf363bL,
+        "b35add330d493418601b346d972f18e51ea8518cc9c46127a027cfac6c8bcb05e58bc0df78e0e9b325be929d1a8f75aa131a61e51baa3aa8ebef51347e56c33144a7bccf848519bc3884e7f52111d569283ef18f");
+    builder.add(
+        "dcfddf9364403ab27b28b114f2251f57",
+        "6a8c0d9787830cbed202ee13b5db9651",
+        0xd86f2e83846362faL,
+        "1ea9800a584bcb05d2d4a79e24d1994e09023a963d5772bf6cddd79f6acae9aee8a8224769d76f766558994e3454654a3f0332a0eb29d9f54c134198e76ed50366f51346578f34b3f438cc38141c4edfa3bd948b");
+    builder.add(
+        "1902457c491a8febd185a783a5253bca",
+        "118ebc8d10a396d4766fa96da67c1db6",
+        0x99e269f5af2f0917L,
+        "37717860d02b9276bcccfabea7b9c5f0f13234c42bfa9a1c05c5c481f2d4cfd8f25741b2086f46e2a47be4f949f786acc42da889c82aeb1ac750acf239e710311f9158b4e3f1f7e0be61518e68f0ab07fcb5a3ea");
+    builder.add(
+        "39272b933f5c82b1b1bf388c24dbed56",
+        "81f421f7a08b95750603a050b906a8a9",
+        0xd5e3b04805bc60f4L,
+        "d99b6f8521e5708f6b4e1fec8ae50c3c0e9ba906ba8eadd63efc4eaf51857a0c81e3f42882b00df611b7c68de0bbbd434501e405ecc49c84bf11b3ab35d461601a0cfa0311f308a0fa7882747e47805a7a68ed1d");
+    builder.add(
+        "2a60b6436b72e8f2d8855bbe3ee3d48c",
+        "1c7ce0a2feb8f9cfebe809fbb08a81fe",
+        0x0c1ff2e64a70950cL,
+        "24dea6be56a0ea019a3b4060de55266ab0bec6e14be88dbac8144a8e4157c022f0daaecb545f998b35bae61036ac2ae904840729597850176e58f61a8c6343e9af2a32ad6764e77e707633b945830b44e143fa34");
+    builder.add(
+        "a1441b6e351ee0394a42084e61b55fa8",
+        "821d29fb9f421d465a528cc8a7266b28",
+        0xe1f8b60e83e1a0dfL,
+        "23e2904651599507bb880dc3bc1fcbd34ee49d0d8f47bf7914681c2132ff3a27d72264f9fceebf36a1672acf39f7e3c9c24833aa6e2c607b9b1b4d571d9a9d491de7bff5157e50d681a5155812b3dc7ec2e0d3e7");
+    builder.add(
+        "acde1c6ff554a23a531e1d3ec5e51525",
+        "181f58be0135fde68e9176212f57a6f6",
+        0x097375a6ac0acb81L,
+        "f0c820d93410e882f1d59d0508063244f67ae242eb53b632adadbf6069f433b895cc676b53ffde82a2465cadd9e6f16a2266a6d969e5434effda73e37311e2c5e3e444271f293540d3557e29fddd886690d363b0");
+    builder.add(
+        "880e6df5e5c3673ecfd004ae770551a5",
+        "4c452540e24fcc89408960b04693b32f",
+        0x489df26f171eb556L,
+        "3e7a2e44594ead4a3492bf799bf56609702562a1449c4ed21a7def95d205b67d6a8ea522a8f8acf23c6463b8fadd812c4d774988acdb62adefaab08a131c91d62730e6f7fcafa345727c7463c62442e02ebbc6716e");
+    builder.add(
+        "cbdbb1a2810360c358ada7521fc33677",
+        "aa00987caedab138550f5b042d4287eb",
+        0x4fce1526af42e94eL,
+        "185b29ec6d4cf3f56f07ee42925456b3fd5fb1f935b331da2f1ab68efc08c3c58af2fb8a24e7703a4b68e6e1ca284dca85acceb708421ac31d562072afd44d1eeba92ba17729ebac079603e6ea92f13197ab759947");
+    builder.add(
+        "fba59d356f6051e020ab52a70e38ddb6",
+        "7614641a6bb4042dbc1972e7542d27df",
+        0xbf294e6fc513f723L,
+        "65f457059e2ed82589c7b38c2190510df293ae9fb458d1fef7fa57d55d79d6baaeaa513bcf1f92f98acb5c5b1a11ab4ac9859455d65bb0c3fa70daa7a47defa58baa0e1cc5666fb0b8f0f4d44d25e327ab7a1e99f4");
+    builder.add(
+        "34d29fc99cc089ce82c703ee67797a82",
+        "d27bfcfd858832cf5106cc9623339920",
+        0x6e793a0f7ef2bb23L,
+        "d2e78d0180e9ce0f7ea2239e15c1933ff46020a0d99588c70199a98f8609e78bd043bba1cd3887a97d3704ee914438ec51411664922a3cbc9d2fd8e13be46fe1954c716ef580af7506d874b7ec3a308f774e83f548");
+    builder.add(
+        "05724f35a67a80678820f9dd7f6797fd",
+        "f552b6fe619a35cbed3367bd05c446ce",
+        0xcd53674491d40f3fL,
+        "0e5c0b90585162f8dbd31d7f78b1816d1f99a3f2e8439e90a16c1d05f1c57623d53a80e80d0077136f2f07fc45515e3b9ddd1460212a3ffcecd487471f1e747ea63c9297a4780698eba20657ff464d38401075110a");
+    builder.add(
+        "b7cba6ae102dcf4ec488e379aeac0bdc",
+        "1cce284a3b3bc9971140d2bd0603ff28",
+        0xb2dae588913223f6L,
+        "c17b644c7d4bf8ef69c0301308c90e2de7be27b8ad322850cc9be795fb8d5773aaf6e3620159a7f715d41861379059598a15cd09549536d7769f306569bf9d59f14222d6979bb062a0063e4166cfa0f9ff94ada006");
+    builder.add(
+        "f1be842e84cdbe9baab1143b70dd44c2",
+        "55cda5d7e42a2f7d1034597b1e2139de",
+        0xd803ebbda0056295L,
+        "a6bda95fe8db642a4b3f8efd3169678b9410a61350e69e0dac521ae0c7f36da5e61563694b29685e38bd908a197cfb335dc0aa20d19e290e9673907d52ab3a639e1ac702f18dd37585e75da3ad15db14ec82fc1b02");
+    builder.add(
+        "77b737d6b85faa7a47dc9ded095a69ab",
+        "bb8525d75f74f17a845ba21cd869b2de",
+        0xf5a1bdb7415b7f97L,
+        "55ae46c745deb1cbb46e4070b2da2bd911ce55682a004cc97df2a0b01fa46aa623f159bbbdbdfa13f6dd5002ee9bbf0cc5f18b9b4136a07495e61ec715101a9df2c5c9f758204dfb41dc773d093df913bdc33cffde");
+    builder.add(
+        "4c7f1a2d3d2193e160436cfb248a0af0",
+        "7cfe28b49a6bebf98b21bf4163bb2ddf",
+        0x4268ff3bc7584ba5L,
+        "863e2966a9de518300df008d5ae815efdc829520aa7173437b32f6d8549a89fc6c374f895cd3ea9179389a2b124fdf39841ca34b1de3ba7f49b38db2c375e6d114118aa8d6d35cf9c44b00e759fe300401056e0118");
+    builder.add(
+        "18f84fdd8e861ae345a30bfc40c7ee3b",
+        "5c5b9d02aa32bbc170ff193c1ea5cf16",
+        0xcecde450a7699c87L,
+        "d00e4cd13793d70b5cfc5bf599b04fe41657609794b9a50f9be87ac25ee9d3d56542cd4e67db010f316610696f5b6488093bc91752ae3b04e549e487026baad2c11c1ee3fd20e64154c2fedfe15631efda2af8b756");
+    builder.add(
+        "e113d9ddda889d489c84f894c9c5d51a",
+        "ca134abbef9a0b46e8e3cf4234d77060",
+        0x3937d70413e4d842L,
+        "2caf3e6e0716a3834eb00706b08f9c57d136ea5abf33b582ae4b1b74015882e5aacd0e28deb57b37b872249998bc187f6db453eea48be296bb4717cf677a3bbbb0cb11fe0591272e3eb0e2922a91e852b1018feb4053");
+    builder.add(
+        "93e4bb6f96db0eb343ed7634d9764693",
+        "52f611c996602e94f21cdd411de0e056",
+        0x9ddb0a77a5536326L,
+        "e3cdb3e22add3c67263653b18dc7a626861212e01de60727b74e5d61b931794bc201bdc44ce01186eff20dfe014c94ae77c8de4b53c0eb6ad21c3896505f2ef06f0bf815f346e09bb781bb04082dd24ab89fd8a56f59");
+    builder.add(
+        "60b2e95e41475839f2411a82eb00776d",
+        "f5846537a545fe376c129ff362b867a9",
+        0xdd03b5042bc70b8eL,
+        "ad5c2bae8f32a90ebdf3131650b4a6085cc0e876102578d05c4cd5523943b1402afbc929b7e750f070de97eb2d2f4e211cafd0039108c7ac3c53227a620d434e4ab7562ae2ff45e55118b287abae3efc720746995ad8");
+    builder.add(
+        "06adb0034d0fb74448b4bf8d99240bc0",
+        "e8df19a12cb4389edba4c2a6c4752ac9",
+        0xfd1f9ca6e8f7cafdL,
+        "c766fd7eeb344603306c22df8e0cfc6447340478edd6fe1ffa63976dd51c6756b137e21548698521f30fa6469c66614e7042fa4a4dd66165be8d9f0021e5d1740cfd401a8217123f78e61fff21b24b9c4bcc2a1a2586");
+    builder.add(
+        "3be88ed5caed856e189ead404d9aa3d3",
+        "f0d34cb6f14d20195bc4a770c498abf2",
+        0x2f7db236aa0e8701L,
+        "87e0c34972feab2cc370f93c8cf416a2c61d38010a16aa21aeefea1a11ee555c6f0d2a7d9d74696367e1410823a666fb6aff6e34c3b11e3ca0e1c88f7acdf32b11fb834a454792741b626dbf14c81b35b54b7713e7c8");
+    builder.add(
+        "ede265012670f985e2130af16902f7d4",
+        "1a8e4dc09cfd1db5009f2b76b7c5135d",
+        0x4ef6e97fdd0877c2L,
+        "e8341e572fdf625cce3b95ccac90b6a5e528f2c756a065d8a37ce7964c965ac2256ffc1f4b6cdc87a7164ac825da6b6cc395d2d06985834bc86298e2195d6b00b0fd5dbfd02129fb70679790f7d984e709e1ef208785");
+    builder.add(
+        "2a5c86dc2a5362cdc995884a2d068438",
+        "7e9e8abd75ac750eb70fe84483a62341",
+        0x8b1feae7e6664b22L,
+        "fefa1f3b3c5404d803360ceac911c97b9a77bff442291f3d6fb6044ce8e2881db8ea959bfc6e366f8d1acb3aa9392026b918a3313ce89d8d503bfd8e0fc898bfc51cb2e25218cd047c9be7ca87d5fb965869ac207d7a");
+    builder.add(
+        "087aabee9b0f6eb1f5ddac72339b129b",
+        "1e193156d56cb0c16b1cc5a2d6a16d7f",
+        0xeb9a2ee84bac60b9L,
+        "71e037e6ab68d52f0770a9f8d9188eb779d97f053a477bca63c816e9d087ee45d7c670fdbbefe73878dae344b7079531fdb592022d02b8c278c1ac553d8edd2fb9cacc382f8cd6f59f39261b9d7ebe69d9203ab037f5");
+    builder.add(
+        "096351f135c988af58991564780edf6f",
+        "74f5d566b22a34a1163640c5efc18bf1",
+        0x34bad7c81759d16fL,
+        "04d695664ff04dc345cbb7b9e8e865e0f4f2317d36be9d8605f07403e2e5e8dd21b968e3af5f1fd2812a5898bdd7b09c250397dd01ad66ed347e2661d0a7878764015cd09f88a1699d804c22e5d606df4035657e0943");
+    builder.add(
+        "dd50bc283993d3013d95d48e074325fa",
+        "220cdeca5b2ca777a9dbcb69423844d8",
+        0x931668eeece22584L,
+        "95946dc65e770189677136b4e16dc16d3105e64d4b7f63a74e8044e4039fc9b21eb853b9a6c2d40f3110eb6366266d8910034dd9fd1438346a1bcaeb1655cd557f994488e5f1b9866b714e8187917099071eb8688bdb");
+    builder.add(
+        "22c802d79c374900ec7c39889869858e",
+        "42a9532feca6812f2ac47a906656c0a3",
+        0xebebea85800e980dL,
+        "5106bbbf88a9d685e53f3ab02508a391f1365ec7ec8987588a5d532d6fb694aeaf0083e3462db854b40c1759cb2dd7925b81dd6e3d435b2d6c2abfe4ba0776464add3d1ecb1f0029f685b376a4a64ecd11fcf645b07fd2");
+    builder.add(
+        "d97bb6c614141a04fb67eba5a5532058",
+        "83b711682dd1bc589262ebe9c6154e08",
+        0xa8886de7da2b53abL,
+        "4ebbf4c79d988ad61e8ab35e1a5fc612e8fec879df8d7c341eaaa91887c833f123296ea105ae29c16fb73270bb87ddad04e87047803d33aff1504db30e60fd6ca25dc3cdf82e94071944b035ee48b410d44cd0d39d909c");
+    builder.add(
+        "1cc6e771ac1e16953f999429616ef257",
+        "e87e733d45ef310295a7ba006b085180",
+        0x32c279e4ab989f0fL,
+        "b8580f48cd6e381d306232a883b3fd3e49c6b2688e58c53f3ccd017483c52fd3fcea06ab291659a062bc35e0a6ac5d03b6e85b911e282d945d2bead479ede1ad2ccb7230d0209ee1c8ae430386b7396b54c7195b73a9f4");
+    builder.add(
+        "9413636cdd6e06284410bd94dc3291df",
+        "1b8cc8d134c8eb7690f3b4c23251e185",
+        0x697056aa263e6659L,
+        "a417de415f94320da1f1dd2b3c0aa4c5d8bef70988891d6cc7360b70a9fba0da6153844dd099ffa2563d4f7def4cb59be1c483799c420c9b53d5872178b5209a3b80ef127ecb58c243caee4d46573867177939b97b89cb");
+    builder.add(
+        "4653f1cdf54028f4097d67ba163dd0af",
+        "fafc9767d93f526300a0d3f6a4a12485",
+        0xccef43d8dc2d9404L,
+        "3077f4f44b073033ed2b39d682655034f78c98242144e5886b30dfc1921acde265e505a33f534c8395a3cb12ed69f28f9828ff5e9b2f9da797ab1fd7db132e4790178e943d109fdd76dd9a0ff4761b0977cf465c3bba9c");
+    builder.add(
+        "adda3d7e4dfc8feedc079bad289a8c69",
+        "52d4a772e478c7cdaeaba07a72278341",
+        0x6bde9f7dc921db65L,
+        "6dada720e54aa82952e52a737a738a1e3b1574a4a87df5dbe8aa750a66fa1458c8bc1bed286610e43b6951f1a7ff00f8171d0495f8c165f8b7b3a5505522fb302a9048a8ee678e1e02e49dde2908a05f85114942644994");
+    builder.add(
+        "98da6b8e56685385572a8930e0b257a3",
+        "9308438755e5f070c150ce4a36f87e32",
+        0x819accf47e7c67ffL,
+        "a0a3e17ee4748883f0f787cbda5cd9786e7a9734518d132c8f7c1a54cfeca8bb011f5137dc277bfc5c43e995d939202182401f1750e8b3aa6d595f5e85d2793c1e90aad9ed1c68e853a064475a0227d24e09bd16ad1445");
+    builder.add(
+        "130ca6c17c2cd45e6cc7394d9f78ff98",
+        "263dccbc77c12f38356503b568469c15",
+        0x97f0cdc126c564f8L,
+        "fdd45b3b970f09bce7193095a29c8b4830ce808b05ab70a494c89ab3d91cf5a8f69b1f1be71502d775c50b86c36d432ee5f73f03db677f04356e399c85f0a659f32237c128c979f421754cdbc2e32f3efcdc442fc1c7d8");
+    builder.add(
+        "537c1e447108285fdf018911c0d64a66",
+        "ab3b6acf5fdddaf9dc31c07e11f3aaf3",
+        0x42a4c0d4ad8bfc5bL,
+        "b13be067ba6d9819824a078b868113ab484f458675e9b076f6944db748cc0e71dc02c7ae158e7e9dc82724578c0f7dee6c0d6a6c1b3fb9839a79188d33760fdc8f919f077e1914d39c5aea42ab4d07f6a8c435f7f08cb5");
+    builder.add(
+        "7b4b65a75abee5a338e9dd75f591bb8c",
+        "cecf9a61bdfe554e4a133cb2ba1fa182",
+        0x8d488a847b8eaf4dL,
+        "757b4a05bfa0132a9a35e5efa05d49c0a9973bb57c319c5124b03b49d746d21684d54d1ccf62ffaaab3d55bdf1f7b8d58397788102980da1bcbaa6f9ca9575ae60effc825374547786b6670fb92dac5be4b14fddd6501e");
+    builder.add(
+        "5100914590b63696953e7af69fcf10a0",
+        "241b8bbbc93873e51ec3651e825271f3",
+        0x0182da36a98b45acL,
+        "4e7cb51c75b2d8619643de7a38cb75cff5808247fd9ccd9addb100bd4f792794634d0cc40c95e1eb4e25006774baefbb84520672600ab14f958685a444f9019c91e25578709f219bb172df9922ecf3979abc23a94f6e3e31");
+    builder.add(
+        "60cdaeb7032fb9a97ac8f771f121e938",
+        "72213084b3ac628704871d0dc79111d2",
+        0xb058008b8276a057L,
+        "9fbffe0fed2b2ada5d5285a756246134e9f1c827ddd185831ef19dfd475ec3f2ad811af599586c4ae1f8f5938caf9ce45131de198cf8e1d390c4763637ba0a2699e03c3a96e8ee3ea2c03b9a312c579fbee2b14466521b27");
+    builder.add(
+        "a6bb920a52e5fecb10ef736d9a0a8843",
+        "39b53e49bac492eb245d8d3d8a646f68",
+        0x103a983f2edf2baaL,
+        "eafdb189e8f0f052157995ec0926b0dfb09705881afc93bc2e7b6e519f4a43471cefbf090833f42cf0c9de3872876ba00defd254c4441bdd9ec984a549d9ab6044f4f7a3ab3529a36437029eafe020a507b848547d4f3739");
+    builder.add(
+        "63042620a4b8e6942c57c69de753231b",
+        "66b2aede650a004898b7a7504c764e94",
+        0x7feae4366274796cL,
+        "7c9139d0e3fc69b4d73a68a26748a0cfba0ba5a12f90fcc42599396e41e85e2a0a8bb4b5d4d7e188676b7e91ed536fa288a3ea7528bfbb0a35941a2ff156eb9c3a0b1a12a56235f2ce09db2369fed98d70aec08379ce5f38");
+    builder.add(
+        "14121f5b2fe79afcd87146ed73b05760",
+        "2a001a8474704006c97f4741cd04501f",
+        0x42f162d20cc3bb63L,
+        "de4fdb9c86903f4d243ea6ea3b555319901e512c0db98fd82daddfc8a39b064d6bf2ee21b845ca98ab781708a58eb5a25d501539734e8b6f0f45e066f8c9299d78e137ed7b63effbec9b70d1a23e8da84ade7d6fc2995ac6");
+    builder.add(
+        "9a66f4e364a9cdbe145936b157ba08e8",
+        "3dfcec802a87da4a383fbecc89fefcaa",
+        0xac06333ae3201fa3L,
+        "53c10fc1b8a344628ee179b8d3200a728864641d860e4310b39fd4da38ed639d82ecb316ebc9828a4f8854c50a39badb8b4d721e529ca7de116453456aabe271ef84328deb84d20de93df23a50e1a4f28712c192046ad66d");
+    builder.add(
+        "26272e07a1790128ea71c460689c9608",
+        "59843193584572fdb55cdf13b3a7c68b",
+        0x731d92b8f69c044cL,
+        "1a035fded1233397779a7b0f8331f4e012240d59038519c07a9579dd4df249d98260779b6bbbd959eb89f5145f25c68bd2cfeabbf7cf35c45a665b91612c3f418a7cf372229f6885a43e59d47176ac9e8a700617cbe634d6");
+    builder.add(
+        "1ce939113c8718c5cf58f14d5f602040",
+        "8e438781d7850dfc3b9936d1b4251110",
+        0xb7b9b7b67b158eafL,
+        "e4438688afa8546f168f2892381ae977fc0ca8e7595781b8b7a2eb7804bf2e7fd84df47f8989299f7a69c3169a5da5891220e60033e25c380cf5523e2aab435aa3c0680ceecb02110cb22a28133a058ce6c0853fa244a8bc");
+    builder.add(
+        "4a115c59c4b21fcf79b5662ffbcec54b",
+        "d063be9a3b6985eada33f2a2c154c586",
+        0x50fd55150b1bee90L,
+        "b7bc8e28854ab4d0dfa03b9ed5bdc68cf06c9d883e7d62badee09e9882bed51dd24e43639d1c64982754209936ac4f62337711bf373dc775428ca3829e221147611c435680a9af9e5e737ea5d09d8fdf4d20bd200bdc00b6");
+    builder.add(
+        "3f65cc9999b6608062540e758ce57a5e",
+        "25f5b7b0f3ee53294db82c66c83c648a",
+        0x2675b00d1c8fc0fbL,
+        "2342206251165fd5c507f80787639caeb4c6eb47392f7504a133da0008f863e84c67450dddf66fb039e1b31bcf2bec21253b8a68a68ecd61322a68f48439d34f479db8bdd0b754efe93ebc7500fd24fa44b4104c11013b8f");
+    builder.add(
+        "047974e97129e7da829ef9ff33d8a246",
+        "08506b4130c17f245360910eb3180b36",
+        0xf91c20f7f9f8e089L,
+        "1633cc1385a50850ede15b7a4eb67ade793679af369aa0711dfd57b78990de83ed34cbefd9b300d50382275775f7fd1f889296e5d756b4b686ccce39a288cc317384571cf6af4eef4af1683feac24f2208db786741477a13bd");
+    builder.add(
+        "78e607237cafc2028ef2eddd210f1302",
+        "f8a3f48fdceb3a717a5b1bdb1e39f445",
+        0x5bf12b264219ce57L,
+        "0af2363658685c59cab3925fc7f59f43820c863dd52eae49d1945e7e871fdfc240437c7bfef1be6a7286f88fc41b9059e24609ade979d73e99556dcbcde5466a29746a406a7807d635854a6547b6b0fd06ce395b9b264297f4");
+    builder.add(
+        "f03c26bf38a2a57cca2bbe42c0c8022d",
+        "9f0302c45b9ba0070abb45d9f231c4d6",
+        0x00f70f5be4a98131L,
+        "d99f49caf332b2e92b45e7e5a6ffe0e0aea46c36524dbd969d533271fbc0a76fa2cd9850efb65eb57b8986ded44474847bcb9ee0422b634363bed60d0c5c9fb7985d11c866249a5aa1f03e155b031849d27687e050e43350c2");
+    builder.add(
+        "b73d33776f43c479e1b37fde79e86e52",
+        "4399e04ba34d6513bcc38b08c171be5b",
+        0xda67174844d92d0aL,
+        "e226794382ecbc33a4727a9e4b4997e457c37bbac19eed81f10f22b204cd6e52d9188b90fce8f4e894cdfdc8024c3e28103c5b5151cb7902608019aa7052ce4f916963250aa51919bef748bb192cb70fec099da7c26e1174ce");
+    builder.add(
+        "b104ca7dd736c3b0eefb0ff9a3d59915",
+        "6e778a1a43905cc02ad8be0534386c50",
+        0x2514242fba26c51eL,
+        "af596e7419b3894742ab122971de14b674080e5846f1f5607e7b63deed276b3a7b8824fe5a70cf41e9a492b63c258c64269a1ba493cc9702136e3046ee27c1b707b78ffeb99235f9eacc549ab1cb84672e012063d40fdeadbf");
+    builder.add(
+        "fb0aee9ee5d325b4d3f2a053cf164ae1",
+        "7cd8d53feac2bbd342050268b78f676c",
+        0x8f73472bb1e60b6bL,
+        "94267e4d838d302c7c9d4fe8bfe5be9e1251b788ca98bc61d6b087b46f9b8924f01717be68be3efec2a382ee6ce0203c9fe0c3f5fc52cd52360e1104da942b0a3681fd620ff8751357d26e410a1c11d1a8694c92509b973048");
+    builder.add(
+        "052ae98fbbfa258a5636a1d7b2cfeed4",
+        "b31a3d5eadc0fa659017d6388d5c0f13",
+        0x3732a3cb44b11771L,
+        "a541c5fc418501867a4530c4e263a15a3e78655cd5222212c2f897c1f46cc11e76d9ee87979c6f575757569200d0a1a5bbeb58c91196cb61206f39164da9878a56c96af9e264c629b596f879121e8b19110031df70b93ab528");
+    builder.add(
+        "2fcb69079096cf770d7d765fe46f8c40",
+        "e265c128c7828232c10f3fbbc6c5e2b3",
+        0x72d3f6b8a2f1378aL,
+        "51816d7289a9a1e484b2acb4a5de02dac77a9b592d21967e62f953431e961d38af86871141da5a9087d470793d405a64e10db562d46501dd2e19598fa7873d7a0b985d4a8c15729de297bef20e5aa61d7601211060d00452ee");
+    builder.add(
+        "fa95dc8175aee023f8ffb3b1618ffa61",
+        "8d15b588979b12abba991b857e517c78",
+        0xdb9ea1e2254eb716L,
+        "d02b79f63192088d9de065184f7cd01d365f82f8fd84a7583e31da5da06fdece558ddab5b1141e216d208ad48d46be969a8ca4c13a74c0e3bf12a3ac39f01f6253009a4cc0d2b804335576e66233b8672562444cd27f1ed6df");
+    builder.add(
+        "eca4f633b60ff34c2cd80c8101327794",
+        "0dbbe3501c3fb0ff1a9042662035e67e",
+        0x760676a725ece146L,
+        "4fb0a8964f45170713feba4ef116a93dace491bb44ab5d5a70a8bb7f0185ce0573a10842909fb6189c0f3b8bbd33e342430e5bdaa3a8bc718b549eb7341cf5c2cb7fc68d5dd4d9a88869886d57a0600cd81645412a90d278e3");
+    builder.add(
+        "4547944a179f4a7b06efdbf9da40fba9",
+        "cb6f195af2f0876248c9a9f7f300ed8b",
+        0x78a684c2221271fcL,
+        "e3c32724a3ccbb4b9e8345a0809cbcaf59a8f539b7c9265b856f935ccb576d5c98aa79d5c8977827f05a888418e8e6b97f6b272d22fa5e3378b03318a1b41e3747218fa42911ae888bb71858f44c2dbcf23a50af2bba41f731ee");
+    builder.add(
+        "b6717031a51cb5548459fcd1a3605419",
+        "a0f3523f629971297321739af8fc0a3f",
+        0x9752c64cef48bc4bL,
+        "3bc526a60bd9519d6c95f607f316067deeb6537ae48f1552bf9d436b2c07c640ad599c4669cce85c2c3184caf6e571d7df959d26f00afee303216ffc7d4009787e8273389527f0d663e44200295862cfa0caa48a129df2d2893c");
+    builder.add(
+        "742b3fe2fb4dba5153a7cb2b89f19337",
+        "cada67610bf783206be933a05aa223ac",
+        0x3426e888cf08b4acL,
+        "cead325d388c5da7f027926cf6c7dccb449443e653f06e2101982734b76b8e82c7e0580d456516547cd75bfb9142d7020c9e66239cc863b2a86166fc627f41ae671acb18b34361356842b664301c7920aeac355a221c54f23f5c");
+    builder.add(
+        "da055d4afb7e65078ac78d0c3a8f1f09",
+        "bc2948bb68f6f044d3c87a06667c07b8",
+        0xa12bab1613c1ebdbL,
+        "318208600495383283dd21bc6eddbda071e734ff7fa41ca78459f24448336d45d06b3e5251b2d5a2bc008daa658f15137c4dc2851d9d329dfeda15415fe21bf068e51599b8970c6a65874c939afa6270dba2940f2d1a3b428e7b");
+    builder.add(
+        "3f76ab779c3860daa3f409d099e2bfdf",
+        "94fc3f26166be3a3ca0113d1b21534ce",
+        0x3ec820e1433364b9L,
+        "20ae1771972750e1149b72aaaf596b75cf1423dc60c961bf1e09a18bcbdf3c402b888933928d7e4c27cb36ede826d0c91ccaaa8d20d291ed51a17854f43e0db181739b5fd360a7d599cfa169ebd6e90281a0c0609d4355c65352");
+    builder.add(
+        "e339d6d7a3639add57e360723d207313",
+        "0c9d437598b268b26440ae49199d90c0",
+        0x86ea18460ab04659L,
+        "c37115e7397c21c06883f76aaa70c06cc477dfc3cbe27f7a1c0fe859feb0efcfa0f2dbb7e9a8f7cffc154670fff84789c0d5bc92d2f84a4a2f495ecb83df26171b121e8a3d405a37199923ce97e320a7683588ebf7450c46e49c");
+    builder.add(
+        "1d25bf00957dea21a63905e42bcebe77",
+        "228012c2fabff635474a866ffe69864f",
+        0xd71cde8634063c04L,
+        "b52536af5bc3f48ece18933177c8906275f6206b9cc74e63788a115254a6da07469163b5d64514f244f3fe0d3a354cd830f504d24d3d21efebca0f51e2ee395417e17d1fc3a3ebba3fab6cc7340cb6f6ce15b06467fab837b09b");
+    builder.add(
+        "1b8ff186e7ba1ba60b92491595cca7a5",
+        "c92a29601a9f9ab7ed6795bcb927d99f",
+        0x861619cf15bc1e18L,
+        "84d69415dd0e3dcf06bb28de1a36abd9a2e378649049d41628d994c6881cb8109e31a024c38ea83983e4f25f243dbd4dfbfc3293a11fbbd372bfbce57d86544cf10b99dd91dc024c84ce67bb0d14ba1f002bf8422e28dd15d238");
+    builder.add(
+        "3097863d19a868adf44597b07aca05dd",
+        "ee275bbd0783bb8a8e494f5d3ef59318",
+        0x78ad78b33d0e40f6L,
+        "4d42b82928f8550ac5cb2aca3fef762a8c5a3d5fd7fdbe6a6b67179225bff716f5a50dec9b282bf165a1f6cfa6f3d609826d1b2849e49b981cf4fcfc67d0c425e4006a68356e6f7301822971d06fe19b287b52ff41b92a982f82");
+    builder.add(
+        "9a2140780ccb13df3e28aaecfd2acf91",
+        "a6b120ded2a019ac669e1075f4b5576a",
+        0xacd27da8e8d1f1cfL,
+        "5ae4408adba94066b23ccb3f2eb260ba7fe825a5c54a707afcb4ba4a8aeb970b52d6532963632ccb1344d6fed2ab76795a9d031ebaf5196df36751310bb7972309667bea140698f3b701bc49b774b1d28e614cd151d5eef9636d");
+    builder.add(
+        "60d67ab24bf395ab2e694dc67f52f7f6",
+        "bb8eb7f072f75f0aa848cbd546bdb18b",
+        0xd378df38e18bf335L,
+        "888247ee2a10b6bb8abd74f1072508617f0b55404e7df733c8623c0388b5d17922b1e17c2e543767adb35777b8a8b7c830361c06e4acaa3b34a0c7fe85da2944fe562ecd866857b2e98c1e339b38d669414019d4f0da102dce50e6");
+    builder.add(
+        "bf61b0aa345e0560cb0bdd2e9a791da1",
+        "f56c8a393bca298cbc17d6676fe4f069",
+        0x9f2d255108403abbL,
+        "26d8d05e72994a8128a19dffb14d5867dcb3f73043be71c9854d276a5825608e99723e5a8b40d832857840393b041c87e51eca8e3429dd022dcbf4656607706411fc7c47592b78ec1fa8823b39a5894067ace11c4c4821caa33fa9");
+    builder.add(
+        "49041046985c1b0e1a730b575ba43ec2",
+        "20f0fcf449bdd8faf2b950f5825f10ac",
+        0x291887cab1504c33L,
+        "d16ee8684b194ea6d1605896c3a0d1264055bfd69ba6101dda7114f57f6efd60ef409ed201878c2b04daef712bc1039b46b776f2cc6bd07e96c022471d505de12bc2929a2c3ca74fce4eea8f70bba7df86ab1e3ca9eb6fa28b975e");
+    builder.add(
+        "1130cc6c43f11e4d28248704da352dca",
+        "146b19ce1a3b3f9ad02743a1997e8082",
+        0x00c4dbad715bc17bL,
+        "cf120169f994a89cebaf5c62ca61963d9601a2cd0179a24ba4921b02690fae41a9a07bbea20e30f791b66c22b4ab9ac7228c084ce073d3e4d1bc6c92d2de5fb2e1e6207b321f3e02ac9a13bc439efbd31833d0c2ae4b76918e40ee");
+    builder.add(
+        "732d5120a8acf4f5451a0d4bf4533720",
+        "31bdbcef784e159328099b7ea0c6e6f0",
+        0xf32c97ce150907c7L,
+        "66cf02427647d7b18fbf5caf8e8391aa53a4eb0cb1886efa53d51288c8b79aefe634dbf83e530bb966ae7b15e8f2d46b7fccdc3b31ea30973d60a6b3bdfe0488ee9a756d20d1e0e2aded34be5562bd203fbe32dba5203e8629d961");
+    builder.add(
+        "d0780a63c97c802c05de52af98d5af90",
+        "1c3ba6f058b7ef6ac96693107a3bd4dc",
+        0x4426298c94f2b9ecL,
+        "7e389a4b6ebc731ba67c0b25c24f9062e59dca16bce375a586534e1f1f13a9d27b1f85b52d30ef8bd2e7fd68453f5aabc5dc965e743967399e94da6da0b0177a9aca3fee9bcf7b30f2cdfbeb73300f84297c2642694554f0869a0d");
+    builder.add(
+        "75654284b00e98e0608a39dfec0eddd7",
+        "de244665276bc7aa0ad505898a66629e",
+        0x22eed0c882f20ef8L,
+        "3f3f7531b0ad7cc09027d6eccdfe15633f8a1fa4f2848e5e2218b18676abc068937b629518c4c93e272d7b7a1310f0de50a7f67776e27bd9b78bf1375c7d6098b592c73db28d9873fce825a573904e3581911e86ae8eda19152623");
+    builder.add(
+        "6e1be9f048936d6f51664f61364fa63a",
+        "54c96659ab7c01a0a9ba72575151eeb1",
+        0x4a5eb1f0a275ebebL,
+        "29739be8d387c26f148e39f6a86cbbd86d94dd4119172208a74848fa926aba135be0a0854110f2ea77289469ddb8f36fc34601f8b19adeca4932023ebbcd9de2ec91f4610d25f437f808462b48907a0b509701d7f263910c1d3db2");
+    builder.add(
+        "a97f8ba81a6b2a990f71fec35c90176b",
+        "46e9d82ace9091e9cd81b88780e97259",
+        0x4edd4146a00e37fcL,
+        "067aecc8b252107f4ab98d1bbeb6ec0a2b5300108728593e4d96ee9fa66a94a6ec0341140c50dd9ff04a4d48707729a818977140b9296e426a1cb7e758bd27478e22b3e2153ef1e45dca74061b4602328b43b7b8285b9e36fed545");
+    builder.add(
+        "16e1d6e14adb249e0ee5f33463490ce5",
+        "e94d3c4ad8322030e5ac1f1a4addc8b8",
+        0xad1315552f49c75aL,
+        "0c7727eaf8a45bfa1ed787c7970828f62994ee1ef30c1dc79eba164aebb88c6fa63ea9072cd0aceebb99967bb8c73342d7b5c4b0311b1e4706860e0f04d6562ce5637fb262bd93b10e1a9ab8d9a4be1cc0ac6717b6156933137300");
+    builder.add(
+        "2f579253405e422b3cc134c95e0bea3b",
+        "da937fd5ddc7db6af48cb1d4d51f4e26",
+        0x008b64972b4ae570L,
+        "6d29ef52472248943dc47303393a364a07fb1bfdffc6dcbfe6e7a63f4bebbdf5e05eb66e888fce88e0d8e6aba4dcab5e62502d132d857eae72c0e558346cc7f9624caa714e3a147842246e8a582acdb1931ff6d90d449ae5418c9747");
+    builder.add(
+        "34680b70191b8cd1a69a796dfc349c77",
+        "0ada717d9baa48b4896cbc569dfaa370",
+        0x9fd790c98cc8d579L,
+        "c0931fd0b6c1eb43d55aadcfb192d0b7f3d1654f6872ce82f890a8eda36d1d3387d4408c2ab422d0eb0be476a5213324c33a3856c6bf683be6a4569913c8be7536a251f5c219da918b22fbe61bfac80bd7d96b75fbdd9e83d206aba5");
+    builder.add(
+        "2c2c7a7eee2c41d54083e4a51e79aa52",
+        "a774162d66d3a4ddb3fba6b35f31d1a3",
+        0x75ae76493592d51eL,
+        "4ad46d01a98838fd5780198bc7126e00cc24d29d241f260cdedf642d4f3b6db909e533f0bbaf2f060b9a29515ad25a37bee377759439a0caaf775d44be8958ecd52eff51949e75f0215669d847948889855914a2dbbb9ffcb0fb754d");
+    builder.add(
+        "0b6c4be5d87df7b54e9ddda7903a67f5",
+        "bb7ec65f0b70a9717bba09195cd93ff8",
+        0xc0e6c14294eba611L,
+        "c5558b2deff2209746a4412e50aa852d80fb314d45ebb38d5925890349e4ec5ca42e44486a9d780a925c146cbd0998ab42f105316df62fbc73e992a43a81a8802fbdf2c38cc691a63fa0e502b0ad8d628135d077b710ce6cc9f4dec0");
+    builder.add(
+        "ae5e2f170763ff0133f371d339903c24",
+        "1cb8f7a2f6d791fce0b348fef685170a",
+        0xd7122d974016eab4L,
+        "c5d9bbf9e05e961ac31d72e557c12eafd778e525b43a701fa5fa8b83cbc0029967058f671f23ed8a4b8035ea09d89b334a95acd34e556bf320682a6b74cf9a88a5c9f22fff6662ea18499080b01ee0dfc8e143eec123a4e659dfafb5");
+    builder.add(
+        "a3f55b77c1e7b97f9ecfeb5fae917475",
+        "f0ac3c01742d5a3741341c796c9b74cb",
+        0xe0189c2c7aee68bdL,
+        "ab2fc3677f2642622d180c16e68c509cbfd0b748daf0702420fcaf24a1ebded674a8468ab872ceb68d0571144ff924c2e4182a6dd742ff11edcb9ff71b3a49cbead6273cdb8da0f20afff39f635e0f0213c5fa679127669480383dd3");
+    builder.add(
+        "6ebee81149715b0b3093bf6e4ec63c02",
+        "f03e6fbbfb85f6ec5223cf67fbd684fb",
+        0x2711817b7e5f9d58L,
+        "0fe1bcb52e36cb25f58b8d8311676b1600f1400614357ceaa666cba13a224773787f92b0afb3ce74aed85808f6d639230db03375aed6e08667a457f429bec6f25aaa1854eef9bfccbb47e2684087cad834fd681297032ddf390e4d48");
+    builder.add(
+        "3ccda018a089ca2f7d8028fbc2a438ac",
+        "35ea2acd41023be9464776762b152593",
+        0x28b21d825571a3d5L,
+        "6f8d1a8fad8bea40bd659f07f0c0a75c1481864fd336730686a44b7b305ab7105657f616f31aada3693cb9e3c4f4d7df48f261a7b3adfb0fcf6cd03fe38ff6face150083ac02d884cea05bcf338eb9047efd2bdd2adf6a25a4cc5bc1");
+    builder.add(
+        "fc1da00588340088a275ea7cfd317192",
+        "d54fc8e3170ecb3012281de631010dc0",
+        0x787b56e5ada0fb65L,
+        "8089b889510fc5acc7360b8a1262fb7cb450493679d54b9818b88713cb9eee47e8c004e73fa0de26cacc8c38fbabe61de9c4f12ffa2530e347265a5cd3ba910fae2bc38da8f9140151465afc59991f991384abac5a345737a21fefdb");
+    builder.add(
+        "57ccf2afe4b61d656a0ff58b76f97a2c",
+        "d6136f86f8b1b30f62097a35d1b624ce",
+        0x0dbeffb121e2548cL,
+        "3d7248017390c1aa510a89837d7d5d0c0692963732917c85042d51647d9bb69adba7c3eac72692e09c5224cd2fd6c4ea0e10a7ddd5aac41a69502c366d3acf8d085012a742e912c6f2510dec95d13ec8c733be00c38d5754b5f8a74b");
+    builder.add(
+        "8624623268e519f427a2d2abc148f4d7",
+        "eba4a16a71c701701dad2a0ad973abeb",
+        0x5a52065eacd2bfcaL,
+        "6973496454e766eb1fcaede006d52b5e8bb32a5384c1aaf3c3a7a96e880e4c65b086540f5c7bcce3b5a45b2c97224263d54bc455fbfdccb669649f2d2178963ca4af051423d00c5f9f9d43b2a05dce080471b5f559c024bc5736f5e827");
+    builder.add(
+        "c60c53730910e957cf1a734ccbcb184e",
+        "aa3f8d508b7aae374fb50c38f466a5ee",
+        0x09af7cf934698bb3L,
+        "c5a5edfc31fd23721ee0c1da286b578820ef8ddfe0b5f842bd97775e5e47d053a14c92c067a8bdd4390a76a389ef24ed6fb75d321c7c6ad709b6281f1f05a149cb6db9c530b64274513d1b9844c84456569d699f27f9cea55f694ef25b");
+    builder.add(
+        "4f5cd763cf388da4fcbee1df44cf1628",
+        "0538f3abfb5f1b521b7dc72de41cb066",
+        0x8b0b19933b30cdf4L,
+        "e6c8de2cb37938fa7e8f68c98671d03b3972282eacde6225b58d20749cdcb461a362b1a6f9f750180c0950696fd0a76793b3a61fa251dc5367776a6227137544aaf410894cba16707027ba63aaa3a21c4613b76eac9b0f19ddb876664a");
+    builder.add(
+        "e203b88a0744d99a9bb6a09f00fa3e89",
+        "9b53ff309872bcb2ca6c6d413192ac7f",
+        0x59447ef0a6af5db6L,
+        "99cf57f34424ddff018f2c2c980b6b12ab56f35835e0484a6282e6fe1813d0f49f86d036b51a12b6146e1802961585cdb25a00bede03fb21355a197367f175c8a0e4158514e89b622d2dc76c87b4145be690168a513b440ca54121e249");
+    builder.add(
+        "acc8155991ba7ddc5ede7a204b379724",
+        "33de2a2fb9275878a22d92f8226c6df9",
+        0x97f192e08171946eL,
+        "63fa3d283eef99ebedd8f37772f160edfc59b5715bb9fcc5920deedd927fcad9138891a6a5708b4ae71b41e6ef1de7f0d8bac020108c4064ca807dedb802319a28170c7df80722f206f900243b940e5cd07057c90450d5583134c146d6");
+    builder.add(
+        "499268edde3bf21738bbe2c54cd8b14d",
+        "cb3509ed750481a861bbaea205519d01",
+        0x7d89ce9547cc6468L,
+        "ddc4d37be340ef3a6206409528fd476e07cbc94091dc5d89f87acf7c078f9f4259bb81980ef8997846b262b75277de6f081e1d57f94a4390c2a9f86dc35a2b09e818b6a7128c0b8469a0e60820bbfd5d6cea5d276712cdaea2aef7f079");
+    builder.add(
+        "c1c811481f1e1d1a87f4d0bc265e7883",
+        "6039b9ea2a07061dc76f872bb1d3ee24",
+        0xcd9e9dcdd8a508b3L,
+        "370c6629af9b1217c8477a7ca77bdc116c562b03c55c82b52c1761fbae186b0750abe7f312d01094fd1679228036653939be68e193838fc703b9d9ae8b0c2e37d8533e73336f04322abc1502c79b0892fdfe012d975fc307f44ecf136a");
+    builder.add(
+        "d6985e650cef261cb2d7c5de0613ed10",
+        "8223f3faf9d6e8a56e4e33ab217eb0a1",
+        0xa2d64a32690ca50cL,
+        "095e3e6734b4b81b024f7fa6b6099840ae33c1fac38593dc5471b2824c4a09e16dbc8777a52f0f2a3b2e112143744bc8b07abe62030058a831c267f0a59d19d7adc7fba4cdc3396566697fcf9eba20f151532571c2ec022eee205ca63e");
+    builder.add(
+        "6891ea77d789087773d89195d1d7c68f",
+        "e7b0568242cd0d1b5cf0fac8d34d63e1",
+        0xe6a1ede7ed1a2a48L,
+        "b97c9af84925bd058e29fdd34c2b799012a8165a1306d9988526814b67cbe81afcb426e70dd51603eebf3cf4242683c0b368b6c6f5748f6672d8769204038b63aedc7806e1c0d75983a683a6f8adf82920c127d760b665f64e8a1c4eb7");
+    builder.add(
+        "30dafb6f38923fe96126ad267e77498f",
+        "cac2c85250962beae1a1da8c718de861",
+        0x3f92d58d826fc90dL,
+        "39d6dccabf11e3e01e5715fb0e7c475af208e1b12ec5d4e6be206cd47729a8191ec70d2846b7a0923bfba9aee060df9d545efd4fc31667ca5d482cda937ef3e2a33651deba6260e531ac007e088cae6639012ce4e69c96d033c5f73041");
+    builder.add(
+        "489be5f6fa055434b476ab5b5df7f51b",
+        "b715d80c375cd310c41e6ae8aa89137c",
+        0xa76b96559af00ba6L,
+        "b197857b8f3520284319e1c92dd6575b4de9bc9fa8b2c17cf6013fcaca3937c543f67afa40701c2efabf369828a771ec442e8734bfed58b08a438fac241b6cce87d2042ff2d9f8dcb9fc8b50527bcace837c25f7b28b8db3b273c4f1f309");
+    builder.add(
+        "44a0755597725fd1f10c3a1067dcf240",
+        "e5b96ab1e71cd053de5d3ca3cd1257b9",
+        0x24d38106dedb3b0bL,
+        "032bd10e6341ce5eaec2a753524372b7b426e6a84e9b5da4f5805dbbdb3013186bc20334a3bed5f9ab58600cac7ab46632627d575fad685c10e68bc72a4ff14c506b0ab80e835ed1ab4ac77c271100001844e309993d19f0e1e4fa79d661");
+    builder.add(
+        "e41fd8eed2a69d42e6aef3fed0697f7f",
+        "863c79509953d571411b18d2e86aec85",
+        0xf3da5cab061f8425L,
+        "afdafec10dee14ae9d504227786170162d0f7db69210154a96930556a73693be5105e7f0ea6032c18f601c51f374ce5ccb9f359b9fdff857a98b1da633446e0700adb7d3a9d983255004de753ff34ff2a67cc70c623aac4bada2e0b29117");
+    builder.add(
+        "cad3f9590222c7d4bbdab9583da2a8d7",
+        "ae5bb58bd9ddde9296e88a83b0d13bdb",
+        0x2b577e4c748fa7f3L,
+        "66ae4f5fc133a3a753b9caeb6c133d7561cbb7486f012f6d7b81fb4d489805d27e5026dd40b5d4f5e44a50ad038935e4ee5de9f5f35f9ccf5382637b8490aaada5405d0e9a389767d0753c9101096779775e702deb611ad99acbdfe399c1");
+    builder.add(
+        "8dbbc761831f64a186c0e9e97331c902",
+        "e0c1d3c726c6278a8f36fe5d5c0f7a60",
+        0xbb334e7af5ea0192L,
+        "eebd0e65c7d7084ab30ccbfd390ef258e0c794ade42a4fa2de9236f51c1e61f612d7552cbaccd1a698844e525f3710c67f7e46b2bcdc503aca87727add88c79e6389c77fb18251fb30cced06abd001b39270ef6b00dc23559e6b74d93621");
+    builder.add(
+        "ed87c901e889649f5f6f59f8cf9dd70d",
+        "fb383735ba3f90df17d62e902d613081",
+        0xd94e1c1136dc00c9L,
+        "9e4b3b7c1ffa3365aa63b368890ee77fe0680e049c8748d0a2601851039dfd5e7a8813894f97eb878863c6127e4b490b84d0507de036a4d242683b7b576e786ba5b136e53ec18b140e9c18c71f31ee1ec817e54f8ca2c1e580a04fd067b8");
+    builder.add(
+        "c5b1bf4dc3d932ce113890cc18436f65",
+        "a81d9b32f30da6dee053ce0946a0b3a7",
+        0x6bd9c976d1a86d85L,
+        "fd91a5cb533d7c0ad47aa64d7460c6c28fe7635fed8b857d1a203185da7c2050cba854a9b48e86b927e0b0c74e94a98fd4d7ad5fbab5aeddb32af3b56b380673c76e4c8680ed70136125379da2904993ed83d0e4eb12981465bfbdc61834");
+    builder.add(
+        "72cf2e2004ea97054e353ad8514317b3",
+        "c9c3bf2895892f847a609d065533fc8e",
+        0xe5543d3efac4f68dL,
+        "c5853e92cf68799f55fced63064acbd3065e1562ec1b936610ac4fed3fd0790bf4ff9a6b521473d0d60a2e979e0f395e3288d93d4bd3c459e75ba071cfcf707989ef875479110d84b024ccfd73bcd54018a0f26589d495d557479bc53941");
+    builder.add(
+        "a06836ac72779ea673106b506886c219",
+        "d3d60cdb8db48f674e60f1414de1bbf3",
+        0x10ea9a2527328372L,
+        "541b2f494651122cfdb6959a2624ab732eb899ce6488c5037db3f8db18b42a1fc6933ed438fe826c1815e3cdccbecd539ddd3cd409cbdd9779371accb310b468130b00da0e849c6d362ed90bb0d59c52318e0d47efc1c0483eacb7b0e12d");
+    builder.add(
+        "4f708eb8fd0727569c9cc60062833275",
+        "3e45eddc5545f671803d13b88567363e",
+        0x7dd2d261f701370aL,
+        "1951dfaafe868afda6c87b3cf3092331723a169c05130eb7672b64f8ee7dd8e38b9c04c2ce01a6f9af4814efc6619eab8f3ae06b1af0447be6ce7465b4e664ff4cf43578fb7fc21e7cbeae00f6d277e3cf12f1beee3fda315a48a5eb4fe8");
+    builder.add(
+        "4e245165ebeea1c715f5d54a41e11a64",
+        "ec6ad868f9eef569372698f3e6e8cdac",
+        0xe4f86ad9dc4632c1L,
+        "a679f1f7aaafcb596f6b027c45e02630cb8575f163e391a34e9727e36655bf3a96097b35cc9fb045247e0228960ab9ef4be4abcf6c98cd989dc5965078a7bd37c315d0e04d3061aec3124f32752dfbfd9f0286c152ed241651f1802ad32118");
+    builder.add(
+        "71ec2564189fa4d8d1ee20743a61cfa8",
+        "3bc88794e11883a8e6bc1db3bb695f02",
+        0x5b016280f34c0bc5L,
+        "f522ef20fd7c197e83dcab2f846fd12208c8b7b136dac0f8e142000067a51a296741b50674e1b912afa6f7aa3a7c8ad23e9dcbb5f52db63270f6d22e90af3fc01d8396a88dfec02e86a9960b4496f260709e56026ae33fab2d9fd418634630");
+    builder.add(
+        "2d50f1afe2b8c0f55f49446a1316a7da",
+        "115ba11b3c8a389f7dc9b35e3dcdf5a5",
+        0x33144e61638790d1L,
+        "d86dd324554d418a32caf8f2e91e5c05c5c932208cf1af357c02230f7fc1e42dc9bcb91e8c0b6c25a0b1d615c3a5dd5589d2047ec89864feb8631291e9ffde5e82af8904802a00dfe390e541b35fddb471f92859a0a1d3c1e02ee54f9e14a3");
+    builder.add(
+        "71e5f5493b9cf65897516d0377cc1903",
+        "8937772b4d60450e70eb4b84c2b749af",
+        0x980a17da9b874c4aL,
+        "c96627c1d37c766b04e8407426aadc8d6ad8c67637922b8422278ce4afe42892fb1bba9d22282cd4af69c1bbf797a70fd41054536dfce57310f4162d297a21ca67478ba07c23f9946b1a9fc1889016acf547be185e45416b7a2b106b73df83");
+    builder.add(
+        "6421699738019c64baad0275756ed680",
+        "fb0e7214effd16b2d5fe2ba7b7d7e61e",
+        0x90d23500d3b8cd5dL,
+        "fe5f00c3e869e0fd69cc397fc5e5198a99c5d41d3125ebb65cf0574048af47f51a55fb8903413efdaef406362f6e66492bb418e7ec64056bae2c2ff84e4bf041210e45e9ea0a9ed4a59edde70983fd45066c2d69d45c444e7231ca1b6b776f");
+    builder.add(
+        "1fb4ed2514d05749d3c4a94bc689cea4",
+        "3fa39aa2a830e7c2fa4f9938a0ca29b0",
+        0x65df1369be23f895L,
+        "3911923fd08c3c3fd9ac78616775a460d8ec8dc4a1e4576793c1442ac1618daf1a472b56f6db9fb6b18063e20bfd08c73088a0fe028ea32c46ccd71088612c503d029920823d247e57a3f11ce90fe2282ba4093b8dacf62b4e94db102a7611");
+    builder.add(
+        "35d239f24b8605dfeebe46632e0bdb43",
+        "8e86f3a4590d8ed49c716b5c466e97b6",
+        0x7fc473378861ac3eL,
+        "559995bd9a4f1aa98b9465961c6e3d8bb4d36581fd2970f159bb2464cfdab7b2015c9d28a3970ac11bc036a87b757bd32e9972562068d59deae11b1d1355149961369f5d528bdcdcce1bc4a1fd55666446292b48a9a236ab34a01a297eec33");
+    builder.add(
+        "354577f28a544a9c4be31a704f005a19",
+        "e78586eb42038a5941f55b8415d8b329",
+        0x03fc96e39a37ce89L,
+        "59a3550700063e9630b9f6f9021a6cbad63fef437e5501d64b42371419cebcfd9dd13bda09818d0ebbe618b2f1ad6dfcdd7ea99d20e4a1bb88cfa2e19c5563977f8e1464df0989e218a5275dbeb711e4d75ad247578020cdd5be4017c74d3d");
+    builder.add(
+        "557c111f2621a97524087133cd5f2fe0",
+        "5e9048970f5cac953b3fb8635d7a7c1a",
+        0x9f4c261323a1083eL,
+        "82fd2ad49ff28bac01af0185e5fd0b477ea75dae10d6b4935f7d2ff25e5068ad24e914fdda3fe947a11d00e26d8d6a3e9119844cf547a6fde73341d0d39660380ed44088b19d314146fc0fe31cf57638117ee3f91f65e534431db31372d4aa");
+    builder.add(
+        "fbc4163235f94a998c0339d71aece9c5",
+        "676841dccb0e88b58b0df5f381a1037f",
+        0x8bf4b78a1217688bL,
+        "3fb18f4e880f16e77f1763b22cc0d16632dac750d88052fd1cbf5cdc8e2d0b97cb631fec0ce7d987e952612e3fbcf29a7734e39f72c68cf3cd7596a4d62ad8f8baecbab54e559c9e8778f584c1bcd37bf9dc1d95ab09b7555712f36e145b19");
+    builder.add(
+        "ce4402a3dac0864be0cf233f4c28a0a2",
+        "09eca6856d3b799d9815ac3b835e61ce",
+        0x8ccb28a52102081eL,
+        "1e7b9a80c40174d402f2daabc24368439f2903873465629832a4a789f67b8999a9ca3e35db4238d75352a25c188e2f77d81cc8f2cf4a08f13b2225480f572410a8defac2f78f055f75ff2b51f3023b983d853490355565f660796e0ebcc8a6e4");
+    builder.add(
+        "434ffcad8a50285d9b8f173f000f1876",
+        "b3f0a4edeecdd7455f9b9fd1c0aaf7d6",
+        0xd3e6bd1af6f6df89L,
+        "1a5a7403303b746946c7a8f24bca69e926e2ef991031ce0c8d0ee4fe11f9e65895137613c277a699f6d4245ef9e093d37dcc3221ef6ea4af35b57e145e239c761b12693a09d45d6fcc768493f184b5eaa44604fa0f0a2f7c3e8f846ad22a2902");
+    builder.add(
+        "12ea1babc3cf4b165abc835712b3ba29",
+        "dd6196725b65c14e0d6ff36c387d121b",
+        0x8178e8a63e7de292L,
+        "121609711f60fba523c8f3f958fe05bc368d5ef6de14c66902d9768a804d8444717701d084939641e1fead9caaec662fad31d1d77c4ca38d74c732aa3e3acf308a079ec50ad41578ab319061555b4d5f67842ce608e40ae4bb4de92ac60b8f0a");
+    builder.add(
+        "31634c079ad40454f918a5d30f5617dd",
+        "55b6d754b285c5c7f85ddbaa30cd8fe8",
+        0x78e4280beb064120L,
+        "6652dbb2796578e57aa04d57087121ef31de22a94999bf28e1b4b51c8e75e08abb264f10dded478bf5b67407f369531a80090e24f88d6f82dc3eb77b95cc7efb4931e2df1f7d0af1f926e01b79e5b9152e81db7615e9510f8049755fadbf73db");
+    builder.add(
+        "0cce665c9e31d54157f673461a246def",
+        "10cbb20cf3133e4c940bc0b066bab1e4",
+        0x5f5f048624db2a1aL,
+        "24813d71f342e758565ef922f30a65d9584abb39aa50c006cac2ea1bc215262e342bb19b3d217efff6409cc1d49935e1e9f86e98d54e23e45ce1ec19561e282d326085988f54d0691543a185e183b4e2d55fcbe9f53bff1125fa2ece402e28fb");
+    builder.add(
+        "204540c562c001d119088b08dc03bf73",
+        "89706d68611b0ee4cab9d5f43fee25be",
+        0x23c9aa21cade0773L,
+        "34a6df2f3d408f40bdb6f938857dd6ff6965483712ae4974a689f7260f1a3acfb9d2294c5f8cf5adb16b1a851b6b69b5fb9ccb6161bf7abdd4538f0132109b4be10b20e85e2538bd1e89ce4952b9027df907eab364d2c6070ef3e5734d319ffe");
+    builder.add(
+        "993ba5f698c51fed7d4982253024007f",
+        "26b974456b5eb9f112edd4fb9409a9a0",
+        0xb7c0e54a1731737bL,
+        "f3264b0a3d2f0300b39057ff1bc85b2c48ec64ba300eb61b58fe0238c8aa9be24dcb52dc35b6f4ee7a1fbbb79938fead837479456450bc3d844cda29354ac1eb686f10a2812a02aed60616f36a2259bde290d9b41e608d14fa3c7ff94bf12a6b");
+    builder.add(
+        "cedb2771c49a6564f666917af43caa64",
+        "414bdce74d18f79eca84fc3abeabdf8e",
+        0xa37dbf74e2cc9c37L,
+        "a4376f0e14d519cbab8ca50b4ecbaca519eca2d29cb8c03658f7131025feb6574ff341dddf2c227309845d3cf5f88722d9a8125f052140d7682dd9c5e88127e87e72d5723cd203cee348fc13b38de7e6152d31447c550e96a98e413f6625d19e");
+    builder.add(
+        "5bc4837d521b26396ed4eadee9c36da1",
+        "61bfb8a057e49bb2b3ed860045f273c1",
+        0x7ea8c2618fa8260fL,
+        "91406d089f8a8df41e97c43ebe8b5bec84cdd8d19387dfaa27133173349a4454b23a24858acb71a4cc4b19649e5661b1e88ae1e9b37b18af83709369004e5447a3ca6addfa69e2336004ebf2f2b4bd4eac2a8c315eed369325939918e255fa37");
+    builder.add(
+        "7c9c7445575ad3a5466fbf7d1a0fbb7b",
+        "9c0f65be92eacbba9e72e002380db723",
+        0x0c40a5d55a6d1505L,
+        "f0a627b0462f65d27a0e4c1e88590a4cec68bf712001706a3f15a58f3a9a5141770741b79c7d9c7c4be81aa14be0e46c3ee40f75690784790691c0b0e2cab86cf38f59f9af1bf3ad3a4133823de5c71606ca425a8a1c7843e1128be101a9c757");
+    builder.add(
+        "667230c46eac4e33752a66b6e2fcfb37",
+        "1e88111a9946d304ef1cb749f536abd2",
+        0x81b8ec91b17d8907L,
+        "2dd0deed1bd96eb8af37916a8b28400708d63530fcf9e67fdbe318d08bd11cb3f5a3fc48fde0e68b1080bb8d2e135b70aeb5bd6b308e718bdc022babe0a41020b385804c9dfad900a3765d876e673fcfe795a3f5fa765c55c4040317e35204dd8a");
+    builder.add(
+        "f05ba652f98a12ab17ebfa256416b4ec",
+        "bea8dc284207702fddd3c7a852871f0f",
+        0xedf58a81e8f53ffaL,
+        "6c032f57f4f376d613c727cd6c0f0a604e84b9830b0d8d3663557a2ad0209230b5647156e7d910fb43bf9d22e0a4b5f1e299e7191f92d65cf885596b2f8f0fc1a194783d5190701a0917fa7c2915099f87e8ce1e92b5382e916c13f86a0006d0eb");
+    builder.add(
+        "1630a2742e01fab93b65d73d77745acf",
+        "8f5fc22ae035e228e131e4d51b529881",
+        0xfccdc424b5446274L,
+        "d9bc45cef3cee26a770bdb5a98a0d9b0030d30a08ebc428aabd43418f8b69050dd0cf12721c1a473b864b99321bea3a9b93ccaea152a7ae91544aa77fbd14f0d9821be55bc88f1b3973f097d1a84e61157409dab75ad1996c03a0595d7347e475c");
+    builder.add(
+        "ee1ffde8d6965f33bd0692f9b639b658",
+        "8c8cfb3580ea7440921a9df829ec61c9",
+        0xaac5952cc9a3d3b7L,
+        "00009f72ca100bfaa8151c4ced8e502d2b7eddf4f5ec98c4fe4a615fef299bb0a83cc4c43d08de9e301e9722a88af4cef4213c14dbdfae3683b7178d1bc089b49fb951db0dcbe0ef0db769d42f8e834c71f44bebddf0fe8a05523714baf5a9a7e2");
+    builder.add(
+        "62ae5737f55cd84f22830a313fcb26c2",
+        "4ea80faee7a498c0abd92881519d0311",
+        0x29c8e9d47f84a4bdL,
+        "9b83ede51b2b4981cf86896710b179bc7a5cfc95008eca52c6f65f75985376b32b4dfbaefc00a90bf3e617d9007b0fb6f633d4bd738ea324b281508a2073daca56264933702b1595334a226b5980236c7080d70f60d6247724771513928d121b22");
+    builder.add(
+        "897a469f5c9cc77121cab686fcdacced",
+        "4fa30bba06d64b2bb824de1638b134b2",
+        0xb282591cb0c66e44L,
+        "97d96817601efee1b778c9394ebfb420e15ed9fac9ed42761a78ca739c2bba61a9d3ff7fe8329aac111fc397650e2850577710c7e9daedc1cc35c191872650842441b69aa8bc29d3f777ad6750afe139b272f5909de3154a549af3a78d84d7369c");
+    builder.add(
+        "8b704c8d4fb95fa67bba18f7f780e280",
+        "fba0b066bf639f8c9b442eb360d6c15a",
+        0xfeacbde6aea41463L,
+        "782341d9310db58adcc3aa02510011cc13cafa92768346158ae1955a920dad9a85733524e7ac7865ac2defc082d0970b50d2dcd638122db2ac10fc66694730a3539c1f39a89a62f134a59f39bf9fb9e1df6f3e1baea4697b6156bd9e4fb28f7b81");
+    builder.add(
+        "aed88a1504d9fa7cdb5966fd94678eec",
+        "a0dd0e2e30be27507545f7d4be967e18",
+        0x641f63ca21b851c3L,
+        "05588054e0e6565899355ba89432af1c433a5def581520b787b5d9cfb8bf3cab61cea60ea715978cf4c8f5d0dc1cb0ac93cfeabe4c6aea5610c4437ab6cca96ca0b8b15c5bca54949ee30ba883e342fab38f0e7eefe83b5e06244e837d33b4a337");
+    builder.add(
+        "1ef4334142eda725418fac01dba448a8",
+        "0dc4379e3f0c4a70ab98e8833735e4b6",
+        0x611639577b783495L,
+        "4081a2f9c16b927852dd8173b70c436d4c04c0e70f2c1735f2af485cede304adc8b6c6c1c9f8f031604538d9773fb59586840d0661850a3a430452634c889d1c52d48574942bcc7f4af4a7354060283a38eab1894ea5dd0d216f638d68c1baa11a");
+    builder.add(
+        "7893bc941a6a1e018777df8594ac9f68",
+        "46c211061a923acdb2f2e7cc5164b93f",
+        0xd2ab570d4a000184L,
+        "d9cba4cb0308fb8d0e12dfad30e08e9979708f2294ef1941c728e209f1c14bf43001509f8267e14fd38c2de3b6dfb419ae84a8b8ea6ca55619a5b096035cdb69f7f9ebb466d2a1736b252f2d3a721a2e557fdd910aabbe7279d3ae089604c5552f");
+    builder.add(
+        "2bf51d19d924d5047a9f18e368bf4cff",
+        "335f98ba0d0675f7211e0dc9a8ce7e3b",
+        0x48c573aaa34a5cb1L,
+        "6cb24a1fb29b9e2ec38f9ad70c14cf223e4cf5b64e3c576168a6b3e4d235d4fb182786cf85377088b8214502d889647930ea0f56890479084f9e12e697b2bd42d11d2c67a06f76ddab0214434a4fc7178531303f190dc7836bdbc73393d2a4b312f6");
+    builder.add(
+        "f4cb51c9007956c593e2b1ee64197947",
+        "07311141a71db1611bf27ff6897cd65d",
+        0x5e9f0a042e40d4feL,
+        "1c66b26f94c0b37fb2b70cdd5a40dcf7ddba094eb23531fa789b7176937639c99c17e10b11b240304ab197bc63a47ca5a9a5b4778002e2038934c6ecb36abcceed0757a65bc1cadf255722c9485445dde666037ced799f5cb77ba1ee19d330bdc6b0");
+    builder.add(
+        "46bbee099017611a11299dd6061451ba",
+        "a8f912774bb331ad09e15bbafd242946",
+        0x66affef3cdeffce6L,
+        "209861deeec9c89bb0f3358cf3317adb091c066154562f2979cdaad49fd643f9bbacfc3f0e5f51376b8d84a94da68e1e1e89d2a2ebd00bf23a91ee48be866ea586c3e76bf1fb8965b3af47d78b5886f555caad13a295a7a343972639be0774fd32ae");
+    builder.add(
+        "4aa2cb1f9505442fdbc2dcb546d43af9",
+        "cede2963c5926412de100ddcb5210cf3",
+        0x69cc1bb981e77cd9L,
+        "6c16c02d61353f3739e1ec8db2267ed0052f0cc473cc11cae3ab49331a9b07a1c92ee2abb5eb2e38cf2cd595a795eae0c9c217efc950c905f8ee899c7561e60dede5facd8366a5d14b81d00dcb978cb4dcea481a71a3fdb9a50c784a3fbb1d6faa7b");
+    builder.add(
+        "54ccbf45f07b74de554eb2446bd364be",
+        "a8094caee4958f5555bff179fd7e6e11",
+        0xfa87258522a0b37dL,
+        "91692deb15e788babf57df2a6a6065f768fcb582820586cdedbc4d9635f5ad494a06586571dbae8a2d269dc9aba8f919cb02377a3e71df735a2ee9b580b8f063300b702de4af2a5b62940fcfb41d366f12afc5b67cbfe11da40f270a2e6b9fa89459");
+    builder.add(
+        "25deb0c86336497186f5ac3b1548b41d",
+        "5c3ee686f64af569553855a935706131",
+        0x97d99043f8d5549cL,
+        "e5a7a0ff5620fa30866e38c2cf62e0d25ca75eee9caab7477623265303ec40720b90de62f13811911cf1faa3c26d7f913aa2d1436b0541f699d4d659f269c82e46c4368cb4b75a9525eb2cb534c072d7404ab3a70e7b780c6b5e0a87218ba4cbdfdc");
+    builder.add(
+        "34d4b6c34d85bda653dad22e141b2865",
+        "b56e5eb91b64b14f635e3c9fb6bbd193",
+        0xa359642a78de69f8L,
+        "7cf5bac7c991958a334dba50847e21a42ca0b0a77fe48c0a3a4a208ada7761f6b9ffa878c0e016073b8061dccf08a43961577c4ca10708247214991653db721866bd9df57cc241453174f36f7a26aa39c1b58e584859f32cc5a03d45becc164ecb05");
+    builder.add(
+        "33660ab945638739dcda3011fd13258d",
+        "ded1d7cd4f5f5bf4bdff36aa55651368",
+        0xb4ffd208573d4993L,
+        "c160c4548a4418b5051ec3507aa70ae08656b83cd74157765e85c56a7a7772c819b272f93c0426d798b35173d58a768aa58f12ecdf1a4c8f175fe518173c010a4b350c7bc78d809d34e7d9a1fd7f7156f52173a0c45bf91ee6070b21b108405f050c");
+    builder.add(
+        "bea08eea3104d62f2b69528bed463991",
+        "9202f4a15dc7ddf49fc90bf0f3442d28",
+        0x8e9ab6d13cb34519L,
+        "2e14dfa5169635b4abbdc8fcd6d0255b9b3fbfc5395d449f6923ececf3daa85d19791eff64b9b84bb762b9b6fcbfb48028c8cf559335ae825cfeaee107371e966f0336803ea50cef0255678c08c554c97dfd17a4d0ef293eeb781614bef0e652bc0a");
+    builder.add(
+        "1a41d17616abab4a420101932089a251",
+        "0d163092162a948a01522e0d372fce48",
+        0x85330c4a8561a48dL,
+        "c164fa316a5791eb8fa54a600a5e7edfb9f374cd330582db6e722ed6a25e6ea8650e03d0c3e9fd63553ed1b0e1b8a8bf8b3e31ec065b2d06a52a780e553fbd14e12f4c2fb0a6a92c16724ffc446eb09ac5b9d483a875a758c5c88088556ee36cfbef");
+    builder.add(
+        "b71f8a4c3aba421099305c9ade308804",
+        "d19afa9599452b715abe53d3bb705052",
+        0x2630675384c1245dL,
+        "7fee6d737b5d67e2b55483602ff9442d70bfdc15b7492d5b3ab8c19f6d25bd4bf0e7775b050b2305d60e6ea49e9cd798e06ab25a431f254c827e7039952c93fd2a7cf94d3e7a66e3bbdd887b3de5f06c40bfc655eea30bfbcd13cd76ad5acee7d07764");
+    builder.add(
+        "c3557688215a1fc1193a7145633a87ea",
+        "cfa7af774631df88594bea2af26bd485",
+        0x0e5cb7ca618235d2L,
+        "3e7760b99fedc5e5f9f314b265209c0632d5569de5721b9e6d3be339035a21c24101478f9f72c39362ec655e2b733dc14f3bcbe8fbeff5ae7ec2edddb361657a53fc0955020dca902c18d1042609a8fb8f776af2790729ad4146ac16da8c062c9950e5");
+    builder.add(
+        "12672e827d99689554aa7972c789df78",
+        "4800528d74b575ed5e0792a2b7b23385",
+        0xb814f4ae37e07654L,
+        "299afb0bab9c5b82e3fb884cac29d767ce9f16cbb07079abba029ca1fe40947f12d3b83e77c7bcd16bfdcc559b006774f92faf35c4f60a4d599ee529855c63261e78c99ca34d519c724e65504c7b468b35b5d9cd07f86a6ae4752ee739a7313994dc4f");
+    builder.add(
+        "19c54246f0a2f7b77678c9aa34457c05",
+        "4f6c56499b3e0626ca694771122f624c",
+        0x30979be56f952638L,
+        "4549c7815cb90816b2749ed0563ae9d4a9785c8d38802c0f95e6b6322d5ee5a3ba7fb3aff23d5fffd89c16fb36b52ae3c0d627252273a765077b598e664bab5895b348d69fc1f3350fcf697493bb807ec8d5d139a8cde01da2685c2d3c7ff7157d081a");
+    builder.add(
+        "f765b25d9b94c0f2c28dc66d4ceb49b7",
+        "0c9f00bb39fa54eab71e8c1295a3f533",
+        0x5684d4638369de66L,
+        "84a02235b770b0026fadb6eafd076dd9ccf1f97d1a07e5fcac7ef44b868d8a6207b8799879617ab249a4a5f9a68d7b1af7b8d97a9a8de58008a5023ee313a22bb8b0338b9f7dcb9d395c36ec26b95327ee7236ff62a2609104dbfdafdf52e12f9e004a");
+    builder.add(
+        "f7f28524643b52ab433ea9d4d30b0ecd",
+        "ad4fdc058de8cd2a59b2bc7fd791533c",
+        0x97b220b5abf8a5ecL,
+        "c8d0d329fc23209602204d1f9c0626386c1a08e5bb73026024a647b16b61d1d0e38e23e98dc6717183b145e8f764a0f522758e001461e3f537a40966a7d0befebaac5c2ef2877ebbb26ae2e501ca74f6eecda1030688207d462f3771e61c89c09f3254");
+    builder.add(
+        "da3cf62798155c61386b8e7fe7850448",
+        "e49929e78ae903370b7524d185753227",
+        0xfb7d3ee960b4a40fL,
+        "26ef46dde3aa1d87c7efff5a8fd309a333d06481f6b08d32c3eab6893bb32a4c3f4111a7a4cc9c19a3e7be68a8727cb05b45d403c5d4953000dd0dc2069f9dbf45ca4fc763523713b59b3d8e08598f2708c8e8cab8fca4b402831262397b3553cdf489");
+    builder.add(
+        "8a570505ff1755dba58379c0d995c339",
+        "d47b0e8ab83f574003c45ef50e7e44c6",
+        0xc074ba2a26b6d8e7L,
+        "e2152922070857fd2d414999be5e03b9fd5381e54e0451ee81b77950cb4f97e1f63f6b36dc16214f0b8db6979027dded59756e1dd26ef3d99d2db6f5e8b4c133f07c196ae5eeb4f33b778d1066a01491b0c991e657e32bd29090eecdb0b87bd010cb2d");
+    builder.add(
+        "ae8e57d64178d474565b72e179df8dab",
+        "956b45a5d6c9bad3a5104a8835688899",
+        0x2487b8c42761e356L,
+        "dba99de5f1991964e7ce6138f13385d68fe3eb1764e54f08de9d88d70cdb57e2c2c2afac20f397d0bf868a0bc96637f7a89ae946d1b26a28bf5798ff11be4b082b3bb9ea63e6c2a1fd7ae519d2c16fb59eae52728d4319a90f588fc298f5e3952ef05f");
+    builder.add(
+        "48fd19a5c42dba4515cb799e56bec70d",
+        "4412562c5045d942e32979b11bc2e870",
+        0x5668a3789ff471daL,
+        "fe41ae898407cfdf6044e5c1d50e1c886a810938143a36021d09b2af498b2ff2fb89860f3c42a565d59bfa526518143e431711a80bc58446da0755ad2c403b23a0f35abbfb4b520095c6823910736f8b6fffc8936d64b28b77dd64e1759333d5122b08");
+    builder.add(
+        "d28d3a10109e79e712656c55ffdeb745",
+        "0204ea0ac9297ca89507d070531c5d6a",
+        0xe8104012806d92a9L,
+        "64f0c9ddffb6ff6bb8301f7f0ce903f0bc645236cd28c58f82f61010eecc88a39fc68c4fab39e38d1af50f14308202ca7112941b8d20d93085e28284df7977737aa59d7ecd067f0032886f9be32d06aab808a6ecc951c79a66c9ff4b0391aaec28911de4");
+    builder.add(
+        "061c04e9ac7cb312744f2c4d2d3f93e5",
+        "4b29dd1fc900c3e86b369a5225d5e74e",
+        0x5678d85243701b4fL,
+        "aca840529ca6f54938fe911c614317210a146a12bc96795fea4fd1c9fd985f1c93255360ae7aa28c4abcdf7d7dcacb24023d1896248644dd6d04572356deb14ee8b89672366df0d064153f8cb5db6a7edadde6bb67e834103905dea7bad3cc291ffd5ed2");
+    builder.add(
+        "5f9920c7b56882a55981ea4cb21cee79",
+        "30e182bd85c11eec27898e1e8532cf2a",
+        0x6eb2d11206866a16L,
+        "8f18f9a59034f0a48b95576b78ef06de026b203361cddd5f569cc24dce9efe8f3265bdff2f0cda264e81f3cb256b611c2d88a938657a78df4fe793197f399941cdb13f2302d3e3c7912c9499475f724f44b12360f0d47d68ca40bb19e5f02f85e1dd3a07");
+    builder.add(
+        "11e8add7c161e6ec39a0a86f1133ce89",
+        "12a39ee507f49cb5e3dd73825a7ef976",
+        0xed7ee30d710c7d39L,
+        "68f21eef49be150c71807548cd11329122f67a63e443ecd06a405541bc000e685304602b61ea357aacc90b221fc77e353f36284090cb31ebbd96c26dd793258323833a7c9a9d864d95ca22fb331dd7b061b46dfdc6cebf109ad58df8b61142b795b03b7b");
+    builder.add(
+        "ac65aadc61f73f1864a6cf60f755dbbb",
+        "9dc6e052ceea89813e6425f0c94b33c1",
+        0x1165bde624a94cacL,
+        "7a6d0fb2bdccda80f14cdb5645c35aaf3809336af8412059952013f65faa06027faae4b0218ff1d18aaef100dbb611d2906d644dad63bec2943aefe84a82a50e7dd07efa4a9ede5abd4c1cd0f908bcce93a2e27972c7970b5be79a2746830bc87da98a9e");
+    builder.add(
+        "c36fee3c0c40686d8c5bdefe7f4d0700",
+        "eaefbee731df19a9a84d8037661a6b04",
+        0x7e1d5d3e47bdcf34L,
+        "a6ad5061776e9ebdc0154dec96fec4e55012403bb8c0613dcad1cc7068d19f41a0ed60bf644fa3be120d94095f484dab70eeb12f2584ccf2184dba6570d319983aa1cba76d258695d26b783037148207ec220c6ab566805a7dc82b892af6808c76468937");
+    builder.add(
+        "4b72d8052056c92ad64d9071749190cc",
+        "c2af1575bad112693dbaf32426d060dd",
+        0x5b0ae3dc5918dcf1L,
+        "5f76ac1c9e9193677a8a6eb5590cd5125e1c15b720f1cc009e4a6f34a3884f5833e35cd955990e690d0d297e7b1cd1b7cd6ad99e8af7ced809395d9da677b734cb41a5af2a1e5cf59a8f83b52a868dd7aac06be23b2d6712c2e9eecdb78d82a2d5f3a52c");
+    builder.add(
+        "a027e49db1e047163ab00fd7f62ba1cc",
+        "7a51a9d8bda7c86b23acb6ff5e9e8930",
+        0x02ae41023ced7ebcL,
+        "60951e34680ed983375af3b2c74147ce46da8f83bd5180ded98e449f569f69f66f79156ab2fb34510f316fb40fd2002dffcfdda458ae3624efcf54b8e855eb60efad0bef610de123baf0c7d7f787b1a0ad0b74db19c919061dad1617fdce8248ef6e5ce0");
+    builder.add(
+        "1d32e4a5e5dd72874be1d895d7a3e838",
+        "76602136ed87f3be732ce3ddccf7af30",
+        0x65341b295af5114fL,
+        "ac5840059f7e09e490e25236ffacb09f734461957e677428451435de41d5b36b7d90ebdc75273f6c47fe32180324cbc003c346183a5a5037872438e945bf7125344b7b7feb13980cb18e0d328fd9496f37c916de329486b7fb56d51dae97dc53c0ada446");
+    builder.add(
+        "f53881e2f85e99856a1e2f880ec5cfaa",
+        "40f3113236fabfb930b00fc66b9e1b82",
+        0x4cc02951aba524a4L,
+        "25d947a6f37e5fd234704ca01d1d492513c8f0fd9841ac1f3a5258836336e7a4b3a8a1ce560ba662fb6f1425e2b3239b68ebbad37d851bf129d17ed0a4acecbbc7cf7e0eb2478fcd2ff97569c00ffb50dd5e8fa7dff800f98db765334cd803422216aaba");
+    builder.add(
+        "554418395aeb2673e1ff9580e1ce790f",
+        "6aa3d46935a62333644df14149e0e0d6",
+        0xb092a8a37ea1553cL,
+        "09498042e158dc6050d4ba350f2f4550801f3bfeef3589b611cdc35213dbb93eeb5f1ccb9375bce003de76909ee3272fc63a32f9562c7b80ec85bc539f25a43a61f7167ac45b91fc6875e7fac9a84e640ff18a38eff905b08c73fb4ff34227e9c2c6c808fa");
+    builder.add(
+        "60795b90ebaa158e626e8b0c24029524",
+        "75081472bd9bdd33736e1e0794b19ef2",
+        0x5d2caa143eeaff97L,
+        "be5b87f28f8dc7a3e5fa555bac59f765e0b31c859099ede71786bdbe1e529dacf3f76f4d37d56c0a448d84f6ba41757e6259aa367058cc3bdbebb36444617a20820249199f53d14bac2a2851b988cc78e2925ae64bad7e43e38a1fa1eeafd20393646e2a7a");
+    builder.add(
+        "f36c91fe006e0d02be8189e9ef528f21",
+        "2ff5a944dbeab9968b71df0a5b4152a6",
+        0x61f19f58fd84ad1aL,
+        "f3eae3e75879f352432afbad373f735e0bf261689d16fcc4259b760eb31d9613123ece8c6386ecc83a51d25e8c17c7b958656c65417e97c9d302a4801904feba08e18e7fcea45966bd6c9fd69be21942163892495511d0f38712058771f2b923aab43be13d");
+    builder.add(
+        "119a01b25e2a470a83048d5ecb0a7c35",
+        "15dc94ceea95f6b02bdef039f368eb51",
+        0xc26276eff431a683L,
+        "cf413437881b66d03bf1d155a928421e0a3001bf00a681a493bbd26707d6f84955bb11105ac438459a68ec5ba980a6a77d6d8b29fcbb0c22493b5d05baefa23a2d7967799b3f4d41ccc549f06666e120c37adfc1d2e3764e2a9c71b30a7159ebf4f7e407cc");
+    builder.add(
+        "1ea234737154d5c67f8a02d3f6777823",
+        "251428a8e79774980481f0f746f733e6",
+        0xad5ca95952082dbaL,
+        "9aa5a0897082dcce7043d244daeaf68625513802a0cf6858d100776d7621f2326404d06321df29bd4fbe73ca552e7736deba2727cc3c56a61f995fd7f5d89111c7410404bd9a6be2c48f54f0fd23d7a9343548c2ecfff64bbf3dd1cd3750363bdadc7d1e0d");
+    builder.add(
+        "64bd1e805c4dd56557a95baf8690c7ef",
+        "6316c20581ccc186fe2b4450ee951143",
+        0xa4a8f3e931afbb8eL,
+        "03cd76c251a121241af06dd4397612c6eba799aad637c15d218a0303d76e3fddeeb0ffae0f094628c13c36100145e93515fd66e09ded86ef36ff1165bb96c411076bfcaff3d17ed5e94689fa72ee952603884a010f543148b24c29f40b1cc785ba6728dde8");
+    builder.add(
+        "6cdac659f8c5a8948cfa1cdbbd86d2cf",
+        "f927ec157bac29216cd99e31cde32e24",
+        0x4b40242398ed8806L,
+        "5adfbeb80e7420f61153c360a611952ffd4a4adda7946021ac21ed68838ccb01eaf33d1781024460e8f715fc6f95db011b701d0973be32d740f36cef0d9441795303368dc3a86b1d3edfb74f90e7ac6673c87aa787a1c44f35b6fdbd357db67e5785144c77");
+    builder.add(
+        "f45bee0dbb2c45e4b7c6fcae0c03fe3b",
+        "0de376eb2cf5ed0736da06e06d3c2edb",
+        0xac6e1d062c4ab2a2L,
+        "a87fcc624c11a5d51b422684f32b68d1c962d670b663b48a48916ca30e7dc7e63e87c8be2b72b746c01cf4dd924a732f15363e638c99f17b0f52edf4b3e45df883d42d8d335287ac0afd63330285553a2dbd7b960a8ae41b68edc24e6a0b34e2123b43e0b2");
+    builder.add(
+        "42c383cda94d82d0c240e7a5dcdc04aa",
+        "afd7e7c85bcb53e79594df76094eef5b",
+        0xb48e75bf6c317fd3L,
+        "6ecc103e0add2bd5d6dc0a4353aa47f1de2dc315af28345695bacdb77fa81796aff7ccc637c172e2dbb2fcef550426b662e7549c494ddea17945ac899d1b95c1d64827f58d3b9d4e09e05dbd172ffe9af7143dcc6085a7eee8554558c1f51911de0e2d6d8e");
+    builder.add(
+        "5d08094b059e18f65ad8ba8ad51d369c",
+        "b606414421c01890670743fe940a698e",
+        0x027da502204507f0L,
+        "441319a48ae4ff36464ffc8c8c207f5b68e5ec3b435f9afc4fe65f567fc629153e9ad3c38b919034682243a4af63bdb84bdb2a8d9219094efdf68033eab8dfb13d11b68bcda9fc6caa616721988dc09eff496a418fa5704662893396cf141c547ff2854513");
+    builder.add(
+        "cf21602c18d515793add8330059de075",
+        "71ea2fcfd6b9c1a722e8a4ed2a34c717",
+        0x15113b899e1cf0dfL,
+        "beccbe6794176ea0b09ce9efb71f8b94a44834ae38cadfc0c70f504accca876932d060f12514122927cb26d6557a12f856c7e9eb6f5f35f8233d8584ae63339e846aaadfbe6c64e4fd78eef07783af09cca1b7fdd767147ad73882e3ce676f3174c85046d40c");
+    builder.add(
+        "0d2a7e82a9ec4cdfb1088af1955c6460",
+        "7bab680795ac02d35e97d2a6f67469be",
+        0xe1ed1339c4915bfeL,
+        "48442bd29f8d845f9a2d5d1d0be233dc1303eda2e0a2bc7e78c77fe9cb2bb22f37f0d7beabc8ca224ff7aa9ff3b9e25ca9f4afb2c051781170001638489c47eb5d3335374dec6e26bb6490a9a81bcb92d9769b2dbbceb32feefc15671dc9ffb132cefb4b0db5");
+    builder.add(
+        "fadd95e9853446fa1e3a10098e0073c6",
+        "41fadafd818043096c073f4d8ec0aa58",
+        0xe93f451c8e53ff45L,
+        "240d6342b5286141ed571054071a9c52a0bf6f96d339eeec9bfa172f34e3d96eac8f3f45b6a8f1ec0d4f2532a66237a83f0d02b92581f3cf584e17f07597c5b1785bddec87ced35093d7643057a6abb3a29b39e95b53d7379857202b7a33b5b56310e972ec75");
+    builder.add(
+        "2e9afdd7a9572efe2a68eaa12d18c4cc",
+        "127d23d59395b4b4cd278d9bb75bde8f",
+        0xbf59aa110be76138L,
+        "e1b6bbf1283570b975dba4e46581b698b13048950f4b533adc0f5450c62401548bee46b017936b1a5ebe85eb2860728465da6c8f7c7a87d9cf263a97111a35013150036215baafb8dc489bf297c3e446f1f1d31db89fc7127e48ff1219b2c1dc419247d4a1f4");
+    builder.add(
+        "06513b588dd085d54eef44aa1070e658",
+        "89487a69596f7512fbfc3605cc2ef3a5",
+        0x6b3685d934ba3bd3L,
+        "fda6ed2c4e8fb118f0cb0b944103f8971f2a9840c016624ea9cd7685bf03c5cb2a6e5361a87686c73b232e5a468c1b8f7b55cf144713e452aaad5edb0805a05596dfff150bb1a57a57940818212b20cd76b9406404c230eeccd66c1568a6fdddbe07f11ed446");
+    builder.add(
+        "1014c0a503162fbf4d772250e057a86b",
+        "6914313b61e45ff433f2308ec486062e",
+        0x45a02bc99ec7032cL,
+        "ccf254e7e92121dc758f889a277b2083f842ec8ed24a351d94de488e21d6460274bdbc9718b8ab9196474395d3326ebef2b71a2a5a56df6cd1c15c183d426b142b367fff9e05cb12da934ffa7c484fe9e7a811b131af4296ecc20ef0ffd0a27f6e0e92ccc593");
+    builder.add(
+        "21de38ccd1f1879eb6ff49c552abb550",
+        "4dad572bbff914044ae20862c7bf23af",
+        0xb487c89becf5b072L,
+        "6935d17f0d94d7af637be5e5b93291c9c81cdf94d452a497fb0b27221dce54afa7a1989272e4341361abd0942ea6f3a97c1f98c6fb1f5f75a76b5fdb51b52bf53391784ee5356bd350866cc9d87f04c86577dc365089e3bfc092ad98fc94d1512803e4d69a7a");
+    builder.add(
+        "41053cdf8d0addf22209d5f1ae36492b",
+        "6d4fe2a3f2b20794785d09c43b444c6e",
+        0xd79bf23129be90baL,
+        "570a65620182ca0523c96c203d8a720450c79b7a4340c28bef7154c8ca6ca174557f1afab3b9deb4c4e096384bf611a2374ce7cf40c4b0eaabebdba5c3fd1d61a2ce5fca9b6ecafe86a2ad490e9f61fc26d8af77341adcd58f6b6189a40fefacef187022599a");
+    builder.add(
+        "ae7b020d836de7eb93e8426da0ff9f63",
+        "739aee2c187fb2e05f59845ff95936c9",
+        0x74d748ac09b7b6daL,
+        "6a4703da36b9ef8c3420523c9191757b4d700299ed8f8760675c87e88aa4545c676823158021e1aadfe20f10ccd704f439626ee965351bef0521887178f5e5d7b5b12247ccf239f9240fbfdcd66221280c3928d2db54a52b235780f65d73becdc300ee3ec445");
+    builder.add(
+        "2e5a05c74656db285f573dd7bbeb63b8",
+        "24f00b0d3a03a0788b9c739c3c9546e0",
+        0x7d08a79b902070a1L,
+        "414943be6c9145767f9d7e3a4d898b48331b0ebea5c021db982b79bf09b36f276751feb272db5c3daf411ac18fbab55ddf0e158821c033deae58ccd899a2cc18f79b48343293ba8a68c72127a0cd15cae917a58e833f3a2a8db137c7cd79af43bac08c7c6a91");
+    builder.add(
+        "619c9fcd07ea09dea2ae119522463e3b",
+        "040d04fdcc31672315d64be9c2970a83",
+        0x0233e2393dd25093L,
+        "245a160aa450cc25501aa40a1177adca9a3a2502c28ff50ecc3c505aebc84154d4ac785d35e27d5d19345ecebd09d650b5762f225ae5b0c5ce4fc09e730293701cc9659cf02ef520d1cd2c09790227b5c6e031815427abda53dca691fe70ae784011a2f1d4e638");
+    builder.add(
+        "66e5e15fc8531c02b9b9bd49c129e71a",
+        "c256a815b2a16e0c7ad1e5c9f3613fc6",
+        0xd59fd84cabff7da5L,
+        "e22dfe9525a5d81fd4dfccccdf1f4950b7b554759cc291ba8291623c5430603159c5e4b5830db76fa123c5eba8d266a8e90f4f477ef438c2e82fdc2583c2907cd9acb13d2cf529083b9eaa61465f1dffd7685c43069b4e8433114af7ac7b0f5365fd8637a4530d");
+    builder.add(
+        "3d4f39a903e6d886ba395966d7693405",
+        "be70117717d40cbae4ac21e6a8c8344d",
+        0xa22e5d92484f8d15L,
+        "028c5204d8d5f5a3be240fb4acb2f77e5ab4d1f041ac9ea6de407dbd16d6fe51c51ca9d7830be7ef4988ac91b83627534cbc4620bd158f1cde36f67931f7b71aafff0189c68c92223fe8e0120330c072f852a14300451f0d80bac6e05526f9a8775f777023fdc6");
+    builder.add(
+        "ff8394b215f2103f13f1831f538ce66b",
+        "f1da96ad3d04a2e3c1cfc3d811e9a79f",
+        0x4e3427c94b2398d3L,
+        "91f5566019eb0301489126df66837cf7e612502ecd84363edaa27258201f9d5bec46dd4f812c0e8f757626125b594eaf1b023269a14ae1cec799032aca88b8ed16edaf0c170ba914a71d12e554d12a1f085aee60244a515a01d0c2ad8c43039fcac065b4f40f16");
+    builder.add(
+        "74adc208cfbd8e5536172100787a1be4",
+        "af40fab207c632e1ae419f4b7c5e628f",
+        0x7bf0ae91451e8f6dL,
+        "ce077068874401c2ea7e576960ef5afc846a92b4ebdd566c69aeb057d81ddd0cf5aeaef9e446393adf5ed65b846f8de181a4ef1e7ae462339964d63381f9ff2d4265440dee359e345a72fb5d310bd05a0ea6b5994fc093d9359e7d42c38eeb46f977207b010be8");
+    builder.add(
+        "ff7177b34b8d3a78b9194a094adede68",
+        "c8b9644536c8176317861a0c24948e05",
+        0x1d064c4bbf8207c5L,
+        "1817ff2baec8b9891245c49b00d7fe7726a515c03188d95569db11c471432150c4250e7bda7b6a9b317632f0298f4db388bd2f3bb18e2a2a169a09a8f2165df2d1ea6c2b63a6f72d6cdc78d2bd20d606324d168d665ba03faf62b289bfd88456d8949f65b35ab8");
+    builder.add(
+        "8cecdf223861d4d7e602ff17c1fb9a82",
+        "478a5b3e7ed5cc463aafe1eca723ec49",
+        0xd2bdb230087fdb7bL,
+        "1cec6937c5fd66409ee6b5770635137d6cb17bb3f049a89c821a03b90dccb19e852df29cd3531d5b4cbb68544c41848babee2bdafb2769ec65c5c5524aabf0fa675c71c9093b45c8c793e47d4ce04fd1490e8a5393519fb8dbc331d0a8933fb1299aec402e80fd");
+    builder.add(
+        "7cad047941c67876cf47ad7c5d266adc",
+        "6d76f3c59deb9ba495352242e233e8f0",
+        0xc8af8de7f8a05c68L,
+        "86a1826f2457fee1b5dcada3ed73843738da395b5c84d5e71ebaba970d42c1bfd94d264218a6c8633f1ea00efe3e73dd76ab3e5394de6d578c71783ab7932113f14267145e2f07a08c776d928964877f39c6ee31385dd413a2895cb2bd5591e7ce456bc041151c");
+    builder.add(
+        "6f72ea4f557466532d671dc3abea7e0a",
+        "a6dc0dde1c2fde55abf3ffe88a8f84df",
+        0x46e4f1c9dbf6bcb7L,
+        "ef0856ce347f98093447d00ccc88994475b41508a32afad872449cfc98989e3a6d6a697b703d3d1bdad0e24a7660fa772be39413a858e95a75620be98fadf3e05a71435bf664e3d5bc3ff62af29768a4676d935a918037cc80998844eb04cc64ed5044a26e948f");
+    builder.add(
+        "290e8276af98a243c68795aa3e570029",
+        "865e5a91c39a22ccb9603204357d14e5",
+        0x43a78fbae19761e3L,
+        "257e7f34d73cdc87289c53953ffc3762d0b8262ac2a4ab8b04af5538cabad266d6f227ce17e7dd63f2389a3ea9059b7ff19011d4a336c52a66caf0f3b27747b1ef16b2ff9cd3e2ca5ec1f01d99b7904d42daef097dde1885cd8362cd8dd468e584d7f034cfcf64");
+    builder.add(
+        "7765a4604d82f85d1f78c696faf1ae0e",
+        "1f1dc92339870272e99add61eda29ed0",
+        0xcb732fcd88b2c128L,
+        "8ac410dbedba32189bb99c17c2ba58e8019793bddffad7254b8c7358eff4c03db9e81ba4208f7138dad2d519cd864bd82830e637381f95f749e2131791182099c49b62d622ab0dc9eeb3513b83e1a91891344004a230ed9998ab93e8ca172ad1444bd730cb6ecb36");
+    builder.add(
+        "e447de2e4d5851ec76a344505df02847",
+        "c7883bdaf678ebc588a62e5c51d3bc1d",
+        0x1d003cb07e07f6e1L,
+        "c071894701be72a3155b58373291c2bb32708d9ac8f0bba5efe054072546c8bf3dd97a739ce4252a6bfe40d09e363e9a52f72c5311aeef55eb6cf7390365eff528fa6a61271312e59e21f5af6284b1d480cfaf3651addc232efee8bad0548e85d4cb61ff3785ff6d");
+    builder.add(
+        "775b531c22b38f9081d1da0d6fdb4bc2",
+        "5a4eec838a83b28daba6067bbf9bf469",
+        0xe45f7ecdcbf4263bL,
+        "eb82bacd0ae214d62957a01f8f09f4775546a27dfe202859d542b275d4f20a11a1ad74458ac95ce081af954a7119d1f28c7a4883b7bb977b3daad2ba80c0a0c496e5f528e1741c83303f487118f61dd6a5db0f425e14e6aed458fb1e58d27621e26b979d81b8b45f");
+    builder.add(
+        "6bb214f9ac84b763a3926f2bbb78a001",
+        "a7698f0ac8865a605365507acb40613f",
+        0x8fcc593d548008c8L,
+        "b4cb1b55658e104f22b0a16636d056989c46836f611ae0efee5b400650581cdde119002d76b4c0041e4a25cc472e6cfb1ce8c7050b86b6a11623c43223f50e9ca4e7d94f8adb81e06ed5cc2aabc306e0d79deecda1fdacdc6746397bf7f6b9139eb3a861c934337d");
+    builder.add(
+        "d49592911fd51e3ee85dbd6708bd07cd",
+        "c752b17b8b73a63d15ec4ace9761e30c",
+        0x830829d505880e34L,
+        "6133431d1ce4e0bed7d2719e2e1e503a2bf551fab67f1301feb9f83b4473735ce87525baaefa0a9e392f8748f4283dbb32f262c14effa05be6743dcc9c4088cf04f2a942d942ea804285cb3dab63ee73f94e12518d5149ea42dc45d72a3119c1767831e84bfc50e6");
+    builder.add(
+        "5d877e7539f5d2820457434d72e0c7f7",
+        "3173bf7c2b06759cf0dd8260394cf123",
+        0xdf0370d7ace01fe4L,
+        "521c186c5b1587a65f11e0db8e893124e815c977849443b6fe222694035cbcd15d450f37e5056a507e5ec4c8447355644d14f88732c4da9ab4c6a5fe174d35bb1dec59db2d0b8507458d03c26c29a8553c945ad201fccf2a32f9ece2ae961d9cfa313eb0fff1e09f");
+    builder.add(
+        "7cf23aa6b7ec51dcc10ce1c64cdcaf68",
+        "c99349952960dc6688c19e5642b175ed",
+        0xcafd3088ad2231fbL,
+        "4a3fc195ca8c91df868259e08de656e3499a96630c7abbf0f480c305d8713d96e6b81490d8b78c457739ed9c50279d87d1e2f3529bfa4884d80e8604302bc6c917155ffb29a25190185fb25d63fae2427ba1a259abaab9ccd0cd3290824d115ee77a221c57f2293b");
+    builder.add(
+        "5f72bb94ab6232541d5f5c94b086aa71",
+        "6f606e6da03bbc8c6415a4ff00f4a044",
+        0x6ecc87f5c1267310L,
+        "cb92fd027d3e85947c1231aac3d90e98aa7fc4753ed48d4741275bf7e6d7024908f4b0d182523a90e353547c4d20ff1b089dec669b9990b744f3bf169c641b1b6e8ded124d05efbb1df1b85af24e5b0ff80631f0d7f5e13f2c38ecde6065c40314795236e4474393");
+    builder.add(
+        "bc717de9ce582c53c96888d5512bbaa3",
+        "f23b25a48bf94e67e1a2204e2a547373",
+        0xfd364012f834faabL,
+        "88e226c0633dfa642a0266bbb54d1335054022119ac9d9e0f4ccf3c962f5eb2a73e9856fb4aa7ed7cfffc0fb54fd36a7952076e55686552fadc99d138903084932e2186f90b098d9c2c235b1420e8c565b039397cb9e7b44722cbba10dc657ebe2d7b3881b5ce0d2");
+    builder.add(
+        "96f8840526ff8e5a4e4cb0996a7b6b78",
+        "5c2014f7045baa0c43bfea1fb1cdfed0",
+        0x7aee4825364647b3L,
+        "c52dd31eb7c4eecf3e55b722b80becd6c8926495728cc4f55cb4aabe1d27c442c3120942f12e8f54a0a5e8bab4d24949544b20aabfeb7e945f207896a2386ee52ead648d4d6df5fc84f237034abb53b4cc958529a5c4b7757cc0c0230961d20ad69f054352d9ffd7");
+    builder.add(
+        "3da90033f1ee1922e0813b1060d9a0f0",
+        "baa8c93a3538747275266213d5dcacec",
+        0xa8cd73f9dde8fdbeL,
+        "7259ac2092950c1e1317d17f1b2455af661152a536467b94f1028cc1554f3b095f302624a7734ea462918006262661ac62f1e5afe63a1f9c02822e1ca35d01cfebc4c5af8701c861318ee8805307f7ed0fa13078e6d34294da6fe108c4c816f0cc0449d528da5657fc");
+    builder.add(
+        "936a9eccf10fed5b0c2982d0092811ab",
+        "e5593a68589de0a48812d9b902198eab",
+        0x3ed33f1175475485L,
+        "9d7d53a3b5c4abc5fe97f97557932e4a749275c3f6f3dd11ee95107c9afd8424011fbe52253edf34e172765fb3a981e8803328b819cc214cb7cc3413781918f2abe046e983eb9bd4769a966355d087aa94db6c20a91c0c70e65ef2fb39a3f545a13abe9ad53b92c7e6");
+    builder.add(
+        "5c866d1bf43c3ab41dad75ba335eaba9",
+        "602a2217a4ae31444cff6a3144ddca69",
+        0x4312a550d7b4176dL,
+        "4faee66ed108aa4d29fe928d4793a136cdf546ec876b5d66058df86b1616f70a88d194406481ce97519ff3059278a9af2287aa5da4af15f3f60f2daa6ef0c36dd2692c0a159bf6187b6e60a86f5432ab8d9840562167c3bbc5d8d3075daa3deb62f1dc25757a15e3c7");
+    builder.add(
+        "d29d4f6224adf1b432fa66ad0038f6a7",
+        "d468eac8e4224715b3cb2f6238586d44",
+        0xefb057507a2493d0L,
+        "77020148d4cdc901fcb9db03469e1a7c0d996f8ea4fc00d3a3117101378effbe51e0bf985f8384734b484c31fa95e4d8c22917bcaa51e990c75ef6cd71dfb62c31a0716a9896ded29b06c06b191f9e490135cdb755e244898e9ff84dafeb89f67ad6c476623abd0462");
+    builder.add(
+        "1a398a5009a2fb4a6af5436fdf3dc2bc",
+        "23db8848d3fa529a042ddc3c3010748c",
+        0xac8e5f68951a7e5fL,
+        "d76bbeaa93def250d77165846f38dda46949c84027d927fcbb87abc9c7f86216e9eefd63fbf43783eae8e2856de8db7fc25fc528cf8a1b7755a02126b5b50911eb8ba0519cbd44f7af7ffe5c8e3cccbb9e20235a2f41608c39bff2d55d06970acf0f095f4c70d95909");
+    builder.add(
+        "5663486e754a8f805166d82a3b034b2b",
+        "93014cb8bbd5671ff0fc40a1dced6e90",
+        0xf461c27f3ff08e09L,
+        "b99c3ed237908baa40eba62998184ca8ab343072fb970537016ee203421bdcef0bfa75fc8c47e389e44574c6e2483c6d06e671ebfe93c9d27348dd933a51ac08c659cef5cd5456ff44f3f8eeed358b502e7dbabd7d0e5fa1326957487fba924b8f77a1b10998fed41a");
+    builder.add(
+        "ecd9aaeb8b4146c420c97971de20c497",
+        "211ce73d0f000d505fdb681eef0dc151",
+        0xaea9bf9b0f8a98d1L,
+        "18c622f173cfcb7c7c14b7e2cac1b9643f33b97c5f93368c7d7d81b100706ddd3cd293a5beb4d9b073f28ecffa3d70f4fcc5beb85c60f2bc10e5397a8922c9a7f1b421d5aec55a1f49399b3ca4a05ac7345cf902b7ee3d829cf1e66606cb1e0753fbc9014f2a28b30b");
+    builder.add(
+        "5ef467b8d43bce50f568272d0806b8f4",
+        "16f017108872ec04726eaadbdfe62702",
+        0x8d3714ff92be12f4L,
+        "ef32bd05f76eb45f8b237d26d855d2ceadb1087295cdb22c2c4e93bfb57b171ed49824bdc5b6dcb94926a27f6866d4e25bac463a8335d887094fd342999352ab964b036a80bdee3b82c90c5f22ae68769511ebcb589b0a0d7ba3e17650a50e7596b81da82575ce8cd9");
+    builder.add(
+        "1deca82530115eca16d2a8fe53e5a82b",
+        "4b841dd1e1ad16fa5ead081747094e7a",
+        0x049b425b773e9191L,
+        "7d12b93fee9c80470754aa81a397b70b21e70dd9472c6b3d43c71d61d942113a0eaec0389170bec33da7b1779ecf9785642c193cd1b9c419f1f5e57613ebc9b88dbe04901896bc72d23f8097b9f38d4cc473a9c026ce961f103e5599ee55ccba09c88c544003304232");
+    builder.add(
+        "9548ce1a20da7ccb908525a5202ac93f",
+        "7fab260d03f28c775034ecc8caf2997d",
+        0xe379b6d490fd052cL,
+        "8893702243870134c207908aa90eae5b3b92d9d0f713612dce48d38c77ac2726a30bfef4652e8c0eb31afb0e76f5b67f3e4fccee6b6b2b8d81cb29224b9b855507c15d3283081214cbc06a81086293d85a17372d17621156bf0965c8a4768ca8442764f518f2f80a84");
+    builder.add(
+        "fb9fb60200cb79182305a49d0db184a5",
+        "530914fdf203e1fb006e225412da34aa",
+        0xb0d00f5fb706636fL,
+        "7c009965e9785ac843475bc25a23c9fda9285d3cbacf40a9780c0f5931827198cbd7492159450382d2070b6968aec445bed5aef9ba4c120ebabb95f086ff2c1448aeb1441330081e4392304a70ef39c78f346cfbcd4566a847ed0029966e0851514481b08cbd6c736002");
+    builder.add(
+        "893bb72579f4e95d73e821a81ba7c144",
+        "23231fd6c9f585777a2f2f10c5d3a962",
+        0x58e0411fb2c0c7faL,
+        "6c21ab5139a1b299c55834cbe95039c88605503338cea7b796fe69bbe5573077096ecc51648b79974b62d898e6a93e208e75db8ccffcaec49e26b64325261aaa16754cf7f0fbd5b33dcb8b91b2dba8016bef3c69417508241da4be55edc6111ae4f065d3c04856fb1ef2");
+    builder.add(
+        "7489d7ed1716246f624bc28f25f7703d",
+        "02df56a3fcd707cb290001632d256f20",
+        0xe3c29c79cf30be49L,
+        "4e04db95e7e2c25f5a56862cc65bbdb1ca9e8e520b8504289c480792c0b44c4ff51021df0ba3404925ba42dce7c549c16bcdf17deacc6e4349065425a8ff2c004a758b1f21dda26f0556ec8faa1fe0c62f466d4ad959a0e0e8d65cc063483ea578fcaf0d3e3a664989be");
+    builder.add(
+        "ed7fcdc2601aa1d677f91df03e23feb8",
+        "ae6cc59304c910fc281955a85341836f",
+        0x8635129c3abc2b08L,
+        "fef985bed49a5985e9d708ff6468a796a66b0ee689c7c270d40ee5c152dcd51fe75a578128b67949b40a1c9363e32a30300120a8aa62d885a0328fe807c73dbdbd13e47aaeb13b2fe29f9af6eaac2334ee07a42bdaf4a7d7c32603f753e1c8f9c3e23b5f54540d10cfb1");
+    builder.add(
+        "34e0b638b8ac9edef0a9de7e92a3ac4a",
+        "d58aee82a8732bd4d330dd702f910afd",
+        0xfd01e2ceea10b59fL,
+        "f6a7dd9876e73d990e7959b8e5955e3790b92638d10c231c3bc5c4c08212da4bcafbd23e8981fa6bed26b699f8c7144d9868583af367d19a5ff0c2cc1b6c321cc49c4c0dad10ef02e07fe8d5ae4a340957bf957c68687b5e37e056393cddef6c501ca65398b932e4ac95");
+    builder.add(
+        "0d5b26ee0ec164c5557cb9de10d1444a",
+        "42b723d0487ea707d7dd91f4642d3eee",
+        0x57fdcdabd6254fcaL,
+        "5bc96e8aa5ef2178ae2e710eafc3842390019eef15fc42c7cef0acb4d1a8eff23f20b848984e7dcab0f47dfc8db20714988d1df4f40e4989c7749269d3e7d7878dffe366f2a7602cbe68a66ed120dec94dbfb783455383e16c5837584bd7d91aec98488700460c9cee7d");
+    builder.add(
+        "e90583a5e12509d1999999afd0276c29",
+        "253db8304e96a8f0958208c04385c929",
+        0x706d3fb88b3ccbf7L,
+        "dece02d628dd2e23d1189d674ea660bfd706487032134830204083d5397b2ffe8bb9cfc3a3b47b6ae2e4d7b8a2174f6530df6337a20ff53b45a43b02f831fc1fdceae770ad1457b990455f8edffefa101305f214ddb2fa07a3cc97e918296b800b8958d0dd336ecdf681");
+    builder.add(
+        "18b6a3ba1705c1452fc3fb8daa1d934d",
+        "8d6cebc1e0bd3497f88478b140df3cfb",
+        0x802fb99e2c15e856L,
+        "6aa05df5dc913198b00d94bfc15279addcf587e709a8af90a9dd8f132ea939f95254cd63ba55223dbcc02e967ab1a65d2782d4c23e7503bec6143d4503688c6d0a06fa1adc6d42aaa41be6538b947708344aee42257337c3f612ddae292a193229ea19a409afb0dee142");
+    builder.add(
+        "de2a08b8dfa89d1a920842337ed3bb5b",
+        "9a0db0cf3ae07601fafeca1aab289106",
+        0xc52971c27d87e8e3L,
+        "46651165dc1f33759bc6adb70e5b673d8bd79fbdffaefa9d07dacb28b4a435705beeb0fd785eebdc7573abc4c24b514206086a0743d0d0a77bb602129908ed660cb904b97ab4b61461d665200060ff0b3c02769d85823bba314f5c65b944b749f97728e046d5f6d7f947");
+    builder.add(
+        "cd1759e8711268e1f7b2db61bb476a79",
+        "14aa54bb142bbb5723a404ccaa52daea",
+        0xeac23bac68e201bdL,
+        "1281b0bd1c015524440620777f91c85d5b266039e7ce2bdcb1d658a7f118981bb92e07b880a25a8505dd2a59ee76be21d1d4fca64109b96d77db58c74e877d4395597c556de4ff41202069a2e2b8c81b7b0eaa7660ad8bc1380dc222ed3ff6e5971d206801bae18c03db");
+    builder.add(
+        "b318f79470ef3cca64cb881d1eb7f88f",
+        "6861c3deb8e95aabfb82c22fe13df64e",
+        0xdb01e79e27de512cL,
+        "54a1ef86adf72f9cb49c53521033b7ba7caae3a51884d23aba0f5dab698817acf697ed46ee8d07bdf261fe1ab9303b432d103bbcaa0e83237af996d74e29a87c54e54b87ff6e3fc00ea1beab58ce3a74e7a49c74ed25f67fb3116bb6f40d8dd997dcb50f073fed571c1d50");
+    builder.add(
+        "c3369eff55d90d7bd1b88ef3c33c3dd1",
+        "c98aa127301d1ad07c0408a903bb7504",
+        0xd760c6f848fe3337L,
+        "1b5a8069f1d679e5ad2b68498b31fbade3acb28890f5cf35342e9dd61febd0febe2e47f5c52428e7c38d38b90f7444643e815bf4681ed11004b3c206a977eac3776c71375419ead00b57da87d0f601304a081b274b0b813e2d2c5b5583c607db992588b50cd1975808b3b0");
+    builder.add(
+        "e96d649e01e74ddff473c2625798a4d9",
+        "8d64b727a5beab3a640b4aa25b1b89b3",
+        0xf2eeb808a18f1814L,
+        "2b65c98f9e544101ee59056efb96398d95af7d105c1aee10998aab11c1b352cd0421005eafcf4f4527a6f3dc9be08e7d46c30e3a1657fbceb766abea27888d9549420b8d229c9769c9aeda827b25d0b82fd524bde59dc21ebc0dc2244d3cec66f59e2996d72eb80afd7ef7");
+    builder.add(
+        "a05e0784fc8d10231d4c92c4d5de9d45",
+        "ab5ea300adc5ce334f0e32ac63053f56",
+        0x3e640dbf239fccd1L,
+        "7b32d113128214c3364632f25ed4353c15602eb28135f450683b3463844364a39f1af754efdcc533393126efdd1b2b93001e755f2353c571f7d80e74a36202d261ef5d6c9c6f32855c7acf34aeba946b0d423fa75d9fe978c29a556c376288f31bbbb2e202cd4a937fe7c3");
+    builder.add(
+        "a62dd763cb0b1ee0d3cdc4355c224140",
+        "efce72b3166ea7f4082f3f576ffa8013",
+        0x4e2a7bda107161e6L,
+        "10be8971c956594fd5e1fb8a63a3b2c2b8e2b177e4b9426248bbc49eb94d4ee710652c0423359d8256ede42fb539aceb2f635015b1518e29a80bd63a79d2f6fd886f3e568dab8cad0a7d7a3e3b0c8e5a2d8cd2c07205dcf9466f7df7b2abc7c9395b630b223b62bd5b6818");
+    builder.add(
+        "09b1aec58a60cc96e307c0aad227b670",
+        "894c4a693743d15444165ded4d347a26",
+        0x08954bc4d9ac773cL,
+        "3f6469be628cd2443d66e609c1c1c7dc4498fc68048a21408f5e8923b0b2e32033c3d7ffc122f9a77c981a633a25d8d877147f3d752e67b2734e981308cd019e0a85ff4cecd3ce37558760e9cc7f3f2e9d13a509fbf2d90ce93643a34bc4110cdfd2fa46db6a7e473b80c3");
+    builder.add(
+        "a27e7420b3b5f9d633e6ab4c989e739a",
+        "184c9b0013cd60889440e1a6b3758622",
+        0x037d1cf6e100a0ccL,
+        "ce2ec9247682bc4c738b7711e32c35471395059c5648428e0655f51a0043de81faa46a022612a4dccea03195a2bf263d2b3fade8daa156c5b51791b96f10c8d984453b7f07a54f18ff4bef29d0248ab01f3faa5f2abb34198d01c9be68e4f4b0011a8d28568f4fce2b9b2e");
+    builder.add(
+        "a84f69db4ee484f61e4d568cc54184dd",
+        "e6e490f5ba8944d683e58f8c9bfc2e5e",
+        0xc381c05e79f838f5L,
+        "41d41ce1c7bcab03cf76d29f8dbf3e334e1711ff097462d3b6e676006edfa21d8d18dc804b1c10679caac06cbe60e712c02fca3b6a19388ee0999028a34fed230601a577aabcce646029cb1a6e162eb458b3b2b40eb9d633ffadfdb528b69981d02778b821ca877acde6ca");
+    builder.add(
+        "539baf7a809f66fed755db60a01591b9",
+        "bdef27879c21911e84ba30331cc24232",
+        0x21bf484a1562f6f5L,
+        "3ba64a662cb564dc0c5d0359e94b0e8a36584c115b1c1dfb508c3a6a77ac521304f7f84d08c574bf09330bc9f5610c0bb636184f43ca36f25af01fc4b9817fefe4c43fe9ed4fddbe4a9a30af3a594a970575a0bc181d559faa77bce157061d865ce5b2cf5b6c7293e773dc");
+    builder.add(
+        "0f8fb00e49a369f97c59c662b9e7b176",
+        "147ae01a9c31f7fa9c77b0b7b75c2a26",
+        0xa266c88b7a7fea0dL,
+        "b00e85809782be1ec65df6c3b13f0860fc413c135080c6005f6ad3c5a865f1273633d3c0312cafd2320b5289340aad50d86ea6f246449e8d33be37711a403947cdaa816be184ec1e5e4ce4e612b448d7b6951c7532fb5c3396887391308427c1de989a7ee8703e1f289fe5");
+    builder.add(
+        "dd3acfd8274dfb1d08011053ee3065cb",
+        "b55eb90b30aba9935c3ef938883c96ff",
+        0xcccc2b746e467985L,
+        "0161f1f4439849c88a50f02e1c56bcdbe336f783f52c4d8d2f40ce1e7dc4e3a5393cfa45fb137146dd05c51a22e38f0b3c142ad7a8ceca85fa777f96655033b87824ec69126e2d18ebbbca9900e2f649042da0555f2b92fe429b70a57388d4f927641670875c1157f17dc69d");
+    builder.add(
+        "bb96cce12974255f725b5b22c7b9b159",
+        "2ca427675107b5ddab12d3c929055088",
+        0x82de0460bf0dc2e9L,
+        "78c81d6324dfdc3f0b4622fd50b1294a39d002cb46d941dfbdfab98da2ab47af0b948024d9e82d2361c8f3764ffd684811ab827a542cc6f2da8c4167bddfd7002e812849679537a48cadde263c0a7a854d41753b39f4b931745f79f08bfd5cb39e79b40cdcdd2ae5beca8006");
+    builder.add(
+        "95299c286824334946a5c264c378374e",
+        "1eae2018330ef852647194b8412056a0",
+        0x7d88b5e558759aaaL,
+        "462651da4afd919eb86b6a9c34c24184b530f0858432e5a8ebdcbf06a5d51575a656473dc0e48e19ee997f768c9e5ace17619eceb2e3d1df7ae79eee3cd9735e0e1bedaeef0b49dbf05a88c883dbd53a0d1bffaebb6616e98a8b5cedbf5bcf495907a1cd678155486276e890");
+    builder.add(
+        "daeb1768ebe022fcc6bc265d2c7fd46f",
+        "2cb1f5ae747e0b9f9bf5e1fea555bb12",
+        0xa4975b600b3b1cadL,
+        "281c28c6aed5447007cca559475de1cd364829c9a0ca353fa9ca267816f5a38a09d9e03cfeb580e68d7b93899818bf0913343bb93cbe82ab7625ba4243057e6faf2f2d6b6a47604f28de4ba2498f72af172cb2857e2b67ca305af0006f015c601ec880553f2e424b9d542abf");
+    builder.add(
+        "1ecc5744278b4d4e8a1b31cf33fcaf60",
+        "343aa5b5331d24dd6c83accf821755df",
+        0xb63c175809bc4726L,
+        "a95da289a056314450f08388b9a1237e977e5f4af8e16fb2b4f39cee9f6a50c3f270219902017e0d9f08ebed6ca54e255cea504bbc64c590182b5d00d1578d3b8503d0d193e21621392be760b4c7abb9f9db842a68b3ea1ff1e6e280c9fd0abf0a2ef21f86cf4a430066010f");
+    builder.add(
+        "b14ce25e484c6c75dab5f46453a94c88",
+        "b724417a51761267fee43cd50f87122a",
+        0x9388a59aaa171016L,
+        "03671022573acc47eefd77a2556697ae3d84ab2a2163e1521adb4c700a9d61aedf00c6f100cda38673da7c4140fa73ae0ce02a1c745e1477f8de3b4baebacda84f109d4b0b5d5d1a59969a90270aecb5afc4473523d5c1a810aec660ca1448571cbc0552f1514e017f675228");
+    builder.add(
+        "a49f6dfedc0b3dc897d0a71ec15e7f4c",
+        "6242a2255b6038d63c24c2bb7ae1be03",
+        0xeb1c2357274f2ed2L,
+        "e39a33fe900d9ddf934584a8fa1422358cae05ed91f2b0d2f8c624c4a38bee2969e7ab3e1aefa366da8492e6f735af25b76375429dc5b4c16fd806cc4d68667c05a36664a5c08d3c2157d757cce3aef7e0e9cee7543c71f0b2e66e89fc2452011f13caf57e2fd653fdc7df18");
+    builder.add(
+        "aef4e13d249f8151462e7f69b90bdc91",
+        "9c6c3d88fd749a18123bb2c206c9ca88",
+        0x2d2701a52597b48eL,
+        "7bb676ebd66a9e2f8b6f700449f305a7e126fcc2709fed9c69445d6ed64f01930d2a3199afddd1150ad59129e72e24bc3a45dbd836950401bb315af9b584e7e5d2736c648665362cc5449a781eb50c0f64b48f8c039703bf6011446ac45998a5f8141357da2c70a73f9a4d31");
+    builder.add(
+        "0fda8adcc7cb23c449c1c3ddd535c871",
+        "a3d745cbe2f3da9b753fdb1176548cd1",
+        0x43644f8c5c9554b9L,
+        "a43a49341e281c42c7767f6d2ab46c9912bb46fa16043d4c0a4825e9e7dc8ed8a2481b0dd3d66a7505e342c457744eb80e3d7c402b83798b3634ddd79aa5c82a097d2a33220b263f85a00cb497701ba369ec05db1558d7ee9c65d397169f9442e2787f4982ba8e4306f01a52");
+    builder.add(
+        "65f5161f7a1cee221862795595d4b160",
+        "2cd60dbe2cc5634838134a3a9b6141df",
+        0xdb7408a61bec6fedL,
+        "17dc1a2422df4d7a57ecc258c3b42b57558f194cf1129d27e1768eb9e2ac96b8b765d37d9d99495acf96c96be9d0437e92e66d589c9c279f44e55c68bbc8217b22338c25936be99acc74396057a7c2b35f47f9694adb550b7e0e2fae6451b27ea6c3fda185d401c105994075");
+    builder.add(
+        "7cb93159432557bf448e1de53e7a2768",
+        "0374b0ae9e1b9faa314cd110d37acd3c",
+        0x0fa406d43106f3ceL,
+        "a296805ce05f013fc95fceeec1942011dbea75e4af51344e33c551302b6f8cc522b436e27af951be38cf80efeecd148269a98f34f529949055f3421361e80bd2e5009e2dfea529429a6f5fcc400afec724315dee4fc69a4f24840928c2a7f09ff798d07a80ff40269194694ddd");
+    builder.add(
+        "0e3ebdfdeaca50b62a9037dc2371e2f4",
+        "dc92c746d19555f7959597214fe03470",
+        0x65370a8df9f19461L,
+        "c73605755925d7c41e118174ed509cead10b41b29fb4ee28e01450cd977f7e38d515680472f68952fd6dfedccbb4114471c3aad3c09e8b8f3196b94bb82fa746992cbeeaa0d527eab1f0cea11ac0184ca5af5c09e9f3fa8c70bfc5357586444bcc5cbda92b85590353b31d9dca");
+    builder.add(
+        "6d8991e0ba56e61829be65558dd214a8",
+        "779589501fc8dfcb7c8c3f508c6e9762",
+        0xcf020a610afb981fL,
+        "dfd9345280e2c2411b669cb4b7f3c4e92672d911f53a61af6de0305fd3a1d4931266828a453f53ca321cded7d06fd2c2be92fc6ccf019875ee719e5a6a41175a2af6f2c76d23ff2ac05e705e5d78b3e6e54e00ecabbac969fd244c5f08c71a5a4ec14fcf7ed96af6af7f4e30be");
+    builder.add(
+        "52eca16b12e4dacfdf3f5ad3374d712a",
+        "c53bb8db05806e7caad509a49ef97172",
+        0xea230192d9e9563dL,
+        "6f711a3f507c83f5ad98c72cde7df232c187faf88aba8ac4f826c12a75f213070fdbec921836ad369894e6672e6426c7828f53e79f12c1e29092a10219b5343315becdb0ee908c32d9070e0b0e6002178f03127be42e7c0e9c3874f7a1070a4d7839ab5389f47e15693f968f00");
+    builder.add(
+        "ea86103e2c47bc7a8a16396d634a8523",
+        "a8afecfe88196e982f9b8b1af3529f7c",
+        0x845b23fd4b94dce2L,
+        "4107e8f8d52882a26ec1ca6d518db9aee091ca376735812b814384782c7671f918b87209121386d65013e91552a3044b8d1f883231aa3e69209ccfadac0e910980ec4c48dc6277dfc789611f185cabf2daa8ad129c1a8cedc2e5acb962e57ea507f4087bb7b060761ee82909d7");
+    builder.add(
+        "23770261f5002b630fbbc0215590efed",
+        "0ae86dcd27fd16bd82f7f95040e7cfbf",
+        0x5470f02882502f35L,
+        "da7d2bca84b2a66d78b9fec38a21ecdd76025ef2e27eea731257b16182d4ab35366b009c9b21b1e3c5c8e3274ab2a213e5f7379eb7c9d0f8f40330ad9303a2b86942f0b0e0980905d8db82e4ed10019618c0e2f6a520613779f100654de4a355c5a4014c052d206cc30884aeda");
+    builder.add(
+        "18453a95284d0bb23ea98843d901a620",
+        "1d4483432e0ae3f6980055ae5b7c426b",
+        0xe3134deb5e943f2bL,
+        "d061ef8b14a053b88827244a33733c780cb0da95794d79ec0d1f4f3b92b0dd5a38fdb3b0dea8e4cd3a9511f92ce710ad056e8cfc4051a12fb911cac2605a9274fc70fec1dfb5d5aba98e7d8ec01208a03a6b4aa302c33087d042e3fab0f4b7569865173c7285bb896e308bfa12");
+    builder.add(
+        "8ac84795cd2ab8b5e0b9fed8138a4e08",
+        "149ad9ca7905f2b65399ed1c1de2c9c8",
+        0x153b6f77af3748d8L,
+        "52b010383578e123cc777997de9559b882dcfee53242e210f7f3a59322acf2ff352a6a6d3593ab440e7db47169a325882788c258bd9b4e35fbb6500c9b667ff3bbe59db5efca15ece62223d9f9b372c62c3840e0067a1368d711e2e3aee627a7302cfa83213cadc802fe0d49a9");
+    builder.add(
+        "b5235a68b3fe5be5060b5e4eb84de31f",
+        "12764b76d5517a9e946511cf73f8c957",
+        0x210a18d84bc1fc7aL,
+        "659eb4e777d969c45fceb6ef9b231387b67a1d1f67e7dc86d4b65def6b474d299c2d3aee7734ec702d37489fcca14317dc329b39d73b8d150c449b11dd7052b5bad31b1c45f0b6b64cba9028eb4918d2817e96ac6db6e27e68b03a6bac48ab5efc20b5821b400cad7e594e736f");
+    builder.add(
+        "dd97125f13443b4da1f11bf4af7b3002",
+        "cbdf23866209cd7390d158bd0e2513e6",
+        0xe2589a9e2388cd4fL,
+        "c0c587f6d10bb6001452f7586efda4305018db10f669ac058afcfa75eeababe115b75db4b612a33d83837e0e84ced3aa48c659cc84cd444b37f382d6be29d92a1a06056d5c5bf2dbcbadfbe29eca981a3f8519e1ff8516f1e55d9d5523c030ea736944437bbbd8de47d66ac449");
+    builder.add(
+        "d424a9e082bf8522cc00df5d943eb6d9",
+        "ee70d8e7a74ef73b00a83a28fc450435",
+        0xda434707bc983cd2L,
+        "41ff6e2e76b2da68b7964747779dbb069ffdd0866b2ca4d619409269e3393ec337425b9515c1cc46a91aef00d348918377897a24c2b69b5ff72144df6fa36227de4b86c0b592a82eaaf926a2a99e1f3b089bee0d1d7bc489d233fe6a80acfec57e99f10665108c3f401056d72090");
+    builder.add(
+        "37ec846b2c8360bdbb3e62c86bc153b2",
+        "667da95d1bfbd1d8558a34d9449ffce1",
+        0x990e63551394fb08L,
+        "461777f550a7baaf7b82d785d288f9e695c6e5d1b92beeb7ab89b312599e0816754178c7aa810a628dd953aaac6d19df713e9ce114513769ef9814bd6503bab02426ac36181ad2a341f5eb597e5e385a0365cef9e7f03025dea3dc705cac54e7d61c011f9cf965615643824911b5");
+    builder.add(
+        "23b2e199b36c2d8d748648e4e82b13d0",
+        "636785a7f5b4dc8d65d04a49256fad8c",
+        0x65881a22912cc5ccL,
+        "e5644e8469ba6b7580371263f1c65a94b94e7efa778142407067325fcfa287ee1ae07d7299ffcb7e1f543de3cc5230afd68ca096a72b8d19461a11846c2bbfec59214f4381804f2c6e374b0b9271579c5ef03a6355a4e1b069f5a7c08e1c7f960580b7b5648882ba7b926f3af953");
+    builder.add(
+        "49ced80d30ef631b2901f806d31f92d6",
+        "ee0c6bca9ef51b644507b176f107cf5a",
+        0xb647770f0f0ebd7dL,
+        "652698467df0ed6f0daa98f60fe636352b8e3d8ae0b9cde4b3f16ab49573ad678a54e3b89ac1e76036e86229c4c9583a62e41e2c213c349ac87a5125cd383f929ec746f7b873b80fbb505910093a305ac875638abebfa334fc30ee13f4cbfefbb944e9813bc16cb211b61099095a");
+    builder.add(
+        "debc423ffd6fddfe09bd58ff9fcfdb0e",
+        "692dff8043ca2620006ba219b1b7c698",
+        0x8ad4c8de954c721eL,
+        "314be665a154576aa47205e592d322063dcfe18c0f4d5b96e8647510e32dabfb0c21a300ca429695743b3408052784c68d2ea9b1c0a752010c4032aeb22072951a6baf6cc3e664d34aab719038692fef42d6cb2642c43440cce4d8ba5f6acd2ce4ab0ca452204bb4abcd94d306a3");
+    builder.add(
+        "9263186ac8a60eae8f4134043c18779a",
+        "03197afda4f2dd9d8ce29b52e98df0b9",
+        0xff06a5defdc9557dL,
+        "0b6e5030f22e28ec99e73eeb989d59cba76b450a49a5f487ac6a6ed010362e741c847d075e614e18cfff7446315476d7206f20ee418c458d71b5166d12c2e61c3933f0117959e828a83b935e1d9ce495de49dc86d538bd009c7f207ae7ffa083b31374ad3d03139dafe83bd2f764");
+    builder.add(
+        "e899e379cfa30c36c384551d068d04bf",
+        "28815a066b486fd5d1516a899c6eaaa7",
+        0x40584ee99ce3ed86L,
+        "c36930c004952cd538ed99895de1570008b33187ba06b8fa681047afff65aa1521b995b23ebbc24822caa19da8496a8da848a1f1dda161c182b77e7718b7e34bddeeef89942bcc7409e7f4b2ea803bfb0cad080a32e088dc5ac9cec108d82d846a157dcaa86fe0b55b3b9e95b020");
+    builder.add(
+        "28c3d51a74eb16b1cb9367641bc1124d",
+        "f984284a5faef2e19f4529c9412430cf",
+        0x903f975586433fd1L,
+        "825aabb3009d097c61f8868e70a7829ca6903d42f11aa3ecf4730fcab869a39973cfb80a776b65b2357efbfc471f111b942abee3c261ee992ee6c5e800c09ca28ff288f99422096e43045f316ce132b2b11fcff9a1a811e7070148264ce5edbd4a5dd30fe74e249f9782e67774c4");
+    builder.add(
+        "52f635afd01b220351fc9a513974a4bc",
+        "e8f8681356bd3cb57f70d2b12c054e2a",
+        0x8d1ca79f3c8880a0L,
+        "8c7e9c0528f4b170c0098726a7ece2f57f65039313ce87e3d23e56fe54c7b2a8f5d5859a44442cf3e4c0246098861fc372c0404369d8fa74ec930f9fa50dd80d588ea7beec6e9984d0e84daa3f9999a450e9ae459c7d159c4c4e3e8ec6047555c4aaf7c67d0aef3dbb4d07b401a1");
+    builder.add(
+        "4519d5be4d203eefd22086b82995fa88",
+        "1d78efd06c8c35fbeb7ae81365c0b3d0",
+        0x88bbbb45f4c14278L,
+        "5a9cb78833d6318f96d5b39921857c1f87bc3498e72ccc14a43a4930265e8e7045e0fa19b4dfbcbdd78fd893afb6c6d22f26ee4450b31a5c72adde674b1deab9df27f3f826cc1b1a1589d4ce6561d0a81e62549fff942fcaa9eff74f88c1f84262de3f73101f6cd84d1549037b57");
+    builder.add(
+        "dc9e985e0e3c79f4432c411f31c0f138",
+        "57398cb3909b6c125256b016cffcf29a",
+        0x1397770d817daefaL,
+        "75678f1fb0b88a7b63cd265289812aa2f32f3b6e2696f3951d399caf17b7f723a78498482afb4499dd0b6a45b234249758fd0f6aee5ef84ce2960ea210c9232ba871222b34f0378f4f117c8598a0d5fc8add0ffc7bd4ddebe8550e97da8c7175ccfdcd11b5d05bcfa4b9edff45b240");
+    builder.add(
+        "72cceedf25e36bea879fbb033898b936",
+        "2827a5fa227c9874776dea64e0383e2a",
+        0xcc38362e65875c1dL,
+        "e4c79d42e07603d9233bd46a97cdcf9d63ce83b05c2256e7e9185de657ce2e4a158d33038315167b71db5b425017d24c1eefc3d23088884d33555204f080a21a5c9de3124a224798fca978d535557e01ec9c9ca1d889bf3fa184e5556b648927dfaf35ca4529672fb528787b9f158f");
+    builder.add(
+        "62e7cb65d31acf17eeced20bd363d460",
+        "a2d34242ee6c70ca5f067253b9a10865",
+        0xdbb2220ae590f8e3L,
+        "dff37db94fa3e227c13fbe84098ee08d6f5ca380cf3058a8c5e758d5585534b3f81b59f2030bcebc3a6d34428d1743d1236bcae221b5c4197c613b188aa354b6ff5adbfbd4e21e8ff18bb71e915a831dfe8d175ac5d193c9884cc429dab925992fab89d8bc1d6faf3cbdec92d8bc46");
+    builder.add(
+        "b9ba010b5bad0272e40486494d49f83f",
+        "1eadc11719486225eb934f919b510906",
+        0xdbb5105a0ed7959aL,
+        "21e74d0e664624839381edbb3512b2f886d0212dd18725353db99ef0a25dda900289a2af2b75698ca75f00ad6fc71b74486667c709df12bafb8cea7c54ed6f52b30179e032da8441a2fd910ef927d47697991fd246ba967b8c2c7637434c83a12d96c506c5f37a8ec857687e8f1f1c");
+    builder.add(
+        "7550b49e612a8fd77a365085056e1650",
+        "7ac929bfc2b20ac59b5ea071891d05c0",
+        0x360c5aaafa65e6e2L,
+        "7fbb0fb8c1eae359d75afdb9acfc7155a97c16de858e456b6d1e112871cafa9845199865fbc04a17df2c637597b5cfeb2ccd02faff55abb12beee1e9d03589f9f94c52f673486765fa3971ed785a74c8c232ddf28d1f2a6026ce4cceb54ac528bf4c19732388b6de6e92133ace6e45");
+    builder.add(
+        "c7d7c3bb8f3795ca270c79cfbcb382c5",
+        "859b612842cff85797b6f0fdc0871992",
+        0x46782e353ed71f5aL,
+        "60642f577bc04d3ff29165fccf299bb34ac735d0626f251d450b4240137714c3281daedcfc10010fb8f3ebe0a90636b51684492cbf7569aa8f4b1d4f2ee1d93f47090fefb4971da70e1fb45202c5ad7c3d1bdef4c97337d6bfabfa8b8371adececed94e0e99040cb6ae8454b148e60");
+    builder.add(
+        "dd966d5e2deffa2557de266a4af08da9",
+        "f08faffad56c93310ce36bd6438a6675",
+        0x10c79714071d49adL,
+        "befb85bd9daf7b90ac905ff77164b758d771de3ae1d41bd02f4bad997d98cbc99b7a5761a99f1dd7cd55528b463557c92c196cc22fc3f851be1ae9df2a960cff47c095e044b46d0813b5b1c88413fc4fde65b6c205ab4d86a8ac92032170f87c1c845011c0dd2f52b8e09af8edbb87");
+    builder.add(
+        "fbc46dd4309f1a765960a6250d82a800",
+        "d5124beaa6fa3df10026e72f7317ff21",
+        0x4bb6686e366660daL,
+        "9e4a04c504f12760a381b6770b1746edf5b9b75b40467f6978d14e69637ab98a1a5348bf2dd86782f699def37daaa83d5721c3e9c06a176f68af1c1667b2ca2c95cd38fabbcacc9a511cfa8eb5fd1b0910ddac775c06d80d399b69f46eb33b831ff6bad45bf9d177eb04c25d34b8b1");
+    builder.add(
+        "4258be9a1d3d8239e0b86737a89de02d",
+        "fc7db18c69bff75ac36a8af7e15613ee",
+        0x59bd071d5add29ceL,
+        "8d8b880eef94500ce43bb9b7fc6c7855cb670035c3386f2289bc1e1e4a2326f530f0629b8336b64dab9dd8d4d894dcffdced01ee2c39801eb9e4cf5a1d97017ab114333c3b7467912da67e81729b6c2bf31303e4827eea3b054abf7d02bbdc05b56e0ffdc0937b6f7e2d447e61f19c");
+    builder.add(
+        "c11a8e67195bda750e2ef9d25b6dbfc8",
+        "797d256875e42e4d31707009e773a75d",
+        0xfd8fce192d0262acL,
+        "140ea3cae5f152c472b11eee45d7dca10e7b2c5980d1bfb92daae7fae9e54e66958a64b81ea4dfb1a30df1b10b166d1576042f649d978c62b49baa6bbe7761b59b3e41041ba1fef413c9bb640918ce94f8bc97cd0e61a21df25915f01fbf5ef8018bf724576f9aaca2f8f694bfb1ab");
+    builder.add(
+        "98254b6f71fb68538a0c20c61fd8d1ba",
+        "6d3806e1d7a25e3485cfdf101a50bf32",
+        0x47db45f4b7a9829dL,
+        "552d180af713c9f686495e578eccafa7cd98ca646f1da3af07b65a698b351d764f85ad5b19e4a64bbaa1b789fd1a642197f8fd8a408fcd5b2319e40291e2b269c3b137cd807ac8be63fbb677fcc023cdd31ace99d2a66f73ecdc1906ae84168c2adcfc8b4ce52ea0011983f2f4222685");
+    builder.add(
+        "0cfbffe63ab009f01336040117dd6dc6",
+        "e271163da420c078bdf4058c66d1d431",
+        0x3181b73bd17042d3L,
+        "2e245c94385d9a988862a78966f812159e10c0ddb5a150211730715db4235e844ddb0ebe91881819c3c2ecfe04348702aa441ab2669884123da2118024c42534bcc5f2cd919571c12e5b01b0a7df44b2f5d752807e1c689d9076d518cd64de9db79560fe560ed2e178aae0946578014b");
+    builder.add(
+        "4f748914f4a50620da5aff75291c5b4f",
+        "892300826dc2b9cf4baae29eeba0a3ab",
+        0x483b622cf0dbb866L,
+        "a8ec1fa6c1804962ec551701817c8690ac39cc4409a42d0b6d12755c2fb3ce5cdf20024b081e0366e402e85f4216da63940efe26b1d28879d39f908928a9cac416fe25d04e0883b0d98e9cdb54792a38b99f10f8b2b014bf35afb5a571dde84efe998db14f4fcf26a4f13e51201d382f");
+    builder.add(
+        "b2bce27dc07a737b02044a018d29e733",
+        "d4659d6028cc15fed06d71cac61fbe2b",
+        0xda4270f0508a28c9L,
+        "0a512f0fd361ef6357033a2da59999731929a4b214282b9519118aed2e3dfef5f36877b12cb3ba42b8689e7f231305e68c1398fce21a76a37ad62d53a74aedec951597e9eb98aadb97f940cdfda4fd80f6964a1dbcf7153b8efb9ffe540995b10835bfdf3bbbb587d57f4c43cdabdf82");
+    builder.add(
+        "9728c566aaf23b3333bc68f820b86f4f",
+        "475487052067414a589bad6f5fd6244a",
+        0x4182499b3aba3162L,
+        "ff496ec0d8848234dab8ad3cdc509bc08a5b366cc6545bc53d9a4603b34c691386e049992812f01ef36b954217da9bc28173fb65b19ba6e931d069bbdc85bf628bf317a62ff586d509fb956ae5868430c10fcbf89f7d9be06632afbbb4f5bd1a4b9650d3d4257951fc326db156f68209");
+    builder.add(
+        "43de0b1b7d0809e0141aa0bb6ddfce99",
+        "0287775cf9b876f0ca1e411936c2921b",
+        0x4e189910cfa67eeaL,
+        "e2dbba574b237a4f73afed4fff4cab15d7e7256fd98e90198511a283e75835fd6e04287c69034eaabe96afa8cab1d697cc4401a826041324710dbd819d3c8d6fe15712c653264996bdcaafb0aa4cc03b7a199f08220410dc9161d0024ab11fdec883ccb7f990a8dcea901f77f8bbc6c7");
+    builder.add(
+        "b44d53b7b2c4b798a7fd549825814a62",
+        "5e45218820bf902ef6336ead5eb5ed67",
+        0x7a3f2fcd8e990628L,
+        "a99d6a30b64073b76db5fd0a77a5f0b13a5ec87b77622f5ec482bf8bef93474736574c9d50eef881f71c675db9ae16379db9a3d46eeb7cfd94ce3b92bc71709b0adb488d8efcf87c53c3b5c4f62546dbb970f99f2f757c6f42b6af85fe14182f0b4a8b0e15d0524fc17909017e6a5e80");
+    builder.add(
+        "270e0032ab93d249f1eef9cfe06f16ba",
+        "5b640d5562f5395a780da9da8b0b7667",
+        0xc1ca65071a5dd076L,
+        "640400ec930d09344cc9e69715cefa62012f2c980341ba09aabfac75e4932aa60b901e8386494a664a080d032aebdf9309cfa4c964aefdfa8523bd938bcb5c4fdca1f6e1ac3d83f9b73c3249d454ea78e36a04a118bc618cf83c75bb3680ee0b830209be7fe535af1903407d69fbd8e5");
+    builder.add(
+        "66f4337c0b9c8671632582aee81a02fb",
+        "9e978622eaaac708cf4a9c12c2d5e016",
+        0x8e59378c7419daf6L,
+        "5d6e09102d0557252846ef571a60f838e1ba51beeb5131a2b1bec85e74e45da4444ef6efe54e0703318d84e30eded55ff2baeea7256813287ca5240b91418b9092d7b754b737f61c96620ed830afddd1fe76dc8d9ff1e185aa294d88e969631e801c4715c4c5be1fec391c075727f2ec");
+    builder.add(
+        "659f92dd0605daaa8de1516b63f32509",
+        "3a8afcab3232185f00d171e1bd687a04",
+        0x067b45f7e1b9f593L,
+        "f150ea0fc68ab87de05725cbb6ac2cdece9fbab80d8babac0239691faee40ecfb70d632a6bd2718700209559e40b93a99ff9445b93d39d67561a440578939546a7e0db936f4604e8bd9e237944b80953010a5a7b43a87011243612b8accfc4b0974a9c5352864df1e706715e82acf52c");
+    builder.add(
+        "ea4d4017a14c801375f7d7427e1ac090",
+        "717bfa90f9509a888b54eab0c2b96ab6",
+        0x489d08e96bbec786L,
+        "539e5cafefd11ed3f0ffde6871486e6583ab5b56777a69c1399e872dbe6616b7740239ccddf38aa69201b1e3ce5faf8ad20e3056a29535d9ab6f17191e2c19e1963c8e0c202d6ecb68b8cacd9e41bb736a098932e85fb24177f4d07f4548496c1d7410e3ca28fd9bb24f1d2635d32f9be9");
+    builder.add(
+        "a6bd6974e591d743ba2ac41e1a720e6d",
+        "d2c931f2d2a7fffe206a8b7a1566b8cc",
+        0xba9be5b8db2ccdf7L,
+        "0a951f53655993bbb2bf83dacdbd1a9ee62d425b53c2452bbe1d5f06498cc2481da93b22bf4c42bdcc98de47e7bfadb42ee1f4a9083a089ccd60153a9fd5d478dc63dd97799cabd6e679dcc3f591c2b2cb1004761c0695321322877c2b7b19fd381a600e4346649f5397caacbf39aa089a");
+    builder.add(
+        "8c9255de529b9eb28dbe493dffde1393",
+        "01644c6abb13d43b3453aaa37c310aac",
+        0xc7fc2afc42ba0f64L,
+        "5d02976e15f939f4d951dff937d53bb977cd4973d01448d74d8e2bb9cc4ba32d8c14706f57302bb4bf6a7e104ee6c78dadf70506d6701aa40ad461c224d7f00969408fcd366e8d51558a877e457785264bb42b707e2b1476793047bcb048a272ab8fbc9719b9cd3e46685a933ce868cc30");
+    builder.add(
+        "4549e8f718e244b680cca304cd7e8a6c",
+        "b7facc99c90faed9ceee9db6f8e171e1",
+        0xc039e1a179d93892L,
+        "e98536ceaa95c10245f0ec62723d5705e4c913d4afa70e3faf0c45aab792f180bc886f48ab66d6f5bdc4cf431bc20b07e97ac5c8de017814a4b0e29ab1e6cba2638917f6a9c60da82ef52dec5a68ec9f0c43d151922b0516f973d3e2e789b195cbd202e6b867dc5ea384115f2f7e12a6fa");
+    builder.add(
+        "ce6d9cd988ced8c51def05950c48b504",
+        "99a102711d5ef62ab02cff1c9ef77b81",
+        0xe40b570f00aaf685L,
+        "5d8c01b90ba9eb8227f97b211a77b697c1891ec9dc7e091b2024bdd1a12f6a383c19b2aa845d446b259b74256d6da26b99cf0a50d2f299034a43b53aae93569396b4f044883b538f9596b8f3747fc7bc3af52e68aba2f2f2004987f7029510cde97e0b383fd969dd7227dd4c6e034a599c");
+    builder.add(
+        "1077119ba9c10766867308b8d7ea0263",
+        "e6d17a148feb4f0354ead7f14e02265c",
+        0x3b76983b7671f679L,
+        "da7cb091590b492e4712a597879183c5684b703e4f5015f5def43c3844f9cc04c94848dc1b1f91c1f2e50fd6195c0df47a81bab4178227769e9b4cd5a40baf29dc558276f9fe79eb512356a2410d839321fc6dd167551b98bee6867a193e2397fd74d7da3dbf1d30c984ed9464a544495c");
+    builder.add(
+        "468273b22539ace37ebfd41245497e3b",
+        "df5f5c8fc5b545ea1d028f540221a1f3",
+        0x26955f3f0563f185L,
+        "e7d97f96d0f924ea151550372dedad0cdd9c7ee3286acf0347318160a7190cb73cfdc4b1c5ca30f5f117ee387e21cb4cbcafc1c7230f943134921d5f3c8ee05c737b708f7dad28e94816fed3d4aaf58d3b716027afa584e61df90f0a374c4ff8b50e7fe54aa9435089bd710108035da050");
+    builder.add(
+        "da96f438b5fd57f61a75eed08276a1aa",
+        "fef09d9133d8086d020ef877a81a41d9",
+        0xbb7603cdf272b1dbL,
+        "5682bcf8672380d751519784aad4386a2c6f726f5f6ec42c26973b6d596ef6193636c71a3f9ff80dd630db9241b4760f544e3383cae5f0a99a64388810ae98699f47d0ea71f3764264205caab4c0035f3d7470734e1dfa6461c8785b38fd90ac0edc8b16445e3b4906255aa82aacd7157a");
+    builder.add(
+        "c8e3bd82c48ac67a863cdc00d1b9a878",
+        "e14ee7e39277e3ae63d513a2c8a0d826",
+        0x417102e2832a9034L,
+        "fec95272d53b5bc6a53f5cec33097897ecb63411cb6f68f28d7773aed0a51b4a9ac528a8a9a1fd070f50b3448639f61306478491d2760c7fe78254c5b126d5ae22a8b7978503d74e8303ac51b352a92069b1da2be86388406e14165e8b37e10d9c162f2a0aa4057c6de38a44cff6181c70");
+    builder.add(
+        "0f5ee47a7f547d691f6f30466f98845b",
+        "094ab0713e3c067392fd072a211c39b7",
+        0xdc09d7561260c240L,
+        "6b179744d62f9e835f2cab356a715cca89f382831fbd1b33d8a9ef45cd71edb62f904c213280299bcf9a44177c30de4fec3a897b0ed292c5f4545a125fc6480bb4c3bd7c4730a59267527221859c3377bfcdd44e9826fc5adca9be36aed554f00135bed424da048d368b0b80b9e9194229");
+    builder.add(
+        "753b2821410467d76690780a75d3eaff",
+        "e2335fd49a22736120b4f12ce10ecf69",
+        0x3854d90f8138c51bL,
+        "c604481f48843313dfbff47cc6704b997cf7b6252d7a4ea90920d3b5f058c8a80989929d733f53ae5811e1289e1ee330c499f145f460e723ad68da7efcfe4328c1a55d7a15efb743f76acd3ad878a1f199162fd6da7c645ba894861c66ddf0b3e203e480260676b8433e7c36f759b16912c4");
+    builder.add(
+        "fc8046636ba380b17a5a002f2fbe9931",
+        "45cfb5ebfde5b7d6dd12ace0b3d2e0d8",
+        0x97842933fd5c38a0L,
+        "a6bcea6eba80d123720ee2b03502813185b1d27477be60ac00d9e8df8a2cf35e23fa5b35b0b1dc6e5c4b03ba2b574537ae1323066fd9899a370c6542edd026032422912f8c0cae98394891ccf52742f4f7ea5fc5140b29711348acde9a2440040e5f56cf00f029c4b32303fd49c701ac817a");
+    builder.add(
+        "e9a83fa7512b364e14479e7336370a02",
+        "8a13a9db1b0e0e77c4d9facc9bdead61",
+        0x69dbcdbc901128f4L,
+        "6680ac330f334a94a2d7050499e63ecda74148858b133ee11a6bdf39ee4cbf529d39688f50056da751bdc25b7ae9c8764be76a2d205d57a2d9a11c8593af50929f8a363fcd83372d552e3ebfbe16c17233e33945ffd4c6383a3c89e3103957e141a1685d023289c5c8b2dc820e7c92ac9a6a");
+    builder.add(
+        "00c98330dbce6338c6506d5d04ca6aef",
+        "8f26b59c09196aa608a9959fcb34dbbc",
+        0xc8e0c1a98081b3c2L,
+        "52dcf27c1d8bec3feacee9e81917e83fc8153279fcee680d9873f3cb4b2b4d23edd6369b94a3019263f0a9a7b78de5f4e020a6860532792465ea4a2343a75b601c0acb40546ee096b82a246a37653129417b0045a1d00adf36277f22aa2a90c5c591b9cf762a5f40f6da966894fc9f5cfe76");
+    builder.add(
+        "2dd419b37c65e5fba57004b3f8fd7d0a",
+        "93eeed5c1d82d7238ebaa70fbb901f7b",
+        0x016a5e40159770b3L,
+        "a84ef41ad39b91d812c70e39fbd4ef8ec75ec554eb58fa94c985d19231f0b3bbebbaa9d332de90e302b2bdaa8346d1f534d40988847f08657607d1840c165178447c76161d833e25dad44a6d22006b11e2f567f71e501b107424c6eac8667b92d8d192b60b98a7583caf0f769746d018fb64");
+    builder.add(
+        "959ed7f27b0b4ac0d1e2fb36b5bd3c7f",
+        "c14b06110315f485f4334467433cd9e3",
+        0x6046c36fcf5335fdL,
+        "c41c27c3c7385f5d5a00723c534d0bb850b1f3882556df95470f7d601e4b1027c1f7521d8cdf184540c44af946cfe3f6e3804c23d0a46d9612ed51bf007cf0b51de526e3de3a27c8fa77fdee2d6d221c2daf3f35388b2f8a7ef0623cef0f6344e1cc6881006bb40623ca556b7a76f0c981ab");
+    builder.add(
+        "c29c941a0aa4b3fdb4e96e11b5341309",
+        "a96baeb88f5dc664a522416344c6ad01",
+        0x91b3d0a5a4342227L,
+        "4b95e0259d51bf27b6eec6081ac72e0cbd43223c955b6bd3173669671def25c2a06f6771980c178657ac79566f840e03ffd88493bbb6e96c6d7a259165c10bd53a7d63481f3296c88b4fada2e9691151547b6f24f617c5811d899db7bee002b707b588fafa8b31a084fd07ea4a5845485d98");
+    builder.add(
+        "6f41919def4733ab6900f7faad848497",
+        "1b222abc97e12faf81258fa9aa182c8a",
+        0x1659759f70260f47L,
+        "82e310c86f454e6ff97bb0dfbfe773192e1f28343b251cb2273b5c7a024e8b6d42488f44d24e9b0f6bdf11e25f50acfe44d3f72bdb51f49284450aa7421733d761c7dffe02bec47e5d9fac9fe195da80b1d18eecbd788eb53e50ae025dd9ea5b68c670e10b7ac532ae1497d4940f7a20451b");
+    builder.add(
+        "e3e43db5cf3062683a7cbb52dfe1fb4e",
+        "2560e9834bb25fc25f56442c383b6e81",
+        0xca7968803edd6d93L,
+        "ba1632bf1c0eae09902defe6a5d66c6f0a419c295caad3f993ca89355596298a1e4c7479db852ef238f0318917199e07bda7d9ab002995f62b117bf769bfb0ce90aada985099b8285ad75bc4db861e119e476091cb607ffc354c2f5f5fffe87f8a5cb078a187e4b191b5263cb439351916e3");
+    builder.add(
+        "296016a501072d840ccae8c138021c4e",
+        "e624088cf77227aafdf9a6595e7600f9",
+        0xb15e0704bf7fc3ceL,
+        "0a342120f44f6344b0714dd0426de5bacf9bc2b1d24e3c9d4a901e59bc2b941c4b3a15fcbe3587835980375cf02eb34b938d076761f46486928861a76f759d5633397333320ce6cc953f46750db4d0db6f4ff2afd9dbf3e6ae604151c736b680feea1072e18f4c7cdba7f67c27f8430d7bc2");
+    builder.add(
+        "3486f77f4156d87e5b00aeb8285f1995",
+        "d76e26d890a87062e7117c1f29673c3c",
+        0xf1df4f5d4376be2bL,
+        "0de82b5b5589d88e50ec2b052b19b3111131be64ad3d0f7a3db4219e2f4a2f8682619410a353d428eb5ec3eac6bd8cb63a0201e193d92dffaded29de5215a240be25546ef180f6d0fbddfd274f4c8d9401cfdc469aa485b318e5969a54c0d53429ef1e751a4b76b24496ba8156ca0efbbcb4c2");
+    builder.add(
+        "6bbf567d3bdf3bf2fd706207395e0a5b",
+        "2eb458ce6f9caf614ff67766b4517ea6",
+        0x564bb2b47dd852f9L,
+        "292841aeb0a88f25bf1ab4fd124bcd2de993b615459ab9af9d36f08195faeb61bee9d325c25dbfd53a30a1cba3ea99762589e8d916486d23f668537c83a61a9dae1bbacb004084e7698169a1e0aa2eace3e3e54df2662c4eff7625dbc865d2e61a12f069557bd32b416b7d017e834d8466d838");
+    builder.add(
+        "78f4631217838315d8080c4c91015ddd",
+        "6e48a663eb71886e3f230ccd0e4a18fb",
+        0x37f846a354c8d3cdL,
+        "9daf0d9b916b11549f91ae26a2594db172fb3f85be13ea5ce06f7cc25061a2dc2c7da3372af511dc1c692572563db53b5f925759253026873df2f60a28fb5fda64eac130889747b1d676ce02bbc13c5cf50bb1f871dd62738230818c1ab3bce057b7bede30671cb3d6518b3fb63b3bf371897c");
+    builder.add(
+        "4e7ef7748d2519b5479474b31514f11a",
+        "fff7cfe410e6d1baf632ff1d78604d0c",
+        0xffb4be68740b1d37L,
+        "62040a47aab517b73aad5a42e48a00a62915e7dd42c237ed196b3ba370d4223c7694f2a1ef1455a7764cf4e7f971c7def478067ce7229efdecf54639339e299f45c8887db58198cc650a92a4f98646bcbfe5f56d514279d7a7c610e79e11af8ff175f558a3e229617c2b327bbf61bcf4e001bf");
+    builder.add(
+        "f7c5b8714fcae8682f019f5a3f52cad2",
+        "63e9a2086b5ad8bc569e66d9a9d1f411",
+        0x4561d5904e0a1ceaL,
+        "092bbe661e84bbb2a4fb09cec4e034360817f3be7383988fe09718364c091133b33b4d830ec04e359237fa440b01e43ca920b95778682fb2b2eb9395b06fcf0797e135929e4ecf9869411b049bdef0439bfc7a03147a3916693da75f45353bab9380cb72614be28169964a7f8f7cb00a5ac480");
+    builder.add(
+        "5b388107e06eb69acf3cc2f6a8d7f43d",
+        "457da5f72073e9364a8d4907c2920dfd",
+        0x581a3b4cc6560de0L,
+        "58944bca046ccb4c9c06f8cefd8ad44ed2aef6a05ed93ffbe47fb449730f1bc11190308d096e1345219892263268663e4801911664e5b469636c764ed95baca7c426e3e63f68ab10edf0918754863c8e950a67282e4c1a88e50595174548b9c980f523c697ebaa073fc9322017da93a15bd922");
+    builder.add(
+        "5887803ccd5dc442d09b8bd872f7bd13",
+        "5cb35a05c6985854d20394df555399e2",
+        0x9241365f9b538535L,
+        "be695c11bc61c420c81a2591a218d1bf70556a978bb1b252a526ccd6a9045a29f1c824fe120cfaaec6f2955932a877dacf02adecf0d271494b49607dc15c8e3bf329ec35c722a01e60c86af80e0432ba9c1eb1f07df755944e792e4575548aec16de7dc71dbd4b079364d634a14dc2717a643d");
+    builder.add(
+        "b75276d1c8b1e44bcd824f406ed26779",
+        "c2f40bf15e15ba9678e2a08920660f9c",
+        0x11fb048f6f26a73cL,
+        "b613e714037931d510f7fcf3fb52b9245bf0215a290f5d9a1f98668a7251266cc09239987b05a989b75d3a4b602677897824c64e9e6c4365182c87ffddc5973f9a3e7b52b18415b06e0c6d545fac034ae121bfe517c766027ed6ff922e54e9e3f5ad4af9b55ee38b89390c4e2e45d43c516fbf");
+    builder.add(
+        "086cc1ca94ee5bc2a4bb094e9876545a",
+        "63fef2377363049eb5a0a376a54b776e",
+        0x79395937e746ff3cL,
+        "8a3f266a97d0414fedf1831a322222d43fdbaa6c725e5e59ef1567c370b38f5562c7b77146e469cb1f692240c7be652305f7f0e969114ce22fbe3f4c7e098d560f11347db6f4064557aae36fc33223fb6831607292de1c87375ac73b0ff6e350782a6ec3cf68ade1de69f0866d70927acd6f45");
+    builder.add(
+        "488118b3591f36c3413183ffdc2b33ec",
+        "f881d423f5bf2d5595982ac386293974",
+        0x755f9a565ab240c7L,
+        "4252d637e27796b1f3386d50ef663043c6d46ff5a0aa0f22d2eda09b0614bbd4187195d800f07d5785066b4578611ff0df65ca2e1bf71e06b83f46eecf812159fb30e041427ac98beda59262d9862aea54bd352b3ebbb68ffd198ca59ba47d04bd4c63b2f6f563251aa718f3c17cbf1f29a1dc");
+    builder.add(
+        "d8667f9487a33db46015e1e9f55ef57c",
+        "e51111df591961b773d0f67d1aa6b3c8",
+        0xc23d197de3b79bcbL,
+        "d541f5bc9246b819170b7bb5012a5a35cb969a7c96c71d2dbd6c9b688272ee18e78ef06644e6b9fed4685fc740d18e096d79f59324b4ce05257403c7d8f7f22811bae8b7d6037d607d74d59aa8530041bea3b67f468c20d53a30157c3dd1f6e2783338e8db1af4dd1ed10807c00669d977af8f81");
+    builder.add(
+        "d1b4e9c85aa8f890b37f97de44ee46db",
+        "c0a7720a8d6a354ff08dc58f88267528",
+        0x13ce3406a5dccad3L,
+        "3290c36cee03dc32c3f8f435c16c476f44e9b89ffbd23fe4eed053d7a0ff6cf2b3cedf832c90d464558d3615092cad9b0448e2eb7e48b7f2aaab0151dbea72c954e92dba909569d16cf1bf890c6e08e4d1f13d53a241422b36e644ea249117f9cc4e42053e40dc2fc4e91ed12033d61ea5e05cd2");
+    builder.add(
+        "35906eed510c4350192949b9e676377d",
+        "34b059c4999d5986ceba9fd7bdefbc47",
+        0xe9b68e9db29e4766L,
+        "800056156582f74aa0dcb3806a6a3270ff6d374350ffe2da514615a5b5e50322dabe866fd1860afea714e849c6c3fa17c0fd0a62a3f44af7287268dbd88caca035e83ed7219457a12e565b4f2b5e9d9cb930f1e6703967e69a6a61175f1151a4c9111d05dc78fdd7710b01be9982d2ad7e5c0500");
+    builder.add(
+        "14d048087049e5c909d2f1270989b457",
+        "6dca44f115a5fd8b57bccf91b662054d",
+        0x24986c4a434f77e3L,
+        "004c871c884510efa1a6bd4ade95ca923049a4f946d208d74860df24ce259aae31d14b7a25bb71b06a9914df90b0eb3d60f5e7c58889fa58f2fa58e72d9c0d9b3d1961c1f696042214aaefb318998779e28f070754e2e247808a63a6cbe389d67de2354c93e9732e8a6264e9685f6c33900373f8");
+    builder.add(
+        "917cd6ab3f5906a5a31e2f8d900d58cb",
+        "ca202c5d9a97b47941bade4e6dfa43c3",
+        0x826841b4aac6cdd2L,
+        "8f47b421799010af86981273ea88bd99f96dfce687bc3de638cc69baa456a6fd09a16dee3309d01619a2d5cd637a0e0ef3aee0bd15b14213a241944e295d33cb69e4ad9d18b1f3e787dec93bbd68d07c645277d1a9c89fa209fafc4080df93521c24603cadeac6c27513921cdd0a9ef79cf3381c");
+    builder.add(
+        "9aa45766b22aa26510646f5d590f8327",
+        "7e51eec80bf322f66d8cf04a0db85f6f",
+        0xeb2c4ed4aeea8839L,
+        "989a04218e8cd29a564856fd05f5e1cd590603debb77fc13e8709bd16f8718a985a2f53caf3a0efcbc1d5212a505dc5c409b7e426a6838b07cfb2c412ae42a18a9381b6f9d403a19a54691ac5de668817aa8570b829209a53739a18c9ebec34984c9a3786d2a514833680db64ffda6796a3de80f");
+    builder.add(
+        "c65b07d037724bb2987bfe3cae1ad1c3",
+        "d5d5d8fe12125f6578184c8615337c71",
+        0x25656075910bf969L,
+        "cad4e9d4b30ac774dab17f757c161ae98879713a4785aa60a9095ed2d782b1dabc5488d3836787b5a5c0901179c0bc90242cadc376f0c64c4765f674d5e7f252400085253f58fdf4300450a9738828ae11a227ab8fbb4e62b73096a4488ab504f98035695d7c211afb5b8143bed381d557008861");
+    builder.add(
+        "c1e78f5650f78cae17b1ba1fb65c722e",
+        "2bb6544efb84fdb51d543b612ca07b4b",
+        0xfaf8e1a030158a56L,
+        "d725f6b5eb690e91bc7fa719bc1134b524dbbe174f8511326f60746c13649098b4017325f98e0669c0a4d96e6bb093aad14b689b45f29e4b2c8709e958b9d7965e5a584af8e7ae452b4f96614256476b3be3f97c8a625fb5a522df8f53d9594f672ecb00af80513989c8ba9f8a60ed641cc12d27");
+    builder.add(
+        "c0a4edc2fc045ff11c1fdf270e1fddcf",
+        "edc3e328ee7d4cda9bfc1a9f635f2407",
+        0xacc6cf5ec0f367cdL,
+        "85dbd3995e443d7f1fda73318a0ea524ab56e10f3a07a822e38e26841c06627840ed0d74395cb3473c865681ae94c91f08fe45f79ac2255ef439d9ce1dff9024c3c433e3b4cfa2bc3afa8396bb74f510d01f1ab3724113dfaf1bb32a44e9c454ac4b2f503af79d6051febfa699c9f34ad995e142");
+    builder.add(
+        "732aa83a643deb2f0958b352e01eb474",
+        "d2ba4ce66b26cfa64f404834df6be437",
+        0x21ede3a9a89f2b55L,
+        "2aa4acab129f2071dca1932b14e8c11b30278588e92cbf719e3a85a3db6bb0b0dac991b845c66a3c8896af0512938d107ebd57de6c6feb23b321adb44cf2e028324cf436ee78f1e6ec8cd69a69c5a18f866bf1d48523dc4cea7641002bd340c6fc544153f9ed5258ed7222a9b2b0cead2c157a2f");
+    builder.add(
+        "2a76cdec3e57491e13a7cc17be6d0e16",
+        "f8ca3d3df357efd2668ec7babf9c88b9",
+        0x1688861864dc6140L,
+        "6cb36334caa1f9abb13eb48dcada4ac69c195070ee538bb833e1a5a50deec5ebff85c65199b3fb39b6e27a39041bd4febcf922b713e9044890b600b22dd388cf1e7ab85c85a7f1373b3ac08967b6d142210ae36b751ebc327136a3dd43b2e3ab5eb09bc40553eba4a06844d6a6fe8dc316bc5aa8dc");
+    builder.add(
+        "cd019f5d35f0865627c4d51b9f17f36a",
+        "1fb2181d1b716e42e491d3b9db581350",
+        0xb86281d4b1a8420eL,
+        "4dce072cbdcefc469dabaf9e4d622710616cdcf105e492935a4d18957d6d6e1b0ee47577099d72b61c5f7cda9b3532607d2ce91725aa41481d28f1b20029713716bcbe38ef338da56aacfad40ab8fe16d734b389f3f00837084b9aa6340e7c27b7794ac1d49873cc008bfe057288d56a0645f16fcb");
+    builder.add(
+        "b4f9b40516bf3c4fccd2278dec5fa540",
+        "6ac5fdf4d5de0f1177d989ddae417b60",
+        0x8440e2e496e8d94aL,
+        "f95e0d2c5e83c7a313877cbca38fb6fe70deb1a7ebb4444ba01d4420654f31223c6ffa14e120e05198bb27d91180464988d6c2e69dceb8be8a5b836ee0360d3c08b3ab3ddbbc6ef43ce7ddfbf93de8a747cd954f2d44357fbf7a576c3b99495798d4a38f961a6e4e1e65b73f46213a1d41b394b1a5");
+    builder.add(
+        "4d000323643a7801d0ce9392c8c0aee5",
+        "4f1b9f76ad81fbf493efb4598fb2972d",
+        0xb61c54c602652987L,
+        "bfff1c66b414be7b39ac86b43cf3446ec766a5d35b34dc4ca7940ab11347a3f148f577fb35f513d2c1738af3f8dbc3b0a5052eba235f5c7bff39661438918e7f1d1530bab8b5241314fc5b77f368e3f3c98cfadde66bd5e0561afe68f57f0ee5cbf49f73b7af86d0d0f9c11ff2576ff5b94f0c9de6");
+    builder.add(
+        "fc31d286a7312f467a80df93f6f80729",
+        "100f09fa69cfc220466569e12f5e1032",
+        0x9a98112df31cda0eL,
+        "c2ed18a84fe94df1d8fc1cf4bc14ccaad9c0275e8f42bc8118326a4f5fa7fab74785f6f6836ca668e2ca6824f7f25a967a21024f3dd1f46dde9bedfdcabe4ba090fa57ffb8245962699b5b790f38c4d7fbea46af76249c4f69b79d25a678288cfcbdf4e0bd6a0c549a35f6e5e3f0ae9a2ed6e60d19");
+    builder.add(
+        "3f828216fbfd4a0512d913052b63b153",
+        "8088a9ff265e77df3fcbd1180f3bfd76",
+        0x1c8e4bfa341c26f8L,
+        "3a2919c0730ca0e41db5e7bd9a545844151ff143801a2d94fcf9567387dee433c152ae364842a3e6302705c9aaaed1ded309f2b032118d54064d103cb367c572bfc903ea43506b44301d910225710bb24a84eb69542f29d83a3fa41514a4e993144c6da6523a369dba1b20eac1c703252986f22fb7");
+    builder.add(
+        "deca76d59b6121d6732872c88a002993",
+        "17b57dc7ffebd42ec68a8dfc6bbbe9f5",
+        0x0151ff082a6b3025L,
+        "a91e6f2d2dbc0720cc26c59d38771b3ecbc48475f77ae242f956234eac9031186907839d1f358298152691effeac114458129fd5526151bff9899874eb8c7462eb6537e8da0ff063113c2af8e3989a39145b543c6dc4bbd8eaf3fa634d2de0a2afebb9b3a31108ebe9076b420153ddc594e2147a18");
+    builder.add(
+        "05ff605ac5a18b0b4d175d3ea10ec9f3",
+        "80074a167bc30c7247bdfd9e4f7679c1",
+        0xaff00d59a85e75acL,
+        "981b5c4bc6ae9964b437200ab386f8d532e71d60d9cfb982cc5a6f0f3d7518145a27b13e41446fff8c147d24b5fb23a0dc7e7ee5fe64321a2131e2521bc8fbf737f0c35318f622234ea234d8c918d1da5a920afb4cbf4b1523a3bf648cecbc3a6833eeb9549868969280245e0166b808347ea0a83a");
+    builder.add(
+        "642de7b33c2fbdee358afd1e46eae77e",
+        "11f7b01315fd5d7319dc8033d2d1ba4e",
+        0x04f2e518f1934496L,
+        "115b1f5303f3fbc17c5f0527604560d49bff13c387e184c41645958342f33a784564771c6243e185a9dfb0e38b74a796a7ab09d14be1deb990afd590a7e157c27ee74a8c1d43d4bc8de6a6655d2c7ca1e463fdd67a4b29bc9b1ca5f425588a5ee2cd96910a31fa29cdec33db0bb63e5af8eed89276");
+    builder.add(
+        "d7ebf99974ee9f29542885e9ca157574",
+        "d1988abd72108a17bb627011eaa72504",
+        0x0a5b91cf9008cd3cL,
+        "977bb87a3e1509f3ded96b4a85548976572c2a50f567e3a888853c3e63c30c70077086ca06e3ca86039b34a7b9eef902f8de95e7464772485f8c4c4e68195f9b3dafa5293be61d2bde8da1e2c7e85b895bfcb88825cc68f43c0463c3acd6a905e4100c3a595d6404b9f70e5b46b8cda4c169daa9c7");
+    builder.add(
+        "7edcb7638a5454a2acea3418eca9f709",
+        "2cb8ca5c9216c58b5246e2f1bfd0f921",
+        0x0a63ba3816a0b3a8L,
+        "ae2dbd61e97a6296ee80559815c3e581441732fa1edc01164ae4c49819865a4ed510459095ff8db0c9ceb3fff49dd64df94f5945b664ef73846c74fe8a3271ad66edc2e69db7738f4bc31468cccd1dfb061d44cf7d740265e912b6db82ae00bce8c46ca615d4c753f5c97c3995d3151d6ec324253414");
+    builder.add(
+        "f41ac02f9a7193c20864cd390b369ffc",
+        "2ef7232b6f9070fa61761d52cab60938",
+        0x855ea20059ff8db3L,
+        "67653cc449a889013eac559f66dc07015f03d0c4837e136b9801884e7cc00ce417401a4097f5e03235fd98f0280baa3c34f1aa060153a328bc9e8f41025c3504306a9779030475799982d97dc936a4d54478a86dbacda877e5b8b19faa12a926f2466d1e3a143def74449e895a9aa704e79bc2ec1ad4");
+    builder.add(
+        "b204b5a0c3551a488b1dc893a63fc5f9",
+        "2b15d51accb7e83c34fcf13ef02fed51",
+        0x2c643aea7dde80c0L,
+        "ebe0b39bed9408c24cd784f23b38f6ac728e83011a7da0b3021a1e0b0f570b23d6bc734ad238e6a8134ac325789ddd3fb28d811d71e76d6ebd1213f2d2fb748c170e21a209d2e620d374f72641d1eea58bd3c80a41ba67e398181fad944b0fe6051035a69e2008fdb309e23d2a8f1b9f863357287fd4");
+    builder.add(
+        "7700b90669e344b2eb669ac91cf130c9",
+        "fcc7719ad398141bfbd4e51b3bab47bc",
+        0xb146b052669ea81bL,
+        "71a1947ce0b232a5ac901153d8e7471ed995ff26eccbe9f0dd5d1a58360ed9a5545a5353ab6917f077cd8933fe2e75fce0e61bfeae437c77c4b28ba771efe81b064d3b686eedbe7c819bdd800da58cfb78318dbd0936f822d480ff3df7bf9893cfabef4677d34c25b33b06aa951f5eccdc09b7c5b4e5");
+    builder.add(
+        "a67fb5c720152b0a0b1e798487e6194c",
+        "1dc9cde4fc396a92e83e10f2c072507a",
+        0xb3ff0994febd4bb0L,
+        "c9bb5f146cc87b7d1425a2f32c06f31136b8a3c88540af04e38eedd86642efd4063788d4414854e4e4bfb91eb43116e1bcaab5ae2dad70c11acfe3de9bc2ec86e8341cbc6a8c562c255e900bf146651a0404516dbbc41414d839f80b518ee82bf1bf23c8fc963dda619d68b1d905cb6c2fbc5c33f2d2");
+    builder.add(
+        "f0bb8c56a672c2163903fb0b5b88300e",
+        "afa6f7b73e7b83cdfb0e665e9f7d8ea9",
+        0x7c3da8725bd59287L,
+        "05aef40f5af177a25b786792078a231b4024e77e2e94199fad079707c64e5837a47315d148dc58e64e376a7cc9a2844c6e27e6a405cc3f979ce6c596318a2cb053386e2dbbd9e51d60a7e4ab65aa26f152e2a73c88ae281f8fc982ef8363d38c08b22cc1d2ec812db7c9197e1926173dd69a65fdf45c");
+    builder.add(
+        "ecd9c69603c4a68abdebdc7f864b743b",
+        "fe411ed1dfd019699bce1121897e5ad4",
+        0x8d8c0a5e65ddf89cL,
+        "77e47da3576dce58c404a313ac5bcb01beecb6c50b09adb9a12bcd7d2e76606b6b89a16e74c97907f2e9088336b886ad5cb53aed0654c84047618262e0ec5fdbd43c1d3b4402bbb8832be7a0ce7e7ee6a4099a19e86bef3d75d7a351e7d17614ab8565d73e12fdcacd27ef557e473efa302e09250302");
+    builder.add(
+        "a376b8e90ebdf0754360678a90f7c4cd",
+        "81418f843897cd371ebc58e2bd0eb840",
+        0x3198132b3d903655L,
+        "300194249018d0bd16909afe68abe94ced89d1f3b66c4bca38f77984ad1c28ce9c5f516d68c9e0409a9a09f6b3886618fff9b1586483009a221b1683feb3683fa371e27ef90434c69fda634144b31c4f20e7c182684faa981e81ba31f947e681cf9405dc4df839157e6d853f1fe559d553ac0dd331d4");
+    builder.add(
+        "9933b6a07016715d4cbcb610cc7faa87",
+        "629be769e76115d75f20f1554f46c6fe",
+        0x159312419846c086L,
+        "98f0edc833d2a1fc2be679f8c2ac56009ab5673bd82c1ba3aa9bea80364d30f752559ff9db9135fce200730d931b2a1b40038ecfaf371b191161ee9839bda250818ee1ce7e162283190c03eea94c9c3ce216401f340622647b9108766ab6728034974132e12b09a70852dc5b2ffd631c95153da9be6b");
+    builder.add(
+        "4f64b567913b779e46022f4201caa24d",
+        "6874490280b3eb3498263ce30c7c15e9",
+        0x10b363e24a321eddL,
+        "cda686233fa3f6c0f64316fdf557dc11befffc9fc83d5a968076109bb429cc83406385d45189c579dbd9d41a11bd41fe5daee98c1ed2f227437ef043062b78e5d50e8933c93c9cfa89e951220187e87b2311a72852cd0f23dd31d6dcaacc35c6759f8260ce025a9c089dbc7209f77de88ff64156656d");
+    builder.add(
+        "b5b03844d99f13e13f665f13955aef1b",
+        "43fcd7a3f6452476f1e7b5d5ee268b79",
+        0x8b13c59400d860daL,
+        "14c02d878a56368d58c43b2e4d87e002462244d19c6fab5dbbde0614413b4825fb65e0d2bdc52677a883f5bcaeddbc44198e6c2aae7b31ddb34291e59a0e1ed614a0e2a587680c3b76a07e95719dba7ced61d1adf9269c0635b08f2baac863af74f7ce15591e83dd2edb55ce1e7eded8a937d699f876ef");
+    builder.add(
+        "6c66d410e370ca9e79db6ad0514aa382",
+        "ede74bfa5469e47600423ae2b5012293",
+        0x18e8da4e73b792e8L,
+        "079eba59fc0c8a2df411f057c364a19d1285321b22c634b9c2fe52e8e3e2e930d5c21a3c1c7b20fb9a741b189449957bea87313c0f239bd3f641edc89fe84c3ab8344023d015064cd92556cf85bbdb5b3cda094700e0e13e661853bdd50bb271130a382c41452605752eaa4da55cfadafe9ad897443be6");
+    builder.add(
+        "b3352578d2ba0573b9fcf4a7aebcd3b8",
+        "5b3e4485a561d222171163a25d2fab61",
+        0xb4deab66e3c65fd8L,
+        "a977370964b912b1bfb0e184a1a2c1ca37e6abbb6f0e8c5b7db1299dd4192dabb0609c705b8f79f4fe84c64627bccc499cb6dd88557d52f94664485aa844e6277e9d1a340b769dae5634016b78ef25384c6cbce50946b0ef05674f2e804ee93c249518339856f302da269003004f44e2af37c9f1d347dd");
+    builder.add(
+        "97471d184e7fdc11bd2a367d22169b7f",
+        "2891cbb63f1d5edc6d92b386289963fc",
+        0x9847ffe460fa9f56L,
+        "d8ad4e7d6e69a26a671a19bcb2ab2aae7139e18fcc94ddb89b6c2396fc6af8a9c91fb27b82638fe32ef5d8c6297d03129d09bb4b5179478d9a76556e41a5a0639347555dc4c6209519c7f708ae5f1e5e7a06198003159b65236f06492b24a733f89767c4ead36379499630f2cde473c9b4584dd8844c07");
+    builder.add(
+        "2eb60168e5b42c1c7f5b9d03a5eec74f",
+        "92a72927c00ab543d98e85deec915949",
+        0x93954aeb03bd6270L,
+        "6bd7fc1d1287734289633ebe0c8ecc595af5fc53726622f47104def40f7c1279887c9cd3a571ac1fc52374a104e83e6a7214ac9b71c3275a698129a8a18f1f80616dd6be67b581fe4604b2bff6c4ceea6d9da3f9af2ec69346a1fe1d6e24a7630cdcd49ed534b65fdb9fc9162979c0a576b66f3f46967a");
+    builder.add(
+        "728867eab20c7b82ae944301bbd7c9f6",
+        "53c866256b098ad5e90851b88ab27e6f",
+        0x384f3e8017acd3f8L,
+        "535576bab42d75e1cbeba409d44a4583b699c5457181692bf78074f995f4f24e48b27e9ea9590a326d4cd4356c80f92ab938dee4b71ec926aeaed91ab3dc7caf75844684bc366430738e84cfb41bba209966ef03a2084f3f48cdb2384128a780660d55cff92f107cec10972cfe21820ac2b73c396f3bcd");
+    builder.add(
+        "187e6ed5c42a9dbbd331c146945a0f28",
+        "8125cc75459281f28ccbc1ac6dff5cd2",
+        0x72765c9a97638818L,
+        "a7e00baf3f79f190f040181eeba8e5e09f8a891a44e29db8c1ab50d1d56369635479495a71d0eca416d20146cd89a617df771360e03f234cf8beb0e72115b68e9f35c5344b49a51e4e7e5c0dbee94330e5c14a983716d1798a3667759ed439680080290a47f41b30861868d69dbf66697764417ba144c8");
+    builder.add(
+        "e032391c74863a78679676f513aae34d",
+        "e3c6f188211bb04e8ca7ac7ca52b2da1",
+        0x42f15aa42bcd52b4L,
+        "a2fa7bd103152c0953195e367bdbade6da713b65154c35fa12abb0d8b11f4c1d148d36f326a505c5a5676f7b18b5d5ea154e8c940c5a6e2a327dc8540e706db1313680a43ac568666abeca8247e2a6bd6955067e97eb153709c50942748d0b291f8654ed8cc4d771712920007f3b25a5d39edf47d87981");
+    builder.add(
+        "cbd1051259965ba4c4bebc5573170cf7",
+        "35c97bd532070a552682a8e8da58d89c",
+        0xf3b9a1dd5e3e5188L,
+        "930098172bc2ae2e690567c7ded9586ed5f9344e3f89dfbd0fd9f69a32d29d8c58684be38b7da4468b523aead77ea93ef5e69510a0538077b3bcfc82b1ecb3619538982485820473370fab5717e04ec2c163ee322e405a4341402f4c66048101b9186b4865422314de9c1a28374a7049ebb6426c272c78");
+    builder.add(
+        "ad31b4cadf17b49547a1a7cdfb95801e",
+        "c681a1be70226503dd141da0796735f7",
+        0x4d7c8ea83288e61cL,
+        "283c0c7848315f5f15e8e6446517f67bbf7a8fbe6f089a99d3a271e421197316110d8979d543d11f3bf7c2ec9012f07f221ef7177834f5b44bc7ffa7aa04cc9fe10c78d9f4f13a2a4216a537cdfc9ab1dbcda3280813b028f3798eeb0cc919316b5b9bfd5012a24806df8ee0dcd3f3e94d225f39af9c16");
+    builder.add(
+        "6e3e7755c0c9f011320b55e12868b635",
+        "db268e3ac87bb6a7066df8e29c8c3d93",
+        0xcbf634f34e28db1cL,
+        "095ffb0eb3298d67f88015385f914d944cef3017025ecd48023fd349894337f8eaf22368d495e01520f5d661b3835a43951d70cfbd5b80b4a5e92e7b994f8cadb91f5d7a26a2548a8634d8713a8bb70338952e0fd4f20718eb78e4562b49f9debf1fe870132fe599b056d4b41c1dc4fe8184502641365ab8");
+    builder.add(
+        "bbeb3401e81ae635f08593aeef9ad317",
+        "c1a93696b585a49488f0e99d4d1523cb",
+        0x1ac82aac7c0070d9L,
+        "00a1f9b8af0deb5361698f103adb115d415c1262ae83318c0a5e5037bd077309697fecafd78e70bda5d037b0ba58095aaff20980d6d9ea1482a7de73e134b850c69847eb9a0b0d32cebc49dc50bb5ec78e5a22e72d622c39a7dcb2c3491a5abda8b0f25b64daf048f170d82f8fa45c2618aac1749e9d19a5");
+    builder.add(
+        "5405ff8f1dd942b3f13660b39f675827",
+        "a0f92605eab6255e2d7820714d7cae04",
+        0x1c24079edb35e82dL,
+        "1fce93e119a0a0be5f2e1f4c73b06ad251407f9bde49b4da9a6d7aa431e0bd8fdaafeb38147866fb6edfe9d43d4f9900c4606639cd836286f47dbc90848068a807fb03c4ff873748715cab8ccd073921d50e9ca06cb83194863c8c872b5a319a24b907284dcb8aec7cb95e04bcd3eb032ff98b6af010a6c5");
+    builder.add(
+        "e3adfbab4191a670defdf74d34c5b3b6",
+        "0d487653926b257970c213986645d31c",
+        0x09f151b5948d05a6L,
+        "bf7ecc29db0d7f6229105eeb03f996293177149bc4938c679f9f9e59ff26df176ce09fe0baf54d7db0bddddb84057b5315188117680b61ee77475b6d610020e50c77aed96616e9ab7ac1b1f7276f0f1dfcbd652c3dc7672f80646def5cecbf0b0a90b903914f72a32358483c16009239d6ee19d4c8c55c38");
+    builder.add(
+        "4c3a30ecfc212d3a44e3f247ea8bff0e",
+        "63edca209a9cf3129198caa6f88a3f9e",
+        0x5a9afcf7b752738dL,
+        "c57b102981e70f8a327f71b5571e8b56c9b84bce4aa94e3b83c45bdfa2f44ffbf78d10a41a665285f9df971a91dd1617cc2c45baa3a30655832244f7e570b41baa68f1739fc6a86c1e280a197f09a5092b59ac295c4c30c3a1681cd69b45ef50dc7984be827763212fabb95fa19248219763ec50e19f86d1");
+    builder.add(
+        "c4298865496e18d62e928267513993ed",
+        "0ebb2f01464ee7398af9a1d4d4d7232c",
+        0x2f6c35af61d9bd57L,
+        "615115a53ee8e2fc2a5d0c3286dafea3b82466acd6afec0700da3fe83c9b5d6be402a61d8f056f36c61f82369c4b30f16d0b47d81faeeb03e55264af63f3be70cc4a6b9da12caf1a7549e7b14489ddb0f9121afbe637a3a45d1ef9ca3fa0e47f0260236a08a3da30f3a419ee93895382e0651f71192c5fb9");
+    builder.add(
+        "cd86a19baed4754a14b9ed0f46485ea9",
+        "0cbc1756e974b20403e751e59fa9cb73",
+        0xa3bb67305d9c1869L,
+        "273fb4b7d87b43876da879fb5e8a2df54d1e7b3b1ad9433a142fc0235878967b0e2757a3ce51cfba471c143584a0768a3111b830581e51cface4bfe436de8b32102067210432226b90c610a96d4c3d816eb6d4249ce70156bfa05c1b0835030c8e3bc9c41ae62d8881dae618a0b9f41587cc961f1a039a1f");
+    builder.add(
+        "80eccb79c88303f2872a32d63260c125",
+        "152ecf7c3f4f649277e30c059818caa0",
+        0xb4fd54f9db6a3e45L,
+        "0a72fc96485eacd064e02ea146d48fdbe96ac7b084bf64bba534330963678f22b0275018028d094ac5fada53686762fe5370dff82947ef0abfb1808301c2afcc11d2c35f106996e5f014326b732a6fa7cd6d702070d63a8e95a8e2e867baefc800a23cd80a3de1feba4cdf75d0506fa997f2c29a44602cce");
+    builder.add(
+        "a341e9463c65d827e78b86d37fc0bad6",
+        "dd6cb411efd98b3d1fa0f61b11124fde",
+        0xf2f74fc0a5467f26L,
+        "c0a8fa322e25d3c9949cf1fc3ee923948a936a6cce8010055cfe4ffffc151c6c8fa6c653479077cf1a6510252d5b1721fd4e269de43a7318248f25326253ecf7f04f28da9196fe3934ff0284063bb4d716a08fca02a0ed7e1217f541830a2cfc0df6f1ae2b224516c138188b00b42efda3e4602c27e59bc0");
+    builder.add(
+        "9195c8b7c5d7140e395854dbdc81c831",
+        "6dcc27c5e828ee3c06a100fd736c9f0e",
+        0x0cea4e313afe5292L,
+        "1b80e2a8038299d2fd9bd21bd1093a0e88753bb303ad6186ff48087b764b0e6aea2c5f97fd2ba5b4e12c712e70ea4976ee9a1384300e5b60f47bb5377414adc7c6477ea476edaa4cedde37e36c23cb93c561237cd13f7383c1619bd5af1a8ff51ca1f5880808cc49f03de254d7776603439c662804f45826");
+    builder.add(
+        "17899403910cb88b3d2a35a47cba1961",
+        "44523171bafe86daf395ff8e2e00d969",
+        0xeefed5bc955ac62cL,
+        "3a3ed463a20ae822787f9a7ceea96ebe39663bfb911fc1f47150acc94be605ca329018b18f5e0284bfe2a4ee58b29d1bdfec97882833df14c74d0575aaa7fa88d295e8effcbc1d6863c2d9f62e7a8e95182dde0263651c1d6eef1a13ba10c4ee437ebef6f4f1f94d6965375f54866a02020045498ba0a2a416");
+    builder.add(
+        "12f4d9c2f2a84c9d6a8f8c1273bf54e4",
+        "9996d59860f8cb2e2a0de67d9fb3c900",
+        0x7e4fedbe352c8a40L,
+        "b64547accb5ba0eb96c8f5e71081bce498980c3feb5695e7f975908f6ca84be4781d1f43b9c30b02af7d662243cd2bc4f08a2f0ef930d6c704e9774b1dd1d68ecbf494bc954694b25e7a049621ef6bdfd2456001935b086588f9f17e7aae55b9e4006313e024638d13f2d40d15f3351b28ff9166ee0dae67b0");
+    builder.add(
+        "fe41ca791c39c9ff02fb25766588a033",
+        "a64b56d5bc939182a8e7d8b8bd74cfd2",
+        0x8d5085416f84d7c4L,
+        "3daedda4cf827cae6cf46b6651e87fac61c28f3ac0bc28d69630272c51ad0cdee112e32728b7ed977ce12064ffca4114ec56e93f0841b4a600e9cf2f6998c0c5d31c7b39648ac9b8f78b05b7b1b6ad97d81232da6f5a350720d4129c00246dee43cbd025210fa7bf1be0ab159791df14b82d2f260bae7bb7f4");
+    builder.add(
+        "a76d1863c899c736da375fd86241b402",
+        "cf2c00e7c29e9e3aa39d6096a2553b66",
+        0xd1f478f7c00213fcL,
+        "9fad8cef4ff786cbdd63587f933d20b15efc370717ab695e08b4e7c316b1d2d551bf27437aab1ab9a0b8739139694b9237a227b307fccb4c35c0d44ad3bd559bc8fd0f70b603abe86c61470acc992edfabb54d31d5c28097e484191e47c9133cbaa97a72e621ecb5aa05718a4ae3573de4f9e19c39b4fcb246");
+    builder.add(
+        "a937b6dd9665d68aae67bbbad7be57b0",
+        "77a36b1375270459e0354d2e1b72c3a7",
+        0xd5e71efb87596e2aL,
+        "28fe64488eb4fc37e05c53505df18557d81f68fbf5a27eea2a003df0066dca4b578ba2266cd3cedd491637022fb610dfa1b14cd6249fb4911070b497a997aef3d1d2ea493240b2877555d7112cdbcecac782e31042bf9feedaeb80dd44e27ef20158c8f4e97fbc0d374dffdb616ef500b1879e6ccdfb619c3e");
+    builder.add(
+        "c83d5503e22b479b4bf186c795528b72",
+        "fcbb73cbb68810eeff88eb809264373c",
+        0xf3bd941c6b12e449L,
+        "e687a90133e5a368f3038157f12e855e52f7d6956fd5a7bd205f2e1d5739f43bdbb8170009e4c7b958ffc904cac51785325fa24c911d459ee2830da6ad34f91b403c51d26e7efba4a04ad7c492d1c9a93ffca973d1ba5b499d673a43029e2c63bdd7c52241f97a77579e22b75636027470dbfa2620ea057044");
+    builder.add(
+        "a657589f7625c110bcd8a7131dc45795",
+        "3d66438e5cff1c9043ad6761bfeca4a4",
+        0x1dd2f7853e76bb4bL,
+        "26eb946d9a8a9dfa5a98ccc99c646d4b7f1e30bb10b5ae43cf2a52b49b4b88ddac7535bf358962b9bb62f3512d2b9f075d7f56c0dfe7f73ca3c4bf5b25114484bf246d7cf4caedb7b91ddd46fa9dbdbd5c69bb6f1b7c96b62578aa4de87b3c37e18f35746bd73b484f7cc8898d74d04dec4c6ef0e813f55a0d");
+    builder.add(
+        "bb72241db49b2b593284c46da47071b4",
+        "6c49b21d12d674fbc1d65f6459f8706c",
+        0x9f50b7713afad7f3L,
+        "d1ecca9d0e9c610be14349fc8217ed25f82dd30a91c25febaa8af79baf39aab3d0149f191fb2fb4b3c8e368e081eb06bc100f3f3dfc3451ae0ac2c034ece57f20693841dbde469f098a6c9e72deeb26ed1020ec07b1b2e7192761b00be95e60cb800aff7ad01217edb127960911767c7210aea65c2066bdbc1");
+    builder.add(
+        "07adbbdece60420a0965b9497574f441",
+        "3066e1d03d809743acbfcafa523ff2d1",
+        0x15d0d547b40cfc61L,
+        "ba4312b07ec17671647cf7e0c9c2c5e504b267b7abe6197b9ae74dfbea01fdcb746641f342556390d1e7770a23fa3e11852a69043f9bc79844423a9761faae3136af78e8b07e3e43229d53e9bd51d66780739867be9043e6169859222593ea26824b0c0ab7a20caabdda791cd2a2eea283af3b1a44286f4cbd");
+    builder.add(
+        "89273f04bf5a92f7bcfcd7d014f53075",
+        "01eee374dbd9387f50663fcc09ddc66a",
+        0xe5cc4efd882267a2L,
+        "b5edb6f5af8fce827413d6d336dc358bc0466e31854bb20f1cef46c240dbdfd7b61c0414ad4a857c7320e3c243ab7d284f36368608f6fc4343a3fa5a2a82fa6e662cf4b4017e680eb7c8ab5a932fba76464c9fb51694844cfb3945274927a85dfdedcc3fdb5375aef78c41190703e21f64b6b7ca6593c578b2");
+    builder.add(
+        "d265fed421ca2878d46cf980e21e74e6",
+        "be791ba8dce60c4247f3334985d7aa4b",
+        0x3e074b8c91169f2aL,
+        "dc4075c70bfd58cec28786fb251507fab7325f8432d3ae2432ceed2ea7179ad1ccb2c8ede71443276740fa5e3665b5f891178001b9fa67baf2904b963715d4a309a52560959d46eb720fbf246073b0d060928695cabfc8f3fe2ed291a6e60155ed415e00de5f6aeba0d5d9374cb2b35914982504220781c7d2b9");
+    builder.add(
+        "b68906ff4ef343099fb73da2b43b0f8b",
+        "961ee18097bfa19978910f07c0349cbd",
+        0x342633bdb11ca019L,
+        "680f4b2f41ba595b5ecfc44a401b72ee3be7c0930c93a0f36e0326afea672075a8f17f8ccb43411c398c75d3ee055e157b0cd6b4080c1a1f62439898eb4dee046c467a0032fd961b96afad874a7a80eeeb89fd2f5795e5a421739c3d3cd5b3585c4e6c9ea121910489f333a94c8d00bdbd593270aed2b3f8ed89");
+    builder.add(
+        "6e5bd8c860becbb061a0bdfcaee0e13d",
+        "292561762c4fd42846bcd62d36d8d925",
+        0xbeda0f96029431f7L,
+        "73def92f8fd89c666aae072737e33678cf0c4ee6c2da04fefcc335de3c15ad30deee83318822d706a63b4323685e3922f34e0ee1e4622da4371bee022a8b0b19836a620a8254f3c4751131cda33665d650c3a3feb670a0eaedfc2a945a1fb8df19ac6e536efccfde83239028e69bbeae3d75dd8f4983b547537f");
+    builder.add(
+        "706267f977b4d7501f14ee88c211d241",
+        "5522d2c4adf0f6414b5c3a565a1c1f31",
+        0xa89ea6b7a87ae2ccL,
+        "ae61d81a9364a366b6b703dac1b2dd1cca130551f8e267f49fcf2540e381d6ee7a9d716a8cfb6a6926891454415693341c9390f87c4e6cdf7f76f93633e8e4b0cb0e3d3b418ec0b6813f4919050ca2a4aa451af5fc13e3c04848f613a5931e6e6fe95ef5c9f4ce4fd25f56ac5d70c6b916ebad2c5ec07a701bb1");
+    builder.add(
+        "ba6f4f939d11e8b00973e97f0df28bc0",
+        "b67b6ec6f5c25885daa9034538e2cd4c",
+        0x45feacdfd1d3198eL,
+        "bb777d02dcfe5365d03d59ef147f80342d6438b6c24830203e251f616a8b0e5879288a9c7c5680c41a55f5cd271139ff77a3cba7bc28c7204ab12ce3ede1c74348c5ed985adf2890bcc82d6b6b1cbb252a842ded19fcf6e0df7c187efd887ea65ad00177958c2f14dc280c4fbda698072260dd0d70efe60b8906");
+    builder.add(
+        "f22c8c6db13e4889f9bf8004f38e33d9",
+        "ff91d0840f3ac4418da374d57bec779a",
+        0x3a125e559e34772bL,
+        "f7c87a404fa08b424f174cda495ec7b9b2cd0c7a33d22e8823fb7ec3e8a85a553f56f99398f6c1d3c6fe46285101394213ddd72d4d95526fd11dea128238c56d86b6c93ee498c176acc955653690f59a287325d64ebfee0eb0a2027ac009a8821c763ca22038c1ceb52041ac774e52cc9c53caca9156a323b120");
+    builder.add(
+        "ae46fbeddedec4ae06b605e6876aacb6",
+        "1bfedd0e797918801d5834515b1f48a7",
+        0xa04872a06249817cL,
+        "12eaab72d3227ea20abe676d67731720b38bd06b30f060951d6fbc491a9330b2be2a8d5b1e967160bc247af48eae7c5bdfb342b393666e1b293d13efb89f53b4757240c5ed2b71ed132ea0f8e3176b13c15837ac1a0ae28cd8dc0b22c841aee9586046f568d975aa4a7ecabb413deec633d88a98cc6dc89c9745");
+    builder.add(
+        "4de32f0ca2668ee94c564b8b19f097ea",
+        "a6995dd96027a44d2b1df4ae1e36372b",
+        0x88ae02e2746a78b6L,
+        "dbcd3d00743352326b21798c0fdd61a775f722bef9aac1831b8ed3e6550b11bfaee3d0a34abf6c2177bbf9b3c05e4d8bed8346497698d027856ba765d6e357f8b5e7f6ef91e273ff4e4ac7926e638d7813185ef9e2c2f66784e1df06ca2c79308c404094eaa1ce1a90ab3f2c6705b7bd497eec82f8dfe285f38d");
+    builder.add(
+        "e6e16fbee18522a707ddb6d8b8529021",
+        "1176b0ebcfcaeb90356c66712abbe4e2",
+        0xe828a86e80c7f090L,
+        "c77d6a493826f338b1638817851f79a0dcdb95753f070313cdd3670b418f193bc4ad694cb9be24e45b1634181f2b2f7a6f9b9ce91b15433e84b04ac1a6dc2bbbc36c274110f8f54d97dacf336c1b5d548a43a0d4e5cdd358a99290875c3954e3bcff3e3e0f14da9c835a015af3daa7626006b7e38c3109063067");
+    builder.add(
+        "1f940508dace3d2ea20b658e3e258d61",
+        "3346ae82352579dd4b89f73ef02218e4",
+        0xb1fd1c739b738c66L,
+        "afdc6bb5a8bc23728688b5a0ffdc660c69a40197d2284e4f9edd2ce1725d8f265036769e895be9fc0fa5610263a81daec18a80caeb0e9b09b3e821f7b619f4db69913500a7c3e4a0ebda28eee3b53722e0b44ccead13de9155519109f80b659a9b617e0157e7c51e501083cd02aff048fae9f647be4b10818b67");
+    builder.add(
+        "6387b101e4614a8b2d9ea1e029d00420",
+        "62c4ad99e7e97743d2e3e2880297aa49",
+        0x1a61b3c8e27e64d6L,
+        "d8aaaee9384cab7e41c4b11ce3d48d4e66015bed5af7c041ab9a903622c82be71c085bbdb394f94f60633affec5522c41efdc47ba325e12fd144799ad53c4d4a6d3ae29df4089d746611e75acc38f4393bfde36977759206d9f2eb57394f31b52e641bbcf3cb4c194ffb63607ecb0f5eee7e7cac8e6f5b533b3c40");
+    builder.add(
+        "37eb4cb63e9890178aeeb020336a19b1",
+        "544c04bda2ed1113dbe035e1be469f02",
+        0xdd613cf4fd148a4dL,
+        "9599339063f9a36a50d49df6156a54a4921fde2f571ce1d1242926e283ca87483c88503caadee3e6ace3b8eb0703ea88de935a4651a789caf721e7a7cec11efb6aa6ca48f5747b865e0efdac276c90fe0a9c6b8e5a2b5ca61f4a505271c4c23f7a629c2da10e52605915b57411084a102f57b3d57a1246d50a6f80");
+    builder.add(
+        "ebcf7bc935278b3748477aedba144627",
+        "bf0ed602545e6ed1b97006b8d72e921f",
+        0x06296a13a0ca7e87L,
+        "5f8a62d7de3528260d22e847c2af4b77ce3a1117caacf7661c86aa5ef1769d73149e4a4c42420ee4773bbd91493872c446f3c30ee9ac478d6c2b55b690a0e163d7f4a3d58e5d275d4c0fd2ae33524a2c09200b350bd57901d3b44b747e082a0cc44a7c921d8421d33176cdcad5d3f9ca533949fabcc0aee08fd68b");
+    builder.add(
+        "c0623c876991f89b9661a2f79c3e6d5c",
+        "36126505c2928445f57abd07f6fd4173",
+        0x84d57f506a2617a6L,
+        "8ffaf76e5a9e16dbfb1f49e95f89016191de96cd3d860d25740cf98274ef708c0251969937091f522eabffd1be5bbb4c990f0b182b3da6ac98309859d624d3018a9383ae5fdd03e48c339f1a85f347283089573cd0100e9d54346adb0450c1135926b02b3d6d809f0727937d3e5e0d884e3fdddf0b73d12b53236e");
+    builder.add(
+        "288070dd04d47e74bab3f5cf8ad248df",
+        "7463aeeef8c04e5cfdfaca5eb8ab2935",
+        0x8e423639a8adae3eL,
+        "2366f2059e171b9f43d401dd84719dee787a6ba70fcf97745376921536a2fd47a29c2af9a21878b0b07cd4492f5e949ccdc9d0fa37718632a7c2e106d943ad1db0eef91814757e9a17ac9b63999c3b8041df6cce54e5db0cc8d1f24995b683bbc14704b89e50999c51443a5556243e65138c476ce8d69071be9f48");
+    builder.add(
+        "2e8b730774ccf08e564f434f5e2a6bcb",
+        "753e65372e028946a92676e84469ea4f",
+        0x55031be75a3868e7L,
+        "3fe3af9057a816def228e505caa9bf27b264edf231550f6497c00a9bc6110d541b55d6b8e79d40e03badb2555512ee49eae2588e5bacc9af6a7a2f67ee67f7bf9346fab919a3a04f851066a5b72b843b40ce8fbcfce9c38b822417327906853411604154407a35c82d4b79b6e9244d6b3a85ed0bfb4aa9540925c6");
+    builder.add(
+        "b329c4ec62b7941fae20ec6c8da66d98",
+        "539f3afdea02b5555a4b199f77739f01",
+        0x663988f8642803ebL,
+        "a5d67ab5c611376b1a5404d0ae0670ec6a7540ae705ecf05453291ce339797f63abf14237e03a5613666452f693d3347b1603030324ca1dd2e80927a90549e9b850b60cc2d1538ade3747e51338e6afac3a8562f3fb3167cae3a276bf00c6ee3f3597e8c1b08765a09cfb14758678f295cb8f9eaa7a62e27b8677a");
+    builder.add(
+        "70198892e7dc90579eeac235ad1b85c8",
+        "44aa89195b5afd916179a2306ae3ce9c",
+        0x06c59ad1b1f0015fL,
+        "1ddefe5e95e1ff5f2db6a0053b4f6a91fdc11e7d76d6d52837274464764fa65bb53955706889886044281cbaa5e08c52343c62b802765707f8f8aa606e6626ae4d581f951d9d341bda9bd281a2528107140b81ff148a2f5e935c7367af9afe0263f02b6b99e2b9d75ab5eca7ad7dab634ce40064112b313f39357f");
+    builder.add(
+        "4fa13bfd773406e80afd8692712bf563",
+        "56cdbd7af97966564ec2f090b5f30cd2",
+        0x2611c79f86b00c3eL,
+        "b93471fb0611a74b44065d2158b7a7792208d4d038359b4007d7e2ef739733793faea9d1c68263660a6f3946dd825546ea63599115b690683b554b0a0ee42416507b050629a5312b751db40dab36ae29a68420623c56cbd665378eca96d1f75c1c18817f2fef1526a95fa8dcd0cc8981b9fe751b43ecd0ad67040b");
+    builder.add(
+        "810692aad8f557297d4fe3ec86694eaa",
+        "4534ed29082069a129f8ba8f5499c693",
+        0x4880cb4b3b3b7cfcL,
+        "5df8c7591b4585216dcc107f7c16a943d93ed52498a6e6d731591625ad8bbb8b4905519cae75defe9a2397dfa82f76fda5b9bebba1311955f9157b9dfa511ce94aaf45fa4836f6cf4448ef7231aa4942c613476c3753fd0ddb3f9038cfdf634da4fcb85d48e50bccb86cbdd1a47067c3d91471b4d3824a7ef069f3");
+    builder.add(
+        "5d5e8fe6900d303b0057ed9d9e4ea4ee",
+        "f70d72d30456efc03b3baff9f8baae28",
+        0x9f21acc1de6d4387L,
+        "3c0bd27d967b328bd097eb4481c13a5a2f561c2dcc4950d595b1d668dca609f3781fddc4833f9b8a7c3efb1c1f7d806394971cb5de76a2d965a1d22046b6dde170aa2085ef16a86eddb5e2a09b2a811affe37a1075f137e950a660b501121efc91d0c4d010e07ae4f800cd8aa14eaae287249f8ee9b705b2cf665a55");
+    builder.add(
+        "1024f1aba64909277f6a6949c199bb6a",
+        "aad96c5be2aa0fdc49b87f52b240daec",
+        0xb6344af9d8f048d3L,
+        "2228336c0b9cbd87d9c52fef9964412807d5f2a588a94de11472ade7796811f7acef3a978c52258d9f8fa38d5332ac2dd4940786c116e6c2435726e2df5af93cc785378f80302b0c341338d624504b4eb6458a0f6a8591890fb15229a41242fcc2a6927dffc443e58a99cae44f33a835b840db772d97287e42d282c8");
+    builder.add(
+        "ac88a70764c615feef7b8bcea19f2929",
+        "77f9064e4fc8ab56d0be44dd9c801567",
+        0x6445837659e89f54L,
+        "9b2f5bb7d850b27ba7c7dcc8ad688559683ac9ac58b17a3e1a467a70cd6b141fb59e0d869fc7c072c8fdeab2d365378728e164df94650fe42f0269fa5c1d8ce9d3f6942903c2d8ec3403af211e4d3e4f48c6ce0bb3ef5afcecec0f70c0091a9ac5845d8694188da45fb940f89bdf26305ae1ea839d964b4efa7716c2");
+    builder.add(
+        "cf9aab231828ecd81490fc6a1b5507e3",
+        "52e76818c9f0745d5162645eb8cbfef3",
+        0x687b94d4388e9149L,
+        "270f34026d150a409e7c04501e41412b2aa8b4b6fc45a1501d71ff2ec2a3a8ef80899059fe6aed5302ec20e0d647401e1219b701bd1afb76179d70527a949fa25fa73972ced50e5082cbd073133a0590f5390bb0ca0e587871431fd04878935ade3d78e39ef2ee95daace78daf69a438d0c3958e5112985178c3eb4d");
+    builder.add(
+        "010a9bb77a576da224ea7bfc67a1eb12",
+        "f2f7ca11df5b18a2e6573dc7a4d08bd8",
+        0x13057cc3c480df2fL,
+        "1471a258aaaf2782093334c8bf114755493d9214b13b8a86ffbe04791ff0d12f2a061b9fcbbdb84504db00163b4c8ceae6273d83e06da4e62099e6c623e8df9dbe53347e448a98782b87c80790798d8fc338693194792ec3516eff3c3752c3f8ad9344c19a7454f50ce8a250c25a6df626d7a6ca43a96ff69c09978a");
+    builder.add(
+        "daa67a9543766193d69b7ca3fad3bbcd",
+        "ec0fe082a2ea169d7a9ed0c749681214",
+        0x93b3f2af1c5dceb7L,
+        "a71b17e0f5b915b5c33ce747665a7b94ab0827f434d62b982195a75fa62246523ee892a8de28fac225b1235ddc24a5292ce11cc64151fb08da817a8d591578ef5618ae485aba5cbf6972fdaf3cd13af0534c22ce54329a36412f685b3755ea65fd8dd2011ace11f89fec3c358b4f7eb00ba6f16fedd008e3463bd401");
+    builder.add(
+        "0da2294d98ce78a83dda5bf2805464cf",
+        "70dc6a7bb3115164f1f6536aa7e68442",
+        0x22b54b17932bc8f8L,
+        "ea584208229e3110410cfae6aaaf18e007f73b8e8240c3928dc0d8f313940532232af3911f1552efc6d2c326a414fe3285ea9b2d76da3fb976dd6e072fc430dbce53e91d85c14a228c2385a467f0fe631d29484fae33560dc26ce978756385279d24f2409c9e6dc2f3a3122e27e7d631ce9dde3a09d7069fb95d7513");
+    builder.add(
+        "e02cd21c05e89c7616e26e3aca76a560",
+        "164f82a5b791be366ef488f14fad6877",
+        0x72d6eb0c998ccbbeL,
+        "26cfd0e5c7152fc9e82d9680ff1ba8dfcc82dd067e02620b165f2f2471586ed6f21d85246c8f875b518289fc62db755e0a74e3d9a124a758f9590f95ab9abd81af942e7a5cdabd39f566fcb5b78955282f18167f2afd15ff23ead675d34163c7153378f1d1f67250a671a71aea4cea0a92ba369143962915ad1d334d");
+    builder.add(
+        "28e49a33b8402c3c6128beb83714ed7b",
+        "de68f30b946f67f3c30616e7007ea068",
+        0x5176d6777b92c46aL,
+        "58f381ef170b31cde3e546fea946ed45544633ce3e37f7a52a5bda0d18c85838c5956a71bd96b5c8b8b2395ec61efdf6a7e5f08b54b881a89dac5020c27d1161107061cd024dfb395a9e9f48e50d5bf755757036b56d02ad8a19737cac7e553de1d7656b0687ddbebbc7fc50108087f1d3061d57f8cf7e61fb6c7749");
+    builder.add(
+        "d297d223ae4cf33704ebfc0dd6a695c5",
+        "934444476c536c76822e5e0b4ff336f2",
+        0x727bab04bb5fa45dL,
+        "e9f2edde3a88b9c450b4b274e7fca2983f0e9d69a8d9f5eed7d50ee2264c4c24612a624b16eb8e5653325ef400bbeff6d6250bc57173447849e4017bd3cfac53eeb8e5f60aa9b47b5a1138d6e95ab243bda284c58f1d2b31d6c8a971905ea52029f1f23a604d0cc88c599e53dd2ceefb34630ec006fb5856270437da");
+    builder.add(
+        "d6747c62a160d3d4fcdb6777ce604822",
+        "054fe7ab374070088883135997ab3384",
+        0x61002cb83ab6ad5eL,
+        "28d7d5276fe72b699b1d2199b0d7045774ed058cefc52511147aecad36b51b2a576b2487bc39f1021e8135f881a3115956b4ebc3585a7b2251ca0727643eee2783ff65f889750ef121de49acb81ad8512731fefda475d4cb00847fab6b01222cffc78d0809ff2726872af9bd51d9385a988f0adce695724222eb5a7a17");
+    builder.add(
+        "d9beaba93f5df085483e9c4b875b4db9",
+        "6b360271ed9721cdc2aa6dc115aa29bd",
+        0x6fe4767729a66aedL,
+        "8e1be3e68d250d00bc5109cfd47a0193eccceeb882427cee6cac3fc7d90f66e6190ca79379f31a5d3173443868a943cc8ac2890006ad25691192931139dfdc22e754495d9885c1c4a283368ee7e1256cd6c5b743da4ba8b172ac78459c88f0ac61e6b680f4b637611f3f5ca7dc93c2154adbca00cd167f9529baf71293");
+    builder.add(
+        "d86115dfd62c32b542a22323a88756eb",
+        "8d571f8c69ef03a73ddb3e0386359b64",
+        0xf04da508dd4d8c79L,
+        "06f76de7dce5484796a8109d625e8d7b97caa5a7f3361fa89035fdb84a5818007646540e0e4af0ce8d3f15998d1550fefe47ce080c04a00a74aa43eccc5a19934aa67b957aff3dfb0bd7b2ce055577cd99c5be2598fb62f40886b8f6415634466aad09711dfbeca84957076fa93e8c79e28d4cae353db1ea880faf4133");
+    builder.add(
+        "517f401363c9fe2d88b09539acf8f1ee",
+        "124b6e87d2b05c13eb1193a3ac6dcf4d",
+        0x2ca906a44e76fe26L,
+        "b6a48d40397ab4ca29f721077f1b36eefdd8d6790f6505807ba141e1b6a9e9cfb2bde47f8191f5588d418881fcd65699a97edaf4cd8eb2bbaed604322471e4a3dc2834483e7a7c7c51dceb81d1ab0410f1698d7bac07bbc300372a6951a4d2743e47c4f452631409238f5fe78772f0499a189e2e693e5e62db2084f97b");
+    builder.add(
+        "159439e01e696e9968e528a596987045",
+        "ac971526294da3aa13e94ba336a8bfed",
+        0x32d9c48055cc258fL,
+        "16576063d3eb61e001d7a240062c9383c629fd060f191edd244610cbe72997a98b963103ff08ef0290698f3bbb9dad65361f9a32b635692bf16d12b9a8b3e4b00b5f5915404ee5654d8eec011a0fe59fb216b585037d8d613a22d4f8e25c6d5ce5c5904da033aa35c55b3e4c2a0e9217341795566ca42fa0e008629f8b");
+    builder.add(
+        "06ac5f02ce7fe4bea4308e4b529b7c49",
+        "e5730e04e0a9591db3c02d349450a3be",
+        0xe45c0fed9746c87aL,
+        "9e629d33041f7c75b49ab92261f13c3d11d6d97c459660fd6779111bf6acbede0d1386a0087b8d3a1d74126323f29442e04d6dbbd374c52d1325797e623a7facc63b432ea1c7ac04edc14419a420d02502d02b8015e2567912334efa462c7ab0e0c43f6b0f1becfa841cb4404d2dcd1b109cf5b8ed3d00ecb23c77f08b");
+    builder.add(
+        "e2bc5c9e2f6bc997982dcf99e3a3168b",
+        "68cd3e6e02b168b7a543d6f429bf947b",
+        0x3dd9d37b86de4f74L,
+        "7aa4f35e22ec5402507348abe64be4f80e7ed5df72ae4f86a47af2fe896a9b8fd9c620c4fec20d12cbc7b48802f3599772b2505a55142b2d9f47d8c39320c9ab02e246630299db19e0b67c9e9ec68db714c56b17786d683a0b3ed4dbd5b1b1876be7573607f998b67a7276636c3a935105e61c7eac2b6dba81cb105c8e");
+    builder.add(
+        "772aadafc12471d2a75bea72aa75c8c9",
+        "baa1d04a43672bdeefc62904a02e45d9",
+        0x85583bf7c143eea3L,
+        "c9aa33eda853593a08355eb2e6a7ab80cf043496fab4b3815380562e5ed3fd739274f66518d6dacaeaee7925ce203e76941518c02800a70b074129bb3528b83d5ca260379dc9bb92e34d5b7a02c77f145a37db3dfbd66adbd5312b79557ea0bbf20783bae14fa8d6310efbe96bb4781ec56c33601cbc79e1af1b78fb1d");
+    builder.add(
+        "dacdf5f28f30f4ddc2ffdcf4da34e063",
+        "4bf859103084c75119ec437c908468cf",
+        0xcfdf8fbf5aa61193L,
+        "b8a3b7a1ec305f205f3790ad86db3f4828dfbfadf245369e40c787027f3b615d1714c2f92761f971c46f2b71a3f5c3af56cbb7d268f1e0cf67f90fee25a39201adce9d94d6317f8b1a11c1a6b7035c2900e9c1a770be1d8f20fec0de51f766b3c7739a69706b45b6e32ef732ab921c34b4d0abca39ffc82f1151a0a3ae");
+    builder.add(
+        "308693ca1a3e9e3e5e4bcfd77c957de5",
+        "fcf7d909ffec3746d6e6dd6896ca4dcd",
+        0x8c64ae92bf4a48c1L,
+        "fff1e9d1178cb3593c383a5bafacd89764b2a1148ad07a55dd9281ae5367f734fb9c16ea767da2026fc287f3252fc46deb4034add376d61a1f338f7a52c614c8265277d98543e17e6bda17fd975436183234d2f889eb7f5576a23ec628672e86e3d7d92e50838193d5a7c8fc864fafd10e59e99ed1a135aecc16456c71");
+    builder.add(
+        "2beda3ed37df17da728aabb042cdf6aa",
+        "2f7f9b30b9b14722b6c060c021a4af70",
+        0x3ed06bcacea8ef1eL,
+        "3ade1d067a5205e9f5c2faa1bb4925909d54a9dab6892530106376343a0905ef69fb0bbf73146dadabc2749b667e4e2cf82c25fc3fe82cce33085dc49dcaab42b979e6f0b42326ad3b8ffa983a0452a3cad99f55dd99dd8a3c5722de04576d1fd66ae83bdc864102c5b9357d4127b416789000c1bb7ea3b0b33e5b8f6f09");
+    builder.add(
+        "e9231b4f2ba716e932f927fa58791305",
+        "d022b89a08c00e4bc922fd8c04f66d62",
+        0x65da6dc07c7d0419L,
+        "46899042c589bb8868a0b9d64f24f3aca2d64a1c6df50c724031d670b14918f519e29f1cf45be0d52e231e5314bfdb7e7978f90eebdd19799b6caa90aa6679974162a472b71db25e7d565ae06c079aa360a29b7218d2bb004b51168aa856d4bc79d66e2efffcb3f93e886a468e86ac1c3bdf0832f87f1ac7a014284fd1a8");
+    builder.add(
+        "c9b726c11a23cf301b3460c965b05ba5",
+        "599136f1fae319fd417fc12ebfec66d7",
+        0xfa661e648495adfdL,
+        "a7b92e7d7cd85e3e00ac4acb1b60a14bebf1c710f7442f854cacaeefc5f1683efbf7f9ab94d0422833aa66685f75b850a489008129446f06523e36ad3992992abfb3bc4eeb2f3850da3a9a4ea69fec739e17ee1839e97e697f9ede88c5dde0bad0b251826bf803c730fa02962bb37021c5baa656cdfe25ec82dc495e9815");
+    builder.add(
+        "c8611e8db999e25e8ec2171806080c62",
+        "6bf0e93d5305e55932bc73fd425d541c",
+        0x4663c52508abb4feL,
+        "39902a6b543a8663730b925968a8654417a89f240de362d3a8fe0f982119b8f563f3b712f85f4c039ee52a33a958a0e75d13029ba1b92c47932f1ef030d63bf6864891730744d4464fb6853e24d209f7d494f35df98ee04e98901d97eee515cd1d10f716737e2b68ba1fcf23951162fdabaee22349faa93c582f3f93c5b9");
+    builder.add(
+        "6537a9cdddf03559f04b2af35a8952be",
+        "35124465cafb88a3d2d01446ee26fff1",
+        0xa3d4b68ee4dced1dL,
+        "bc3dbedcaac038063aeefb2a32bcec04a7673ca90c9ac4f38b017cec8f5ed6d6794907fe8b14b1e4f122e495ee5ebe26671d934d10757ff4ebd0e93d7196f62bebc9ac1d1eaf567dbc915d2a6cdbe62351e4eda34ebcafbe2b793bdd57da82b23d4c2f07c059383b7e348946637510e628b84dcdcc7772b1cbb726146696");
+    builder.add(
+        "d5b299af04ed55a424685f4b03104a92",
+        "c96a597f1faa6125ef7cb5e220b6db19",
+        0xcf39a45d6ed637adL,
+        "6cda74b0918bdedf778276d0f44d0d7b431b02345e6bf720eff81d9b06ff9a9a4a4f49a6769a9780f3af0d2986464cff6bcab4464aaded702944f7ca0a7c7d6c020f79b3494640a8f37f88082f5c36982d7520d0c301956d48630798f6c73b5c3b885309c02fe2c49790cbbbeec67d6c05449d671969aa0666b4ed34d8c3");
+    builder.add(
+        "2f0f33b86cc0f54b23a338d9dce9c9ff",
+        "00b8205f99cacefc71d348cad5ad1dfa",
+        0x6adbefd3e3cb34cdL,
+        "20898161612e27b8d58d2e6fac73ab3623c0753f1be9d7f23d3314fcfeb1d97b9fe905a91146335804b871418cee8cca4cb7cf53d68d1ef6c74e4744a130049e6d54d15afa1372fbaae68a89a5f74f3cc763a6c56ec9140909c06fe70a0d4cd34010bc84be71b7f0c3b2f844fbc95dfbee2b536d99a084dd52f33ebc18fa");
+    builder.add(
+        "a336051a4208d3ad246bd96d12bfc893",
+        "3ed5df3126e5e69531b470f47281efbc",
+        0x992d0af2550d80a7L,
+        "f010ada16aeb344f42b28caed471309b2ee95cffa8184ab03bc957ede9d4fb3d2f72772e0cf395d0d2e72cef05b4ec585354a4ecbadecd30d63e091f837a4fdf802ff26ec4b7b161756d035f2619c183bb43d3893c90ed13e8bf536d7539e610be3dee997d6830c37559f83081b553715499cbca1a4e61e597c46c96b635");
+    builder.add(
+        "38f0978d101293e9fd39faf68d9f3eb0",
+        "d9321b6d2e0b5931af0e7c40dcce9976",
+        0x36392d9db307861cL,
+        "73c85ddddf201dd0bbaeb5585be22e837e56b2bb741b8e2ef172361dbb10acd758d4bad10e2d8aa6d8e8e80e0a76a5e6e60b37aedc9f1b55408054a114819d6e4242efdfcde30c74aba1113f97b96b4b18fd746da81c06303c79d6ad9811945d10fbb054508c93df5375a24cfdd35dde1f12a6c4aa8a8f4f9d45f5249ca0");
+    builder.add(
+        "166c653fd0e7d3a34f3ca26bce1858f2",
+        "616ad27cdaffbbedb88a0d798579afa1",
+        0xdfaf922559297120L,
+        "b9150b6b2d08bce294561ba61d5561fbfe82cdfc51ebd4e5a1df4bbe8c8fd4b202f1571ca38ddfa9dc9ee51bb2c6ffe9f83438aee876c84a51414afdc47233cbf5bf42e0f22917f39f6aa2de5264ffe1e04688c169b542e5bc1ecccaf146a5901a0717c16f249546d12417fb22af5e6d58857b7fcb294cbbe5125d97695d");
+    builder.add(
+        "1fc46a4c27369b8abe2709adbdb2b3be",
+        "43c88fcd3fcba929c8a77fc4d276cc70",
+        0x8a5b588886d11fdeL,
+        "f17e7337ef27c7c9f43362a802bd9ba7150c0ea59ae035ff7ffd82f156a38bfd1b4edd96a5262f0ef3c25c53dfb536c0c2a30f71246329ca105d9e4ef046c994565ce91996b0168b72e40315cc089d9998d038f982d668754122e1530f3bf25b333d748e3528043480900fcdfb6c0b5e4b24eea614c5d7684fa65da933af9c");
+    builder.add(
+        "85f2ed679568607ea907e6feda4ee00a",
+        "957a1cbe7f7cee905ba360bb04339ac2",
+        0xd79f9e493e5fad9bL,
+        "8f7a0776494d2c9164ceb70da5d123c47d661f77d1c2871ff661b4a927c8a9e64e39343946684f66801550d43a5443d899642bc005e9f6a9c94ff43bdbc2dc1549a6545e3f6c875daa874643ac17cdac80bceffd6b3e96750afc543cd91b5afee1190239fb1c28e36ede27ed5ec1dae10b203e0d3109a65df3df792b29e0e0");
+    builder.add(
+        "3c7464c9c4868fe5d015e02ea39a3d6e",
+        "8d33d0e74768a59f7292d0712dd1d653",
+        0x3497340f1597302bL,
+        "26f69d3fc4279b7945c15287e899a2c28d38b1b678de2ab91be45b251deb7f9670e3cebba339487b9bf56672c983fa983c13c002e47fd0152418f82a67338dc30324f0db4be05ad1d575bfa092e7738f523ff6b8b02c2633b9264cafda7bbe175a0af41537486a12ec41c90315fb01f4642668fc94e725fbbcd0f5f9be6a18");
+    builder.add(
+        "3f0ddd4fd9e3b8376f937762e9ac039d",
+        "bfcec2c4dd40632f70e2fbc3dad6d441",
+        0xa8eee855eb265717L,
+        "1192abefa539d17e3093c1ee0ff11b5c643f0d02e3bb95b13f0d4d1d5cee46c647fdcd87f5bc9b4c678c9725360f1ee56279623e1fbc066c01279e9fcf1ba8308f26c4658c4fe5906c56b46eb0670535a79418d8d22f4d50929dabaceaa816f82a65d11f984eb3b6b31d1e6bb7f73eb197a89040cb9700c6fa25e000ded6fb");
+    builder.add(
+        "f99c3d88ef5beaecd739b2fd72f0e76e",
+        "7cca24fe160f1bbd5aa1ea5e66378a1d",
+        0xb7b2d1bc5ba7310aL,
+        "d41bae4bc29752af8759c461e6ee58ca02c6bd83d336a323f2b5447dc454dacd5c55c6646d0300ed61e39714ae17dbf1c6b34b0db5df43120ebbbc28f36e749650fd90c9e8a611ac005d6786c6f17f9b8db7e8a73872bb1e41ad8e2fdb12b32214e1b3d810313c55d6c78e13d1422d85c954edae078786e9342a52feef4e38");
+    builder.add(
+        "38c78a3695c623dab07c76050990938f",
+        "0d3c298de70b2ccd90ef79fc081fb515",
+        0xf3da99fd6eee32f4L,
+        "b5b538adeca217d0b777a06649838823b004b94d90a829a6c4f1e9c5c59ac7c9b348add68bd6f881d5e80393a8d116e2d26f49864255f05e1f8fe83d445a0921f9f8f914a1e6bf9a3dcef2a285783314337556d6ed2c7d806a49d01e248f3d9d4fd62a4628ff3d629a7a6f775c063eecb1e43e01af041caca96a552f62648f");
+    builder.add(
+        "0873ef39e72137e1e5af7031636340ff",
+        "6309a2d4481328d68da28f52ffbbbef0",
+        0x81261491306945cdL,
+        "f4dee5fa984b6183c0c8cf3761a7c6ba569602be2fb56765bdb67395ec92f0f361dbc54333d1130e469c541ae8fafc791f855b2d2fa7d1b04fce28095cc84738464c48122cba1a17eb01913f27aed894da844843fd6321a980ca72f328e840f3c1d74f307febbd4bcce4d7e08306aded8d44ac6741c7a3d2f520eaaaf34c09");
+    builder.add(
+        "fc819646e066a84b645e99a195f15511",
+        "7c63accbbc8d9e679b36fdc7781be303",
+        0xe324a874009b7adbL,
+        "3ac2bd66110571b1bdecb5925d6a9fc06d020530b9e3875b761c343ca34e443e86d9995efdb4f4ffcc2ea743d7d38df2e33bb302690216809036e548b664a1f35de19a2f19257fb8cd8422c2b6d28f464cba16d524ff0f94324409fc7fd6c876b206a89cd53472a891670eb3d700fb35f475bb951d8757f38ddffe5e4d0fd4");
+    builder.add(
+        "5c30d7e86bfa566f87a752462a84773e",
+        "e3555eeddc5375f8915a2db6b03b586e",
+        0xcbec053cf3746fb6L,
+        "39604d70b87f04120a63177171761cc9c63d14573ddee6e0080f843683736772135dcc1d710b193d94b9c0ea62ef69cbc95f0fb2f4b9d11ac257162a2c52a1c4518dfde8f8407b14cefd504fda6ae5a4bfb03024b9273898809688e9a771d60ac8d15a4615e32ab32fcd1b5fb17754e2627d4ce2c25b2ae18ebfed893d81df");
+    builder.add(
+        "1871afcfa2b7d312033cea0298f02b57",
+        "016cdd66e2c224a70bc82dcf065f86b2",
+        0xf123d88eb18767f5L,
+        "844bb7ed24b0364d2841d1e89f221313a13c741c64657d7b1cc2f7812b479ddc62b57d0e4a1a861772cc41036bce79baefc11b45896aaffb9bd35d4289327992270c04c0d50bd2e36b024a2a2d2d7afd809b59feeb4a494fe6817b286dd9e3b74cc225870aa2ed7889f1c1fefb80f6447fa6df58ec3def1d656b3904efa870");
+    builder.add(
+        "3e2f1ce85e8cf44c4b8682aab12d3fd2",
+        "6caa2800f75bff9ff77383041b356200",
+        0x920b7284d2cfca68L,
+        "cdbb811fde70d8ae164022e7b829350ef3d45835d3f58bd8b8984a1bee76afc003d4af7f247001d8fe1191d292a61e7c4b46cc26ab741bc60e2d886bed1a96eb6df3621bab05a6c65bf17cc35dcda1b01e6269e585f51175b5baa5a6a63dc9f0649fdddfe55001dca7a6d23ba6b0a830fbcc10e4ab312d10cea1ff4ede336117");
+    builder.add(
+        "690d4487c60410e55f0c49e476ca6482",
+        "cfe7352b5c940d52ecbf4d838356be95",
+        0x04cb6dab974c48d5L,
+        "6ad78e77a4f8a7b2cc164801d881e91b95fce3e611cb82ec31619921bd36dc642ce6753b3419d1218f48ba60b9eae481fb3abb387d96504f3843d4de533d845d3eb337dc3a1ec92e21e33ea5d8f59af89cfb7dd4861c77e11e6e86857e37a95cce4794f49cc049874b968ecae1f08003a41abafd139c9bb72e0d00bbc25df234");
+    builder.add(
+        "2e18902fa495da03a3199f0ba1b1b025",
+        "37214d58efc85d6c01b7eff00821a38d",
+        0x7c66fad0c523169aL,
+        "59197209594e095bead29cd395a580ee0c40da9d235fa78511f9cadbe2bbe44a3c4d090350861b37f0773c9b864d674c4d93c4a261328533b1cb7ef43575f0c1ce72aa5e40be5256f8c3407d091b0f9c6c7c4d17f8f138f9473c258ae5aa2d927d4e7d0eceb3238758380a4c4bdc862d0d0789ea42e2cbaf303cd783a22bb262");
+    builder.add(
+        "6606167c3efdd3a3695766933ece03a7",
+        "e1ca711acf8f753eb9e81c6bdcb4f657",
+        0xe6e3270cadc03311L,
+        "94e6b92f02c4c21136007b9f09144c322a57eb264db09fddd90dbb8e49d3fc36eb9d543b1d89f89417a49bbc4b260c75053cf9ea95839a4c0fa05cb57337a4eaa08d9269a8852e6f72989bf8987cc39dc2424106c2de0fa964ab09a1deb8c113117db7687b07b8c3011753e3bf089465f75dd415b7cf300e819919d2d2a668b1");
+    builder.add(
+        "e41ef5e4e1b0ee5f4b3d19945a6da59f",
+        "5628386ede2792f1696b11cfda7ed893",
+        0x2b022225c9892f42L,
+        "9e7e90ba0ba9af04b4ec0d2b9dc096e5845cecd607374125ceec6062e2e63df8cb8908892373dca4b72a6ba4d3c0a9e234f7b786577877bf44765a3b2ead76c4e67471621f3f098ff9c42083e30910da97968f09fdc7cbc24c6373702957658ee594907d1f144511e4d1cd793f45a1bd9d6cc604fc81b184f2a140c086be9e56");
+    builder.add(
+        "de52d68cd9f17d3d6e754c381cc4e453",
+        "1ecd962b0394b76dc747ef3c853eae4e",
+        0xc9350c045179622eL,
+        "1c6cf82207ff1a62ebf58f872366a3f066f69b7c921cb9b52e36ecf7c389f7698d4e39573bfc642a71121ad6c54afec11230eb23bb48aaacce2cc8a5241ab2b82f8d24b081c5e078a2db12bc720bc51e2e0b9b58d77e7c89d7d8a776f3eb6f8abed925f9b07c4fd9f9e87ef188126a883c6b2b94140b88a83261f3a4036071fe");
+    builder.add(
+        "dc5c0d807124f21adf6ee5a429ff0380",
+        "563a22adc5bf023f8f300c567a6a6f46",
+        0x9afa4cd8a4bfb7eeL,
+        "fc94b37e50b6bfb14100ab9f4bee9b25b7f60012d797719a9e1b1237218c49db24b12a3499885015cdffb81fa3dca30e91748c481087549f86975b18a4e21dc14a57379643c88dfa01dc50a0e1114d060e1ecea070f61d42c0b95410c03991a1ee7640ede5d00504bfe526e16d07ec37b24f81ab1e766b574719afec3c2b51e1");
+    builder.add(
+        "67488727e4a369251def8966b1829d19",
+        "7f42368bd6d38a22acc0d66e56da29b0",
+        0xf2f4dbf87d186958L,
+        "1d436227776e694f04ec8f6542e7bb5cd10bc09cadc32ff128386a2785f9f7a07594909e09fd64e956d38b598e325674527d60d9a99ff40b373dc5a0e87f69c880189446cb23a88e71a14b62d4ac9980cfea48961de9ec8767e971dbbb6f4fa08edac1a682d833200db99679f5fcdbd42b109d0eafc3e7a19bf0c8036f261909");
+    builder.add(
+        "d16a2a8937dcd27c5369c4cdda190339",
+        "60da60330c3e43f7e7f301ef39bbe9ff",
+        0x7437f57c074d0e5dL,
+        "e184becefb96e05c7ff0a816f2184d141d98adcb8e2a6b7e2d150c981a541e64edfab85faf64ea71889e09e49ff6247a713fa5af92b37393a6f961c36997184486bc0629975e2af4d7e1bb078651b29cb5a70d1435834bf095302a38caece745092796a837b2a5c906f43db26c5b40c13fd49d35ae4b432b19c8ab42b27654d5");
+    builder.add(
+        "ce12f8a8ec9171f723b2d9c9cca42ca8",
+        "161cb1633703d29d03ab4663fc3974ee",
+        0xb2492d55731e06a0L,
+        "1518b636f40dd0124087f96a4960c5e80722a60a6d461f2b8fd581a45a0fbb3cc3df01bcab031014098ba75109598afa09fb9e8d97507d2a0d4437a608ab2904d767f3978a48b405e4032c134fe580b4803d1cd90f5189a61f21b5959b1f81ee9af48b5aca23c4cf10f003b02be34cefa7c1289649dc60ae9f7794d45a128c26");
+    builder.add(
+        "cd999b19bd93ca5295514aa3a2da04de",
+        "57e231e57f1fc70f46eae0e8bfced341",
+        0x69dd9f5d6d2fc2a6L,
+        "6b2520a1d07ab67a06f6c6e8391eec68587ea61d21afb29ec19f6fd1cfc01284c7b90ee94c10d3f144bf838d3ed6211fdc27ce8b4d4092180c91486b5a7c8fadc508a91c7418b392b3fde6e53a700dfb7cb60aa2cca7b91c325e6b7d4ccc86db71f090b27aed013cef01dee7695b3c28eefab136b2727ba7a71cf9f5255224acbc");
+    builder.add(
+        "62b0a6cc9fc7d357f10a025cef85f2ca",
+        "0cc84d71de4393bb0efb7a25c68e3611",
+        0x8c2fc7b7a8788362L,
+        "81fccf86ae09f3e37894810ad01a15836fe08319e930103fae7b4dc2df23426708428609dea8169cff5373424ef5fac09bb72fd36fbc2dba7768f0bbc9357721f0490cbaadf99b5b85a066a80bdbf4dcfbc1a1b35c9e3f9b4c458c43d9f7158b34eb63121913ef23ca93ceaddc6c43e3d57e312e1da4780c925856dd9f364e373c");
+    builder.add(
+        "8879850e960122d2fbfd7cdba19092c4",
+        "40358da0845b694e6390e43e4a1a5952",
+        0x3164dae18e26ee52L,
+        "724c14fc8fd5632509703881c59296f5f843ef083ff8f26d7d5beaa360de5742944fcd378046719627768b85a6af3ce910d30d1bb2e9f5df29e3c3e731dc1b29807dc37ccadde9921a8629c4ff5d95dae3ced69dc0e9f8223dfdaf86b79447455baecfdd72009b5fd1832faecbc6115a387fd1fefe7cbbf1007e062aa28ac6c70a");
+    builder.add(
+        "9b23104ea02f9645052bf6b982959144",
+        "f217d9d9ee9ab45aae967b5b4add0926",
+        0xef9148a818c1a22dL,
+        "1ad0fd795c3299d0efde38c0b2c074feff97a1bb62bd31f95fea9123dde30d94fed99e7481c984b5cdb48d84c860c8ddcc5b49adf10797f6c30bf2f1461109338cd8eb19c7fc80ad350287889ae5fabf73855387164c8b1e53cfef25f6e75bccd13e5c05d551f447c22fd294dc158330e9eeb7774a4047815b48ed3c37db9f6522");
+    builder.add(
+        "515dc4f860c3cabe10cb50e897a3893e",
+        "a0e20d69ffe705fcacdde9e04dde68ae",
+        0x9cda32b72135b19fL,
+        "5493216eebed53165b8e72d62f328b1bbd61b290622c57a7bcebb8be6e3df39a6c0f344035f6794f43fcdaa6f8e290bedbbcbda1ef9e4ffa1b5a8884969e888c50160cbbccf11f007277a487297b49ea8ee763c2bbcb72f89b5436935bbef747bfa07842d83cf59509af50a7db2db423e24a512a8eb9be3b3398dc6d510361d5c0");
+    builder.add(
+        "22a750aa0299ce168b06ef88e25726cb",
+        "92cfbe5cee003d2b35919a9716a814f0",
+        0xac1e71eb651b8242L,
+        "471aa3e68ee085605587102a05072089cfe2ff8cdf22739878d8223d21cd5ce009bb5428c06564571219370839efbc03d349395df65980cf639e09da24c3ab3e54976d0183e8bc22b65f11db18ad01473d668c80d0f59f4ef0b2460d23ee0ddf8d7aafc989840629c0328e39d9bf1c30aa3161d7e9801a0ca01da1d1eccafa855f");
+    builder.add(
+        "93ecebeec0d57f772352e801e0613e34",
+        "a12f67ed340899a8d0c875611702cdba",
+        0x7b715a38e733649cL,
+        "9a62ceb596033143dbbbae864d767486fad5636deaef350292cb6621c5f6bb6e7532db76a50df413663eb09e00707d7ec491fe165f6e1dc66a8d602fd3f515a234c7c51bd3c241adbf9a929abc3e69b32b21f891507bf1d8bc79f501608ab19dab4f456face8c54bc63a2cf615d45fec06c481ee0610cfd9b81ef96f893bdeecbe");
+    builder.add(
+        "280a8e425e58d55b13d5b9720104bccb",
+        "b220a98fb80f1859433385c74c7297a2",
+        0x180121f27777ead0L,
+        "bb7e421b56a35d4ce0943f3a65592ee614cb40ac093e62902fecedfe0fa2636dd161b1838953d7e869088504e08cc43a1f8362501a8576d1235dd3cb63e2efd4ab21d536fed5eb44748701e53535529f89528309373d14e92d4606cddf023813755ba4781792ccec7f16451134611a0847d2275e82fe56433e90b08bbbfe44ac38");
+    builder.add(
+        "c0a0b754fb60675c3d9940349cfdeaa0",
+        "4371dc32c46940ee074863c9719a265a",
+        0x5830340b67d25b4eL,
+        "294f17e597857285fa647683124a9a98dbd76c3f970f77fce1df320880e3ea8c54c539de1734abdf51269ea885b1753267c5edca8b8a676a218c395627a51326a706e9619e74beda8fcd3d59e91db5999a81113ddd1c77ef4e320a72f3a10a392b632028c3c863f2ba66f565f7425e43681f34051448ed2528993e42c4b03764c3");
+    builder.add(
+        "9a0299f3fa0fdad6e00b3f53af1fddd0",
+        "5a07797c60b3c1025bf954271ae29df3",
+        0x6db2e7b56fca5e71L,
+        "88f14167efcdc7564be33deec3d50f9942ffd987d8225ac922d822c7bb29a50d97f6ba7ac9bfa65cc488ac3ed4c91ce18004546190c067286d1a226b4dd5df935b87936632830ffe29fa27a737cfcaae27f8f1dbe6cab331eb6bf7243655e06fbac3654c1ab745898a2e89807f6f656c8aa79f6a3b1145961a2c436cf6a01520ad");
+    builder.add(
+        "1e04d6bc5552ebfac12833028915323f",
+        "a8bf9576e9efbb34a32775e1d798501b",
+        0xfae0c5b1f6be9703L,
+        "d472662e26af904bcc4689661b11fd6e88e4c2dbae81ee50b1363c6b05090d2381d0107ee85228a08262a906a89bf15e37a468f8b3c2dff61a1c46b75292de57d2e0f9cc874995e6ebfee29fe190c76971552cf20bc5fd8c2c664c9fd2f51f2e33d8b3a1564b7fc13a715417c74f2bd6dafdd78ec31ce2e39bb8be00637ee146d595");
+    builder.add(
+        "8142581e1c338c88b73331b30c0b5eae",
+        "d33f5e045cae4a282af515e46035d608",
+        0x7b241bec95588886L,
+        "a9f738aa029a41f9a4ebbd5fdfbcc60a95244c87670a5b8cb936ee95edbf676aebbc2959762751717f3c3993ef8986019071a322b6ed7f30d2b9dc89bc0010a46d193538379a32a380c0ecd84544d0fbef5293b7808179fb89908a2a1158823306e6dfa7d8a08c2d78ef6836e21bd95eb657219f406fe69d2d44e0a40fddb957e0cc");
+    builder.add(
+        "e49d068d879392af3ec2addec4c2dc73",
+        "973f41b21e227f434789176d5568418c",
+        0xeb42c3053eee688dL,
+        "def1ff445e5f852c1f7518ddb5e20a4d4a86d93dcb818c170fc6d2b98cc8eb62eccf0e216c50d7e95409828c7e8f9727a135ccccba07bbb98ac8b04ade8d27efafea3f8cf54bdb128ed4e8dfcca4c9da154dd71d60bbff47dd0c83405de125896b97943cebb27de2f01dd2eb54c7570fe04d07ca03bfd627706ba459bed86701a2db");
+    builder.add(
+        "ff1f85a3ed4936e90d62fc88223e36f0",
+        "60505f7e71f7911a97b54feb8522fbd4",
+        0x37f15b9c1448de1eL,
+        "e41a45857a37160d15c92bbb5cfbd49c02f7b2bf1f02ac6ce6e02a784c3b9a71ad7818ab078b632f29885f81c50aa175d12f0f4b51030e685749ab9c8d3f77bb494301025c17e74e1a6d2207a50b5787caeff5997845f7254b6db7d9d33aa7a9156e36e510783dc117b511003a9969f60e348ce52f23d48c7591c01029bcd9fc5940");
+    builder.add(
+        "3ba45588754e1b0473f995520a3089f2",
+        "160b92c911c10cf93aabf74f33112428",
+        0x0e87fbb81016932eL,
+        "042be40a2473ed4a4316ad289f3ad2bd10e739995516ef6d4dad7952266e523175933bdccbae56267d91c54a792138d45868c3d68a0c2b16e0dc6a63340c9a7f2bd5ee1359f494f685da4d67c0261339c5bc28ed2a58c2bd097531b5793d4278377004974a8e54d9473895595fb437394c1a9552cca2a807eadb0146c478fb5bdd50");
+    builder.add(
+        "92984ae2cfe76389753964016ec83183",
+        "e2c0784032714595a2870439aec7053d",
+        0xdd070b8f111039f1L,
+        "cd26af5ec9098a3615cdf72a8057be6f81b5eed51f2e42545a236fe620d54dcc7c0c20445973357415780402b43ac6a5c216fe0446e80bff2a3d45f809b7ee1e0aeec1c060a2b11e2984b981fc7a5c4153b1d7319d6d6641a2e5ce56f5884cc747f59fb2598c5a36d494b75e0f72466424e6ed05271f69fae2defe3536b21782e5d5");
+    builder.add(
+        "0234ea23bf72212934e8045363f34d5b",
+        "55e061f77e133d74ab6dda1c55706660",
+        0x6fe9f8d5906638f2L,
+        "f2245eda0ccf730c63d091aed2ba95959a580d90633c1749a9d2fede9d821f420556f46733ec076a4200cc45e5003303b182395013f2b16df5b586a69fc3498f8d04ff125f9d2d4cb3763f3adff9a77a212b38ddc8cf46c9632bb994039bbf60bd2f3bd24a7000a672ae94163ebede6a4ef07408fc025f11676626a689f53a9baeea");
+    builder.add(
+        "010533ddb5998faa54f13384e38bac35",
+        "d53cb391280689972a071dfbe7086f98",
+        0x5b39bf365e763168L,
+        "be8ce267a38feec2bf5934c7c0df90738da776f2aad5bb0a94543337e11168a17b4cfd0e97dbd0dc3b729a71868a77dc1edd13070d80df6243bcb773038a66c766b41e272391dc6d9414243a920ec0f25a3a882f0185cf04ec0713cc249205e8203873f4c822bc7dc08d91ae9f1bc68af323e7bf4a43b3114dfb242ab91fdf19360b");
+    builder.add(
+        "1b8b8da427c8f3afbf877493bc2eb6d4",
+        "73f8f6612eaaac211706fb9b8e8455ee",
+        0x560cbaf2ffdbeb10L,
+        "b483cde38e9ea5abeb351a3cf6556a3ae96bfdaf62e39bde835cdc16df1a3472531c2c572400ab72f6fd6a2265e2b82365485b9d4d48b3dda410b37b93b44e788c14d4cb2741c4a383818b2e99f8d84d1f2c94663b8980afb4d9a4a3beec6408fa16d9b1553c4aa83de99fdd7bcb33d39da55ec8997cdf619cddfb00e0289fec909a");
+    builder.add(
+        "902923d50095d7c74df58cce0d5cecfd",
+        "c039231473943ed927d2fea42f5d5144",
+        0x9803d85e1f30690eL,
+        "81cec9a0aa8cb6ef658c86d3b6404dddec1ed136c45e70f0d4e51a49c74af5f745bc0579092d23c3e0c47b87be4c869c774a6afa396061cbc28bfadc1fc26d62123fcc6afb9bdf16638d24e97fc18b28e8aa7ccfb308e575af83d184412a61721aa9f624132991aced02a1bb699003132fcbbf5de9abff7a3fbe3ed9372211d6919a");
+    builder.add(
+        "c1b99a8a4a8c1e99fff3f12dda1b8930",
+        "ea591f655d346ddd2131c3823f56acb8",
+        0x771d58c1553207e0L,
+        "f23c182b1dd1491351087d69ac4d5786e8038c8d375fbb3941f87655932b40b18f2e0eeecc3db7447b99932a82f2b53db6be8a8ef00d8120778a0e4b0cf7adfe530c4e33bb1137ee12a006db28c4c367774f9c74b31dc4e8db4e0545cb6c2d0afa2f4ef2054eecb086ec82109d0ae9dee6243da2a760728b33fe79a684fd8fa1dbd0aa");
+    builder.add(
+        "1b3b5ee98da3e9cd5ff47f7a508328fc",
+        "8f4a0778477a75cb88f1824b558ea658",
+        0xacd9d230f5b9e1b5L,
+        "3a391839e0f6688a6e52983498a5eb710e8145112fc6d86ab13fbd83f4dd4effcca4ffe5f0404ffcf2fa937b071de8435ff76b8034f7adb2bca4b50f82f17d2abadb20fd27102691bc971e3241739e028b28bfcadd6fe0aec4acb79cd3fcf65d27d1bd460c1d28246036598152f4a260bfbd3b7695c4ee59af478f3e09b431a92eca24");
+    builder.add(
+        "04500bd0f507511c9c0bf96940c89072",
+        "a1291c16e75de37dac38db9e9c86a4a6",
+        0x0742caa217b7a3e4L,
+        "e272f934c712c13702bd6f22a840d3293d8afb92d8c510e4c41e206950e71c86d05b7e754dd64746409a2a3b24c888e3dd1a08c7989ea7f087d19e3cd46497b671428442cbcffb064bbe7561ab28dbb0c4e6f544f1b82f1a7e08a910ce05589cb5e0d08be39ed0991fca90884a2c9354e856cf701c1573e6ba46765b5b1bdb219007ba");
+    builder.add(
+        "6181317c0509c5233bec56bdea4e89e8",
+        "8ff4306b012ff523b15414b97c1b16bb",
+        0x47a03c1ad432b91cL,
+        "b334414b4274c9be1cdcf1191dc65492ac77379664e5a498fc9a168ca7583c7e64f05894636d1a9460506f476b3d9872a065eb27491fbc4402c8fde390cf3d37f84858e42ff939e2a3bf873490c5ad30d2d3ff91a9572086724c63d3f06cc22ada024f52bd268ffb00af2931cfefaed24aa121124990c62933b31b05692b4e7980ac8a");
+    builder.add(
+        "5fd978be11171df5614683b74a8b48eb",
+        "2d1a143aa99aa532f99e92f8f06c71e7",
+        0x9bb4fbf5d0a5b98fL,
+        "d0e70235fcdc51f397ecac9094135d42333b3aa203ab6e22dd146f194362fe1d51b363d5f95c4634f5ff33fbd8aa018d51503b6c01b87d7d941a7eabec53c3ad5caf2f2ecbc6f849a32158a25007a61ec2e9ec57d618ad20e15b1016425b5ec501c6a82c4c2b00d80ef98c2422b00e3ab88c32e3cc5b8b6f7dc1795f0b5ca8ad3380b3");
+    builder.add(
+        "6869eb5d8817f03f781f7b074a929f82",
+        "595732495ec9dd1d299156528b85dd9f",
+        0x9a36f1c013f8897aL,
+        "d1e5c957a3601dfe00c90d19888b6915dc2b02daa27ee065eb714d7ffca2d2a15478a3519d5ee7d35e062c3f75cbb98fbb35dfc4cfe7dd69b7e0d6bd2bc0a9339ffbfd0fbe59b531730c7b4ea947162dcdd0bc70dc22ef70392499a180673acc57ce5483cd2703cbba8c69564c0fee036578787c6754932016025bb3eb0cfd5b90968d");
+    builder.add(
+        "1954b8b9ee392e827a62dc0f65094c4b",
+        "b3bf0629ffdb209651e542ce3bf2c1bf",
+        0x74bc2eaad723d2bdL,
+        "456b70b9a1ff74b223c62a95e9f3ab9bb504ea6faa2a76733298a51fb13150ce7862ccb39d5e074798f2b27e064f782f55e8d2cf7f25c05ef3e5bdd83051f5624a64491a9616ba2199215b8fc45885a23fc5003dd7df2de67ee6edb1b22a4fa468d5560ee51555d0ec14bb4e806f1c8b9c21de8d1f11edaa73bcc99e3f375e2f82bee7");
+    builder.add(
+        "904efd7bfdc1fe54776d80f71b15da0f",
+        "67f0d73391ad0bc97d078ad80075f022",
+        0xdffa57d9ff4ded0fL,
+        "5175fcffa761addd5efc147440e48cf2dd587eca818316107336d7c3acfbc90e1052f26d53ce110b05d61322374ee07ea1468189e8c9c7a22469d7b5c5f789af64cbc6f28219acc154223af4a173650b8ee56970622ef7fe3ff39f21e0ad93d551e7a7458d3f71350a5a439b577f795217ef2fd92463c31792f66715108ad0e0633d51");
+    builder.add(
+        "b03ec6c0621e234ef2deb48adaf41d2e",
+        "1e3b87fe77a87ea699b2253c36bb7c09",
+        0xde3f6dd8d5c128bdL,
+        "1d1e196bdc4ce44c2c9820ce11990da6a262a73e3e2e4cccd97dcc525d553ecfd7451712a4a71dc8b3882e17063baf288f9a65f6bfb96b6637005baef4925569edd18580843c191b2149bde734c5a7a3749eff28278465009995cc902e9e8fc97f05977e3c34e7c939cd6b041d203508016bd71962fa30071a3f4fef58a5a64802543f");
+    builder.add(
+        "c02e4f11e88f2059902795822bb03cf5",
+        "21ec2774b50a765dccc341033c4fcb30",
+        0x3dc761f5a78fbe39L,
+        "d0f3e41f0c88db4ff446ea9d8a25ec0236a4cb2a06c2cc792f52ed476ad54c7e818d1cb62fa26d5d442cf124a6c56e2e58ddd6d35a90e6e9e725423e51cb3c837e6c7fb3197548cf3a0e6cd6523679169bc6092408c36cc7484154b61611916f5b4e109b8c32c8840a261bd5ec8f929b727204186ed64c96af665ed9ccaa92c7cb04a7");
+    builder.add(
+        "4441ddbbe851de8329a02e69e62be1d1",
+        "5c1880e951922889b82b17cfe249a69b",
+        0x66312fc49ce8a862L,
+        "be340f268c9b1fdae0892436576512b1072cde4fb7361a65bf1822e0387728a19f02c550ffa5edbc438e71eba0fc883d904843885b3421ebbfa93a1d94cbf483410b79a46c7f8a47b40b147df781ea204616a5cd21d5cdb4bedf3a145d3ac5103fcb038d9ea666307acf9fe9ba46997dac87930c378cb02327178050370095e7ab459a76");
+    builder.add(
+        "fff0e2474ac8fd73567b3a6c02aff135",
+        "bc6464a49b09d7020315a07b90699467",
+        0x00c82fb9b50580beL,
+        "bba89db8a57c35072f10485d4dc4e01662214c1dedc3e1a5f0e977909d6e3460f109030c3470934393346dddf0a8c068607519e821a8072a46b164f022c8e0dc68b82e44c5cf5504e1a287ef1d4f069b7d542340bb6c3c4863d3f7247a08ddcbabb92b055ca8127457efa92fbe213b6b72f0d32e802334207bbc95e4426297ee9d4e233b");
+    builder.add(
+        "31eb428a2a636153d55c6d6883b29003",
+        "4af6190dae413d73064fdcb30611fc2e",
+        0x0931f588b324da1bL,
+        "88a6e87183a586652abc841ace2a93b4b2db9f84c14370c3301734a134a630f9c9a9deb9b9eccbb7b5044f31d8a9e89797242bae6264d50b82f50949197f03cc5d4ba16e8e06f9a39f9e85b5a3931113b926514d7bf09b848329733ed93c998fa9fe6d8e20d7159b9d94b8d84725ed4adc30453b49357c40fe26ba870db1eeb94ba1df5b");
+    builder.add(
+        "55562a59b35a9d7b368bed511e06b55e",
+        "72a3f8e59495a8a69a8cadfbbbfcbb38",
+        0x0114ed09cffe6e8eL,
+        "38532d18cf1a245bd6e55d4d4eebd7307f22e56f97915c5309e41ba5bff07d86c419fa69c15c9fd2ed274f50464986711c772b19681f7fcbcfe7353d85caee87290e69d52cdb894980374ff1d6013f7a1f4190b854a6e95bdcf2b008b162904bf5b28c4e22e71a259396b25baad4b46015c82516a3848a096f08660e6ab71b44c5f720aa");
+    builder.add(
+        "5c3f173e33ff71cf20bbf60600a632cc",
+        "33f9e100ac82fa1d7788c48bdbc11d10",
+        0x50e7c5d7550d7f3eL,
+        "9123cdb22ab3c0de44460cdbc48bd828e11795ce7ac64a1e963b3910c0fffa10d1154c2df727836f30bbfa718ed99b06e0ee394a80b9f72245951ff917f048341fa8f3df84ae713b8f702839ee87661a539ea70c7bd8ae377b474a7539869bc81a95173c66fd975b5cee4b52ec4070ac42f8769612fafaab7d6d215f204c95405a749172");
+    builder.add(
+        "5277f305b0f5b8a5d5ef41638af956d1",
+        "9f54ac982a86e08406d8ae82931b47a0",
+        0x0ec9c253165163adL,
+        "c19269a92400dc9794193f9fa5e5965c5e03d2929d0fce0c1bf9cf28412f078cc972ff26f02ba3a9f2724f3fb2a1bd8231e010318150217a74d30ed0faf185da170cfc9105e9b188850bd88dea342b23614694f18ffa365ed5c8f38a4032a25b3963b2ba70f01616c852072ae5c0d2532ec63988058e150a2c5821cb8eee157911004f50");
+    builder.add(
+        "ba9b38357ee6086164b2fc680919fe44",
+        "5dbe4568b18c2eda594adcef4356e00d",
+        0x5592a648f741af39L,
+        "d09f1ea1cba373447e0fb9c078c6450c8462d8aa1061884e9abd9ae4302f86db591d3f7468c14d6814f45dffb0dc9346b07c82a7bc8a744ad6f851d6464665a8c17904b7dfb167039d041a8420897116649982c5c311c0b5a74bbaa99af3d57cc019983585a2cc9324ef8e9d76bd1dc9ffb72e0f3f3406f07a72628eb7c13bda40837bf2");
+    builder.add(
+        "e14dab21c8edb8337c80db48caff9144",
+        "de2ef0d2b5e42face774b59c6ba598e4",
+        0x8e767acd5d9604a3L,
+        "10cb9d0132d6c40985742c7b4a7b0e23d17e119bb4a667f37a87755fb4a6f95683c475f1c170611bd03393e9a332a2989b208cdea5fe410c46a3bec389ee60fee5de3718838330a6a1ab17c5c45ca580e2317028370df1b2d74a5552d75cc7bfe8343dbe65fe799ec30bdc123aa7997e7bf5bd0d611be5c9c9788c6c6da5e747f12014ef");
+    builder.add(
+        "f1a72c61a0de90553455fd4997556aeb",
+        "c834fc53f8f25bd3c4ee49800fb27288",
+        0x8df0d4f358a4f6fcL,
+        "2058223ab2964e173d259deb9b85a5af65152b7de583623c59aed4d1c3cf9085e1fbe79ded164d6cd06dd0473e33ad6ef10e39c6af3dad97bc8d93ddbf25806aefaaa64fbfabfd311afb981896ed53a99b7fb94f140c33135298777e8031d9a6beffdb5fb76cc22da0b039cb09fa2806129455819d1ccbd0873679a725cc1def1028e77a");
+    builder.add(
+        "329d5f43e1429c0267976477a0948e57",
+        "9a8f4092e5e4106163a376c60c94dced",
+        0x0ef4bb0d6cf130c5L,
+        "f13b0ec4c6536dc2c2904ec0c5c5287d287b9df679301f032fdd72fdc0739f40ccf05ec74445c2711acd8faaa665e453979ecc2c72eca97749db53e31dc9b871737c8fbaf6ece7a3dcdca63455446341900bd2df26d0c4a8365281e3277fd50a0e4f3362c25e91c579e3e4b7cb0baa4d7f440316eb619379585e4f9be33e88d111d8ba41");
+    builder.add(
+        "486e2db164b9268edeed7c37fa1052ab",
+        "fe5f1c746d6e5d2763747b50201a853b",
+        0x33a2cae60103e8bdL,
+        "9bffad7e764e86814f50a281443f67832afd50e0bdb200d32b61eecc80c5763b97f9540151eb243629720256881cc8b2242b6dd5312704c468eb36579605513f1c82d3b987cb564c1bf09bc368f8d3a48e4c9554b91155f1661348885c74fdb8a42cb9977fe16dc392620dceca7f273aed0be7bd8f9aa8aaa5cf953212783fdab9b504f736");
+    builder.add(
+        "b563b3c596dc4b7ae5a5a081062841ac",
+        "c8674152d77dec7e47b9deb31a050049",
+        0x4a38cbc3ca8fba02L,
+        "0a71a4b796debe04124fadf6c2f7f64ad5d5528e52787737054fb3cd30fa3a602e66d3e9538e1cbdf985c10319d01285edb00c86f4cd17a20fd009ae7af0573f81b139871cb37768c3071e901375b9cd2b839238e33ec148111170ad9227c89d1754c692eaa4d1abc5d866f33eea3dcb21e4cf0e48c56a17abcb52f68c0ce2896d625a4fb5");
+    builder.add(
+        "e5bd6e12dedc8878ad7ea9cd1117752c",
+        "96c7959d5a2650c0e38d6af4534454ca",
+        0x33b2367cd5731a16L,
+        "20d8737fe1fe295e5a549f16290067f7fac4be59e9fc4d4c6ddd5f550acdb14cc4412e59ecccc0adca3c66e96f35c1bbbcdd0c38d68ab84133e0c0229e45afefc8e45f3939dc75f38adceaed37c1813d6f40a876d8c55134bb2039eb741337de356492fa8294c3d0a72991c2c76fde5f019d62d84bfb5000a4a3af0842e72c4e7d42ad17c4");
+    builder.add(
+        "e62ff8c6a359d9aadcbe0a0a66cb5fce",
+        "e66fec26e2c5911811172133d912b371",
+        0xb4a71773a823ac94L,
+        "067b98089291a9f407ebe48c6c4850d64e56eec07c5eca4b896e4400439b20d45c611a5944d93d46fa4a83461b18eeb1df2590e2ef5f9ffb60dc5fc771703956a8a4f0e554f6bb3e66c37736dc74fd884594fe2f0db1312c718715f1c32dcbcfdb15f77489db0bcfbb22fb26f7de3bbbf8c455e353bd7ab3dc21c74d7b03b0b1e067d981b3");
+    builder.add(
+        "69d67404c509f29978816e86a18763d5",
+        "d0f55af422f362225d5cae7199729e99",
+        0xcc8ec458244bfb61L,
+        "505c20e370149c259963cf8ffc1fc5829a47bd3124772286cbaf228946db7d6cefbcd2eeb8bdc342c3a8534e954943b1e4f633598442ac0f04079a69926c54fdd10cbf9522e50286422a6ff466c518803e9eabb49d4d45ec40af4eea644567ca1e03cadb1fd447277aae0fee13a95ce5879812d594477ab81180906784d286eec20bcb7a78");
+    builder.add(
+        "7038528833b611e450fd8e46adfdbbdb",
+        "1b3bfed2dee3270441d4735232affc4e",
+        0x9ea0f7b9157b66fbL,
+        "5f09ef64d30a27f2d1697dd3db8bdb6a076230e958b6a911e060c58c55cf01de14e4bd441f7fcc444b8d481a351a3093701f58bbae6e3c0f853f4d9ae2777060c1d858a274843939a989e9973ea9bb33f667424d03e6ddb8540664e27cb215ca3ac969a75c9bedd52d6141579c291ed35ba85fc9f6a50086e9bcb155e1394c1ac073a05f7b");
+    builder.add(
+        "fdad2230e3639aaeb23faedfcb5f4153",
+        "ef94bc4d8eeeede04a3ca33d2805bf72",
+        0x61e3641a0b80e200L,
+        "f09bc36f354e5fe4d76358d552ff5b261de6e545f978cf2dfd1b29488867fa4762a8a5de12c7ddf4478b60679b33b35c89c6929be608cc4141310aa98830fc7516793b454fb150e23d78a2ba803c2fe435fc493c051dcee95417e6847f086dac67bc9577ec5e28ef29df46e1506bab323bbc2bd06863b94c4c2739725f8b8c3048ca1658e4");
+    builder.add(
+        "a6cda9313943656b151db1ea9d44a868",
+        "700bc6fa916c61deb3804c37a746562e",
+        0x918b84462aa219b6L,
+        "5744b9fe58933cf9a7815c0cdd0b794f7dd17fdfb8c095645b78763c521087bdd119e7e5898480b9f5333e7522c96832d06862278ffa41a3c1c9aebf818ea0d46ed53c178ec6f65d58d7cd099af8d23022eec37daca6e4ffe56640853e2bdba976a3804ebfe829b7a55bc3786cb385741ac550993cc56d8835bf257693d0ab1417c45d629c");
+    builder.add(
+        "c31478fd1f57df0c11ecca4fc1367a74",
+        "dafa694b435563bf003a1d0c3b701409",
+        0x1ecee8c935dd1677L,
+        "ae13e6366e044b686f9bc9d1ff833e19f2225699906beca265ff6ca95a5f7b2d8ed7940710bd3e14bc30237071415a24ee91f1aab1df4151587b5a4d6260a5bee3a5df1f660256d39a8c1c126ccdd15e573c0c208d94f76bd5d829008764ec5f149eaa6267c6c3874079806dd009aaba83634ecd1ea5e6660d6849b868a5fd82b487f2be81");
+    builder.add(
+        "4e9bd242c8f129dee8dcefd631f5a221",
+        "2a2404916131fb57b2c5a14801969992",
+        0x7315cf0e23dd2087L,
+        "4474e3acd281d40ed724fbdbf6ba0bdff334bbd4bc7e4cda106396077122af2e9307345ac7e132c80c47ffee6a58d2eddbb7b8fea312a98affc5f09dd6d4e68cba8e5c9c4713c114712beb1887754827072a27ac05dfcdd9806094eec174a864b62870510c581ae3d0cc7032aef099e38d021b0aa84dcb88e603f49a01530aa1771174b793");
+    builder.add(
+        "68eee4dedeec1e8dea54d627a13b18e9",
+        "41a0161300b18abd8bd5fa1ceb5b4ae2",
+        0xadc22107abcd1ff0L,
+        "e87f5566d296653307f9f5a34632ba9b1e58045d5b5398435c622cbfacc1c3bd5b7e3b36c73c6e7047ade9d30c54300daeae90781cf91e035188b8572ad6aab5d446d1ccc248edbe650d55d3a44a02a167caf5545089dfb0e7e7b1ecdba46ac317c9f8679fb7a37c85fd4de943a3da224d66a00b214524a72f710ad2b3dbb6bd0008249d1675");
+    builder.add(
+        "cc092c20819e1fc2ef0a48f480a00256",
+        "4fe1315831668d490bddf22ab2fa42f9",
+        0xfe6cde7b0d2fd6e9L,
+        "5ec9f404e2072303880be83a2efa67758793270dd27e591d87576aa3de776f2a9c6487dae3c47699b886e67567a0a8a259ee74c86bdaa28084695cb20395f755da4188421b22af07a44dada41acf07114a3b51f0bccbe2f31c1737acd41a40be6e128c3b48fff5fc478e7c8e3b123a0b7f63b472daaac6c2ef0c360bf67f3580d0c11e070d44");
+    builder.add(
+        "b2a0df865167d892dab2e4ac1e66fe60",
+        "bc7e8bc1c8a9e981facf89155ff0c55d",
+        0xe7c2eea971f71b80L,
+        "5fcabfc7562aa28b5a349b767af7281beda5d434b184521e9d187a2401917bb252920ea72e0665d762e52f70f4742aa475dfd1d16ae82d456bc2a92d6279b499040a1d33a437502477bac30335aaabcb85e60607c4deb88f23a7ff72f3cd50103cf67d742d8100dacb8bb008fb9b28ae3fadc15dfeb659a7dd2b2398b3cd6b9dea554c7fc95e");
+    builder.add(
+        "b90e696777e17e122c4794ed0a0db444",
+        "b3c104d8036b0073064adf3899c50f5c",
+        0x6541aae0b2664636L,
+        "17ecadc1cac2acaccf88385ab6b83cc321cf4ac898ad5233306c76939fee02cf4a0df855c78755514f121e660f6c3f3bd5a2dcb2106d987bd2b80b6ee5ffc13f7b415b86b954bd076f56d51c02148ef08465d558072a5c025f420e05067ec9b81d437a92b2ddca785ae498e8e0f14c7eb60aa6da6a5112d040c02de58a42af8968150e306747");
+    builder.add(
+        "12af7e9158378245b6b6e3a88ef2381f",
+        "f070d276f43ab6425b8d9ccdb678402f",
+        0x10f7c62ac908b895L,
+        "136fea6df326338aef47751e84ebac072905f4a66fb1c21bd84c280a7c1a9cb80327cd6bfde3cbc122444fdfe69d83e3c66d92e8c823d4ab3d00ed9f997db07cdae31a1b2bec73f3fab4e346b787e566b9d8ccfbf45402a9d7f5fadc8f8ec1c3cc28c4d6f5337010777e2f38eed7cd94e45ace08386cb9f2821507fdcfd4d2627c9c1c7f4391");
+    builder.add(
+        "e486c50bdb9fd7592df03f2e211ccddf",
+        "a10bb559ed4609eaeef156616b8ac677",
+        0x126c34f935f5e2fbL,
+        "cde67cd8f7badfd2636d8968d61ec86e06e0090aa261d9ee972cd99bc22ab5b4bdf1cd4979bba003aa19fd42118c2a707fbfb9959886762fe8414f3e9c62392ba771fc4701a889aea1eca7bdf5c81c3b884df394818b3aeff5a6daa2610692f3c270460430ae95687e359970a6e3387c6a0ae9c00ea421c51ec91e6a42d6604d77189279b435");
+    builder.add(
+        "7dd34906564833578a50adb1784a89ba",
+        "2463247df700b53696316692beb670e6",
+        0x457603ebf1baa22cL,
+        "676622b83611370103bd190f61f08d2e587b47d153f11b7b7d436e7f93121657a494960e1b12b9d280a17e42e5b93e525ede8c52913014899f58b7e642740314a6dec4c340708faaa5e4dc90c35949b874d68c4d87af878ef7f88f83eaeff17ad67b2d372883c93ba6f50a002bf8f3923ab9b368ab90a7d6217f81b37aa593336843986c665b");
+    builder.add(
+        "e731481a61090e301b748bd72869ec88",
+        "c967e11a21b24675b8c9a29978bb5777",
+        0x88150f05ae181d78L,
+        "055f43949d9aed7f548d10307df91c3969914d7a01fee873c6a5f45cea8d1b63c47283983d11a343714a47b40238d3c2b50747c2cc48cf483912ba3960364c9855face1832c63b6453e168f1f5c3043e2bfa88326300004e5e5509ac038b8a2ee3c17e5c6caeb6698b6d167e422d687f50ac58bf495e2ab7dec8a3b3d25c3b1f964ffea6777e");
+    builder.add(
+        "eb8aae08454e555360936128eb617c6c",
+        "b6066f74a097f307259ef61ef2c1c6e1",
+        0x0148f57957a23e77L,
+        "b8a5d9729d46b1448ca5759e037fd5b891fbc93be189933e3903b2ed6b6ea500501efeb156057543aeb14cb0f6957725d51caea3b26be64084b67d789eb7340ccc56659066afdfca81321c71f7741b081dde31648543cd6ef88c842224ce8627f0f9369f96e51281e7a0859f9cba96a651a88f0f42cc452182f9d6058ccfd3d9d288d68abd1e");
+    builder.add(
+        "c63869a249987341aab8a0a852ed362d",
+        "0277101b747fbc5520dac6559f9983e8",
+        0xf7c05f1e18892a09L,
+        "f917467a516f3c7aabbf00bb0fbdeb4f7edeff8b5ecb9ed44b916fc7bc8522430d30eda4b3f2c1897751abf3c9a6aa502c176ca8ef99b9b261b8e29c55cf6357fc3f8f93a7b71c3936c2a956d2811be75746e1f8543d6f9f88224f52403801953a0bf80aba7c52269f6d842b5343ed97719206f8538bfbd88beb334b8c89361d47ec797b9f82");
+    builder.add(
+        "66b8dd740cca4a0a6d0fd661d7860657",
+        "26968d59ee1e82f8d5ce1c7587c71644",
+        0xee088b00c38caeacL,
+        "6381bb4eb2b3ad2e01870b16b08e05afe46a3b28c52f1338cf39e8f9e68738869df526068b11c4f6c4399f3f2ffa3fbc20f279a113c8e96ff7149bf1091a9b578ab10fe24e7753d2c143def4c8c45f541d02266ae7862a1352ecb2018864d572d9f1f142d5ae95f71adf27508ba907be8bfd2127a885d87e2ec605312ab414fd46b24c5542089e");
+    builder.add(
+        "37805b8ed7ede5a472b963d08f66346b",
+        "336e69588cfd4447811a7e15d067d12e",
+        0x392dbc654b78468aL,
+        "44dfb59a51c5beeb8d1ff296fe9b348b72ef99a5f174856b1dd4ed598c5ff3c966b416d44240de895a026077c90c53442a99b37753135748778497f196138f7c7170f1e7a003a5e2557e380a2338fa553786d89b73ba5cf81ebc9345312cbccf56514e407dfeeeffb9150bec67665c4a9b0d1544d1b8715e60025771cafb9eb809abacb0ab4598");
+    builder.add(
+        "7b52dfc9fb276e478d93665f240bf63b",
+        "fd9b30b66d62cf5c0dbf3acf6b930b06",
+        0x9d62b52f1577d55eL,
+        "95d3c0658d9f5bce12e09f4edf672a514b86b9e47fc69c45692078405b1efe365c4f35f727858f0f37cab0a6c4743a7fba5ab1b39b8557527b167305547c37ddc2482721c0e860f43997e0b9aeca4b6ae78e1f4da8269e27c156254f9c0efe35e505549b1f273b241426d97fb5b27c96c7e1eab974e954ae9562aeb67274f0e41c3b343dd7fc62");
+    builder.add(
+        "40138286149802d46fface65c58bfa35",
+        "9b493db81c338e32041dbcc3cb8a43cf",
+        0xe4fee3e30eb8d836L,
+        "ceaea4955a6c042e4d2a7fe7d7c8c649a8f6c76c2dd8bacec4a47a9b0e4fe386dc8c6a01eef553df73598cd243c7b01a5bd7131402dc96a45e4623c19bc573c349d0f8d4d60545a9b45500c3b552c6e11390258c122d6f8a3f4f00a81c48a7eced6a9abce0e558c160129e50cd179e8ba710243f78b97f5a047981d587a502072501fb7a62b9b3");
+    builder.add(
+        "45b989c2b62e6e1efa45d8c3108d87f0",
+        "6b73ead82cabb07b4dc8166ab9e1298a",
+        0x51f0f36bf1328b86L,
+        "42f5816bf9ae73034ea432be10212d0c81230bd4c5a24c464d1ae8f1a74e05e0d71e694fea56f4e739e6396a1963f00dd6be37b91f9e37f05f8f68b30163835dc551ae8fb66f9a30b2e4a050eac8d01ba788627002a015392d29549457b89142ffa55bdb4d42f72f4d2debb617a306b317504298462192dd3c126150046d14dd2cd5cb6d7d8042");
+    builder.add(
+        "036088501fccb076ec100a8a4878c81d",
+        "56f035881265443f069c52cbdd38526f",
+        0x3e205c7fa3418f86L,
+        "571f943a9dbc62374cfed438fffe3738a137194ec6806da21b848efb3c833f3ec4b722745e6111235a4a87974bbfaaa4dc245cf10ff60e998e2f1f11d007c87194ef54da78b63808250fa01d225be621ba1eda0bbda0d223d3ac4d47e25ae3847d0b5f68a75e690312e2f2c2e88ee51d96fceec87ca1834c890acd12d0851de0db5a1627c6d1b6");
+    builder.add(
+        "b9482b07b45cfb5dbe220a7977df8dc6",
+        "4825e44273325ec4740491e106226b83",
+        0x69e450a30a504e81L,
+        "946eef1096b89f9184df5d20dfb7c6152cb2e9339c786618727105831f413d379a39e87e79afa28a36791860655cf6823d98fab0b9dd61888f4f1b9f8a8576ce52eb25a89d5b706e6a52f2d276b0894aa91078949b45f8067669a04e20c0bfa8a3d0f77ab4824e9db8a00cd5abc3c0a5339f91dcf7b7df99a938ec834b94248ddf3f8a1728a500");
+    builder.add(
+        "31027c9e4d76e0cd161b3464c3a50e3b",
+        "55f8f66e50b9d24c5fea718236d14989",
+        0x4c385c89769e7472L,
+        "be4614b1a2bd1f553cf269817d9d7a7cd4f407002edd1c8d9031980eef1bd7162ac16b8b5b27a712346103e94cfa9fde7a7debac690e41a5e548bc7215c7a779ec3c04bb6f373ef1de89bfec19aeb486a05cb5619ec8551ae54dd2ed9584966bbf919a4aee5b98e72209b01a36307fb92c1c06874fe2ee602bc3f57684ab00682519fe6ff05693");
+    builder.add(
+        "eda2804f5462bb386a9664ff11dfa298",
+        "d470afc364a84eebcc9c0ce0dba667c1",
+        0xa03f120765092ef8L,
+        "c3c745b71293d818f3a3d82e803e4d224cf164088473a750495bd841d4e99ed1f3263c6e53eab934c1d3f30e9226892d55846651f702528279f23376251fb92c4ebd03d83b7ab7f28912eeaf77dcfb555a2f18c8fa6dad60a77aa5965a907c6361f56952dcc11316abec904236b47d206b4b912f1ee66fbf9d8fda6f9add97fa53591c78177195");
+    builder.add(
+        "b1a78b9551d7eea76757374e024c2b2b",
+        "bef02eb5e5941185f0aaef703d4d83d8",
+        0x4c7d9b8b9ddeaa1eL,
+        "12c456020fa46bd7d0434e78f9e71fa4995599f4f238fce08d9cf115863d4976dabe718b534d90e54b5a31c09f53d63435c4177de412225d4d0dfbdf78043e6f142b8c4ceaa9d907ac422c699bc88a40a431bd06ebb75a33ad01b937efa30beec6d0f8b489dcaad85a0b68436337e7ac8f4776df58a93fd1dd844837bbd80295835ea8cf3e1175");
+    builder.add(
+        "aa24b8d96b23a42066a8fa78add1f3c4",
+        "1e3660363804322b85ba6c027fe41768",
+        0xfee3566eba1005a8L,
+        "4e21143373d07adbfbc7ddde624a99ab75bec943e990e9008d8cd9e9421483166ffd82e34537bf676bc33af1f9580b5fad701c441d88823980e4d10c97cca90f9770303f82505baa21ffd1d4e23664177a013c5c3252fec010d08dc2948d006b6830d501179c2cbfbac0cfcd2f4f3c2b535f9bd75069fcadff250fcd910b6a9ac12e7e2e9a0cb149");
+    builder.add(
+        "76214f31b5b597245094f6a9f2383afb",
+        "902505cdcb9a2745b20bfb8eb435f07a",
+        0x95cef22d9638af7bL,
+        "311ee197f742d2a8d71815cbf3315abeaba968e1ba0e9e47a14055744b5adfd19bb56c4aeb3eafa6c2c28a95a7349dc86c9ae67c446e3ae3434ef347c2a813316f719dd77d9c0f8a4f20d700a10d3070729c02770f415a8f323dc4530ead7cec63229c1470d0fbcd3e0e16116683eebc6f2bcef4bd640201081c36fd54ad0b347efff9bdcb9db259");
+    builder.add(
+        "825ca71204696bd2d9f04f53bdc7fc45",
+        "a47f89646c0749db1a70daa226fcc79f",
+        0x5d8d772390821d5aL,
+        "85111cc384f259d2186aeb7f8cd06cdbd251e0ea15533a86d4ef826407281699f9b04e8e8bfc2bc5e446d5b011a9dd562590c4d1cfe1171f8a11ec8ae20bbd563a7ab15172ba78e7d7aedd964e682b2cb2cb4367f2fabf006807d1799736d31a9ab35ac1615daa8fca3b14eab71c14b322dd94e3a90653219e93446b3f06b9baf79e6e3f406baa77");
+    builder.add(
+        "7d922e92909e4e38c99d0f67a6b6c263",
+        "1a41689a448fa62915ce13a0044cd624",
+        0xe75ef28f79aaf430L,
+        "847aa2b9aa2ddf283f4f5308ac31eb3652eae1ae444ed0d24b46bc1bf56fbb51a562a24f72d0e8c855eeeda9d530098deddca9bcf8087f072e134fa5d1ad5feb2ce2e4ccadd2ff64449961539b0759efea29dff0929a7cde6de0b5250f6ab7ddf6e46907ec08e54d9b491f24bfe0a42b4c255989e1a0684dc3e96a60b1aea6080b78a9330f7001f4");
+    builder.add(
+        "b26c642a025fe880614e6ac5e40a20f3",
+        "98db1b20d44eb7f766e9100a1c3a2973",
+        0xb68d1cec64368f45L,
+        "ac1bf16c19748302b484c2b21005a77464348be5c7cf6e7f1eeadeaff16c778a8fb843c6b6f77ec05b1e306b2eec47515459bd8ca8399cfc968e51dd0fcfe7e9051cc6a3a0553eeb0ec92d018b1637480a11087e2dbc4e112e2050c6a7d369e5b087e8e958deecfa8f32036c2042f4395fd99dcd6fd4a924d3d0a960598b205949f14f8a0e0507a9");
+    builder.add(
+        "d3e47105796f74c8901b15a037fce9de",
+        "db5ce963b35401382c2629f7df78c692",
+        0x20d8e17577a458d7L,
+        "294c59b329ee5dcac8d586576566b764d6172944c46440afa55e04241fa1191890d957a475b995e668a3e749b35a4fd7011a0d902e3cc213d79a28fe8962fb94cae582c357d664c339fb8310ab8ad473768be766dc6c84047c70b7d43b49b2c5446b908894cca25b275ecf15ce176359368e447cdc03bc536ad3166dd8dd50c4c2a6033c43639f62");
+    builder.add(
+        "d36944813331e5eba1ec070fb49e528d",
+        "9e301081abb01908c4fb99c25d31818a",
+        0xd5c49f01fec27d26L,
+        "9923a22dabe48556cff21cd03dfeca8d6890aef247cf4b299eb9aaa233ab7e0506e5462dee9475813705a7590ebf5cf41a5d89ac1752d0767740198a9bff02226b51ef67b1b6322bb363215748fbf7c62b93710cac79464eca2d2bf8b031db17350a5ef389014d65caa5d3273c9ce62306aaae001b309678de521b7672d83d1c8642cee8579a6a14");
+    builder.add(
+        "4ee80c491d7ec33e1cb2103f7fdda131",
+        "b8fb2bfdff1dfdc85bdf173f0304524e",
+        0x6d9c55d9bfcc61f2L,
+        "cd892ad8e964a3602ae53581502d9c4e31bcc3f5244e91bcc45523755d88901564bcca7c16dc6113624a00be78c253da446d3ca59d72c1ff3377e1b0d2548d2d196487ad7bf6c07b1affa88f1bdfc851887526b0a6f58ac4d9660649d14f6461cc31ba0cdc1dc8e4335b1a627f35cfac705e1b9223db51d8db75d7494cdafd79dde8bb32064f5aa0");
+    builder.add(
+        "cbf3e8ae97f5b17e473d5f8fc9d56efa",
+        "8d79aae9090c6152f67effc5e7057067",
+        0x96edd2ceeeb70a1fL,
+        "6e1205496054f655c910ce5d0bef8c3abe4b605b7da64e2f439c9bd03664eed44cc29ec2e17fbdfbb553a4606bd7b9600df36f0d0183611b3d71ccdd551468381069818422750a131ac4b6d678a9948239f30cd43a7e247200731854704f681bcf4a4c5254e71e0ce1ae93bdb898e24a5627fe19e4209cef390ea59cbd2b62b9d931b2cc819c0036");
+    builder.add(
+        "c8624dd991ad1263c1b6953562a0d51e",
+        "5942c0b26388ad4c4d0b6454353f4a7c",
+        0x08c62cd0cbd89cb2L,
+        "42ab9ad69793ee8f1b23853e21f8ae8e3fe9e97a2f2686b72fbc8a91a0deafb24ce8d9f50e5494a146bd2ba4486c1b6e3c7a3b45b93f9d2f0a6d58b702b92e31c2bd5fec1c93160af378fda5178391222ddbf2fcfa8e907155dd5a84d795574d4a45075613dc277da42a00e8f59a15562a6df8d7ad0518b5e4b5553750ba1ae2be3a24e2a0d10e5a");
+    builder.add(
+        "f307cdb0e4f25ebfc2af022c8b67c7e6",
+        "6a1cb466f7a8aff32138ffb3ab26269a",
+        0x69b06ef7f003059bL,
+        "6e0058f3303ba3734ab6f5b786515559b56fb7d13283381d97758b85b4521dc3217e31f3e08be768321d5ee5f572ad43a59a9d4c28f069e0324a67342d6839d1c7ee76beb7edad0104630288cbea9badc0cf95a2a443c885ddf603c203d66fc1c006bb2d76113fdda52ed54fb294878416300d98176192ad903e22249b6d3aaccffe9fdd7fc77b5272");
+    builder.add(
+        "52c9df97920ffe4e2d8d52cfe2ed3d5d",
+        "af19ea8030b0f19001d7ea05c860d3ff",
+        0x352c715be2f3fba4L,
+        "8e81c9185d22c46831b6d0b8afde4e3772417544bf0e90af976e79a873a2f06d845305e386acd19833b656c4c57261e5ef6705c8d6411fc79ca9d0cd9e13bdb545b7524d108960ab5d07bbca87340ce81ae279f6e0b2fae08d38537131ffd5a31ad9bef4ed7c16bcec74b24a9fcb573022fe0d1ec875a9dca67c37125c10ba30e8caddeb8200cd5879");
+    builder.add(
+        "26d3db9a3e9481a3a4c732e9901781e0",
+        "7510993514edf92cdeeb29062ab43bd6",
+        0xb39d2311ba3abad7L,
+        "a938c2a616175e40c1f57efbf2e932f53cd1b582a4f68478743a148dad11ab1ca80ea92f163d57eeb129439d9612cba012adadc7b70eca4beb03c39a404308d4cff23b10df5e52a53c2b5aa9468fa80a6b5ce136bdd31886fb8ebe08ad79c89d8536448ef85e41ff34e7e0c72dc0f74a274100d2fd6d2b3c042957b326ab6aa86279eb441f62b05968");
+    builder.add(
+        "cb8c3d763d8726c880549fccb13b0ce3",
+        "4d4fc10e9ad24879ae4be394b522dc03",
+        0x62e85ee076dff16eL,
+        "f85cc51ba99c9deec90078c4ef924a99f46b0a7cfac2cb6df59e5a8ffb82cd94c341723dd3e764d7000816336daf19c2db93e72030bf6d553a348076daa4864a3ab89a7a77df3c2fb735774564f7023b4762c45649dd764df1ad900d36493c34e7efa1abd83bfc6153556500345c5aa265aa558bb62e2a7b7607fb347e2f1a1f104b5ad6e3f423efcc");
+    builder.add(
+        "1c6ac97ee56340797637ddc3f8d5a763",
+        "648906b2bc26352eee1d0d0ef4d2d5a8",
+        0xb20a2bcacf602236L,
+        "5da76b450333f85c3007706d9394dbe24f5d144b9ab6291baf189b9d629ce4e3417acd018be65e1f911e7d037db59418584036c03dc395307bbfcbd67c6417b1505f860a8c978cb1792ede927f167621b5276792975934f8961b0d60a10235113639a8cd402a0e2117edeb4eb25d631ef0c1158ef31ee2f157663ab429ac19ae589d31b3e36cbe2f60");
+    builder.add(
+        "5db828d84a854b1f1fa3576177ae190d",
+        "581add6d1af0e5cd16a60a8436d284d9",
+        0x3c2dfbc078abbcd0L,
+        "fbd406f398e2bd85ce6ce5dc1a41eac08a23df7a939c6128e999dc175bc18ba7ac0ff707b9b92858a2fe65c60cca4d86cf70191da895aa6a1bd80772870a2fb0db10e0a5746803bd76b717a38237b13ca36b68970b5d1f0b366cbee487fbf45b35318a8d1927a2f9f9baeac83d554c05f1c232b3aceca65879342fa64188d575077961acfd76fdb4e5");
+    builder.add(
+        "f0abcb50341d2284164ca7aa4c04d4bc",
+        "1ef10937e5ba01c6780c0575aa402959",
+        0xe16085d28ae829e8L,
+        "178ccf9fcb244b6145183be7f23530cbbf68516a771cf718958d7af04610c31eb8ae53907d3ff6062f184dfe59b25e9c7c88e866ab9e9d48c8340ffdd1c0ef45c4a2994db6abb46804c100eac35861f6ad24ae76553ec0f981395cf021420b5569cd597743380a4b01531287acbd36a01323da6bb83acb6ca2f8bef783c1adafb7dee332d842ee0e7a");
+    builder.add(
+        "bcc1ccbf4939403340a92591b1769dc0",
+        "17e2025b347010be03d8927e6e214eb0",
+        0xd526363335a5f847L,
+        "055a9562130caa077ba533cf7064bc812e1bc2c598bf93ccb7ccf476bebb175babac71be7cdfa93ae90e39ed1aa38932d88287a0198b8a6c36acef37c45e4bec142ac1a531ea3d1dcbec583c04c86fc75525740ddbb7fc7e2ed55b8a7d641c44a13d4f4c380b814f50e059708bdf240dfbbb0f9a303cc6842bfac196a939133db135bef552f45ca04a");
+    builder.add(
+        "f16fb68e742f78fad5fb5d13f7057f22",
+        "b9e1e14bfe785768a9192376694b2874",
+        0xb2fd6bbcfd9db73cL,
+        "f0a3c5b50448be56f9f9052a7fa9abea47584b0b503b5db6d4bc1db6b69cb560e1b6fecf673ad403afa4d500501f464e9251135f28e572a6a69f55352952b79eb78e72a3a51cc548060bdf258c60da1c988d1ccecea4846e6f5a2073bc49aa85ffd679902f066d82c32df86b4a927cab5d5de172f5e4ff041e74d7466481f70b2a7277038498626fc6");
+    builder.add(
+        "e9d1793e98e7d47c00a0b49d90c97372",
+        "6741bf375c400d82e3d29a10bdf813b7",
+        0x6e1b239949cbb220L,
+        "673a8c034aff82d59562df95ea24f0741babaa9b910cf9327322e6d9928c3d264a4cfc7a7d83c2a2d65580f367b0bfde0b4f1e99845f0f50b70c1eccc579371af46e6ab2a643c4e66fd528e16667ac6e7f61bc2cd5e0cc1ebe031fe5c72e7f67d0ecfad1da32716f622720f4fa1eb7ab87b74efc3fe39c161f2dc958f2f3e745c2dae8ecc9f11b001f");
+    builder.add(
+        "c619a829d6c5065558d60410491d8b0c",
+        "297f6b96750762e7a50d1be2dd70736f",
+        0x4ec2289595528399L,
+        "ca8caade9deb93bedf3c38b82467b9e686beef3c4755a5dfd449a7de1c44fffa683ea3775ec00659fa22e02d639058642f6e6e19db432b2ce10f0c5b2d3516b45000da196daa1b38aad2839f40f13b68983959e9a4ca0d772571198c086dc03efe48642588cbb4b676513f22409ad89ccc692b9973ae3e8540ed7256604dbbd11ddd0b91dd3d110502d9");
+    builder.add(
+        "8cf620657a942765844b94efdfe6f1aa",
+        "dd31b7d1d304a9d5848115c11825281a",
+        0xa12c04e2a5734accL,
+        "6dd2d30cee22dbcf266937147cd6f9d48ce4a3516d7ecf8653cf726de98f767fc328607d742dec8efa08ddbeb37a7af30890ed48b172e22aee9c25c8f892abb576601e2c50f82df8f086789f689fa7e8beae4b5f5920e150fca79fb538250df12ed50e5bbcdf97798f64c2c6a7f63c8ff34d9a6d7ce1c1835e85a1b1dfa4c934704e3234b0170edef2ad");
+    builder.add(
+        "28e10c13c4eae25ef7890da2196a6abc",
+        "ed8b928447eead5f1d1e345e85ed6d64",
+        0xb232df35c93638e7L,
+        "42a38210b4b244b43039b0fe18d77a6d8ee692798cf3dbf833f39c3c45fbd85372210892ce196b44caab71276f3d31d88aac322adef58232789b01e3c3634b1232f9fb4f8074b12281391539be29e110b1fc919ae4a6904f094ebab0b230970c2ba2e4d4a5334edca3f96b4819c73c2c9f0c4968f3890b7a1aa4fd2cdfc6b0d7829cec92baa5087e8b83");
+    builder.add(
+        "a62fcec5c0fa9684f24cbe828774e575",
+        "b758323086f688e9d39290530e6199ca",
+        0xf26f391ab5064749L,
+        "444709df9c1061440652adcf367dc82c1d069caac46044b8c789a4a72ce47569134634b70783e80bfbaf613c17c652e0f9e19c9ff907d74b7da09f34813b282391d5b13e172cd486b11bea254a53d36b0a87646cd8b8557cff71d88ca4149e58b358db78c621c03ba4ad97eff903dbe785f706be341cd2d9c34678e153e84b736f0e065489416c5953ef");
+    builder.add(
+        "e2f235c5bc5743168e22517251b923c7",
+        "4484758fc2e0b44eaed8ec1117c47763",
+        0xfea305c2d399bbeeL,
+        "bf0c57f57cd73d359d66a26eadf8ea9025b67f3a95192e51bc0f2c10097125a5d1e15c0218887aafaabd3e8849b8ba1da512113ce0a2266f07bcd3f122087a81ec6a34269667e0b236ecf93956ba3da0bb97630878106827d8c0c011b2ccde17bf06073e83b8e8f463f33cdc79caacb5db9579feb2f658cf271308ac5f20be951820256e9b62494969f3");
+    builder.add(
+        "07692308c2edf0804b66ccceb05f63b7",
+        "7988624b0db8f5defb10b59336bb7e0e",
+        0x91a95e814453eb4aL,
+        "1237da9cc97102ef8b1c5241dec92ab5d4cdb80f42405867f49f7539dfeca750cc55411c0ef86acb3f920d9a74119bbc72e1f1731411bced7adf76023f4c08c20e8541c894513c5a714c59ad627c4bde72ab91dd03a1f7a7021ba56de73eb84b848fa402bc492aaca589cc5a61f10eaef93a59bf81ea022691d22954ea03c9b17257916def1deb78cbde");
+    builder.add(
+        "5a2bce48c2a98c3564aa48fa775b39e1",
+        "f9620c640720fbdcf7cb2634977ca6c7",
+        0xdb97b4a3b0c0fef2L,
+        "13791cdf8ac90a7985f3416b35cb8b69b7df4f72337bd71d2830df0dc680045add10d302acf2934acdce397fe499c2fcffd75b937424d2c0e91902a1f4753fad9b8ba5eb9342635b5f36127364086012ee2dc81282eac8506ec72d7079980b78ceb1d6c7b01ece8d2e8a3b2d0cadc9d692cb31dee98ba977d7912b9c161b21b61ed9387e36a7f2652777");
+    builder.add(
+        "5146130b9c7903ce5955248feb644bbf",
+        "dce4cbb5724fff72e95e142423831faf",
+        0x17b150e5e8916e7bL,
+        "b88ddc7f7ccc1afb72c57c21fa4ed43339fcec78e5825848235fcb9cf2c644ae5e970535feee88e4e9e0030fb9e1cb0bed501d8f90adcceb1ca9826b096d01874ead04b9c3f6632603cc0a88c718f10dd6f419ee367f6764dcd1f56985c67868d54267cc561f43d4987534eeb4961c37728e6fa9fb5d145a0c9d4f44150d59577defdc70e5166c50dd8c");
+    builder.add(
+        "3b06a585552230c240e85aa3f2af1345",
+        "531c715275d952a90ed7738507ed319e",
+        0x5a750f94c0391d46L,
+        "abd747858bf642b46f8170784917ad5550cd983f473379e5ce6b27a68a1476d2250f3b41eaa26cedd135e981aac33af7afc3f46487fa829f9081e2ac75be32d342d74b84030985fe3b557d4d564b567793705e8bab080357d1e9b633cbeabcbbfe0dbdd233475ffc13252825a381be28851fee491f3015cf9bd8999a41afb116da800c4b681251d3b16e");
+    builder.add(
+        "5e3222625d48484ed46c28595d1d207c",
+        "d876d372d720cb46b3078941b75033dd",
+        0x6a6ac055e2d946ebL,
+        "e595bdb78fd7fbbf013ee8460b5d29673d325f096e4952a8bb0a6c6cc45efd21608840078b0983d8c3885aaf5b6a12844fbf16b4db4fd775e5e77a7acae1fbc0d4bb8813ff95a6c3dfd430f55ed853ea98c5c89150aa0122b62f4d02e5deee6ac72bfd3a8a35e360d5708673fd666663dc085d1546a1c5edd4c237f2feb78655bf7b3f8b3edf98b692f0");
+    builder.add(
+        "a6819d45a227640353e164e4d3468f84",
+        "2dd377f7d1be14097b7f6869e9990891",
+        0xc689edfb8dc6fad3L,
+        "1092abb83f61b35fda78add0b206aa26f2415f53e662cdd34a833381ec5702ac51629f9f499a71b8275de9f078b80c51733c2cc73800c62df5093f425846dc5df7d2354f63956546077e4211e44cfb36c457747ac93c32b480c784de7e49180779eaad6bc53b911d84791882f2087ef3bc22c5ce0040c97e26b0ae5276f28c64b1b9779993c74d5fb9e879");
+    builder.add(
+        "eef721eee4e5e65244da9b622d9b75bc",
+        "a1143e42f4dbf93e001257988b14e29b",
+        0x75f177949aea30a7L,
+        "9078f69f1380f7790d745ffe43bcec8aaeaa2ca2fe3afe6f37b751199ef6c12523ceb060619c042d207b94f9538d0939d4e2915c30d1a5480d1e2ced5240845fe1b50a54222f4e86b0518c296626dd443ea2f04897296ed5db0995ebf3d080241bb1df9ab30650e79639feffa24c174bc566e9d6e43034543d15033d1c5e651ecfa178c8d9b4f091a12aa3");
+    builder.add(
+        "15c29fa5b1cb469ae495e1ee48f96992",
+        "e13b23a4e035a5369a48c240b8d2197c",
+        0x3ebd92531cd958edL,
+        "ea65c0da31c8211c0bb4ae979b0f58cf70d63336497a57e928c203ef00096d987deec6df22bf2276a74bb987416347207a2f7d0c785d5ae757ed9c6ea9efe6b8961a595ec8f0d11c0c66b5466bf0e786dc1ed69bd0b34c8898067a4bd319a4fc40a7a4ed8f10f0127ccfc4431b20ca74c3c8782ef099fcbf2a8631e8a5796b51dfcceb7e895e9ff951ab31");
+    builder.add(
+        "2e2fcb22649e7feff6981cb413a7b4a9",
+        "d4f1c6c421dd96709dee18726d4a49bb",
+        0xdf8e9d8943c98e39L,
+        "7d5c123a88cb0dbede522330cefeb2992655449844d70f6c8e0626c2867550d9517e09335500a38bf157b8fb09169bc72975cc345aaacd1ff5333f738580152359417353d8c1716cd81ecea8d50833f657b03597568cfd0ed9b2c839d2531fdf38af3836db2e43596d7c4a821c3c5877bd0b92a8ffb5162460d84b68f68d5dc44265b71d806b6fb22a7bb4");
+    builder.add(
+        "f959e10ebf4dba13e8eeb9eaed2fbf7b",
+        "45d6f8cb29c70e499b74039101617133",
+        0xdefb8f43edff285bL,
+        "eafe208052b7f1dee160001e208db6dcdce370d433875936bc5f62561cf5279e1daeedf6f443503310b2dc9a5230ca60ab2c8f6a4ca461330253da398646b0ffb0d7899e01b19e169c27404ae248596875a6f3cd4ebf9ed1faf87ee2cdf727f5292de1a7d3ede56ce00abd54b9cf3d7cf005d67ebd51f0f00204f0e8ce34ab2bb67660ecbdcffd9c3a5f50");
+    builder.add(
+        "5cd228ce689c334df6c4911c6ae84ac4",
+        "955fecdf3b634e36c3c22d6674620330",
+        0x392a4ca699b68a77L,
+        "927e439d766276e80edd8b09b9c24e7436f5a2bad7832ff54f0891480e492a9a9a1568868f5c1430333836855c628220473acedeb8e85f682b364d9d3b1885816d35bc37e6848d3b49b60d9a57c928ad9ee87cc2fe56542003265ea0292801b8ba2be1f448b433530debcb5eba977e05023227607fa2412c1b7ce5be5b57a3cd46db7c47786dfc9cfecf6a");
+    builder.add(
+        "613c5004d1ff383c4ac5f46b1edbd9bf",
+        "32405b38411b17b952f656d822b93f87",
+        0x93d737dab45bc512L,
+        "d2951d3197e6fc45f93a743e2b763bd25df9b8fa0d6f7fd37daca8e7b8a4496c1d553e3607b85469ba9b5807c235ee6a0f8fe0162487f7f119d0dba846303b19b48c49b26c0fac4873ac2d1c53db90d7e647da040ccb4f25dfcf64566f82e2d5d2af756add8449cb430fd5a606df3932b399698632f87523565ff4fc1d73a1f9f9773fa5f8dd42a1ed29bc");
+    builder.add(
+        "f9e94f07da002a9490cbd46abb7387d6",
+        "6651c0c52ee6ea0df573e57b1eedd891",
+        0xb282a5b45c44a026L,
+        "8a1a19e5ec713af28fb177b7935fe9022759c7298f1d8a94146ddaa5fada9bd45479a682211fcca293583fd2b07371424e25b5f4b1b00678b8f5b81cb506096d29cad5ea0d0f27169c67e407f0a3c2bba224a3d8a07749d266007a24de981677b91efaeb7b8b457ccc646c042065a759a44d00de16661f8631f03a2282370edb49b931bc18c4439a554fb3");
+    builder.add(
+        "e555b485ecc385936c72997a2d63b0b7",
+        "94f3a93726a3d46df5e5cd329429de0d",
+        0x4117c2306531e9b4L,
+        "d8acd0c3b5d4f656b1523b59a17f2df1edcae9e28bb667f956894e14d1d5a26107f2d6debd07fcaa37b07efe388109712a8af6643ccfa5ebf4d0129712301936c3add0d990958031603989b284e37f4177eec799ffa0ed00670274495ba1766c7f35e842828b025fdae0c4e39dfc9526faa33445db7a4bf912308e5e3bf12478e917e2310906a8053c0441");
+    builder.add(
+        "8c95bf3da109f33efd3a0563746d5f16",
+        "3f0aee17c841b3fcf0560af03e7d6f79",
+        0xdf9ab5e4b155ad50L,
+        "c2d74e453f3b96c312141ef9f38ad68040ec074d3bad011c7f6d58af133187679e63e4428ea7da369799376fb64a89a05cdd99c455e567ffa3fe0f78335391fe1103ff36fd43d9626b54aa8423bff2b9059751b776da4db3415a95999b8be291b624e67cdc4b873b67580c0bd85d3366914e262dd9556a445bb08023a8b088705936b6e63e7f5a61106a02");
+    builder.add(
+        "b64e3f621d1b09c2f98a893f4a69e803",
+        "76b17fb908ccf12e2fb827bf30e95727",
+        0x12ef64076e59d07aL,
+        "b686e3b090451a6f0c83f8a6a70b9692411dcd66e79f8119316112ab4963d03dc7a5830f6747f10cca79f4bcc5eee6365c4f73b43d8644f875d68dad825a9d3f00485a2de990b56d3fa2e31d94932ca95cf8855888b238f420a1ae100cacdcfc1892a957a69e63b16db3fa401302bb5200b3170247dddb329772f60ccd2a38498f501973d457ef57d94d5cf9");
+    builder.add(
+        "1d3c439426bb4dde169e3cf07886b4af",
+        "798e41c547adb856a0b36032bf3189a0",
+        0x88f5d1af76588ec1L,
+        "2f1539eebc9e791e3af385ef6ec5ab8fd394ed1c7e8f46d9044449353407f66fc4eebbf2548c30ea70eec751de03f8916580b82914bfbba73639819ea55d42d56fc559c0288fafb31174468910e299bcf8679d449ab2cd8dd2149ade3f3b15182e3cfe2a467eb99c257e6fb03701336052905f82c7f19215a1872af719985db0072bd24daca8c9072bdd7d2e");
+    builder.add(
+        "24a3975c20e58aaffe0acf96c4dee28a",
+        "89c0fbe411911c94deda76dba6b2698e",
+        0xe0a89766753686cdL,
+        "030f6966590a6852b621852ca269c96905331890ec0d0144871bcf13f04c1f05f9fbaa4e09502086ae9100c966b12003d01779d79c7e04b4d853cf1aabe0398d0e39fc2889d195ebe61f8c44a0daa0370367dd87835f2560ddfd7b6a3c16f723b17d15ea3010cb5db7bb94fbcfb2a06d0d2fe8e2f069be8cfd15c07fab1fb6f83486abc7902ea0416d3c7aa4");
+    builder.add(
+        "6dfd54f3204957fc8dc2641231bcd3be",
+        "18b08bfac19e4e4f14b1fb81914dcd8a",
+        0x59b632e78b797585L,
+        "9cd3ffa2afdfa12472bc9eb0aaa671bf9c5b1dc716c1e1a82d8dc72f6692e23320fd323c29d89394533f3b28374bdf7798d9d6bc3beeb7b49922dfc2438115bbdcf77b1f3b69b18ed99c638bc8203aaed168423ded019c79159bb6e37b5dc62a78d4bf50539aba5c046c2c948479b5751cb2be02fcc0277943e91d569821108647005658561045c436b158a5");
+    builder.add(
+        "4a088192b6676b6822b12c7bde08e6a0",
+        "05ea9308088d38cd725803245351f302",
+        0x74c7803a4a20ab98L,
+        "1697f329bb5aeee09b3b2025c7d4cad0e5ae66280f028392fadf278a92fee4b555d017233efb6e423de51d904d1fc38e806c3fa6fb83045b94444d2794da3cafd5111c5b5800ebb982e9737af842fa8bd6ba929b7cfbedef47acaff896f8fefdf1b5b23dd1d5688b5146156c38d4226bfcadcae7d6130f7f143ddeac40e027c6ce38b0b7dcb6c181325f1797");
+    builder.add(
+        "2d00c1377fa899f9d8e8756dcae3a712",
+        "0b511d23825bb0b3b168e934590d7187",
+        0x173649caa3e721edL,
+        "dbe55c966725da60121a83061837fcd71432be0dc8647622f1f1aace155d37024ecb5566613f3750c5e3fafafa10dd8495df48d9d663e61d8f2a478d03819af88d771319295d700863f1900af5ba89c0517fc0b6f1e1e7aa32b0d88794089a443e3eee424d7e43be295f67013b4662435c379d539e0a276d0c2cd0e0342db6b28579bf4a277cca64ae64709c");
+    builder.add(
+        "89c23ceab0d3b6a6888ccb67bc60474f",
+        "c084df8ad28eed7fc2a3f074b4b9de2d",
+        0x6cf170f873caf5d7L,
+        "914257b59bfd5a3097d12268c39be41c51353b367880ea40c6fbe7e65ed132cfcd52aa44542f2320b677683ca20ae04c7ce1dc63685a13f599bb2607893d6ba26f9b4d7f020e1a0fefbd7b236229347dae9f0b9f84267473cf1ac135c7c03738ea8c8af79a287699dabf0247dc6dd71c307c1a5f9458d992677be1d98c7439dec2a5b7a86eafcab8c8c4f961");
+    builder.add(
+        "16f3c52adcf79a03f2af54bdc149d13e",
+        "2f627f76ab32c601bcdee1a66cf71b24",
+        0x77a6779d32c84385L,
+        "a4b45320cb1eb7dcf329b59113b5a87ef3a805bf81abdf66ff30c19d0518e442baf27108c6e8387a8f860c075d07b34a8c2ec356c9373ddb7e194447bf0cbc74aa3ac87e318183b19253d6890cacb3b5d53e2c22853136f099860a87e7d4ccefbbe52ba29be28a1e30998beb14da95184df8778353aecb84f644fdf8c067fc2be6a3ef06504aa1fec669dcb2");
+    builder.add(
+        "0ce9995b78e41abfac918ec2b669b862",
+        "c854eca3836875599b9c473fa7dcba52",
+        0xa4fd04f0d6174961L,
+        "b5b81640e676b9a234e7768da2e84f2eebdb44a5233c049a09963b3bcc8359c5de5c8b4f9dc4109f3df1c5eb7518e80e7a25605ba02254b6f462bea3b0d56b5eacde2d3b2a97f03a2da1b8c92fcc99994e6122bcbb9870bb74a2b55a546acc8d710140834faeecbe198964cc4a8ceb88d6d2b2cc9820810eb68c6ad877881f55709f7f282ef1026f99d7c81c");
+    builder.add(
+        "fb2eff890d1cd2ea771093bf0dbbd5e7",
+        "51b02764ac01e04d2ba1a1faba02be87",
+        0xb36d320778912bd7L,
+        "9d9fafb20ecc80df402433490f9461f5663a52ad18e05bf8d5b676ad95b8c3bbf852f4dcb76abd4c6b1871b5107a72daea3abcd0123967a19f4a978d7503e5d2949940f9e273ae3418ce806044e69941d80f8d19d79b2aacb2289f4aebcb42457513609e7e91d8382150d4734829b18a200d4bc2eee0a533d66885de4acf20ec28a9f404cea0babfc15e6b57");
+    builder.add(
+        "0af3a3f6bc2c6c26b2a37bb789c6587f",
+        "74bd34e24faec71104c16cff29186c6b",
+        0x0cec00b39e5815f3L,
+        "d2c02000749fc8a24618b023daf62c4705ce5c789c00ca2f2fb4628bb2c1ceb873ce21052f1a2c976457ad8e05068e558aa73fba67eea6e8ac27b2d55f2de03b5203b9f630b1c2c6e0545321711e789e9e8d6408c587f80325d35b947b68c56d63bd2edbc00ccbcf92082505a0236e509004a7241c8326b4560401d33ab462e39d0533b0901ae6fba1e25dadfc");
+    builder.add(
+        "ae0b2b4def3eea87dbc0b123e51029e6",
+        "479933ec67669bd418f711fbd8dd2f04",
+        0x0c45e0b4995d428bL,
+        "6a08a401bfb3321c780c3768572fdcef58b0bea954114dc5c528ae9f2272adca54859d3d732716b17dd235355ef42a666912117f46181c1e265dbb3643ca1ae3e1671eba96bfd07b3af3c6d20d3b00e0aa8773caa0b0b3b54481cd6857ee6e0e916d4d4f5d7c0054c7ecb7be70fa8c62bae613879733ee48abb9c7fae42059db35c36edc77927b1b2a229b78de");
+    builder.add(
+        "9b4146261906db8f5d069d411c722c3c",
+        "7b498e1dee8d05dcbac45ca94536899c",
+        0x18cdadfa362b503cL,
+        "4cd1a2fc434363ade744e61f30198c6428e43c4e2fe6149327ac157cf7434e474af35463560bc8b09fbd52ba6db5f996781ce831802ceb4492e9383f1698dc33e4b9ea8dc2ecad5b3b4a6f2e541d13974387ae1163fec6a4c8f587d72e382d3d4c6ea82d96fc544de771c651b99c0eefd0f4d8740e66cc90f0a9c9d80d08c3a1f2b2605c98b945dfbfa27bd079");
+    builder.add(
+        "1ce533bb845e410f9e5668900498d6dd",
+        "92f523ca58698dc72ff97b3633bab928",
+        0xe8dc6c497a1a89eaL,
+        "cf81508c9b3bffa056ff6b253109c35fb2f0097e466f14b144dd19c83bdd82dc0413c082fbfd436af4d70ff67e9e08cbd0e533c36d58694d7a9bfb9b4339ec41bf978d6eeb9b0909360032a0573665dc716289925d0746867ef940496fa6408173818dcce3b272faf6b2b7a93fbcaa7959955e6bbb20156bdd5e2a1404836c3567ccde8ed61b8e3624f4d72a9a");
+    builder.add(
+        "fd170df225865a97b863dfe6b1d9c14c",
+        "74ae4ee2747ea9f3e9bd929aa8cd7f65",
+        0x351523c2792afa68L,
+        "0fd862bc8728230963def59244d82e759cebc5a387983575d685abbcf342e6ba2b9be6eb5ea3cfcd4b12abbe3887aa1e5952190659d48f908ec662616672bf6b4950371d3441788d39fa1714acc72a9cb85c049eadecd04d2160475202a7ddac6fad0ab34ce82b5bdc4b98b2a6b2fb70759a34db7fc5759ee17f2e32b0675ea77aee39423f2fdb61a886fab4d4");
+    builder.add(
+        "257c76f90255cd6f8dbf26be167ef605",
+        "8de6d8b26d1d1760c69148dc02c6aa9e",
+        0x8b0198677103b11dL,
+        "9c4ed9ee24a43be83119193f1f18be102c9db3a2f6ed7c8eb5127ac1501f373c4b7fe1186c09fb798c8cb19aa747a472f8e6ccb318c33218ec3a9c7ed930486ac5d60b9d0ca3a5078a4ada32fd99f1335dbc55613e7a3de16c3038b8462bda817ef4cc7ad115e1006d505f506d9adab2adeecc444153845b1e807b6e2754b3f51db3b013703d662fe52fbd6f07");
+    builder.add(
+        "b4fc40dfd66a44ba7a7aba5c622604f8",
+        "29d397b5cca87b37e8287b69e52f3725",
+        0x15bfee388d1eb610L,
+        "852b0856402d5618311436a8a79d7f893207daaea04d9c84cc9968e6a86842d52ba803a7aec41216865263c1ea51f5fa9bbe0b391a5471c8cb343c092ce7436da28dc2d99d9a87730a109b0911f97e0b4b4e3bf2dade7f569318ca9d7573c9c3feed3b135c3ae0e304254b5113ff0d4ed2e9065ba27fe24d185cf39f70cd319868e6b4eb48d11487799635f482");
+    builder.add(
+        "c9634e797ad0cbd9dca5f6a5e8a17a2a",
+        "1bf911f765baeeeb050d0c0ad7f243ff",
+        0x302f2e83639d2253L,
+        "a08c320cfcda104e665587e760ae52177480104622ff1290a4a7e4158e9de4056c2052ea26199121a7c2a5a87b0943a23cea5eef980bbd9a392c50f00feb82d5a3a388217d5c0279f4881b613e6db6c998ed98278195e3a596df91de02c167f05c2075eca50ef554c093f78531e24439e98ef0c3126e569338dab98f7fe948631bcc809e628f17d59c5a623eb7");
+    builder.add(
+        "2fe4eefb853129b73e6e28154d1db9f3",
+        "df20af83b8c95199026c03d2959bc844",
+        0x1a9adf45d5fbe6b7L,
+        "768ff0b27a6700bdc856a38ef2188cf4b19c192911f3e0df9211aa59469aba104b022fcb8029f17e492f27357accd9d003e065bcd04f908f587fa7df3a85c41a20d5982f0787fa0a4a6a4ff9eb8cb663c927c777c9f1ae7993c086fd45b0cdf55b01850410a10f78b4587b32cb4233c0b7be2c87d1dae7fb76adf3d1c0db37081e34f8ddf2f3351b7e927f60c7");
+    builder.add(
+        "1fca961d3f2b67dcbce165cba14fe6bd",
+        "b0bc1fd1c43f8fe1aa137a21b3a57864",
+        0x2bbecbd1adba6670L,
+        "e0399a01e6c79ac72bcb1c25781b13c528b074bc38b3c38260486d24ee3bdd011dce539f5140cd6c79e2078391423d6c4e19a2006d7fa4666c51a1227f253d624d273ed94a321a43311bd59a10649cd85e689469896ff25f0947635abdb6e5299d036223fc9182f7de4e835a3fe49982749f8521e2d7555a51afb64d2a73fa4914e0f42feab5bec09d99218309");
+    builder.add(
+        "9285417edcd982da306dac2be902b8e9",
+        "90b0c2c0edfc0da0a1e4530e3794ffa5",
+        0x3a6342522caa4078L,
+        "b0b183f278468ce03ef578c58dd5d965528cff70c7422bbc3e8a92ba628192b753457fa3042352f4f12e2fd8f6f9642edf02be4d647791d0aa938d56fce091b33115d55c91dc2452a946c0a5d1e3fa390351a3a2be9b27c874db37c1b57e37e188310167cc0f768b68b0dcf6222bb71f91d447de153e31494b07a9890316e0e8595be662659a0d9459b27d0424fe");
+    builder.add(
+        "346ff7134c768b931d7fdc39ad8d7f93",
+        "b54dfac8d53fcd17b974501336dfedf1",
+        0x6d1fa1aa43a37bf1L,
+        "06b154ccc2faf381349ae105b1730b3f7aea5bfd80f98ac75c5fe8d3a1d2c4b61a13ddda4c221dbef6de17bb9b5610062b758c0117007cb0d712c4f82942420971fc4f7feaa192ed7b399c70298cfc4da80f69776acc8ea0aa69b7436db45de6da0a221220bd77b5e955ead635acff9ed7c19ee7bbff4125fbdcbee128e3c905f17511296c308ba35b949d6599c0");
+    builder.add(
+        "bc4d7f2e2d3ba415db541dd9a362e336",
+        "b26b764329f8ac56566bd63f519e92d0",
+        0xed3580bb5e85a242L,
+        "1401046ae15dd1649e8e3c19d0f8c9cbebf4cc295e21fd94649bae48abebebc344063b42c57e3b1383346aa174ac26270d668e9edbfb55378d5db79b4dc2c651263138652abfb34bfbf0fe16b4ec008f9477ae8b0908d26897cba4cad346e87d460882648ea7147960c7bdc172dfc6c642a95ca4fdfc365607a279c6d1da6e077cb47414c4d185795db9fd961b5b");
+    builder.add(
+        "9fce16f00b9e3ea71f5937607db26416",
+        "18673a3eb9e3f89ad26514af4d0b5cdd",
+        0xcea423bef151b1c8L,
+        "cb2ea59064f5fc6f83e857af0a948eccb0053a8f3b6a386acb511a356b994209ceff10e013491697896a1ba66ca20e873aa6702abc6a32caff0b5d49f411588caaf5a71616c5d17a83f859615bd2d5c186a1055ffb05b52f46fe22f6a6712ba5673351a3e208e57884b98b87ee2dbb20a97f59053b91db426518796b97af9cb3d4ce65480e255b9c6ff9de5279ed");
+    builder.add(
+        "97f561498b6e54caed608318eb36a87a",
+        "8bc252d727c9dddb3728281979b84023",
+        0x79cc29e9c21c5e9aL,
+        "5f3f5419eb311572ef91d687b34aeae40be43ff50339a0fd476a605654943ec678c3dbb9ca90f422202a00f659830cc0969413d17034f236a2804de7acbd69144efca732863f09e1392a6c247f32ff55bf794b706046522b774d97966fab57e2df2af32069e7478e473069100023cdd1cc3a5bdf96c298fee5997fb1f8788fc8839c1a24269f8d246b4785bb8a5c");
+    builder.add(
+        "eb605b0706fbcb53e2ae3d0295ec538c",
+        "9733ff71d7b70633b256eb95c3d3080a",
+        0xff4247e7235e2434L,
+        "fa5d656f1eb336e19a74e364685b295307b9506ee6167225032aa0c8358f59f2a1ab896c39e3b9cce44bb6b2fe5eae3411cc186d921f534f16cbd04241b924aaa19beb201cd636a963c7e31ed92107bdda57e8b307ebbdde449fe7e23bc8fa43fcfe41ae90fcbf6f9ec43b5c09d7f0c734009cfca33f7e8299d1294bf51c6601295b4fbcb6b772131672060d3155");
+    builder.add(
+        "ec97934709e6794886b049936b02fcd2",
+        "ec0612ec26641dd4f36ee278ebcc77bc",
+        0x716d0fcef5ff09faL,
+        "c1ed065f2bf05949439c4b00a23cc0f5a0745ced04bb96ab2a7a407ce935fa906e2173a37710feb5f13f5b8aef1aeeab270488379b9f182a09fa13523770221ebb6162d49582cea4d9244b887dd3006f054e98335a54837c27e2ae307274fdbc4491915088598f22f477f53a5e6470aafc1c9dc1aa50b1ddd6cb17a644993a26d07c5f04c56c6b470ee15fd045b8");
+    builder.add(
+        "05b5c307a29f17cbce2ca41fce37a37c",
+        "6bb7f1b4acf64470f8a3fad290a89a27",
+        0xaae6127491f53887L,
+        "55ce66675237b3516ce52d9e2f2834a5e5409cc3a396b00fced0f3bd8d165668f87129923fc3a112c5b13fff2f6b4ac52be87c8c358d96c47da639df1908f9744530a4aabd76418b8d34dd2984c5469a08a6dc3c82517605d14ea868252efd53684e1938544f1b87dd8ad43729367e8c2ac75f14a2e3cddf37317a7646b107ffb51ad6e8cdee661edf5484eabcdf");
+    builder.add(
+        "af7f24c9b258aa5d29d2fdaeb43d920d",
+        "a88e35545422760d4d4741085ef34ea6",
+        0xdaa78d8ccf75275dL,
+        "55527161223980a7367691fdd0efeeb47e51dc1b149bced1806a1f930a7959323aec4fff5c7e845309c876b4f75ae4ab1bb86331e7688fdde94a0995ba859cce60c873c68bef0dc6717188681b7bab63cb95e3748f5a2cfda648ea2b93f81d9f97f9915d516be066126e84bbe8b988e3496ab90347581d6bb0249c35140b225329cab18277cd8a1e235d58f86737");
+    builder.add(
+        "89209540a0f40f01255bb7f7222b611c",
+        "dff867316fb28aed4344aa914edcd3a6",
+        0x51cabfa0ccee9c52L,
+        "1f94276b0c8924a60039aad9fa23577b52f7495af87f4dbc0cd22543335896c9483d3622fbd42a3c093200a94f4f77779fca908b40cdc578a641e6a0aee80c56e0ed51390a84cdee5e9b03215d0fa2d05bcd86cae61aa3dd7d1c51a7599bb93ed36568c34eb990cb547e45fb4e34bfd0dfe319a04070677c576dec61fe28e3a5fdfaf625e78be0582e6d06df4f3b");
+    builder.add(
+        "6c74a27bbb6cf7efc4bcb5575f7ccba2",
+        "4a9cd0d2f34d9b103e13aa49717e9ebe",
+        0x469d2c37d5acab75L,
+        "c229362d5f2b02eab9c331570226745c48a643cf2d03f56ceb51259b5c64b7810ae671bc19c17a1d620db835200f81af0b351244bc4ccc4aa70634ea38e24114dd4c62b69584edfa531c44a7edf2df6419a5635243e9fd01f4d448a1ed2a1e28affd4dfdd9820e5dfadb497cb87535a1732f45afa4c505468ac5574a310b21646cada9d1f50be5292107bd05b5e9da");
+    builder.add(
+        "6bb6f34bae5f199d16236623cac0c759",
+        "07a5a0b2de1d33ea387438a8b1ec1bca",
+        0x2680aca136952b45L,
+        "5968045c1ef9f8dcc3e8968ae2a8d52d3e1d003e746921aa3bbeb430fff59971873cbe8f06a9491b5664747e5a4f93182260fb8ea5298bfe8226265545d01f3c66c77f82c7018268d889669b0f8e32694d09cbef4d9628e75c5564dde9a6d6148c458b7deb820f57d26c0f27d6f494cd9337c2c8708bbe01439e931fbf05bcfbaba78e3f3780791d6d4dd26ced84d1");
+    builder.add(
+        "b6e0ea963a92ca8db4b59282635e3ece",
+        "7bbd682504acde386e4ac6baf2236273",
+        0x5d4d463f1d9b93dfL,
+        "1e694f6c6deb522f3a72224f19681c271bc545b54f03d111957458958b99079b0e820744da012e5fc96941fa5cb9260ab3bdb902e7eff61a3e78f53b8403c1f8d7de5abb941773fc0396129525d2a4798ca989d800c462bb7e941789eb4cea2e32eda1f3a6f65a94303febd0d7fd4a54f001105b26958f1a0f075183aa78722c9db030ea9e9de72a62422033e53840");
+    builder.add(
+        "09eaeef61287e4a525574d50815065b8",
+        "d7ec36cf34fdc7039edefdab495c0556",
+        0x71c2f7d9c7f96d30L,
+        "ac750fc040bdb0d119504fc40b95eb706eab2f2b208698ef4602c0e15c5885cdc2b5ed76956548b9d7cd15eac096e5918b2bf7138709f2c479ba2092e341af9789e9cccad5ef1101af706bfbc1c5bdb311ee4d246f8a6d6f42d3fd12237e4b789636b140804f5109f038c5342dfd0112d09b8ff79b35ecc654a7df9a42b9b942698cfac997754be32f56f1c03be4de");
+    builder.add(
+        "edd5853ce6fb2d719640c6af5da0f0ac",
+        "2a87bb2c0c009467d06d8c7180c4557f",
+        0x5f80d64c88df6d87L,
+        "326974633d0bc2ae7e9b31fa04d48334d4cbddcfadf5f46e11c819b3138bae5cac879fdba6c53415dfa001682503152cf86da72e7dd3cb57a57f7a40a21132fbac1622bd947bb02891d0a68a24fafb7912fd6c4f9d023966f740ebb2901682d34fd0d3b118b65d8102b41b00350218d02d6b4bde32484c97edb6ab9526147af4355b95d6cdd97463425ae751de1d70");
+    builder.add(
+        "0392d3aee68b353e7c902ac897c90fef",
+        "cb446906a887690fb3005251b4c7416f",
+        0x4a917a09126078d5L,
+        "51f3af9c2e132264d9031c8ba101d4bd27465aa3bc21808fdd9449cb3c4dcdef77fb00aa8bbc9cfb8fe7896cf8711661af2b1c01848326735bf363f9d3082d118c5b6b023572dc74116cf53ff8245a15d1e84726f56b92b1eb6489411b42d9788177f479bdbe7c24a05b8118c306cae35da6de170a77483b30f826d336ba30eaa32d58f3048a1aab66cdf43bf75aa3");
+    builder.add(
+        "9bee3a653c8536c14e6e4d1b4da30023",
+        "a6741b556a99914df8f54703e060d65f",
+        0xe0f3b11bdb7efd99L,
+        "3677f0add446fb45b94f0eb9d5cbd645af35f43e5bf2b4a43571e500002df8a416804d5d8af86df797f5163a29fe54c0f8fd4f7d6139b4d79df81513cee1b1019e5fb048efbed3055711092961cb685ca29f739278a5c9ad76bc0a4ba1f96b408b668c36fe0e066fd67441f434cf69b22fee3508459fa7868503c43236a5c9f47f754a27ab97a2031dee51f76d4a90");
+    builder.add(
+        "a576222ac69de77112c63fdc929dcecf",
+        "8fedc41659388e51567f449e8b729d3e",
+        0x062ced1ae84fec5aL,
+        "102751aefb24471d10488282483182b4d48c9ce4ea489742180f370a04f311d721b8842f6b90b8b01618b1dd2edb0aa534a1eb44ba3aa880dcc442d9af59eee767850e6a163f0bfd328b23d030437b3ab416567832c39b66cec67fd3d73fac836cf833cadb916c2b50b1b42d4312f3532a9b1d7fc902fffd785f35200f6d1ce3fff2807f27fbd35dd066a3b368da06");
+    builder.add(
+        "3f97043915f4ff7da15338ef2cbda631",
+        "b0b71f7856408a320b03311ef0af2ab1",
+        0x7e9fb7be8bf26b65L,
+        "6a2eae390f792fb879f490e193c7081f127a3ab0c78985fc3bd2db1fdd0b91b4e820cca53e2f961f85a99da24b9617f7b8622895130e68f9f2f7074041477748c33b3d879fc9d4e7cc928ee328908ae3f6d109dd2f740329294cf61de13e5336cc80d9de1c5c6cf30af1aebdf447b24a60d0a5255bb3ba8ec9527c26a26e7830a87b4d4f202d492d6fce5acb01e30d");
+    builder.add(
+        "0cf541ef937a650e02cb4e8d3841732d",
+        "ab1ea6de2acd5d273e1364fa4afeb680",
+        0xca758a1f710b1659L,
+        "5a0708997ffaf9563b29e44556e153bdfcec16dd406b1d44f8a663755e7f13897773cb0966231f88171dc5d35484fb2ff02fdc555cd776be6a16ca71058b9823f038eac6d08cdac78ea9c9dc9dc07621744d4ef5cc730e5e21658fd922b2c4c50be29293cc2de15b19ac14425b7962214d0686481608f6b866a7acdfad05dc9a32e6d9debb47328c9d015897249bab");
+    builder.add(
+        "afe484c5791915350381a0b320e15306",
+        "98279166b5e3a79f1e552b226418ac95",
+        0x82ed8653df814cf5L,
+        "4407906e9b521b88565ef2defc566c3be9b34bc45681b4bdf15f7efb886c53239b960cd2bac7927b20e4913ab3fec1074cdc7545ce733ddd477e888eb522a8c8a30dec2cf3da3def5fab9c0006784f096447ef21c4a4c8e69bc6d8d31e87e9c619a928032aa1ec1ba506de9e135de9e953cdc0420dc70b5c8d939950856a2da20dbe246ac7636d7d3d13b689e928c734");
+    builder.add(
+        "eb4ff5d3b3779b3b11445bd44f989079",
+        "4dafed6f66b55e3a65c4274385f071e0",
+        0x14b5624fc3152d55L,
+        "22e9bf4e6c26e663ad7321cee394899282f64c84dc59e4b5f37b7b83c8fda4e4303ec704dbab10ea8d0decb1924bdb90bc1dcec122be328995c482e7fa88a8a1f77052c9ee336346434cc9ef0aacb4a0efffe0e46a40b02d29d550751a519690b22353f3c63202139ba30827977237ed34c79ac3d8bb844d8a97ccc613ced2a86534992b512a1c1adcfdf4eb662459f1");
+    builder.add(
+        "58bd0bf16428d16a74c35ace0ea359d7",
+        "5992f6a2de138d94c07e337a320d3880",
+        0x237c2570929e3edbL,
+        "6c1a711e23abd6c88da3d57863204c21f89a317c50104ce2c0ae31b3775d0f3f6853903a29c0865e4fd362806847f8f1be2eceeb733ceb236866d142c747e85bf111531c1de19b7ffac8da1f8c136583b93996ef91eb6db145be646f7606a51e6ae94e8eb6dd35ef786b3f51a92ff1a8b67c02a14e67823bfbdd6cce3e5e26f5c097e2598f5884266d85b894a53f11c0");
+    builder.add(
+        "660550b46106c289ef9b88e4c34b06a1",
+        "af3e691769338b6149d3f950447601a3",
+        0x2fb8083769f484f2L,
+        "350c942cd544d6516eb4bd32b084969cc2d76195d0e4f53575eebf3ac9b7a315a5f63b3634103b85c4f1a2423631d3c2a58df18687aaad402683f2f23792a296e80ff5bba7b310649f56e97a4ec27d5eacb781f058fe0a290ccb6382282ef54417e74c0ff8be99cffcaae070a424de8efcd223b277493c382610941f36221494e26e72c4b5e96e2ac9c039de035fc228");
+    builder.add(
+        "64a2de2417588dc289412a8f7f075230",
+        "6906dd1a81c13bddea73f31929c8d753",
+        0xb53d0522810c5c4fL,
+        "af55f187658eb1ab1e58cca11e4d2a4a9c33d436ad2582ae01e74ea022c05e493225308543a15a2c31c360313f73093bd6f54b7c6f562addd6581f28bb94c1158cbd15137a92af49d9339667312cf750f9ff96bef7bf922885e15c4a9acd1b72653e30588984dfb4c7fcb8000d2dbebab71b2b6d593b48f815dcfc6fb8972ba7b820c17d676baf6b064aadc87dc72f4d");
+    builder.add(
+        "54d5ec18d74e8150a56252103fefd306",
+        "e6ee01d7693ece599559ba966c9f0a5e",
+        0x735deb7e2d7d55a1L,
+        "2e42bbbde90df4966a614385dc4979c93b5d1260fa276e336f2d47e2bba76b3043562de85b70910e5168a74d5c720328214f85c9e89626bc3e22740175d1420d381342fbee5969b631496e3292feeef45e2331a75cfee8101fcde644c9231bc176e9a6759c50aa3f02c19293d9c6258c83ec3506faf98712dc0d9e3d6a8731fc69d4b74d281f90677b2bfef3c3d0aa31");
+    builder.add(
+        "f28a2a086c6f1e42d1155ad5ee0fbbf3",
+        "05408060d2bc8beaaa7707a6e6f812f3",
+        0x4969096c9a87acc0L,
+        "a43aeb9dd69d68e17f4a6edf2909e341a1cdd65580b993726e2c6a2377256cba5905c5c75afa20777ff530908b9d75ed0fbe028485ae0d75f6503a7e502eebb41d124a7cc4aad875ddabf2a7eff2d8092c84e1a590a85aae57e9bb1bd2047bae38770d62452b8bc7ed1fe2589f09baa1e448c0097ebcf683005e53657ac83f37bbd8195919f8c220ffb6dd76f5492182");
+    builder.add(
+        "39ecad38d82174e932c5750687155150",
+        "61cc2e7cf64b3db40835ef1fe8e7d580",
+        0x97b9cce94ccbc6caL,
+        "5c183d7933c6014cfdfa795845725560ac390c32777cf08509cc2d09e950479dc864749847b16b149786adda0baa04bc7bf7ebfec74f172bf4148d382de37df208b2881f918ae5fac9de94a2570d67b9e942c8e6aee734d0e29c352911a9eab79644069ec7f5bdc0c9b1cf7b8c530b7a0da7418964310ec962d5476d1054c77f4e03e53adfad631c2c748f8d245d3a65");
+    builder.add(
+        "095d985c27c27212ba2ea7b85eeb4a43",
+        "b8238a243600d539a480a3b0f87abe65",
+        0x75c32ec6c56f0f66L,
+        "dc10de45ad1160b470f78d182a3f78394e7181a9a13b94af40cda5c04264278e1caaf11f6fe4cf282da3d108af4734ad3571b82672bc5f93354783dd3ceea32fc2969d71d9d0db47ad3fde4f22a9caf967b4ffdcfb219ede62dc3836aa592f7ee3c6abd43163d32fe7d2736cd7e5ba76bc6808280cfc1beb811261fdb4e02d2571e34147a336df8a702ce677eea7ee20");
+    builder.add(
+        "33c643cbf7db9802c2c42a3632c5ffb8",
+        "b92e6a3492a25f20641a994dd6105806",
+        0x2eae42bf2749dd75L,
+        "07d791f95bdb37d12734e754554ed9c3509f061c8bcf6d83160d1b42013718ccbaee910ba2c490cda181032cf3f668f486ea2ed213859be80df665c015b8df5efd90e00eb741b065c7fd3f392c97a46ee80d32253ae846e21e0cb64d4d8f8d9988c358e265bc47bc14dce9b95ae7fb10e2108d72ceb8196617495a2fa7cff623b36817bfa8bf7068a26fcd437f0c3bd8");
+    builder.add(
+        "24bcc1d03a1abb9c816ad0acd04b9c13",
+        "aa6d75b8663c7cfc9b850565d22dbd52",
+        0x09c045351b28feb5L,
+        "da47978ef45b714a3e13d6c64f794255d20f50cddc615205d643636f5953e41119098ee8f9803c1a391c5cab4e54bddaa77f1a3b07665a938e70c79f50e79166d1d4968477f0c54765b332c136f4c134a720c4b0caee3d1ceaf4589534c4e2a2c22095fd4cbc06d06984be97f63839aef973be7e7225dd5208b750e802656aeb7a87cb2b51d0bbe5f1e7ca9ef092e19164");
+    builder.add(
+        "5f620970024b62e6b0c3805fce0a0ef8",
+        "7c48f0a395eab7a97a43cf4401aed045",
+        0x018c00fcaf126a6aL,
+        "cf0a38705bd9719ae66a010a7c771d76fa8766a2a3332c86ca650a61ee77684f11eb58a8ba7d0d48446a0badec2ade103fb4798d424813c4182905d10eb4aaf3cf701e6a4bf4311fd73f6b0494e0d87eb5ff08151b7e8b687afb8ff5a90564c6e074a42427da39648ce1f32812e9bc272b1a8dd1c8c1cb7b1320d68f3249117044cd91d283aa921a73def7eaa52ea60964");
+    builder.add(
+        "4e02d0e2e4686f889ad57682af363125",
+        "4ac31d873657b17aa9e49ca5038d71a0",
+        0x712a594ef1144b9eL,
+        "2f177b395103c73a862b7f88373d06c3e286b1365d1e5f0f747e712f2470b8f5ec29016f869663b0d2e28dc59a9ff42142a2e043a94e44169d1cf5c462e0c4727e5a0890c481c5dd08c2a6aec61f2029c2c3c643c693bd1df557314c3d34440c32440ab865d126f7919c46b63ff9c1f10bf2b2f95e099ab25be610ad4dcae4c124df5648acb525d9f3ede255faccff2d35");
+    builder.add(
+        "b8d9b2bc3772439c50c63c8e5bc43e2f",
+        "fabce1ebd9eb2f3833c58802a3832b20",
+        0xe99c82000ac6e20dL,
+        "49e164764989464f8df1a403c17c52982af903d60b30b29b9983c21fdaf5fe0e76f792324704ae3af4d5800129c9c574c33041d9f889fc7c6b81fb072f81457163bdf1e3651d9cd8f53b23ab878185cce44475b089cbff70cf10ae4e248f742f38cd668b0dc3ebfcd3c144e96f6652c8d76ea05e593fc179dd1ac96928320c024ac0a9870d61d8dd2138912fe8b88daec2");
+    builder.add(
+        "2850dc33c2aa03b5b2c8980a49531500",
+        "349c163077e400685b1271e4677b63f9",
+        0xb60629bc3cc29a13L,
+        "2df261ae93823c741290e9983c41f6db0d24810a766fa4aad1e187546a2afda87dae7ed3df60ba6121ff88faf5cf89956c83e30f153c62e9366d02606aabe2cbdeca8fec817da5439bb7e7dd6c4d3102bc747956fe1e0008bdc99b7acff631a23375a81ebb73e84fe16251186490467faeeee70d85dce7ba448c41235a51fca99390323e1126a61be01a9e1e0663aee2a1");
+    builder.add(
+        "0848ef0d96ef7b536b891bef81ca900b",
+        "c4223adba084b0c23120b1265d479c4e",
+        0xfd84877f4e70fd96L,
+        "4cfd2aa8bb0b9a8cea08603bfc4aa9fb0ac84ee0604c3b3814d8051684960d8ca6cc8e2a85d2cc6506153c66a57eb08e48716770c7ddf94c40b7d6bc1228bd5122f0c738e5cada99da4041885ad51124a71b78821419455e3c95464d569c3301b75dc10c630262ec5f36689143b0906918d87f62d0ed4385b059a7d9adc988c469e2a0ea8584c0c244b048b401ea895a05");
+    builder.add(
+        "e4946ccd711f0881a7bd0c9412e00772",
+        "b2061dfca6020d722cca8b0775f1b46a",
+        0xa6077a8ac0cfcc31L,
+        "ce0820ffc0b7c9f140536a22914efe88b82b68ba201fa03f85fb9dcd2413bfa0f3582216f0a6491272d14558de7b1a70ad3d4e17afea6ebf7ac02d39d75184b3d570bd92ba2e4a636712d523ac37f248fe8b2efb68a14bbb4b722c3e07390e98c23b512a070ae7381a4a29bd52169a0599f020a0dadf82a64094fbbeafca41013c705890bad6402cd753504fe3dba06db4");
+    builder.add(
+        "d7592d7950a3e8c75c1270ab89dfde02",
+        "daf0aa74000b34d7f0dce61238e92dec",
+        0xdb9f95d414aeaccbL,
+        "4542bd53085517b5bb33913adf4ce2da631a4731f013e82eab4dde89a870587f22ad02c9b3372bc0f4975c792b06bd7d252c174eb41948b1e2f92cb4c7fd5d1638c894fd3232a0837e1f295b55e92f539edcdb67411e414328fcf9aaf13c5561e72cbb79733c0e6f47abc29e159a32e980ded1f47476f6f32a2ef13031cc3ffdc3e4b732c7dd4f0959d43c02e3d160d12e");
+    builder.add(
+        "1c584894bd07595ce5c67d3a9fb4d860",
+        "a3ec27b89004c2756693efea28ce3e68",
+        0x3b2f65c8f6598af8L,
+        "3bea6a443fe2e67465f2b2f6cbd4f4d96df23b1152cd019248a760682c3cca5a8e78785dbbd449665b682d0723cdb6a31d92ee3127fd559e8d68d600cf22672e484c43b972cbfd1fd70e263f77c7707add1e060a088739b2b742ab1237bc703a8df6cfa314b1da02e592a0e67134631bf4d69c96bad72212697506a12a36dfd20027e1270edcf4703f9f6a10397672eabf");
+    builder.add(
+        "806e4aafe1e6bfb239bc1e7d5f8c69ed",
+        "8abdf496a98b02fb6e28b8ef6c7a5170",
+        0xe0b134ea5459372eL,
+        "d80ab56d46e18dc22ae84b5d49a916221adc940ca68cef8af08759e125e6126afd4701ce1b59e52d80075c6da36553558f51f09238839deeb1c0afc165473441f8ac97b94228642a172c5736f2aa84ac3a9b478de80c57aedcf61f5505e7aa59e1e6e4cfeee46737145a6b234e6afd1a93d1d18a6910ecea72e56c77ec41c8fc734fc42c8936afb7c286b0c4c9615e84f4");
+    builder.add(
+        "bd6bc06cf5bab2e401a00a47a9cf73ef",
+        "ec38fc9821751786e742e503f37e08a6",
+        0xcc701479f1e4183bL,
+        "10236943a49269737f78c58bd55dd3e444c7553e891a78da904607c202c55eae25690f73ded9c0b9733ab6390ef366fab438cb49f581cb8b22d318d23ce7cf011301a3a6c12d0d0088d16b8731f967e7c36e7a3026ee13b752e6d9a73a7605f4f4642ce21879d9133ebb80b7fe430074d8f35db7e8d63ab95cbc326d6bb92208b1170d3f29c15ee3aee58d74881c5f79eada");
+    builder.add(
+        "bf966472fd2fdb44477fa59e62e2538d",
+        "848ad747a9515acc6ef3434b0784c4c8",
+        0xac3a9fc962fa7e76L,
+        "13238a70e5dc06274e43ae7f5a5379df7297749f33052a99c33ea3e813c9fb8ac8b58facdae780139c4b68bc145f427997d969a4ce3f38d2d4446bf4ff06f819c359042bf82f1c19b10d18d48ac435b94a17f1c3aa5e83bac5e3969b384e5541c668b33b04bb4ebbd66ca018086ece34b5bf01e638318a30685a04fb9154102bc7f0376b33fd0f6eefac0cc950e8b753b7e5");
+    builder.add(
+        "44d053c4cb8ce6c05a57433c35c700a3",
+        "82b69f8d2d19edaa5903f9f4f6bc571e",
+        0xa74a4e8a3b765d10L,
+        "597b59c528e7eb7e288dca1476310c0ee83288b3bad03d38f1656761fce583ebb855a261b8322bd10b2ad2e6ef6886e5f2ccf86134e347e7372defaa489b39f3e4f4d2eafaf603a7f963ef7be29c1df7ca4c9f69be9b0f73d4d79476fec3ba38a2d8f0b3a656b683f797faa5afb74dd04436d559232229a8910c18f17cbe61b6be56b67645283255ffd882f7179a140017e2");
+    builder.add(
+        "63d82104bfea619f5d2218f270a9c201",
+        "b1085832162ad0f630c5bc08542b6f56",
+        0x4fd1676a636f439cL,
+        "cf66459308c9a634e3bd2d6e8bfcead4ef5bacc446569e91a2749ee1572357043ef1fbbe6f35217051c173cc0347d352f3e78f341a43b20bba73efc765b0b1bc28ee58172c16e814d63013e4406728352d4f3816fdccfd203c2e6257fe98743be48ab743abca5fedbc2628635cf2f778f28f5126a549bfd103e236b5c005a5011be08b02f642fa1918a2ffc6d0a4f96d6f5a");
+    builder.add(
+        "eeaeb6e3f51a533c6d8701b1c0503a19",
+        "850eed66885c103a8d400ae5229f6d8b",
+        0xeb34592fc2d9f49dL,
+        "ba783be2d92149da6a30c78202d2158f8b45383720ca1f7a0e0de7b7694ad6ab0030f69f07dbb30716acfd637a8a7d7d72cb2092bdd302084628f7b224e7faa8d9d53af2613f7ea6f7b4cb149feb23dbfebe02212a6826331446ed33709ebe24b80b9e6a31e82e8180ad53400845b5e5f32da03babb5867604ad71c5b76a44be276d70d7c5849efc7afd7e395d110d77a634");
+    builder.add(
+        "baef291d12cfd93a013850cae7ac2bbf",
+        "8e173f96cfbf7272d8b64d070b5ae384",
+        0xdab61e6025c7fb44L,
+        "9657ebac89c8f016705732e1dcde67579ccc63406914820c4992e4a59b4baa91674c08e23e06766d73b7f17bf58deae2c5e95ebf79d147e9543cdc3502c8e0ca73be317ba7fb4ccda874d66a4ca1964023b310e25494ffab589be6381d506c23c9649fdea33de61c9bf34a7196a8ab86b96762c5bfefc24d35a2443a40dd2657e574faea61effa557354130ad5c46588b757");
+    builder.add(
+        "f8f5b068be13ae6d443ed8dda471f9bc",
+        "ab090e0f870d139172af8bb845cb602f",
+        0x915ab53927b823e2L,
+        "17ec64979e30fb1a4a41f4eefc453d8a7000aba891fbe5f0025f4a08f2ebf6ba023b31f1a2f9f6845db2485b45d63148b9b0c92df1150ef7937ab0bacf3ce0af4d0b9d2bf29ae147a9852fd025e9fba70540bc0d535996e0a94da3d7e70f8c34f9a36cc08e1d3c34b8f50a10c3f3998702c40d55a629e6a0975529384294e1c4601fe76b85b36c2ffc666de5b228d488e1ae");
+    builder.add(
+        "8c06c1680e5cf03fbffeb8fba35e346a",
+        "6ecdb5e6b9de8e79e82e4317ec708c37",
+        0xb47bf9df19aa52f1L,
+        "23aae2c085bb6c61c34d115258112cb20c818e94c4b56b19eaa11da461c611e9e40ab3bab71b41cfae3f1369f1909deb3c1edfcccb8ce6f4ad8847d7eef05ee7af44749832cf99b9c75eb5e68d5331fa7a85f1b98f730f7cd3c7f98a58b6d7e184ef7834411ab2df881558974085bb970da77004152f39d3bdf908914c6451dc3e0e7620ce7fd5da0ce2a817e87a62a5499c");
+    builder.add(
+        "9329ad160cf938ae8971ad07a6bdf159",
+        "614a469d3276e4445c557d03023b03cd",
+        0x4a80f782fa47cdf9L,
+        "b8fe111ba255f9764dc1e0f1cf874006e19810ee373d26c7c81e313fd93d37b7c1d8da42943b409c8e4038846ed7336aac7d7a69956136712b6326aa022ab2a83ce1c33a0770253fd23a63015d8564b21810b7c26954dca1a50d1d31d13b83522fce07c9352371eb0fb8c5ab2ec3bef3e5a9d9fc817357f18d5074e9e162a422a43d089db112feec72db6361548394365c69");
+    builder.add(
+        "b08dfef4298b1f327b42efab534b49a2",
+        "104f84a946d32ca3a605245ce7f0ceab",
+        0x1f149464266ff9e0L,
+        "f6ecd3c357c89214f97b77ab33bff2d4841283e3fa2fe93dd1c514ce79df0660817c5c92f25a35c6597479afc4c4bc2a46b78d1e6cb37b9f161459f1799a7dc715fde64fe580a5b4a4c0c1e82e8b09f1e5de7ca24d187a13fb1780b46c92e5dfa7c4425994b898c32fafdca1462bec406431e29d3f56bd5392bbf3ebc36d340fd2b92ae23a7614fff167c08830c0739f1fd0");
+    builder.add(
+        "475b48addeaf8e4cbaa90fba386645b5",
+        "048d15b4ee1a3d521dff2f870b24de18",
+        0xfa71d987f6490a4cL,
+        "fc575c38c8c87d4baef86d5cffdf6f17ce8d82a4160d359c082919f73325a6f9e069007f53888b3f46a24839de31ab583f7848afb0a0802c1342e5aa1ae796bca1bd05c23858de90baa7b94085087edb857499988d3f3d95143871c8b902dc7d58e2a95d6bd54545123bc5873f6ddb09b918d92b29ea4313b387f8fff9630a5b109697ca7969ad5fab878f058a294e9ec193e7");
+    builder.add(
+        "fb512828e520a5ad71fe714e9cfbc85d",
+        "494a5115322db95f5a859e08dc679e1c",
+        0x4dc7899635939d4cL,
+        "ee5e7714ebd390f2aa6b6ed363d4a47066fdd1f930947cc29109809976b0f717cc54c68818f2698a9dd7fdd64fd98d51a066b26a8421567fd46dc536f51f9e8c1a38e44a57ba84d23476c5c02add707e4b7199628c0ce1af240612a6eb87f2c075cb0070eee29703962c072788657c418493147fdf29ba0f1b6db0249ae5fef4be2297392a26623d1e6fe4876c3506c3f081f9");
+    builder.add(
+        "133d84f21bce5dccf688baf3ec067148",
+        "f3bec71dff069bf28fdf4791a213d283",
+        0xc3c58100e87cf55bL,
+        "1476aa5999dc64e3fa28c57eab8290d5277933061081a4dc69e1b7e445817464928155be06fbfd65be3e52c56deccd7d7cad7577031a4f64cfee258a0e95d8597d42f49653ffc8731254c1bc021b59dfefcd9738d67096c31fd0c11d2d24a98ecadeeec0175fa537db718dcc36f9698dbcb301f7687aac5de8a06b9a9cb0557ed7aecbb661a0e14f2887b64488556595d0b8ba");
+    builder.add(
+        "c605e26a133cdb7181f3f6055500c905",
+        "41ddd8b3d703423562e484c23ff22bec",
+        0x07ab12994d72c05dL,
+        "e9c0969077405b29bc4ea093ecb0c3346b804d8ee098012d35dd1ac3c753a6644a82c5a3cfb70e06f3be8255742f3f1cabbb4338c4d3ec78a8eaf0814db3a9c6b246fbdf5499d791dd9dd457ffb4195cd9e47815d1a8e1dbb141a89cff71fae6e9eb4ac8e841015b30bbbb0b7b699d094317513057e2ec5a5dea3b035a2d0fc6cc869f29f1a6e390edbe454861959b5c593d30");
+    builder.add(
+        "ba293b08ea7726cbaec78a1c7463a4f1",
+        "fa53fd42401f4eebb9cadd78f2e3711d",
+        0x3840cba8d2985e0cL,
+        "f9cbf69a190a0c2c2b280d77cea10eb7fdf093001b7d14d029f5ad0b2ec4d74c133f1449f44a016216aac1c9301bcc788e6df27cfeb97c70a400569c5448005aa41024e25338e456cf7558962aab9303512f1b072896702f0edb8effe2b0cf92937fd49fc20e50e69e43092ab7a1b9df7eb61ba3cfb50ae1c9089cb966e8bebda114f4ca11379513b64f1e3384f62d9b815633");
+    builder.add(
+        "ab877bda5ae5dd58f09f3fb9ddae2cae",
+        "7ba78ea788cca9677f7c2decf95bc771",
+        0x1beabfbab376934fL,
+        "9308eed307122fea1b8120577a65091cb3fba9b274ac0cf4260b9b2f291905487b37a953d43650866efacecfa5d483c50e6587104313b43e1a8e28b7d8ccee247f6685cbcd3f2f60c2dc2d08b08d2fefd4a07b7856c0686e60fc6119422444409503891e6435e73cef52501acf62132ef38a6ac97db132c4a71ace8b3ece68a7f2d0a559e69aa482162b93676bf27060d4b9d9");
+    builder.add(
+        "1a32f465173ce14f2a84077e276cb369",
+        "106ef769a50be78748d95ce83b67c1b3",
+        0x0e7cbd5ad2e26766L,
+        "6a18154842ebfc676ea67f29c6050a5de5cfa4a05c5ef3aa8b0deea714189691df652cc662bc4b429dddcc495ff6a3d94e1739ff9483c4f73419f58cfe3010e0338137d9825b77e3a26b6841a24825e4a3b9ae274703d043df86755abfe6d408a0356902953f222b2ac7274ebb46bf7178d9632a0634e8008e6f7283e379b17b7d211b081240eb8695a6c2f756b50b7bba254c");
+    builder.add(
+        "4601192b28d05d971996caea478ad244",
+        "17854f2aa594750626043e90ec2977bc",
+        0xbedb4649da6a5daaL,
+        "f0a3e5e75ff4934395bad86014dfc2c8ac8a9bc9c49fd9064cd7cb645ec22f03be0c8e4d4c0af05b76d75dcc7c74be00b28b39dbdef1c131af940d02a35957225f37de0163b67a7e2d4c5da05ab1564a2b55bfabef89a44058267776e7b3ea9a75f3aa74fccde7a0d067e04f244a8a5cfdb61ca414e60138401f2f5e180c9e823d66b8e7eafd362c4dae345dc9e7ab0499e3c5");
+    builder.add(
+        "0d404d55bb3186fd781f7e586efc74df",
+        "f68e2138bcb87d26eea1d04342df1846",
+        0x650321262328c602L,
+        "5356bb2d745f52db5ba8748d6eb26185dbc6c957e8110f53bcb1cb2eb7229d61c5e999da6f9ecc5d1194424b044662fce3364038516efb944b54069256da637a6fff11f1e00d723669762411ab53858d7480ad83cc0f36093321341f80dffdac7e45496d266ca3bd369ea0d57b29f671200b8e205703e1ef36f316faf5aaa6eefa1e72177fdd6bd4f7312e0dcb73e07af261d4");
+    builder.add(
+        "f77d9d6f84e2d0ea5929edcfb40ce30e",
+        "50435a71a518ae06cd2736efa59b0dce",
+        0x3b128dd3650dabd8L,
+        "c3795ca4efaa539364c2e95aedeaf1f3d9454a4e94533c08c18e030ca7e4b6d788c47ea200911b2c77e0de10bff8a8495b168e4db928c8497f4927fbf3a4bae5cf91c33713a0dbcc0f46098a15035b84e062a9987806a9f097770d030cf9fe8e78b27d0e54269116d16ecceea6d9bfdc24539d035f816071778dab4e275073e810dd20c43b998f7881a253db6440409e920479");
+    builder.add(
+        "b3b250308a9a77ec421837a454301955",
+        "bdc664ca3a5daa3e8faba7fa2992d76b",
+        0x42cef3cca9bbafc7L,
+        "08e6ee5c0dc0ba45427dacdf4a9ed08665ed34290f15df7c9b28b358903b8175c0b519a1d107d0e29b3158faa1a3a2f741eadd99182c99869851cf6a9feaf822c867f1dc3e25f726a3ec0a951aed17bdf12b3026676a74b9fa2557113eab8d22a9b28c5236b7c967db22e7c97c93feb6a8532fb62a0af6f783ac190b310c38a8fe23b928afb087f14996c698a1cf1809132cd83f");
+    builder.add(
+        "7db9ece497c7110dad7c374a6f6708e6",
+        "14655130243ed5ef511004964ae3f058",
+        0x21918958a7e8bc27L,
+        "28c6095fb28ff4f94b4ca561ae4642143de6fc71679f1b269ad6b95bf853cd1d0e206874a69d10e4feaab73a90636ee9cfa0f537aac872ebee2fe030f87158a7d9a9a15d9fc5f5eecef2e7f4eb2c14b0358510909c29c1001f7d15d20b31862d5bd6759ac37623c66f4dfe26cf09fd2847375b0be2ccb3e8988a0d170af40dd1d8c598d49732e4228f3c4b8354deb8f74384c112");
+    builder.add(
+        "d0737c1bf8ea74e6bc19a8c64798b127",
+        "66d2bf7c5011d7abc76c76b9af63f284",
+        0x699048bc98d28cd8L,
+        "01e32456750c4473f76004d2ee76fdface0e7e5cb028889346b907a58a3474298dc5fb9188df1cfb9426b4c6d05d48582e141665dc78e76459bd108305da058181475c66da39668de2122959d8c06b300cc1fc60f9c8e502bfa2476cdfad457d6ca237ddbe94cf64e8810c4a85b7733e0266f729aa8295a3cb77eeff2e405d74dd3368ad7c69f652930ad5801e921b64ee25debc");
+    builder.add(
+        "8572a45e40fa252ad1215fbdac9370fb",
+        "bf56d9de6f3389b476977f373db2841a",
+        0x1c82607ef8e8745fL,
+        "8f3fbb3a3c141e777233f15335205cc8faa1db314c265d89650f6f9d9d7517b147eedc2fab18f0952e46c1550d9b7c37e8c8e655d720a330bac898e387cf1970d91e2a3c1f11594534558bbcd31b1dd4c1174cc27fc0a9b69f4ef584550e12bfc56f10e9ff023286b4ef445d8207ec3eb72220f7c818dc9645d8aecedf1eb69a89a7cec57a5ece675ec6c8c6011159baff51c6e1");
+    builder.add(
+        "357424920ed5d5559db315073ef01c90",
+        "b3cc5126bf23da1f25d424fc0b135ee1",
+        0xe7f62b2d5e46289eL,
+        "a09e08f43e5e79e9d8019c6bd57f478bef03b527a03ccee4a778d2354720553227fe8bd9f5c92cff9571e0c5013919bb3b580333f88232ca2832ef2b9bcc47650a3e0fd1e9c0869cc26b5b7f2a2a2fdcedae8ec775f679046a3b0dfaeeae5234b3a0572e6be58155e45a5fe4a7547d4b7ca9a732c0ff574eded3897a777649a2dc05d23df85e384aaa0c0e1bf9d3a3afa6a8c12d");
+    builder.add(
+        "5b6e038a6dc87d9118a5e5e1586cdbc5",
+        "7306cc0250eb08b359dfd1dcfbe0a178",
+        0x07eea9f8eb662e28L,
+        "539135974be0eb8c25fa1cee79a6a4cffe9a8111cc000671e9c5803d16dcb5f8e906fceb78a962473266b9059e6d6d621a707e494178581d11c2c355dbe05ee992e8263690cabd1c31748fffcab35dffc01d2ca11f9bf4675f7fc5512411177252bfebe8f3d159a999a72cc4432b8f620a4138801f49a85128de77976d5d3bbed17978591c1b38cc7546d5bfe9e15efda5b415cb");
+    builder.add(
+        "0be513e33a3c9813606edd5b81410814",
+        "16f2267c2cdd1229fb26093dacf84d37",
+        0x63645efeaf4a4048L,
+        "d3fab9b2b5e93f1a29c26945bc921c9dc093a6232cb1b4968e28a65fd13f694565bc1232e3bdf384b514c4255ea8f2512ce8fa68ab3a833b8ca9466943d21cadf79844ffbef6751db19bf578a82ac3f5e30cac13c9f15b1dd9a9bed3e6c61416a58fdfaf7c66a469fe0f66068870d91783911c49003f83d56a73eb7bc3c1a52463ab41bdaba1d7d0a4fef3dec0f04b39cb461d66");
+    builder.add(
+        "8452fac2b5da8c5da336746bda606117",
+        "5570982c0026e04fab0dc3bb94e2b6eb",
+        0x8287582d7812de32L,
+        "50b5d3bc03b5c0f8de38863bada3e320bcf2583e27b6df748a90cfa69bcc7c75a4c9b100ff240646612b060eea6daf00e3c580c0fae9ad49ac48264bf24b8c2231814c9646e62749d551d59f972f3405691c2f2d9d93acd0e238f6ae74a1fe86e102019cdef1629b26ca8f0ec2505d0b6950691b47320be9c8183c5981fdb62ee40aeeb8d50cdbc9687c4a0267b3486446cb140e");
+    builder.add(
+        "bda6f75b3e05cc57d3b8d85a47fbed41",
+        "e1df6099eab026845afba9de36afe51f",
+        0x160a2ffeafc822caL,
+        "37d89e5a3de3940fa5d2e4e0ca61ece5f341670b0dd5dffa219d92026bc8b2ffbe5dc59e482a13325d9bcce400ed6dd87e15ed28cbac7c4ee4b47a3f424cd6feff777e00cc05ca9b8cd713d93d9d69b0c58350816145676facb257ce4452a7efc0b8e59d8a671fe9293e0484f34d7c74add79ab9a54a7ff18dc4f7be93b817cc2f32a421510c5b9018855b6cba6057e6fb7ac19c");
+    builder.add(
+        "21c8f863a8d599f1d73e41d873cdfc29",
+        "466c4d05131428f758e59b712c5b4302",
+        0xbcff1043973c8695L,
+        "a34210f28eae00efade4748af0167e040e3ec7889959f1aaddda9f63bcb32325e4ae76a831c061d44a9b532aa4c976b9496a020bf84147f6c5fbbc6e914b10b37f648dad8e2f5427bfdab27ccb0a28cb4f6799ede14a2317f68a9f0a2433b41f2be141853ee0674127c6a02a4f0877de72cc9924dc4315ca98823c4609cda043b277c38020b67396958178fa4c246b0db86c07e3");
+    builder.add(
+        "b99f786bb7db9d61fbadcc076e9d1a36",
+        "1e81b929340b913429dcd41f7ada91fd",
+        0xc34d695f7b8e8f28L,
+        "9c9249880ea6b6059eb7763b773ea584847031f71dd3fcc796e5546d98debab5f5aa47519a0a51a347b0074a12ee83a626bb2d52f23fb97a9bf85cce4945b14ba411cc4f5ae50516a670373a4661c880993057bc81bc9313dfca83cdb394653f08ed4e3f37bd5e58094cc6479bc21c8d62668b1cd58672494610ef254a8f9aeefbafcb04c58ebdd274ce8f51ac298969d9fe928d01");
+    builder.add(
+        "540f21d812710eb6e44a260af94c0cee",
+        "8e5376aaf4715cd0562ed454254f822f",
+        0xfbe1b2eeeacb9b89L,
+        "d67279fcc0f64c4ec4c4e93ce14d813dd7adb54b48f2fac1ce976500b26e20e2dbdd12f09067a50d6bf5032d3470a5ef8394216858834fc8ca9fcd1b8f178353c38bd399faa7810f7a0973a6e4606dcd50f7a6d8e98a6147c984680499143cec6cf092e4268d1db829f47af0b133afea9ceeaa4103138fac930111efc70aec3a744cc02de94b2ecbf2e8480582b5d8bd78f301dac8");
+    builder.add(
+        "4d9cc749762cbf3939364fb61692eea7",
+        "2768e556f31e85f5b8f27c21208b28db",
+        0xfdad2d51487b6d94L,
+        "7e1b31b4079b7d7a42111e8ed64cd731ca9e2ca213970fc78a2a8005cba353e4930af933bcf185d7311654e0f1e1213b11d96d1141af38c5cfb16b51628b745337c09be50473e5bec1433e7295ae975932105868b558e853e3ba5d46e18421f859f84c875f2b83da36ed4b7cce7bcdb84c5c85aacbf7ac78d9481ac84610fb04753c0810b3131f3a1295552daa3fbb82754c2908bd");
+    builder.add(
+        "43210b4d4755a11dd7f745dfab7ba3e8",
+        "6293555ee59abd40c6b07d3c57339aed",
+        0x35a67dc0e1b977c6L,
+        "95e20ed64e54c55f9b2db5df7897d942295ab6e9695cd92ae6e6b74e07c7d18262a5376af6f93f9114907aa0bb5bba2504ac7f3bfc66d8648d57d864e9f3127708d8471220f8692da8109bee2b7b3bd3ef0790556ffe7265d9a1e0dad869384755982c6e24a7cb29d085238b185fc881f2f0e986724010cf0c55333a39313422fb437068752249ec6420d5fedf6841695f10b12f99");
+    builder.add(
+        "4e6e17bc12a926c6015a30a31c338a64",
+        "f6043d74acadea1922d185f19a657027",
+        0x8a071036552158a4L,
+        "41f0ea7c2e17813ad723828b2b48ae6ff558fe35d479e52ee95b0ab476fb0614834c2ef6385f36dceaac5d7f20e16f5b7a40c1992bfaaaca4b470f3d977c1565827e24b18514185a8907a393f0cfb369c8dfa047e59abf3f447c834cda97e80c56488eae56c9f7de1c50155dfbff4d887380894573048c600f1eaf0ec4ac492e8c069a0e83aa74574df1f1343326f855c49f756514");
+    builder.add(
+        "a61b93252285a56b9dcb1e5476ced493",
+        "f2359198501a52e9fed6f295f8dc8383",
+        0x62c070bff23b7a18L,
+        "d2e1a1efed759994d7827d48f34b84fde5788314a6ade858fcb537a34f540bb5be262fbd573bdd778f793d4cbd9092b19012ed4fdde8bbafa0c9d1cf6ba21f690db5440b906372402f31426135000e6f34374359be4165e17f6fd21a10d119111fe4ead3aeed86636fe68c2956f7812376984aa36bc3755328e775d8ea0484fc7b960bc87ce22cb36c3bddb8e65b69b29c18c8418e");
+    builder.add(
+        "f337f4bb4ad6f52fd63c8f202f6aa2b3",
+        "b5983c5380c2c167af3b9ccd149326f0",
+        0x582828d811e34384L,
+        "9be667054b56c1122f73a60d0ea4110dacc9971844eae2551f3aa2b57fd80e364e3f4026fea3de340cd82285b36d7d8f81b6dbfde7511baf634e3125d142d09a966c5a0a8df3825652a4a8b661db17d1a8146bd1ea0cb0adb0bdbb4d176b18da3e42d45eb768e72d618cb5592a64b6d9a4c6fa4fe2aff6c113fc8b4a424024ddcc155cdb09650b498d00875ede67c6cc070d0b3435");
+    builder.add(
+        "36d5d2f19478e4aee68794af8a4690f7",
+        "4efd00bb5974e6f1b356938afdadf111",
+        0x6db9ed6874ca9d01L,
+        "e91bb9520473de922fb4513f4d69c977e1a2d01ead36dbf38ed50979352f3304dbd784d9edd4f5da0e5e9338ef90a6d4e86380c18a2e7ae78f79fbdd12426592f1a8a8ab141b9b08814b8cf72c9d2fb59f4b887107325e2f24f4dd39ed9a3f6f711655f5e6d70733cb82d0b3d3a3d1b3bc5a48b919855d1b9c0259f97cb1d2015f165eb2c0355db775f554d1faab74b0a1edcf4d60");
+    builder.add(
+        "e5b99fbc5bc7694446460a56611f3dcd",
+        "49cf25d75781ce35d2ba6b33aa3aee74",
+        0x68efdf8e2696aff3L,
+        "bd76515b683bc373674964583aceccce552851e81776b07ca2c193978bf73b90823a4259242d9124de43504d4d54ad804127937bfc568c91a77ba4236e3a805c34351c4284424494ded3b4bcbaf0831e77f5c2767eef4705f2cf0b8d414c5520ca1d01732611c3740c54d139477ae7c12c42a4ddda125aa9c2ed09a9478f2e9f21a0a509a24bddd2ddf93fe64d6b825665d1d16ed0");
+    builder.add(
+        "8ec17cf45bcbaa53086d06c8070fea45",
+        "cc14efcc511c9898fe31c33e31301925",
+        0x18cdaf49d225cb1dL,
+        "e65eed066f64d26a057667a154f79579e0e891db0209b9e3a1378b8e0b737e945bd720058eaed222f60762479b0374c4be773555631c20183a85c35e01b5df414c98cf3c8a9340319572bec7fd888f7f352b08ce368c47cec341a009db94bdbd7bbc6bde007df2d35d91c5a9210a43ae04d675d39aab6bc4054551ce03f017ed2d2eec71ff7e0a83c97f3bf44ebae2b088c87b0ea3");
+    builder.add(
+        "5204abb5d6a143399eeb3e4666686370",
+        "fa88a8bab2c06ae024a4cf630e972ed1",
+        0x85127c53595a0bb2L,
+        "95868fe19d6d7da0242e49a699ea629121a297de9052513c3600f423db4c9968d43ad0d97dfb410893154b56814e5f4ab93c2bf53eea7cbee1ed12e52e59b4c78393e826e9d12ed85d6e09b526e2a5e3de69eb51b666953e887e83be55d1544541a203709723fe2dc0726a17ad36d34097a054af5e2c2b6581ad105aba3345424756df08324dcd2f37639f291b2494b4e2afe41b4f6a");
+    builder.add(
+        "78f42b34ee8639094fbb697e1988aa10",
+        "fffe4e78b3a8d7aa3f74bbf779795f36",
+        0xa27cc8da8733ac5dL,
+        "8849c7161b692f8708e785b2b0eefb93420f5bbd27c5fe8602c231da42f1af92f36aede0dc679b45d6b7490140dde6e0bd2899b201862945adbf142b56f2ca4ee233c1b846041631c94f44b78e08ea24b81698a444ff2e426ef01fb71581df53883dfbf473501a58053608306bb15702b223dcdb39e43a89834560e40397644d37b230078e7cc8b816823ff93b82bf39e3172d396509");
+    builder.add(
+        "92a950851b2cb9b7a28dccb149e80117",
+        "788bed4f6fe5cf29c7b1213fe99bb856",
+        0x1f60d49da533843aL,
+        "526866bfd3a8028b8036bb71a15b246908dec8af162e4679503e78cfa35661f0cacd67d7d7e7ef97f177a56365079d6252d645ed64b3c2462b2a9203fe59a68d197e2fefb7eb668498b8f92ddf19c7a118804d8098ffd04e42c2932e1f5b6710d4ec68eaa00f65d0681462271c18844989ddc5ecb1475f2e8428918b2e2a0bdf89ec8f31e1131d5975ec172737b32713aabb4f43ee52");
+    builder.add(
+        "b76e38a6dd1dac5654132546e1165f6b",
+        "47fec9c4c441f8bebcfdc420f7feaa15",
+        0x861561c4b70dd45aL,
+        "4b2cdea9574abc9fb095af53d84c0365fd721450ca5b900e2fe7d10d08b1a9077a4b0f62d2a89a883f3df5d85a40bfec3d78ecdca5420b65ca0cb98748109e6c0f2d6928adcf3457c5751b15c6ad3095421643e9c64cd25283868edf9c61ac44f7fdac11e81bdf15a3b694f8e7555bf84b336f3ae3da26b2d55d40015e1e51020135e313e56ae8cbddd6a26f0f9327a8b200c60491f0");
+    builder.add(
+        "58332d3aa61de6b57e587ee8685297e9",
+        "5b48f9599813779de9b8460cd225b1c3",
+        0x141b2a4a00b24879L,
+        "1fb057a8525f83952a79f7753e095d439f318695ec24cc2fc8e27197fcd12a9d7e594bff2b35ebcfb74a76342da1fb6d7d4b2e9de93763820377a931d0b423c8586f552822ee096dbdeb179728ffeb667ab94442c1f2d640242c822856686e5c55218026806f1cc0e7a82658432510355263942f04bc58279f52eefd091cea157ee9b134eb0967572b579aed93dba4fb004a7e0c9750");
+    builder.add(
+        "12b2a68caa65f73ac5473d518f89b853",
+        "1af54a295728df4132e2b2e835f0165b",
+        0xdd85057c55edd388L,
+        "4770f2998f7c591c8e031ee1f5ae9914b55a7812e2ae981abe6450387fde53dcd71e7c4504b637dad114363d7cbec76cb2a606910ef9d818403a8bb2bfb947367f7f1dc96797fa420bf7676687db9fa800a730d857c0cda300e5b6f652438a2d4bb314f554336003c4124992c4147f557792316335385e1df6a2d9ace910783edec95f144427704da8258ca4e8342756c226700670a8");
+    builder.add(
+        "3a06df43ddb8cef6bdcb40ef5f771ee6",
+        "79d0b6e30211669dd688d93564acc903",
+        0x837939afa07a0565L,
+        "040e18b6b6f0873da0b77332d49de1c6cef70714cf0d3b64622e7ac7199c958cfedfd1f29d336c066ece340351aca6e873501eba78daa53bbf3ad061bc48471bf22f4e90dda5b10ed4cac33761a191cb044f3cff527816a6e6cdaeb3fc73ebe19d30abf1e75dcd1e775675723ea79a923655d9bdea72233db38f939f5a279f5810a3f1f71ec84e10f71900bb8c412806c995264b52a4");
+    builder.add(
+        "90ba3fd23b1c81cfe21984bc0ea497fd",
+        "a6a9dd5db3e24eb5ddf611d45b010d5d",
+        0x58b934c6dc84d484L,
+        "6d3cc9961f0c894ca78d058b9faa68f9a0b78ca144f21375f32f799e5cb88c0ca47c352123982f970bfe930134ca8eb84364ece6af88cf0193e924079341f0f405ca811fb9c31df1917c718ed179f9070f297931dc47a8a5fd88231d9d465f1a3e874f38b14d4befb9b6860633a1112a302cd90c1ba94ef95d4d1d83f0f3b56ed420580f8b75e7d46e172f782d45ad9a251d9276f0c9");
+    builder.add(
+        "ac5de38ad34a6f209d3993d370acc876",
+        "4478e53ce1070608d9a4763eea48b3af",
+        0x7a4a8098de9f62ebL,
+        "e78fec8892d384527a4df794f29912e668770d5a4d1457bcd0e17b96866181c84f6f98e704c2ef993b34524cd74fbbf6f6ba2f379ef90dede5d4dc4717784262b7e56ee4e5d386e16ff4449976aa5e1c1b97461b23440b44d3e7ab743ae6e9626ef9bed89f85e1cd6a838b69328d8b12e4ab99768bbfc544dac697b86f514186e4b0fbdf2a306c7c7dc6343959bea3ac60f4448399a4");
+    builder.add(
+        "6a55977e17987962df0772d4ab7db88a",
+        "d297a20f6a76bb3c960ec04a146c729b",
+        0x6e8e3739e3830016L,
+        "343239100e7ba35c5dad28832aeb466477982d0b6c3165773a3c670b20d894116078b5dc45235e688a063f10857e8509805d6d3dd15b00fdee5d8b4df66eccb0f1a98112a5d06d7da9f7a495f56b1eac5c66304a605da08fb3e9a7d1a1e492983ec53742e4c3567b7e6440bc67d1dbc8669409fa2c0fdf528e466b6c04daa7d8ac9b2617310e00004ebe1c461ca12250e61f755a80ab");
+    builder.add(
+        "43437bc9deeb57ffc11a9633cf2cbd17",
+        "99621e50bcb77cf5603fbcbc62f26a0f",
+        0xffe99571a582f053L,
+        "a91af9d69ec93bc1f11a2c56232bc38bc7569cbf17cbda9e03905b5081118e9d2d7b4faa377976f9caa5b98957f8999cd9d9a8de1b22677321271d749cb1103503f01c4cc5c79182f45e7c327d803867a2072dc757053fb6a537d5652298bb931e02fa5b3ec394ecafa4f220c2a194e51a88063a373dd48909b63405c3fed8459019c3b3bd8fcd1117cbdc3cfbb026fcdcb84a2b8964e5");
+    builder.add(
+        "24b05c5997f699cffefbb29ac83db50a",
+        "2bf227ad9ac5149ecd55cc64d30a5498",
+        0x670b8f1c5a18a9afL,
+        "1f5530a9694824767e5b89efa33141100addd78a247c0089a83e3b195067abb64db151d0b1a8aad01f7b39580fe6144d1663342c15d3c9b4dd23e8de5df8a95b78346a79e789bea9167a4a46b35f3d7004796c69b1dc643945aa8945394cd1e13e0d75de9607ce2baf8fcd69473e905158dd64daf6f45ecb2a788c8c8be955a9e9d3dd6a3f539b2bda01ae8e98156ceca192c199ec4782");
+    builder.add(
+        "0cebb2a69dadd5ee409f273f6a38000e",
+        "f82bf4d47aa737c4bf8096299f3f0b39",
+        0xb37caf132b9cd081L,
+        "e09f977fab421616bbbf05ca040f0c448076b9418a54bd581c4909026dc8d832590f11e1db1dd0dbfc08aa8d0d8242a877cd9293b08ad7ff87ce64c59f56ea481e8de14ab1aa7b68852a185485eb2c250cf70f0a455a3d70fe1b40bfabdf79acfebad27e9674608f451cd009bad982c6bc5a1cf92797803b12858feae91032587d0105682651ca2b5684e725c96ab0a1396850aceeb48e");
+    builder.add(
+        "efc5bb617e82f46524841885a1c1c30b",
+        "440dc96f9a38aebba0c8745b2ff1af83",
+        0x4063406367f83f9cL,
+        "be360a72de719d80828bcc9ed82181a4ec10b4177d5f570be4d16cbd97178e352b102f4c9e05e7294812dd5993da31fe0cc68b29a6ec7c35bb936715c459ae0bbab99fc848f3d5da54cb8d00f6038bf75732d6b0a5625b5639e92e79890239bf8be4d5429b023c80eda60430bc4ea6be0c5ac8f4ca41c363575cd2c5282a6fe6cdd2675c46a7dcadb3433a4ac6f64a707783b15d6f0f8d");
+    builder.add(
+        "9c7c6ae5692f7f26eb51185c4464b694",
+        "34d71f127d847dda58b88117f51b668d",
+        0xa06fb2c3d02d9254L,
+        "34e4e63fe803447510086b21ff0b58832d7364a0e33a8259474bb9ff936bee7a33d6a21bb30d74276e3728999042ec97a33211c66ddcd3f7d601ca41e38e740e2ca3ba0fb7addfe9f984a6d6e008bf322f712c92d5a7aebc531645952ab197612a5a093bbc9c52b4d42cc8afd6a4cdf9f80b887ed05355e735de39d30720673637d9554ccdf38712a1b2b5d88c1faf840eccb9727655f5");
+    builder.add(
+        "b599506f55e2764ecb6ac99d91021e03",
+        "0b56da02ff61ba9bf0314c426dfd725d",
+        0xe418598c091ce4a1L,
+        "077d235c511840ffac9b9a057277af66b09f4ddad802376df7013bdd90aa7874236b3ae10200525ab4c5ceb731c16a8032617e3e19627ead8e31e589e185176705ab4cb7fde208cc54bf9530d4116c1248bfd7358a39a48136cc461ba59fd793ae01909752a491d287f3092a9f294112c482d3ce7413c112f144feb5f937d9a52b27c3bdf7de58c9b1748d9d605d7eeae3068ee235d576");
+    builder.add(
+        "e774f00bee5f9580915905120dffe287",
+        "64d8ba52a7a018aa03f778050e8e602d",
+        0x139326226afc6007L,
+        "9e7f4dd30fa910a8b0f0867e1501039d4b27edeb14f33ba110d64d671b5a051b245f3d24f0144de81cb9cdda38b9afbbf754f6ace29de9d709d03677535e2c17d0712fde65c9826808eca3936f43815e908ee0780d1089ae2305e9bc99467ef8d4f59716805825ec6b12c0c5a26238e66b9d23f2c5c27b44688fc63b080276702bfd37463ab4c4e3e6546e947fc93996e6237d3ac95944");
+    builder.add(
+        "6d8b5a062a275d3dbb8f1b46a78397ed",
+        "b0f8a4084610fbfd902eb6faaf436b1d",
+        0xdf8253b4c16cac3dL,
+        "1d7f1727287ca6cbc8a1a2a85a28426c6324c96956471511081c826a2f17119fde9e975d7bcb5b9c476e2818727526faa4dc660e1f6b0b5cb4a08de094de052eb15f1a39f9512558b8df40d30f5e05a0f7070ab5ccef0c692d47a9ff1858eae89bb6a0968c553f997e21ce3def5a9333413e66f136c6810a284c921690c576a3ee797bb0eedd38951c5645020eeca359b00f485d4cf998");
+    builder.add(
+        "0c237ed94e82081b62b815f2101f2ba0",
+        "ef5842c7f53482e99afa8d90967d4b45",
+        0xbab2f125e8a0fdf9L,
+        "6b46ad3f6db87cf371cf74d619abfe5ae792d99426b3295f548961d9d6dadcf519ba0800ec86dd0abb01ee6f98b6f41810019b7dc81ef2f29da8bce4689625d589eb96473827803d0055af04c1ad8b5e2cb0ccae3892bf5215d94f80c29a8cbc8d32db54e02b9850a444d67095c5585634a85f6cf610bfd64346f796c5ed93d08c82fdd40f030dc8a24f5eddd37dda27e7ebf61ce9ea3c");
+    builder.add(
+        "1878644d807015e5c6e9cd567e6ae2ec",
+        "ffdfcd57b319a0dab1ac3d0e94edc548",
+        0xc9a1c8c46613af0eL,
+        "0df367e38b77ae3615598bd9e2006bbd6ee96ee8d60f5df3733dc10240f4746deb40d39b3fbc8816ddd82ee746b864a17f49c8890aefbde795316ab9d80a954a9bc20562c55d0b732920075a811f350af7fe78ae76b6dc08817d6829ab78b3ad00d3a6a4ddae608a915d02157c36064881986dd1cf9a31404fa51804f4fc1b0fa681c532bb7975377687c9ca56e4311091cd8286915d80");
+    builder.add(
+        "7354381fedb0a40b647d3acee486d675",
+        "4cb20eab1e35292455ac4db9894a1a22",
+        0x663499ee81416872L,
+        "9449851b287e9ba11ba0fe67b9f5379d43a7ef7f496ecd38726d1588340b5cbf782e4ea88f26de94f6b678d32859267a57c72dff800f4c5c30a1926e14ffb82fc26d13e539993fc0e884074067eb5782974e9734068a6179bca940d2ad6ca551054b812b4f1e980999b9877fb2e25b5aeec995ab1697d3e269de467171ad518d10e2e3d29618a12e288f3be5ce76e9ccb0e01f09fba7667f");
+    builder.add(
+        "4d32127b6a0f52234132318decbb2333",
+        "f7c84fad1586c657e80fe2a9e83200fe",
+        0x4f633c4eaa77aa4bL,
+        "89cc79ccd3433c9955b9cbd2e5b0e4a9fcc2e482c138693096e5b4b43fb5f94cd5df9600eb7877c2376d36f73675363e53f6e5603bedff856bcbadca781ff7a1c2e669a3d99767675a4fc7af12250d5a790098c9b9dce568c5aede41ea58b7e7f108f1b0c48edf95a73f678a38b61c1f0a89c8594f666ff53b9334416f46a054ba88f86116b8513fcf557e6b5b22ff67faff63a52aa84c90");
+    builder.add(
+        "e7143628af71b0ce6c5513a8b3b39d08",
+        "9b59ca5d005c3f0ad21da957f99cda85",
+        0x13d6deef14bcde4fL,
+        "d4adbe749b8417c83f92d932a572890d4e19f8f4f90c86587b2d021f1e41f2e322cabfb9863f80e1e7c23250d209c8e7888ce633906af3768e31309115560bc43cfe4e554f7aaad57119b3ee5acd35179016484f2510bb9e2d49148d84399958555d9835a6001f7c301cbf99e10b99565fb81f09dd0c6f5dad2cdf3d909fbfdba2267311abc0e0049347fb50a2a1ef5a203503408fe22d0e");
+    builder.add(
+        "d44c4452a13105c5b1f0af8514922190",
+        "b307c31f799a06c316fa172d90b2f1f3",
+        0x87cf9dd0e3db072bL,
+        "07bceac4a0d6b612eea20d18912cb46d6823375b76eb5e427e0b0f071bbd4e8c324326e32db476b512ce3b783e95c783a74e53476eb8b72c35e492bb3ba24b53b8ed425d7fbba975ab78e70a52e2714265012d74431f9942304926dd659a5575b3f99e2306e2ea201799c207f4418cefbf7e92b34d89369873b25407ceade117011b80c43075ac02f2e5c02e56ed55240e069d28f8667c98");
+    builder.add(
+        "b21581bce6d0e857c6f3f57066bc88de",
+        "20085c6a06d0f7a3b9e6416ca218e2a3",
+        0x39da70c22961d00fL,
+        "5122a665ba788bf56fbe5c306096514e59acbd435c65c9a55b9451db0dd9a754e389932f5ba3bd61f080a33b39a6ac8c7ddec9158fa352c9a5f86942381ebd655513dce35557f85b75678a76b84457057e249afb4389257bd03d7b4cf362c89cf2a88b97e240ba0f319c73454d4bb559bed6d00155ab0d2031d8d5bcfe169f2c120e0c5fc5ac14a496054d13b15b2c844f061eb0e01240d2");
+    builder.add(
+        "b475429cce7b782039da662d234fbe92",
+        "96cb79cb45ed78fc949b97dc8dccc8fc",
+        0x9a773721f20b8ac3L,
+        "2fac9b7871edb3ea61e99c890be693cdcd18f330880f606714ceec34ca89f66e0cedb2024156f270ce38bdbade91f7d1a922060ce4b1876beaada727adfbff91d8b23c30d565f0c5d01d0374889a83e6ae12ddb45d715342eeb31e50f8d817efbc7599fbcaaaee78fe59cfcc2c7c07bc63aa382000257dc7dd1fbe535ffb9e1ee750e854366d083e516938ea1f95211eb383338ade997d8f");
+    builder.add(
+        "5179180543911d32446fb86117a72353",
+        "ced89f0d758853042952cae392453481",
+        0x85c7b02bc455b86dL,
+        "987187284e1c8bf50572c7b41c39be2ff5adb2cb1f8f4fec57fad45dc4347377ab6693b23d9a8d8dc73a670e52c7730c7397d2a92860e0efda46aaa8d0095d9bf07ac31e827e969e5263384d2dc08df860d918b39bc8721bdc28a23f08b020c05b1c31b1e8689879019d85f1c0797e5094bc9040b2f64aaf71b20ac9b225b16a3356eb79ff2ca1e8ab2376b5ed96fcc87995de4211be942a");
+    builder.add(
+        "04f94d878e7fafadc2dbaa66d0ac67a9",
+        "2dd31cade1a6f63e9f6ebb506c6f30d2",
+        0xbf51987accb96290L,
+        "485b5e0dad7562e750a815efe2d37cba689d1275edaf962eeea26f2b00427eb67c46bc92f7b671371431066693c2ac718a2d0cf6a6380e6702c91c793dd060a359ea93ae84d09ea256a5f0523ca1a31aa2bca1206e39403bd44e9974597ae48b427a32ee33b3f3142ee226d7881f2672d6af35c36ab0b998e46656be757bd5cc7f2c930603226e2dcfe8df9b4de88d3079987a5f7f04e9f8");
+    builder.add(
+        "41fcdd9cee9b9bb4780539e5a3378261",
+        "61be001cc2741a0016b7d30b255894bf",
+        0x9762dcc53dd7702eL,
+        "6dac543ddeaf70b5ae6f2dac094dcdcd5cb7e3a4d843630210645e816e188a4e4b894404a51a21725894a1383e54367166451d3a357336c96e747c2292eda263bd6cb3b9f8ce6ecb4cd3844673e4c2bd6eb98e852e666421dcfcb246051ff4ebef030aab0dc3e0b4dc3793c41651fa7198557703a753406667c8588c5d716a51522f18d8987316b8f8d140102985ffc4f878048e09d7585b");
+    builder.add(
+        "48dd12cdad0ebd67299580bbc29bd0fe",
+        "c8535102d2ad356412ca994ba350f930",
+        0x23dab79da815a2d5L,
+        "5ce14c44435c52951d1655e5930295fe23a3d4689551d9e5cef8addc04d9e8a8a4b1163d13406fb3d83f4ba302ea5c0e0f0d1e94378887246d1829557e988c78419f33c33001c8c045c2cd2f46d5057805ed7fc9cc19b3f4261cd050099ebbad330e5caabd0a1b27bae9dd9b93548b2be8d4b4b32e93b78823f5ddf3ea2a5fdf3ec90ac419e3c6383d8bbcd7cec0f827993d9caf26bcb113");
+    builder.add(
+        "fea0e2c4b9d1d15db04242a493a42386",
+        "b952571a136e388c5478f24ba5c1b22f",
+        0xffb9c442fa53905cL,
+        "eeb55b5859a991e61882884494bb89958313b16c85e402b4672debb82fa2ab4a561dc6be335754a918d188adfd775f7bb1d76d1c80c792682fd61e90ef640c86e3ebceb2c9735d1d11e8a6d17c67f6d3854acab9846f2493fb2606d64713a586d17e5d0ada7069dd2351f09b10db3a4902d45e28a3e87497b4da2028d55d322ee9950539bd5f466b1060b2d6e485d43fec1c9acbbfa588a049");
+    builder.add(
+        "d27b24a4b833b08eaec3c883dadd667a",
+        "e09faebc2da6e3d076bcf9a80ef358da",
+        0x77ab56dcde1782f1L,
+        "d729e8278f9dc168fabba93a2c36e3b6b222294712e0dbd34d21011507ad9f74a2aa9668bacd6976379ef4230e40abfb4585546888bff5b3bf84d0c2ac70f19fad4cec7d54434948d222b3cb805da0e6ccd27c169e193ca35ffbe40a0faf620bf7a7b9e16232048a0e25ee162fcea1f332eff1039a64dd30f8a9d7a386979c56a7b30f01c6f684c74c876b89ea1e3374195b99fa6cda8c81e7");
+    builder.add(
+        "c47f485be870ee8eb23e946a84c98698",
+        "eb36bd1d9a85b0f6b239557c1546c512",
+        0x13335c0d4770f959L,
+        "ab830fcef454df7743dabfeca858cf8b041346ee52bd16f4661f4be873a90b9adf27d61202d9901e04b5037570bc204b88051e4f0091f4d57a6be5d5f14ebfc07234ed5e85f1e3ce2df1f1a5c350942b327cacb185caae3312bb6aca5db176453169e984017c20190fcf73d0458fadac96f75e52e0c676c8f3e659e1527520886b17207c5fe33ff85a8d8e38c51ae044ab58258623b5c74644");
+    builder.add(
+        "60427564bc7e3065a7612e5a1a7273e0",
+        "53f651d0a8a6218eda69e514a91cb193",
+        0xed8ae4d61e160142L,
+        "2e3e28694dd33b313f2b5381728562f20d06cd062640ddff2e25cec200555a1625d64852b9f03f1f784ab89ac39cb6286768beae780155f6a23dcf77625e04dd1ee141d990253874882d6d8c78928212f1c5ba4bbd3778b63d2e8cafea9f4fb18e1cd8b8b336f03ad982f30983c121090f9cb610cde7de22ed212ea56aa8ff9d00b12c814e55786c39af5ee527f4dc07590d8ad2eb4c4b0303");
+    builder.add(
+        "28ab95b4a20e1d60b5c106e1bcb29f68",
+        "298f082ca8d7374c29edb285545e7cf9",
+        0x01c29b587da7d4c1L,
+        "e83df13f2e6a0139bda5421f80185d260496f70c9e81bfb556e195ce3617466cbc0c72fe736d354c3fa756fbc65c1c9ad2e9228f48c987f1d20fea4f49f421f5ef3ed42f10a5f842c1123431d35811f63a38e83734a46268d2c9ccdd71675f8d1bd3d92daced200bbf2eaf1deaccbf05550fc7d422543f804c8c1863fbcdcc31e25ac54bbbb9492295548d42baaf17aa881a15b803b59e572f");
+    builder.add(
+        "800627f60f5c3e6cd8b6015ecec8c723",
+        "46ca4f6b7e0784c928a6016ce05b925f",
+        0xd14b67c94db839cfL,
+        "8ceef4c8e5de4a34c45bb78b7e7c7d6e2da2de78bb1d39e2659247a31cb4512758b5e795943426da588d8adf0859338ab0f28aa07855d82ba99709a4bab8659f04de78e91ce2b8bbe00c4de1a23af11b8876784ff69ee5dca28530ebfff9e83351ecb814c5d3b61ceeef3b42cb43ed3c8a1feb366eb0f3b2448489c6ee753e13b01f3de726a79f7ce88c1570c39d301ffaf4ca0165488af1f7");
+    builder.add(
+        "867e6c90e34b3d21995c6a52e3501b9b",
+        "7ea6ccba28b4bda202ba131325479b1a",
+        0x56e468cb6dee85edL,
+        "3194cd42cb03b69d3a96e960db0d56ae89a336971a0f04a8d6971130f5a8335c88f3c1a7f5660f54fd4650c97cf5dfd0bceb76c5d1fb4ad382902a4dcf8897ffaad50563beb344b7a200a16dbefd2c1766f6df77215f7219d82c64dc3e5a1240d9129435437fe05c3c430d36eeec29bb92fbdbef1d96aaa64909a05ea96a2156deb89cc2faaf1164c6db0709af7babe4dc4132c352181196eb");
+    builder.add(
+        "95cf145a070df16f24acc5da9a32c5fd",
+        "120917db996513e03d353575d09eca4d",
+        0x5da27c1c009c8dd3L,
+        "1fc59a460a4cded8e991cec0960f2895e6c01f9a101cea75240c8be040c34fd886b74480ac08c1acaa6969effb4bf215c6e84b481932e1809080adb545646188971f4a9b0a6d6e5b99fc76b52ad68cdcf8c5aabad0298d002695d5bebde04b84d2632da8d9463f71e6874654463c25e06060f4fe50db89e6a9469224fbf9d4a788f703728c4e14996cec8956f0c8793f799005aea13b41c7ae");
+    builder.add(
+        "6c6f630d62b6a1adad4405affe465cf5",
+        "ec0deb2842e6d51eae0292936ba29c19",
+        0xf91ad71cbf030ffbL,
+        "2798a857f34cb91a7089561d6251ccae1c7a45c41186f1f53826455c9ab0677ed68fe010833d5f3ff3ea77b02642e0f140fdf0f349e5e9f5a2e30f799531eee32ae5524f282004e5964653990c5000c3140deedc9320111e977bd28e5a5cb00d1eefa1f33055f10c540b616d9b8edc61e3030b3a80960f56c81cd4b606d52cac8560e45f3bf3aeb651e195dd7fe949b14ae885bad513334a5f");
+    builder.add(
+        "d3561764a999d8941e5064a50d40917d",
+        "8b59ad31eae120ea450cc8528f3c66f8",
+        0xabe341ea4a009ee8L,
+        "1e0f283b734a5234ece464df7518c1323e752efd75c3bc1dbcdf9169ec047a67c5ac857a1f1742c8b81bdb27ccfe334ac9777c56bc9058ee966165f244ad1b8af9ed4e87693df7ae19e89cc427b7e3fd1a6147b72b1d9a78a54731ee0bb773c7e987416bc608ac2d5761f24e5df2a56a1423fdd86db0cd450a6d9ea4c147a2bb7561431004df7ed5d732b9bd5e7a656d395d4428c535af23b4");
+    builder.add(
+        "c8bcaba956c789887e23545c43c11179",
+        "5043c2098132709c4a96675d6767f16d",
+        0x8ae46398376163d6L,
+        "a6b197b85ddbd14dd2064f6f799bb5f5b8a31c9c9d88ac912e31ef874139f1255ca65b5cceeca08b216dd0b5ac88d853e1aa4ce070161af06638d687a6b8e4b03efc0431d539090a8e4897b80626414e7480ac74b57b17c477496159b55037c279e538d11f1df49452468364af26f1699b1af5cacc5d2f73d13b043c0aee320727a91506e1d356f155d107aab1cbf8f07d70d1838f93758bde10");
+    builder.add(
+        "91c65222c98b5647d3ca8e2d1cf5bf9d",
+        "01ec3afb1076717f94402d726c37819c",
+        0x14fd0b595928c585L,
+        "e1eb0392e1e7c35441a684cbf3969af5023a41e123331efce813d35590f31deaee0537e31ccd98d3115ce42dda599dd69474b7a058fc6475ec3ec3bc246753ff0e7c44db5e712b9736de1f0e0bb6a5be5aedc7ffd1b09328cd099810c75120d375ebc77ce2263e23c74f5cdc70ce5981f77a7e0e6a2348e89e4976dccff9e785ad2d433325fd0d865f78da553b0a05d746acb40f961c50e25d62");
+    builder.add(
+        "039edacd3d822d6a3bc154d8752d08da",
+        "f104187cbfcf6703a446df73d59ad79f",
+        0x0451ca80327f7ac3L,
+        "2e1dbe94ba650c4a552b77ca8457a7ed95d1e82b1fce5cd04f137b11b5374035fa4338b959fa106f4169952f53cd4403157cb0299b4bff7311b23a2193cc5eee282a816a6732d16b00b5b3f64833e6dc6930095676ae1f416b63e2e6c65b9275d6b471527b311cefd4200391961aec6c10f08e9a852b3bea70538a6803ec5f021a77a3fe604fa1e6543b3831f61a410491d3b294c460f97a9ad4");
+    builder.add(
+        "8270ea46713ff9bd417096ba181a1c4f",
+        "2005190cb5b40e0b57798ec247569116",
+        0x15d8f58f6d2ad156L,
+        "e8641e11d0c805cdd9adfcbe8e32aea6c446febbb061e1d56a04ad08bd0282b997fcad4d2823dcf384a1457ca8986360798ad75ab73f0c01e8cccfeabb6fbd4fd110315c38cfd8217a2df1323602613115cb247a3715b42ab7f28a2066c1a7b1370444a3f5577337c78e9600e73622e937a1795320d19d4cc77e1b1a9e2343041667b749ca144d30d6ee23d2aa24818e30141844dfa32cb6b21b");
+    builder.add(
+        "7ec0f7705b398c9d7a4e329c564b0de9",
+        "2f3bce16b1d7d436cfd021aa3871590c",
+        0xcc23b0d95ad16e5aL,
+        "3ea315f42eb68e46062ec313205470d68152f2446490fac3cb797e6dd14145615d5454adb1a5b726d2e0c21e2becd72541a70f99d48cc5f1790081cfa13ad28ac19d9838bb6383eb9a567c66217e42b087d4f87ae37ff5c738d8530919af53cc6d5dfcc0b1c4a2c2a77d0773a9a1373e92801b6d52347551c858dfb718803d2500a54d6b0c7c3c2dee83e325d53b0164ee9e8889327bd7105b96");
+    builder.add(
+        "cc8c7698e526e98b977f248d56bae3d6",
+        "33210a98c0d953c2c6ff0fec74f0a6e7",
+        0xd1920d40a05e3faaL,
+        "eb9e8864ef8647f253ad2335f4bda35c0e787eed3c829a26e343cb88be0c7982eec268e48fd98f78858d152afdbd93ba6a16c73a7a3c9fbdfda932619c718a3c7ca4f9c2af0da5c2309e5f88c0a1fbb4eb6fb33139c788acc8396f87fae184a08dd2a219c9887d09008134725a91bf676de194e97d23d10ee7aba3333df7dc45239d6580e671272c4511db1a112bf24a7ea1f067a61c377ad62d");
+    builder.add(
+        "7fc72a47f612079606a6cc943d06e6e4",
+        "7b61b5ce67c9fe3cd92110b177b454b4",
+        0x9b32cc132530b06aL,
+        "5a782f1d389aa500e0dd4f6a69a8bd2a693a8dc1cccb53abacc7ce7b4ae3fee048dfff4af2c8af637785dc53f95e3f938a25f22074fb958b07adcde7fb7ab33178e94e6d9e8e032453bfcc1a9a1629fd2411e6d02f45211000257b9cc54f25bb09a89b3366a6dc48f17a9465a8af4d9acedfa2539b1c9e24e83889b1721f979938321adf5ae914e5b496b3a9a61a827658086e11eef12daf2453");
+    builder.add(
+        "c1afd4d437880b41369268d660334113",
+        "9f851196a78573d0d3a639f06fd15d55",
+        0x610aa44468cdfeeaL,
+        "314282604b10d3a0567532b96244761e01b8dda6e79aca7437d0b2bcb9e4dfabe746f98730d32d2a38590f31d80d71f0bf53448e904f90ac9c3b006b7d524a4daf5acd537420ee75e8b0791701316a53f64032bd8289361acebab8fa7c87288c5a92cac2163807511f7b40140232a3c679fca014d4b027af7623aa607f9c75cda198e2c06a3d50c572683e656d267d354ece6b73c427210d93eb");
+    builder.add(
+        "81630fc191b2b70975e6eb1677cca8ab",
+        "5d177d09a944c987ae374b04fa83aa15",
+        0xc8dc3153a5f58790L,
+        "cbaeecfd448fb01289f9023ba0047d148980b2f8fb194163a63359d6878dc92c06f00c8b38901a2f7f1fb9e5c88d180228aa3195f64ba1fed0c67ae99f60baf5b00a885c035c64eee1537576ec02c7d12550825e53821d600408e2587e296018ee6d1be27ad7c7d02dca9bf03138a47fa47b55515095300872fd3a68b353110aef496a2d905e14e0c4a98a21d54654f8d28ddbad65d6e4704532");
+    builder.add(
+        "206b56dea0dc92607bf66b0ed38e6207",
+        "d0d9b6e0d9ece05f7bceac57ebcfc6fe",
+        0xed830cd35282c984L,
+        "80b781ba639207bb9a052dbf1653b09c93b5f662b6403fcb564c44322c9c0b6c0baa69c54547ceb9e5dbd9b4ff6c00ed65ddd27599b09e9bda28d0c8c444a7c1df21f6cd95297778f8f07d6135dad5782c1d37144dbccb5b543f05c2100b9072d1961495c38d6ab577b8cd44cdb3083c2af691b5e71223decd021cffe37ffa7832e3f039bcdd3a98731015dab4b2512271e545f332fab0a1774a");
+    builder.add(
+        "d10bc1f6b7b93d6f5bfacaa6c14a09a5",
+        "c163af6974bfc8b8eafee70d771fe167",
+        0x6adaa1f83c2e9da0L,
+        "82cd059be78680c329f2bfb88fa7aa13e988f72de0dc11c606f89b3b8c1c2f50a95c8cd1f0b7fb1566a749d19f4f13387ab2469b634e03f492c6b44f3da72a2d6f319eca4de9624b4ca12b4a9ee8aed0da1da5f32957eb69a1ea19ffe2d2dc7dcb88d8e783e890ae0f638a6ef7a8f81d384863a23b8d5c70986298217c97cea99ef0a4bafbf42c6b573b4d30f6f33169790cc92423097c2b392503");
+    builder.add(
+        "1546d582b00929cb0aa6b391f4d0502f",
+        "667cd3cf81007888f378d0576b24abfa",
+        0x5c43faca02499fddL,
+        "d1c6cb0b5fec8c119f3e1740a0a67567312e2dd0341a8988e02810cbffed60bd9545521f4ddc5d048035d5d4e5780a964cb94773369334a344f7a038e44362e04c32c163a54eec8a5d6caa89f50d270eff15e0eda1b826b3dfcda2e4dee39f8af875b2bc3af78f4a07f06ca1ea03750dd20fafe4b331988108b3c8d4950619f1ac7d9103c2d0d4b303663d09ad0ca4b1860f53013cb987fba73fd4");
+    builder.add(
+        "d63e6e7243bc9ff996ae522ec4d04688",
+        "07d1ee1da423dcb51f669c7e1bda9bc4",
+        0xb4e9a1a8b9c608ffL,
+        "390e2bc7cfaa3af113429f0c73a168d411ecb265c44e7e3da6a34b654446723c86efae007a92238e45797403d4b99af8beffe1242df18bc853c214dbf908525cec7fb8f6b7470a5e009119225a15157163427b466c85000a3c1da60285ec5fc00a90597cf39c86110d4380364bd221bc3770acc0ef3c7969836d628f36f27ec7f73fc8e9f4f8557d9a90270df9928b2cfbbf769ef644e93124d045");
+    builder.add(
+        "b176614ff8f84a4963f2c7a8628e2bb8",
+        "041ff312141acbfc688e790349fa834a",
+        0xc8395d6c575391d7L,
+        "9cd4f8c07c3031906ff9ede35c845dfed85bd6a80f0ee5a153197e27e9deab80249c8dcc01bc620f86d41ca8bd0d7360d99fb8ecc19f5297008ffb7f709d894dd7343d4b5362c3df41f891b12c193671880de1659098aad8bd95d5afefa352014a413547d5ede7d2450a701fe773ca687917413b77dc0c498b06e00c6bb8098d4211c4c5608b24aff9016250fdef4781c38c58de33fd99b2e9a116");
+    builder.add(
+        "bf85cbace9556c132e7e4b1310b7ad98",
+        "943a200c8b4f72c25712b4f32cbfe4ce",
+        0x9532d742d8ee7b99L,
+        "730b0479913e9fca56e1a7d3e86cc5f11436ad7ac335a2edbbe05925bfb746cc0df2c5c03202a0eaa06d54016bb4773dbaefe93b6d1d154230b787a774bb64d0bf2d980d9ae2264ef4d056eccfbc15b1f82ad840828416a9deba38d99342f15b000da85a84864278682e881ff5394a61b77547e0ddec38c7f10caaa2edd67d85c894c8a3ecfebc9c075c093c66bf98a0bb648bf30d65aa863b3597");
+    builder.add(
+        "e15453bc1c4b17fbd7abd3d17cbbb7a1",
+        "412367f43153669aafc5a0c2db49653e",
+        0xaa1fe8896394c125L,
+        "9a48b64beda7f96f874efe6a2e84eec165b64618e8f81fa8d8642b6f4fa1db94059a32184fdbbb5b71d13e47e2848c0107aff7e5a6971a5002c988575de796311b0a322d6c80ecd0da33be7db0383f3e9134792ff836307b315d03d2d78a2d4537a656dcc666e206440e3528e81b4ccb76b87d72daa0b5df88e81a4f9cca9637d1f325c903075d2b1897d5d9d6034b9ff06da7988c5455710c4e3b");
+    builder.add(
+        "2eed844b7d8ccb3ba11e55910b69d963",
+        "277a14c016210d9d6ae83647d8f7db8f",
+        0xae8a556d59d2f17eL,
+        "3beda7b77a67ca5850c8039b83dec33437aa31cb060d16b4e6e939c47b50927893d9ab392be5f755a7cf14d6942f4f22a1da160d5118011c975c746fa5c1e5301d23fa25ed3cdc2101d3e3953708aeb2fde8ce2a5e3522292949db2f636f84b34f76bd3ff48aee938ad2f55c89b15b90409ae16a1619cfd680b778bd647f56ecbdc6b243bd531a3a110abfa219408ac8e7095972fc9dd624f8e6c2");
+    builder.add(
+        "bc9a85e77ebff9ec645b1d542d94c588",
+        "65ffc27e6e6aab6171535b2d24803269",
+        0x0eb6c4743defcdd7L,
+        "0c2fdf1c1f497da088e9f3f3f4b9816711802930458f01c346ad0c6152eff04dddc4b46e9b7f23d9b6dee6a17424752656f1e550c2f2f9a2d407984f1211b5d143f833c5af75aab00967c8c8ab70f8af7b7f47bfbaa5baaa07f8d903d04e67718ae827e1f72a8a43cc1dc14c01a2842e98c90ff7b83fb083d129ab7b48a69df33c3aabfa74ee1ee73288fb72aeec8b8056bbe2a6f4f70362ecc530");
+    builder.add(
+        "910f2978be7c47e58a1e32b30602f080",
+        "56366e85a20d33293ae0df72939531bd",
+        0xdfb021078b255a97L,
+        "fb3bbf2cf9643e78881293dbbc7ee7c38462f48d56528fc7a50783bfd2ce2d2126e799b6a0512c513ee7a5d266e1aeb640aba23962ef33ec3f05a8feea81711e702504e7bcebd7ff652a7885c0aabb77d7a716d194fb50aefb8b53b742eabb71070e7da0dffec988180c60854b066f8d5cf19f4605323ac083a967f290a38f2228f1721661aaea6f9f213496e0dc7b627cc68b872a8d0416f764cd");
+    builder.add(
+        "dc5ce679f6ac269c8e57fa8c3f7300c3",
+        "9287e947e8d2da1afaec97f9469daf79",
+        0x4abf01964276f7d4L,
+        "1cad55fc87961385adf513e172e527e1668418a1832525b5f93f7d1bd42d61f488f62a33c1d90d21895b131ac71b7dbea584f749417b2b349c09c73c6aeb7ca094e2261b5d22b30610a232f9bf46550478f7235dedb33344f236e746f05034068c9185769f0eee07cbfdf84188b03ea64c9ea1cf51fa5724fc4b2830d6e62cb97a33f6d5cd8bff9d9b07925f5384458067876105b2ce5c6db64632");
+    builder.add(
+        "00719656011f8ff1daabb7b901d2bc64",
+        "36376260032627ffea64eecebb51c312",
+        0xa403b3e41d9f455eL,
+        "79f8577288ea2dcb5c784d62c4eae02cc54c8fb2979cd2f74302c817f796703f10b8c007e497d817228a5a477263b714f9875fcd2639f74f2c271190b6083512f6c1106e73f809844706693b7923a19d202a44afb4265398c4a13f2ad33697a80f7af4da2da0fb6c7f8eae093a33b7d08a661cd9660415b9997152b8e55cf613af8fbb75e266e40073ea16145289b22d7221225ec421582cbd245b8b");
+    builder.add(
+        "9aecdfe352623c73a1a055594377cafa",
+        "5ef61e669cd010a16b2cadb53a7a6027",
+        0x3898958cd066661bL,
+        "a01e8cec867f5914aef20a6045b9f09acf247f3e8d8200228f30806ce81ee569b6d40264821f3a977c10eb1410225a6e0d10046e3ae84aa2ecfd9cc978bcc88f38e4bbdb81386d9b7fb338cc19b1701dd8b87fa8b81d0f618476fdbb8294601760a44af705f06e6ad7500146a79b6f9d962b0bcfa4a755d3614a195b483a9ecdf5fd0a477e0d566760efed9df58c736a7b0d76a9ae4a66b78df1d43a");
+    builder.add(
+        "8d53538c96f4ecd42a503edd9a96927b",
+        "ccdf8dfd68ad5550b055cc0c0b2b6115",
+        0x9348a0e40e2f0001L,
+        "f4b456094f126b1caf3213734f02beb5b19a5cec902d6ccf6f2f2a64f16649cbb2a58610e56bc07d594cbc4a09699b44ffacd40a053bc28d9bda3cb8f11bbcdedf02dc78ddd6d2a9608cba122d3a5b92626ee02ab6c9606cce8c15238c721c286a7197f97362d4f61d2ae393eb6f1d51cc9621b30dffd11f1980effa4232dac2a6151e228649dbdcc9ec32071a06495fed73f30f01fc4087e13f8b51");
+    builder.add(
+        "76abd02caa3e7ecbd8e1fdfd29978a67",
+        "73950be1a7be4bfd16bbad396510d02f",
+        0x9545e4110abdd9ffL,
+        "6651a56e268bc2744942b667dcd59e825eb898daa8128342c128b238d0b0d343be65def72cb8a7145d20d67d8971a6ba7879e10590ed73e5f5e5441ebb5eaee6e7543a5012fc2bb6d87e1f0e90d2debe470d95a911a7163154d5ce5d8cb3e38d51e380bdf889ab7de50922516d6c6a9a18d82547f7fec8f7cf841e90e6c885d8e05624e77a63f247c66ceb4a8ae64a754fb2eb936ea16f28e1849e42");
+    builder.add(
+        "3b286df0a61ef9f81c654311afff4409",
+        "462cf43cbf5a7d7ca0b18aaea5d88950",
+        0xab435d375b70ad09L,
+        "025a2975ffb0618ddcea2f9a3a1c50468dd3b25ed3667f6b3b3a153827e2af789c0ed3d5536c5dbdd5b5727981dc6d779aff1c20559a6f37f0da2d1f7aaa7a74e5bb015ca8862291e9290acf2a48505f8e7a4f8bb3d7555ff997ffec5eff40fd947584af8bec7bba72083d5b7cba28745a0a5fa8c41a440cfb74e269833045fd379343bea6417f402466884bb63ff876c71f5d4765cb70aad4bc237c");
+    builder.add(
+        "76ea336d6d7b520168db2f279c965379",
+        "c5ee8ae864fd1047d002817ff2d3b15b",
+        0x27a4069d63c16962L,
+        "be84244dd4499f03d0b929eeef6c668cae0fc8540e54821407b527ddfb8a9d894d444f68427ae8de76c87e54e644c5e847d77ab464b8f47cf6abc3ed63000bdc140aa389556149bb053799e8bffabb1e3c112660bd4ba9633e9bb7cdf895ee69e409ca6a979a2f9d775c671c9af82a31d902ffbf8eb4a253b7562e17f9704b8457a886f03a91b6d74ad7314b95a72bfd72dbbbb765bf9a3272241203");
+    builder.add(
+        "ece07f26c40bd2084b5b8aa0f3816737",
+        "c10d161a7e64a78d0af9b0ce8809c87c",
+        0xf83e09867f5d5346L,
+        "ad9db25ed6ed08661993aceaf6229773ec021be27e8c1ac3eeddaad114c398f68679a09be977896ace296db15ac2d0e95a88c284a644c23e65a4d9d67f881d090bb1710f7ea103eed9024f50ef33ccd03e32dd86bf2b699132074f8b1d61945678af8c284a6854e744c1f60057a92f08843d123c99f0701dee335c8560323f2000d8f5d6264cee8ca034bd181c554a7cb9b137352d457732f57c2712");
+    builder.add(
+        "f9b59caa1676c44bb98e21d3122af958",
+        "e0c5c9531f38fdb9d90adc9dbb93de76",
+        0x0cf774e287646ab4L,
+        "1c23529638499271581838df19bb0e98088bb02de27a3aa71c468d04c07276bc3a4c01c649f8d14ed8eb69e79df9e96c64f9bfe71c45e2934ba3009fbdaa5931d94929f2b05ba29e5c5dc27b0d8756c191848608f9c6f33952683671657df8400a7fe6bb15f2ef65fdd6bab3930aa499365c84d04761f456caf2e471fb69c94c1c12b77fb3d7a6880117cd0cf6f72474c1ce6c9f39e66363e368f847");
+    builder.add(
+        "2194a1880e3c3a799de22f5d4799329f",
+        "e2d9ebd5722776b8ab9268945f52fb55",
+        0xcd9a3a2cd2c9031cL,
+        "bdecd7d7bb8ee3d67034f88f92240afde69ea7135a74a65662cb1b09acea64b4b768cc8443433838efb72dca0f6f2f2db625461ece15bb3c70f9edcb797702e52f3db3911fab0722f7fd8866658f888373d415bb5029affa725d24435b6eb5cf4e68abe3639ca5f251702898189d7501905101c227fa770ab3f6f78b9d02728b1756c688b964fbfd1f306720780dbd0ce0f4536d1453bb1fa6fdb457");
+    builder.add(
+        "7a636be65b3cb1f7cab5fe62dca8cb97",
+        "54cc3929a9b5673bc65814a9dc6fe88d",
+        0x7e78d073828d62f2L,
+        "2bdaeef4a4a18fe79fb30c16a4c4436c953ddd48f7ad35ebcd656cbde1ebbea26073d3bb7f2d377217c51b54e9340cc19db38f715e89f6ffe778d4975018b77075d80079cdebcb50bf985df2b8c2ad9c7d817bc58d222fa910a82eac06e0e620643b8175293419bcc6c96dc749450398119d5d5a1c8b0dfbdec5893fae9884bc669a100cb387e6d6726a42e7e4a15927424664b224459c5ca84a7311");
+    builder.add(
+        "70dc693c474533a7b9a1d445682ed56a",
+        "28c1f7c91f94b7e2dfa5dc69c3e52bc3",
+        0x7475dc6669bdad31L,
+        "33cec52aa6396235ed379a30e90b3fc482960dc57e35e5c29eec6d7fb8b3faa95c2cad6e12f974c2cd3d229d24eeb59ec737839ba3a1b04cd8e0712d31c64f5c1f65cb53af0a502c9ac915a2fd29c8238ed31a63c216b740e7534e90cc0db426b287ef597791b11d08eef186fcd586e4ffc755d37ae5ed5332b8cc980694fa51b10f9e791a63095d6b619171db63206ec3f7980407b9697011c415a204");
+    builder.add(
+        "a6fd85881e89a97225cc3a0bc9c206f1",
+        "2258acbe5d5abcc8007ce875f5dcf51f",
+        0x25880f0291bf96f2L,
+        "2ba8dc27a24cbf61ab9d6766390eb3f765c6ed57c456d1007c8c14048c34e62b309f64affe28361f841879101bfc81af257e40d6e55c57cd97cd0b1d054bced2b0f1626f36265dafefaa3f70e0ab74f46af0223826d8141afabe8ea0d4230904b6bda38cf94eeb2a24f6fe2df2251226892a34b5f6ba92f3f76f9007bbf2640675817010075674104cb6edd5527ab053795ee9493f3a6e17614eb8cd26");
+    builder.add(
+        "15084ac943a08c3edd7f0b8d6b0bdd34",
+        "2e0600575a3692700900410c5d54f6b4",
+        0x98755f8ecd53aa15L,
+        "1de3bc23536c8bb13fd01220e849b9597a9bd5b55ef2da17b80648e834c5e929b96db781281766019b63cb221f261c75dc6830cea100998675ea653e334e96278429fd1796c03f9e7e813fb6fc18cc7b7b1153dab513f2f8b1ef3f75e0e938e248826bd3b6eca251d3e6f8aba8ff0c8de63f294725b80a919cf738921a118d5bfa7f7c8d7dddc23c4691a2b0e8ef13d6db8eee2b305c08d3e964773b9a");
+    builder.add(
+        "607d2ecef73fc4c70e3d6664f2ce32b5",
+        "8f037d26f721a930f075d925917afcdf",
+        0xbc7e9f17e0f0ada5L,
+        "a45ce3938b8b6d03ee9c2bac6704d2b2dc0f1d994568b00afbf8ae91bf11e72c5677d29e8d008faba4dca3ec14856d63ce817715755a3b4b8bbb1eec435a16aacbf5a2f4408c93100bb39ee493a1d665d401bb080242a67071991288a5501c1f2940c0e9ce9586523a7530953fe16207d94c43eb87bcf71726e1ac8bc6187b05b963e6941001fe435f67240aa8757948cd4141e6e34b0824fd19aa445f");
+    builder.add(
+        "b3b77a5620555e3e167d146fc678693b",
+        "8a0f89019354ad03dbfecbd70cec04d8",
+        0x80e7584a2748458cL,
+        "42ff887e35f1e16ea4aed15f58593c552c4f583c2a9e50632db0f0c510abd98d8b471fe17f2cbf18c91e03e6128897b990c31f0f76c50b94dac9bf54a58eeff836e0c4105615d9227cd9d2885d5db71e3e09c2d0946bb69df3e4d077731bc016ad116dadc3500f41cb466866555732d01388a8d5ac8cca1b55f2f21eedd635ffadb3686e08f90064b48ccbbea63dc4fee2d356d20a8b26ba6291d3c954");
+    builder.add(
+        "17ed614f0523f4d2ede798204e0a6b41",
+        "27c489e777f02c859c8a4c598f54a9f5",
+        0x7adb1bce55e903f0L,
+        "5ddb8c79ae7cdf72674f992e3e8aa9daaa509f80104d7714bf6b8195b90497121c8e68330e6d30d06136477745ff5412d2e43b6797011c29d052544c9952da04dcb33c431729e8d21530fea3bd2f687f383d143563783e551f850d9f181923a93aa97bdd48ca7a82d33a728d7ee2fc85f6d087d24c6cf9d553ff7510f98d52b1fe0046104298afed458c84cafe93ea982eaf5998057cff15693971d0fd");
+    builder.add(
+        "47a930ac72fba7120045ad2f3ad7ab5b",
+        "b65891b6caa1404aead49bdb7da33da6",
+        0x8cdb967270efea95L,
+        "a67f7146f447a1ac1a4efaf4b96d8f12d63a3802e6c19ee7fadfef57bb850f40686b87b2ec72ef528a346340bed968c6dcb24e2357a34b7bcdfdff4e28426c085fbf6860b998a232f3fea943aaccc62dfbafd14c9a61b17dd0c5bb853569d921fcd6ff018d8f9b8eae93635775c7b219008a7081c945f78887e5d27b4ee3d3965a3c542a54a14a306f74b99c3130db4ecda6a39e23384f7a6e2843db60");
+    builder.add(
+        "9d45e6a0d03a675e65df758251b67584",
+        "6e1dedd6d8e77fe5f2a7de3bb1eb6be2",
+        0x3e7e817f5f6fe619L,
+        "dddb20790eb666df094e79c502f2ee3be495a392c6b87ea32158f4ab00f34cbd1d5f9eb7d3d898843efc05376142d02eebcf24db66f9f314447c38cd3e93d74c6ccb337f7368aafac88ef4a2cd35d01d433691ecbeff612ca5bf43fb03db6929c5db4640e6b48a04dcdac81e9b9ddc088b8889adcc660835857c4cc720b4a236085f9b51cf4ab2956964b1cdaeea17a0a03e46a3cfa835d486030a5e82");
+    builder.add(
+        "239bae4c28d8651af296640eb00bc95b",
+        "1110da9afa1c75ecb1f9dca71145bb78",
+        0x054f904adfe245c1L,
+        "c5631940b47fbd705aae89ed938fd8b810b2e2dc3e181a8e4ed6716292c8b35a93444b9d3756f90236d86920d445f84bdd001b9dc4e4398ea23224aa80af24bcad0fd47bbee3bcd22d216e28a120c32982832a31d4801453587ecb36ed29c8c18ac9f2f6ae857a91caa65641eebe848f2bb99a42c0f994ef6cc6a1a03e61ab0d9a6faf05c3727cec4215171292dc097aa672bc70f6406d86f8010d21c8");
+    builder.add(
+        "da57437a2206d267ec0cf2b9ac4abd4e",
+        "ced9c940ac18ebc7a9f3bb3c5daea14f",
+        0xe626e954f9f5217dL,
+        "f9a5f50af3321f500e07518938f2c6c6bbbaf10cc51706b60de41361a14ef22cd199a5fe55ddd8fd6361eca733879428bbf6e15efabea8aaf54ad415d7f18101ab4afa01011be71a310b54f503a9bd1998f31ae743f82151765e4faaa166cbb1821da2917a921d97d48a7d5002282b4fa5c3799b430a7248cbe69d7aee4c249e506bc6573468cf0257d066e5c38ebadfb5c0deb4f3f07d7532986717b5");
+    builder.add(
+        "82b14f1212ebc5cbe1420fc3329eb4c6",
+        "6fbe6692c41f531a9be2d18142f7f4fb",
+        0xff6358d22b2427d1L,
+        "54b9d4d167e181a4f5586f9c5c2ae3eb220f58040d6f3e0bad8e8636b159ae088056d133cb3b1c914cef2a15a92cf5e2943a26df8187959fb3096484d8d79db5c186304fe5b7e89d4615ec206430c86c7fbf468425490faaeb3d7657ec6c6e205c65d9e22b57b874c0235f82e7f8e373074d22e07d4ac09f360e419f87417f557defb8d9af52aa8e74be2872a4e44abc8f069436d50c2bc05da6dfb4be74");
+    builder.add(
+        "e9e59c9d19a32edf9aec683d30301ae8",
+        "e8e89307cea213047e4bbf9fd6496e5a",
+        0x9ff34d7c7b36827aL,
+        "977fb7c91de1a639f83c6c48598b7ae008cb860d8b980d37ac4787450e452462997e1d7a8060953b0bf54f60e2989afa79348cb0a341cf84e2535482be47b19777c3920416e7710793c83106cd5a23c66e791cb5127b20cf67c75ee4b60c4749b9a0b22510c86897eca439695211a2c083874f486562f9b8a00c66438a3ea159ab7de53aa029bf79604769ce54c478a976e5eaf18c3fef229c37827bd0b1");
+    builder.add(
+        "71edf1b1f37f12633d703afaf2bc8b5e",
+        "49c6ad7a45053240162bd1cdbb9a7663",
+        0x3e36d9f3bb9524f4L,
+        "e77dd596a163e99ead73b86e937b3ae72888bd7d260f1edbd3ddbb8af052e16967749c7f8f5accbded4fd1628b984ef7ef64e651650f03d5f92bb6dfde4e1b65bc4558476bce5f44a9a626dc9566f97eb2d3307595641f462956f7b35cf6c18f7654f9fbf4a7378ac88516ce5b12b5d4082bbebf815a7c1c608131972d1d76b5836b22103613282ea6ff3982d58952bedac5e3d355eac25060e75ea172f7");
+    builder.add(
+        "2de38e6aa0de9995d06859cba0b8ad46",
+        "79aa3418a0d2364aa98195157b321b9c",
+        0x10d2521d9fcdbaa9L,
+        "358989f44cc60da830e1ca1d26aa47463b35ce86d3a6697523353e32e4b90154a6920747a8c1d041f6b934629621ee4a6597f2e872b72b84686971f9c63d7e407afe0bec6d4e96ff49caefcdad53dcf622e32bb20597161d1494afd79b826ee224be84ce6467a15235a363bd65c619f53e535f00ba606addb81b93ffbb885ef9bcfd0c8d9e3cea290c7535584716bebcd66d5ad912335cc45d117adca4ec");
+    builder.add(
+        "08d90bec24353e818f6f4003b50b3841",
+        "e4342e52c38a76d72a0e3c6f899047ce",
+        0xf13d4be8955b0320L,
+        "d57056005c16b9e2cf642114a38314eca68e0e4f4c873d421eccb6a53ae046a7d9c76cb2d48369eed771c5ff6e2c044dbb815cc7c0c16b05cfa8c0416596f047703f6c826b369f33fa473a4e4c3a0252714260e6a01db1b917e0b2a61f58d2eddf86a98b24fd4949696bcc93d1115d8c1939922b4f8cd144915688dd46a9aaea3b5ba2c44bc579577b95fd233b50368c057c000e65863a1d2fba54cd7055");
+    builder.add(
+        "8351b79763b49a7a3613418034e4c001",
+        "d95c94a07f6cca37bf4cc506d51a321f",
+        0x7a430f3de2ad6e9eL,
+        "edd5a28352e1818626ef632bab28c2d7f6e90b3cef3fc5cb53b754ed5bdfdffb8f7264d044bce89a85f2b33d1c299c3ab6a8c64e5b2abc6429614c498609d98b16bee13df5f78288ce101ea50892f206ca6f76887389a1fc3433c8278c6b1d20e2f18bbc23a8f8e58b6a2a25a5e49774c4ad69e0c8bf80632b89e4ba3643cde8b2542cd69ac68207328508a7ed3edab15204122b2de1459edcb79a4dcedc");
+    builder.add(
+        "bd3fe23140f36a7da21b5f0bcc651055",
+        "68ac36fcdf375e7afeaeb6bd973cd7ac",
+        0x0eb10dc3851a6a6fL,
+        "180b21662ef6d9d412febb8506060551b1c499ffe95c82e4d46d32fd297d6acfa8b1c1fce8c68303ef4ce510688215c61e187846708d6038a139a3595e7a0972162214165d70f9ea8c081b233a08e1953ef29f11fba3d3b6ceb5103917882bc31ab48ee0ab844640d214b302cdd4cf3409d1967db676d758aeb48161db80cffd6ff773a29d552fc029e319dc6d878f3de4c991ef76fc8babd0a080c8584d");
+    builder.add(
+        "3e24f32df503c2c96d1f3e88e939959f",
+        "45531ab0cc6b8cdf3be6be5d15f00d68",
+        0xc42e4cb0d05d2851L,
+        "c592814568c43e10151eb670a12dbcd42107a251eb98441c32153d9fa22d73f1f85c5417ebefcf03215ea444fb331491726abe7969319e98a4e86e784457eb638251a4ed88ab099f176973032350a8e537a4df2e71c8dc8fa6addecb6ce88c584ebc54c992048491bb900c829b886e82e3ad49dbb78b7ffddbc91203a3a1fad984b850ac6a57c6934dafbb68824c12451f30194ed70fba0e4846d994c70e");
+    builder.add(
+        "bcf9804eeb4ad90f0d9be751d35b059e",
+        "ade63d6d83e8a6fc408ece11e6c0ab3d",
+        0x3c36a55de3e4922aL,
+        "e750e356de21151063faddd05feb08bc9bafb9401ac98b0bd964d6096f620bdccd3ed14ade601cb40e66a082c23744e8f441088e49e298cc711b00c5c10ea02d931287bdd59d362a58ff22475a6f822ad8390649f85a24bf21e45cf20f918166b0500421ca897f7af22e71de945e5d9320911462d2a1e89818be8e4cea7f0c0bced1546d899706ae10c3790dc0048fdc9a33a57dbe3f40d801dd01e465ec");
+    builder.add(
+        "ac7739b0497a2a6ab0daf0ec3f27550b",
+        "1db2fa10891b792cffc415942f374b3d",
+        0x847332434bfc4fb3L,
+        "e785953069bba92dc880e6bb84267a13789b415402c069d6411551174709c18875832fa4625ddf52267d918673c071fc7bd336a03c06765b737034653962bd6d532f11f158d185d3a65f8d69dfdf1c01e342d362f6134a3aa2a64fde00e7c0bbdf090e37e6579119e3e7f14a80dd6e8471f3810e0dc2dd221b637184c1aef3394f454255c8a100e57128b06b0bcc0cad0a753c1e0ccc91d7ac69a227207b");
+    builder.add(
+        "0900e0df3da8904cfdf9f4f6309dcc9b",
+        "4ad1c14a02f78965aad5059c43337b3c",
+        0xe1e49a44f8d57a9fL,
+        "8043d2bfd233fe13332a1eb2000c1e306c723d8a48451bef49d1c9084abccb3a208b1b0cba038ef7039f2ba8182f626b1e4bd71c88e5032f0168b97bb2b07c64627cb9ff3374a3d81e989a15528bcf244a8376aa8c62c5c359d0c4e4dab6b5333c68c835606adda6619d4ac13cca56f33aac60b455adfbb81f010514a6b45ec1023de752a73c039e14a0c4f8a7529af5ab33d25c264b88d9929a9b0f57dac5");
+    builder.add(
+        "39027f3826f3edd712d6a71cbbce2ae6",
+        "1db702a9cfea2c2c093e13a8d239ffc0",
+        0xecccaf8c04a940a4L,
+        "8379aa9325eb4e87d8748c10f211ac7f86402dc2cc0cf960262f9cda20a51a4add975cce3160eef95009c32fdd1be0b3d534d34d053e1e6861642111fddb8e73666e93044465cce3585597e112255a7dceda3ca55fa0c7eb2414f21dae60fcd6947afd9d1d618bd66841980724bd31784855b84813cca42cb01e0e8592740a2f879c83179b9595a704f95a185c5d531afdf3983eb6890868e55534c9405631");
+    builder.add(
+        "95e402d92f517bab95392978d39b0aa0",
+        "fc95b68b6e3ca34eab64c662510e6048",
+        0x2377691bd3100f5bL,
+        "997419861272b6b6401d9fa248ee8f94d3871602d82f54efd85083980233bf0acfbbb234f8663aae6eb513bfefdfef1ab6fa0709c23abd5641eba3d09939ef605c3673e4666e654086b9a7c8eb4468babe238464a5fc42d19c3f77c360bf793f230cc41d31fe624a8eb56fbc4b6a24677fdd05b70954770646c0cc1fa06aedf9a60ecd88caeffdc0d6123eedd37e9665f2e9d719e8e5b455601f98ad91b056");
+    builder.add(
+        "48dc13af8a485f9284e22378a628ba39",
+        "d1a6d6a626f86aaf7683b447e98cd8b1",
+        0x64842bd78ca89facL,
+        "2b482aee178807518dd0694b11b4f3fdd2607b317503810ede06faf175d2a53a313698fc566555fae98e5edbc47425c196b625c4f7bfc618202bcb4fa68f9fc2d1f24b019ce8af969f165886cec129b719fe3d9321d9247db6d03206cc507a2f525682e0b2f92325c9aba46786a9d3b163fa7bd7d5a090dae078f47e447ed9e6e57c533819ae43811f4cb39858ff79497739bfbac0bd13e0faaa4006d168e4");
+    builder.add(
+        "c64eeac06675b55a1c2f46aa4c5558f0",
+        "bf3dd96dee612b201e0124fa73cab1cf",
+        0x4b9a2370bdd4984dL,
+        "8697f8a706f75b7bec660ff98da1bf9f4b7b9a361e5dd717c1ddd57dc1dd188613858aef0680ae4a49dfffe4579a73a8f1e2bcab12ccc26abe31a9c0bea99aca0405535274af79bb18c1e500dda94b8fcde10a4d996a9f2b2db2e305f835ed77c5e6ff5be038efbc8f08e65da194b86ed0a866386940033f5c58b5137bebb961a59227c64d5ce6435ad692f7caa80e32614d8c6a261465fb6beca5d0c6ec7d");
+    builder.add(
+        "064349d6a6017c505d9f17e54c2ef904",
+        "1faa773030056a25c2b936a2224739b9",
+        0x52a09dc29c2d6951L,
+        "0ea524298a490dd0d724de40e0c8bf492854a86c6045db9ff00fe226c651509b9d53b8dfc989d8ba478e9f67a405cf04a67ac994b5e94bc88427832d198ab3896bf8b22edfb7a0dafc88b4c3a71deb46aed95bf10ec7a152885fbcc5e4781edc02a89e91a12e377521dd4a5d5a6681bb2566c6ba609f73be6cb965a368a3428a14321756c0fcd69d923929c6d7f3871dcb5048add97e81d7acbc4ab8f662ce");
+    builder.add(
+        "2d0d7120b3f5ed68304064ff8f939a77",
+        "14c46bfcfd70ca886660153634de69ac",
+        0x68356f3891b08f61L,
+        "12ee3e144d71aa9d702815104ecea9f4ddee991f34a46f39ba844d3704e10f5f1c364dd4bad50af8d8a0b96392747ca21810cf32a937f7e0ca711c09da3361178f2d226fbccb6693f341d3c1a2bbf60b8ca1ade80725566a52c27dc0ab879e6d1af0331faf5190a441d07b60b353e6dc62d1f2223ddf0946b5c5f40579977abd3f148880d0783efc077bbc32e6dee033d3798e5285e2670102969ef53a91f8");
+    builder.add(
+        "4646454283d1173a18fa7671cc07ad66",
+        "c61a6ab2c6554cebbdc74e57fca1de63",
+        0xe7f3c41a41c94313L,
+        "1d1316b544e39b832e03cd05717009f3e4a5880f59dd2e92b16c09841fe19736f6f7369c7b6c6be394c9fa6c85b70d6ede4351ae46016189a6d865b2841ae7ba1e4efe19a544dea747bb96c13dff968c973cbfdca155288d1a4c2a107289c91b7d01120786c7fbea1a696ab4c740cf52c9f1dafd6a641eaec1ae2ba23a54287790a941a1c8e295cd4c4f6488452dd07c70194ea69543801486be9d6c1aab9b");
+    builder.add(
+        "bb75ac9c8b0bfe2ff19075b5346ba602",
+        "943f475ca4f69953a9ab99d8b64a52b5",
+        0x8881900a1c5cbb3fL,
+        "b9d0296c6be63e24ef939e3d18ae1df135d2808d4b9b648a6a5ab4f4b408a437a22a65e9d8076f02b1a783d2c607376e47b20420926873766241c160089bc91a4fb46c2332610b2867eecd9c5b0dfedc7c6ed6c45b6c44a0f48a40afb513aca4d31058a429d98fb3349271b58833007026d5efb04f09d15a4c01d55d12b36994d497a62a914ba65e0cb0753e0e4fff14a77357e5ec6eb1260d6cd94e9412cc");
+    builder.add(
+        "66f0c29f2c117d4db36e6789f8c54e50",
+        "985ee303a2babe755c1359ebb409d054",
+        0x205a077a846f5b88L,
+        "271860e192bea46e0558d95ced9cddd555bb2b85b02efe61af1803591ea60adbd30be63c9da3b542bd3e81c5e577f9650e629fd7c0540e90c5a0c18c869900c5bee682fc4488323042671d9e221429357c0b6506c573a8f67c3d78eb11312c9f2ad0ddd76525117ba1294a42cc2103acc12bcb01ab860ceebebc801ceba8e302bd01ef8eb999939fb0352ea8e4c0665a9de2ac1e5ff8d491589ce61eef4ea8");
+    builder.add(
+        "12a06596ed226a7c6aef8080e3923f0f",
+        "d92fc72e68d5e32590623e0256772352",
+        0xbcf85430bd831899L,
+        "04d188411597c068558e6345010072cf6d0cff320470b9538437f02a277c73e149ac75a3f6fde171e4cb82807f5e5d668f09c32b380bb87c9e97044b1da548a439c8a4973869bee8c1f21bed1589f1d2b6c085865ce5f4340fb37b324ce24d6c21c4e7b1b7b5470b90e0907acf3f7cd3bfce7e42191de621823c91ab6f4547deb9333ad9054f2eba042dd93f70f6dbf203ecb661057c21960a776efea71a747f");
+    builder.add(
+        "fb750956b2f19207f5706b8df411d8f0",
+        "a90234ab72d4e09afacafba307fbdf8f",
+        0x3c58d6379d299839L,
+        "739b86d1bf58c46b6cdc29b33f6ba3e5c39161a70680763aa0abadcde81e2d2f0be2ffbcf09d6fbdaaa81d920c683b6194c29e11a36349a857e5d76165038b24903e776e2bffe75d78f91ba48893c5dafd1d7677b2e297d3e9df98633692f4d58431c66439d72df377c21ee6de524a98503dc7b828e39b54c11e13abb1b4e08ad83cc2ffbc0b3cf61bba5e0e87a4e5a02637f17a13e5c7dafea64e2d58001a9f");
+    builder.add(
+        "6e2e0eaf2e7af227c4dd69f0df648753",
+        "fb527ba2fe743378f2350c89758eb9bd",
+        0x0cc71b5b31e09012L,
+        "f85b6968f852768de162ca4e3ad4b3e56c74b5f6b9f082c001075585d483b1563a0c2f726c5a811ab9adaa55d775a864e06981b905a3c303d36f5ee076ec3c67b49a3d3c9b290825ff85af07e975b24cba5842f0065d93b382512bfd6cd419f45d7225c70967c577ae885e6d6fee63f8214b5c9bade23cc68acbf4caaf4fa94e5d74b4b2ac72876d4cd9122440494e6e2bc842454c335ff2147037f1e3344ffd");
+    builder.add(
+        "90a4794e0213a8eeb9fe68c8046c3e16",
+        "ee519c8af7c05052c03283383fac2714",
+        0x41c4471d244d3429L,
+        "78cd4fcd3846662bf93da15535a489cf031606a592fac12d1d032dbccabe969c5290d9521d41a15083947addab715c6a022a5354ea01d1106292abc034f06d475efe664ce3da6129fbf2f4a34d2b2a8e94d1cc001ee720d80686bb9269bef2694ebafca5c897a5ceaa56327055e8282ca7f0d0636e899513bb44311cb1f13ff4608f5e3558298cbcc3a96f02ca70c665770fd3f375ad3482be68e5e82737fbe9");
+    builder.add(
+        "36e5a766d59403435d4ec72a00857b31",
+        "af3387b398c9120f28f68c9c08ee29de",
+        0xd66fa6bd608ae0c8L,
+        "5a2830d7cd3cdbca28e2e4c26910f8761904bd0bdd9ea57faf67959c381fc16eee08719d5401ce0d210fd4b8d9ae17f8833707a2fa2a451c11c6d4e12140c68ef1c5672918095ca05650222048e2790aa989e014151e1ef44390eb91607b910cb582649198823c879f4941bebcbbfbbfb0276b29bb21377845e0ce7226634ad998e212484ae7f5433d7ea0871a7cb28e30656aba76b41f454250cf6866df70fd");
+    builder.add(
+        "efdbb079f23a3d18f878ffdbcb9c0d04",
+        "7b5b9e65ae4bda44851a549bad86b6d9",
+        0x4dc576ae2e7f9f10L,
+        "648520b6fbf8501dbc0647913cef0d413dfef6f93369ed3cba085cca706ac6ea7c112627c351004bee8b50e01c3f2301dafd5bda3c8cea4fc6027fd0cac21605fb6138f5895145dcd77df07a162a2590a278231564805b9738d1890affd4c761cd35fcf8e3a5ff50d4f554137ea9b1b7a4b76d8dc51108cf53c0ad80f203c682af1121c52005ec7d0dbd6d91ad82ab79f332155ed2c1a642efcf835016b60caf");
+    builder.add(
+        "584ca1019c234033a31c646c106bba9b",
+        "7ba483cc47ec6d91bc337ddb992be4d1",
+        0xb2aa0474b3231cd5L,
+        "31bf2bb9cff66ba4eb6f29a7b6b49618c4d9be57703bca81fa3d144e82d5952b11bcc5a9806c4a2e1574891689e32bb5418b4c2f42c53311d1e306b7a1b65006de0a9bc88e666a7d272ef1ca646513742bc9186b43307c9265f8e3a0d0d544b45c2878881e3a7cbe36f04433b8a28e87f48ad3fb84bcca80c40ae20cd8c5589b8e44faca80f9e27d808cc04225d0f991671381c44a5b89bf268ff07e76ac3a2c");
+    builder.add(
+        "01c504ed2eee4e7362f3622c4b00d176",
+        "ace2230705818c04185c38a6e9c421f1",
+        0xc1921fd5d3f1e2d1L,
+        "50a30a2080cd138d048f3ba9ed42506bee426b71db4b0d0aa3388524bed5ac742b3f00a8be876e92bcb41a35599caafc578df43f03fd9ced1f0845be6a0bf481bde60777309842bb108a82322b4410b283dbcf22a3876b0043991588848fd633d90bf589d46115c3dc5a138732d56d81576a6cdc1e59849b71d8793dcf42acd787148117493debd1b84e2be21e5dd6bd75f8724f61c1749f742004678305ed6e");
+    builder.add(
+        "2cbba3e75fe3aa3e156f130345ab003e",
+        "10e6dbfc3ba777209f8efe78b1f1d0fb",
+        0x21b2fb2c0929aa34L,
+        "ba0ab4c93d14c7e063c4e49d9374e6a4fff9c1f61cff63eb907df080b4704aa88c85cd06118354cffa3405e976f39d3c9cb461e400d2bbea4beb90546b7e5886996b5bd369dc7ec3e1ed2a86dd0561d0ad8ac9ab2ae990d6f45d24a4cfa32a760824db59d02381b76441a059d366b269cee7d237645a6158dcb582dd2b74c7aedecb9509dcb2d650ae3be1bb48abc9887267a2034aefb00225ed619a3f1e0c5e");
+    builder.add(
+        "eba2c98d3ed543cec3cd23f82065bd51",
+        "6e636f407f2913331db531d1c0ee3c1b",
+        0xfb0d9fd786d898f7L,
+        "cd2f90f874b8a767698496be8935c1931cbeb6a6cf15bcf90fcbdbd31a0888c2edf5d5b8ec72b4574e3f41d97ce6c8f2a38ac16e5b8d5dffca6c52f1f938f90f066eeed41001acbe98676d0deecd5266daf7c6f76e98dfe88a7f5207641520eda651c863c0d514867a4410734489b59e7bd71014f12732a690a0f03e7f80bb9fd941bf9c4c3d893f48c7d6410665c7bd122319901971220b042a5e71aa402b3f");
+    builder.add(
+        "a2536b915702ead85f9f9f691c491a7d",
+        "cee2e8b36cdf0e8f6e4f28b2eeac315c",
+        0x450d062bd3691946L,
+        "9e6c34f5a8bf31c078ce57ed436c04e8246b8f54bdb962d32c69237091b8862b4c5a8cd3afbd8ae7f07ab9520e0d73cb1dc1055778d68c7e264047c7cc91f535915ef474d33707049428e0fdcd975a2023ce4a4f6b839e84325dbfbb313fb711a42318c16291b9831a6a5f0d3dd43a7dfcbfc6f261387d07a1c9417abba982f6653889d1d9b685f438e1fc313d23e95eec8ff5538048840625c83bba92be83501b");
+    builder.add(
+        "854eb7de3e4e230a45376578eb9a4710",
+        "d0d2516178c55e3a9435e35fb0437065",
+        0xc1d563f58d6ab931L,
+        "bcb4adde6e245a692ba0e24c6056d710b9ab4711deb6d5a8c386fcb67411a1d7dd759dae78c70349db9bbf1c39b966e007317015f73e12423c45a626d5361e200779381dd378d5f018b39e8dbe2d4587d96d3448bf9b3f4ad3a08e38c68a172e6e7dc6dc7b5304ce088626d74b0f8030236f3a6dde208e84e316243ef1e50e1978b397b03cd2c29beaf159c6959f093b988c9f7a88b85526a49cc83621d73bd74a");
+    builder.add(
+        "ede63ef9a444898e56a7b42afdfed9c4",
+        "dcf7e0dcf488d1f06dcbae068855cc8e",
+        0xfad8257b17a1f2a7L,
+        "5905037c560ab9850f632df80d29d2141391dc8f266499592146bb53ea62e496b094b08f9d2b339414effe3a5fc3d84a4694882550c1271d696e2cbd44650d714e31a26f200cdb9d27e5d6e09caf2d1922279f2dd1d8c8fe13e88cefc137b54cc7db33dc95f0803b45f62cd39a383d166dc51c67fb34ee29037b2345369f8e706b59353ba7142b0e485376c83c703428a2720c6d04f626d880c524a2a777b731ce");
+    builder.add(
+        "972a7c7f8edad16ad792e907723618d2",
+        "2a3e9c5978c3cc4640b64114097e9e17",
+        0xe6506df3389dc9d6L,
+        "31d779896d069b626941912e7b30deaeb55181f751a12b1092ac2b2ed8430e1d5ad5848cd437dca9542fb39433a91b927e86922eaf4c2d4397f9287507bb8eb0465b05a3a39c57a3f3dcd12e2e9c8e235d9c17263b3f871ac408c4d63785300c04016d134ab1e064f71c2b8b5352f9c1913b5b67e5c7e748b0be0d7a15deb62e625fcb9541199fe6f900d25c40134e5832e0160187acb3ce18211c0d619d0fd6b9");
+    builder.add(
+        "52ec53ddddd012489972ee3b38b06509",
+        "a2264946a40b9cd77637329397412a44",
+        0x0b911fb2a42aad63L,
+        "02d83598ed3940996364dfff7f906527a190e39362af2bd5d58c462770190cbb739414015ac0d6dd4e4b13fc60c8442b3ff4aac1a3eb67c3ca2e0b74034dde91ebd1bd88306f1f5cd11dccdb7e64982674e62db0b002466a756020b5ceb61d63d37c58a6917a1c1f446fa858cf8cf09e4898465ff65cc5a9cff03c71ad9c76d792d99dc73baec5670b3569d2f0cb13b1a177690d0fa9c6d7340ec3f0386ed7c667");
+    builder.add(
+        "a003735f13519a1700da5c79e83edcba",
+        "c85ee1cc84cf1e5235fdd734ca155192",
+        0x59393211f373501aL,
+        "adfd92fdd42d5a12441410e0e8d25b8aedf30dac199237a7833957e3bf01c6b79f44d905dc17e878130d7ca6bb0e5b14b9ee01f3c5076d955a36a7de7bcfb0b21505a4429ac063c7afbdc04ee7ccb331daf2f80b7bf58b45775c73140dc5c6f5613799c60bb81d1b8bc06db1c77e2b7639e2fdc28b07c033e7b6e6277bd53e97a53cc6d986d244a892fdf93a22d4d138e940bbcd546a9c1397a44f11518c172d44");
+    builder.add(
+        "7e8e5f69dd03eef945c23440ace7b8f9",
+        "f1b6821bc156a274b06c5ec4d68954ea",
+        0x1433c50f1f4ade60L,
+        "2c83d8fe7542ed943ecd59f629e6d1e6732b777e6492d57ae04458ac86855268264d3d6fa1b042d67c9f028c3ada0ba67600606214495968f2a56289fbdb49f73644f3ea0c3102bea9436709930a10a298d9c0a78c824c1304e4a67b54e9b96f71826b47ca5c8681d9c38e4212959ebf6a3acbe487a9eab924cc4c93b4a706c2c0d6202dd192aaaa6c5cd816dc2545a213c230d876c7be46bb89b21e8ba6aa1e96");
+    builder.add(
+        "0087fc152548ed0b5cf7eef2ae715af8",
+        "5feff118ba553fa0d9d9045a9184b3b7",
+        0xa72de01a27622e80L,
+        "dcadb2def05e8c7793a70748d3fb973fd413570a17be477f02528cf779fe1d62ebf160d775650f72e6b1bed25d6bdb916dc7110a3f6a4c950e27f117a77a44ba474fe57a23f195b8f1871e850cae34bab13f72e9ed3842fc7c8f2572232f5bd195b36a11aa8b4d5235cc8de8c924cd660954ef5344538c0fe143ed5a27cba0d3cefd8c3b7531b97e489fc68cd8719590cb6febe10e151f0da5148efe568fc8efd5");
+    builder.add(
+        "89d5276ef4acd5108cf3ae4b1fa8c7ce",
+        "4e0f513f3c2932943d4c1228fc6fbc72",
+        0x88a0480209abaf71L,
+        "8aa7751a666b1006c9eec817ea67acf7398267870e6dcd97fbd603e48bff66a0112ff776687e581a74e3e9a972cb7b63c131ea1690029fee1b2407fca14cbee6e683e3c3dea2f1831454fb2ba0ebb8d9c59610f7d0bbdbb34ad7e0dd69f9b3a63aaa0c804b6b4408c1739e9ba376a80f4fdeec1d91c38257279096d2c2efac21cfc15392aaca820399a89de0ffffb23a619b491cc9321abf453a7901b247b4a876");
+    builder.add(
+        "4291294c2e3b28605e448a8ce6a577a1",
+        "8e1b13e1adf0a235b31c374c8022f671",
+        0x8f10ceed40bc5b68L,
+        "5d61fe51f09472cd32609e1a2d751da657e0dc08b0b801eb044b678a73d2f21cb52ac5f460aa202e1ce40451af0d07e904d6880843bf39596d77a4299522e9dcd3f22bb7a2ec3cd1442f9789f1c173f36d8a436d4100b6d330a3342f78c24d86b6d9a922ae75f97f1e9ad76c8a88a9d6db37d4d28d3f60150f83c56e92850e417ef786f7eb1de44692b5319e1ddd20368d367e414c8c820cec6e6b59d51113a881");
+    builder.add(
+        "a20b4d92004608825ade2fb2c705f1ba",
+        "e737c7fe8f84a099af4ca7db56cff445",
+        0x97ef2acf0a441a1cL,
+        "fe154ccdad26320dc4b6db253181590fdc599882c67d78e5d5e01515d6d8f2eefb1cde8e4aa0b4deb880640e208d4b995e981d02a8b30ff35cd8c13c86583e019d04960ead92d5787591295bd8d2e4a3e8d6420f2a72acf1a9384b7267b06568c6f17d1eb92328bf45427a6ca139313153201e3dbfeb75853d338220ccc193137101bc04fc7f4f3a6535b7b185f29e05b6bc7fac91b80464858147051346024ea7bf");
+    builder.add(
+        "a453732e790ad4d5b5cd5df5bc5df583",
+        "ad46389813325483b870157f619d6397",
+        0x68073eb91cc0fe30L,
+        "1d66df963a252d7d317dd98f3eff76fc4dc144f40d2cb8027037cbac3ea3444229ce9355abf43a20f58cfff1164e18eaa4249b426398ca13357942068da4d3c359a00f63d0c87c6006cb8d388cadd2470f474ecbdda602cac0d159bbb829f3e5e2ac1afee03e5e04358513ce6243679e7a60e517a2b61311b59e3e8216b1eed6868603fc027f50365f07f05e8cbd27f510860b6600c2cbf4510e63cc809a2c550bdb");
+    builder.add(
+        "1b7b8434092e7540dab6a2b831c20844",
+        "dc029c2a30f20017b1b4b514be44e7a6",
+        0x381b431ffb0ea2c8L,
+        "791fcd27655aedf13bf8e56d88a8e245ba54b15501985c11998b0d889be7ffe04bee7c98d43ce0a02ce5df8665d2921276c86eac00a1c692ef3687a1a5fd0a335fe086caaa8ce6ce220f67b2bf8e2d58b444ea7dc8f72d8ef0574c9d8e708980405701f01ac12238914410e6b787a560d2cc37e89a78344954ae9735971bf4ce20de8490768b2ee799244879257f7b4e52ca8a8e6ad10e80ac2411ac576ce2b39c9a");
+    builder.add(
+        "bab294eb2fcab7a764938cee30ac82fc",
+        "ea07931f158248a4d377b42e3aabd5ec",
+        0x240dde2809145fa6L,
+        "3fc7a84118b467a6eb25ecb4fedbfeb227cc486144ed49345da7641247cf45535c369afd95c0fcddc148098b6a987e909f57e034f2a947502b4f09d6906b6cd6ed3604461e3ca3d58261c42a503e05c4a8bfc8d725ca70dace4289e2e4bfd301c431d5d8c3b3ce96dddd47e3b31ffd7f623d2dcb11df48a5cc4698eb33a75a3bb87bf9f44d5d6f27e507a64ce1ba8fed74a5c13ab6dbe87b66dc9b656888101d76c0");
+    builder.add(
+        "a1181ffa6ed9a82b41dabb2ca3c54c73",
+        "ffe71d054e275f34cb68f9e4d80a40e7",
+        0x1ceb9bd17ffbe934L,
+        "63aa44b4ace1f9c712d83dcb6e8a6616aa355f0fb3b4e116558cfecde588faa454de47597f7e00c92b1ef02f767adafa6fc531716cce500f7b34c0fe0f1bb17e2c1431f0ceaefed85be322c40c5b75ef48254f23eb2116cbdc0b501a78101d45b508addee9bfe910a50a9db41e389141eef585b84d62a9687ee268d75f1e2671e7e38fe63fd56670eee7f6fbb098f568615dd82a9861efda80efdb71ed4344d49a00");
+    builder.add(
+        "476a6af94e6203cd0f7adbd839e190a7",
+        "403e674cbde77a307a1f152cb6e580a1",
+        0x7000b7eb2aaf88d4L,
+        "7891856f64242db38e7ad62496e17c90471d828ec52ee30ca4f15a3d68fa7e3bdb981a83385b1b37197002fca57399ee51a6b30bb853c468b5fc21c68c06c0868a487c0a7d5176af22e932b83e7ec001f091e68e0c061eab7a7763cf73c1837c79ecf1e14b86728a0b168a9cd49c9e2da0f522961080facb959954520002f9b59c9976b8e459589b6d996a24ba912f5d16699da2c925e8e79a1eeb99a678c8dd5066");
+    builder.add(
+        "69e4848f5bc3dfde56d8b4fbab594183",
+        "edd080fb201b432dd7f98e2add77608f",
+        0x922304f5af09bd33L,
+        "6f8bdb0b60f9d7ff1929e01d67f20c21131d56b4942b301c190bd8bdd97f6a57579d1af58f137f48cfde4e7aaf9dc772ea2a5a997e7766691d490cf1004fe0480893bd06d0e3fa0ffb76db2f36cc190880034251fd1c400e1eb3879c3049c8f710b3e9c9d7a93880595db1419591a2d3684f94bb778c220259a4e599bd0a8e11c3c55c83b782f1396d1cc4cdfed72505a95b10b5f5d0fd2a0a36abc3cf2d5b499c57");
+    builder.add(
+        "0c9eb680b3ae86985715c6c9dbac7d2d",
+        "157b89820bf4bd1a3632befac29c26d5",
+        0xd6863634f450b811L,
+        "0096949b4e55ed1966c4b78467a16c8041c4d2ea5b71d6a1536ef16efbefd3fb8e7b604b3363fe5b437a42fc4cf815bd6b2e5b1a6195df8596a864f4175ec9366d0d10e4e4f9b60ec6dccd0096957668f2e3ced2b102f8b28e71b0218c91107bc4dbc2a83cc359999493e0c4c5e07d12a5b9104196fe0bddf87a56717fbc1d0447adac2f6b917011278ad88d91990f2dbccd9753e58112149f5ce1bfb555a711d87a");
+    builder.add(
+        "cae7d3878412c233b4f29084366eacbe",
+        "f834115d3f98df076672599f3cbd5f9d",
+        0x45004f024d5882a7L,
+        "0fe82d97a1c6e09d0dee4da493e8d823cc6fb2db8e85f52425ca9eef2ff42bf5b02db1195cdbbd8c0a3ae1b5d08ad19d96e2773cb9542037790de95d8a3870405ea76386b071fdb7bf0d0e41601541498d88aa36d9ee8e05a62aaa690eb38cb9bcac4aa158727b821991e36f72ee0676629946f357f14084ee5e878bb6fcec99645e597db34f7d52cb1ee85b38fda367709f21a56755733443bbd143796a7f12cc02");
+    builder.add(
+        "3738c56d5e68daaea48065d80e076fa0",
+        "99a47419f7050e8d722115cd913789d9",
+        0x7ecbd9bc95caf666L,
+        "2a241e92e33cc9712e5931cbd7f0a3f0e7707dc163c05f214c016c2d06c6c3ea7f1624a643892ce861b9489fd9b5c64579861bcd6dfbc90dbd9c9e7650a6072fa6bb3e4b5435502d7191133e3a2c5c602eaae9028154c35884129f099320f595d6563d8a5a8ab7a2311c38dc767fd38c664a48bb4b371dde91e82da56e998177de6a659205cea6a0a9110e77130dd2d956df9f4b882aee1c8fdd7b72b7aa27e5fa29");
+    builder.add(
+        "b2ac1370b4cb875c1a7b0a189faddf79",
+        "defa5226c27b635ef6f2253932b69351",
+        0x4c3a716dca37b5ddL,
+        "680b49e96400bd44efd048cf180d3d1aa96a170722000971abe6b69e9d277b64d84031b72645d2624e469a481abe5629daefbafbb6caf2c7c1ade3cdfa9ccdfcba85aeb37bf5c3ba98c325802dc938c5c15d9be499873ac7ed6fa35504afb37237cf79617625e1d2c7d59d04ca6084873fbf9b42c3f5e6cdf37fc233f5c6736eb3e320800110ca3882107ddd5e54c383c35e79babdaf43ed0cea8257e92f0c6722ca18");
+    builder.add(
+        "0641c083aaf3e3efe8a89a9f6d192d75",
+        "b26d5f52b6c739fb9382f2ca9375548f",
+        0x9b5f8535cfca5d13L,
+        "3451bf504f8e98c9697435e509b960384ea5ace6de54f16bdac33101418b5fb51bdc50ddf4e6b2a88cb665241582101429a62409316731dbcc3aa3743a6623712682ca692503cc9fdf81e5ecd4db93fe5101dcc5d891ab2fd03f83df13b39354160ec5d669f9c4793aceaecc9b52c8f2638e32bb3a849fcd7d52f06143743bfcf56bbe4c6cdc27eb623bf95bef6cffc510ada60754a431185a0d653cf9169fe745c764");
+    builder.add(
+        "00f74a0b908d98ce84e09cf16ca54706",
+        "053c203a4c0339444c135c9bf60e36d0",
+        0x2c07b559ae0a3bbaL,
+        "c0bdc6a7a453f9fc62060387c334cd62f5a54a7e8d7ba518bfbc6a83fda050062ce9b9d6aa0cc7900aafc097af22d14c5b8cf25eb0f90408b48d3754b9d412eb4c92740e15316846a8b9f6bbe3992cf6ccc96744d88ffbc1f66c1ed7035bb47d793f2a038256a23e0d5592c44485215a3da7509e0d3a602cde879c4c475068fc8c02ae8123f350836717d124082d11e20cbd06954c36a6741fc8df4f13bcb077d67c13");
+    builder.add(
+        "8eece7ed1a76c1435e8dfbd1407a0be9",
+        "23be28703d30bbdb95797e8486baff14",
+        0x85357b8f2059995eL,
+        "93ea35bec6c373b9c11a1924266b870f6f4a7370b282daea5bd3e97700a002682a04a0e4e5ed7f408afec2f4f7ef79a7964df7f3b9598417b35d4934e1bc854139a8cd21c82e58211e91662e4c7d5824930fe70ae0b001debd6904722e15ca332c983d431f90364fa84643d0a1bea20100856cbf1be26779cf2287328fe1a366b30b86435963ab846725ccfbbef3b5abd81158875a9abf72388900b34e240c3bd906f4");
+    builder.add(
+        "5c09fe6883520e9ab6fb3f22daaf8698",
+        "9082db80d3abec00af324609af0ba54d",
+        0x8fe501f6313ecd18L,
+        "c220cd0907ccbb853c362be5a0604eee46dc96b23ac552f911e5ce60396cc2e7f1bf1e240ef4593bb14607420818927377755f12f426422f7b05da40e891d74ac2c77f4e295f7e9f49e84ae472911f01291fda4a7e1dc68d693fbccbe857c1bae5070f966e6d355f3653df649b1dfbfd6ccd9cdb3e89947640277f17e82e9fa2e9d7a345537a5b62e287aeb0b66c5e3bc2f5462db598713910a84a2a23cba41eb6d206");
+    builder.add(
+        "0c92496f8b22256cb5977d420abaeb2f",
+        "c761438d90ae7d3ed0431327dba16d36",
+        0xefe00101f323974fL,
+        "cbf53ddc1df98867251729b5f7daaa5ef620cdec644b941bde420176a8e01c96c18fc90412caf661565d8d5c2009159d8dd45acf2c7191c3cb49e466e633bfedd696c6fcc2255b5391dbbb3162dcdc7aa193a60fa59532ca38da040749bfc2c1d261e3bbce5a68546e580aeb16f7da930b2d1675c0dc512a29e6abf70571979b4724a160e851271be7f1e3004878e9ba316145888fa3aa8956dc347319cb4ddc6e034d");
+    builder.add(
+        "f6a37c6ac0fea51a0896e712f70830b8",
+        "8a6ed691adc0963b240a09830cd474a7",
+        0x7eedd21ce7b43848L,
+        "a95775783e63516f215ab8538124f47a2cd0410aa493f8ffe71e2e7026f68a84f6f294dd4f4f6fbe3d3ebe61d4e31405dd9a7f522f2e723d3345dc5a05f2ca7f4153bf70d347915137b73df4e1d4f636238f0bc786504769aaed1da0fdc7a1998486474d528bb5c5a39d69db712eff306e11609c6e0f1bf3ef2d344548dcd7719d6517548c3236431bed4c82ae4576425003b1cfe99035426fda5a6de25e2eca51d4c5");
+    builder.add(
+        "1221d0e4912743d82e9d25f288e9fe15",
+        "bf160914d70128e209d64aa527214775",
+        0x8e71afc4d97e759cL,
+        "2cf99543629fdc16843e517f9eb57c43744614d29f8e7a06ee4ad642a6b343e926a0b9664f00ffc1eae5ba2b4907ef7993dccd4255827b5b99760c224990ed790735bf7f5b455fe14f9ac60a2c05b248a6679ff38c98c7bb273952938a1d0c1b80e6508b955c4dff24f6eedceed13014a57e282444c563662b44819a03bb78a14f498d16dc9e11bc10f3c8c707d562b2163f53fafd8f493fb724670d517eaa06ac3e09");
+    builder.add(
+        "2ee824156e29c69c139084e9473fd038",
+        "82750ce26a516477ac3935aa5f248dae",
+        0x6df7d89ee2c1f43fL,
+        "ae922c7234356a1e8d44c08eeeb394ca02a79f1b5772101143c05a0509f88163c41757f782e98fbb7912a33aab2fae944aa1c6ed65b891e5f9c4098ed42e6244da1595aa712c60a8686ea59165c4f6a2a735ddc0fbf3b3fb112e204d1c241e4d93d20316144fd0277e2b452688c3883cbca807c22d4d95b3aff1c36c3fa9cc915129366e91273b2b385b3de5ba9e5f07e1967d00a7546ee387db26ea80eb14a56c3e07");
+    builder.add(
+        "f7e00083fddf117c120c12a055c97fc4",
+        "d89ffdea04c5feb8df5c7a0a7e6c3414",
+        0xb394cb8678ab4f90L,
+        "32abababbbdd4b464494ea5ad01bea4ccc2efceccbc661551e330577fe064718882a49618367707f489c6e7e927b448fdbd78aeb8b7249f52cbc4e336ef918b27038c1325d31e63a8cb393bd1bc7d610e8f53c3bfad26aaef7a7996eafc6d3cae03e838c08d0906337c761c362b3410d350cef1ed5829b345adc1ac8fd31a65554636bb711dc43b49e40192f1b1fc269c40a123fe26b3e9dc1afc36e3f04e07bb5cadb");
+    builder.add(
+        "ced7aabd7297d6ea0fad96bd0773f62d",
+        "73638b92603e456471fb0a3ae02a1031",
+        0x61589e2463b6b4dbL,
+        "c7655c695eda387135925885fb8c90a5991be902e2d3a9cd9560e86f3c8c7e46138d97fbb73d047a3c16918c52574070635e7c216ab91409bb052bd4edd8b4af99878796fe2df70de614bf091f31c888b25109be64f1f20efd6fc8434cf886d175b69954a788cdc792bd15aefbe8ae62186002d87a37b23a641b5e0d1cb0f8dbe166066b7a0f56cfbabefcbaf021fa482f26b698e5d8ab89be35d5af568429e68de74c80");
+    builder.add(
+        "c8d05095a38fae3f9144c5beed70b17b",
+        "e174252f029b18a8b144b51f3ef7e737",
+        0x20ffec4c7535c69bL,
+        "da1d03785d578c89433997c8ccac36fa0fab4af5996391c4b10d87bcc55368ab64644a04d407cd01a3e3c77c1774f12a00e2b7eb6537b6cad21e826c605916e53eb5d94dda573550bef693a468923af08cd848db81c243f70197c9bdeb3902e4feee0144f9012cd6c464d20a540c814fc20c8a0cf2b97e71e5e329f11d6a4cbe2cf1ac1e8d25e5d4f5593595a8142fa14302a7b2beafb7af3dcf305d197ae38ad6ca637a");
+    builder.add(
+        "fa5cbbdb7092a4c276b2d16635f6285e",
+        "322666fb35241fd29daa8854c18e5945",
+        0x8f0953e72b0c2cb7L,
+        "f359d60644f4b9fa7299f32803fac905333a10b9b116b3e2307e6cd19eba6b48980430e8b462418415143e3225b3aff4dca65b7255c8bbb5bb69d2f33be7bca6a5b36f8ae90f104a1a9058c7ce45c279cde974e57112b171b1bc9d146ab4142d772d774540f0235d8c509ebae0d0ff53f20fb86f17c09a8b321dc91561508b128afdc6ed8a6e3f68970100c619f87206239ce4277c83556a54278a423a55a5fbc528089b");
+    builder.add(
+        "58cb52399f232355acac8b3821f9385a",
+        "25b198f740e7c559c9e9a0bfe802f81a",
+        0x1448098180f072e2L,
+        "f2f8822916c93a141a7634dc669a1e9e3278022c0f59988b1e3673406669c2043a7a76fbbf85992586141957e9f4a262325ec1aea6d900eba5b9cef40259daeb03b93a7cf751704fe31ada5d6807f32d598f9bd72b2a7fb282c415837694a56a4948247649fe58ec4fe1fcfbe184405960fd2a4cf8bd81d29e62317e66766a145b2b10276ba1d0bc075e6f73e31e7b282d4173cfad57bcda377a2d6bdcca4c99ba4d6a73");
+    builder.add(
+        "83052c865e8e7e114f9afd4b322a6ef2",
+        "5c1bb23961caab711509ebe2d915f8c9",
+        0x3f828901f4dbbfaeL,
+        "784b79e3ff217ee9d2a4fa69be15f06d690b9471362f34d5636ebc4e1c20caacbf195c3cc0ac90d32baf1c3b8267fe6bbe993c4f241c06797a933e6445064063ecc237251b47893539ab9c94c3fb196730a0c41ce9be04f9fbcffb9c178825919c2bc5e50a0f241e47539a7e1483b022e4fa7f56b789724febcfb384d85d9e52bfad91ac1ca0ecd85a909f2be758773900e18b5bd8aacdae9ea53abd303e69421db855f1");
+    builder.add(
+        "30f2a17b6aa96cde65d14313dc07343b",
+        "229d125666d8fcf7c77243429ca6332f",
+        0x99e54727c69ba70eL,
+        "83e2683e02512906f95b4cdeded7e7eca98421d34150bf258d0a436ae022ced806f1279b17053dd20c9369d03e21eaac4493fde134f6621d7d070ff0ce773eef8a9d1bfe95350e27fd415464a4343dba49b0e80a0c2780224e0caec72ae21bddfd163e13fe641edeef5a8c34809416a536e8e91d4d82a57ebfc16a8abfe966c362b5a418452c277de6d7b44a7c3b8d96b26623209017ba442c08f65914dc7b7f27026be9");
+    builder.add(
+        "8053775648f09955df2af9d0635aa170",
+        "7259701d4459615da919d6660135c878",
+        0x2d5bbd1d40af2c42L,
+        "0ef56a68a2409d4f9246b6684397dd63c5bdc0ffcd50582b649b9b1007a22ffa2348d3f59be1f53a5b1c01ee6dc16a1ae217d1c804d07ecc9e5baf35f5cc22f7e89990b85518810fb793c3c20b587cc79843cb93a53b644a6b2131116e2fafadb612975fde90d9a1b61f92be343761e5d59e9a14c3400f063c340906c72138c2cca4d1178b93787a52eed0c5b563c7ff35ac23fdeeaa916f32606931eaf6bc4ea0889335");
+    builder.add(
+        "78f0991a685e017bbadda7520f732146",
+        "d8415685a8c9cf7232cad4ba4cdac350",
+        0xe50088ac2c9e4745L,
+        "2d13875f5895f52a07f2c54f17f512e31d563967eaa15240d5538c9b5eb3b8b1e42f02e83fde090414b3c10d301139c958ef7c029f76cdbf460e6352da6cfe39ce70b05005a0909c5d65a58cd7a9e43ef3fe086ccc907857a511ab92d1bdf678c2c90860aff85ee039f5f469fd0ba2a8e7ae5f0dbd2e10986479d50b672eb7733ba86bb16cc7f390b34084cdf9e4bde0e31953f1661c6611cdc910b8461ce7b1ae391490");
+    builder.add(
+        "cfe129856ca7b2500953d5136534d90a",
+        "85ce56a1062c81ebca2874c3257997dd",
+        0x5e53f8ec67695e06L,
+        "915815fd7ca219b6760b6ef94bfeae7f79f3e33b474cc280d07b3e408779abc676e7ca92c2935403217d05a603cb7ac07bb742f7321b754cb274f2c0bdad99025e8cdd960bafbba5f2f0aac72026c52b9381d5c76e2cdd8b530e59c140221b0d2f3855ca8605c9dbea6a97207bb0eff1daeb1445a9911ee3321995990ddda72570d8c26063dd3e871e13adce6a2d4e2b9223a4b148d8151d26be6e5437950a57d2c10b83");
+    builder.add(
+        "00ca9e98a00717ae265c330335ded4e7",
+        "a50a77956a6d6d98eb1036d5b7207d4b",
+        0x2bc1f563a386c643L,
+        "e7c8f0f99397861d32f1f62c83eed611573ffc0061652947b10a2e9100ba73558abe403753e5de817fc241e2e2d964e2609d3a4e1c3dab08588aee926fca43634c70a490fb250b80fe0233fd3fe536e9742793631c18ce7e47815df3f6995133ed42a629b0215d9ef8923c0691f3f8276c7c993f33c3cffbd4ac0833bf7f8bd84336cc6a8ef7f694fe6d66563f4ddd974cb500faabf8e127bfb3623dfc70c2c5a135899a");
+    builder.add(
+        "1405575b68504ba8aa1fb9d11ca8b43f",
+        "5e86ad325721ea76a724289ccc3a6f50",
+        0x7ff83c4525be3cbbL,
+        "93f4393a387404496999fa495b74979759fda8594c4332a80332f3d046d3474024d898f77a84d905487cf87e3dc89d8cde795f48ecfb798dc6ac63a718da80e97624da8a3f98f61f5dec66686ae166502606d7de5e048a8d2462bd899405699198cce5df8a1d52a0cd5a8934e187e7dcbf7699f2776ea6deb799b05400762930db5f062d935c786f23a1c2542e9992feae76ef463893fed45f8157be2b3853ccd8ed24c5ea");
+    builder.add(
+        "df56cf729aae7cd01f98e1d6859841da",
+        "456cc692368df0a1be3a18adf096aa26",
+        0x6d32f7ae7dd9911bL,
+        "4a3b7368fe2414c7213de8ab5478615b1e35480b6ec5839d23af528f36c709200b30856dafbbe0cd6d1a1a08d0128f00ef674a5a7bacb3921bfec7a26a4ebb71b7560a6317536af66685a190d49b5b831bd825c370910923070cca8e4a685e0d842ccee87e1f2e6c666b7a9e16ae35d3ade75140f8797b56b670b4a201b8c09a74e39036b0e7bd688883ca485618981719df71d80dba8163c3e1efba9b459da46c66ff7342");
+    builder.add(
+        "5b9a4a62c09c2c911a60bd18c4b93549",
+        "bf0bf26f7e0d5aba8959bebfb84bea31",
+        0x3474bfc8b180cc17L,
+        "00f4764aaa7ab05f28533105bded615b462c938a1929d19d93e29ab79b0cd2f0e71f2b01b92460c3d4ae2c3e538ae1d63347da27d319ce422d9fea901c7dff9fa34ef7cf964a9f17b183e70789be973983747d02fafd7934fc9174bdc5b0c8ac5f1ab207da8978a800ff73886a130626afb48637c14d9f0dcf1c899d938af9d03f9bc18e888a161a9b93a43674508e51e0df3fc6729f0929734d84cb6d507b3ed6ee0e7821");
+    builder.add(
+        "6c32c281a42a4d617bead0ea0633aeab",
+        "6a7d1bc0a15fc058d72af2a02072f900",
+        0x9dbc3c863510cf43L,
+        "dd9b098ffe8ea09d9007a48955c7de39f942b00bf8c1e3a4162aa6cc6b87f92f4ebe4cd21a20e744b8ec6011e0b18fdae0ea78e67823eab0d44f49224314514a6cf6fbf11e84bbd9a22b4a3d73ef13192cede8ded2aaa6ab4f0d7718f55d301d08a16e91fe0f3d68828c314114308309f09b22944ecbfe6b177b28aeee07cb2599958aa02322289c22c30064991114792f0118a954251ce3ed42acfd987191b5f68ce57b02");
+    builder.add(
+        "b76f9f66ba106a509af39fa92f35185f",
+        "df999ffc412980d978cf8cb4d70be8fa",
+        0x889a53c34c651499L,
+        "e9f1584ab164908309a3870f1b253f800d39bba2a7be4cae37aadf76602641ad64759458f2790552f340ccc203892312e3f124127da844a1cbc3b74bd6f3243467fc18bf42c234cd5b48e164396c0b911e1d386bfb6636c621f16bad42d91808d1758e10ec627318f1e7656a1af176b1bf0c04659403a3cc87e68fd5ca00babab61ea3c17bcc8bfbecdd0e7f39de12bd93c142c01393e92070c8b2a509529384f245397ce0");
+    builder.add(
+        "a44425c317d1ca54857604f56426ee7f",
+        "f9038b1390f972343368f4703a8c9c18",
+        0x04dea32b9df13815L,
+        "8084beaf4aea80ecdd29121cfcd24eab5db7237be9cb01fae2ab748d566fc2c672738649072c2bb9f1d16eaf9c386b737fee050834b541accf470ea2fd41cc27331b7b06d8d3ec1ed2d5b587b66b6378f2ba3fccc6119f3fd197b4b04518cc4f479b39343814e88d9d4a99c6ee1456db0f725142dce85e00b1a96f43e017dc644942fab50a2f900746a89a2aa0b1de733113b81c453ae36c4974a530e36ac73242d55483c6");
+    builder.add(
+        "f5b4f4ff520b036e5a32759c4cdb4dd1",
+        "42a75f86bae78761ecc425d4a28e847a",
+        0xe014227295a39d48L,
+        "cc9f963b3be5ac37d35cb7d406ade449807502d052b367ec4398c0422845ff37f8e95111c426643c09b5d506a57f9b58a5c7c7960fc966323744217f5008d1af7ffe8d237d6669b207d292ef3a61bf02b6be948fbc6bab334062beddc75ae69d89762943d636e4d2dc9cdfac0eeba367f721d39dd922d69dc8c63b50e5c466bcaee79ae24505f500f5815b7577a80f5be6a6b677eea922270c1f9c85ad1790dd12b0cb4613");
+    builder.add(
+        "eefe5b5a656e9ad935d1991556fdca6a",
+        "6335677b6fd3c75bacb029a8411388e2",
+        0xd751c2153de6b189L,
+        "f9ac9aa4b20747b6b2194b7c845f1df888120c782af4370948f488c1ccfa45fa688effb839cb765fa9d382957a2117116d6e42cb29d134178225878dc9d9e50d11baa37303bcdb7e2f83a9980d89268868908bae96ada230535d46c08e27ac996dd532fc40a56d34da000cc336c5ee9c1a3d96d897e6867087a5e381306f0b3c76e4544d1b24f864b8d615f48ebddd49127587632ea321f13b868e3ef0949303c214938b3f");
+    builder.add(
+        "8ca7bc306dc3b292adc471ebfbbe63d4",
+        "ab7a563bc2130a5771723ece6e1c5374",
+        0x35cc0b350f3df9eeL,
+        "5ff76e474495337a72dbd933855f15865a76d9bee4d9adcfb202963d08926e8a6d42498462637d3363dc0d76d190367af2d502fc31dbe49f07f655c39112929ad891c1b3004b5cf247d9782374f523d62b5d2d14fc62122eb5c7cea88be46e7a6766455fedaf329c01f3a54fa508858bac8d738b47912891c6f5501c34b7f57590cd59f44070bbf025474388ca0c774107475cd2e3495c93e8d956e77c0bd77f8fbc45972c");
+    builder.add(
+        "0b2b9371eef262cbe8599c086f995c41",
+        "d5e4a65785bb2c57ad71d6e017e2763e",
+        0x8dc1a316ddaf3656L,
+        "82d2a5f683d188e1749d51cb36744f5e7a6c205a95ff06e247e6624a59ea8a50e323eefb9747a0c11ad24cd6fbee1e436bcd6cda17860bf3996e9427633bc3d9322e1ca0c18aa724eee65e7e12009c04d8897309525d9ae755a480e5582c00b99318dfa38b445b970c5c6830b44ed4909663f4a344a184950781e343105b039eea72f87c86a0b2b543ba13ac61b7bcb89515877363afce452ab1712260bee4ef93b7bdab87");
+    builder.add(
+        "1cfa8bba90029d1521be96e71f3ccf6d",
+        "215716ec5a181f9d233590c4571429d0",
+        0x1ba7f02bd39c5176L,
+        "3d01eebf4ae9036de0abc93e842355d2f26742d9525367ddaa930692f22107249886337841ccf152519c2639dde798808c9b5c14454711847bf5ec05098e1f43663ab9fcf9b1b5f47c233e49f695ba9a6740e8557a423ccd25dd86c39b8307a107332f749cdd552d8a4eb89d27d54c8a7a9765c8f29dbb69c538cd6ddea5d2e067225dd7098afb11e11328b908e080e09d891ca27cef37d4f19a602ecf5d781c7dc50e70e8e3");
+    builder.add(
+        "d274938b5dd3676a2bb65b1852b9f642",
+        "844296070fd44f867e11b8f46bed8a0d",
+        0xb28f4db37854bed4L,
+        "102e72621e2b9cb14b5b5890788cd6bb45aeefe3bbd6fa6ab9610db4595452fd42638a121b941b19281b77973df3abceeafa76f3ffd7c00153ef9c4aeb0e4edb38e5645cabb2a1434f4df06cb91f63bd1006e62298e662de5da2ec6c393f3ec1628e15a364c211dafd644b550e63ac9c36cd7dd457552a6d1c786196cf0d75f645df4faa6cb796418f40d13e8a6b5c88382e7156f35764fb7fe737af25c2890e05fa1dd64e81");
+    builder.add(
+        "bd41327ce63ea6ef3316685b1f084a1c",
+        "c11e3d8f7a342361c75f9b05ac546103",
+        0xdf60264626cc29e0L,
+        "408b98d97f708d0c0c67459cfd5f4da826f5db54c55cd8fe4e74ee9379fb39e1cd7705b6d6446f96f583cb87db818ad7934a25edf9a0ddd1e4f83a24d82b28c3d8e32cbbc5b8ef261b818b4d038733af92d5ba529220259eeda80ced0e541042b44b088b5cafea0683a1478606d328bb1c1163b053050d6ac1286ab5dcc4e0d2beb300d7c9813d25b6bee57f34eabd76667776a37f2092f74401a6dfffd598cc769aa6f58d29");
+    builder.add(
+        "2f86dc60d27dc3ead7f7149f9273b9a4",
+        "22070315591ca90b907e59d48ab74326",
+        0x5df8c470443610b7L,
+        "435222138917841d0a6f9f1714157b97259fd32daf18dddba54a4bf9193cf8e048e6fd95c7e39b9a2c4c6efab5cf261bb495b8ad93a663e429b16c4198a9fcd69ea6a3d2b3c84798ed457cc5b74a2e740508bfb52386b385a9ff7851a3c4c5e0d966cecdb25b10d0bd10ede8f3b3beb61c38a0b2a80ac3e8505c3b66ec01aeb3cf43082a367656c4aeee379f78865b189a03e75f900c0153cd90f3ca03d1c9927e41e9a7bdf4");
+    builder.add(
+        "79c7391c316060523555e4ff4e1a4dbf",
+        "487d2dfe05b6f96ae51678cf8fec289d",
+        0xe080af7405b6df30L,
+        "c3df0e2b10c8eefb017b6b0f9a931e5cae834a4748e357d8bebdd65f90d4e9a4420f58fbed0742a5d64e2226d94c26cdb7cc0b8145235cf815e10dad19b3b97ceff7081d5171d3206caf94e6ab1c517214a812776224b98b6a5c95f35e92a0d02b1a64e24106bf4415a25de44acdaa66aa473883a03e818433702d822a4aaaad461b1ba3905fd84550f1f4fd04c1b733c7124bad22d5f012e092552f524ca90923ac237969ae");
+    builder.add(
+        "3a8760c525da3e26b0e91e7e9396057b",
+        "d4ecaafa2ad56d0304ff444c1f240276",
+        0xfa94ced6b0616774L,
+        "0c4f6248b0853cee52eee4af6e30aa68148ecf7ff1846ed9fd1016633d3b92a34e4b843384593b9c9d3b33e55734201b7fdae8db1dc7ac926f2d1742d9e1a0dd5af690d50a31275a6acdad32c4477c05eeb4a0d2cdde7cd9e1c977344e0c3147421fa9928bdea4681c0301d3afc89011dbea535e1d96ce13b08a41e6990d827d34e95611d5052c13504629d352f39cb283ee0244c383c27714dde962694395d290d7f61f5256");
+    builder.add(
+        "3bb65702bf7ef15877dfa1c1665fa21c",
+        "0a053bc98b5a64ef7469a11f12dbe32b",
+        0xde2ca45e256a6b89L,
+        "567cd82a5a507da95167a5434b45b3f02ac2d4d463cf54bd31a246431965c342ee9fcd72d6881b9254c549b32278a92b68fbba77f47f8fe699e9611fd53b18ca7ddf91a8e17c746aaeba127babe95e9f0cebf89fcbe28c90635e880a4112141bc1787c692427b5c34adbb2ed1c52ad1ee7e3ab8c75102eb3784b437b14ae7b1dcffc3c1f94662ef9d5928524de37915f52368865b015d580170cd862eb5facb2aceb1e1c856f");
+    builder.add(
+        "031a3ef9c4aadba2cb3fb31bea79e5f2",
+        "77beb5070c9f0af46c96bd2534757b94",
+        0x6e36f8d5caed8072L,
+        "e67778d989b46f7649ca301c122c2fdd4132cf4efad5228e4d6ae462527978b3efc4cd02dcb0b8f9ccda7301285b3b4f66bb29c4e1cce723f4aeddf4cd785f4f49f65a4e1f7cdef8b1784d46b481d155546af7d40f6ee107954d43ca4c8f9185b018c459eab69687d6fde749d706833e883d3ffcd238a321e6cb307df5731383931c6ded4d656fed1b6652534f95fa8e4cc30ec1b1462db006f426dbb86ae32199a1980e1155");
+    builder.add(
+        "9f57bd022b9f7f1f30c5347df3a7705b",
+        "1f77d5e4399ed7daf8754d51c5f8a863",
+        0x5c66a809999a990aL,
+        "3e56fedb2ebe8401487b1f770bc51c00ed65b1e41ee501a0e170ad12face07706beb8f2fa31dbca32a51659dfb78c502da94853cd5ea2695a4e298618e7a9694ed99e851adfaf16371504a676113f027486919a6ddb136c7e8cdf7ee34345fc47182ce6b96dc38d7e99791ef51fdd1943eef9613eda75090c9121f4fe336e6c9f6128dce302c2ec5c79df654f25e7b8e2201938f711ca3c86f0b9c1b046a7b8b6020fefe1d7a");
+    builder.add(
+        "8d52837a9b7c59dfba574004fc7eba80",
+        "30149055c87ef3608f08093974aae262",
+        0x0f904737f0b36526L,
+        "bf26009ff761477023f96c7863f968e4051089226aa737da419da499cdcb266ffd468cf348f3c198c512c251458a0c4e8d88dc38a623ac52bcabe8247d8d256882e94cbfb0868669dbb7c246a78a62aa1019ebb40aeb2c090d3e6ba347e64e3e1190bb2d0a0dd30a875bfa45cd81df5c4945256b08b5e393218c37d51dce325f74618fc2020d6544fd59d34bb9d7c62eb1aaf73ab44fabfc65e0ee1ea1f2c92f9dc7fa229b70");
+    builder.add(
+        "53685b306539c4410fbb1712efc609a3",
+        "b9750166c3ef6d6a95f2c2847282f7f6",
+        0xaf0758b5a0008a11L,
+        "c545f208fc50431ef724e1098a36cbcb501ac884f3b0ce46c17f23ebe2fdc3e65f3c1fa49d1a3c8ac370c35de65ed1e3052e285266827301c383ad4544b9db548322fd4382ea1193c97e91e109ef3fb23b4eae8626f4d5ddf614877bd4b10dd17cd9646d505d21999c3709369869ebab7011e84ae1e8fb126c14ade7098f791589f888769683d2c8cc038250aa04b04915793ca9d6b4d4622e064fb6a1c22b8ecd3cfc3e3893fa");
+    builder.add(
+        "d5a8745eb25c90af045d15f12faeb2b9",
+        "af8baa7aee47eaba2987c678685540a1",
+        0x368951db8d214c67L,
+        "fc24bf011b1dc62eed682927233e8c557f3429491528d12deb981b574e72797a5fba5a16c06433652c3b30bca9c5b496bc21e9c73209860a9290042d6da7763570e890ceab358ed04b88e14d1521fd0e59fd2d6e0657601bf598483d22af9308e285fecbfdb0f8d90164ab21170cbd654c5160212b2388485bccdc2bca6c51b3a3c3349677a04ccb292ce2a459b9c3ef0be7715e9e17f37ce5abd8c87868acb6f074d21d0408b9");
+    builder.add(
+        "454ae9d8411a461e9e37827402134ec5",
+        "aa3a98dcc33e50ee1603acbd52f93dfe",
+        0xe0d87c396cfed21bL,
+        "1ed5a3d1bc4313bdf190aeef104db10615c707620861ae451278157cf96bc7a60e6d50deffc7cb7a4478a4006d2b1a8f8a7b71ddafa04a93558fea5c0b3c6f5d9b705ca377ab68ee63927b017f71231f37f7d4ba88452b59485f580740254e3be7f8fc5076d7f3025a812fb244b51bc230fe4cd10dc114e8beaa912597d766ce7897482f984efe5d05866510a3f7d5e08bd9394167ff113770a48b6905013ad94be1633146c680");
+    builder.add(
+        "75d2daf5e15bf15884c94712f123bfcb",
+        "21e80045bcc24a93010d4ba04c03830d",
+        0xe113002c2ac47d83L,
+        "9a68bdf415fcfffa0c21341bf5e376eb8ff0e28dabd196d8d49e186e563655724bf528fd5c2f5b954c6d5d80e9453ca2000c5c9c506e90769cf58f08c4a8eafd286840986fbd1a2bfb38027dbfa573224e9f46b3432f37726c5413603f2c45c6f969368dbac2ff2c3a15611d8510c781137ed8fb5b0445a598c8f70565314b1c70dd9dbfa2be35b7b64c5d08477e193b6d180bc0b130114926680bc8188e58da7dbdb8ef4252d8");
+    builder.add(
+        "c70bbe78470d8e9397f9580f2c06b05c",
+        "54c74303bd3ea85a5f74149eca2ad7c8",
+        0x7e2bf1267bd88ddcL,
+        "0ee8d66ae19c4d7cd5b4b6ea3c4f7f85485cdf19e036147c267ab6a3f86b1fd3f42fea70ff946ff732691e83f585a21b98037803ced58ab93ff05696ce779be58404254469b492ec95fd47dc30f242544ea9c41293f5a752621f887ac58aa1d5208d8b77393395a2fe9202f1dd2cb0e30a4f6091fecd1a33e62537a33778134b88c5879367562040cacf4175ed31796d790261d00605802ca40a24432b247330691c025185a6a1");
+    builder.add(
+        "db9c209b24f14bba85979c56b70a1a3d",
+        "7e5a159d2337ecf24fe6de08d7d0b321",
+        0x659a607aa3c23a06L,
+        "3171df1e582417b0e8849ee61fd9b0f93ff9661a3706bf9beb204c35e0bc8f2d4b66bef623497115edd24563a5f7b3c079092ee9d9f1f383b05743fe782f38963a45d71173fe7ca814818bf30faf5da7ba1fe97f433c966f636b6c25ece27fc565ab29b55679478908fdf558a11124e5d37d4e22233af03b7494e4e87d9c5003c6a57b36446eb294922f926782523c0ef3d3c94f9db7bc2485a06cba23d554cf6a00cb2e4f6bc2");
+    builder.add(
+        "31bf1c5430068bb7e9682f236767cdf6",
+        "2e180653cfe4a3aed2b8eb0836506a4e",
+        0x12ee7ee3f805ebc5L,
+        "14b69e4f18c0283ec9cd98be27e801835312f4732f58504cdbcbc4c78634f334f21cbc9e45fd468b11e0b035a7883e6234b0cfb40ba6cc7ba31c5635ffb0f6657ef40c9942d925289a94447e55598d40bf85df001b5f992f62045bdcd020a196ab6faf20467853b851343aab355e18dc1a87f3bf42522c644e7017db1d7c0de628e6a55b033b2b0835f01956657392abbf75ed7f86cb2cc637bd08adb5a04d1d222babaf222ff2");
+    builder.add(
+        "5c7596e086799c6a0390c51c95737d7e",
+        "0dfc225cd626e659bf02b32eceb0311c",
+        0x585c1bea18822658L,
+        "cd663bae94bc28b0c88651c4f1a67fda34d3b440c8481b22207aed96ad59bf56577a7809280612b4293c9ebf670adac3574a3e2cb4d26217f30db88d2748caa1a799cf0603c547458289065d47d1b41dcbb289dae460a9783ba2c7c2dfdd3d1c88568b08d789c61f6cf7ee93c3b03d7b25ced38f3b29dcf5ff0e81544f249f3036fd90645d237eb74bdd9196cb0ac5767c8c2bf61d02e0f19ee8aa570e0cfd4d9d8aafef983ac5");
+    builder.add(
+        "37808784f890b5cfde2a39c8bcf396e3",
+        "44d74346fbaa96ecd0116f0e188ce3b2",
+        0x43d022fdd9c66926L,
+        "b8fb01116b5fa374906d01d3a73ecf26669897e7ca91685eeaf464beac7ac21e21002ab2d8dc7d9055be8362efea6329c178219849940611b5c956c81b9bf5fbdfc6ea28e208c7bb16de2271950b6886e0d2c2cf8c4c6f47829d871b98c54fbcde9e8897e6ee43cf035cc1e3c2f141e8f6f5e2f43225174aac0f485a3c4a9e823b2c4bbb73230ecb01ab2681c2593e240358aaff51ea72797022ee34e5ce50243a14ea5acb5c47");
+    builder.add(
+        "bcd472e10015ee2378002c8da9ae6eeb",
+        "8593f8f6212c87b5a5266997777dff1a",
+        0xc1b44901328ea95bL,
+        "2a59836d83ace4bcfeab9dd09ab1aa3107d2340fc1f6963964214f340c5ffb7c57afe6b1280df8e540d2abcfdf9925b03f0daa332fb01d1ffc3eb5b8dc899688250277390a7adbaa22f382095a792677cbd0f626cb0d881e5f9c121090d332220b4c6dbf8b8cf1c5f22c92ae3580765c5bb916c39e059a5d2369e2d40e3549ba06d14d565455b521c71c9cac6bbbc0acfd9e95e67f3ee7a6d1c6c3c3f70b346feae6bac41e8193");
+    builder.add(
+        "2addd7db0e24225e1e8032df1d104f8d",
+        "26cbf04ff23e4bc48953a6e4440cc8f8",
+        0x61ff044bd8331af0L,
+        "56e356e4f261ae4f678a092a72eea41b97ae16f7e0346369f7c859ef3b629aa295e5fbb9d511e6ed9d1fce8bea13e7d45d78deca07fbdca542c4b81f37d4b3141dc4a177fd9e71b96b08e93c84412870785154401e84cecf73d157a85081b43e88cc84167e09e058f88f79b0c0ce8661fcca995d9c63d6a0a598f30667fc7cfd7aba3e33a8a6ee9ebe021f72180a53c5aeb2c0835238a187aeb42d15438e4269e55301ebd30fe27e");
+    builder.add(
+        "f0417b4cfc08704b2d9c041d97f27c77",
+        "e832f669b9cc6e7ea5703b72e0b93411",
+        0xefac2940cb9d1c8fL,
+        "5b97580ec59b7e4cf3f0742f6fa880a0594418bb0c7c0d7adc5a0f7e38d81f8ff1e14d0a01fbb3f4efcba4e0656e31d6a45010761c5e4f133a688e2137e5b8c84385b3e67d71bccdd4c9e07831f4e25f8b8754b4200fa976ae7df5fe360e6fc605aafd2ffcbe1fd7ec9d316ecf4e5114e15641ec184907bd064f95b432edfdc7f84086eccf38128c8ba7bd3a810f956f1e4c6d40ac314906d3ac6cdb89e49fc9c5cd0b7feec43778");
+    builder.add(
+        "fa390a84b28afb549b41a32b783c0639",
+        "fd39a57aa64d71c88751f7e58a4254c2",
+        0x9276a4288edae440L,
+        "f0417cb7fe1ce89bdbc39f5f5d017354defb55c5fbc6327f4fd97b433a3775cf3feef70d866c98ed46be55e18fbb7d3d27a830ea5d03b66d1f791831e174db6eff8764b09f37d168bc602c01e3ee08fc3e6c79fe408786ce483b662607f5a8d857e40a44cb8124a0c9c95e1a5d68ae9a6acd3c5082690aafc83d226ae4c4b7557d1c7c00ff389791cd7e33886aa53d2da639fe90ac6615d263b8cd15cc0a50d0aa524277eb972aa0");
+    builder.add(
+        "6472105f106b5f260b9a45a32260763f",
+        "b1752880ee17ab821af431d457cd8f28",
+        0xb601d694a7a399d9L,
+        "e697cc4eb6b68d410780f05a43a9c8863d9290173602a83550d81aa161da5b53c88682e523dffedc3da3e71b9cef4a95c2d79ed5a0f1f50705846387f71962bc97a21f8b7fdd90d5e9a1c326385e620da901bc4de79d9ffa212d2329915d6fbad546179480f011122f9fab4e860b6d752e2fcdbaa887146f361e5967a3f667bed9395d991121726ac5f912aafe22e7b8dc97be7ae229867c39c5e523e5afb9be4c37c7681412e068");
+    builder.add(
+        "3c8fd6adc33c05121393a16873adefd4",
+        "daf35e391897a63be689dfbe90b7973b",
+        0x92aa4b2ac759e0d5L,
+        "11b0c9bd2c1920490e7d30fa5a41d4818904d130a6def3249b29183b219730cae54ecec6f9c1331be39d716afa949b8758b241eec290beea6e562c7268145b211df4350bb7836a61f7e7ce9d3657eacae31fbbfdea5134d35d426fd26f08eea85022c1ae6bf0a3ca6f193cbaa445c6fe3ecc633a29e9791aee8ea938d8013836d307a4ac99400e183cc261372244a3fe002774633590ba9a4ce67c17522326b5f1c2351ca7ddd753");
+    builder.add(
+        "bacefd0d486a9718c4ecd5015f1c22f5",
+        "7e71c90a4d1b6f76676f637eb337bd67",
+        0xfd5cc1dba36d3e3aL,
+        "e61bb2c73f5bcd7440b004e2eb857ff2fd059ba578f82195e35f17464822eadc53c96fa0bcf614de0c4d1c465e2d2738b97a49e64b7e740e40eee0640c02d5b5d55ee05493a40e6ab361507026ba3c3855e21ddea2853e2260eb7db837ee788444d2092f6e6f5e371de571eb038f33cb1ff191c01e92b5ac8f59e71134f008ac206aa97094318380ba72a2c785ccd10042a2d5e324ea7624efbc496e09603f31387d558ae6ea6252");
+    builder.add(
+        "f7f994fff05034e536475e76ba1fe863",
+        "0047a71ffd4bd92bdae27a7f72d4f988",
+        0xfac245e46dae11f0L,
+        "4163b240cb75050c446530ae9db0a6160a8cb7ff5b284be2d8984c5a24a08a65fcdba5ab4e775677964b1fa5174d030d6d252e99781d56d00b991e8f94f5c340797183bfe1528c57ed4949f408b5592c1b7f0cd5c4271258212c53b46e978916e8215fc1e08754e087fcdd8712fd01805ab29ada729fd99194edce79bdd873b17cd83d77aa62cc0baf1edb1975a0c3dc99a6b52d734c538ac4ded52f908a7ad972bb0c20210d013b");
+    builder.add(
+        "1122922425fdab231160846c430c8c54",
+        "e525f755f56c820b0e9c1bc44a175826",
+        0xbce1f3bb0e4749a0L,
+        "f0dbde1660d352b51c9db7b35c2e599b604a1d09657f86b823d8eda113635c5658a0a661b6eb6300736293f44fdbea804b85fd009e566ca7c852e5aa2bd5f8140e31af9ad0afb4dca275142f3e2d7ba38ebb6fbf15cc5fcce0de52eacbdfa7431690c3b25960fc77209f3cd7877a4d4e69ea441f31e477d2728b7fded209f164cfb9f702ee90bf1f8873ec514e20967a45250fc82340455c9a084985691bb45ae390815b0ec20363");
+    builder.add(
+        "354f212726342c6ad5c5e7a000359a2a",
+        "8ac3023187f0bf48199d4563debc966f",
+        0xb78957ef41f17f0bL,
+        "99b41f919d803c5ed1974e57758e5c965ea71a1491daeab88315cfd0f898499d0f1e3ca451bb8101078b70448f9f459d69a964c2e83f96e7ae8bf10f36068389837c4d8db4ec2cb88de8a8d097d5dbcb737c970b9a5bba87db8e57a848e2d34c8fa16552c1c8bd37d6ee37b817f9a41f662c69d482f8c098b4ff0fb494238175c9bfce2d9dae6e883da0c0dc27b034dc1a2187b0eef10392622a7a745c665c997edda015f6f4eba1");
+    builder.add(
+        "c9ff46559d9a8e0526b48aee0a3c02c6",
+        "db3226a1025b0cb4fd779ccf7e393637",
+        0xb49a6c5571fbdaf9L,
+        "a1564e3fbabf06c7d4d20ce6a344399b874526b3a013f8e0150df6fb2b4452e0b4039b61488f1cb74f783c5499a1357ffdb4106305b15144afdae6ddb18d681ad3c38079f85dc052bfec3528d1642c7a1ac88ce7b5254d18601c597b8e3bc7e7d3e3420b74ee9bde01ac4e56e925c6a573ed08d1bb20a67f117a364b236f4693c122e9fe8a9875d5a550d0c9140b9374c69ea1fd70b4957f7bc74d396a086fdf9ad0e8f708194d37");
+    builder.add(
+        "57edcaf39f193c4aa2d47aafeb1ee316",
+        "f33f673c91687d17e242a8838fd0f68f",
+        0x304822dfbb91149bL,
+        "01b81cf5bf4000854c45975f55f1deae611553a94f57e7ce400dd79e6ae2acb544e3b5f6f380ae56f26a5ec56853dd5654a1c3554198ac75f8ba5419b5bf8d36fe93569f0dd361140b3aaea976808fea8528e5a5c469c515cebc85a15c77b6f3514a2d74c9170ac81b91cee4783f91ed60fea37b86fc94da104a12f38860434d207516f27b7e9c679f692e2794db52a50a8ec41977cd46e9b39f312e03a6a39cac919ffb9fbc0d428b");
+    builder.add(
+        "bd3b3b990dd3dad3b9e8b09b6d345295",
+        "914e1ca6594b78fa828e399b525fe885",
+        0x4009041c593da784L,
+        "aa0aa474c5599d0ac0a510fd059b36b5f05773e230ae0a669e7857a6b8a4d1383e59c7923e3c61602b353ec19d99213f2dc60d673b10a28ec843a71df0f4f2a32919c559a893b0957c63c707edfefe30a9ca0200b6656ac4c4a4104e179881cf29af558be47d7baf267459e7a2cdb4507b9168c8141e735896b0b933f611b34b06bfccadbd44dbe61bb4e7f8ac04dbf86a7202d3df6750ea48dfd55955aea08e15cebb43bcf9b680da");
+    builder.add(
+        "9a9717707142487d8b359704bd178fff",
+        "e7dcab6deef933e249996cd398797320",
+        0x86227e025a922bacL,
+        "6fa823d1937fd41e25d846d969df3d65715a6f28164b2adaefe65270a6b1f45f820f66653924a3b544a3b77f6a3f9b32e993b2c92af08dc6b3d4c543092a8c7f1fb4060480543799a034c71bcbb1caecd6a81c36ebcce21b04b1224eaca4ace1e5d28bf33830da4eab257afcdacdd0bccc555e8113f75528c672446fde6b87640f708be5b07e9146c4b893b5ec9160d0b76881c1ec8142f825a64a33a8aba5a9185c3f491dd22db81b");
+    builder.add(
+        "76ac6d799921c1ec265bdb6ab22f93dd",
+        "620fb906e7d0ff6797d1f164c0c20b74",
+        0x72af61c24907e7b4L,
+        "6aede221774d35fb9160c18cbfa8bdbbb6155ae6444a4e1343a752880532195701818b3150eca8a386fade6df72bff61bd6d29b6516139efac93d9c225e0db4fb2fb3dfa3440affc11f2fbd780fb58b7fa236c9c1e4204fb179d1697fb8c052d047da15ccd8da1e480fbf0ea8dab99ee727f57d769549a7660612a55917abdeaa79d072bbdf8468fb5f5f979a86ae057a0478195419100919c2e371ab1cb763ff855425c16c91fce6a");
+    builder.add(
+        "f7a139d5e3b390430d1772a74bb35372",
+        "a1ac38ff7489d8f5c423004893e1277e",
+        0x2ead77dd302b7ae6L,
+        "218212b775017e177beec034df1504ba329681d69c5005dafd802a0b0b4e43b133a8fc498833685f68443b9c8c26d90067adf3a4b05854f66e00f8ac9d04a5dde18524b6551c54fb9dd15589c42c8c57f1158852c49a3972e88af0189938308d0e93a59b5ca7aa53d5b07f36ea166067298964e1b6b8d18df11ed0a62f459cd05c39f264e84119271b7ba1868d963853d70d38c9bc2446fd51ae12e4b3371b2f5f0c57dc2251297483");
+    builder.add(
+        "87e072e80e4677c4cfec4b51bedcc68e",
+        "8b339c4e39403f74bd937e9ac364b108",
+        0x6295d77d90c14263L,
+        "a957542d2c52ed48304cd9eb8e2f9314b0845dea2ce4550fac1779bd9470a1a36fbc2128905af5c87e72b79b816b4c8e9dfb34af863751bfd2d144889de64269f82d80d66b8a1ce0d26758ce3c274b10de1c0865c8be087312f178388d7bccf0c35bf40e2aa03571d36a40a35da7281497c1e5f8ec7c94d9ef8d1caa057262bf795f54d893aa778c283c5a56d89f89e85130556e51699ad2a18c0ca6aa76667cbeb2a5577331460888");
+    builder.add(
+        "b6ff045de8e85ec5b894b75c4ef79e25",
+        "b9427073605ba47ec038c3b89e6f80b4",
+        0x929914ddf56a8f5eL,
+        "151aaf8696b3679af1e0ac8568b718d4227ff41d230bd9acdf3b0e1c90c650e71db850ae739343bcc84931c3bfdc0dddc0071c8eb0cc510a72e87fe60c65409a0267ff81e675d44184ca2849d9ac8ebee2de1fcf908e5401eb230ec1e52781bd5ea30aa8c3a581317d9f14b5230e0e80523c998cb374b38d7f24124c881254882301a018db5d7a39c8b2bdca893a3f9a8a68e7c48cf3c3d7b67501e33cdeee62cb5ac1fa0b8bd89d7c");
+    builder.add(
+        "532ad73b46b32946c3dedda86b1ca5f1",
+        "0914b9d5c11ea5195a07345ac660ae57",
+        0x659148bdcbad7bceL,
+        "d0d87b6789a2ad0fb5f4755e8eff5b6610a766b5b38a761cad3d130570c3e6236a6430480d3e97bbac978fc1b2964c0f1e4aca018c716cb1d473d469984b514a9d7c57cd911b24f24b5bc41156ed1338f3b0359389b79cca8cfbae4151a1e83c105f65bb1b5cf92f8fd6eda08826df2b4e0c2cfdae16075044e95d635c346cd167ffd9e739250c3a65fe0464c0d1d4103aafbf21fff960fa0c5a4dd08f038a532a9741a8ff3d7c818b");
+    builder.add(
+        "54f5beea3eeb089a4c83a8bd3e4d797c",
+        "9835cad334939ba95bd074c174731fc9",
+        0xbb50b2b4dcc22981L,
+        "1ddde963314742239ab7c2e1ae9f720e4e3e4c30a1d6631b513a346d5da1402c68908ba1543f10bfcc056bbae26bd8eab9412d3dcd09b53ea0efb515ed2a7a333fe93281366a7a666cd679acb2bdc35c0ee86677b295121e1ba91a9b732b74645f52b3ebbdd46789cbc8945acc80c7d7cf17f5bf84763e901a6bd2070e32bcd1d6280ca8db04eb2b018ec57713c73555e6586ed7b92fd654bf6ad22a7a4b2615f1ac543e2edb8818ab");
+    builder.add(
+        "146358668bcfffba676b6be5d30bf291",
+        "058f46d11ed7a64f301b1b6eed28d01c",
+        0x13ea7529ca0586aeL,
+        "cdc5880b1bd97a2e04761bc68e0448d1726e26cc82fa2d5e026d3999055fde637bcae4a9f91948f59eb08a57307a5ebd92626ded8edae7ada8929d3be39e501b00108bf6493d3ab28b5a448d6068eebc6b3c98e17734a3814af97ba132b2619806535eb98c4ff366207c88a7216fcd34ed18d9edc7346330430c4fb502c242ad1eb19d079a6edc611cef477956179a214d163e1dfc54b5beb08d6af38cf31c947617a4681bdd77f738");
+    builder.add(
+        "f3f68717a92e86a97cf03ca49377df04",
+        "2d06aed70a68fee15a7d9a48a5f4dea9",
+        0x1a6bbdfaafc6d9a5L,
+        "4890e4a6c60710d0778b04944184ca4c67293ea5b081548d3b1f6dd3375036b870fdcc2be8178099132c64913f9b1e6a134d01ba8b88f8981e8d52ff1bfe370fb524fc872c2feb4021b27b2971639cb5a8883f4fe1aa00998c8916dde813b14d7a879ba9cb5a3ec58f1234acd7b55f4f1a2a36e7fc033e94306be3f2e52260c1b146e56cc4a2898d630079f3863991ec670cd7ab9d3d112e0577c3f0ac1aaec117001225c2f0e3185414");
+    builder.add(
+        "b5cac01c041e6434a247796bc10fac75",
+        "c3cb3db236aea019ed335cd24df3bc82",
+        0x5aa707eb6fc99f70L,
+        "600bceb7d9270c06c2af4d8e4a5c8b62cefa95d17f05b9f2b8f8741558c2c5fd992772ed98a1bac57ec63e0d13bbc21e543cc640e626b1763a8af4bba04fe49a27b7deb254b146074a81317ce92cd181e4b81c6174013f0f0d7bfaa870e389388c8343ed62bc87375ba1f4500c9709e8fc3015eaa95816a277497bbdde54ff1f9a79033dde1b31e3dbfbfa3beff7d5a9482872c953331d0b142a5d3f175f878f26ce78cfc0a55ce290f1");
+    builder.add(
+        "78a4f9b828d0026c7a8d1b3350ddc2fb",
+        "b16bd276ffbf45005cf32a356e1f182a",
+        0xbb6109b58f4c7f43L,
+        "9fa465a100551571d2e939eaac2d774c88b7ab6879d37ed133c99fdaac468d9bc2ee468a6a800d198b47bebf6f74a32d2749a140a5e9c0431dc0f2742d7002915d789b476c5c614cd3db887fb59a18f7965abeb8146d480f15340f3b974c8adc160a8eb8264f7b9ebc3e0a7ef4d4c6de3cebfffad3c61e79006143905dc6b1ee3f26809132d8ff6681b7825692d60dbf4f2a8f0a42159c4284a91928bb73db887f9aaf3df87bddb1a04b");
+    builder.add(
+        "a827c6281c3e7a4898a5a0bfe0bbe258",
+        "c76746821c95fdfeaad5f8868feed604",
+        0x59cd9a6d5812c2a6L,
+        "9fe8afeaf27b1f635d19c7b12041024251bc841c79add2b6675ae3ec5e891c5f046a926e04b4c1be976099ea85e63d89f070e09cdca47ff2a074e722d77f0de94465cad9612ccd78fcda592fa61d4f6378edd2b78d524088e917ace79de0af8f89468c8bf98de14671d801b21eeede074f72ad50b4e9dcee4441f8ac1a8284447459b5efd4ed3006247779f5cda562594c4bc72227ce0564834c852340fbbf8db0cc2ef3c9cf9c0da7d2");
+    builder.add(
+        "ca4950f0abf7bb0e13b2cb5a4fc24e01",
+        "e9e45cc33b926a15c3a49ef042ffdc34",
+        0x7693fd9458099ef0L,
+        "ba678c4bdea1cc80d950b36d0954e21047cf2b85282c284c7e0194148feca0979d46bf292e4ace559347abb2b87f85ba136f2c5bbacd6b4bda92f845f6683a2bf8eea782c13bc7484721a974c5a80e3bdaa16915db2d5eaebbf92775fc37bf94af928d8db967c73ec7d476538d763fd3c3ee5146696b0123180ff183914c13439ab543cec112815da01ed1e42927e755ab335eaf9bff41834b50e6614be46d9ff94546117828a66cfe2b");
+    builder.add(
+        "d04e0e2cb80c8f63ba9c3299e1270159",
+        "02b5a7b42b73ff3205af33ad973dacbf",
+        0x05623715c8761917L,
+        "d077cb7d43e0d40c83ecc02be576186b4c131cf5cfb832536b783efa1337caa44df990e5b06b8f23fd1f6b587aeb98d1443cdb84ece66d8ab456c00c8d345dfe2f4e7fd1f3bbb3a9c864c08bfeefb6c2a7519bb764cd749ad10ed5d55b74617b8c8dab8301fc7e527df5f3c6bbd37cfe17aee639f36ca899ed3c173ca4006bc94f65e36d20ae68fd6e2981aa5c984a47636f23f3826d377a3998389eb6bc54b365e08a667ce6a41a2313");
+    builder.add(
+        "d29f1e27da1e929067a1d7644853b75e",
+        "55ddf002ad90ce36447654b1c15b138c",
+        0x3862253042a32663L,
+        "fc682c0b7edff2cfe4973da7747c9c9bdd18550b7eccc0568257dc9df9941c7772dfc6387c711c490071b6aa2c2423d8d628a95d74f5224a706c151f40e9528e6bce1f1e28a7a5f747fc84cc5bba5e5ecb7623374d09590ae70f2f0109998079caff74c216018dc31f2cdecc9e306144e3497476e7c78e9b1034dac03dfe1b37e786bb2fbdbf9e3603019a2dee1dd7fe8f3e5d4517bfe97dd26dd24bc50a4001f1f926e4967f29b44ec9");
+    builder.add(
+        "2d1bf8d32764e0250b261c0697ebac82",
+        "4a81efbdc079f6e33bb1131127ba4c25",
+        0x896a342cbd27517fL,
+        "29fb2bdc0a223320951c12457571bde81cf92e261811ffecbfe9e6d72703ce3c9f0398257f2fc18d2a8895b6545c22703c58f328916e486b46501ebd5aac4ecba3fff6fec66f8b249c8a826e2dd2138b6f08473a264d2052ce6a39be1c34b364210ac9157a90a3f9fef8d57a62be13ca8d79983a7e9cb8f4118067d1d04df3461ace6f90296f5291813297a094988a959b8e1c6a1634c0d2303b51d4eb451fa52afa694525a82e01dff1");
+    builder.add(
+        "c6ed7c7726adf0425f873159d8eac2e5",
+        "13a591664ce5218a0860d95e8afbb581",
+        0x064f9b6cd5833ae6L,
+        "fabf6ba124419b7fc34270a8bb9080fbd31e040ae31afeedef0ecbbe8e8dd29dec79ceb736096c237dbd2f95a4a9178fd889228e6c7a71b6250721b01b351c0f0596eabc8f7d2d076aef278ca9de5bdf146626261822fec3100b9dd1251a3e0e0f60939007a0069c2af962ff02ea9c6732152e444b51c1176a9ae6c2e78d6b7fe31b1263f8cd671154832ee347b06c10c078222b955f1b85ba5963273f2543eac5c7b8fce913d468f50a");
+    builder.add(
+        "442feeacbbb66e9937df167f3f94bbdc",
+        "8397decae8df67533e71df0d466d4978",
+        0x7aa2f26516436b6cL,
+        "37c3daf65db5e4106e895198ccc19220d3a039530a534461c8296d7c5911fea599cf6337b58a44bfdbd70dad9a591ceb43dcf6cfb99b10d1ebe1881190ba2286e860c49b8bc0e23073b80fec57d443e9737003f9f766f80f277744cd35af0ba13057596d673e0fc3e0bbbd4b67985174f16ec22df286f351cca7fc6d3c5bbbc9178f69c2d53a742153573c4d7ad4e863b6aad3229c9ab031443e2177e1d0b1f23c0059ee0020d231477c");
+    builder.add(
+        "81af7611751d319e1675850c78029d08",
+        "e71f0fa71986376160be298b048c8c49",
+        0xe4f9e72e16dc20d2L,
+        "9704a0c5994cebec8fb398e7013636742dac33c168f1589e9ce9cce50c5c26561586553b81cac0c5f787f7c54dad52e747e86d6e83dc40313b7e2cfac599c15db7eacc52a183d206712fb7be5a8789b897dc51b437bcc4d4994003c9a86540e3b5e28a815839f6a0b133436f8ad6bca0f0380f4d73afff082189c267bcf42b461c1c30b05af7a606a2e6059154d7fd3e8a49a3c18578da45679cd5f60852d1980e8ef048a984f44da30c61");
+    builder.add(
+        "4885ff3035aed53109f640f9985f0647",
+        "c535df1a2c9e5cc4bdd1604a3b4dbeb6",
+        0x819cfeba5b348129L,
+        "ef27aa2c1844e2ac4b2df101a71d9922ee149f6efc04931c174d6e03caed1397da202f66639472d23d428fe38a9b98f0a22ff949c6e82d8ecce56cc66872204959663387ff4d6c541c0fd557fb85f74647ff08cdf36125faea63d2f690eaa36611278147f5f77a642c8df6b39a87e3f132187242bda43f201cec21346c90739c06bdca28342df17f014b144ed243f461297f33a6241aaaab0793e50ef18428743c92eca1d5dd7c152b2101");
+    builder.add(
+        "4d42d9e7dca6ef7ce9b2a1dde4d10d05",
+        "6f60be0006bf175aee1f5792a4b1755b",
+        0x1afcd0d6a110bf43L,
+        "1dca4553b21caad39afb82f54a8e1656a7ada855b83489c8bf8589cc44e02f8829be51d5fad7ce17f12c4aa15a4649f31d959e335ef2b1d70ee35e037815aef5e2b985164e60c25c62f8eaf7e550478fa2e72223ee9358322b6887176b3acc5ca37da24717b8499c4ab37f377ec0220f6522d88c2a717f24b8c3dd398a03b4a5c0d040f953ec98df56b276065186d749c7edf755dc32419e1b4bc3be9096fdfc2417c752f6db7a67135b81");
+    builder.add(
+        "71db0333445e8e37f1e8845a13cfc239",
+        "edd059bbb81bf60d395794bdaf3f0b55",
+        0x90f4c8e0b5b144a1L,
+        "174a41d71a2e96fae302950efa56515a7dcfa488fe2acd8ecca0d416320c61424aa499940af90d47c6bf4177e3ba8523d4218e6825db9c4d6f904630e33b899caf51639dfe9514b67396fbdaf19865017c27d53d063b1eef456219f3638a1dbec275d3183e47588f37fb8a627feed0b8f2dd1d04624d3eedc4f5f213883a494344da6676ae07fae0c84146c56cedbee5c98cf8fb019df32b335ccdbf3d5bfb767128293a8a4ebfd590bce5");
+    builder.add(
+        "c6cba9cbedba640d5d44989e458c8a1a",
+        "7725adc084ddd678e8056c7fe8620ec9",
+        0xd7619b304a0b4d9fL,
+        "ae15a0c8af4dbea0d52a96b1de7bd4d4fd00fca0b60dfc08e998a721e341b713fe90afb69efc64e1e9ca530283b94037684500b798a462d5aff11c1131942a53b3b83f42f5ade8be0c1b41324b38b20708e5d7cc6f6e9a628143f4cf00560df139d70c256f544a13df5e34346ef580703b5ae862f9ccb2a00fac380e334d21bbfaaef26b60ea87de616a9acfaa2dc098689a41c10d9dbb1a8e13819bdec1a47a138875ace3612d8d51bfb4");
+    builder.add(
+        "7bb37884d42029d1a69f39c4c982f0f5",
+        "eb12e4c32416a33cd422c234bfc0bd09",
+        0xcb27899d2a6bf494L,
+        "28568f5b945abcf46952a809dcb14a60eb3a688b0d4b76a2586f5289fac896157b4e9b63ce0490acf08ae27b622ccea92069d1b24f54e945ff89d882a2f66a3314fb58f13dc4be41156ea8d6e1f4e72c8b2937405638c1ab0d241bfbb125e3560227c9803b79652e450d43561205955dff39b2dfdfd25ec8bae9014473b9ae026b39b79eb66e97c67b7ca72eccb9bbe5f8d7dc4643301e3841a8c2987294dff5f6e4583563fd79b8106e0c");
+    builder.add(
+        "a52a68fd690681734db6a2d2550c7bbc",
+        "e0968491e6b9f46c386e760530761eec",
+        0x3dca10781346c891L,
+        "0340f3db1ee99cbc63d271b052d3b72deab4bdc539b7bf86ffbd823631e1e6361630f148fcf7dcba887689a1f78e1eaed123f1c483660fcd8dff26101687b7a72e9a78c96582cf95daa355c2a4998d60bc7ec65c933b5a270318573fd30b0c8e1137e71000991137b64b2236e6a4f9f0a658ef6cec69663ed74d8d4acb7f19436d158c98be68cfd562148e75bb22b53142a79efccb91703e80bdbe88be16917cc94f2f174d6fde8ee813bb");
+    builder.add(
+        "ece2320dbc300eeed50e54afe62e3ba0",
+        "9ba07cf59d7bccea503e2ac48b74bb6f",
+        0xd711a0982705fda2L,
+        "dcee6df3bb6529be259ddc39e555f56aa9e9ee5ab117e7e4309db124ee8895b8ea13afe24ae83a173d9dd2b07724705ba74ba1bb5b99fe22fd066663c5404a53704a047c45c88cc6fbc94e5806c82ab19e8e2ce184bb2a712a721149b4764ba4abf63ea76d4916e483e27742acde7c7b7856b72c3e95af15c5dcb7c1b27b92330eb6978f1614b131fe5db1846a76957dc6ae4be1c84bba05b06dbfcd909e865663626ab9d87d9fafdf3cfe");
+    builder.add(
+        "edccf482d1c3e74526eba8d48028576a",
+        "84705b84743962393cd9773389af743a",
+        0x82e446b64b658ba3L,
+        "d73c0bb3ba6061a0b2ab78c04d6733a1332e9cf85f4cf4aa9ce34b836557e795dc45a366c9a827c0319c36c2fd1bfa049d8c9f76439a4d992d94eced8f22c26b5ce456d3247f5d1e27e4e1f8f38984eab1d487bc55f9c4501bb831fe01d10a335005395f555e4aa48a7445be57bb09f0dae7518326ec53ed41f02a15024e808dd6637880fe013bfa21c8d14956a6d62b11c6f53ea2c254022b53ab85fcf7b646b0930c235fe0279a97d96a");
+    builder.add(
+        "5e688d9f3fda9921ad7eda9667a7de5d",
+        "3f2b56c5cd090217016e5e7ebdb7dd78",
+        0x0a242bd9f59b14e6L,
+        "4a791fb8bcd5790585ddaf4f6091375b64b75675476e8fb8f49a8972fcbea5b91f48a24627866ab12ec56ad588982338dc4438868b82e481fec7e6e3d11ad219a7ed9891124b93d27ab22f56acf83c8449ae25b8bbd8fecc1b96ac77d59b20ad99cb77482c07e792d1b3be197cb2b7d3d0056dfbbaaf9c5417dff3d4d021deb039b7fa6937ef6b42ca84c78605eea5b30b0605572491a79f806e54ede8ce4a486864da55e35ef43e4678a4");
+    builder.add(
+        "b5519312b9ca464705ee7e61e383c428",
+        "fd591ac9b1da031fdc2c80d647112452",
+        0x7f5633d00efa60abL,
+        "6d275f82715221403a2b87f5a324a5d3b6e154fc1cc0b4705691199c7cb869c38a8730eac73884d93dc65851cad5498df45dc9ff6bbd15da7da3f4a74e4d69927be571c8d987cd83f56bd71f0e1352651014260c1e288973f5aa3cbef9f3ad42bc7a0884137e8b934605d9994532fc4736623b56f0b7323290bb8df8375ec7e302adc30f25a55db404a8c7d37ea3e808971ceed63997616c47016f16e420ef6cbb8f811cb9024285b74b77a8");
+    builder.add(
+        "fcb3cade895dfde8bdbdbbadd52c5916",
+        "a4b2f74ccb0a474df605f6baf5de6af7",
+        0x17b0e16df3ede90cL,
+        "8b66cdfc79040743f452f4e6f8987a5fd59a8e7cf3e6d1ae72269696079f63af3e57612731d1a1669e4c6b31b71f7e82b023fc434f752c5e3b5f8cf019c0a3e021ec318cd36bbc829c14c5b5a38330569e22b3ecd57bf995d6c9e36ba4c19bfa60c05f1ddd1c2793925d09613db3fc03fc9f82ba91a6bec2e4ff8eb27f6324e3db4d3d75a936a0a02df821f1bd10b58e07fd92117ce2854bba6e080adead6b07e115047abe8bf5e69245e1e0");
+    builder.add(
+        "68811f018bc801ec912ad4090bcce6b9",
+        "be0fd56dfd220b56a3779b353b6edefa",
+        0x2c460d9a3b4b5048L,
+        "c342c35741e76f8239b77158fcc7c29def191e3dc465b93eb327c547e6551192269d1c29f8209962d7affd8e33b46a1aa60c055d6bdb773df9b108bd9709165da3c26ba51a7d033f24e0af8d4be030740cbd18823a3b62a3042aa0139df49cd2cc126855c87b9586375ff5358785f2d9445b7c054ce4edcc9cbb98d95354f0b4975a83488e43aaba58f3f45f08152b8db645382fc7866bd41568c07e7023c6b228fe599a876bf3f18adbc95e");
+    builder.add(
+        "4b9cba55e194122fafe74db7c214dc3f",
+        "c8f0388ecf4f3b048c7d91e6345801fb",
+        0x8e91c7d3d53eb63eL,
+        "38527ea0cc4f5ecb71e1cd12b9a5c4255ee86204aa86a7949ab7e16de5aff60e7542bbf23a11b40dd2af9e5829393c42cbe90828947dff1d2ee43ac07fa60b980bc406deb9a4b31b80a2b3c80dfbc093c36ec02065bd1e6051ebd324220281cbd49eb3ed876b1501c13e91b62085c2668db41615a694a3e0f0dd4d0401bf5b17510af34f774819ceda05760dce5f8d998e502e8054eca16cdf18098fa888db5670015d2291dc320d06ed299e");
+    builder.add(
+        "8dff0d3ab1bb5d013c1c5d815772b676",
+        "052c15f7776681db9eb3de1a219204f8",
+        0xe2e971851b5d7e13L,
+        "d268193f4e27c4f4f60fcb289e9a0b293170699d129e5761a67dccd477064f7ab4231d5c8911314224f92ff18c51cc40ec2e172d4a3ea2cef4b9ef002d223a7d8cad4c93bf31fb2c2184d29c743d766936358214f39e01d25203a4330c7e8bb8ce0d051d570cf363a492db82dc91799389e7cd1a068e19fcd2b3fa5dd2874a75a8e52a3e9e04597518430435019b7c27c2d65dfbd5ca461ba69fc4e82e25d0926425c27cbf63b51bd0355d35");
+    builder.add(
+        "c93d3ac7f99984af29d8dbf32bdf2a1b",
+        "f23ce014f1b81a6aad0e0067a6ac914b",
+        0x6a6ea70ed77dc366L,
+        "903f1d851720539c27cd1f5f689c2720d11dda6f62f31c7a7f6dff5ef4be8cc478c7d3e08a2b80a86f875144f3368a2ad66fcfbb09bbb681bf3c40b71b4d462d6068af9d8935fec7239f655ce138f74e7a7ac33956c0660b7de3f7c24e88b117be055629cf29616db326c7fb16b268fffbaf61f8445ded6dd787717835cbb6ff910ac80c9f2cf04344cdb31de1e7b1f4aa785defb8a273c9faadfd0e283ff745ecbab622d335c73a70c59f09");
+    builder.add(
+        "91569f845057cc7567cd73891d014e7e",
+        "641b0a13a709d21c6d2c7d15ce04ee71",
+        0x6522b0f5e3e198cbL,
+        "8222b83039468219865b2ebce4b7e5b6a9cb7ba2a9c78bcb00d0909732ae9eb6469047721a81c57a0ef599b49d4cf039c1da5e07a5993297382eb10ba3e69354af9f8958eb16c4cebf427c72963f445b8cdc16b85c78d7cc42e9ebf547a4ee8b1b2819f58132ca5ca96fef345d1c5693723f6d3f78082ab5a13935c7aaaa29d05b788886badd8079b30c2e859f779cbb082b80c8801c25d6b22f2ae428584ec1c12b3a4fe93d96d1ef935b5a");
+    builder.add(
+        "430915e049aefefa77358736a9c2ab1a",
+        "4f406c8eb10f34d30a20f17c439ddab6",
+        0xc10d8d65e78aaa30L,
+        "131f4aaea1a508bdf7ead0c87766bb40d128f7abba8d53f577c9b519c725039c34e503bae45c8c24cc379bdfd148ccb96a5ad6dbd30bf42df83940f43953849d8eefa1cc71d3e099cbaedf273fccaa2243a1bd0ec14658ba205b2daa2b717d813d41f77b6c3534f142d6939a3bda28077c8d942d7adf1da8ad26b48a75ca9fd7490ae57376613cf6a40bd23f77b2ae53fbc6e83989cec4bb3a371752a36b760a0a084b23c903c3ac5077983c");
+    builder.add(
+        "788221b5e75b30bcf7b6b90c97b4f20d",
+        "9b78a9098bfdd08f50302237fc6f01e0",
+        0x50fa4d5c5a094d1dL,
+        "998a33ec0e58e0b25da6054715aabd132ded3fc05dffc2aa13d47cf37bac2be1d96fe35ab4fac08d25cc204843b0da945d859e07fc8539ed733a1df31a9b4dfdbee851a233886c096097ce1d869aee8e4568873eaf172e820125002dab40c154f80517fd5e148ee70638496b3c8edada97edad40d7764ec60ebffdd2aa6d399b32d41e68e7229f272a46dbf918aac9ef72c28e72056b24aab26a5fb7f19a91a5807e41e6bfd8d45c6681170d");
+    builder.add(
+        "daf029a2f9038dbbf46ce2ec928236ab",
+        "cbdc88a193e7e8361a9ba81fb79c4a3e",
+        0x642ea89f125b312fL,
+        "be3e45f24277c36092cd4b11db45edf2e836f81207a7bc5bd4b683b47b55552061be8a7fdc9831c2a8ee54dd058c5f68bfa97b410649084e47e1243853d607fbc482f6cc025a9e8c3e5ba66a7fdddef9db9860d4705bcfdaa8fbcc8a2d1c6d33a2133c5943ae7e405ec0d55fe5114bc1058175d404ca2a51c9d281cb56d0a5dd20e89c75aff684f6b61f8495cdd26afda46b9c50ff8dea9fe355060d9817b950ac47b24a5b1a0fe1520329f9");
+    builder.add(
+        "990480c0d2fd344ceb1e04ff5fc8cdcd",
+        "f8b64b7dedfb354ff4ad86abfb1ec604",
+        0xa79ddcaed9f771d4L,
+        "2ca73630d7e0bf94e3e80de000a057814fe414c38b7ce04f0a1a44ffcd14cf7e5e812b06c79d87c4924d0cc8cc1d2a95c981b73380234ed7851c0ab6d6dabc4ae6d53c76d57891260a2481965968616f9f37e0291d8ecadbec5ffdf59eaa2a115de2092e53d9970513a53c7353d05b3dff1c066ab5381b61859d6cbca8251fb9f2e26fd0dd9d955f7238843ca0870ba134f8efb31934d4c1f5bffe22957b06a4f8c6e006d409070d0a75cc9b3f");
+    builder.add(
+        "083d5d4b8df6f49a90fa5c45b3585eed",
+        "8b49452af6c8805ca3a78c7cfd9035bf",
+        0x3f05bbd3217551b5L,
+        "1b4c475f7f1ab76f095115d76a0c5f8708dfa8f2de33b512d0ed39ba1e3d04465cc4a88847d5ffac056df0ae02e7e3756920177f397432fb2205c9b0070479f7500f7b86fe49ff5b1cb438f5d49c9f7d1f17c907c793416d40362f96aca74eb200c8c4dbda375df141f7711b9a73176a9ae3ce7a79501bea212bc5a63ace595eb00f1bbbf78c7713f4194d2647227913007e94428bcb12e18121aefbd42adc6ed6f05cde07e80fd14f68216894");
+    builder.add(
+        "ac99ed9f2992a2d042a55a5aaf62f696",
+        "13aa0a29853c20b2ed0ee925e98ecea9",
+        0xf2a73c346650baa2L,
+        "ab3639f7b52f5e0873c6f3a427d09c92ba6999fdf526798ccb7a49ba6004fbb8c6afa9876b055460555b904643cafa5aa4cee23d284ddebd7e7e62bc7cfcd808d0fcede1ba2124b19bc88cf0a11f891ce42d8dedf0c87803aba90ec5a415f05cc965f2f5b0a793d4decbd46df66ee9d221c8989c1802eea1fc207fe2e684d102f8423c55c9f651fbb61ca7d1d5bb2d34390979bc11e2abb55912d8fcb17964780986c44040c4cd900f5ec8762b");
+    builder.add(
+        "a256d56899e13dacab546df459a9d0e6",
+        "4fef1ee4f9a7c16c856e55d62d0128e9",
+        0x26f816744f2fff5dL,
+        "c77abda1ac85d76d8c940f18c7d3798c315b5fcf4a53e0c42e74bc5b8c413590eba8e9ad5488957f6245845590d59464296e5997cab895114d1a14eea0bd862e54e1fe5767646ae54116667e89391c847c008534eb2860b78807911236db2c05cbcc781b65554e2877dff435e57fd90c690b57159fdcddb386c8705156fa14e0a4104532954ad0db4daa00b392b742b61cb2b8b0ec2349feee3b70fef029a278dfd86b4dc3d9f6f5994617f850");
+    builder.add(
+        "5f567a2236ce3a08d990c99745b106a8",
+        "e7221b2fa657ae76ff3c3d3a0a832559",
+        0xb483f2fb2f62822cL,
+        "67a0762902412eedf3e68037740a1b02c1e31a026be7bd69c52ea7f94cc909909f26da929c947db72557293b81657ba296d29bc2d407530f63176a8c943b19db337824e5fa295451b8676c1481efdecf02327a80b9e6af5a8c4fe3608554207374a4271a19afc22c3c66b238c10cf139dc95e5109d6b8e52ebc230475cd15c246722300af971446365a40331069730dcff0eb6c229eaebca7f7b0e44f218e60bea2d9f50d504b94ccc1755899e");
+    builder.add(
+        "ad89627cdc2fbf37f2464c057555ef5c",
+        "a7aeaf0c817526771e90639d2ba7f1ff",
+        0x914feb097dcb3779L,
+        "1554faaea7db6135a78f6c0c16e7338b4ea66ed983f0e3bdaa663675053b408b1ef6015a139256e90e158898ca05d9308e941e154321860a99fcae9a97876e173c66549e809a61111826f63681ec83999b9929d1d4211c8c4b90e7e00f5f10cad7fe419475602bc252848cbcd980e827ad39ac83f06727125d3ad7be007a5116cc27dc5837a13267a279bd92764597746102f5c96920c01fcbf97d101bcb656c8f4daff56b151d781f2220df40");
+    builder.add(
+        "f29c067dfe115a020dd7f974ac8e9c81",
+        "3b608268fc9a76fc0cbb45d3b8983c6a",
+        0xb1702b2b0cf087f8L,
+        "849904b4449ee0d16f4d65cbee65a507625cf67f4ac82a6a4f0426c3d9f5c740d70989d41f5e23792247cdaaca267aa721340081e723092e78bea0480fd0e6f2ce4ec6eedcd52c32679b242d850d8f3887025ff0bd9ccd1f8381e8e71d4d8b0d18767361c03d44bbee5322283f2bdbc73d3b87f36cad5493f21754591304e38d94c1917554231f63b93d099864ea167cc05a543ced6f89af8948ac116e4b3372190da9c25a61a0f17bf733ea76");
+    builder.add(
+        "1f2d59bb30d2bd68dd39546a8b4a0a4d",
+        "8910122dc1d7de526ec8121152bab8d3",
+        0x26ee4bee11daf940L,
+        "20d33a49ddfbd9fcbd7de85d6c5ce07457e9f9464b7a4297af4826d02e4dbd45a904c1b13544318ecb2ad3a3576841de044e7aa3194748fdb29bab0662d0f24df70bfab87dde8e5797edb515c3f286c88be76f904d900ec263730c491d92617d8bdc19c761934731adf1c2dd48c59d8ff88832a5c0fa877f9c8b8165b84873927f0f86e080e8a1dbce03d2ec8df57bafb32fc8cb2422daf57915984ac2873d28dd9d7b3d92937ba3738778ffa3");
+    builder.add(
+        "e3a53f00777fc06ac3f3a88b6b78ac22",
+        "60662f92b1e39abf881bce50b1dff0a5",
+        0x4d3c90da2624684eL,
+        "259e79ca4a831feab04bbb5d1599fb338a1fdc9f327c7676d127c12a96048918bcb6fbdda7375a1e31e3ff0b9527efe0572796ee28709ff8da0ab295ab8d9e75b77d9c73a5b3bc137f27f233f8c274e3546c002fd5e4bc2d9983b961ad595636cc5bfdd0ac63de41429788c2c87cf55c75bf76aac0b177ece24d7d8d99d66ffea1a9f85345710b891f3e293001c34ad1469064255f41f3cef600b792f2ff4ded70a2e6f44347dc5e7af4bfbc9e");
+    builder.add(
+        "d7c50d876049190dbc63419b383f72eb",
+        "fe8789746f9c749cae7f2425ca0467b3",
+        0xbaa40bbb183f1986L,
+        "560d88c0a13802ac416f8395e18395dcb039a7159fa77f152d961da3790b9fe1400cd0e8a3644292d43107ad6686a1265d0fb50cc8b83ea6b1523a37f7c3b33327a6e700cf8b112d3fa50c05796c44033b39c84d1c9b7e69d15b210375ee1d5ad569b9af0da83f9f998adb489320fc3558948712ee08b91edbbf4ad6102edad5718b96a3bb9e6ae42049ff005c20c4572e42fab4759586cdc2f90c9aa425e7f4284db8ed722f1e66887e858d53");
+    builder.add(
+        "83d574cf8e37549251fe0e06b7d0e38f",
+        "034494af2447362b1cde131848d29b01",
+        0xd9c338a87fad0a78L,
+        "225425c36ee1286045db7d32840f97912aba93ca895dd23462dda97fe816c218a2132a94e8d5ef90116cff53953343727e88c58a4a3f153a073300ba22c434e0ddbf0b441867827f9e7dc0d53abeba4025ab50d8c8690ca3d2dd9d57b7576e5556851e0de22f47af56b2db42951b019fdbc7fc8c86005983304801b0bf1cba8020c7222924259926c292609829c36ea53f5a7290ad332360a2bfc6e61afa606e9b75f7cc0568e0a32ad2cb5abe40");
+    builder.add(
+        "d2c8254f97004a3483170056322e91c3",
+        "269104d1285d827024e700d1bcc4dd76",
+        0x0e2e3fd2697f196aL,
+        "989a03d5592499b2d21c2a5ce2865c8141b8a12bb3c38f86e71016568349ae7cf72af0c9eb57e4e3a2514474a19ac135ba5319cca3a60874873117027360ad5847afcedd1bcd91e8011a183c3e91eb2f1320abfda83b56e01dac3afc3212259ff9b83b3ed601cb7af61ef06109440319d5e374a1e6c22e91a6c4dce5445862df67c7050e23a9acd78dd14224f0369f714735ac2a3487a655b348e41bc706cae388f9bad7d89bf1972381cd56759e");
+    builder.add(
+        "05ac1a403c712741913f207b2cc36dd0",
+        "18ba790f854347e1d8ce2578eb4c4f8a",
+        0x3b7df00bbec710daL,
+        "64a432f696e4b4ab853b2a4e6e6b8ad40f877e88349f56747b115458c69823e436e0b9be0ac8c7e672dad2bca367a8e721e5d6ce975e5f4a4574bf984f56931d2eb0fdd285493a3ca19025f54fbd1749f457684e444ce5d8a20d04e88495fc4cc99471f05e3e576ecd90e3eb33c523882e46cfc8afa8905564e654737e945e712b8b437b2bb8875992ae763235f0d4fc51546428c5fd1f46507de2a08a56f553dc5ddea5bd51f8ad711ce4633d82");
+    builder.add(
+        "ad6755dc53464e73f197eccaefbf1ba8",
+        "652bd0b1a5e1cd669daf1487289feaaf",
+        0x94459994197c25b9L,
+        "195bc245a844e8729826331d25ec2bb4f4e12f45919b8381ebf1fba5092ca30def8422ae909166c0600fe93ec5c781d27390761caa30b5303f9b1ed492540573b83785e082c5b818203efd92acc6deaaec40411ca165a48bc4c06fdbe4c71e876a9ea2edf2b663145dbb97f48c2175d275d3a19534f3241f607323c96760f75c5085d84ec42a44fdacfb279953b4cc250f8b8d939ed012d0c59b34d82a315d13b1aebf0b15f656da0af6050b4cb9");
+    builder.add(
+        "ca27e5a3ca18eabbaf9e4dfcf9662969",
+        "1aab59cf2bae4772b4035bce19e15429",
+        0x4ed8e90fb4f08e38L,
+        "b86400df586fe86ffa23ea4d89e308e8c392337c059b299f583f43f4d264db1c9cf4988d0053865a8c3eb68abd5d127ef94e4b293f640d059191fcd00ec8795da79f863530d4c65a48a2c5d484acead154f0090c94e5a5894129167c8dc9bfbe6168159de1b299f911654405d54973b116c06796a4255333541dad9b858fa3b09ffd31e0737f0d99d52f5533765a8992cbfee7ae9afc505e7c03507d1e95f807ff3dc54814a0ef497970d04b0c03");
+    builder.add(
+        "932c2c980af89904848cda754bad784c",
+        "b52a452b82370bf1f494afde81845327",
+        0xffc8347dd0909d09L,
+        "6e1b2c5fd6a545f776bc5220c8657f3342283adf5c32c49df759b8d3f97134ec4988ff38f57ec840d931669c77bd4210b8aac8bc66a064e627ab2fa556ebc26503ebc8ee45c7c4d418bc41ee35aa5005e8a347282279fc9e7cf0803c3ca0d92dbc864b60465740495ef1ff8c79f2c37b70762cbdafd6f5cc6d0ee2de875d851a04796007807b7325246f9ddc18477110b10276aed3a2010328d728470d223bf3b4fb52502eb5a693437176a58053");
+    builder.add(
+        "58659a3e8b5187c67c7d47936876ace4",
+        "f5ce632da015e5c1e256b5e8f01b0e18",
+        0x967ca32405757103L,
+        "5dd7d858b83d2243941a880c7f8640dd2b6f17cf72badab6c433eff76485a9e7db7961763316aeba0d3939a06242e62164ed99c52eb206eab5755752f0d30629e65a339419533ec4d458ceda31889c687d922b247f3911a596ab9c6d17fe5dc53ba0c9f69a9cb2db2451de2a3d174aa361e75fdac5fb907f9084dd3f99d4b77807b82f5ab06479e8235879546d3d2cb49629dba28d76f9206f01c12075b4604ee4a3eef14afb8b0c1d9dd0c734f9");
+    builder.add(
+        "0fb988913e79db8dc6b3155f2265fc8d",
+        "6490f33ab2492f2107f58479ed281dc9",
+        0x9939a023d9fba941L,
+        "d5210b51b32f0d4b6b0e76e40e92ca6c4137fa517c17aa94bc5131a9744a7ea50dc307488c8692aa750b74ab7fa9c8ccaeb6e10109b89e04a7afd835752010b2fdb6c5cf9077e640cf9a7f6a9b86c0e36b80b4f66ed84e67c6e97e7d247f9af2d250bad0b05111fd8842b62643f56b5b2a9b350793e21b4600e9cd7b560bb264730041fa391d0d3c991c7c6e87bf013a175553f9d963ece37159e4ddd34d0108ca75e85fffbc691cf91fcb071889");
+    builder.add(
+        "3e3861a794e17f26d2ebcaf7da4c22c1",
+        "0ab5267156349afa203376f1fdc7b243",
+        0x2304f359731febc9L,
+        "9bc21d7bb19d688ec9094bf33c914f3911b23d6cb3b7da7c44f6b593c1b3c790551441ae7d651449de0af329fec36b7d3cc2e90416b8793dc8a88fb526e70e89d498e56547256a8aa4991f09d9427d89296e2c87b55f10ab72f99518c65d9f402e2075813cee233b8daea2d633ef71d27ba0a736a21099902a67347e2147ccac226ac47f787c4df3065f4ab1aae53055b0283a6c9f47aca62f90167b98dabcba92f2fb1e928107b58abf5da1f8a8");
+    builder.add(
+        "015773c7267f6394cb8308fe3d28a7f6",
+        "e45b51c27e39b4504c6fd8c83f9a95b4",
+        0x9ef24202762bc1b3L,
+        "8fba273a59cd8ac699e665687b0a2d8abfb8c2fca6dd98e25913f62a9fe9fbbaaa6aff0b4cf74cf38f0242df9c3e49713beb00c91f99fd26bf2cd5e3f6a1f5749f84e9fad731b690def473c000ac56d5747f8609feaf1dcb8bcb7c0b16972aebe7d5d25c96ae342a4b35a41a337459bb01f776a26a2a84bd89216c2d99f8658a33a18194c8358213e34b614dbe85bb8b527eddd145415d9b567838a5b079f1bcbff53b12810a1e61bd5f161cc0ba");
+    builder.add(
+        "d5b498d08e306bd274105057937d2e4f",
+        "2cd4454864de0af83c6f47f084c1b2ec",
+        0x481784ff78d9a5c4L,
+        "9119627609567dcd6fd1757ce7f70b90ada20ace73b3311d0d9fd7efce00f2389d53886f21a0af5c70dc0ea36968b6639fe604b8714049b8dab4885cee436b259bb3eb8023da3bcc77bc68f1a11ff8061fe8d7913c7256e216a7635c771a8f689aa9a1ed9cf0cb340e37038aa6fadac82315a6e6dd8450599e23cae68848b014a736dd15b565c9b0033be197e772367f3b4169bae0a863c350681b5a13f406a23d7e87ac51b6844a8950c27b7600fa");
+    builder.add(
+        "869736ba1777efbe43a5025cbba7c411",
+        "351eb6fcb84cac33daaa355cd282d988",
+        0xe16f6503733160f3L,
+        "87577ab5a833a9c481c33d87a6d6e2a5cb5485e96c74de8a9a56e6d14dc33013fa612a72b5c24c7c86b72633a28afcea6ce825fa2364e7d837c33e0658584c6ec0ea9561d5911b00f4c8cecb8cc8e6cef025f63e962d90f0d6d4d726c33f8242a7d05a3b2b17963cabfee81990f1869391523859d5851791c69cc15179b0443a63a8a3c3fa593d2423ad85a88c4ff0f19f64f54907127a9c06f680ba2d6419c6385f8a41e7a6432696353f2da171d8");
+    builder.add(
+        "04c6a09b28cd318abbf25553a4f16290",
+        "b977b13a5e4da3d09d7e2c826b0fcb11",
+        0xf25dec554d17edeeL,
+        "95a0c17f71d4bf328c675797b8b48edd2bdfee009d47642f5ee81fa1f92de0ab3ec2c03493d5348f471b22dbf60f43781f1a08c50b3db4a80b4eea87fcab44be67abb2b9b1af023fd712804553bc589c24e7c14106bf7039c3d531218e651019d57f0fa5059293a7517f453cc2f37892e9b67e225884428764939f998d1d3f8065f883dbfc6e42aee596c637825d326ab48ec796fea32d19bc9a0fee38524a17552cb007df42ddb68ea1c8fd9ab773");
+    builder.add(
+        "26901184462ad4523168de54ab34b941",
+        "7cc45193a2617d7e4c114c619161a2ee",
+        0xaa31b7d2699bc987L,
+        "713ec8762072c3f6e24a5f190db6a6d9fbf59dfab44668a893f7e1bf0642524711c679e33e2847cbcedccb6c9fedbc49738997b8a90eec4d005fcf64e8605d7e9c78fb4f10c703e9d9c55c7186b39254c7b069621e03968b79b41210e48ab7bd58998f69f5fa8864623608acd27afa0f9606dd05890f39730f047e9edb6205562cde2f135becd711cfc477d6bad403054b0d94376f878184091cdcbe0a989f621989b66bb03925d96757dfbad6e7e7");
+    builder.add(
+        "f912ee8d79ac0e3b26e55e2018312e32",
+        "bd47d19df487a1e7d8a38876d794033a",
+        0x3af41aef539a3e34L,
+        "d599ef34d327bd973f91be736ff88db1fbd1189e45a0a9c0206e3e8f0b53e46a1cc241c147fd9d4c1766e204b14b7149524f7daeb7bf117fa8e84986d9680499dded87e008e36ea0499c3db175880dc622d717dd93bb51772608b6b5e2f63d11431bd75f375a817af0b9f1448adfc7a02b57e39cfc5cb4c74b60b1f45d456855ba345ae7ee2362304fb5aa14edcd34be5dae54d5860a77c6f7b86c87d577cd3fd6b9c99e364de61573c9b7cfaf34f1");
+    builder.add(
+        "5f9253b12db0dc435566ae01aa4814b5",
+        "b452891c7a25d1a3040aba36745ffb12",
+        0x624f969f314c11c6L,
+        "8080365a39c024b1389e755c61a11b5558006cc99f8096876849756c6a6252665642d2a3db872522469fdabfbaa48e51d3d78fea334890f7e5624e5c6e5a0fe06ca7bbd698e8b448595bb6221b7f78db2c1717bca4913a3f18d70e024ec0149ebb4b3ab153de6c7d6aa04910387af8d597adb21dcd1f0f9cf6cebd0188f56162e1a80a55f1934279bb6ba7fc9c832314e035410cfe7bc5d016227182a46431bc9978090ca4e05e8b9d691cbedbdc0c");
+    builder.add(
+        "959c554b00cea8ed2d191e6e2dd58810",
+        "a63ca8094aa3a58711ce90fd4a26c5c9",
+        0x258d17a81c204117L,
+        "d2075d46701682402aa0e5d356c893dd4ed21436a4673296ef92412379dc5835fe1f7bcd314a1f24b7a9da7561c93175486a9438989144d3f0fddba879694eae7cd11424f7752aac9933abf2ef15875792e98a058203e52bb7a3a09b3eb0bbcb5d0e5f4344ed5880bc57114f0a599094c6d73572cf13c4369b95ccbb694ef03d37ae73fcdf3988c89e7cc663c9cad0b5185e0dd6471c2bccb65522310efe21d273a32b45e0eb35100d88096efefb5c");
+    builder.add(
+        "65c9b70f2f6a4cc8fa92ef29619f6af0",
+        "f746752a96d36926cf1c8d58a34a09c0",
+        0xaf3de432a8c3034bL,
+        "62c28ba3adc9f15a5ee8c0161064223a4f74dce47a568a5c849f76ba2bacbf52bb2530c94d9df458b241a6bb902515d3a4ef35d92bed361da794757741931254010bfea9ea2a565218ba60954499cbb261b26b6f710dc66d7704818e1abcd2cd410561c9f47595e60b73b39c48f4636c039ca5246a7e978e82052ae8e373b884b09061da54a77e02b0b18019b1d89b79cdf43486036aebe2b6ae02fdd5482479eb5424cd8c8b238c0abb28a117fcbb");
+    builder.add(
+        "76ff8cf3ad6bb5b4973c03dc309c95ad",
+        "701d291ed0fcf6d16eed6bbcaa893a20",
+        0x0fc19e7e4cfb3e4bL,
+        "a947ac7644eeaade624fcf8187d4f9c584c5f6a38661e2a077f25c0d8d01f7f01c739fca7832b90bb39bf3c968d5a658e8e0e74602445a6fa5c5dbda9beeff389aeb071533e65fcae65eaa5f75c322fd23096e5dba6fb5a4724325c6884ef76e71ad8f5a0039c7b3a12c1a9404274b1d48fbf4b45529fcd1959a12f84d044b260e1b51625b671066a3a9bbb093236b112a7e8ba986235d685f96363557293f29768bb450f7df1e4ea06bd2bf9eb0ab");
+    builder.add(
+        "b048412eb41a8b9b9e1e32376845ebf3",
+        "63b0d30e4d7a2318d380ebf69a48f30f",
+        0x4e1694a08777393fL,
+        "32164172f7b01b366e15c04eb82879c214c0450dd1b742d96309d0e666c10e3816c28945ad749c6c683f116b462d9d4cc3a26867c0642714c3f47c3393432ffc17d88a369b47b1c9207713107ddf0796ffcc161ca3a89809a7431817da2069e6f504f5a55fc21c10dfc6bb6114ba020cb2e2ac66cb684c32f7febc62d5320f771dce25afdb54f715f8c147d5d699b476c3a1bc104fe993998fed2971ba23594b506ce9373fa9bc881233a4792cbcfc");
+    builder.add(
+        "2a45b54799116acc165fc9ef5c86e6bc",
+        "4762b20aa917bfa13aef8eb63a0d4d59",
+        0xd5bf5b2b35536ecfL,
+        "1277c29c66244f5e2a8d2cd4f8ebf7688632303078cb06ef249e0ae52b43e042078a93a3286910662e7f702717f5bf839134296e658953c53c4e0dc98c9c5c0e0f000277a6386d7f0cb55724d693ef516e03f800c9f8b63d30d63e7b715e6cca97343bf5a2bf7b769cbed82c62b406e24c94aa9f1fc4d5deb7114d7bb3ab204c5ec1a6d9a54ab50ff684760c3a64865f455ef5f1aaee10ad0c224255d0e9c138068d7e2b9993d84cc4658c9861708c94");
+    builder.add(
+        "d2106c894c8c478d3ee8d34c1cb766c7",
+        "0e7ddbb5d7af332e537b2975759605f7",
+        0x7866b1e44d063f4cL,
+        "0a79c5468190542fbee5b6e66a255c9ac2cf64c8e55a1b370a0d3fc0c83ee57e0d49e595b1784a10d6d4399c28f6e1aba7304dc476ca37bd990c47755d2b9ff52250180eeaa276889626d9548d06361dd771d7bce5a9020f55b7d5e8ba4e32d8df58eb746d912f22c193228bc2dd8d1ea8322bfb074afdbce4c69fc4b1fe950d1e8098fdfd066b267679f0c62e61f7145643e1ef297dc0070fe5deb77bee2283c62631f33997e1ee9e23c709325806ee");
+    builder.add(
+        "7d7874d64fad30e2deabe6ba8434f12f",
+        "14abb766ee94672ca79d658bfbf72b65",
+        0x6619f02f216ce6ceL,
+        "c06525e7251ff7261e2311b55539ca8998f7e6064d0f33860917b6e2b97ccf1cf193c2297c472c35aff009936d4def238926af0536e386d5d7d16289bed7a1c6022636bef9fe73f7ebcbc03bc227fd298a5112b0dd555fd478591253d2a93071d7b6a6b0831456a62ee48e49e5cebd920f764baf437f6d75445f58f754433649e92e62ddf05057cf5545a3734c35c8272ec76ccb0a831ea2afc3b8fc40a9d616da0e3b7e94e7aa5e06ad6ec94e050f3f");
+    builder.add(
+        "e2af4124b3ed0038aa86ed7786e9ddbe",
+        "df31cbbac9dfc2188e821180e80ca582",
+        0x74017b8c60dccfb4L,
+        "5dd84af45dae9d49b40b6eff4619d7501a4deb2e4d79e854848080214fc2f9c805365e369a2a052aa3a174de3dc6452dba134d6ba86b832bf2b8ffe30640ae7da1463ab8d7ef2c48bb050f2b2761e7fac06c70eb39cfd92073ce8b934452655ff626a719e8fb20dcd9fe0babc3b44bec0e7823a530860379209584497110a6ec0d5f4c7288fbc0f342ea2d4dfd4cbb2fd916b1e6c3cf8f46932c837d1c4149dd782f62aa4ddf13d2251c1b6e4ca313d8");
+    builder.add(
+        "4aefac8e62af04e71629c29cedef4e91",
+        "221855fce323af7bcb5f73b988a929c8",
+        0x3d9a544dc1960963L,
+        "b85170e09950bfe02b15d1b87593a7e90028ce537655345d47413604781cd9c0567db144e58e75a0fe7a0aa11ae6257b5d08bafee6f1da0e002ca3258a3684d758786f96d7b5988a6eaa779b655616a3fb3f4d26304b1451c3d90b880eb3766c86b6a0c07438eab14752bdeb503ac1b697eec6dc0f60fbf3b563d4ed6bcbfcef765c5d28c9d365a32f9b4c4be515a20c86c9ab5c7278016ca726e22251e7492f12ab4cbfb2a84df0a84000a89187935c");
+    builder.add(
+        "df72a9592efd8661cc0e82668aba6619",
+        "3b9ae5ee3413b1d43dda6e2224db9511",
+        0xcaf2f176139886d2L,
+        "4e767d91ad9894ffee195b74b08b954828808ffeb6ae31e5969033ec0bc0192ab270d05a71553bea22ca88966f88fb61c3a6bc8c0f00d3118bef81c0294855e4e7d9f1bf010199f1126c5cc5a8079c80094e6f9bc4f9672e92eb7ac14b76e59c97c5fb4264119a13caf0e61c28531be7f2b25c9662679674e7b409510969eeae3479e049aa90e10117ec52c728240bbb57418e129f3477400c378e8e10dda6bb4f33c4f9b900dcc5344b034875d725bb");
+    builder.add(
+        "5c41e3fcd3a2780b5cb967bc158aeea4",
+        "fac153b8587f1aa4468897e30f144b30",
+        0x6589e5bdcfdb88f9L,
+        "db559af86dd2634ae4e581901cc3a2baff13cc95c5bc90af1d995b8fd4db4333118af980b970134ec81ea756f839afab21970a0af8faa3ee896a0c985667449504c6e7cb137665814c6ae93cdb7fd6d6dacb672b19dae9046078e4a0da585467420a6025d0be0384310ca95c543f89519462d9bdf26b2065de63649a24d678575c6b5eeb89e14d40bdf5dab06c13548af6bbe1992e2ede9cec31b0fb1dda596e71d69f98bf35fc88938a1cb39b71a6ae");
+    builder.add(
+        "09411a8862099c426ea4a01cb6f05579",
+        "7f8807764435dd0b2d3012898c29594d",
+        0xf3e3b536b32f337fL,
+        "5974f90326228b672f11b3fafdfb1ace1bf94bcf8a014995d5df3b870ff6ba9d4c0f7fa25be48ec09f33e175f514619873a00a9f313fd996a1873c7b6b1ca890ac11e50975fc945e4fd311873a90373a2767879e4bcee3db5ee6b8e24280e9c40009b2d5011d57d1352b9fcc2d25d937af6ae14baffc2cc146f5edbeb07a86fe23c826e8642e72422136e963beef8a4eee81be00b3e36b49404ee9e0bcc5d51e166075dd5b6d7f5942171371612cf28a");
+    builder.add(
+        "c44abef16b41e75dfe5bd25c5f392757",
+        "6e57ab1e71e95b55ca63c5773ae68880",
+        0x75dfe723c362e381L,
+        "3564716c4b14a6a04ab2f8466a126b60d00cd3f070e8d5b80cc142e446e3e3a5d3356c2a56625c3e52fe91a6098699cceaf4175f082259406548dfbca4cae49795f4b192948613c6940b75fe4f0d11715a784d86f91f60b3513022c6b4e01e75d97abf4bba5aec9820bcf5f64323d26283da571d221bcfc215072ffa1e1889f44004f48f8b2585d0b6e62dae89475d8c0958d2b987f2c06655b5e80e4d5b7896737bf6c3602596529a9cdaeda01bc223");
+    builder.add(
+        "6ab2ed4809e889a9bf56b810c73785d1",
+        "818d056559e0634f079ca6dc2501cabf",
+        0xbf0ce55b4e618f6cL,
+        "8233a23b585cd804725fadc8a753312a8cba69b045d1664f6c56ee9669e99cc05aaf629cd162f8266c832b8cd3075f3093b743d10584b2b095b65f0bb3aea146ea36564723d1f8f6a5f8eeafb152caaa1b6b990522bddfd33cce2282c3fba1af7263acf28345014ea68cf8bf52236edd574da0b9125dd2a71d26aef8826b2c0ea01f9e1a893fae865b4c5c9d9c7bb471528aad61982ec0d9b72c0add1c4b08e54e7c62d1a3540e56fce3a60a00c18c8f");
+    builder.add(
+        "35fa66b07591533af822a3d8ce7d3016",
+        "79b336063bc50a9be212da8814b2f75d",
+        0x196f3c17823f1048L,
+        "17efc160f01f98d87e2a8091970c1cb2529a44ea133b2ea4f1fff91028bfc047831f6adc8792686f3cbda8dfdf12f10a6e902ce85ea6243db036d9aeb8fea53a284a049279362bebe73ea96d9f80abc072629008740efc888d6a49be5a5743239656786fddc9a609e05bf9a63c77111996e6c8bc1fbf7bb97bcbf63f449ca2fb82c3622b0cd1d666da29a68fa2ca318cf7af149ddfc7ce1a48fafb7fc0b837d83a68ff0ac2e07b98205ed268479eda1bb3");
+    builder.add(
+        "bd93673d883df64579e78f1e372ba3d1",
+        "5c240759e79e38ec7196667a122517be",
+        0x6ab15f355d5b5da3L,
+        "3c7fada977044b6143ae09666b5658f2a3aee4b04d21f7ab93627a61cc1167a108dfded40aadbb26ed68f012987e815a3bd55b1abbab9eb0623b4b956658bc00355a28a78969461b3d8a5957d22867adb73ae7cfc7300f2eacb98850d46c7302106e1ba0a0b64a87d24e509610c4e7ae9ac4714a2463d861ba8f2e043c1ea324df7d8fdcfd88337f7f4a2cf7f9ec05297cd3156cc300319bfc74d04d9ae9938e311235e534c16de80f747b762998bceec7");
+    builder.add(
+        "32abda8a0c86a9528375030188ea03e3",
+        "4b4e9ab9bb04a9d06ee488a3bd02c1f7",
+        0xf343c5f082cb3673L,
+        "a31d658cc95b34d26030f4b884e2faf2111aac707fcc883f65dc4309ee436b730222f544741cd70e69239c56447e74f445eae55d057c8d849b56a3c52d823f287a003b420b1b6842b6257ea6427a5fb6562e438abd45f341cfc7b3aeea5fa23732c3598af07e029b23f7e3b0fa2963358c15601a5681152540b145628fbfe756173e523a33f6bdd39a64ad6a1139987f98f0db1d390c3dfb65abe01eaea22fb8091734c4c8b746b1674b20b44f3d078134");
+    builder.add(
+        "585bae498d628a0f7cd0e4b4999cf7f6",
+        "7fca018683f03900911d19328850c3b1",
+        0x452acfd2d0a752cbL,
+        "b96feb790c9a8413109d6bed7f00ed6938a3a8220e547c16df72a2b3dcee4d5edd9818062800bfbaacf6210b78067f654999d364a599562bc98e5335cb3f28754eab7ee08e51d076f1b976741ff5431f7808313471ac38a192561ce6c24ed8e432dbbe182758e250dc7dbffcc665272e74c66cb41c20eec4068f01ba62e4c69c5c1008a1512cedd698bfc518c7901e5f87d39a9a8155aebe37ac75654c78a6bac9a62784af249cc5c29810e6c405fdd9f2");
+    builder.add(
+        "3a5edd4b61c27c251da205f6d4102490",
+        "099fd1e29b918f7228aa4b51e7ef349b",
+        0x90abc8d0af21a580L,
+        "c4c8559df4ecca7dfaa46e908cd6a6b8316e7295402c46c999369f77bafb1068f86baf24b9980e55175affcb54e83dbfd295689b0c58ee551183f30ea1ba1cb938ee3d2e55d4416c02c1c5e5dad02920139f68cb2ade6481177fc918d5fcd75af10267199ebf1aec72dbdc525c289357d67932f5de90ee3067e1d60989c381b42d025a101b9592f902aa027d1f29d3c3b78956a8cef3405416a1b11572bd2666e8cfd194756f544648329ac779d5ca74d3");
+    builder.add(
+        "8a34aff16e43035b18969a2e6b904fb0",
+        "7f8c2012b1e0aad5f862c54239e50eda",
+        0x69a4c01a403a936fL,
+        "c005dbfcb8d6df7f848c4232fdba5e7979b9d79197cd09588732f30f9c22817b4b1d3e80d8a0559b1ed8856139cdb7e98a0f15440095a7def96aa3bbfac23c5a7741a0f2e404ef7353ea2bb1705bae368e675d397cdf1840daf949508964884f0b288c4547503c6c9ca524111ee77b4d6cc6b9d11c33120702bd0ff7269b92d156a84a5a43c5b5971eb88610eac760077968d5997fee8d8e2a0bbf2264539e9defb68bc6dd428cf0e17aa8fd0513a0e580");
+    builder.add(
+        "5c39516842a11aecd987fe0dcb7f1461",
+        "e861baf16efa20ae1986350145945b76",
+        0x7ab9e0dc7614d232L,
+        "f410b6278d01452f17204bfc5c1fe6747fbc422380c5c47088b1ef0d838d34f162b37dfa5f6121ef4451f921f0bbd5e799fa1eb19b086b5fcc6a984d080b2f1883e9e898d639cfadf3a07ef3f1ed403d1c37a3c4562cad0947c412cfb053d276a1bfbabeae073dbcd889aa21812ce45ac63cc740424f8bc36133eef1150e1cb59c6620a38fd4dc02515bfd51d315908e530b6e5a014a4fc34fe5b11486da9d8d9654e7316da6e63aef5d834511a8468c05");
+    builder.add(
+        "f4050e2d3872e4c1851fc5179e0a8116",
+        "e0c140d093643441d35618b7777a63e6",
+        0xc6cbce9b5e4389adL,
+        "96839f104019ba4ad1df788044997d31193c99aa1686895bcf4f130d3a29becaa75d50134613abfba4772340bb263e50fc48ceebe6202e37d0995f64bf67d62176067db6875eb84dbd532924f168e0e1d8f82d5b9977ba1991c832562713a200cec64817862e7b26257ea6769440cdf8babec8ac9fc48b272c60b3e770e7bc48fd33e8b082c39573c16ec219c6a87cc538cc8080307b396ba2e0de72f11c65f45e483c294c4721913823fad33b24300351");
+    builder.add(
+        "18a21c6eb47dfa462fa5ab939f6c3a9d",
+        "30e71ba08682f65851b884e6504c190c",
+        0x96861c4ddaeb956bL,
+        "4314134ff535ba2de359c68e9d4779b628acb553162ac94f8661d2310e7383d56631e92aca09b052d4efc4a9f56c245f36df4037ab4a72001f1d1e9e620799f2215e0a2ff701a5bff8a9707535631982ddbfa9e6270ca5afe2390ebb8aa4fce824c1de45b084f63234cec5ae78c6e89b22bfc716f9ca919ff0bacbc210354dcdf5e584d49dd5e1a0bac2e0bc7b458b5239b23fca4e8fd4a1b467d7c10cb1f0c33b8175cf085b375296380d60a511bfebd1");
+    builder.add(
+        "3c3fce12144575695a145ea4c9a9e901",
+        "f3e6ea9996145e6e1573c24a981dcdba",
+        0x2c3874f0161021daL,
+        "2b7aca9f34cd17f50ee7e175fbd0f4c2d0d93a625903695b9d508be725b727455ad6868fe106e043941dfce77bcdc1820e57965f8fa760317ff294603ba27584a193da5a64b100fbca5111e7dcb1edd38125c3626340661b781eed87d3a9e9fbd7b32e1047dc82f2f76c7e9a12f0b46a2df0c7d2d5ce8501cae4145775534201d1fc114e15f9dece7390940adc32ec548e72bfa3e8c4ee4aba5a6e642864e007970017a47e13479b44d14dfdf61a7cf917");
+    builder.add(
+        "7d26628520be49c1b6f46d907766c3cf",
+        "cd127083c136077db16812dbdf9e6ec6",
+        0x163f123b50f3360aL,
+        "73529f780aedafeac504b306c0835a76651db7ae4b460c2b94207ac08b70e30b63b82b34a872be7980fc019cf69605bf95270340ea1e48456df027c4a8d5cfb1c3c0af0c6b4203838a5b54f5a82412e83a8162f980b31a328384712befa9b589d5e3367fba8bd2dad901f7ce2b2291b97657839373d0ca153989648b43af5d4954d0f355ab48b249a3f86dccd3863e1c14730ecd1a999b8817cc4a031e95e47afbda156735818a464892a513a59c397d3abc");
+    builder.add(
+        "9c91b60780de44cf93377555f0171269",
+        "cc6c3f011da81f86ed08d42674c41399",
+        0x712e6d4898ea1d68L,
+        "3a9978a24af41b1343d96e7d917bac95c0755b3113793f478d2a4779c868b79756c4a1d4c216bc300f390cb991faed1eb9a35c37845f6dc7ee2e25a271e4575d6ea0944ee8a24dbb28f06e781996fbdd6e625c3e62a03e0cdd503c95b1e190ca5f118c099a2ddd6dbd25f137dee66b5c8879362cb0e8fde0661d52f773bc82e1d506d7ca95bde12e7f7e09145d9ee4bba3f200af5a47040f8909d5a9241e09f2297d602fb5c345837b75b139cc01c479f125");
+    builder.add(
+        "9a885fdeedeff5aab5df23e6b089a36d",
+        "9489a306211e39750d20d253a8505e3e",
+        0xfab80a633777b45bL,
+        "89655f334611f19be3e925ce543470da83ba6a2ca5093d66962370a36a9203d926ed31fa39cfc466529a08ca80ab5956108e36e9845391a2c10cfdc22675e98257f90f77f983190529242654a1c3fcf59fdbe415a30721447bc78b91b563247a05ef12f0cc31d3155f6f245fcec119a04170a964d4255ee5b5a5570940b675e595424d50eb36825d496ac3a9680b7e6f00b27a41a3211619c611488a076a7c7934fbb933a79fc9e4b654d976dd440fa133e9");
+    builder.add(
+        "2f54bd132027d57b16cdc75e2ab23915",
+        "afb8fbdf3024b0c1de69e66b843c3202",
+        0x9f022f96eb096a8eL,
+        "51db6f58d2c7daddb3816168198c23ff38a84f752cf7024b0fcee0296078b3310ebce48fbbc4b066a4d422c15e24f0fad400c928736c25bb739310ccae78d70a7d64784864d7e561f5206bd937b3f5c0d8431a8d23a04b3a7fdadee1ddb5dd9cea0e7807cf5ef14c6e72b7c7a97ee1ac2198beba62853bf587673f61b2cf7eb345acd8e4bd1d7e2d1c8f00cced5ed703ece8616efb7870fa597ec00fed8bf1f2af34aedef8b394098357b2307a02328946f5");
+    builder.add(
+        "24e42613b35a1fdeac3395ecac723351",
+        "bb167c2a3d68dbf0eda5240bab7dd795",
+        0x646d6c0a602a7f79L,
+        "4becfbcf3382b9a9bc2347fbfd2c66c356c31e00a29b66b349dfac6bf5f5d9643712bb7b0f9a27a75cc084dd15fec44b136959627a8ea22eefa4fd32d2990d6afd6bb14348c7331a979ab720708b8322dff8e555498c2639c4aab1ecb67031e25c34019f3b8b3a9219c08c58e1eb2a5008e5c048d6e855dde801c6e839c88f9837c65d7212a63fabc774e26916326c49aabbd81906ebfd97d81c3bf9879060ad0fce729febaf8dc59473bc86d02192eea53d");
+    builder.add(
+        "7c2d11d8ac8d0f7b53ce3a419c768d91",
+        "af560285a3f36af78ddcf1e74377f240",
+        0xd93e7b3f501f8a01L,
+        "60f06e3c741a25c593c3c4f337383460399664c3f33cac02337c759baeb4254b2a5e6929688fa0d442f614a4eadeb6c3e059a9555b1e7610b95b5da6e7b68b2664ec44cd6a6b6367d4a78aceb52c46dda0c25923e408120f9162dcd7847cfc192fe1ee9e3e190ec4ccb6f8f56f4aa4a2bf8a67287b2d8ce111d11d7878def6a1a6b670c16fddf6740285f98d42487c1860c51b3e10932472127807847f2fd6c2865f2b9ad4cc6c7622c57c5897359064b9a8");
+    builder.add(
+        "f99d3d2520a2f01cbce2e3396d7f1c7b",
+        "b09c6d86e20d59075baed20a1104c585",
+        0xdd156a97ebb9ff9eL,
+        "52f6940fc25359eead91c24ad1eb830ebaf39e82ea8456c52c6014e275d6223b71d6ae9391c2de435457b38a03721841f7d0944cfcee1d9b04ed6c14393984b8da8e9fccf7cc463d95f29a7f0c6f9af076e8fa2bd021483d35733b2b94b714c2000728dbf3f6eb43122c691687ec238eeba431a7e84c495cc7248c0817e5034d1dc372b814567c27ca146c37f9f61056db7d3fa8fb8067f6fa00809728bea4ecfb4a4a625d25cca4dc5d4b21b2d8f8ec78b4");
+    builder.add(
+        "47c801f0ebd358e4eda5ab8303ee32d7",
+        "1ece2f29a0536f07d447cb6510cfc625",
+        0xc534aec271be87feL,
+        "0738c1b1ea97a9354f4a0f777ea9b72b9be023aaa708ba837da99b6b52e9839163965133b663420caa2ad2569df54e63f019aeef50c6ff66d6cdf62ee62c0e033fb8169c3fef216fe43264fb1a95d240f14cd4e2e33007984e6cdb28d07d64709d88bcab137b0a2521da537aa0d8f3a52bcf855d1b10597eaf1d2e91ff454c8437fcbab69b40921fd4835005af40716c71fd23738bdc7e6526d098819446087d074c38dc6e9580de7f1c5ad40b645295f6d3");
+    builder.add(
+        "b18bdb689f03b8f4519ff23756a3e646",
+        "1646720de710ca11a6cb3bd05dad7ae7",
+        0x0ae6e27b0958ab03L,
+        "62fbe1e0be4fefdf2bf350c45c24f47dd00c900764fe38d3e5ab107583746cddb8ff9c04313bf18292a3da82af04741e3899ed612f6d69d13761b27373113040a90f930632ea96bbcb0fcd39622261ce2d8a91da7debbbe93f4427774ffb37b9f3c22e0b7f22630dc7b09352c3cdfe8ebe5003ddab9c7b3ddc7ab1d03cdf200095a6dd215f9a955be2c5e1792c2667744a3f4ff10baef64b656771fcfb2ae2fc96cd7ccb78391e71219ed97c7bd8837aa953");
+    builder.add(
+        "306762003b50fd8f8369f004c52d28f4",
+        "a9ef4365a385502dbd832a7180f0f802",
+        0x37a13caf1da3e02dL,
+        "7a7118ee8cc82624de86cdab3d6569892e11b9ddb6138ba213796020da6b52063ecf3d94a83abd944f55b10408ef9220930df7fbf0ad4240b39e4730af88e099b0803f9eaeee2b439886481b07d8fef081dba85746e3abbfac8a0cda0492b00b917b9740ee03211b0de3c1d61741e80650e0c34c46db3858e0c71e8341d07f2660d4250d490c81bb352c5730b71fb94652c99c2714773db9c1f408587d0b48ec02df9df99c038f48f0c68a21404180506f41");
+    builder.add(
+        "17c99cc3d0e45a3886e840bf2041439b",
+        "015f3f7d1119bf5f356df26b5fa09786",
+        0xe25fcebe996f23bcL,
+        "0c1a440abc273ea484051207e8f5bace3e6f96246c17d40b8b2ef4ffd6adbe8af54bdb98f0338c45928caef2bd88002258d77c8cc8ead2c2e94f238225a1246d5b102bbe734e36a0d62c42bfef93b1e28de33710d5d5d5bdf7bf4bd25035a2c59044fc4aa4d24e33a892bca95e0754c616666eb58596bfebb19737737e1df2223bc7be2e0ff5772d3b23481513c3a6875451403a433bf0d2f030b6fcad94d0a4b15718fad29fd5fe20acac8b25aba2d9d843af");
+    builder.add(
+        "fda11e8c996276f993b0c40604402ab4",
+        "53cc4949c0ed5dafc87bb731d9560322",
+        0xeb9b972211ecf046L,
+        "5d9aa97acc9242a5f828cb97ffd52d2f2ff4ba58fca11be0abdefa47c88837b0a4731c6fad3b100e864b10d038649d94b069fc98087d5f8d7cb6993e291de3183b4c43ccf8cb99d8fcdef61c1e37097656caa1cc6b6764d0039991e457136b9841f93e8c2697f469a065f567ec27614017d2ee8486c3fca1d6596034fef02b9da029fc33577a3f5ee71441b5d7b143976058d88c1c736e9e89a8dc0f9a3aa92110bf2323eae0744e4e482a2cad7f63090b530c");
+    builder.add(
+        "caa87d2f1798bab4bd5c594d84ae2baa",
+        "93c774a439406765f9f194a927f0447f",
+        0xd9c097a44cdf6236L,
+        "5f3b06a67eee6cc118c8b38a4f9a7b616e400332814b48ea586a8d188247c36f668b08baa962017461d128060b31e5b8a329b99186380f2ecc9431fc16779ed4a17613cd66f06765914ac0630b5feb81ab68c729ddeded9c370d4e5dda3fc787337084602d40b9cca5720983a0ffe32270fe0068d0c5d5f3b0a0cf90d23199ac6b8b0c0c1bcde26c1e13f56c98a4c70dff73d06eea6c99ee6697ba642aa69a50b5b6b389c4fa0335700d49d3ddb3fe72f5c4ec");
+    builder.add(
+        "f46564761e72127522ebc3701d249977",
+        "d63c6609c0db4a0c50cd7b5328b9b42e",
+        0x1454f89e741858e1L,
+        "fd8dff5bbdf94423b35d4f8dee7b60e4ccae6c7ba476ba99089d45ec56e5c6b200e3b8215d9e3fd38a35b49dff0f1caef91112565211ad581b9729f26e7463d7db46c31adb1d10b8456b8ecba12d27ee2c2f281c44691433a69a7c2e2a32e814c0800bc31fc934810e6057ade42288a177b51f46be22cb82a84e739a6ad1a2f80a7683ae901aff8b5016c2c2ec8d64cc1fcceeb5e2fa452ee46e07bdb49e64e69cf6e795d2f2f4cbbbbf2c30d4ded77b3bc173");
+    builder.add(
+        "61e2319a9bcd0bd60aa1fa3d741d0764",
+        "a3d7b43a368c16190b3fcee698333498",
+        0x5da235adc65f66fcL,
+        "333f6c9afb708c16dcee86f0b460e4d2811d45a374a7634c98532e7333bd157a25de220a82a37663fcef1fc7dac25052b935d7edc737c9895761b1ddf5ac94ba0753d78fe8bcbe3d2dbd4513a0ad1bce577963cb2f198b7b054e47ad6a861293544015148cae2700c99dad6f4ceb9cb937d173ad6c3dc4e8b432c436e40bf39224aff572c462358b6ca549fd7942c710a90487b1ae243d2c41447ac70d170d3f60a60ec919f813944aa274b63696b0029763f0");
+    builder.add(
+        "6ba814a01b694f6b59c4509b836f4e65",
+        "76d930a5142264df259dae7764685b09",
+        0x9f1e8127ff1938adL,
+        "079cfd84e45f53de06bc2836f73ac2018a29270c2fb7781722580f722724a7101da719f3f1674db90c9e654f4b04be7b67c17ddcfb00ce2c7a378fa3030a314b08d77ae98bf3b1b803cb0d6feb31bc62bf93bfcdeeae42bb4be0cecac4d1b3d7e024b65dccab86f1b191074e4cf94522dad7396c392a9feee64f56015066df41bb5c4189c737fb05e66cca3a574702cb5af62d906ed78e0bc9ea2f33c2fcb5e6001d9fa598c7b80bd917aac363a83b80c36ec6");
+    builder.add(
+        "abee40f75b09b01a73098cb257ef7a0f",
+        "e69eaa2f35970756088b998cd2bb059b",
+        0x2c143e67c4b10c86L,
+        "b961fd6123ebb52eaf96123334cb8482dc9a8c71337e2fc9c3eda80a558fb55eb651ddcb038c84494a878a1c586e21fba5dcb08ecbed966baaf6e19049edb733f8dd1caa39a683a5d24924161cbb58643307c56f99138bd05eac46a44cdd9a45e0602fa05cdeefcbe484ea4cb4e341b24854335f552dd5248d68852d35acc7fa0e19e9571ef22767bfd171c533f506b9c0aa61f3c83dea2a32726f2d376eef5f83145400e08df38848887e0fb90044f6103a30");
+    builder.add(
+        "3ec9aa99b4d4af9476f2dae03cd5803d",
+        "7f672ddd929aa9b96f3e50663216f702",
+        0x29c8801114d070c2L,
+        "be176f1af11caae0230848a7adaf3801aa7382a4427c46b5222089fa832a4de10c7ad78b571983b73561526790cc0b2809a10e2830293990ea6615b755927907b082c01522f30c0d57179244a43cbeb0f256cfc3de9a02c52911ad571782f7ed68f047412f970aa226d41053ae44fe32f39bbb0c7483105c93bfea9b064404fffd1388c7e4864b0ca92ecea6db1b89fdb1238d4ce1f73c1a10f200b6472935695ffe70bc33fc0df23dca5abcd0d9eb4b716bae");
+    builder.add(
+        "d6b90d00497d29c1938586b6c3385ce9",
+        "8e351ceb349034bc6a05991cbc7cb61d",
+        0xd087098a8a2adb23L,
+        "8d1f446adb6ede9b01d116092981679642e09c1ef4dbc3a6553214cccd2ef3ee30245358f48da9fa6539b7fece5501a656d99ad6a00a0974df0844b88dc33287c31673c448085ff76f039c7411576771640ab7fc9ddd73bf7fcb9561f9ed22294b797f86000cccdc5639ccc0ea3b164316335a8812ed81a59184e4d36d5a0f0c8cac0edee1af69e4eeb20cbd931fe1c48dcefb44834534f4b264af0b8c3bd9ae3fe8b68ce446789c3940f6076ecac9358ba285");
+    builder.add(
+        "43280ec331ed991eae7c35ee7ceb7fbd",
+        "7cba9bc60e4b400e7a51552fe434cf36",
+        0xe253eea82590f904L,
+        "ae998ab1006f19a4291c4f029b2a1d811324156dac156de1f484ea100531fd4f9f85462708071b5e2a9b6b20de7ce6a81a4321469a16e3e5f83e2d89e6aca1b0e96846e0091ddbd0f8b6a77b22508c1461dffd2362f00e95c65e97b5c5cfa7a580d89e93b66fb3dfeff5b686bd60454ee5897ef49dc0a4884278b9406698a5d1f2d3ae2d31f27b1fbe2be1479cd57791bc8b95a897d849673d0b6d8f3784f3d13f5e52b703b92bfaca0eb39bbe985ecd62bca3");
+    builder.add(
+        "7e524de26aeb9bbb1b85815c615641cf",
+        "788a7f73e0108795646638dcda09073d",
+        0x55c098a5da74c422L,
+        "7735d11ad96e61415cbc94b0656cf44e181e25271b07afe36109ac60b4bb60999e0231c55e81d77397d59161da496fec2e5ca5765351525efebc4edeabc170b9c1a69526ff1f4b57a4e50ec15a181abbf1a65464d350aa2fc9a018cb936f0f773bcc946ee5710defc6bb1984b97f4619914ce109a2e0b039dc9f162d33e05feef99b856c021742dc5f48f335f8b0ed1d110d2e7966139bdbf2d7b5cd3f508dd41b5d06b0b2cb6e0277cfc65ad81de0442ad30700");
+    builder.add(
+        "ce84b015c2ef8ab931bc59639f189fee",
+        "ad64bf26c8c021fb0f3bbfa49da63458",
+        0xf6069fe087e41a48L,
+        "c48733b46fa1438b0fe07618cb810eb0674113297e187da4218fa232e4b375057d49951107b1a4308d1b2bc961178eb5ce3e5bcb8343642659a3459f032ac05dea1eb470db767bd2068d01965aa09f695c9c48748229d5d36b4a1ea70d30f57cfdc20b3474e65026382afd3711cfffb34b1a0e556f64dd731cfe3ccc0f908cf519940cd03b42a9114cf08e8ea64dfa78cf55589a75eaee63fc8222c8b6bf2170498ba287f9b7206fd2cbe0805c244a821bf4667b");
+    builder.add(
+        "150945dbc56bca199be9049af1762c77",
+        "d7893b57cb310663926dc252a8d9b157",
+        0xd7270bab1014c95aL,
+        "4c22b7d25c75824cb0be3a5899e67a105f3f92748a5221bebd6db591d6746991d231bc4c20d3c21764953c5fb603a3da6294e043b8995fe4630d335f273779c66197db69a0fd27b4b8903304b273aa9e0d3c7f7eebac233ce812ea4f291b08764f3995c6fba628b2134e4941a7a4dcc386a345e6896ba0eeb2eb86ab41e7fe04f1c4a3a7cba8f4104d095819395a130e32ff5b3a5c42e4fe959cb9cdb2010a20cb42c3f600e972a4ea5d35a3e6c6a378d0c65d5a");
+    builder.add(
+        "7c42651879ec7af1b74dd2d049a0473a",
+        "46bb6fc458a4e9f29ef57e46ca7af320",
+        0xce8a5b8fc1f49157L,
+        "60bb6495af14a5632642ec699d8bca43a9e77a91a696b27152d60b58e2f192b4847e851b71eceb993c17444a336f417dce243c6ca3700edf480dde97fb173f81d3020866abd3e8a00df3b9a393eddbdcd4744ab72c8cefbbfe3ce531ae6cfe62f0aa247218039031eef19cbf6e2a0ea6d927002bbf668c600889dad08c23782ae50315f186c4ed3c2edea767af1e8486c4313cf4f845253f6908e02737226357d5202c9a15d28e21ab380d97237ee8d9649d251d");
+    builder.add(
+        "4b346acc8c96f8b945dfcf665ce8c804",
+        "c042f7298e540840089ff19c6c8b9a77",
+        0x1cf9302fe2ed3959L,
+        "6de3e2d582e674237f2cbffbdef7ad8afa52946e73d27c87845c37ddabe3a73aca2f9c59e50ae9c261818e0e7c2f903884fe366bce56285d37074050a4de5ca779d8bae0cfad2250c2841a55898da134a2a6facf1b9b050046ccad66a823c56b833dae6be629be9fc0381e066e3f5aa65f52a25fe1235fc2dec52e7cb34d558cd89070f07a09d85eedbacef6dd3ec9a6981c4ec0b64139463f711baa3447da65f5b73ea99c26a357417256c60b4e5c986231c9ae");
+    builder.add(
+        "5029cddda437d15a983c4f231fe3eef2",
+        "ec938260bb6b7ed1ecde42ae5eb014af",
+        0x0f028123cd5d8fbcL,
+        "53f032f84e7257941ec3447bb034e98f9de091d3a3e7c622250314aa23b4e9f31bd4ddfc5734f46d739cdaa6858f86f71a234b3515eafdd17d1d47dfbf2b0e74e2958be8d495b950d3047318218ab8fe3803a23c8e866f7c89961ac6a6de3869535f359e1f6c7b63b8195ed6b166ee242f71c70399359f154d8e62e1fe3d3d7636498a619f2c359bb785c494652d63a477380ac32edf84f826dac94086064468db6b12e41ab59c322d2964fe383dbcecb688679f");
+    builder.add(
+        "a0a7f6d382180db6c7b569eb7ba958e0",
+        "d426b4b5a55f5adfd3a10a69e4a27cde",
+        0x040c498472e1cf04L,
+        "4101fb53f122b465fcfcab3f8060a90c6762b18bb6fc89a52ca319cbf24935a39179fd180491d4035d90880ee69b17f0afe5729a4175cf389ba0ff40834590ba3e8423a72db73f40f168156fc91bf8580c52b4c767b5aaaba22217d2fcd0d5f453aa538a2f8b7434ed1571d058efa85c62c86b7e229bf3ce004923408076555157b3f02b74522726cc161931bd1cb3bf7b9b70ab4e93740ac45f2ab71b8f69e39c8e36d67161a6a8af5aa4a52bfbe7271a5a6be4");
+    builder.add(
+        "47c42fc1d618ef9212d021e1693d8ab5",
+        "d18f07d2886a4b3258227f4e39b8df94",
+        0xdb384987b6664827L,
+        "8183a7a2f6dc999c02c43216dd60a3a5e59a23db25861be31df85601e3f702a66cd971682670b5e018a1a13bdd0d28d2d2a5d85db743565c1c5faf8c4cc63d82c9d476891288cc47929825c01997a07f52a2b3c5ae1ef14bff16cc9a3db349fd4bfe9860c5d670d392f3a8c86c0af750724ea1c8984288183377afe5ee35700c215a6c6faf1fece576eb6056174ef8e3810b51981c27830106c9ca78c8d82bc3c15c5f1bfad626bded6d3c748a0a08942bee2ce2");
+    builder.add(
+        "5a79dda7b2c4927277c5557a5927313d",
+        "fca197d84ef5a53f5011516dff14d227",
+        0x22cc08c94d4b01d1L,
+        "613601501b35f9bd1bfa4e44802c206cc9d0fc0d2bdda9be8d84ed1a85fc2022e74c9ac0c15450e3587a2241976e0a4e1b01383df69676ea23068d76a6142f20aa9cf0b930fb3c803ec8432fb9b5a99e714488055761c3141b2a4e162f500aece0c456ee8a238d97aadad8dea4a193d380a9fe9552d5f97f10fbb74b3422f2b92bc2f5ae19625c3fb6a49e7fae84cd9e1f4d1b66538f0129574841ce7ca3a81ddb40612ea8edff562f4c2c93aa962088043a3d8f");
+    builder.add(
+        "1f9d920f2060c6cc4d2a9bf106fb2dad",
+        "46020f516ffc910c1d86d83a013324f7",
+        0xd81c40cc62cf86c6L,
+        "5f732b642737cc218585e4f82d90764de3a561e6eb83c83d557089c56503f7b4670a94bde22409353efbe71c70fae59400f4c6550b3b8d3787557e38485b116e84b19b96e754e9a592c437a36d185c714dfb24ae64c540524369c0748e02771f04ecfaa5b183b74f59203ddfa39be4f695e530dccbe451c45fb4a1d2d7f2e01c1654b4741111d99503c7c12b86cec905056d8f6136eed9df2eabe2816c2035939fbc7bcf83e7d804009e569a28f6133338ac3b7a");
+    builder.add(
+        "426c6e5a9159937e5120f715a0de0308",
+        "81522fc9d12e68c451777c195d9bafea",
+        0x02b6f82da8fffdeeL,
+        "170fba4a92fe6622f0c72458aa7d53b0774dbee481efd2ef226120182138b37286854a967bd303cd9629f4d49601f479816eda3e3803d6998d9e6c3a9160cabc2feb3580e53e9581b5179b67b37c7bcbecd164f9305458abe4d2c973a9814d263bc8b4592912997cfb63889144a5cd903e667cdf37aad2d642d9094a5df9be995650e8922088b9acd4a8ac5d908f2f45b26dfe86610e8455856235e3d5e9833c7fc4ee3970ba76fb4e461515fc253f3e036ae64127");
+    builder.add(
+        "7d82f380c7e3225bf9e7f1ef097ce5ab",
+        "8a963dbbe11b307ca4775326bf33c921",
+        0xa2b147fa7b048f5dL,
+        "5a3d21fb4264b6a400464ea215465f4def4fd96643756000c416de40b3d2d0a50ec5374c03074a834f1db47210a291988b8f2cd751748cb9bf6e3b0cd8153aafe05d12a46dfc71fd47297b0cebc9adb79e27ddb9e639dded723f7d3d1683c9b7ee3a2d4daa1a0285ac5213f0d8f5032f2bf9c91ef2b64d1770ce4dd5d18d34a6ee7b3ffaa8fa6e95162ccd5bb1c95fa8fe7b42d4b3069c16aba60340474a74f44ba3b3ff97ec66400b3a73c45eaeed878a5f64f5c3");
+    builder.add(
+        "8cf3c073f8271382d60193a6c73eac42",
+        "0451c38372b9d67384fab31868b60dc9",
+        0x35948e02cb0bd8feL,
+        "5d595761b1279e7b7d75d805b9465b94e4d367ab5325e232a62e2c0fc6db08f1f83580f1e5236f84efe205012635bec56e2c536bdba45d3edd5398ec19e0faad3ead2df88acec9bf4f0cef7200b7c2ad1e09af450c6d318fa70d1cbba3f36be1456c1b51b91e627b1387f7f6f48c765755cf92ac5e0fe22d03823606a97cf73e860df887a8cd3ff7662866a7ae0f6b2f4cf8c8a1a34056de690bc1245268c0aca09c32d4864ff4d66df642b27f5ad3e02f4f2312ea");
+    builder.add(
+        "0bb63ee2cc3500287adaed7fbe324b99",
+        "6b7b9d83fabc5626c4960ddded4f0aeb",
+        0xcd134dca080a8363L,
+        "70d276b6ceb5888fdbdb5ce98bbf96b481c024f4e06d9dc7184ac2815258ecafbe794b56f74c7101324dff1384e3326d23865f93142cbc3c55409fa9bc9a62044a970db17bb315ae3f5b4dcdf82c2093a437d8d4aa473f410cb615260a38c7f9f0509bf71d0911679139c949db1ef5b88e0eaf4a01444797bafbf17362a4fefecd14845897175f7774a087add4ead477489510c0035002ee0e2f5cd89083d71fd56ce0579668c39dff38d90ffb89dd384417fa8c26");
+    builder.add(
+        "db6009c997b6413b4c5d9e145d6e7858",
+        "4899e68eb00b25fd23d6b6b29ab74c63",
+        0x9252079c5107af33L,
+        "8893314eae6c49d54f7f331f7d8dd6db7a30c3d4c72607bb992f7416a280399b0a827f7e7aca161fff5cf06b21f6446d3f8d749e82f07691863ca74b6387ee74ece7b34f6fd99beb2a5d50d3d975a4d1a9a1a08008c69c1a96c9fa2bb1381afc02e103286b340297aabe9a27abee4a5e3be9d3c3fcecda8193a3d71ba5db4b079b2bdc80887679d2167e1b7b46a8f6b150a7758ebb4712acd386a75f7dcecc7d43f9e12eb04ec13a45eeedc2ba6414a99bdc20dcd7");
+    builder.add(
+        "50860bcdd3344e0d6d859f36f35060c5",
+        "8751d384509724970424a02a189f2cf7",
+        0x306a52ef9edc364fL,
+        "f3f0c7377fc5eeb8fd5bcf6e12ef75172ca44bdc7f73b455c4b63657ca6414f6760a32130864139f87c5e4771a8f370aa1d3bc7c31d1ef66a90dcbc8eac7a1a970767a5fb9dbc7c4c2907c032e697a63f0cd53932e93fc2f7087bbccd2a811efc43cc07d138415bdb11bc8e6bcb3603698763c2697df614160dd6c0e8b7913d24b793b9e45be7fab65671a0a01c122cd392a51aed4da79b14db2fc9df579d41ba12956fac08b7fc80ad3c9c1e4958def3d87f0bb22");
+    builder.add(
+        "8922daf7cee02b0f8399020477609ed5",
+        "c0260dfe619fcbfc72434d351fa19b55",
+        0xe35b514aef063ed8L,
+        "d4a5a28fabf5d12cf6d1a85e2dd3c81662cd399e301f49dbcc5682c9c769c0047eea6df4c721aa99c1da96f11482215a49dcc1ea882910bdb40b6e5e7380a8b18c63eed9f88d52fec927f308bc2a641b698f8dc20c96260fc3a7203c0e6a3fabaaf23b48bad0748121dd0a1d4f7b26cc09f242c8e6f1c40fdac8ac755cd906dc50674ad1b56a27002e5c36ac62355e881551e524921c7b19c46aacabf0c64f7ef89d7c0adde6814d8b34c9e5b1784c55ce2ed7631c");
+    builder.add(
+        "1cc7661035a6378e57703ed5e7e56c58",
+        "9220b3827d30fb250ed3255f9c279394",
+        0x021386fdb59eff2bL,
+        "1b67d5c273777a52a59e6b41dfd50d4e777428e207b5ad1474292576fe9e3c40b4320b5ecbb479db164e4fe64288e40b5fbcf226cf87a263de1bf1d21d8d6e44d78d08a21341831e1ecfa2c270e5003070581e1c78cb5314d2ca4b750213d253dd2484b763bcf7e631abd31bed0e4f2df2cbd48c1e3159e08cbdd9e302b45c6cccca2c38015d0c6d848ccc5106f4b19d964592197870fe9f7dd5aea0f200e126e3aa2af687531ca7933fed10605b358f8d64269048");
+    builder.add(
+        "c648caf6236aec68e2670e3574ea40e9",
+        "a37d7bd6ca33cb98c5fdcb265c0e45b8",
+        0x383578d3be989447L,
+        "10311c7615ec6cdaa9bf6c9306a7621b40d2867ad512f59d36b55a04e24f2c431725a468a7399dca8a580a30a3a79b8e88f4104b95e2cc56b1aa2bd37d3a3f70c7cab898f3e133f8f52a783803e43bcc4b092830cfe7defb54aa76cf5f789d1962c35fc6161a3d6e7702eb0763741c9e956ddb0f107671ae564b1952e196b3857584bd9b0cb0f75dabee7ae89105c4b5d594de72775070f24a53a321aa95bb670e81579948f4459fa5a0ffdfa02724df380705e1e6");
+    builder.add(
+        "dce20fc71089de37071738b690789284",
+        "12dc1449a8f1b153f42daf49fbe6f16d",
+        0x460035aa30f55ba5L,
+        "9319ad61b09a8859d7ecea44d6583c877142caea60e01cf5fd4d542f663b4bc8d227cab44451f0ad138c3211886639e6c237873db601727024fbcb9741fd18157b79f802c99822133d13eaf875d9eb5ca2c63bf455c8db854a07d56eb9d05a93d3a59d75cc00a5025e125f5e376071917308396f73dc9e75282223fca38323660e2fc77750c1fe7dd1baf80a9b5b3796964868340b5a53f897f4acf2b5d6bc856a096ef263549d9fcb5bc39261fd8a2ca6b08086ee");
+    builder.add(
+        "6d9831c9294ddb79a71ca883002a3aec",
+        "466eea0ab59cad41a93f29dfe4d934df",
+        0xb34be27378ed364aL,
+        "600179355b933dae142697389d53379cd348b5f1019472b642dcb86a1da27c78b205e5b7da461870ea083d05695318e5526a5f0fbad1fb128073f4d87c1efc8400fb6b38e07ac06e68e630f6cf9f90a32d6fc78fa6c7827bb95dfa37d2850b46aedad82203c6e5afc3a29749d191aa17351059e500e573821eaa594ca13b23a3aa9cebac277ce1a64ac3d1a1da4ecf855fdda0fd3e3bbb5684bc38bd884a4caecbb76239ad1c80f53e248aa798af5d0f1d2fca782514");
+    builder.add(
+        "13ac4f395179d49e36aabdfa9c1461dc",
+        "691c65e3ea350dd5d65c610d16a6620f",
+        0x8125c9e1f712c45aL,
+        "664e58b28536f44c539a5f672438c2a91af9651b874f535738d809a0d98dd86463722b6ac4db83147edcd2aba18fc89caf54544beedde0fa66e461b3c397f4b6de2d8cd244938a780e29748d1c0adc30fe11e7b5210527f6902b4270889649e2438d9236b152945c2d25f18a7a4dfb8e6a8826c8e389d731450066f97570767f09698667235909d3e0afc76da38483b0f6644b2d31a3a96414c0c25b48577c15368114440aab8034778b77484a0f1a2036b87222ef89");
+    builder.add(
+        "f395e5ccee22c1d417f23f294c71070b",
+        "84240f7a67dcc94a3e02c19d2561cf71",
+        0xba1df246a394d261L,
+        "739aa5a3431541e008a16ff85997fd2051404ef379ae2cdb1d2596ae57700fe5fff05381dd91db6575abcb426894dcd1632b21d4258a5617d99340500ad24f2da6ab3d39228a4d92c1d8567a549f1c5f6e466337a793eefa2cfc993914bcf19bc883e31a0f092484a15ba4bbe02bf7f68e35e6303d46f3558f1f3dd5e1b130e03f183ac62a6cecaa4daa17fdbd7954a8c2f5945474c6368cd58154aa8f96eb43187913238cc001678f7821c32d6cff5f097a29dfb351");
+    builder.add(
+        "917ee8cf23a2576fcb1c92da80e45b65",
+        "5ee556cb80116859706378e5b08ddd17",
+        0x6e11fe3ad069b69aL,
+        "4e232ad8f60c1f7073c091562dc48ad656c299d57cb197441d79704f8ceb3da392943e63503c3c92f95aaab506b83b65f198fbd9f0ad837b70021c0f3f649972cad4e7b263ecea974031b2b80f048d517f53602e534fb87198cce84da5a45bdcc0f0ac5d948f6e019ad434b4abaa9d1810f45778c04496741f63366268d217ac80e716c6a4bc98fa5f8cb40e93ef9f9bd3921167e0d360e239ae8c4c08384b256010fc9a9bb60c3532e2cfa06c88efe1ace68a89db0d");
+    builder.add(
+        "b4e1fe7ce336394529678d487f7ddea6",
+        "a6dcc629e0e0598fba98a3bed27b15ba",
+        0x19e5a72e49b3481cL,
+        "b712460311e8b64c2f0dacc31a47b67b078b3fc7f83823ced708bce02db8a0cfcdef408485173cac478f195083cb395f3403c73e132b8e0e2f6a29c44ea51063c5eed2511097d40b4ddc9b1eba6ad33b3ad58399eaa4f5a1318a6fa82af99eeae3023e0abd7f49372f0fcb72ffe461b11d79748b363325861ca07d0dfae3e99ef54218ab438fa706b1b8384344bf39f6505ccd25382257d8bd83cdef679bc9e3e58852120c596d9492bf98d5471e09bf85ac6e544e5b");
+    builder.add(
+        "128d1067d88ec4f06acc1b59e4468c18",
+        "0e28d58ca15a856798f14e275ed5113e",
+        0x713967df4dd506bcL,
+        "03debe51312110ef6010aa19078200b92413c558c04c936d65afb7738f1f1caed88146cbff752a6d585ab72700f956f0a287a29a789e87ea012a507df4b477d796c254fc8cc6833f620f901b038352788179709b8c8a2e4a2f01ea97cfc9f91597a06ee56add524446196d51346c96ae6d13e463244ff0c78ce1ec0101bb43205f5cc3ab9f58bf0786898a2c447f985c1ac61d82491ea8191788d42df66f8fe768f3b86394b275c24d716331550a39127f39673cad83");
+    builder.add(
+        "ebca90f26d20efaaffb456481c929f50",
+        "5e3e166c7f33bc20e73aa76d5e4eff9d",
+        0x4954689bb40d55bfL,
+        "519756f27c2fb0ba988cb5ec08cf4ac2e3cfad5cb371d2ad21226f4418695be6755e640e6d0c967681d9ff519683ddfc30e20bd19fdd2df9a59b3295a2b80bdae6a5e142708569282c64102d19081a8404e850db767c6a93ea9a6b76aba970d3904152d03690c9e0bc416e049138c0f50cddfed89b3f16840722cb4de2f187923311631acec45873c6897b66b31764558f5d69f324ed24d8e93c45e72f5665ef9f056c2ec0f5171dcd8c9204c7270c92bac37a3038e2");
+    builder.add(
+        "1ce84b59ba42cca283b1a540beac0200",
+        "90da6f35a16e4ea43a3bef924acb142f",
+        0xb4fe8cb6ea59184cL,
+        "d023b2c7560fe5398b27888aefe281be60d3961367b2951c575090bfa6c55b9f9e3f050d55d3bd7240a99f60b48e6f90b03a3761b5d22f90013040a0cb5f491e1fd411af5ccc8c6938cf31d30d1b0ff9d0cc9610af33147e1d2edaff98ac6493c4822dee44f5648940bd70639d9edd6f6851b5deebae34e051c8a6688eb37456c78d14ffc007551cc9199b27c2e45430cc30e4ba0dcbef784939e5f23a9970ac20bfd7c639ae2238728b6657f40485bf21ce54fcbd9d");
+    builder.add(
+        "b4ffbc0e173fb5576d0f62fc6f9b7207",
+        "2c69df297a8eb8bb6aab3046a43a3612",
+        0x94a0db6a22263e51L,
+        "10ea4e7232ff7f4db6c48ad1f7e4c2ba68f96783550a3b35709f799dc3663ad7bb6ee5f3e9003b8bdec6819aac223227473bc2db29314a2fbf76a1da42dfaacfa61c26717b8e74dad03a2e2638682b4fec74439a102fd18c5346fdce9b487cc6d5216dc26223c920ea01c28a8615164d0f6b7ed2eed7534077012ea820925a01386b9a258679a9b43bd6582eea1afac66ecf2cb644f71f584615180bad968b497efab3269ee475f40401e92c6fc10a31b2262e144fde");
+    builder.add(
+        "5f1fe5ec80244d61df54bd5a1c782b3c",
+        "8942683271051a5f51b0668c5f3e38b3",
+        0xa7fc17bf8837d453L,
+        "51a769ab3254a8c9c37cacba0464bfc304b254c6024e2fbcb03c1d0ffcb4edac76cb79bae27700cfb149db9edec163dfd1b02f2bf7a3df7c2aef53a2e32168a1a4ab2d1c96615dec7a9ed177efb23813fa74f7ed39b96a5b021ed92abc7cad138cef310bf699aabf51e922dae55e75c106677ab2d729bc83d0470720e8d60ad8c847d85323f6c3f89110ba959b4c23f07b857826e529922460198d10148f4609f29b02d0cd3ea5d7f55eafdcf34978100a28e814e5f7");
+    builder.add(
+        "c54d9d441d19960c22ed386cb521ea60",
+        "29d36f97bf41d8af53919bc8cb7ec8dd",
+        0x6a706af84a19ddb7L,
+        "b785e73000a7b70f71dae95d52ca34775a748dfd73583b9734e286db9f73fb2414cd2307339f46716ab9fb540a850412254d0b835475d3f8b81dda9bd3da3a2007361d49f82af980d35b4df51b70b8e77b05f44f22ed09702d487a0eacff414ab674f39e9da266ae9c729c664ddaed3c60589616402422f6237e2073949fc8b8e8a301bfecc74dc9f62922b97fde91a9c8d4d3258976b07b4ee5013dd4f2e0bf2c0c457052231d3560dc7956f36c181d53d58e47b6cede");
+    builder.add(
+        "ef8e8890315ec56b87306fb3d388b652",
+        "e23ae96da05ab71f63ad7686f514375b",
+        0xb907f7452fe11890L,
+        "011ee9ee9001b375dc2fc3ed26f9ddc5cfa51311af3c64789a94ffe21f4f9f6542da5606e798f2daeee69c431474faa156cc9db76897578879ba7571e8160cf62e31494608cca33940ea8fb9c0735305c1a7aa5ba0dff9317c132fcccfe93c415e44d75f853e5c781116d6f3bf7b2e43ea2d6aaaa398d5390bf9301a3bf4e5aac0e96cfeb5c19914a25c0b3e23495e68860081a113d9cf43e72b8bce1c7c30d4b89b5da1b8810a38160f3209d4b9988c05a24a5f4594b4");
+    builder.add(
+        "4ae22611975f05c7039cb80b7654ecb4",
+        "bcecc7bb9e14c62c59b95565a1f12a78",
+        0x494adeebaf4d7496L,
+        "9fe889e0f3b31b83986d26af540daf8877b2f851f5a1dac104560bc139270f06a1a7a93b680d64d89a1bd703beb4551b3245a872f02b923038bc7051b548c88662469e07d0ef94736e6146e1ed4b7895206eb2b5e5b2c0294522c482af8264bd3a957539652a966a8d4076919578a52585d1ca84c94dd60df04f2e13879dcbb392dc4c9aefb7c6aa819d54be0a3d8a6404e7cf363c0216821f9652ab428403a460dd70209bc4d37ccf52421cca7511b1713ca19974b0db");
+    builder.add(
+        "46e352742d8fa65bf8cab6dff8180b6c",
+        "8a754a35948f10db10f1bdbfc54cdef0",
+        0xb58ce31001d05403L,
+        "f90ee426b09960b6e0eded2aa9ca47ed87c66f820e02cdaf22b6b1fcb3a82f7525b4d47dd6b8e6f3af46215d39d612082b879bb98ca2c59ace503846a48b6e9a47a4cb61942cea52426823e2bf7ba4119ec9ea3813e361d6cd470e7f062c1b6939667ae3f8dda3573ed5dabbf4511681b6c5211cf46a41461af9343889618530a371363d27095a1b048cee6ee764755f853378d9305675910ce57084b79efd5bdc679a68d2f44b0ed5f8100cb33a571dfc747b0f71416c");
+    builder.add(
+        "9619ce23fe460fb1a350af9b4dd2cf33",
+        "cb02b5cd72bc340302c07930d8786666",
+        0xecfd147518903cccL,
+        "3ab95ff86c06a9c7e4fdbf7bfca86fc393474ce969bdfd72802d3f23050abd54e187b1c1c1a3c60e4d5711ff31803030559e42efcc2060620227ea7a490b36adf270710105ac735afe75aee2c321d235eb0fee28adbc310027be295b1efcd997107170d5d82b16861147f565cc0129c74c7e90b7e73dd39ccc042206a4f272aedbe42b0c44945b3ae33bfc6e050c02f6ef55bd1f046b2228dacb56826d0bd93e9b1c7ddb9b670fdcf710cc00d5cc249446908754845a1f");
+    builder.add(
+        "6f5e5fae3dbe460549129072b2066ca0",
+        "d30a83098e09253957efc62b765c09d8",
+        0x21ae80d7b5eebdbeL,
+        "e4ab4f17ddbc30849c38ca6e5924e91ab4c94486e60248d372a3dfffa6fda58da61f50f24acdc3ce02f3e6cfb59b9a808057dfd19266332a8c1d008ce03fb68c82fda664d0f50699aa5325a5eac1124f54127f179783c5483049ee38899a86e4ba3f826e83e5fd2286f51c2c210570ebb43b9d8ea3a3e78f190c607d50c7c24303262b02f439c053114378619bc21bb0ffb5f5d70f752a75ae2f5fc2503f68a78c281d5f1df1f0b389b89cd1270e45013cced1fdda72c7");
+    builder.add(
+        "2ba6c87e0facd8c1caff19fe52b7b605",
+        "3c2215e8180d2aed7293255f4dad7759",
+        0x18a2f2f57dc08fd7L,
+        "1cb7dd9a5be8ce385e755707f93e27dd97bd0c2f4fa19ba49eb5b5e6503924c687337d3d1eaa2a4825d9e6653bedf64ee867fd43ecc6508d2843f6e1cba147db34f357284ad5416681b77461d72324bc887f51bba04ba335799ac8c50fe39c09ff583d6936edaa8ad174438fa56689b52bad91fab3574fc1ef01ec195fb74e6b737a3d5cbde4268725f76533736bda090c409ca3bf583d8c9fd7329b862a88e29387c1e669a72fe57e4a3ab8560b28a5eeba86f16fa128");
+    builder.add(
+        "fd726089c96cf4efc125c7230e39100c",
+        "0dbff4332eff6dd624badd8172a796d1",
+        0x536e54ea2186c370L,
+        "339dc682e24d77be04e859ce4acb374f9b8d112075005128ea258a514768206628ac5e7b8362b8f54c69dad923870c88cd120831b048d7ffa295d14947e6453e8fecfaa821860eae9d1ecbe9502274c32a5d95a10444151ed2cd9d6f5889cbbb6a40a8c37fc42accf145ab666fdd2630cbcb6721faa3f2640f6a92ffbd050a0c9d8be8e093ac14a4d7a30bd91f2b22b65bac264efee0677337d756af733b96a957f51e0919a5084afb171cd9287716716bf63c51a8f781");
+    builder.add(
+        "a046be689035d61e8150bad9a5c81608",
+        "48d58d25cdb6256d8677d3590dd121c8",
+        0xb8b9bddd847d69ccL,
+        "261d4952f1f735c590d113c29f07bb09a51aea95649091bb9024efe7d90c4c04f13e4cf20a2e0175a84a4f876d3dd966922d9657632ca97ae0f6d77b9357c779f142b1bb3318f11d407f8f264882db3802fc6e080f3f7b7915ed46715ca9115b97c31b92f67bc60595455e5128d4f6b2651c789d79ffbd21832a6a6c57d6b7c4455516a637d59c5395123eebffe668bfad4a1b57e92d76c65cee0ef2787e5149d9a0cd7a623dde282f1898745b2046194667472968de38");
+    builder.add(
+        "2d9bb610d821b388fe196d5d28bb64d4",
+        "3eb5b3135ce9ba11879b0a48d8c08a86",
+        0x29d2eae6f1e2a81eL,
+        "efbaaa13a8613c02a850c641ae94db00285d665f44944d38abaa52c51d4e28cc197d28aca1bf152e18439cbf3c4e1dfcea1a9319b881daa6c53a57247bca7e382ca377adb8e5d7702d53b732ce0943a61b0137b81fcc0e0b639f5321a8eee33d3bad1c280ba980cc14a7b6a75601b9a65c74418447149e5d87c514f0947c981c0c6c2f9a93ad83ce1993f5f0580f73dfd5c561e9f0e8d742e2ebceb55f158755426f0c842bf2f47b3866fd2a36f015036cb4a756c57f4a");
+    builder.add(
+        "dc06ad861da13e328719b7723932f8eb",
+        "2ba66346754a8f840b15a4f49b87b751",
+        0x752f63592e1b33b0L,
+        "1b3af4e5afd7fbb3ab0748c9463f56976c377ec3aec1aaff23b2a14be4063bddd75414f3a5fbb3c232f8647ff4cd37b7985f0c613fac10b7f3e6bb9d26b9a5b3f2a622384cd3adff9dd0aa78da528aee6e7683d101018539f934e7805257f462ae93ef389eab8f76b259dddce11b2d85241a74127dec6180e0b7dd47f1b7fda85df471a76d4f7f5743e0ccfc5feb33033bb95f83d9de81d411105d510da6adecf48f313e95082a3c2de76eee12d37007c2512390f2b6736b");
+    builder.add(
+        "00dea9c6bbbcb74626ff36a4bbfcb6a8",
+        "e76f95b790230e41b4e07228a8ea7874",
+        0x3c6469a14b932146L,
+        "ed9b62657f100d196e288316ec064a5e757c80dc3bc44431db83a13d73227b6b0c0ce444a6867eb3e46dfa6929b5848c50dc4ea8a52c53e4743ea76ca154b08f1e418d66d530254080bdab1a0b1793ac173d6b26695fe28c84bd907d71af7661fc66f6f9c9c0fc7937e9a4e983a2e20f7e7125a47dc8c1cd53b5541dc3342ebfde72709726b4004140b7d1c266f6e0bdecd28da45815211d5c5c4439e79c3fd7cff559efea1f569a26a82e5a4db20583ad8599e5f9d59e24");
+    builder.add(
+        "68868eb07f74bbc516227d2b9388cf9d",
+        "35cd17cd6b448ce51b157aadd0e41385",
+        0x856a67345b7549f7L,
+        "629aa3be1c8558bdd5688708debb3c0730018df6ed910c8c7134f22320dba7c1d9c646f4196c240ff1688bce9d4c03492862e16a48037414b436eeb06922d49462cc85b6d4bc8fa6fea18782559468d66718932fc81b2ce2e8b63d0377ca7afe36d2f865acaabc3e4b3b45921a813cea12a0fa7c6cd4a2862bc0d3f847efd1baed554b7f40408a162c71370158d257b27169dc60cec78354c4ca96fc8801b60315bf18ae425fafb080177a2056c16f72a54da68a4b79bca3");
+    builder.add(
+        "480ce5c5f174890bfcf7378463003428",
+        "9ad4bd893748d01ebfb6fbf3a4246381",
+        0x16d75c812478793dL,
+        "9bd6a97e292c006437ee487d30c42aeb9a7c91e0cc1218acff8a6f73d9f9ffd7459bee6e7696e808d1107d1cad0ec050e68d340ccad62d44388d758f0c6210edb465640c341e91936e919432c1705e706fbfa3b223fbc12f4dfdaca9462d4d5c644e701a652ef663698419d665707d0e1a3f35362cf9a66ca18156ed132d15beaa94341e8e85e8283fc7e2c82a97113089d12da83e860e8c24409d5b0693ca625f9f0a75fc3d1590c3358c0e008137d6b1a549d0a38373f7");
+    builder.add(
+        "9b51e9a534fba4c73b9c2df5e4fcbd7d",
+        "45a8e61c44aa2f0dcbbdee8f74dcd5f5",
+        0x9bfdd9ddec6fadafL,
+        "6115b7a706670d79305c1b28b24a1fef5ef99a87d09c095e210cf7b4db4472c047c07f48a1552c06ce3f55da4eb464a9b241a9aab8f313e4060b63cf31fb10792def87864d6e019bf60f3eb0135443da04acc8c2100bee8282b9861ae3536a039a605da446199479fbf8dde4532fba393f704ed3ed1d307592fdcad67bc11c6bfed89a6a283d662c0f74283a6230318bc7a780d44e4853733401e244a4c0b19da067caf6486e734e97035e36b481869ee481269d31303826");
+    builder.add(
+        "38fed889d3414d845827b3399b780b4b",
+        "d2f6072bff13b45a9068c5bf37455582",
+        0xb0c2fb738fa9765dL,
+        "0249a3c7a7e973fbcb786440f90e9d4f13b37b56fb21f844d284ba5479a48d6b27728f994f4cea82e572300d118c0534df72231321723e0fba4ecd0db811d987f473198665187a204fec66f7d36ac3dbf5bc832e73def196811a6fb43a83f809f27257936f1a5ef10610cbeb363e43aa8b6ff772069331ed315078f9e43e9be5189560519ff2eb2d7c08e92aa6bb69ab781a43caadaa584ca229abd50d695a303c11dd92e211508445e51df0bbc8f061d3f069fcd216e347");
+    builder.add(
+        "0e8b457d4dd64a88ac8b0205c52af032",
+        "6f3c8ddff78b6e757f9e029adcd7ef93",
+        0x86caf7081060bc7aL,
+        "be47ea4b35d2511c8e081843da449b561e9e9c7cc9cce40c4c6ad82fa7008d5bb0fcfc3608b873968dacdc47aa658c058ae40acd029a11fbc1482da92cc181bb93162447026eb44077ca4df948bcdc6868484c720c0d496bbd5dc88a6516f1981120ed767f148da66f86d99a816dd5e7b4e6d8b7b9c767322dad75d2c2cc3883379f72afc45b06bb1b3f01ed5fc8f2102ce187cf94033d35e1192167591c2c7fa6e9ad3dbdd5f3cb7e278592546deb7cd6d0263d358e5029");
+    builder.add(
+        "4d3467e35646e12826fb843a146af076",
+        "cf2fcca6dee4ea559977009ce7888164",
+        0xafd450411b991d1cL,
+        "b2f05c45c9441ab4bc65077e48badf7cc5c14431a543ca450965a9e734ad96ea95dbd1a9ab19bedb1db379b2511ba19658c2f4e7b1080b0c30253afac4960d1931d92a2a16cb121e0a5155b866b111e5ad83f8c6fbfe68c0731194673b605e63045c893c6831087b9fcc35b098803a1b5e1ab91414a57a4538c6b90e3167875db97fb08ae36e0ea943936281107aa1171ff689a8fa414f3b561d7337486549819993a38b049d032777e2cb2e216b3b5f56959ba07c5328d6");
+    builder.add(
+        "b947c9313d1b4102147915653e22db8f",
+        "3a1fe4311af5a0da928df225d42d9634",
+        0xb4486226a198bdd4L,
+        "71d50acc7187c1c4e55279cf7bdf11a6516f9cb798635b97dde279e5071c7f839544e5a3783d23b6afb3e3bbc971fc80ef0811e397f71fc5ab71aea7253a060cabf0435ecf1a834d24262191876bfc353bdc24f998fec90088363de6012857ab5b0de1705bb4b0d9b43a586a4f97fe951246376316f88532373e374b20978f12a50e0eaa40d40917c672f64f1498062dfdb73a4511f08d15d66ab193effaffc0c21db66a2f9d1c6a500af372849586c205bed2f50b6e0912");
+    builder.add(
+        "fd1e4cdd6db67fde6276f1883bc05a33",
+        "49619ddb3cd2a71202bd8578af88e523",
+        0xfbea3fb522789090L,
+        "a8b302e110586b1b008f60d2d077f05ea195e71fe326aa00031f282c7becd3fc5e21aa991608e337f619832e216b608fce6e49de76c5efd3d36af896ea313f94cc190ce2bf88cd55fdd8476c226d1118ead25a4ad69663f06f4440d22ad7f820a434d23e7b76278f9b5c06a2b9eab6267947eda5dbab8b74c29173ea72f8e880e0f8b21bf4dc21b25e314e5f5c4c87b5a51f0263db24bbeec6a713b74c2b2d010570098071e9120608009cc50e3c0c4ce9f454aa88097144");
+    builder.add(
+        "cd8db9abfdce00cb5ca35e4484c4566a",
+        "a98a921d748fc387de2cb8d3b333d1e7",
+        0xd7c064a9bd8d7fadL,
+        "3a66be462531d23e68de682abe5acf468814272430a6f2f6ad83186bbe434db43e9d409077d004e076b8e8173e9aa182705d8582b52fba5bdd9ff6f9fb957862cdf28da2558cddbcf6fa46e5cedbdad0170372e09e23bc507caf42d255fb7e9201163579192ef559fa3ce0a34df85d81f7bdb1b9c0d04e05edaaece1b930133a9bca0997a8328e7a17e29cfad21f655fda9993cc47392ad43448a5680e6b462deb6aec68e0d193faab3cdd438f00e4489b0cca82499cc45abc");
+    builder.add(
+        "b5ff96dd74a0882c3fb5a2c963ac3575",
+        "0a1e7efdbc7d0984a01c830278ff090c",
+        0x3e6e48ee9daa6ee5L,
+        "40055ce12deedbb1f4ed343a33ed488c648d8aad584da74b605d56d94da49c96351ae9fcd0837bdd107cc0de0da1e22fe73f6c9607011f594e1387671cf520ff1dcdd77a6f6706511ffbe8f0c246533f27ee5b1201d85dc21d50b310ecc7d45fcd828a3dbf692a4ceab8bd32c16165d18bcee76e3ca60b27295e503ec00ec79c8ec445124e18ad0905402699105633c238637a871aeea4ea011e1360bb8b61662c4578681cba5ff1ed31ea2ef6f32b8e5da99006c1ff25bb63");
+    builder.add(
+        "22396baed191d72139fa2659dd02d4fd",
+        "ee7182cb376efe5bfe43699326bbfe09",
+        0xa02756f88fa80f6fL,
+        "1e3fd1f30b6fbfb4cc6b8bdad6afa9c7beb3ed7d8d9abd031e8c3e6cb7186b63731021919af493dd19e748321f58b5ef37cbbcaef97163427685051afc100b20fa6ff992ab0390c68f9d59bac38b607e779bbd3d9a49c9ecb2bd5b8a5d2452e5e4c874f1c2c93d0957e7c8f30dfb7e507b17b4d2af859e6d217a1e45d4df40d7c832c7a7c4e5cd3c67484fb64e8aed7577740fca0713dd65e8340cac5dc0f0f1033b710976cba8a2c630df9a903589504379d302efe426eadd");
+    builder.add(
+        "2b83e06eb143cef219cda7f131c1b6f7",
+        "aecebeff72a8a2f44f400f18bcc483bb",
+        0x74d7b3d6b1a11707L,
+        "6bd023e77dc0cc726233fe536e0102b0b518a9a9491291da8c3c4e4b58fd327055e8c196ce7281dcf7aee20d6d50dab807d9c772f4604680a1d59c78d43f1da1f415de347f8cdd1e94419ab57e1ab05de6c768efc6668e3f11cb9d1cc24e3438e8749b3de49de270cdbf5cb5737f36651d3d699a17a901d09a0c06a1900cc4963f2344827f706862fb02f4e1dd5af46b61e515949c26654c2a34b63876bd1be44a94dd5e5d0efca82a923977b55b8c4f566ec976e5b9890754");
+    builder.add(
+        "481ada164d2b901e9dcb215881a529d9",
+        "ae1953921d3383f6cfe727de1fba1ceb",
+        0xe1bdc4b24b6608eeL,
+        "ffa3ae33299a21a6dcb34c02c6bd8be5d350ad127255213c60cff2a1282af7d792ec4979479a75cbab00e1940118672cf5c0d4583d1bc6c77436f8ae07c38d01d99721bdb6680f7fb78c774c5611bc57e6be900f1b0180948f904c81362ada60f9b49c378ae3f102872c7dc90db8f7cea92d25895d2a941fbeae9f7db16abe834492ab7152861982f7eb3ed7991770ebde23fdbb5770c45e69a8f34304e78041deac31f52b177b70dca54910a5de7de9a59286e7e39d478430");
+    builder.add(
+        "1aaa1a56a151377b8a7fa3d082eb3907",
+        "54ff941563486a8ccb40ab70f0092e46",
+        0x5797ccfb02c22b6aL,
+        "6661f8abbea773974c1d8fe071142e2e589f768d211984df3fe7c31596812586c1fb65a79ba709f454caad3d8a31395183e4e15d8d65fd296db1ea01a7a89d93531ddde826f50e49f8fe6f5b4e873713646ce7b97b3ba63d9b406bf742e4f7d62da6a02b2626acdbdccfdd938516f4f06c2d455a5f1f3a859594307de01ad706b7587b7f3c648c7dd20fc1c76ddbd9931117d82b9cd4e82200f2f06f6e047f4eb321cb7e2f9057c198927012231a95eda05eb040e7ec5faca4");
+    builder.add(
+        "6546206c16b4beb49efe8077855f4365",
+        "e03b4cf0b88c6690c3b850bfb7f2cde9",
+        0x356a0afb0396f151L,
+        "964b6dc6922c47be217d85b55d992851318fe43d42e1db685957a845fa8eeecc769a96c834e5f9b83a87319822056916c7b57e4ed855cfbc2d6df5bb28fbd7e91d4d3cb013db39d2da5ea181910a10afd1fc2acfa07f1a26ad96b86a8b370b1087428eb7bfe33f21a05ec1de744b6d6ef46d5a2058ff52a664f56e2f7cb46a1927f7c2b32aa3bd51cdbe92cae89a8cda8c3b224861e0eb360fb9956a3890728c7a9c18293cfba347984775c21e666227533cfc01efe5b96d2b");
+    builder.add(
+        "84e250d6500e06bde557349c83f3add4",
+        "caeb06422041f6948ba091dc137c2972",
+        0xd2b024a436120679L,
+        "cdd0073d6d5c00a2e3edcb1e27b7e1d33fb1a54eaec8fd7afe37745ea81542a3e1a2e2819373f9afc411bfaded63c059d356395365f596ff5da8aca239dad8930949434b2831be5a96579842236df96384b56f5febb816c555bfdfc5fc1c399867982d53dec72b31b33f7595760537150390999b5a59048a02058f7a6539b4c770fe88487ae14ad96eed1f81b4b52ef155d2141e750161e268d05236868a491fcd6ac8706c857e3b460cfe3862abc1a9f82a70b58fa5353011");
+    builder.add(
+        "ee83fef37205a49c9eb944a80463ce82",
+        "3db73135c6bbc47cbf0d84465039d54f",
+        0x2bb504721160ca61L,
+        "c75f92422554c7d7b7d48ad4e6d6488c50cd95849a3fa410a5e77eeb0023761019aba8f641d974d711ca21b79195b7417f460945447a2b91ae21e710bb66249f527f87efa7a504e93fcc136a0f15b7f9c8b7f744dd38dba6eaecbe2a36f493f64bb8b19b0b4eba5a72ea266bd89f4a9e4de76b1948edd2f6c56b3b1ce6657ab2a28ef0e05b4ee642db6ab423e4069468d5a202bc1dd18368ef9a22aab4d6bdc227fd7e6445e11f4ea6e0f592f1c1e655fee8dbc120cfefe7f0");
+    builder.add(
+        "906bc8918372234fcd46692e21289800",
+        "e5c8e8d3d25f80d980118b823a14b780",
+        0x57c591ea14135bfeL,
+        "36ecc9574917cf6f425f41ad6e76ee36d5f1337b97897b74e0eda5fcf7c4830f14ba8d13985efd11229f71e8acffbdcd9ffad5345980ce4a9f62ee6cddb7e2419398fb94fccdf6ed36e0f399a3eaffd3c7af7a3e9546ff20a6e7425c3889411b7fbbb84d526de11bc17e3a3c2608bbd98871ff293ef2099e1648e9e8e2132681826812f8620df4e25e6a567820239175819d00b6cfe7509004241e57c34f0008a1bda34b552928a5871f7bca316a81430d61cfa4aa2d6a82e8");
+    builder.add(
+        "761177972652a75a73c21ec216cefd55",
+        "cf076f5ac6f66e31b1aa4d112b7b5007",
+        0x32ce21960e34c1e8L,
+        "12f3ceec68fb1bb4bdec3060012fcef7647afe8235cd12392f0d9aa569a3a8c78b8876bcdc677f36e9181252666869dbe96bf5ce8265ff8186cd2fac2e3f3073859b2c681147c92a632a0d60b71e65fc0ab4ef0577382c4f689da4572c936c2153205b556da49ac2810f57e23f4d621d7f237e4c0d9b86f96b04b8fb28f810cd3575d5ea2f30500f6171b4c686f0913c216c83c6ff880a93d65138af8e162f4441a358d55d2bf24e06f1828c8814a39ac50b1709e737e09d3ed6");
+    builder.add(
+        "03dc0177804d9a4981a45b5cec7e089f",
+        "03de711b599be27c652fdea33250bfd8",
+        0x71ff04d390c48ef3L,
+        "6840877c34470ddf5a92bb94147aaa7bb1ab5f83b241bdeb2e91ab1cc0e5cd015d8794ebb78471cc34bfd60fdede1fa5212e6f644755a0a3cf6a3207651ded9374e7d5141ffde831dbd4167b86db765aa03ca726a108460bef7b7989d6d7723cc904ee452e99e086573473afb64efb0f6423500994b75fbd6f7e64cdde67471e40fba8fd0183b7e68052695f88e6b74802595bfc444d24b026f42093f559efdac32e931688d7e2ccd6adfd4c71fde4b4b2384056b2dbdc9117e0");
+    builder.add(
+        "4d1fa5b68db8e129588cc2aae1bee81a",
+        "0b349c8e728024e5d7dc3a3666b0bcf7",
+        0x08e1eee050b3cd21L,
+        "9efd51dbbed7aae736dbd356f9866c34639ec5fe3a2d73b9cab87c576451a99b06d0371e344101536dd43805a42a453a3d2d58d0b0e2620b7d8af68275c25fd837021ef141f27aca762ff21ad575a1af226891e36b2f24c982be587ee7f6c5e577f9dffd6d8567276aab664d2227474c4f56a6c27e9917e3dd20bcc2ec1abebe2a630bed203533224cd3ae488953654f0c5b54ea83404a6e260ad95ecfcfc1897e9232fba1a70e4871197a2a8c7dc93f9258b9dd336b397fda34");
+    builder.add(
+        "b7276cefabf32e3c30f7ebc85909343c",
+        "156336ff605473f4d027fd9c742f4791",
+        0x6a755016f4173513L,
+        "6718852af8fc5b48b84221eba4b2ddd874e3c20e341a516b96c84bb8ee8db62ab4e0be60afd6c7fe466835a01be3f1366a08cf02468de33155b7995f990a2cc373f4fc99f4f42d5d3c4c737db73ee077d5559276273ea3bdb3d9e00ff7afb2761e2f7c0044d093e2797c8ca3bead6015c7b2c0c79a317c0a29c9aabe5d585d6f8948f5c3e7d6647b1cc599f4b3bde2a4933789bbc2075966830fd8ad0bad395ef047ee8fb9dfa89f54f61c13190f18885505ada8c07ef4fe4ed3");
+    builder.add(
+        "86db80cbb4147976cba5995496a511df",
+        "75c2360bcea753005db4854424bc8b5f",
+        0x1b159607a3aea81cL,
+        "d066e389bb1a76050a40d78e476aad9f14a452ced1ebeba719818fad2a85b1ce7c860508f5e033091990cf9c7be01199436e8eab49516649658fddc5ea8f6aa047e67f2109ff2c85f086e3200de3ae5132df3b38915b7aaa126c5a18bd12aadbd713d86555fdbde7a7db9b9fc2266004635489c0c8af6017a7301287f6607e7266b46bbd8246ce6f04a501748eb66ac500e567d1089440ac99862ab80d85de44092d87db90f83c4fc70a1db08df5a8307b325294aec325b70e8a");
+    builder.add(
+        "cfd502c33223dcf9fd448209af26bab9",
+        "654395d452e864914720cfa18863c8aa",
+        0xa65b2b684bcc2af6L,
+        "30337f2a89ac4b1f8a2a1e11c73e72d517937bc030025765b6ff3bdec54e496e461055c9e8cb3b60b1e1820c1508ee2d4d964ac3f2c4c408dc9544636027546014de103b9e780c06a6934f947f5731fe1e5af2671a43c4a696a78951feb3539fb0b76420ff67c93b68c5bb8e696d743202ec8f6d02eae9b7063198e42efc135412c61cffd2a45a2ac3d01ce9a5c9c6e358230f98a66a71f39deb6e7c3099cb9639408757c0be2bf09747c91309292fb15e5040feec974faa47d6");
+    builder.add(
+        "e5249c96947204c1c560b59f9839cec0",
+        "b937c9cd65206ebd4bab3d68e4510a5c",
+        0x66a2e089318879c6L,
+        "1c8fa788a01ed3f8f94ec50fa43fc57e298f0b6f94f8ad1a2303fd99a8b3af9ce001ae5fe373a289408f61c442ebd5009e08c9f5687f8f6ae47aa272f1c5754dabbd4693e883d08839d2df110f802a665d4d952b6c7c9985faca240e82b7fe5097e2912eb628785f0c1f610ed0901239bdcb66b6994deb8d55da8cb7e7c877cbb9ae4f81748a885847f646b54c27ea90a874f7b8b47c58dcca5d5bb991232000ab7b67f02e400a310ad080dc874c640fe76e38e538aa582a57ae");
+    builder.add(
+        "dc42389c5ca028b16a21bb040c829add",
+        "0c94cf675b14634ac11ce1d6e8199687",
+        0x6951ff067ec17b1bL,
+        "aecbe30f8a0c0a68ac05b8180ef45bc1a4cf80bee72793803fe0fdb52e112b39dd952f861ec8d372a7f7972e4a5390f9081679ad085cc39b1582047e4364f7ff7361e7292f0794705411f04ed7da1b0280fd283c7b536e9ecdc1852a7e1f40f6a30efef818178452b050c5ca9331e1a1b591db111e813f6ff76debe30843f7e720bfc00c59c76ca293103afdcb6babd9d3c88bc16855abfc1daa166b829564aeba9787e0136229d143152a4258ec2829b9e2cb1e29680a1f13dd");
+    builder.add(
+        "e336d4b920c2e7ce0e883a26af37114e",
+        "e0fb1ba8548247b0febed54dcdb13a88",
+        0xfbc063b3a8b91781L,
+        "4559581d8c947c434987bae30a3a35d8677a4499412d1364a044278107a991630ca80e35af875944415b14d669ad70357eedb5d28ed595fcedcbbff4a458a89a2243b19fe49c74d868fdbd2802efd00708cdca5c0a2bc03f7926f9903d84577149b813d5c861a0efdacd1befc02eb47a1f0781bec285eb9a19a085c3dcecb601a88a4b257106691a17bcb07b37584ce50712e5f6e1d8a5297c749f9a9e04228dbd2e8e56a488dbc3255a57c6aab1fe7cb74930160545f07da47b");
+    builder.add(
+        "274b48d51d15a1854f647104a30bd774",
+        "80960dc9fdfb96169a2c960934fc67d2",
+        0xe591e3abf1d04f16L,
+        "c5413408f51f01ba1251529b4bad1e42312931e178d0b319e57100c6a1d507649e70c00763f870b53def4ffcf38019095b386936ae76d3067ac74a11ced9567f2a467ba56947f91a0c7e8f772cff444e5f0a85591a1640474e8f8a8cfbae147ce18b83812f2a3776ed61f9be2be92772fb0fdee99cb0d0b64b409c98548e18d640906cdcddb786d7565b629c790aaa8c6abd3e0f16587b6e297e9feee725f60ed0c256d71e41411853a011ac1da13aae98dfbe21f8eb3bb0430d");
+    builder.add(
+        "7afc24f607ba9c47e9fd4588fa6adcab",
+        "2cf3afd31aa2942f76116c93c44af623",
+        0x5e58fd15e94cb8ecL,
+        "05aecb99e51fcf53816f5349b0a9417ea7a649c5ab1082b1a99c12599d38878740e16af1393aa25a73675734d6b505675a76fe901326015b1b6a0ee47f9b99e638d4c6df32e69cee8861f3f538e4613c85d1acde9360a7d9ecd4c1f3e9771f91cdf6d1d08d54fd2db95e65b520685d12c0fccc65940d4b45f7166d67372c7ecef4a45c02a570f6e51ff672d67b48fadacf83d66bf1ed25ce3681d849c1320948a4ea980901b7b694bdb146bafc9cef2b9beef5edca3b235b77ccd2");
+    builder.add(
+        "7d953f200f73bbb3213f6f98dca92e57",
+        "5b3fffe4b3cc15302487b89b888738a8",
+        0x9089c52e6d6def06L,
+        "493bb13dc6a7726581be54431d7103e2a9d7fa982a20fb2b6f835461018b9632c551adc60764ac6cd98d2c8880f6621cca015e94c5ed9bc246ae4426b6a27d00cfae5c127a27fd99ad9fe8994b04df6062eb8cea3688f9c8769875c2bc42dec647585363a8c778aaedf6025a3f7e3b279cd380e48817402c40fc5d33911e00571e610f23230fc1d861c7aacab24558c065a83c487535316469dd4c2c02d47d3e0368027e2ac148898bfd9ea6159af81d85d9076011577e196b36d4");
+    builder.add(
+        "10ef10e2b2ab85a87f0015550c08eec3",
+        "45f99ef8dd72393c2cc564d97a5c1fae",
+        0x0f0683133db3b16bL,
+        "cb528ef76899f65697639823654449a2ff1439e48ee6a44f1bb85ece6799df160718dd622028a397c325eb30564ef27bc4e911ef512470bcb53f4a41084a6a67ca550f0c6d9725d0984bd814660ccd275d7a310730850605e72087082a2648102cb04bed3ce21bf2d3c053939af385399f0fafeb6aa98aa1d13aa49b29322a502d6c481a7a16d216a57864d53f47f21635bda288ec7c7d1fc1d0c711cb04c63e3106286f8f4471c97cff6ccc80fbd1c96eca819cfdee2d4e673fc4");
+    builder.add(
+        "e195eb6b7b101e3c4005c7fa6bfb8f2f",
+        "5f1e2937250c661651e97712cf3d10ab",
+        0xad71df338007e4ffL,
+        "1b89a364854524b24e507701f2ca2788ded50ffbd64db16f5f01ae0133f094b9e2248f334fda01113e2ce0386f977a8b13fb94e89cc8dac57acb4dabbf3f0ae16b366eb7bf37b06040053ec4714845eaefb94fbe987bc651ed99aa58c164962a0e9086720f779b2609cefcb73e17741ccf6345e35054443ff9e7bda3107a780e8a2c3011826b5e40a257a42669f0c22ae8558037e188de0ca4567e82a6c4ba7a7fa9889fb12328f282a70049b4e2b7105cb760589677371374de07");
+    builder.add(
+        "b6c0cf0757b9e66332a0df80cd722f2d",
+        "1efeb1fc78e8a844b36dfe4380f0c79b",
+        0x47e8f9c14e229dc7L,
+        "257d472e9e8c982116f924e16f3e404a0285ea105ce9dc9db0a312517ce82f877cccbea1c0c934667863c8dc884813869d64a8ca32aa4c42a6a07f3aefdc8b9040f1371ffaf044507441979753c7edf17089b48bf3fb2de7fd1b8dbc58ffb84c1b7d23c57e06d7a9ba4112aa2d2c7291824955c8bc02ab4e343ea68f8f5cb0e869c2c2f9fdbd7a30b1ac66bf6aace96f9f6470a472b039e1d3e94c83ab3b577817a3dcc7d4bb8898143f1bfd4f3d87c6d7cc6d7b9eaaa428f265d8");
+    builder.add(
+        "eb36a32a550f355e83029c7b846e5c5d",
+        "06e38806364a130fc0cc0c09f08991e4",
+        0x68ec56a9ae6a7826L,
+        "d921ed170d07ba201ad90d9541ffc6c81f6119e8ea97a7f8012ea9765d305d2d90f3fb6c39ab21593aba0fa91190e6b26be7007476b4629ba13c131f07c527f4d184b0fc5ffc458cf90bffcd1050706e9a9956559e0fd57ebe503ca24f9624a6d9fe5bd3c94eb0a8493012ec12f10ff3fa39f9f0994b923f6aa107814d19c6d14efa053ce5cf04bbc1a8b9aa7040aac0ce22f7472feaba8dc65e2790bc6bb083bd41d865a55dd8bed1f76448fe68617af867410c473f393082032c");
+    builder.add(
+        "ce686e983c8f07de2db9dc032e036102",
+        "22f9109c71ec0c2123a434cfd92c7d79",
+        0x6190481e77f33f4aL,
+        "5cbafc0d4487e3f4bbef6150dbebbf5323f74355b1b4e53a5bbbdde696a3a58e633fca2b1543280b7ea85e3d773cfcafc6c5ea3d84c6f6514882df086d460e0cea0c172ad67113b968d7160d7bd1ef00826e1ddeebb66838066373e538aeafe85c619abc4c05605ba7f0309eb1258ee9325648bfd9f3dd70fc99b9aefa2c87fdc0e1e82a81223493ef00b7c9d66f85cba9eb86e5f6e75cdb4f26dbbe81918265ce0d80889784c779419b089eaaf606c7e58129590d063106c6c82a");
+    builder.add(
+        "d1b018ab341a24eda3fb93cdb2082226",
+        "9adef343fc4a38d8272014a8377df487",
+        0x79e756ac6fc93fe3L,
+        "4fecb35386c4809fcd0e657dfb29aa06114a390dd303c6cea690f08aed358a3c033a978d735ef9ac961642611b16c02dd70fe0e43c8e7c8010693f5279dee933debf398743afb43db3626306867c544e987d267a9e4fa0fceb241a51f248666987997cd6651fc1d9371d2cd3ae82221bd1478783e50f9a8c45ec9f05c4b7ecd7b4ccedef894382f24c0cc81bf35db4309fdeb89ee90ffa8ece650aacfc13a2e72ef03f9b329b14929eda2a3dcf1e09e4101eebeabdf8175e1d4cff");
+    builder.add(
+        "d03e8e2358580ef9805f4a1c3b09f87f",
+        "7f87b728051f38039665d8ff9e025027",
+        0xfcf15f48ae364950L,
+        "c182ad21efd35b76fb18ee06c93cd4e2e64315c57e0ff46a837cbf861060f540ba4aebbf58f3f289aaa7d80c07e5d96ea5d879260e927389b0aca2b1f61ffb12ec22187a401441cb1f07bf7a08255d0ed36c2fe97d2c56d6c99ada982d8208ecaf087d58da6b304bdf32bf8a61f4efda664c011eb424902c8cceeee44e349a502703baa00352bbdb1a760d00c522f565e26edd4f47740d8005f73be5ffffc7fab2eac6ebfdbd6ab4c76ba54b4982239874a6cb0556cf6cd927002a");
+    builder.add(
+        "53a3e30bccad2229ec24a50ed5059419",
+        "d37a5ad3d760c2c2a1582b33ffae2b6c",
+        0x4a4bdc5c83569d1bL,
+        "9e6688536e4ed7c0ec913111b359280bdbc0f3858ab050f87e25475798bd30c539eaab5dd26c5a7d21634b492cb01b7f37539825cec5095fc5dc18db243e9f9f56aebeb4aa907faa55593668e1c3ebf88c0c5516e71e5f51377e1ce13a66bef2270e6723ec22267abe09fd8f10609f53610417c23d4ebe3c21c0d97ff99f6afbf5b9219bbd6c841f5b2ed10cb365f648cbe7282763f3e01faac3dc2b2bd7299042355b7fb019e4a6adf38d9c4491e0a13d641d391176433af3c41e");
+    builder.add(
+        "b848696759e4c6f9cd2032bef13c9970",
+        "4445e0248af3e3adf121c6e7279dcb79",
+        0x94ae97fd6dc95840L,
+        "2f80cb3e0acf3744ad07bc5a741af6304072dd5277f46ecae9fc2b42318c8f2f5ef1d90d694dc8a21a1f7a1a707928239c483a185c264efe84aa1f8491c87d7b8bb4dd8b57a0ec8b0526cd7ece30941311ba0ddbab117f442e90cc2a53344d9db2b663894de841eb02772133025b1c5be8cab5ff8e6dfe3e8683c494fa143d3ea7da734199d1edbd95ada1dbce6eac490b6707ab57a790dbdebff9481d65c11ecb2e5d39c134a01cc61810d5c81322a86ecdc37643e48597bff6fa48");
+    builder.add(
+        "d935d269c27134f7395ac2c3322ff07d",
+        "1d47d49636bf81bac6bb101b1f943348",
+        0x2c56daf0f711e92eL,
+        "402be82503611116c7ff97fc456185da07e4a2c9117f36a0b48e305af6024f2ab5b702ef7a0bd7496a20444884f682f5caf684f59094e355ddf091b117a56eed876026e8b2c6ab8a7af7fa302f9ecf052e880d8df0dc666f8d76c734a8623f3f74d013afc87af5f2689923d7aaa73bf7b9c6f4235f4a8f287c9c4990a0b71026aa2249d1727921b52d666c3279e06fc3e3358046e7cb94cbcc06e3f4bd86d52544a4e6b29b3f71ac61faf220a0465cdf6db2c13a6d6192a32ac9b5d1");
+    builder.add(
+        "e223e2d198ea0fe6362c06be2c39eafa",
+        "eda212d7938e6056acdda8fb0ac411fe",
+        0xd950b4a868d5b071L,
+        "2b32dc2b9e274607546084d6969f36f289490562b70dda4bb1321cf2098831838551eb03063ef0831e8353c196c5e1ede5dda54fa6d891fe120bb56333fff21b67f43170e5e758bceedc0b222f64d6e210c51593b1b472ecbe7857e83f24266b1321d702dbf6a12badfbf9a37a9fd7c8ac5b970245b12f8bc3e44849521fc7e3b8841d5c7fc2f2835dcf6878e2238a53773e1e413e85b7f784781b1f25723aaf1518d93b975b062886b51abd43a0e92fc38e20ca5e4f01bfaa92c202");
+    builder.add(
+        "a33bba4d2b0d251bdffb36b9038baf5f",
+        "4a4726d841824852d820fec93c3ddb0a",
+        0xdfb42b7568a3bf14L,
+        "5b075ebcb7898b0141fb196ae176049e477f9afc6f39eb08afd8c81cc8510bfc682976388e4649035e85e8d05fc9bf33aa9cbf78d292a1a77aa382a36eda4d80ec66984982b55aeed8259f47eb78bb80f1fbeb7f6b7851cfde8fb44d53f750c969ff6c52cff9e08084423fc2c35ae3aa26a7a1a62efcc459e0b11270a4d85749de83060935499fc7043d7d6ef0aeae583ae79669dc88c21376808f3735db8de15a1f87cfcb98ace3261b9ac3553fb99e831639e4bf042c115445d450");
+    builder.add(
+        "f71da2ff4847b0cccf5c56e3fb9b79f5",
+        "b954816846ecd0fd93176a268424d798",
+        0xcf1e18e73b1b60a0L,
+        "9f5559f535d018601c9d28fd21205be7538009348ecc556ccd9f90354acd0ea3bfcc08ed6cd29618a1ffe1cb9f00fe8da6fa4abb6c4b0d68c460cb246fe0d1c35187c970144200006401323bd506871c8985e988cf2d70f2ec4311a59552a18efc0dfa9f1c487861f3cb06f55d1a4f86dadd1493562f5c86577f6ee71d7b40086bfa01c5417f109468c3ee093ddf7137f5af46c5d97e8958c199d50a3279d8f6ae42583dc14e96bfd8aec495bd7aea180df3a000786f9f184e9ecb81");
+    builder.add(
+        "29f66b9b28ec811ae53a5fe6953fbb1e",
+        "2a5de5ab8c0e48e3b8e11b94e3f6c609",
+        0xaa4be1c42666808bL,
+        "5ea9a295b4770c966034878c836a6519be49123acfd58502b09b5431f034b1678bf1599726d4159ca95fa5a9d86344e58b48864e7ba8717188dad809746c763f2ea71a59b378b586d19ec9fb4c7a89a4bf580559261d5581c9c2778f31a57799e8df06a93d404e45190413f2931e3f6597c92baf3e648285d9ef85045b4799f56a2825e0380f2ad678cb1c76d38f598b506773e72a5faa6d14b89e2d1c84c7586a64b6ccee268fe2afd625cb43aee5db5841b392785c3247ff775a96");
+    builder.add(
+        "61d002a6f6254d685c481ecd97f1085b",
+        "043da0446c370ab1ba484be325a608bc",
+        0x84e08112b970645dL,
+        "ce57933a9f9679138408b4ccc5784278b4bac6519206ba87331999c60fd23fccb669824e4ee33ee40e420c1fb229ff8915b444242a8cd67d9fcdd24df64e89c494ce8780ac9cb62a261e1e944ad3751d2d6786f1696e7bf3951e20b484d4ab5bb0c2e9d229e8d4e8969a2f04d8b6a3e00c6f4785c2bcd70b69ff0b79e43a784024db0929a9bb618135c13a13c097760685011e6e4b446112089de119ce1688497cb2492a1df07a5b8e71033b54c4ae0f9d29af83484579716afcfae3");
+    builder.add(
+        "c909ba16a45cc1633ba32bfcb2bd4655",
+        "1899504b1f70d19318dbf2f74e0fefa4",
+        0x1c1ad960c386c5beL,
+        "7c6e1ea5a28afde424e83cd87385a2dbb48bbe35167ad8dcdb477e2ebad79b83ac136ad1ee9625e73213e44e2e1e849a000e762d2d4300ef0f6069a325e279f32a45979af0c363ac9720fe55cb361e94f7dbf35dccb4cebe817122c98b491fc0285c039bfba056833512d8c465c4006b5d1154b825356c8d741ac1a1ba5e6283a4b2b9561db5fa937f5787b6e05c2c2c6abee948b79eb50d101de7f44b89c3030cea51ecee2cda31fc0361618a4897dac1ce6db992cba5458e347cf2");
+    builder.add(
+        "da59073a59de6b21f524cb9ccf90c316",
+        "b7fc9d9812603a4aa21fe90faef1dfd5",
+        0x30bf724e19f74841L,
+        "76aafa6ab1f9ca0276ab4da4d9b7251efb155e1b7177a97eea77ae3d520afe4793154cae1c544d9fec1290d7496d68f03503cf5bdfa103d22a98d60fe38cc838124bb9a6e17e166467030f5eed99e27395040b1d01cfb798d7077bca96f0b98e8e05bd8490f99f60cfdc507c6c437b79db8ee46211fb1027373625821a8f9aea97f94ab0932c26c55a1a4f046c04aef56637d98d09286b7b09ccc4e27992b0d2e5f9f87dc2f023c329f66cf9e59fa8343fc412d516db873205697b89");
+    builder.add(
+        "0148212b1552b40a9830fdd73d4e33c1",
+        "8cc6ea3f0b44b2e1196004116dff1aaa",
+        0xd80c194d36146d26L,
+        "82e3728cb943b0bac2ed1a4bd13111b6143f3dc80470824e997b17d277046fc847b19a051badc12195fc552d5756aa6f691f9b2a1bc461cd366a04308c3a0ccf2f52a493384743071b4d28cac9fc7491f7376b14fe714f1723b41fe6e2a8ced09819aca88d3ec89c1dd7d503c6f4d3a9b264f614c8cb7a3c7d8d54ebf0e6346cbf6a40ddcc24a90b73665b62a5424fdea4eacdd8273ba9e04c067de1073c98d5042a0d383f0acf8fc67a6848698f54207967350d72b1a020bf034da8");
+    builder.add(
+        "75a074e2352f77fd98b0a70976c54edf",
+        "c5abb1b2aa77d50f847434702720c8a7",
+        0x9d399a879e014f66L,
+        "6572119a6cf2f01462a9db80d4a317af58b23f9dbf35b330df20c97f8661ada8e33f19c1ec1862f5864fdf5a708363ec35d4f3b339ecf3223ebb97a82535c391b49e65dcf0e0695d3b5b645675f65fa34733409f2265672cd71995cc5116c29035ed7eb7f1ed3d6024fb06bbb7e46151c52c1424b8a8f6e249d6533c6631d4b4b8c257de424e384f3a08ec19552d66972290a17add79ac6ec8fd46df36dfeeef3e35f1fca6c280ba75dd5eab841d7f8185df97d472d8b915a57633a550");
+    builder.add(
+        "c1afe61a93e6789367889614133f045e",
+        "ffeee47ab912a9265d7df99b08cf4992",
+        0xc0f19f3e68e3f966L,
+        "f29bd8785192f6903e32294252c09205567f659be64fbc71cc64f6b20fb2663cdf8b02f73ab45a5299b921310932a57824e79570096cba5e9f4d8d9cd361ea30e55bb3eaf81f1f978bafea62b249e709dfe87b8f884c4e523c16b92df37172b06c67a9cffa3a64f2d8f7d3b72b9b028fea3e1ac7b9b24bb9a2dbc7533ef500698db2ad0d1b12547632f8c0c584399a92d50ab2d5de9e86ebc3af0e38ca1b6a6f7ea07dbae9d430ee55faf6593e88c31249a59a91ca65bcd1ec20652826");
+    builder.add(
+        "d1757832ae0cadbf95d87881cd02b71c",
+        "6ed1c9d42fb1cc8b6c74c7bbaebd6f72",
+        0xb92f82ac47be9fdcL,
+        "6fd9cdafdbbfb77aab5b897d38efd11d5f06d155fd3954d34fe0623c25fb85df7d764f0561360d7abcd398b9355f627d3fb36a26ab7877b560c1398809897fae28cbf4fb0bd844aff0e2f479fcc00194fe5b0fbe1b0b95bd88efcede5719faaa5e905d3bbda430e6860a50307af17ea01bcef2295c352d64f8d1d1dc558dac627535af325c5bba7c3efdd7ab464f2128b202ffc0c6dec8728c7054c5eb0b0be4917db7e4bd9ab9e477ca5a98aa7f9ac936c00b78bf05f6bb5df5584486");
+    builder.add(
+        "ba7262bab42f1d1f65d3b6c3fc1b6850",
+        "b027163b77d27dcf442abd3d3fe0fa13",
+        0x7462cd7d0b1e42bcL,
+        "e014b7b9373ef3b76494ffb7b7ff85f82c52ca8c392c1f3365323005744030a5263c85c03bb23a14555dc791170c7a434986139b5aff69df5b1c00eed353e07f6a2219efdee81de91ace21668ac98eed321dd0d3ed92d58faefd84c34449db8247b225735c3216196f109fe7210d98d780443403cc10bbd6588a1e9b32054ad48a85ca923d04caac7b9d473b448161fa90e7c121f5780449a29f10d0e08df6ea28f11b57e812955f4baa25a19abea21a90bbbd178623b5eeb3447ad987");
+    builder.add(
+        "54d9d84255118cfa7b0ac78185fdfc86",
+        "36ce1fb3ee1794a07f83436dfedc95da",
+        0x5f0216cb92720d1dL,
+        "17c235bcd48984f791650c00521a9a9bd39c6ed46ca8018c5eb7a82cef1387174605dda37a0a60214c64489441ff3b4ebb893fa0e7f9621c36647d096b3c65ecf6a39be383cc6f40c010e9fe070127802586f5e958e2c78a0560e066be2f8381b2ed958c490fd687ccbee66f3a5dcdf7e48088eab06e2cf80e4deef93887d87de2ce22eda28875123550d0a87739d5841d3452875dad2ac28efc0367b103f192a26192769e1a142fff614df42ca62263b1d0195d98d887429c8090386c");
+    builder.add(
+        "af5e6a5bb8f7d639491311334c4b983d",
+        "8da87d07687b68c57ab095217c39c886",
+        0x742bb45e7562f277L,
+        "1aa2a403cb52b14c78364ecb5cee4861ad0d7b523876ffa310eb5eb66d9af18cf8b060a5d0216ac31198bffbc035a9741c0b5028ba01a08be0a2282ade7297efcefa2dc5c6b697929b86d751c8abb903c13b7f83c85fdf9eb1cb94ad13670f4a5765504332578dae8edd85159a3a59af9298c33d3fa418cec982fcb352c84d242d64fc1fc42c20e8341dc7bf7e08beec3ffb4efa7b623c4819f77d26a4fd271c904ad39481c5a860e1915746a243aeee0b23f19f6550db6fea33efb393");
+    builder.add(
+        "7df5c1e73127dd4dcf492784226cd252",
+        "919f3fbdf2984de7c2eff449ef20a26e",
+        0xd03c44558ea09d18L,
+        "c077ab6ddb89bac189cbc1e983b29aae1b6cbd9ff56d0e6aba528d1fae86d2d94251bc5aed447e52ddfdbe1ed54804c240abef68c6d82a3317be1fef4118f3f7dbbfc5098b584961349b5b3fe43b66bf52b58036fa13b1ef3744ad0ad3f378ae4cce0953f40c35f82a173d0c5beba31768429a7946724878a37eb69809cd78475fabca38cd1534dfb36b302e1eb4d43ed0b93f541de4e5851aa9576ae5a157307aa477d9c4fac77227f133a28b257b45a93ad09cc0ce406b0af7a9f193");
+    builder.add(
+        "0fe809cfd5c1a55dd69fc65e8a86bd20",
+        "3fcaf78f3f9dd7c47b47e48241a531a4",
+        0xe80864f704e446a3L,
+        "65a0f7bf6b0d87ef4c8f1bb30b4390b68a4d424d41522db6cfddddcdfc70a515d0457e455adfbaac4bb0ea70241a5ff87cdb58df2ccfd218b82093aa5be8f6d83aa439563588d9353f4364c053644d3b5f028560439412f7d57b019b03e293acd2893097045188c57239c21e77fbd2fce8deb08a721373fa6876259b79c98da90aa0816977d3ea10a76f73ca4bbbbd4adcd49321f96859860c97df32e86f7079e05ecba631a013d4429fad9cfb8707dae88f34154286093d00109364ad");
+    builder.add(
+        "8de487e653f47fce96b0b1e1d55c4fbb",
+        "f8412269ca5c5c8f1e031a3d327d9b9c",
+        0x123ddaa003f60a90L,
+        "7eda51c29ca89438fdfe2dd44cf6569fcee9b4f88bc4ce0643b2dac5611580fafe30f0aac73b8eaaaf80ec058d2e92bdf3cc27ed809ac459422aa520d3d3489f4cdecea1a66c0c70bfb53fef546c5012530760a9976a1effe2d5d94653afa02bbc0bec405ff4919d352cb652455f7be35cd77ac6561942c025c518812c33308ca7325ce1edd9fcc13a616d0d65e30cc29e2bbb5669bb4805c9bbb8634a72383646a54f297f216c3000f181fdff0b89e8c268d2a08b18f8f60927f4a279");
+    builder.add(
+        "e6f1df3bcbfacd3237bb2756b5d20ef0",
+        "e9e17a05f2ac87e535c5fe5ba828be71",
+        0xb999c0e23459c474L,
+        "29ffb3081c0798040dae8c1eea071893b36fa2ed24a7383c415ae1945c8ff421dcb5eac981ddc69c937963330c7ca5a0faa0f990ba318a2d2591ff80c6ecfa44d5abe809a97d3c3e09da257ac0dbc6132f2934b89a4694c0e654793fc2fdcd608fcc5df680dd61ed2f2721a8a280a15296402300955686890bfd7d1a7165aada4e21ec0cf98f71e67613bf0a3f51902e149dcc6c476bc5d2f92133b6b60c7fdd7b88e531550f0adc5130c6d85a9484e39767da39dc05eec983a7a30845");
+    builder.add(
+        "751dd8271762889e8e277a8fbcdc5c39",
+        "6e95c0523f28c4bbcb129257b20dd510",
+        0xe922a123ad0c45adL,
+        "6669cb13fc693ad840b97904e9f19c2601380e21fa54eb6aafd3e0fbead87a53e41659dbd9fb44fecb64c56b1c5bd226329102156f448e0e6c1392c71f04beeec6717c0c7daddb2acc1dc62f4db9e064e515ebf151955528d49fa1f196b7b3df2685d9eb5a2cd9be2df84beed857798581c5ca68d284cc783cf5b08b7dcf4d2a4b66ee5eede9847fa12f86c9e48e516797f8c7c876493b1448a6b49f8427062ecd89fc4022a20beec8c5f46e1d32679329f4ddaca822b644be74ac8894b4");
+    builder.add(
+        "6c63dd3d52b82820b125401230684627",
+        "af0a55cd5e78cd49e72818e65644a8eb",
+        0xd6404c99c076986dL,
+        "579a61f45b2dfef5029fee50e32e37db4492d87142e65d24d936675a80b18410097c733290595d6e2280dcfac80ffe8b6cfd78e9aaa9ec23f2142a5553e873dd8bcbdf8b3da10537a5c903c39844bd88b982e26d6ae9af5462f111a45729c5446f12fb041e3e98455eee7d6abf3de47521ef5c114e62998ec930318960482c6f1cab5d13c693a0fd577591bc2400ca449062f2953d33d07a0c14a23853d03e66e54bd1119fcc7c74c8fea23c85e68f21397ba686964d1080e4ba9f15dabf");
+    builder.add(
+        "a3d30d27e683ed726b3bb05ccb525b34",
+        "1556cb9d300c776ef0f5bf73ce434229",
+        0x0fa399721528905bL,
+        "8bd6a82f1f547606f2ab9f6c5ef285e320ab03d87efea5f335f276845e18b2d6475f5d3955d42edc14f155a373716e742bd0455c020ce932d9d820419283ecbf00e54e3bbe1a47e1e87b1d2a6a2f47e8b89b1cb01ea492b674c58215cb3e85c54768d4327dc06178c7df60c18e13da1ffd66f13fbdf1b9aff238652da75b65e2a78d059d120faca373fe00b9ece72caffdb99d867704f955daf6a3ac063db451d69fad66c33f103e9fd911c271f457d2a8f2eff142bf9daf8331189e09d8");
+    builder.add(
+        "fe5ec620feb2fe97f50d063a9e797352",
+        "3e8b7f1d12e3e0d94a0fbf53a076c5c5",
+        0x877c2404a5bd3154L,
+        "dc66f7b7237b52fc15230ffa921bcb7a4cc43987fecdf45c78089059b5a85b09cf3596ad6d50384204e09da5613d4eef21430dd57dbbef676f455250121657326dda31755792a4a70d5ada661fbb499c537056c131a905f00888e39372e542d83795db836d3db670f7e1e33f4dfce273d412b9fe083e9719a9ab1490aa579d05164850c5290eca8f09136117d810bbc6029eab0d5d33ab26a018109c08db34257b56630693864e5a8d09c5521aecf1ec31a83f12c02bab8faf7c3364c87d");
+    builder.add(
+        "2169623db5070ad83bc75aaf86c14068",
+        "db4cab6f16fb89c2cbfe7aaf76dd87b6",
+        0xab0f81d486774359L,
+        "e604fb549b9aaa17644ba987a864f4e289b5abd9025bd03a8cbcc45b75023036d5b8e9ff66617ff67c8deb2fb5e2a78d68e0025c4e968f63f0165204315282f712d2b5c385028bcdff60ebca4d3907a719cc385366be7c46dac95a4e5060481caf035e7e91f19446e5558a4f69590855bd5a07730c32bd58dacf4633a0e007cd19fa918d21a550a72d39fbed3496729196924a573349f44017f70f599c3d34114a5f4130c000e69f4046e832db97adc1be267fd5a9662bf77c730d66f49d");
+    builder.add(
+        "ab1fd2ae148c11fe7af79ca12bbfab5c",
+        "669c27d9b43eb14229ecd76081ed1ea5",
+        0xae69b326263603e7L,
+        "6ba1583157fa7234cb383c96b6a109201114e087c576e7bc89c2de7486ea69ae62fba946b0c5351019004b77cb347e488cbff2f47f1980e4f3c0cc3a148d0119bdfa9856d1e089d2bc600ba9a0865d9ef8090a8051626aa2d04dfa796e84a790118b6e67aff17a304823b041d63c9516292293b1ba9c453ba9ff604074af8b1acffd4e8e5fcf01b2f825bad42c1f4a456303b493e5ccd4e57a4ef3e955bbb698a9b3dae04ad46905f27450389164738bae61e663e92e37bf7cecff0e6c7d");
+    builder.add(
+        "f7a945054dd13516ef329cbb3418c6c4",
+        "ab7ad43c5895e9478b987c2f4990118d",
+        0xa67dfd57dfd0f33cL,
+        "250afa0d7950c47f7ff9166af736689dc8c654aa806f8f98089d51328501750089c3a4812d3ea98f00a628b1aa09b6549be23a9c1f98e772092c21126299e6e68dde008e5845d3f3c4a15f19228ab451c7e07f7d31ef19e375f930ef327f5343ba34c82258c631453f1b7bd42e7a02d2f0a8609450bda73910bda35d51545f1304f6bae1f272af71273a5c3f1f662a623142870499a85cc7bf772899b5985a3839f34a43b9225be8101f3afe2753b6c3911a87e40cc6dc7beca929c9cd83");
+    builder.add(
+        "ce627ef2fa275dc323b018df02d7b65c",
+        "e948fdf52eef73a18e9f39bb98d145db",
+        0xadb08e4e14396007L,
+        "46b0d1cf4619cac7efa7bc4a0a0377775f9e40fa29574fe63bcd42387cb2a8140d3bc9bba87666fcd7d6ea5644eb5e47999d682b024128ffad70144d6b6cf2f06cc9d84f300e570f8467e0d4fd298f481d91f6f0e0d5b3bb47f7c9b2aa13537f824278650ea2cb1d72211a97e17147a0025d25753c9fd4c3a366307a8c557cd46020270e2c4653dac2d021e8a68820520fd4bfd12e4e4f0c939993d5ee6c3ed205040514b9345bb8597afd5abefe31f01301f920941bb3053b0756596d7b");
+    builder.add(
+        "2d5d2f41b1e6c020a3224152f20c9736",
+        "dcb11ab1e53abe3603f1db1824fd4b53",
+        0x7b3d421c866f7c84L,
+        "3eb59b44f074297691458f4028721ce881f743825a7bdd1d1aefb1627a9c62e0374075aabc0cc8fc6690aedc983facc61ff61e07d2ced053c5ff0b1996909348571de7fe68f17e48839216bb88774b163e48a31d9a706c89474099553230265b3bceee8055d9267251845a9bbff3cf0fb0c40d2f91f75e458d777960236371a93c6158e389b55edf342d41f8ab3b1ff840501f7c0f8aee5e72f815043b46f01a8488c45ad47d0643738562baa6de882378229ca1e62baaa44891444b9b8d");
+    builder.add(
+        "bf13f2083a606a11f6927e6b7bde4688",
+        "529a769ba90d085a9929bd3c2b197260",
+        0x56699d9ef06cc3d8L,
+        "fb7c5e7f572dcfcf8d79faa24e71b686ee1eac660cd2b5acf24401bada03fea71831e4d7ee40e3697750f582e6e3a3c7617b2d228f8ac8d793508a012d06797acbc158a5e6842034bc0c0b99086f322355a8f1ef8efe9bf2f06ecb9a560c8e4fd213f9495378e1f300fbc1c8043b2369bb7b7fe680e2d25dd41ff007cacfb55f8205c4b132b46b332360105709dd35a561b2cd752b5da148eb2e49672228c6a325484830d0a88f7b9f0ff8559ba7fb1f5399f1e37c711ac3745cd4d46f2f");
+    builder.add(
+        "a57ea13639af265523221f2ff4225e78",
+        "599e756257d4d71491a507e4d1ece838",
+        0x757cc58084f20af9L,
+        "7c9e3bd3705d18aa7e48b58e21032bfd4cdc3794caff66ad8dd249c20fd99391c4718cbc97045dabb478925308403c3b1ee683c4d79c2094a66b95a238facc28899ce271a9b6c5ea9d15ff16ff72d0f1f1e0275185b28eeef1949bf92fe18f5ca6a901efa9b59f3bb55487c1ca8e81bac1303c8c65eedcac6454622ace91d689661a00a6e8554a386181f4ad3614d9a20a3d6d8bf11ad5c768968313d3d058c3d872d602b7250507f95e69a1ae95b14e4ffd4166f71be43d2e45cc624c2787");
+    builder.add(
+        "06d25704d7ad690d45feafae5eafe37e",
+        "327d8ec1726c469c0b1b9ec76b1c3ed3",
+        0x3b71b6cee3847674L,
+        "301de1603c138a1282665790807d9e00f0f9667de084c209d9a7e91d386c231a13384e0fb05cd9c04a033418cb5cc90a011d4e2e6d68ebc5e977311d9c16281c609bf72dc65ebf0e73dd90bce63a08a40febf2eab22704c86e471adaa2405e0559c169765a2e51870d3f7b5e57e30438889c08436c2790284462dd52347ca8fcf6f7f9c11175fb1683d1b402cfae01604239db6a8b80b802307185fec9584edf10f12781fabf2f613d3cce308204dcc751a877e33e35e8c07365eb1d698832");
+    builder.add(
+        "14f8a23330b4c169d0fe6f23055344f5",
+        "ad6a62acbea534f38672a70955e8865f",
+        0xefb35c896fe61d87L,
+        "82473aef42f3e1e9982dc129933fc49a5d4d0e89521e6dcabb8e557a64250c462e22d4ec16cd391275d58d16805fc02897df4a49565048b81d57b82fba56214f75ed20d919c17a11b241532c0e54592f553235bf9d903b3aed7da4a446a2b19bddfae3db1655df2a21a388609c0f1d2b3090af8ab09e6e06f5682bd2460587f0f5c266ae62fd65be72e26fd73f3114fff9b557fb2f3610cb62d2f70c08c0e8bf1c1ffb4552da383be53213dbd697724481fb22e6788e74f4ab88831a17616b");
+    builder.add(
+        "61d2f35ab05ba19c3ec849db4f7e0a45",
+        "3b6858cae743b132ad872f9fe17e0789",
+        0x36a149862d7223a1L,
+        "1a79f8b5096918a7a69261139bf2bfaae5cd69a63c4d5cd673e8261f3492411c5b6f565adfdd3c261cde3b7319fffe5e8db172e6c75d45f7c58fff31c93c50d56aa313f939fd2d3c56b2ccc085a38c7c1d8ab8e938cfe423853100719d402734de20941358a583e2316355e2bceaf6f84ab3c4f92669aa640609492b23114a236393bdbfa51cebb3d5cf556e5aefb4775c5a56294a57bcfffc0ee5b0af1faf1ba5270ec54c3d3065b2e497ccfa64de4836394efeac1ede8e3ca17e1a229e38");
+    builder.add(
+        "b7e8da9786d27eec7b01486d1b04415f",
+        "25edcb7ea6ba0a70832048432c5c4856",
+        0x06d3d914b82592d6L,
+        "2997d04540c4e734ba34a84e3e11262ae1a4500ef72c92443a6eaf58cc2b0e9b7a03373643356d4ff046175119d5a9175ceea222747c1d5d04d5674485d2ddb15c38265c80df22618b320b458312271d42c55f8c355b070dd7cc43ed0bf227d8db106473ce34ce719948b638a52f5d7bb79cae28b132cf5e0e1f78af1e0158ef63063d66986f5c06c9eea317e6656b7c70c101e8af25ae0f2abf69797b87610ef992ae07bd520a4e6b71c7484b77e47bd4b7d1430ed5b2cf7cbab1b05e0597");
+    builder.add(
+        "071ce0426dcfce0da686d04ab40ac289",
+        "aece2b2ac454e0930cd84c2b6bb64294",
+        0x783156e7282141dbL,
+        "103e7b263358f3df9c62de25a32754db6d9d6d8de3e49c7768b5d5ab0bd66473fba7e6826f5622fec8e66be1e1b36aca334fb3ed5715e87e7a785b302d371cf25eb7bd81d024812ad9978ec240376b9953c5875476b9154980115122da607ace39a25a96397558969ff7575bce9bb09a686db760b7873034054f8c22835bd792debed9af2f550c281ba5f594cb36bae5945298d25fe6ab047b1dbc319cfa7faada3159fe855700de7b14062d432a0a9fe056ba519820e5d2941644f4c8ac98");
+    builder.add(
+        "bfda51cf3961d9d60a301bdbcf40b8ad",
+        "65c5b61ba758985f5fd61ecf69f2212e",
+        0x4e173d1af5e53a5cL,
+        "d2e3a75ce1d7ce23766e6cf1b2055b67b4138e834d71e059f04de445f4291135ce9f34d0f00bf6500790fca33448475dc6ebe4c86eed52fcf3a2e751bb2e02f59cdcfb47570f672d7ef98003fc77094ae0d04c3f16a13957620499b422fc7ace4bb7a48d5930bbbff96d2c1215ffae1b4d964709c37bca05b1e903ba1489d0dff75ae70f3283b541aab5d95716c3282bf606fd0fe2813858bbc8e1f8d69fd3071ae525f7e0ec25a4da1b11ccaa7aeab22c53167d181c82c5abf448fb074ffd");
+    builder.add(
+        "4cc5868791bbd3ebac265ca0fed90cd6",
+        "c1bd8d25dbb785735ab06980bf82571e",
+        0xb72213bf71053efdL,
+        "815262e34ee49287b8dbda72ac5c7c085b6b294b044079bc087148d52eebffb10390947be38e2217290603727f12be97349c9a4ad4404ff22cefaec428a6554dbecebf0f81252f9870ea15912daea95acb67226c96224d1c4ec66743de38f50084fb68c0eb915ceca59512d2de15605b0c1cf0240d814ec919168348a3118b2145a42d3852b215ac7c2c62da27b326e90fe846a4c37c5264403add480043f855999bb6ab3d81c7f03071941df312e153d73b0709fe9abf01a21730b5aa3a8b");
+    builder.add(
+        "dfce4ad0144493220d08ba18870c5051",
+        "d79838a463eabcf1236bab1d28f6f7da",
+        0xd2f3d349e02d4329L,
+        "17af92555cedeaf53d79cc0c9f7fb836672f32d09491dad0c5c1a45e363e97355669a6c2f797514fc954ac006be2df6ff697a007a9fdc9190fa933caed4d7811f477a81777279bcb36824c2f4b240d00713eaa1c2ed289ecab72f369f96bc12941baf5b93d8ceb420066b1b6069e09ce0cd707114080e2a6c91748422096dbd2cbbfee6657d64fbcbe852f321669639647fc1da1f6f863d72abef82fb9033bc605e44507b21fa9f5df8cbb20138945a89b448476787dfc3f00fc10eb9e92f4");
+    builder.add(
+        "a2ec5c2b940368d65ea7b035a38de8b6",
+        "c279c81397d9d9fdc8216c4e2bf717e5",
+        0x3b961c88879a4412L,
+        "087718dd42cb15958601373a7ecb5cbed49b4d07fa2b9e7afcd85af5bcb2e5f491107101e03e3e3d59b5d93f208f15276bde8a5bfa2ccf262920ee7bfbb7d8d1687d8b74c88e4dab5465c70a1a138282de84c65f92332f71d9eb97902045ef952ad11502487c897348b416fbeaf51fbb9d89d0abdd831e5a70a0dd91cc8242214c166d7d33272ab1557ba8cf71823a8485766a917d3feefb5296d7a855cf39e5474b6734d8200fb76ea11ef74459baa4211d2cd3b60bc588f1ebf91f394592");
+    builder.add(
+        "844eed39420e8293dc24fb5b79e8cf14",
+        "4ad4fcb0d0b6e1acfba55496490a193d",
+        0xe1545f63e900b09dL,
+        "19d12e62e4da03d9fe898057681e29b247242b12f7bdd99d0d04c26d99f14710e5f50133411229be6502643acae9e102849fe259cd1d59d8f9f0fb61cfd83b86387b61fcb099d192784b80cc6729e37db2fd502b081bcb8094aacd745e05b104a8bbad2228661661036efdf639655a979dac08381b94ce46dcf94c0646e5eafb2284af3add638c2ff5a630a6e1a1681a29777435bfd489a668d2c608cc5af1dacfbb19ca68d19fdd4342b8876a353c851aa869ac89403fa91d03ae34be0b51fa");
+    builder.add(
+        "8baefd906d07b01c9dbc257dc7d59e94",
+        "2d7496fc9fe4d911784649096207dcad",
+        0x751a24176868a865L,
+        "3e63454b16f2c47b5db18c05b97b897ddbb4c533b8216c191037d3e232cda0089bfe86cb8896725f88c36e4d2a2fe1dddb9ee341a3e6eb982b5c09abcc629f8fd02f88ce93e929dcbd48041d3d2e9a9565d08f683effe2405943850545367d767bd525333945bf7d30ee0a315baa29c2cc63ab2d9df160b4357048e020cbed60fca31167a2a1223b0bb4205fce841eef4657e40cee1519438ebfb1cd1060316dda34be9f570dce67abf0810d5843e6d3639133eaa4efd33f320d396623c0598d");
+    builder.add(
+        "33a0c3d89f40d9e4346041913f1b4b47",
+        "41acd73746413d82ac2f281b026fe20a",
+        0x716b7c5827f83ca6L,
+        "e14f180513edd99a07bc907374e10279cde3c43c8fbb5f6618e0d7f6eac1f79725b90ee5bfa9b15600c9c8be8b68ca4f1c8c0db451a278b3638e483502d01fcea710286d014647570ade9244b55e9da6c115752059ba9f496ebb1302f53db06c8eb87927ea4c122a0da087c6b899ce649370e35c021190b984111b3d749b83353b3f9d31e7c3194d72d051b87abfb5db8eb02716e9e1a3fe986dab31ab14b7ed64af5ea332842bca7d7eeb3d3d6a7f4f76eb202e699606e21b19d57eb981caa6");
+    builder.add(
+        "41e9119d8a0ec63c8220965226772d73",
+        "78060f3016695e710fb216b813f7a69e",
+        0x5f4fca43f3c5e0f2L,
+        "d610e0583f94bfd9ac1c0908695033b5403c002ea9b332d1dec6c6f521f60f6d834fd5910472b7515d55281b923a4cb3c34a5cf89460183bb99539ff5f23e574481bea541d2d071e74125b85a2e84ff44896f0c6d836a76e4820268fd945543fcf0756566bf2ba99e767f0f67054fb68c37c0ec7979a94327fd0ea44ebb461a69e20901091a2e6f262ddb7ef32e6979df7d79231741a55170e97d5e5fa49a2e5e49508670b06b8dfd363fba624f29ded6978326501cf4cb0c146f4ea1c016324");
+    builder.add(
+        "70853ae910ce514a506bce6dc7b1e356",
+        "70667c3ec2696a3f818610e193ba6bd2",
+        0xc1fbbfbf5b35c436L,
+        "abb4b8914357fc1eb2643b0ccf074ffef50455f2f31a9503ec48ef18f1701be668349c21d921a64f93648f8ab7e5adc1b7d62ef72e828663e08615daa04d25618732750b1d2e6281dbaf80b0ffd5008b7ce6b1415c67c6435770530c3b075149764f6246da3ad8bce2a31e213ba3fd72b4cc120ed7044b011484e5e885acc838acee7f5c310f81f90790a4b81108283fa5c6489c556c59f38b681e62d8416b80dd999cc641b9e682d49abc2deb20b8a23baa4ca23f863e37e0179c6a0be56d31");
+    builder.add(
+        "6a7b7ecf422fc451ef02adff60c7bcc4",
+        "7622fcbf779afcdb6e83b88274d391bc",
+        0x3f3ae472a58b5131L,
+        "6e90631476332acc413c79a36e97e2ecc04a56abd490d0f0bfe060ea91ef9e79480daa0482b4764f951c4560c2da590ec25427db9bb63785ad9b772d2abbdb6c20808a42670a286985775ad6d68be72c6979f1fcfbeaaab2e10c1d45529b0384f148d9ee079ba047bcf88a24150c7b6e1d0953a4fa5a890ed27e29a6487ab9dbe24120bbbdae20464f209b8e2bcbc13baf28f67250751e42d0d7cf580e521009cc987770148e67d720958f60e23d5d8e8d7d057dd413b3cf561507931648c070");
+    builder.add(
+        "81c875bc876065bdc793a754f3fc3c1e",
+        "e4b9ecb6f85a6f8c18b9a93e0cba0e3d",
+        0xbf3d1589ce670827L,
+        "debfd38397696dfa2a44236be65e5bd93ba37dc05e685ffd083ba430eaa79c69016e06544f68ba39980df1a4c128631038139e44a6cf0a6fd7812f67f0812694eabb743398c1bc781c01c752496a22a125307ccf7a57c09d90b6b037c75e39f729ad8755b83038a4ee89f19bfba050f57d7d36afb2e70efecad55b30f7675baa7642131464553857a2ac466f2996e35ee2cb8ee12f141f5528f51ca49e8ed9be5f5c5a8644582cd1798f1647f542253f87056234fa7ab27b5ae1efbe24b9e7c6");
+    builder.add(
+        "3a1851c4ecc8b7f2b6466cd732294f57",
+        "4bda62dbc07dad3031bc63fd3e185e1f",
+        0xb5022eaa76eb0d86L,
+        "c357f278807994b15ec489937e2a172e3a68f1e3a9922b4337559e3ff85b94726bd55629c02b49c077b0fe76de173ef5c4e3322b4ec95becbc6a279c89185250d84d4189993ada38d3c58b3451f027757e8f11d8240fddf879dc94edde76dd722f9be607b4401135a0bb9986901ee5036baa9e7d5ae98aa62327ae98a479dc22a5b95f07365752f0004b2e5c4224ec2aa23b4a4ffe1f6d83a6d7251075fc373a225edcc9bce5cc283e7d1a88db6942e6a7a961e90bc9b323facce8665586818e");
+    builder.add(
+        "e19523a35a995da0ce5bc4b291e9402f",
+        "88c58d16269d301f76a6eaf77916e3d5",
+        0x30c3e208f988d210L,
+        "c2c3cc17b48e4ff61cdc718491b5e4b0502e40bbeda31f102010533b2874836360adb06676d94574e703928ab45a708e6778beead01b33f89638d775fc0d827326d57c457478d9be2274606746d7828f39c9f2f71d23029961309d438245b8b861f8af9a0a38ace327d6b83d1341e3938fc819027228449ea560ee01cfcc589daaec4dfd373ab7e221be992f38d99b1d8744af3fc9fba8ac1fdf1c08223cde7cc3774fcc0821507fabd52d8d07c525749d00bb1a178a48d5b82e747c05c5ed95");
+    builder.add(
+        "1500baba6f9f84d507dac3619102c62c",
+        "67605dc41a3f989a56c3a61f41a59d56",
+        0x408f87098589c937L,
+        "d58eb0e431bd0d988b2541661776dad54bb0d66d8db88bee82331d4502c3ebbaa9ed535b50d2811977534c6e0c0f16d43e5fff1b918da550bb296f15b0ed1ce37ce31a6a9d7cb0e16eca00b9fbefe86585d8a0ba8e2f35510ff4b5f5df7fac4e6724cb1e2da3453753e1e6cfad1d301edd6f11019db20bc1bc63728aebb136fb0314ea4b4bea72d02f3d8c4f72f557947e674fd71659b0447a3a1948c75125ac83a003ed85dce8fcbae10c0d6cfd3cf7a97d6973fc3cfdbfadb020134f1687ea");
+    builder.add(
+        "d74bc73fc23eb1512bb11fd29f059326",
+        "03b84764c6573a794be1c9359addc193",
+        0xe2e534fd4953b6d7L,
+        "19c9abc9f4a490348209b6d75ddb36f4154b4c884c7f4cb462cfd2c1dbeb83b912165548547356a0238bec1c09a25e9c46d2d2465cb0f11cb8d712751d28b3022e71c74ae7ac247412fbc941514e30bcdbea4861bd79a1e8abdd5966ed477a153af1518378a0034bea16c492d8d3dc613107d6adc4b7460e572ceb5a156c873c92b8ab1d708cfe1ee09213d6d2e3ea7131cd1bb0925346af7b22170faf1226b7a0f6b682fe47ed556bf04ce7205c7826314d5311b5f9e37763c663fb6914005158");
+    builder.add(
+        "442316677acdca1189c70db71c67bc5d",
+        "517671dcd5c1a273cc663b8933253c3e",
+        0x3a2a9d971c022ad9L,
+        "e8affb543ec71f6b192f6b28abb62af93cb897dde22e7533294a819a8a716c93f8f8a18e3a8eedd982f202a3dd8b17934d32f3e36595cc9899ec55dbd9e07cc56d2e4937e5ba6fa7abd25516812f71918c43f9cf9f7c21fd5dd4d36470c7d0362cff546fee3ba90e2849f772b0333019404c3f8f42f57f9bebd1812db72c1d17f03eac0f2227ed540585fcaa3fb6a964e292dae45a031149e45c1a58869cf6ee23e44a5018de5bff40316e51ab4d7fbd2c91e53bb48a2ea882db638cbc00d14388");
+    builder.add(
+        "6850f9b2bbb3aaffcf861b338b95a5d5",
+        "46d0ea7ef6a12d7396adca5f2790cdae",
+        0x622ebe873b94705aL,
+        "8ab69cd329679859e7908456f9e9f383b07c7d148cf0dcfbc18ba71ecbc992efc26fe5eb57ddc696978600cc919d1a050bbd050774a06cef265228bd46144784e64936c43f7464a3d6b191885595dcdeee13bae2911ba31619abd02654b10200a0a931639707070a88115c14d062faf4179e65fb50d0fe34a51040d14ea516a242b11cc675a61e3783968eea75af75427ad919774c53a495f7f775b0bff24d3a630837cc6970682a153cfb31d3b104257e64381009ec5146ec5cc5dbda775562f8");
+    builder.add(
+        "edd28a2e51468ad07ec489dfaafebafe",
+        "5cd59b302be0ad42708badbdc2d61f98",
+        0xf1415786c4bb9bd4L,
+        "bda091d0cb0377b5e3778811037db2c91768e9529c3974f2bda995edd020c1fad64c136d52a1686b92802ebe61d3c38e3567d091bd9691bb1bad182566c9962d6426d05787d6123a1c455e39fbbb48e7bcaba8dc17999a1144ade8c0342761410d3ae121784090773180947254b35be2074ee23a6a36245d30d4b13b68c5c60908f89cbdcbfafb9d1dc89ab5349dfcc25b946e8118fc62b59f69ceb5e65fdb0c99028c477cf3b7f7b6a9ae79e719e1ecf35c8295a516605371f3e892f1dbfb42ce");
+    builder.add(
+        "304ad595d7eac91868a73d6c2537fbdb",
+        "2d501ebda48a3de4c0311a02d5870f97",
+        0xa1e9cac660f9df35L,
+        "105cf20bf35113b184bab722cc36821682d51746d6073cd3c6dc6b15c4b0a0d0e3cba11c03bda09068738deb7851d38a13cb1294ab9bfa7e9c45bb33d3ad956b0a61081bbad940427fb78edace6e01e65e9a68b3e82dcc012fb3d2cc6eb3a7496bdbe7f5f003a188b61d2739c0f706fbaf043a77abefa462eac4e0b1f25148a90783dccc97c153e45bf532cf1ba061df483d85b8c0c05f627a6b98f9963765acfa0263f2006a5a5ceabde9a1c2b4c1423e9e4090dcb4f79174df8df1af62e6c07f");
+    builder.add(
+        "73318f09b98c3669991071cde7603242",
+        "718afa8f0655a7d00de5c768a3ced64c",
+        0x31abd4656fa8d6daL,
+        "4841de9ac9c7a97cdbf89ce340dbca1dc5b21725496b0455ec62c99378a731f7e275fe49a0ea3c572e24f81ee832a5eac8f3b39d6f0cebe54d2ab99b713ae02e5121df5716cdecd4096bfd969d4f2947ab9ca427c6df8d774aad9d2dd9b04daa7672b5770ead6a324d4b260f4b45120a6ebb3e1a5c69a31a24838c477ccde036624c14d6ceb63fb066736e25c1bbd65e5acf953dabdf0313672decf30e3aeeebf9b1a92d200621cb4ab0d718c60c1bcb0ae2ed0c51ea4c33457d60c4d2bd9218a6");
+    builder.add(
+        "1bb06780612a067d8dbe256b53bf1d5d",
+        "51092664c8740e9531b0169f3431d78d",
+        0x80cae2a4f0453e9eL,
+        "57b3c49047e56fa12f941d85c15f7d3b7b2e26dd9853b90f76ab907028ec443988cd0d156984cb1cc3802794bcc22367df54f433c48d5971f1d6a281fb89433d7f7d4a26eab317bd234e6d7c229cf26fa10ce685aac7df43d29bac2e330cc251c17fc435b501aabf65416073881b6b4661294b424c5e864a33ebc18e245d72c50cfd6ca874f7e69843cc810e9f71220c90d3c901b22333b31211890e0b680ca00ee4b735cb0dc5314edab26eb77dc198110783d825714f015855b99451a4c5f623");
+    builder.add(
+        "9fba05caf7ffbee7c67c0c2fbd9b6bd4",
+        "e38bb095e2d09c40dd6200f8cf226972",
+        0x840e3de4fbcfedf0L,
+        "0c5f59deaa226ae4c5581498912bf74fba62da6f1661187168c122beb42a1fb325dce50f12dc59114080d5c4dc6be9830408e9872568ed3eab92d0ab38bdc4a5f4abc128d7a056816e565f16fc58b4f435f02facb3b2389abf18d92eb58d72d77ee1f0af65645952c7d6eab5677bdb29de2b012ab018937ab53c8ecb7cc4ce0943bfb775961e668539814c27d8c1ebd62499cf701c7b197d6f7a7f5db93082212d4cda571430ecc3602a85323d44dd61b8a96efc4bd045b43f358f0070a2447738");
+    builder.add(
+        "3f06da1bbd78be547cc5edea6d71b0ad",
+        "4bf544c1219c95c9a0daf330ed28088a",
+        0x79d65a3becda3766L,
+        "71cd5f6feb2150e64fada2f33a2badb29585679c6f855deed371f3d23444778b83dfc95ee22886c71e1ade8ad1ecf11b80b2769b619ce39200f86ef9123d2c3ea1ab81e1281835fd5521e86923cc6b6d3de5d84fb0eff169db4d0026db2c56df84806ece0bb22cb95169df4cb5bbcef51a4af241abf85d7b87fadac708078a1f8844a6a7eae3a9355b4ca84acf62362e67a55551551e3b3a270e476f30f60541161efb7769eaf6fcc3f0b6af3158163bac4458c6bd1edf5dfde4598e04d65be7cb");
+    builder.add(
+        "92aa85a439c98aa58c46cf546a19fbf6",
+        "a282d12555474fca183ca63f8d5a4108",
+        0xf26097d71f9175adL,
+        "da0dab18c54a135fdae4d303aa9935b41404c5a941ddc625a9c24a8bc882e24c6598718702d48c7055d4d8b9e1c3ce23d34cb030ac687550b789442300ce20b9a39cfb43a6dcdba2ec10baed32a5f6d19cc24361f4d1decd575d792bbb3635a012fcd6e354320cbfd0cc0685aea8f645abedc21ea2168d4bcd91b3ac7425ad475bd823577eccb5134f9f0f5616e59441e1bceb064a095098a7f3e289feb989204b145e6c7f14ae8f3164b7b9895be69f2d3cd9298d8f685953ac1f1325a1847015");
+    builder.add(
+        "32215d6200ab6e2e66a2769b80163553",
+        "18a93a263ae682dabc96cd1886ad3e31",
+        0x0017f35b8b130ab5L,
+        "aa8115193934c5b5a52f6af7f5d5607343a362497082e91736a2b358e61b369d67dc5e8d405ddf9d8b141512a029c4bd6e5648414e9a31604804b8626dfcaf19933c9483a05b48eb02824e306fd8b5083d6029174a9b176ae31cb94edc14f1ed56604861443253822978846906cfda1f16aadb6f024fc5214687f3e741e8634cb665fa2a9d2ca8a8be8be7b1162469fdfb03a4ff669cae604ec392a57a3ea47920e7e9ecd3742ecf4c2f7a3bb1b2aeeb9dcb58273f68ac6e42c07183134cbd0fe999");
+    builder.add(
+        "392f09eb73d56d1abc8845dc3e1a7421",
+        "572168180f55cb0e25aa8e44f2cfba71",
+        0x3f3a2e05655d2838L,
+        "860318a9b8f315d54722ce691478bb5111bac4a1c78f25542c898f8f4fee195c5b25c1a0517873645d4f01e9b20f5e53df216d74e28cc0bfec5e417429a78f9692cc254f2c1f4b88fbed049dfbef95fdab8083d74f3f80d308de36f85d166b37cdafa771944f0b50c40f01d50356f283209687df7229862d70fd83cee2c997d48b0c5049e5bf622aa946bd2a655f13c280d145c12bb8c6e257be82faffa6a6c07fa1c4aed0507237ab1efea110b48e7ea3ee62bb20382fdee25e82a3430b1004006a");
+    builder.add(
+        "30e522e4f6efcbb653648fc70f906faf",
+        "e948d8dea44e47a5b2a5e3452bce0231",
+        0xe015f99c97a968cdL,
+        "d7aefa1b4dc2af762ce5d4d403794381c9b5636fcc1c1e02d323b0fba32c5cc2a65d00a341106ad9dc06d659f42e38b99c1d233464560071046b0cc20f5254c7954cfdda83c22e0bd74a303c600574f092c15eecf51941555d2214d6cebf7d1814e6467b39fa2787fb5130e00ac0b40e8a1642a59f52d3ee3c68712feaa6e5e5f7f2bb5a4a1675c0616c65fc34b97e3f2a4907fb0efabdff8b634882fe6837b3d9593c175130466f866b2f5f53265c956c99668c9b003c92adea33c58ed5f6692fe0");
+    builder.add(
+        "35d9f04fe3d673e1ffce7d33968474a5",
+        "0759fc719af39268ad2b3349551eed9e",
+        0x1573a2a61dda7814L,
+        "95d89e5614118afbdd53537873f72e601db0c6a8012321050db6d82716bbd390ed0c5af5e8b02585739e6bdae60120ab0e72ba2b6bb6029272ac2566370b9089eb5434024679ef5faad289118f8b227901526512772e4775b62e1005c8befcbc5578e2333b62c87fdda02dcb8c59aab5dbf4b610b72b3dd781f7103efd39909a07f9dcc474a2d75f5f100eef4c815aacbe7ede638d8edfeb9b38d94217d54ece4d510cb238dbfc4aaa663ee5745aff68933f9397db0393e71c43b88c60d838ebfdc4");
+    builder.add(
+        "7effda8cc02b5003fba80a8501640292",
+        "f73221cacc9f570f86861b77e460363d",
+        0xf104211ab3cfe5a6L,
+        "02adf0106fe0eac91eabcc7cf93b5e1d1218f3914ba7478f9ce8bd851b99444994af415c044765aba19c00e8e6d43b6ff013b2e8087724763c2a4fe7df5dbc36445e256868708f219e937ac70defa517a16364e3e802aafa4ac84ee2aafc935f9300f3b04b24d290de7b0f76a9bc5793949ccfb99202d9a42d69d7e0dbf3cb707b8c785789f489c557da22ff7855165f416bc0332cc49393fcb2874305cd604cc025c123126269483dd3c081f2dab5a5060bc174d56d624961148cba1c2ccfdf05a6");
+    builder.add(
+        "6f1ca0c2aa5af9d3077298e4a10d7a6f",
+        "317f82faf3f362c2ae284b0beed53801",
+        0x219543803ff00044L,
+        "6fa6972df2a548fae29185d2d205333329e94cede2d344b9e4beca0c959ebb0a47526ab482aa0dea2a55f098ecff759698c4ff6bd98c26e9230cca05c7dc5b6e8e8f470a403741cc70bb717d53381a521d66ecd390160f797d3bcdb55f1df87c0c6bef55fd44b57cc8ccc4f0a088abf73110535e8a31a5c73cd4d3f44aa541825255dc5e460cd091027480d65148283eac65a648636432da751b9c5cd662c7c155d88893b410c5485592ff1bc1983f652a28fa3c032fb0de687184c6eec24bc2c0af");
+    builder.add(
+        "7ba8524d08ef7ea785bd1e5da464fc9d",
+        "aaf65175a064a5f7e53ff730f576d046",
+        0x6f7f5876db532216L,
+        "e26a41a71769b36eb7212d642185ce6df144669fec8180e1c1463324e0537f06cc310cc20e7b2a65a3ff82220608f2ec3bfc6ecefe4a6f980edaa5dec8baba4592ab899ad44df22c1dae207479cafb0979784e35f68bd40ba79e5c8e3f0ed70210ae795fff3c1c2783a9d6e150935c96ad3f99a92e8c0ddf6d2b4afc920534f8b5ad2e80788468c4f39450f9bb01a87c1974cf19927f74682aab784904a72f6ce2098d8185f5b905cb8f9d3004cb39c007c985a52365a950dfbbfe0cbdecabf8319e");
+    builder.add(
+        "c1d463180103c44ca7d0186164b107cf",
+        "bc97b372109456558b1c97ce94566f8a",
+        0xb0d11b0ab0e7b50bL,
+        "ec77ad0a40451d26f83ef172695349e3cfa6ffa33cc45c74b78d698932b465a9dcea54adb66414bc07d2d544621383a70e4ee78cd00df2402f2ada8a0bf0c9ba702fd6342e93d8444ed119c6cbbb3c8ff0cb5ef7a5f0210b162c30559124678ce00d4b672ad9e60e33c86e6a756663349ba50654f4d90fc310fa672350816517ab85d91cb30b4328788d17f285ce91988beca5eb7d1daa7b7648a52d9ad793fc76e764a00ce9c9b63b5ee7d87b3dd64669c37224d6f3e3fcba5cf75db721ab82cee6");
+    builder.add(
+        "398c8d9023f8b9e808e061693889a174",
+        "93825ce06d0a5382833f67485223e7ae",
+        0x6c85aede73ee6b57L,
+        "ae681b6c3d19957e31d0d54ae79e6600150f0f9f0778f8dd2f9c8c9e20d50d16edc0667d9402f5a440949fb0173d3575bd7b0128648f94ef588897dcead11dc80f847c2fdb0cfc3763e43a0dbffbaea5a45fda78b97f4834dd8ba4ccb1ae164332b7b329b54ac9ac4d5456d346892fc56ec60f072d475256cb1185e77f14a1264ac73c4a9eb238e405c86766bbee1213dfe5a8d0acb57e782ea393326ecc2c88e844d86e1618b203aba15f97a89abf8221538e222406c43888079a3c9af77e2d04f0");
+    builder.add(
+        "cb09d55440438acda7b6acf39a50b779",
+        "078fa1ac50ce02d06762d40ad3b0223d",
+        0xe04624fa2fdd00fbL,
+        "30b0f768888914f4942fa2abe6a3d6e0849281c780ff5cb59d7fa7355fd0a427b7ec7d037d9f1ebadb1006ce40b1095c5bd5458523db1e079e4a8a57bc2cbbc36c3b8b5ed84762a3bbd01603892dc778f5f97bb4c2ce3d06a05cb2a30d6f98d77c3ae260ec45e9f2fb6b8fdbd84b03346ab04973ae1ac960fcbee7be461b397135a8f6f17846fc8aefff0866adc6021f9e116118b2c146e4d96c5b3056d8da8575118b0639bb23ff7f590a927e71b93a467313ecfe1840e85e446bbe4739b46d7721");
+    builder.add(
+        "f5b446814d937053e8f945cc29763926",
+        "25d1f19c5b845b9e51de43ff34b29f97",
+        0xbebdc9bf144b35b2L,
+        "d528ba855d299f1805580a099cfd3814e9bd201769980aefb681e5e077d65e5fe29d91b1cba2a7c94b1e6c5920a5a70848f94e4c3d5c60c6e1f9ef434815bfcf884d61f142c583da9e00e37c7764faea0dfe5c5e8760800f0bfb100881a5a0e3e4832e4dba8e648cec1779d204c172386f067f5e812e0244406bf0ab507587d0005b5c2ca22835eb2c648ab9a33eac2280e7d4566fa9f175e2b0dec7aaf96ebeb7156115a532be1543893e673d7f865c1190d657ae0dd1c349c85056e826cd779d69ae");
+    builder.add(
+        "1404c566f14c73a22fd51b894f0d1ece",
+        "649add794bf0b13ec6dd4bedf086c7b2",
+        0x54e693787a2e7fe5L,
+        "480e46f0d324485f432b061bd07d5960c7a7902915bb3f2ab0cf0419d5dd06fbaf33cf79e48357d636d002f254bf45853f5a90026bbf1f65c543659ba32cdcda1b04ea43c7dc5cfa793fef016f18502909b9871fca6eac1743276f82a5a20dbfaf5390eee6c69de6f2e8d5c68102400c15df697b661e762e2f271e1dd933b9761788c96309a694b80ff5e56de6b8639e80a663d973376a99afbdf29a5d6228613c90ad8be42f9c7977ec04ec87ac0882eece9147f9119317bb5a1f9440ddf75eac0288");
+    builder.add(
+        "3be519fd372c65379f5c7e16f8d8b896",
+        "78befca13e538fd82c391fc2a4747229",
+        0x0e924b9835e6eaa1L,
+        "3c65fede14d61558dddb378163630b797b8b898d6b5e105a6ef7e58637286a4ecc618a801aad4f060076f502cda65968e96e83ba1ca611095c2466a55360e7220c0fb228b18dcc9d07ab3aada5418dcbce8c2474c0d136d99cdd7191067020b2baf6435dbb2e9cddde50b8bb76b872930331a6acf3860cdd0cb63091d6ca0f8122d6968609d558368e12216d617c67e27d88ad9fac363047383efb07052b5dcaec34f0aa8834501b7dfe327aeab8fa0ef55542bec1b882cd08f8fa6e0545f5b65ecada");
+    builder.add(
+        "7cf1f616b003f7e01758aab21d568521",
+        "5661f2518f20dc6d6b1666548b995a4c",
+        0x4691339e03bb0931L,
+        "75da167eb59c02be76626480f02066dbc04721fe11ed0b38a14505bc61c4bbe80680abf7c133e7698ebaa6c5563fa10170d4d19547ac026c250e0ffe006008374cbc081c18eb987d5769b7ee87f1ce3f239d05cfb7db8cf19c84e08e0eabefb5c2e6bf649d89dd4a16ae53a2510e67e2153cb0f73d4fdd6bbde6c871b7fee6aeb75a8d57593652ec7589eab917a403f4a250418c0a5656bbb9aa7243ec3a9136cc088fbfe9e2643276f115ecb2aa1c24a0a42c58d089290872145dd2623f2bb07e5664");
+    builder.add(
+        "2aae2c7399f67a45854c7cfaf993c45b",
+        "92b9aec7410b58d5d98b6b485d434ad5",
+        0xcdb895dc48816d29L,
+        "334af8e9c6a9822cb43abc0d0fcd7971c0796a6171c18d4da7de69cddcfca1bee51cfb4c8b6cedecea1a474571956776431385e25250c3cb073b6888439070d7365c1ff381f327ed0e5faa1450b068afe8b2c52c65a1c10183e17c1cc076aa53cfdd2c621c7e41d88fa124a8627236a79d677cf4285e36df3a04814a7ddbfa0f6481cd93018eafc9e119d7dbc4a85a4f2c429de4a4e1f45aea3b97ab1b54704ef06ce371ebc94e1928f04ed0242457f13e09af90e83489c9dad28d22ce5c21ccdaa8dc");
+    builder.add(
+        "55d4cf05021d5c65076865337ca3b72b",
+        "3e4c249813c734e7bdcf5de631b98121",
+        0x8e9d2b34e6e28b3eL,
+        "040acf931aa1b4934e5989092133eac6cec3f5727165f9f34f8eb79d5393c47a8c4b016cdc97e46c8021127d1cafdadc85ee35ac17871bb20c219efeafe2555ab8d34fbaea65b2fe508ee2104f4ffb4fae989f7b0180b01bbdaf7092ef6154992cb83ca6b55222b2b800a72703110a6b9bed66c3b490546912cddbfd917eee6cdb525a3eee1119d45a396d32a1b5fc5dad6959686779856f0e26de2ca71cf721a5526d930b8298f806663eb93e271f897a81658f0ec13144f002b946d39377ec91a97f");
+    builder.add(
+        "53ef4017f6a3e774d794f57d26d7794d",
+        "1df2ff69f7ec892eec6ab56b0f8085de",
+        0xbd7ab1bf1bd84d31L,
+        "781cde05eb66c1ad127e80a797075aec59250e64c7e2a7562c298eab9c143721c3be8c4e5daa4eb7e7008b1fafba25b50f3a4d54937ed9d0473cf9d8ccac96322dca87df0f34deb8dff803cf83c5fccb01c04e9063944b5ea1a2635fd1d11b10e2b64bdb3dec85b69dd9737dbd6050570ec3d9fd9e1b545f46cdfafb6f4c0032fa5d36061954cc37672b62bcbd11bd6030f2ae04ffed66c6e1116fac2727a82c4ea89cae9f96861591f6b276e0f1caa45f5cc7259c3266cf9bc0692e21a4f60c2665b4");
+    builder.add(
+        "e1b1022390ea43f184f3ca45ba423ba3",
+        "4d812a6eb484a19dc63c5f10ce4b073d",
+        0x1993ab752d82dcdfL,
+        "b565ff5ab60f8add78482068fb6c71f152fb8e83be891bcdedd5a25fdb8349efa39ca43c3db769fe97132a18605c33d974404f35779c57772f4d9df8f516a236440130ccc326f8e2733fb685dfa30eec09dd94e8a00b320429dfa02660d5745874838f2c24a2c59965d95afa6c66a445c18418f4d4c330f9a6a7489101403aac1e0e24fe96836d56b1dd747b7e85d1c3ce669b707a1b667a7bfae542e3f87d5d39055c592b797e7d8230b9c6d605ae778836136bad69eb85f55da7d72ed71729b829e0");
+    builder.add(
+        "89a62cf46838187b316785456447b427",
+        "79c849c1345d4d508e275036343c4d5c",
+        0x9a5ec16ff2153caeL,
+        "aff567b34eea37536aa1541a20cec08a854337313dadff719028f2f38cf8ae17414e5017d2d1d6cd11c85a478cfe1d6a0c0c8e4317620e7deaaeee5ce2667b3f2b04d5c45a534f663d3610a90def6526a36d347a408b09ce58393438520a1ff2cf7a31a5f66d2a36363948b63e890f750b5ca138f2f02b29a73399a1b17428d6b998cceba4821647af73e6a2540be3536bb3ee39b2a79152b2eca0bb804cd0b4e5a25335471d71d70e9e00521b8195ccfb89298b8c127bdd4f48207bd5821eae0c230d");
+    builder.add(
+        "aabb7dc2ddaf4c355a761b1db120abdc",
+        "5c9d6852bec575480309f353b176fce7",
+        0x53a34ac1734f5ac4L,
+        "65f4133edd08deaf81d44102d5bbdb23449cf417c9cdc2a686919a6268e4975f75e9e8f9d7218ced793a23ccfe4a6375e3d5ea22a02d1796bbcc335981d0c12eaf166fa24a6ac3dda99a86826f9f85b60dc4d627f57099fc3d93bf2920ad52d0ff874d4b81ed577313393a090088fef6e2dc32e334d05c04a29b91be5b6b51439372ea07da514973700f686ba869b420549600c6be279beb3ad1e88f24ceeb98ef880b63159a4017432c215f4e60d12792dcfd993c7f86936c2b934af777cd5f6bec24");
+    builder.add(
+        "10c42e5c2a2fd5114b598eadf8602553",
+        "dd56c2753b71e77fd9e21b58a5da2b38",
+        0x2ca0df5f1ede5710L,
+        "059e84348365de01f3a624a82feafd629f5af1bf89204e7842b72a9bbd2e0d3049aeb1a2d23d3b1b86562ea4c59c6352c3f936f5e467d4d783089f5a836522dfdbc6789fa9483d54ae30331e417ad6d074ba3c1e6e1aaaf9c3338424fba4384028759fb7adb0a7c3bdcc863160b09fbaffa5e20d6e9e01107b3ce972cde3bc77d99dcd4cc46a1c9950b96bb60bee345524e837aa7bae7cfe3d372ec34e5b0b6e285b195c8f52bd4651f754fb0f78684d3d4f21757bd4add46043983934a04ab76e61cb47");
+    builder.add(
+        "a7e21244fa9acf5faf7f9ff8b5bb7279",
+        "2b25d6aa407c18a499f48fe8d64c203f",
+        0xc39af98b13e6fceeL,
+        "d6c31e49b2fbbad9d00499690d22d2031a15c915ae370fb1c80c451e24dc6b385cc163fbdeffba7a84dd1d708eb4617d50472163f6770ac927457d6bb7b9f29486997032b396ace55a5c1c3264bfae0711b5996ff92408b1c3d79d07fe1c36bf3f74e4e87b1bcd86657f57f33963d96ece399062c7489b4f4a193bc370d59fe8f8bb059d6369aaa5ddd6ccc6d20972a2b79363f745e9d5fed1ecb3dbf9b9d10e8f6f591a52652cd125fced8ce67a7a6ddc16d7c5450266e64ea485caf8ebfcff37067430");
+    builder.add(
+        "37ca5b7ecee10b07fddc9ee88fae2ccf",
+        "9691924476c9b333606dd006ddf428c6",
+        0x2b52121cf2240dd3L,
+        "b5c55dd05fe6f6235fa7e125909cb9afd4bf0c1ab40b43336fe43dc84ca642cf71441e50b42355ff780fb763c72a581d1a3e813a4441185b3711b6a5ec78ae63fb01396015feb53ef8d2beb829fc920b4ed013041aa99151180266696d2e3958989bf3cf2ea044117a2646789ef5ea3b1cc21c72404c9965d2f635299e7cd105acd5e5864d9886de84fdcfb0cb57c35136a0bc63a909bb2a7c0b92e71a0af2f2d44262acd2c99881f7add2510bcebfa5144a685b4ab30c067d6e22f29549fce5c54d87a1");
+    builder.add(
+        "dbe23cf880dbe0d85305535304aa6cb0",
+        "43f2f4ef0e045c54072d26fb0d6e62d8",
+        0x4d4223d5f0612640L,
+        "e7096e4d679c1d86c1d6c971c3b73fa4f5e8e9eeef7bcb2ccd96944d5cf8d995c8ce2f9ab4acbb832c237455e0bcc6b747a3cec6e30359471c05b83f1627c7080f275eb80080b2b9896e311e68486f89b71727f188e8a36f86fac4cdcdaa25427f8ec7ebbf61888db96a65971eb2e2b06af4f3991720794bb4d2b60f0ca0012b1ff500d53264a891e9ca4735e37c2e9f3068a99106a34c33b8d0670a766bf98abd3283c58b3f92f3c72e1f3673a3bd7778f454ae40b03bf09f3b6f1d52110b71d130b18c");
+    builder.add(
+        "3d8247bb929a274c79d1f0f783aecc5f",
+        "2b9e67326118d1e85eefe668ec5bd957",
+        0x0bc9af11a3b8e9a4L,
+        "a1dfa3823d2c3d166efc49058f6644ad3f7234fee897157642a13c49427a1cfc9bfc271c7fbd4564b04df827acff0e3d2e7b3249598d7a5c5d26e19917f62a11ca7a6b8c4bb31931f4e956b5df2c8889201adcec2cec5df4d48a85043df9a9688ac1d8f64e56e034546cf158f2a4ef88e32b0db9a61a7cc556647a92ae7acc2a09d1d85e7062180b5d910da589a1adbc10d49ec7642d5f3510efa4a3b0c00b3d5b08222131f884366ae923d95cb2472a66cc09930af1f162398897052ce8b45fb0777324");
+    builder.add(
+        "7f3cb7d067022419a8d68dee64d95929",
+        "778475b5239c91dcf66a494a495384ec",
+        0xad085781d8d5798aL,
+        "590bda400dcce9a0598c884d763ee58a07f189b7018e4d1a6f63ef39e548e77e3654c5c3225a1563b159869dc8c2264192f0ea535075633e2d16fceb16f56c20f38b0efcd73db8c48e265f6aff2349975d8ea6f1ade62f11083ae61188334029ae70735b42b699299244627e8a7417054768d3164812f3be468f864bdf9c0c7c85f50fedbd8bb547a8ccfc68fef384ad80edf671e9edf09da0fd3b66de574112b1292cb3e44fecd830a9d290de421153d724d5dafee158e9b72bb8d7b1dfa1af22fd61c6");
+    builder.add(
+        "c06aa9ae0caf46badf286f1c5bc16dfe",
+        "e219d2d9104f8ae25ca108630db2ca35",
+        0x83588f98d27da3b4L,
+        "5442efe9e3121d076628fd888ee6d1220623f99bf7b83dd1cf4a713195a9accb4e13f940fa30d41dc94787924ef06347464c612bf16abfbf0f9354cc4d5eb4b216c63982ae079e7cc99259aba8c11ad566df2bf3eb1085d40f2792c9a24d6f7cca969e5ee3fedda8308a0b62af54c312e33e8afb59b3f1ac66af75a0590a3b6e8328ecbdc8745614bb2963a658684e70ab17135e4e67fc0a5e5bd107593fe24f6efd0b4b21631d08a072f79cb94a6bdcf5884c3c0ccd1fb6f000d673a7ef126e8d0c8772");
+    builder.add(
+        "508240eeeb054c4e2081fadc8070fcb7",
+        "4e60abaace4c35fafd8ef6f0d8a96ec2",
+        0x182fa5b026fc98e1L,
+        "016d88f7255123ce10782bc03505f58f2b58de4de9fe69c5a5065f15c2fd7572e6c13635db7928b0f77ba1e9ce283a9a1d0b36b67ee4dfaed4163c5c83510078e372129fe81aea948d5911eafdc8d90684c20c62e51d0376ed4f2b29955131684b2f4052e56f4f0f73456d3ad9fae2d1b101f8c541128fe40a9025bb617c7144ae92980b2942bc640e7fa9f1dca36b82f5a4a6b6891d5e115a9eba3be3c6fe567db3252ca4358bdd40d19094a6371d8e528264edcb266fc9e0cf0ac1975ff5aba574ac73");
+    builder.add(
+        "a595a86b824a68a6184474ad7bf139dd",
+        "485cb431d4c9e32faa6ceed2e2fe6946",
+        0xe410d65bcdeb8304L,
+        "7e5276eb11b41aa26a5534c5bb77ae136b094ebc3f915422c07f883cf81f1b3392ed6025927cf4fd170dca60d140c76e3e744b313013440dfa22e4f102493d84d5dc24d653e0ead03875bf16520440343d1e3939e73e1aba91315a4fbd9ed308ccf6bbe0e2085b06ef22081eee6cd446ee60ae1090fb33736a0f377c0100fc97976385e8f0f7c7df77c7bba62fcafb92f842ce89948bbc1887c593944dd14e6088607da8acc74778f46da98e949afbd8995f8d0849bb3337d3378936284c1c7e91d4caf6");
+    builder.add(
+        "e9eeb18a44897862a6b5e0ebecbe5b7b",
+        "06027c9c9f5bcaf4063588f96c7bb9f8",
+        0x511a7f000474fbf0L,
+        "0f2c6812b67d467a843fe7a291b253cf371891f464261cfba658e3d0d0b381110850ee9e3268d86ab71489c2bd6e59dc714261427e2b3ddbbd3d48fa6ee5d9874b2af16bfe643d6a155eb035c7b230f3a28181e6d9300a4cac112131641a49680c2bf072073c10388c02d6783fcb50cbff5f3c92fa9d9c071320c1ca12f5bac304be28230c15506fa892933ca64cc2a0af7d97a4525acce490e900ee34d0caaf1a2844e189ecf0e0a79b695783cec052d30cb4f7c77e36e4303ede868c1412abea824095");
+    builder.add(
+        "2b6f82d991f74c29faaf1fc52b654822",
+        "1b3e883788cbd8bbc38d64da555929ad",
+        0x5e391b95f50a9368L,
+        "c6d3b9a12a9b55e3548f460dac2f993d1302a474da389213640233d0e68fa246170e76ad565adef2b8c8eb644ca9fcb1b345a9b75b2c5f52df413ac05a496c57730597072bbb536e45044a768e573857b98bf1bccc20108701daf816c0442e1c11ebed1ba2f9505a57ce4f65aafbb99fa09115100f629e3686c28cc1dced5f1b2ec5ed8a2987e4ba075c2f0f42cf227d3511d285cca58743dad47d719d341f89dcc8b12ca074a6750ef44f291ad550d3d57d5349e23deb22653da23f35d2b1583f796c13c7");
+    builder.add(
+        "a8bac732c5c5e1b60cc769223a2b7cbf",
+        "4355ecb67cc5d0610f12ca072e809c27",
+        0x28eec11cb3275550L,
+        "5dd106734661442eaf74f6012192ee983459cf7467d7486b27d413da40b3b8679bcc99b0ec38ec8e5142e9c0c952aec8f7c8f9a714f970819c5d17c8df509be89c0432e460cc06fa5ad26131f81e111aae66e0e0be1d757befdb96ad70c0efff82c0b06e52afaa9175bfa85b71484a793b4f84dcbd71780fc7a79ec7b2b724415234ec72f30b74080b9d1eaf91c16f4fef054223515b62fafee7ca314e9497920166a3c2495cdf49952790a9667ee80fb05e7e76c0f463d19a25544e1f7871e516e6dd996b");
+    builder.add(
+        "55da5017ceed619f7298fce825b5e4f4",
+        "2e76e42b9de42dc8c8da2a3646ce5375",
+        0x971b0ab2a6127c3eL,
+        "b2eafb0cdf96fd843a23102b5ed5a7465d900596cd4b9744966afeb3a5bf7ec221a9a8f53a0fc5693147db51c5fd6ec2e5f85f18ac5341c80eaa8cfde7f082d07a3e33f0c8b86531a4f2b338d7ede37883b103fa70775e1d07b1b3758c0f99432aad38d37275155caa243605b5c36419bac06eacbe20ef0f11c2b3683ee0a0402d5331c51a114042cc8b128d3362018c867a43e6d5c2d703daa0c6dfd83c47cab36ac8639e116392a4235c726019bd9886eda5516f4d632fc65b7cb1de59542315777d42df");
+    builder.add(
+        "370f8120f89963b447362add47654dbf",
+        "532d78b162e12e96b3e48e12b242f6c9",
+        0x03aa689404a2a2b3L,
+        "c8f81fb720906420b21369289e41edc020ef14b72fc6e3aa35f250c2c51d2235f8cd1866e76e2e46c7b90fc955b4a622eec8b34e9252cf8959d84678d47cc7c6c7626283664c0668194091c888ca77e40f9bcf90b2490b279ff02591c1fd1507402823b9896039e72ce6f642593309d90837d275b5c6f8f41638bc2451d04f5eaf01d4891fc07126fb3f01f01b9e1bd40fbfd58640b5ae4d59773b7ac77fb2f1acb40baa61d991f493c1a106e6859ed5b2d2c40fafd43039a7aa48f849444f7c6778ea2f13");
+    builder.add(
+        "7795603a6cb1a080ae39122d29d9d831",
+        "f65104158e59ad2a616a6f48dadb97a6",
+        0xb053ba64822384b6L,
+        "e4e13497226bdb670ae838e05abdf3ee22e9cf79be09ad5d44e1cfd24e6368deac2fbef512aea3ef063bd450f2f1255cd38b07f96021ae08ddf611f1a987f0e85e9c3e88bc59725978c9fe1fcdafdffd1ee71668b8f130cf3c301cda523a2d6f90cba3d8e0ddfff54ca865916d044cc7a0cae22c81b59347fa123290fe694543cefb10de3a206998e473fb8913a18bf0cfea7bcbcc2a25b54d021ab8989dc1e4c3256f6d27a7850e1813bce661cf11170b76b0266c4154224e263e3e07bafe4f519f07deb8");
+    builder.add(
+        "a2333479db5448fd69b23a8467173d8f",
+        "9f503f09f96e6109387eb9169c025c3a",
+        0x70167871d613dadaL,
+        "03bc19658e4a5a9e64fe0d31d22dab1631db1a741869cb3703eaafaca0cdde4afc137bd77dce743e10ef83b160aabecad6a5dbff1b6019104b5dab0ab73d3f8ecf4be8bae46b85170acdacad070db14332f2d590555b008ecd905c0600e751c8d6dc2fcf237e0fcc86a5130c968cc294952b64743435214a133e876d28d6421221b093a7c3ce65aa2f87c19297c3bb97a2ee4637e580bef469caad9f359dfa7b9e77ee26006ff3e5f43cc22eff41b7e95e80dfc584ceda75f72f430d0023bceb64e825f6fd");
+    builder.add(
+        "ddbfa893d1027cb786d83dd92a30944a",
+        "ff0bab2299a51f77f21477706dc31409",
+        0x4c1e9ba41558ed2aL,
+        "c49bac296b77db2bcd583843ebb2bd9a36ba68378430d30b3446ee214ff72c3eb3611358d887871b9072847290b3337f072dbfb94f322e5b8adef0c01d1074cbbc3f9273ec9f5e4669063567e70b4da32af81a7d73431ad8ee9002ba858b5adc3532fc7179363c26d5916c07c7df92859a003cb006c971b0b577fdf28304c4c4b8bdca7ea64805937af377d81946cc001f003d46dbbf825fc3bf90dc00063ed2a576fdfe92c3d36a542062fd267787adf59de7f5194f33ada771f0dbd14f92ebc5f8d1193b");
+    builder.add(
+        "0f4a77615d30327e00a0b26e307efcf3",
+        "103c98b5c01bd66e2c4a89b8d189cdd1",
+        0x8d2e9e781459b480L,
+        "b2430d669bacb9d05342b8fa48c9ae13ba31fd6946223fbe0530296427bbd24d75b2ea96ad9bc45be41f4b744416584a23a3c9e661bb558d34939d303cfeb9386b036f7f817696992a46249a3b3396ba93f1af911213fc3c66d75bdf3783840f43d0493e828c36c55995295fce90bbc9c7fb380f27428c5e00bf5a343f9a7c82d43ae9a92ca9533e1d92187461a4c029583e336921c827210201fb7a8b5ecb8a24bf6841587f31fe4f775222963a2f8d56f803fd99e7a0bf12a937e51afa45c7e595de85d9");
+    builder.add(
+        "fa5a7ac341f7e714702d503916feb3cd",
+        "a5a698f67be7bacaf825a36c70727e4c",
+        0x50b5efd2fc4536b7L,
+        "d081c3d300e8ae2ecb181ae67a2c0fa30a674f926ec0cc3d951c3b37bb519f73c55927b2df414e35aed312b851ac7721cb3e14e7d2daae7b5303f6289ed8ca32279dd5a257674922f25881b995f1415b57d950b756a770695bdee2e5282ee789f49b31bdca320dff32421ecde306bb942f7826b3fe7d2b1a2736a20ea7855065e3fafea9f311afadd56e4bf310f9402668453fedf177343e36f68974a35bd6ff784554289b15952465d3e02c2db3cc4db743f4d5cc96daafd50b0769f6cc8550498f132776");
+    builder.add(
+        "f1d39eaeaf3d045ad2ca6cb5d12de57d",
+        "310464f33522f10e29d40472ebbe784a",
+        0x04746e25e1fa83b6L,
+        "09e8adfd9edd173cb247295485dc5a4dc60f1b1bc15c7e9295c9bc6469f3e8f0e674850865608d5503d1ef23cc1fc3cd4edbc0751f47cb9f40b5574f519069bc5fe19af83eb8329f356b0d31c4fbf910e9b5a1ab64f63faccfebf6daf84db8353f843d3f500289e35bbfd1d1fb64f822f4aa47c725e0a3125f6020475c286dddf14db0d9143c4c42be8dee71e8629333b1c057bd4a32c8604eaff68ba3fcec2078aa096a1bbd31731419470b5358d701f06ed8ea04fff7e5d98fd2f002a71035241ea0a4eb");
+    builder.add(
+        "0d82bbd11fd2cce312ea65c1dad661f1",
+        "43063ab5840099a9db754020c9843d5a",
+        0x969f948e3665815aL,
+        "97bcca8a9a4b75bd2e20f9d15f1e8fb92c978615531d8b6edfa8313265a3e6250c9be86145d0c224aca1a2c594972fdd81f977494f318af732d4e3f2ff7816d717868866194227b1f1de642d209545c538fbdcc7692fff4c175ebd5187bbd30c170cd470ebb5d87017e0ce46c7f8c670faee674ff204c80e83f3c911997ba297f44e2554c83e7f8866158395611714285577ee8514ad79004e308def8ce1db69e61b34f7eeaa6ef95fa34d79d5ffdcda074b30e5148ed992d771d64c614cc13b0edbe040b6ca");
+    builder.add(
+        "cbe88758741b4442d975f1d932f1e88e",
+        "04c885208c639cf9ea31456e7e2c4c06",
+        0xe51961aaab63de4dL,
+        "cc4b68f68ea7bc62bb607c7d98f887186f4f35e6e6c769e070030ba9611d0fe056ee02a364afb9c86df762f485645a298d362a87c10a8bdc8be9672d26fbee0668bca173462461fb5c771120927b49b0871562604b48fe8561d06724729cc6a63ddb9cd01710c70fd587f1ac993806c19f0c3a35d88b9a2fa291a89d7f1a549faacb4c15895c7139aa135803fb1cb8cf7ee9844d8ba6ab777dcda724c545112814417d791b3d164bce110c5bb70d982f100b31a400a9d2c0e05cefd1a68daf5c82b35ceb7d9b");
+    builder.add(
+        "b53040d22d44f7b763bf9df22a2fc36b",
+        "e87461a9303a5b36864e0e299619665b",
+        0x6d1e02a3a515c33eL,
+        "ae3654bb4a85ec858744f2941c7952c51acd653fba1fad808fbdff7ca813e6790f66f2812046a060e16eb6e7ab9dddfbf7435aa2a0fd653bdab5afe6795b651eb6b8e3a7e15f815ca08c218b64beb1f7c2879b90bdc9512f2b4b2d69342ed97fff79945d24fe55bc9af13045da26e46ed87381b3e18e9a8c7281cca11df295d0ccb57a326cac881985b740818d0f2a3d3f769c8c5351e876bde45846f71351e308e750798deded88679e3714909664b25834e454f136d8698cd61c1310b698fe39ef04de8032");
+    builder.add(
+        "2ff0c97901b94f3b4e1689265aa110f6",
+        "ff19a471ef6af6d7269435869db54bb2",
+        0x9997ec786f36d4b6L,
+        "c97014aeed0b01e5c3fb8320bc7f918a7786b5ca28671f924e5afab72f852f1054348ced9b573f0b639a9ac78fcf34cd5f6f062bdc8e654248247c2bac0a37a6edd5bd9be56daf99359f4236c0e66b3df0f4c78ebe05f2b7dd0e0298e534ff7a1b7058efb4001f9239594a6988b40229f3c198fe21985e3c38b5127fb7bf32e25c7bbf59138d3bed59b824de6b0d06899210431e607e8c39dbf0e954e3244088e27c7261b26e64944f1d63a9c2c9e9df07c9cf02585139b76d0d6c5ceb8167ffb3eb39a6ee14");
+    builder.add(
+        "7b691d6ddb026fd159ba9d3ca92826dd",
+        "5c390c4dd9203ed6bf5b77a6ae91a10b",
+        0x9f3747a0ad692c21L,
+        "c20da5b5edaea663a18ee861d7bb4aa6f7e28cee892b35964c345833148bf3dbbe46b13afa76fc2a767f6ae5975db90e8ab68b56ca07c0349f6101a4fccb5ecb5d82523cc00ef9d7849af9ed597ad6eebf57513755509244474918c4329f7d57815b5b8d6d35d72650756dcf934e7640976995b316d591c293f30ba66ada2369d595a78c5555412273856782b239626550f94b4127bf958ba1c439beb4671c8e5c75365dfa7453aeb7f69b6c561fe8eddc233f851ab9fd2e683e0296740ff11b2c87d5b92a53");
+    builder.add(
+        "d97b7b1b7e94697ee6ce809ddaffc1c9",
+        "c2d9bea8f24d1823ca867808c8ee7c52",
+        0x16f25855d8a6ec02L,
+        "83a43d1b6828c9cefbd17cb3c407a529fe99c2bcfc36bafd68c1e7d866daeb9fcb773981ba6df455ebb39f11464e729f1f5ba272e0c57b65e0419a7100ac72c4b8bc130d042bca9db9cbfed000ba57b81af67644aa27be91bf75cedc411c12282b3f3ad1aa0a2efed57b4404b24ed291e4cff89533e64cd771520e6023fe216ad2c377388dc1b9fc498659a3c2837500ba285b8ee9a715dd05924a5d709949e36a16a8cfc33c9caa9fcd50d4a6aaeeee8b02b82a00321f3fdc49eb69a7b001be724f5666f54b");
+    builder.add(
+        "2e46891ac5ba28d5d72ef02e6ba027bc",
+        "01542453b769cb6544f1a13ca33a5825",
+        0xb9906d805a0b5fdeL,
+        "92d4b7139a787f7dc15c9de52a3179b3b163e459d7b93d0f5e4c99c3b3cfc2c3bc133fa909f5aad69de16c351a82f2eb7aa0803046dae05348b7dc308605793c818d7db51978f3cd7282342a86a9cd1afa2409194e2a7662a7cd08ebfb3172a593786def9f1a515cb65abda6ef483453769a4a41ab6498cad2e13b4a545bea57950d759c832576dcbc65de2eb6b6af69b7c7b42081538dcc97bc44e75dc5b73abdf549f308b7b1401f88b5ba3c90e3900d1ff0ea300ed36bd967fe01c44c1a81c9ae50319296");
+    builder.add(
+        "88220f11bd496d4d68bd7552d3dd2ac7",
+        "bb1370237c13b3ae346c23745068f4b1",
+        0x71ee2339689c06c4L,
+        "468e24d2f14640f24eb448631f6ae65cfeecac0a0ffdbf524341c340d70f4d1c75e049ae502b471c60e9506031f1e805dc7995dccc2d4c0947ab1bc0d6e0bd20cee5a37d45888f27c5419ac67524f552815635b5cfb2b7448e422c3204eb38f570353a2b96d6a8b27d6aa0a2b579a7dcc2020049665a007cef80eddcc4fecaeb5b68e3461c043915a157cf9bd3fc6187fb5d25591127c65b6f495443eb0e0e411d064fb481d1fa83f56416cbc995bc097a011a6a88803437e7d2615059653f557480841e1e82");
+    builder.add(
+        "e18eebbb03974395694f36fef7020dd2",
+        "4ca749ae6a4ad7376610ca028ea55859",
+        0x622cffb493907d34L,
+        "2f5ecb10fd00a35d06d04e1947dd99fb8033a36ee595500453e76671312f1fd1e005f583fab4fcbe89df9d304c278dbe3cce09bdf0ea99e619ef7b87e48356d9250e2a815655f0c9f8cdf85273400f12efbd15af6614f82d53f83a94c726ec78d797301dc9bd311f1956c4428e1a3fa762010ef10defc53b7c231c536de79fee58ee0064ca7eb178b435b88de30ebb9192ab3b1df70af64f6d7c50d0d4736f1353544b782325c151949716ba924350dbf5417d34f571989f9f848e235b48c56613d65bcef28e");
+    builder.add(
+        "70e53066fd1b759e0988f0d69408067f",
+        "292376638f5e15a20676fea51fdfbd32",
+        0x92e14ffeb9a9c959L,
+        "754e6e3682fa3c8840eb8aba1865a17b000620619d5c8a9886c6e4e7292a2478f163b31af58f2869d7bf68763bc1e9d3738f17e808aca4d7371ac963bc420f92b34fa87f3dc22026e706c26c852dfb619a7fd4b0ec8bddcf94d83b34b7731ef17da15ccc94a99083927d8d8150629131bdb954add368af9a4cbbea5b389d61d1604d8a3990c19c0974ae57a44377dc99562d57ab8e35b11cbe7f97b47872a494b759207c62799351b1d7dac9141540b4c82f99b2c9940691622fec5f0964eece8d23745ebe3c");
+    builder.add(
+        "5323a7d9e197b4e5c6bd2ff382388417",
+        "fcfada0970e6d023abaf360d91766612",
+        0x777a7e622bd4adb3L,
+        "10e81c195b9611a65964a3f776420d73a722271c71dd5a35e82767b9d03b15dc0a4961831ab59814ce0a0ace25c24622c4353dad9ffdbdd53086ceafa5ee118dc28942fb95c9dd80e703ca8c0a2b4179f33c576418f1810b47c277e588c378b5d1a36d55f23b6c1fe8507b8af03f5bf2fb931bac7920751efd0a624846a85019aa3730f2ee6125e5d408d504dcbc6d40f7cf788e4e3b861bff0be454cf1d1de092fae3af232dccb57b52b03607802540f511fd265f18e12ca27e32bcb90a4090f6329093350fd9");
+    builder.add(
+        "8d76931abd4716084ae5b43dc1010a9d",
+        "253f3d8d95eb17bc6ed080f193b5071b",
+        0x7e65af6a305b1880L,
+        "f9e06e4719b962b5f0d9744467be9f5f9041fe35d0a5578f4a75e97b323e1f213b19f085703fac6b936998debc343a7d50b613ae29ebd317da0a205f937ac84f59db21ba83ace1527be9c1ade5682929600c6c5ef7383c80e6b78af17d28466b23f4b704b5da3db3951faceb45efbc7041451e73dcf21feb3bed1f7314e5aa0d78b7cb001859eaa75558d833cdc0ffad8ee0183b3c3182110bc02b553310a422fe3ff8f0f72cbcd9b7852526abb4e819384546b955881e7a95818a47ab32ea8bbc8bf96ff50b8c");
+    builder.add(
+        "2f5d192638be88ad6492e6b2b5e97a2d",
+        "ce3240fe049b0b8656343dbcf9498d3b",
+        0xd9675e50e3e4885dL,
+        "26947d9a445a1983b391c714dff8781ab87e687f48580b14787cf4100d7061bf01ae69706381c349c5e9fe321a991787db4a7ec1d8802f81d848891682f4a26b9e27ddd4332c207cff9ec75e3d33d77a3da007b7b10f22a5443a56a62d02f9fe222191e949ce739a9f9272cf86e01902056203d5455d231b215e4ee4084dd27d7bbf5bbd8efe7ae300d7ac13c077093ef04601ee394bb266660720e80edfff03e7ad058c997abe988da435c6a180cd11d742112c6074944f78bcf6d591c0e387645dfa910a5553");
+    builder.add(
+        "c7d8f40039d8de774f068c66b3408d19",
+        "492e40ab18b0a9a4a0e2eb019524223e",
+        0xae30950855318b82L,
+        "faf68029e258850ca263af1a64bf8760bb079b50a207665ee9ad2ea45e0d25b87191e78e8d319eb458753d3926243f4f972f338c6e458ff76c6a290628f3c89323b9dd08beb6baeb76723934e827b424e6fd5cc6e556e84b074566cc864ebe538559b8977e35a5028fcf6dc03ed719b4c7092b1ec74474ee8e8c1dabc911a897ecddb3cb7bc56011d2969fd3c47e1463359ffaa92aefc7c0e5a1190f0273465f84e912f884d81ca8a7c2c8e8b08550101dfbdc1303c46aafa62c82267ac370cb14570d6d82a110");
+    builder.add(
+        "070a7762a0c3b1031b3bdc70d9480ee3",
+        "4d6a939ca82e4df85070cd714bb71e87",
+        0xe50ac73e121719beL,
+        "62bf2717e4a7b49886ca09f4909a3507eedb4c3797049f43d78fb58597ee77ea9124c94580bfdca58b5a7e96e4d3993cf11e7a6d3bdc2186d0a60b2d5a5d6c4372154afc5489dfec150ae73679517ccc9ffbba7d53ae39a2a3bb586b9b308a9ad978cffe549242dc5cdbff7ee00c6eae3d6d506e8d034552053f9e2b04a78436047716831585f90186e7e6d1a140849c47421f8b3d6a466084d6a668e8a7d839ffcc95a94e0ed26d174382ca50a04eb77c82454fd21e996d6e3abca859b82e6bf5884e9e32b5da");
+    builder.add(
+        "a4f22bad0df624447b418801a648eff9",
+        "b6b24032a4a3b7799b214346c0e9fc65",
+        0x3babe2ab581cd408L,
+        "2b528248455117e307e110fb645165e5901278ac11c2702a3fcad9ada6af7e4827514b32e187522a56d0d1c1f5df0a73590dbd527e1c6c5a7cc6c0f4358b473544eb98ee6c5bc9139447a4f315bce15a0455d7372512e5eedbdc79cec87f831aadd33d3e5640e9b3b9439955fc35d6a12e818c7d1614855ff019acc2f094f05027a1a8f6c7a88d6cfe6ae378537957ffc91da9797370b43b6d57061bfba117022eb8633e93aa3641c8848ed2053a8ae16bace12ca55a11f088751affe17b5dac9ae77a79e7443d");
+    builder.add(
+        "ca540c872d9288081b9dc703b81ad29c",
+        "c86731c0feb284b30d1cfca4bee47d1e",
+        0x7b3f5452b3a65884L,
+        "1e4d7f9d62a8f1981a8d786fe1a55bee1d7ded3c4b9e93b226db2ac17fb3d626298201c5412e88ec0d5e8d50daf5cc6eabc14bcb9afe762dbdd50bf7ec891a306472ee1376bfd1f850960ef843d4ab675b1d73c9406f5e0396764465ab705c1cc1b45a7d38388e043e07d4fd6f64693997069312e27ed59a675c8ca8bacfb20aeca7cc45fb9ef47a28983002fb7717837faab29b77ccb3cec1dd4ded3535e81eea617b9e3503537104b0a17fbc98f18a94cc4929c198c9cad06c89d3926496f993796567b935a1");
+    builder.add(
+        "acdde61d840a9baed6c42661cd01e12e",
+        "a70de35cab4fff7c4e602e6997085276",
+        0x62aac208c2aff44eL,
+        "6c4c8fce5b32ca9677b1b46740cdc86d37fbe2a9e9e4f3cf81cc723302f57c3982c26439a04842d0472f995b9b1b6854fbb32ee6ce4aa6b249aeba3f0f7c49f518faff849f49c80eb45f19f0aab32a18a8e39eafe05bfbc906f6996f16655a9b2913fab63a47a9b439ccbcb9b55c80bc5ee2f43dc372c917f1789156fcaf1cb632caf22cf5505d6809a60bb57ed2b9c5865cf8c121e847a6b515fbd0bc33c4a8bd17de3a06d0597be6fb787ff87d37edf6f3fa2637a953dadadb6d46fb800faf8fe6cddd361a81");
+    builder.add(
+        "35402aa3ca0c353bf088e60b7295aae8",
+        "a8de9898cc0c60db28a211041c9bca1e",
+        0xda4867e6db0267b0L,
+        "3822ab7c95c940988d39c8a7279c1eba974e593ff634ebd820478a0f21e42affe40d3a067921bf32248e46fe5e67a165a32b761fc46ff2462c71d79c2725545272e7b00d2352c152410fb8bfd7274a84518dbeae8b8a6af5fcade061cf9551dcb2844fef6f6899894604752717b068c3881c9584e9eaa9016e51197aff6575b6386aa542a6b0fd4ab8b02814f70bb5c9118d182ac8b8cda583bec1c4af2c3ea631d6d13703d991e3ced1c02fd1d05c2dca2b9f612e2856475dee0880c6a657deae5549da6e989e");
+    builder.add(
+        "051bce68972bc871b252001078412ff1",
+        "f99dad8485ee2d7bf312f18a40f9ca63",
+        0x2987acd62e1e746bL,
+        "6493ca84902983560117684d33305ac6c816b7de71ed7eeff49a1750529ee9c0910979b6b0797d4aaae529824660688e63e05d1c4d603fd734b11709457ea5660f43b4600b9db4b9081a15f28f0eaa575731241e48038daf9b00ccf0f9f633ab1fed7786416ada2bc33cac146dd47313ec263028088baef612b9b186e3cccac807ca9107488a23f0655513d2b89914f76b1e28df05267daba66d765f5f0ce14675aa93b3765f2e809122b4ad8ad3e940d53784a54adafce630278c9e771ee8601f7fee94bddddd");
+    builder.add(
+        "d0b0366ade9239d42cf9cf9065a80ec1",
+        "06196357da880b4067c3e146d34b0f89",
+        0x536a8d2bd2fabd24L,
+        "a63d6cdb922e628e4b626bc4ceeed8fe14d69b2f113a06292d2aa9f2657efbc0e4b1d43941c0762e0d737feec5e11293fef609f814f2782121ebcac275178cffdaa24340644854fd8b91624604184d42f1d23c4f36bcfdde19019719eb4e1e8834832839aed0606b6939db0cb069805fcde744ffd3d173ba5b8c29fbf71177d10bc5fa133db518b443d1fdc31e9d9dabf0e6a7ec2ff09a07a4386516bb87c008583f522e8438951737d0e8f82345782287f7430312fb95006285e0c66b8b2edd1685bf2172c5ce70");
+    builder.add(
+        "7ee82864729aafa288a7aa16b6dce1d2",
+        "3d91f9b332eee9b1b1b3baf1ce044142",
+        0xd2c03fbc11e13712L,
+        "d4b593dc792636cab85831ab166ac49cdac67ac4bf539f100f47ad1bd046a9a67eda201bd09f6396bd3bf54e889fbeb500ec370b78a3c2b48d18e9113b932e23f9c05ee131ccd712b3bce7bcec2123bbf86b2c0a2bf85c63ea427b272dc155c497fa5ee2587d2a3c3c4dccaf0af901a96dcfa3f34bd12c5d3330755fb5388ef3f0535c24797ccbea37ffdc235080efb68c132ba215f0384a08de6468d1a167745601934046098bb059229bf5ace912259e6d50d2413c493884e2889f73d7cf7510236181dab3c9af");
+    builder.add(
+        "2ee0e701852aa76b2c354606b5de7214",
+        "3be78dd73b081ba501c5f0d5a3e25357",
+        0xf363f2bd739a3dfdL,
+        "22b6710c4ba8741074cbee0340749cf93a1883c62c73bce166ef163beccf5a5ad493a6061ebeaaa209f6fb557387fdad5211af1ecd76c5bbf70fc4a2b50269c4e82a6442bf28fe2b6a2299cde7d46c704028e2c0bbb61444433ade47c7e445b36ad2d60ba9a1bf5bcc661d3da3924898b031ae9077052a4d978f84e01da30fa9c858a5bc27f7e478bf5826a929081789a3c8c1b76f8190ecfd522e5c9a5bcb43f6f5174331c0eacbb115111c38c22fc0d70f0ac47c73726fe9f7c09aa9ca95cb7854c95415e5b8a1");
+    builder.add(
+        "1e2a5e013189394fea982f3581632f6b",
+        "1d209e25680d50eb9d8f616e01b94128",
+        0x8f67731a6afa3f13L,
+        "0f53be9b0f077e5c924832ca6aca80634f714bb84e6a6bf9128017d6f3f666c92a430df2cb096c590d9a8111366f7b9d78fcd92d733bb35ee889664975285fc565a50ed0d6d653774af5607afd389e3672ba0887feceab4caa3669c29661d7f94733cba000dfd0ccecfbecf92c7891881f3faf960abe475b59469edd82d283f10a670abc2f986d76d2b5e1f69c887bcaa60d4d0939e83a06a021dcf5fe783b774d213e462a6d1d3847468d6e44b1c3695245ca63405761bebe689ebbf9f37178013fd7f984932286");
+    builder.add(
+        "f6d3676884629304b819c2cef4dd6bdb",
+        "89ebb552a3dc1035ba515882a6cdaca9",
+        0x919c4c6f0f1969a6L,
+        "e75fef7be5a21f4936e6832d020c573ada92c591b8a6eb87565118347c4a170af5055ccf20166bc9014d1dc1fa30ddbbf1fa6baef92d6146b1453445c9e1e2117a5ff83b4f68a1bf7b4644c528528050d964626be22fa1d2bd4926bbb6dabcc2011328e6a4e9bfc3ff0cc280c1339f93c5a094d6019d736375a183e2b8b62216650fa9bbf9d45f4a4e671368f6e726e72966f5fab92977cd8a23db9e4f0a79c1295f617366ac434be2591f9bdc27f82b074562cdcccfb5e7eb1e52d3d9c5c6488126cda01117b3d9");
+    builder.add(
+        "bea7e01044b907dae9d0429f22614a76",
+        "3e878574c289ba0e62484582bbec694d",
+        0x1601f3ea2dd50fa1L,
+        "d9391344387d902d66a0fe8aa21df2a41b70fd9ff7f6e21ea8a363fb9a37b031e97847dc40e13d235c7903aedb10eae1e3dc51b37665d3f7e33af7a295f24de8f361c73f3422b8ee48b9d727e1105c3e60a6ed88dd4b37e692dfb3c8fba7e70c981399a6496b5de219e1b3dad0d962aa446f87f18ff4b2b6677703558c6fbddc13a57c4593a3a0de2e991a7a3321c2bdec191634e3efa64877ffe6cde12585054655be87774f7e33db5c5d3cb4fc057a1731fea378e70c2c2db4ee3eaf873e356a81df43722dd96a");
+    builder.add(
+        "2772239c249a27020cbbbc7a5d764707",
+        "e4d4f13edff78705c400a3c8d6b8a3a1",
+        0x9d8fe512ec1a6ae9L,
+        "8f25fd21a07de5f55bb412a02873f1a394044150f477d5a67d5feadfd68e630306ab56b4c5d477cd88b1b8db8d8c0ed5b9b51265751f211f0564aedabbf00e4dfbb208472aad8c5e3d49ed335ba4a2eb8447bc6c13ed84cc1aa3ae14d7468371b02374fa3a685a37dade11a3e834e6bcb68aeab2c98569efbdbfe99ad0a486dbb5aa57f31fcd918e231fba5563924a93b713db8a81176fe74ef9c5592304f2745acdb368e4f94c39234905576b62ca72124b35922e3729da38d45175c9fe5fc1227127b2faba1667");
+    builder.add(
+        "f88a0f6e06b42b7c3a64ab4ddf6315c9",
+        "d4d9a327742394bcfe624d3db83d2763",
+        0x375680caaf50c13dL,
+        "63bae961bfc247f12caa703405badae895778647ff919145c9b8f38cc63f6f2f3de96bf131b22522df286d7f14ed189b13afb640e0d5b9a184e74d32fed3e618fa34958730732ae7a39746785df82f542fac75e0abc63b3d7957da81d797bb93c1093f9f771439ad6df8731ae53c3f382101f533be322a207a3b5d8398702587c7b54caae08bb7f065c88437ddab827371f181a3e51a65e2f4c570e111ccade788db172544473050046b69738bb2928c42dff5adc039262940619007b448e05c705a3a25fed8927e");
+    builder.add(
+        "67d61758413fbf64608fe531489d8b5d",
+        "79c4bacbc435474772aac8615d6f2203",
+        0x9e9c2be0e7f4cd46L,
+        "5f3d84f3731faaee1ffbfd71c1f44ccbb0ea1378f4eae588a6a51a52e750b87d8778d791a81a9cda2bc8b5f03c22de5e8ba01ef6f6cfb7883bbb81f705617562364683eb7a3662d929fe0c79d4f8e67c8209452dd08eb644e3a13c40edd9a1bed7ecc77f48225a54ad26508c805e3c02659ea4e6440a3ef15eefee7e5c63b7a01b3a2e41f910c1cc1fbb5c71a3d06d9b30d6a24c9115159c1d37f5ea50f094094375159626e1d087102eec851104667a7060e8e1bf54ed81e286e6797e1b1ff81e408689c3c8df7e");
+    builder.add(
+        "31ac7d544a3a53b76e05036ec8c66328",
+        "7d8cfed4aa02377d386d506b339f486f",
+        0x771f3feb410b5a07L,
+        "bbb747dec18546d37483bc0dc71992bfc7f01fdde9a9885c18d199425db6c9f17abb80ff848ff40f8b414260993f44009770b5012007a2608fe9667900bbc6a7beb57ca94ec2d9a33e3fd03ff75f993b6f030bb1d779ab3e1a6f9da673c4d2b7699aec95ec2b9a730443e0d7845ba6bae027918c95211dceb890204de1b1544e71d1012258bff5fcd658eec9725c69d32b3c6d7bb40e6d3f21c39bf1ecbee1266cc88506be5e692dfc719b31105b32a74cb646b92fd25a6e3c9e8b3c28a3d5cfbbef37ddbd4fb43f");
+    return builder.build();
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.hashing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class XXH3_128Test extends AbstractHasher128Test {
+
+  private static final List<Hasher128> HASHERS =
+      Arrays.asList(Hashing.xxh3_128(), Hashing.xxh3_128(0x5d3bc8f2a3e7ec19L));
+
+  @Override
+  protected List<Hasher128> getHashers() {
+    return HASHERS;
+  }
+
+  @Override
+  protected void calculateHashForChecksum(byte[] seedBytes, byte[] hashBytes, byte[] dataBytes) {
+    long seed = (long) LONG_HANDLE.get(seedBytes, 0);
+
+    HashValue128 hash0 = XXH3_128.create().hashBytesTo128Bits(dataBytes);
+    HashValue128 hash1 = XXH3_128.create(seed).hashBytesTo128Bits(dataBytes);
+
+    LONG_HANDLE.set(hashBytes, 0, hash0.getLeastSignificantBits());
+    LONG_HANDLE.set(hashBytes, 8, hash0.getMostSignificantBits());
+    LONG_HANDLE.set(hashBytes, 16, hash1.getLeastSignificantBits());
+    LONG_HANDLE.set(hashBytes, 24, hash1.getMostSignificantBits());
+  }
+
+  @Override
+  int getSeedSizeForChecksum() {
+    return 8;
+  }
+
+  @Override
+  int getHashSizeForChecksum() {
+    return 32;
+  }
+
+  @Override
+  String getExpectedChecksum() {
+    return "1c66811b91f8ba3a883166a5e1956f853d3bccb1b94aa8e1671f59b044371277";
+  }
+
+  /**
+   * For inputs with lengths in the range [1, 3] and for inputs longer than 240 bytes, the lower 64
+   * bits of XXH3_128 are equal to XXH3_64.
+   */
+  @Test
+  void testConsistencyWithXXH3_64() {
+    for (XXH3ReferenceData.ReferenceRecord r : XXH3ReferenceData.get()) {
+      byte[] data = r.getData();
+      if (data.length >= 1 && data.length <= 3) {
+        assertThat(Hashing.xxh3_128().hashBytesToLong(data)).isEqualTo(r.getHash0());
+        assertThat(Hashing.xxh3_128(r.getSeed()).hashBytesToLong(data)).isEqualTo(r.getHash1());
+      }
+    }
+    byte[] data = new byte[1000];
+    for (int i = 0; i < data.length; ++i) {
+      data[i] = (byte) i;
+    }
+    for (int len = 241; len <= data.length; ++len) {
+      assertThat(Hashing.xxh3_128().hashBytesToLong(data, 0, len))
+          .isEqualTo(Hashing.xxh3_64().hashBytesToLong(data, 0, len));
+      assertThat(Hashing.xxh3_128(len).hashBytesToLong(data, 0, len))
+          .isEqualTo(Hashing.xxh3_64(len).hashBytesToLong(data, 0, len));
+    }
+  }
+
+  @Override
+  protected List<ReferenceTestRecord128> getReferenceTestRecords() {
+    List<ReferenceTestRecord128> referenceTestRecords = new ArrayList<>();
+    for (XXH3_128ReferenceData.ReferenceRecord r : XXH3_128ReferenceData.get()) {
+      referenceTestRecords.add(
+          new ReferenceTestRecord128(Hashing.xxh3_128(), r.getData(), r.getHash0()));
+      referenceTestRecords.add(
+          new ReferenceTestRecord128(Hashing.xxh3_128(r.getSeed()), r.getData(), r.getHash1()));
+    }
+    return referenceTestRecords;
+  }
+}
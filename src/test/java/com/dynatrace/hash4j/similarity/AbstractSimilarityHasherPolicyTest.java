@@ -187,6 +187,44 @@ abstract class AbstractSimilarityHasherPolicyTest {
                         }));
   }
 
+  @Test
+  void testIncrementalHasher() {
+    SplittableRandom random = new SplittableRandom(0x5a0c8e41e3d2f8b7L);
+    for (int numberOfComponents : new int[] {1, 2, 7, 64, 65, 100, 1000}) {
+      SimilarityHashPolicy policy = getSimilarityHashPolicy(numberOfComponents);
+      SimilarityHasher hasher = policy.createHasher();
+      IncrementalSimilarityHasher incrementalHasher = policy.createIncrementalHasher();
+      for (int size : new int[] {1, 2, 3, 10, 100, 1000}) {
+        long[] data = random.longs(size).toArray();
+        // add some duplicates
+        data[random.nextInt(size)] = data[random.nextInt(size)];
+        incrementalHasher.reset();
+        for (int i = 0; i < size; ++i) {
+          incrementalHasher.update(data[i]);
+          if (i == size / 2) {
+            // retrieving an intermediate signature must not affect the final signature
+            long[] prefix = Arrays.copyOf(data, i + 1);
+            assertThat(incrementalHasher.getSignature())
+                .isEqualTo(hasher.compute(ElementHashProvider.ofValues(prefix)));
+          }
+        }
+        assertThat(incrementalHasher.getSignature())
+            .isEqualTo(hasher.compute(ElementHashProvider.ofValues(data)));
+      }
+    }
+  }
+
+  @Test
+  void testIncrementalHasherWithoutElements() {
+    SimilarityHashPolicy policy = getSimilarityHashPolicy(11);
+    IncrementalSimilarityHasher incrementalHasher = policy.createIncrementalHasher();
+    assertThatIllegalStateException().isThrownBy(incrementalHasher::getSignature);
+    incrementalHasher.update(0x4b3c1f2d5e6a7980L);
+    assertThatNoException().isThrownBy(incrementalHasher::getSignature);
+    incrementalHasher.reset();
+    assertThatIllegalStateException().isThrownBy(incrementalHasher::getSignature);
+  }
+
   @Test
   void testNullElementHashProvider() {
     int numberOfComponents = 11;
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LocalitySensitiveHashIndexTest {
+
+  private static final SimilarityHashPolicy POLICY = SimilarityHashing.superMinHash(64, 16);
+
+  private static byte[] computeSignature(long[] elementHashes) {
+    return POLICY.createHasher().compute(ElementHashProvider.ofValues(elementHashes));
+  }
+
+  // returns a copy of the given set where the given number of elements is replaced
+  private static long[] mutate(long[] elementHashes, int numReplaced, SplittableRandom random) {
+    long[] result = elementHashes.clone();
+    for (int i = 0; i < numReplaced; ++i) {
+      result[i] = random.nextLong();
+    }
+    return result;
+  }
+
+  @Test
+  void testIllegalArguments() {
+    assertThatNullPointerException()
+        .isThrownBy(() -> LocalitySensitiveHashIndex.create(null, 4, 4));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalitySensitiveHashIndex.create(POLICY, 0, 4));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalitySensitiveHashIndex.create(POLICY, 4, 0));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalitySensitiveHashIndex.create(POLICY, 9, 8));
+    assertThatNoException().isThrownBy(() -> LocalitySensitiveHashIndex.create(POLICY, 8, 8));
+
+    LocalitySensitiveHashIndex index = LocalitySensitiveHashIndex.create(POLICY, 16, 4);
+    byte[] signature = new byte[POLICY.getSignatureSizeInBytes()];
+    byte[] invalidSignature = new byte[POLICY.getSignatureSizeInBytes() + 1];
+    assertThatNullPointerException().isThrownBy(() -> index.insert(0, null));
+    assertThatIllegalArgumentException().isThrownBy(() -> index.insert(0, invalidSignature));
+    assertThatNullPointerException().isThrownBy(() -> index.query(null, 0.5));
+    assertThatIllegalArgumentException().isThrownBy(() -> index.query(invalidSignature, 0.5));
+    assertThatIllegalArgumentException().isThrownBy(() -> index.query(signature, -0.1));
+    assertThatIllegalArgumentException().isThrownBy(() -> index.query(signature, 1.1));
+  }
+
+  @Test
+  void testInsertQueryRemove() {
+    LocalitySensitiveHashIndex index = LocalitySensitiveHashIndex.create(POLICY, 16, 4);
+    assertThat(index.getNumberOfBands()).isEqualTo(16);
+    assertThat(index.getNumberOfComponentsPerBand()).isEqualTo(4);
+    SplittableRandom random = new SplittableRandom(0x8e43d1b7062fa95cL);
+    long[] elements = random.longs(100).toArray();
+    byte[] signature = computeSignature(elements);
+    byte[] similarSignature = computeSignature(mutate(elements, 10, random));
+    byte[] otherSignature = computeSignature(random.longs(100).toArray());
+
+    assertThat(index.query(signature, 0)).isEmpty();
+    index.insert(1, signature);
+    index.insert(2, similarSignature);
+    index.insert(3, otherSignature);
+    assertThat(index.size()).isEqualTo(3);
+    assertThat(index.contains(2)).isTrue();
+    assertThat(index.contains(4)).isFalse();
+
+    assertThat(index.query(signature, 0.7)).containsExactlyInAnyOrder(1, 2);
+    assertThat(index.query(signature, 1)).containsExactly(1);
+    assertThat(index.query(otherSignature, 0.7)).containsExactly(3);
+
+    // inserting with an existing id replaces the signature
+    index.insert(2, otherSignature);
+    assertThat(index.size()).isEqualTo(3);
+    assertThat(index.query(signature, 0.7)).containsExactly(1);
+    assertThat(index.query(otherSignature, 1)).containsExactlyInAnyOrder(2, 3);
+
+    assertThat(index.remove(3)).isTrue();
+    assertThat(index.remove(3)).isFalse();
+    assertThat(index.size()).isEqualTo(2);
+    assertThat(index.query(otherSignature, 0)).containsExactly(2);
+    assertThat(index.remove(2)).isTrue();
+    assertThat(index.remove(1)).isTrue();
+    assertThat(index.size()).isZero();
+    assertThat(index.query(signature, 0)).isEmpty();
+  }
+
+  @Test
+  void testSignatureIsCopied() {
+    LocalitySensitiveHashIndex index = LocalitySensitiveHashIndex.create(POLICY, 16, 4);
+    byte[] signature = computeSignature(new long[] {1, 2, 3});
+    byte[] copy = signature.clone();
+    index.insert(7, signature);
+    signature[0] ^= 1;
+    assertThat(index.query(copy, 1)).containsExactly(7);
+  }
+
+  @Test
+  void testAgainstBruteForce() {
+    SplittableRandom random = new SplittableRandom(0x29b5e07cf3a1d846L);
+    LocalitySensitiveHashIndex index = LocalitySensitiveHashIndex.create(POLICY, 16, 4);
+    Map<Long, byte[]> expected = new HashMap<>();
+    List<long[]> clusters = new ArrayList<>();
+    for (int i = 0; i < 20; ++i) {
+      clusters.add(random.longs(200).toArray());
+    }
+    for (int i = 0; i < 5000; ++i) {
+      long id = random.nextInt(1000);
+      if (random.nextInt(4) == 0) {
+        assertThat(index.remove(id)).isEqualTo(expected.remove(id) != null);
+      } else {
+        long[] cluster = clusters.get(random.nextInt(clusters.size()));
+        byte[] signature = computeSignature(mutate(cluster, random.nextInt(200), random));
+        index.insert(id, signature);
+        expected.put(id, signature);
+      }
+      assertThat(index.size()).isEqualTo(expected.size());
+    }
+
+    double threshold = 0.6;
+    for (long[] cluster : clusters) {
+      byte[] querySignature = computeSignature(mutate(cluster, 10, random));
+      long[] candidates = index.query(querySignature, 0);
+      long[] result = index.query(querySignature, threshold);
+      assertThat(candidates).doesNotHaveDuplicates();
+
+      List<Long> expectedResult = new ArrayList<>();
+      for (long id : candidates) {
+        byte[] signature = expected.get(id);
+        assertThat(signature).isNotNull();
+        if (POLICY.getFractionOfEqualComponents(querySignature, signature) >= threshold) {
+          expectedResult.add(id);
+        }
+      }
+      assertThat(result)
+          .containsExactlyInAnyOrder(expectedResult.stream().mapToLong(Long::longValue).toArray());
+
+      // a signature with a fraction of equal components of at least 0.9 differs in at most 6 of the
+      // 64 components, hence at least 10 of the 16 bands are equal and it must be found
+      for (Map.Entry<Long, byte[]> entry : expected.entrySet()) {
+        if (POLICY.getFractionOfEqualComponents(querySignature, entry.getValue()) >= 0.9) {
+          assertThat(result).contains(entry.getKey());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LongIntHashMapTest {
+
+  @Test
+  void testEmpty() {
+    LongIntHashMap map = new LongIntHashMap();
+    assertThat(map.size()).isZero();
+    assertThat(map.get(0)).isEqualTo(LongIntHashMap.NO_VALUE);
+    assertThat(map.remove(0)).isEqualTo(LongIntHashMap.NO_VALUE);
+  }
+
+  @Test
+  void testAgainstHashMap() {
+    SplittableRandom random = new SplittableRandom(0x71c3a8e5d02f9b46L);
+    LongIntHashMap map = new LongIntHashMap();
+    Map<Long, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 200000; ++i) {
+      // a small key range ensures many collisions, updates, and removals of present keys
+      long key = (random.nextBoolean()) ? random.nextInt(1000) : random.nextInt(1000) * (1L << 40);
+      int operation = random.nextInt(3);
+      if (operation == 0) {
+        int value = random.nextInt(Integer.MAX_VALUE);
+        Integer oldValue = expected.put(key, value);
+        assertThat(map.put(key, value))
+            .isEqualTo((oldValue != null) ? oldValue : LongIntHashMap.NO_VALUE);
+      } else if (operation == 1) {
+        Integer oldValue = expected.remove(key);
+        assertThat(map.remove(key))
+            .isEqualTo((oldValue != null) ? oldValue : LongIntHashMap.NO_VALUE);
+      } else {
+        Integer value = expected.get(key);
+        assertThat(map.get(key)).isEqualTo((value != null) ? value : LongIntHashMap.NO_VALUE);
+      }
+      assertThat(map.size()).isEqualTo(expected.size());
+    }
+    for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+      assertThat(map.get(entry.getKey())).isEqualTo(entry.getValue());
+    }
+  }
+}
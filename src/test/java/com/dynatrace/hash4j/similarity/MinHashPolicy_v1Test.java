@@ -16,9 +16,13 @@
 package com.dynatrace.hash4j.similarity;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
 import com.dynatrace.hash4j.testutils.TestUtils;
+import java.util.Arrays;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.Test;
 
 class MinHashPolicy_v1Test extends AbstractMinHashPolicyTest {
@@ -63,6 +67,51 @@ class MinHashPolicy_v1Test extends AbstractMinHashPolicyTest {
         .isEqualTo("22ad5e6e9830da3abf844703");
   }
 
+  @Test
+  void testMergeStates() {
+    SplittableRandom random = new SplittableRandom(0x2e8d0f7c93b1a645L);
+    for (int bitsPerComponent : new int[] {1, 7, 64}) {
+      for (int numberOfComponents : new int[] {1, 10, 100}) {
+        MergeableSimilarityHashPolicy policy =
+            SimilarityHashing.mergeableMinHash(
+                numberOfComponents, bitsPerComponent, MinHashVersion.V1);
+        SimilarityHasher hasher = policy.createHasher();
+        for (int size : new int[] {2, 3, 10, 1000}) {
+          long[] data = random.longs(size).toArray();
+          int splitIndex = 1 + random.nextInt(size - 1);
+          long[] state1 =
+              policy.computeState(ElementHashProvider.ofValues(Arrays.copyOf(data, splitIndex)));
+          long[] state2 =
+              policy.computeState(
+                  ElementHashProvider.ofValues(Arrays.copyOfRange(data, splitIndex, size)));
+          long[] state1Copy = state1.clone();
+          long[] state2Copy = state2.clone();
+
+          byte[] expectedSignature = hasher.compute(ElementHashProvider.ofValues(data));
+          assertThat(policy.finish(policy.merge(state1, state2))).isEqualTo(expectedSignature);
+          assertThat(policy.finish(policy.merge(state2, state1))).isEqualTo(expectedSignature);
+          assertThat(policy.finish(policy.computeState(ElementHashProvider.ofValues(data))))
+              .isEqualTo(expectedSignature);
+          assertThat(state1).isEqualTo(state1Copy);
+          assertThat(state2).isEqualTo(state2Copy);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testMergeStatesIllegalArguments() {
+    MergeableSimilarityHashPolicy policy = SimilarityHashing.mergeableMinHash(10, 8);
+    long[] state = policy.computeState(ElementHashProvider.ofValues(0x9b3f5c1d7e2a4068L));
+    assertThat(state.length).isEqualTo(10);
+    assertThatNullPointerException().isThrownBy(() -> policy.computeState(null));
+    assertThatNullPointerException().isThrownBy(() -> policy.merge(state, null));
+    assertThatNullPointerException().isThrownBy(() -> policy.finish(null));
+    assertThatIllegalArgumentException().isThrownBy(() -> policy.merge(state, new long[9]));
+    assertThatIllegalArgumentException().isThrownBy(() -> policy.merge(new long[11], state));
+    assertThatIllegalArgumentException().isThrownBy(() -> policy.finish(new long[9]));
+  }
+
   @Override
   protected SimilarityHashPolicy getSimilarityHashPolicy(
       int numberOfComponents, int bitsPerComponent) {
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.hipparchus.stat.inference.AlternativeHypothesis;
+import org.hipparchus.stat.inference.BinomialTest;
+import org.junit.jupiter.api.Test;
+
+class ProbMinHashPolicy_v1Test extends AbstractMinHashPolicyTest {
+
+  @Override
+  protected WeightedSimilarityHashPolicy getSimilarityHashPolicy(
+      int numberOfComponents, int bitsPerComponent) {
+    return new ProbMinHashPolicy_v1(
+        numberOfComponents, bitsPerComponent, PseudoRandomGeneratorProvider.splitMix64_V1());
+  }
+
+  @Override
+  protected long getCheckSum() {
+    return -8900828673088008624L;
+  }
+
+  private static double calculateProbabilityJaccardSimilarity(
+      double[] weights1, double[] weights2) {
+    double result = 0;
+    for (int i = 0; i < weights1.length; ++i) {
+      if (weights1[i] > 0 && weights2[i] > 0) {
+        double sum = 0;
+        for (int j = 0; j < weights1.length; ++j) {
+          sum += Math.max(weights1[j] / weights1[i], weights2[j] / weights2[i]);
+        }
+        result += 1. / sum;
+      }
+    }
+    return result;
+  }
+
+  @Test
+  void testProbabilityJaccardSimilarity() {
+    int numberOfComponents = 3000;
+    int numberOfElements = 50;
+    SplittableRandom random = new SplittableRandom(0x7d2f4c8a1b3e6905L);
+    WeightedSimilarityHasher hasher =
+        getSimilarityHashPolicy(numberOfComponents, 64).createWeightedHasher();
+    SimilarityHashPolicy policy = getSimilarityHashPolicy(numberOfComponents, 64);
+
+    for (int cycle = 0; cycle < 10; ++cycle) {
+      long[] elementHashes = random.longs(numberOfElements).toArray();
+      double[] weights1 = new double[numberOfElements];
+      double[] weights2 = new double[numberOfElements];
+      for (int i = 0; i < numberOfElements; ++i) {
+        weights1[i] = (random.nextInt(4) == 0) ? 0 : random.nextDouble();
+        weights2[i] = (random.nextInt(4) == 0) ? 0 : weights1[i] + random.nextDouble() * 0.5;
+      }
+      byte[] signature1 =
+          hasher.compute(WeightedElementHashProvider.ofValues(elementHashes, weights1));
+      byte[] signature2 =
+          hasher.compute(WeightedElementHashProvider.ofValues(elementHashes, weights2));
+      int numEqualComponents = policy.getNumberOfEqualComponents(signature1, signature2);
+      double expectedMatchProbability = calculateProbabilityJaccardSimilarity(weights1, weights2);
+      assertThat(
+              new BinomialTest()
+                  .binomialTest(
+                      numberOfComponents,
+                      numEqualComponents,
+                      expectedMatchProbability,
+                      AlternativeHypothesis.TWO_SIDED))
+          .isGreaterThan(0.01);
+    }
+  }
+
+  @Test
+  void testWeightedHasherConsistency() {
+    SplittableRandom random = new SplittableRandom(0x0b9e5d3a7c1f2846L);
+    for (int numberOfComponents : new int[] {1, 10, 100}) {
+      WeightedSimilarityHashPolicy policy = getSimilarityHashPolicy(numberOfComponents, 16);
+      SimilarityHasher hasher = policy.createHasher();
+      WeightedSimilarityHasher weightedHasher = policy.createWeightedHasher();
+      for (int numberOfElements : new int[] {1, 2, 10, 100}) {
+        long[] elementHashes = random.longs(numberOfElements).toArray();
+        double[] weights = random.doubles(numberOfElements).map(x -> x + 0.1).toArray();
+
+        // unit weights correspond to the unweighted case
+        double[] unitWeights = new double[numberOfElements];
+        Arrays.fill(unitWeights, 1.);
+        assertThat(
+                weightedHasher.compute(
+                    WeightedElementHashProvider.ofValues(elementHashes, unitWeights)))
+            .isEqualTo(hasher.compute(ElementHashProvider.ofValues(elementHashes)));
+
+        byte[] signature =
+            weightedHasher.compute(WeightedElementHashProvider.ofValues(elementHashes, weights));
+
+        // scaling all weights by a power of two does not change the signature
+        double[] scaledWeights = Arrays.stream(weights).map(x -> x * 0.25).toArray();
+        assertThat(
+                weightedHasher.compute(
+                    WeightedElementHashProvider.ofValues(elementHashes, scaledWeights)))
+            .isEqualTo(signature);
+
+        // elements with zero weight are ignored
+        long[] extendedElementHashes = Arrays.copyOf(elementHashes, numberOfElements + 1);
+        double[] extendedWeights = Arrays.copyOf(weights, numberOfElements + 1);
+        extendedElementHashes[numberOfElements] = random.nextLong();
+        assertThat(
+                weightedHasher.compute(
+                    WeightedElementHashProvider.ofValues(extendedElementHashes, extendedWeights)))
+            .isEqualTo(signature);
+
+        // duplicates with smaller weights are ignored
+        extendedElementHashes[numberOfElements] = elementHashes[0];
+        extendedWeights[numberOfElements] = weights[0] * 0.5;
+        assertThat(
+                weightedHasher.compute(
+                    WeightedElementHashProvider.ofValues(extendedElementHashes, extendedWeights)))
+            .isEqualTo(signature);
+      }
+    }
+  }
+
+  @Test
+  void testWeightedHasherIllegalArguments() {
+    WeightedSimilarityHasher hasher = getSimilarityHashPolicy(10, 8).createWeightedHasher();
+    long[] elementHashes = {0x3c6ef372fe94f82bL, 0xa54ff53a5f1d36f1L};
+    assertThatNullPointerException().isThrownBy(() -> hasher.compute(null));
+    for (double invalidWeight :
+        new double[] {-1., Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}) {
+      assertThatIllegalArgumentException()
+          .isThrownBy(
+              () ->
+                  hasher.compute(
+                      WeightedElementHashProvider.ofValues(
+                          elementHashes, new double[] {1., invalidWeight})));
+    }
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                hasher.compute(
+                    WeightedElementHashProvider.ofValues(elementHashes, new double[] {0., 0.})));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () -> WeightedElementHashProvider.ofValues(elementHashes, new double[] {1., 2., 3.}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> WeightedElementHashProvider.ofValues(new long[0], new double[0]));
+  }
+
+  @Test
+  void testTinyWeights() {
+    WeightedSimilarityHasher hasher = getSimilarityHashPolicy(100, 16).createWeightedHasher();
+    long[] elementHashes = {0x510e527fade682d1L, 0x9b05688c2b3e6c1fL};
+    byte[] signature =
+        hasher.compute(WeightedElementHashProvider.ofValues(elementHashes, new double[] {1., 0.5}));
+
+    // the reciprocals of subnormal weights overflow
+    double tinyWeight = Math.scalb(1., -1030);
+    assertThat(1. / tinyWeight).isInfinite();
+    assertThat(
+            hasher.compute(
+                WeightedElementHashProvider.ofValues(
+                    elementHashes, new double[] {tinyWeight, 0.5 * tinyWeight})))
+        .isEqualTo(signature);
+    assertThat(
+            hasher.compute(
+                WeightedElementHashProvider.ofValues(
+                    elementHashes, new double[] {Double.MIN_VALUE, Double.MIN_VALUE})))
+        .isEqualTo(
+            hasher.compute(
+                WeightedElementHashProvider.ofValues(elementHashes, new double[] {1., 1.})));
+
+    // elements with tiny weights relative to the others do not contribute
+    assertThat(
+            hasher.compute(
+                WeightedElementHashProvider.ofValues(elementHashes, new double[] {1., 1e-310})))
+        .isEqualTo(
+            hasher.compute(
+                WeightedElementHashProvider.ofValues(elementHashes, new double[] {1., 0.})));
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2024 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SignatureComparatorTest {
+
+  // returns a block of consecutive signatures of similar sets
+  private static byte[] createSignatures(
+      SimilarityHashPolicy policy, int numSignatures, SplittableRandom random) {
+    int signatureSizeInBytes = policy.getSignatureSizeInBytes();
+    byte[] signatures = new byte[numSignatures * signatureSizeInBytes];
+    SimilarityHasher hasher = policy.createHasher();
+    long[] elementHashes = random.longs(50).toArray();
+    for (int i = 0; i < numSignatures; ++i) {
+      long[] mutatedElementHashes = elementHashes.clone();
+      int numReplaced = random.nextInt(elementHashes.length + 1);
+      for (int j = 0; j < numReplaced; ++j) {
+        mutatedElementHashes[j] = random.nextLong();
+      }
+      byte[] signature = hasher.compute(ElementHashProvider.ofValues(mutatedElementHashes));
+      System.arraycopy(signature, 0, signatures, i * signatureSizeInBytes, signatureSizeInBytes);
+    }
+    return signatures;
+  }
+
+  private static byte[] getSignature(SimilarityHashPolicy policy, byte[] signatures, int idx) {
+    int signatureSizeInBytes = policy.getSignatureSizeInBytes();
+    byte[] signature = new byte[signatureSizeInBytes];
+    System.arraycopy(signatures, idx * signatureSizeInBytes, signature, 0, signatureSizeInBytes);
+    return signature;
+  }
+
+  private static void testComparator(
+      SimilarityHashPolicy policy, SignatureComparator comparator, SplittableRandom random) {
+    int numSignatures1 = 30;
+    int numSignatures2 = 200;
+    byte[] signatures1 = createSignatures(policy, numSignatures1, random);
+    byte[] signatures2 = createSignatures(policy, numSignatures2, random);
+
+    int[] expectedCounts = new int[numSignatures1 * numSignatures2];
+    double[] expectedFractions = new double[numSignatures1 * numSignatures2];
+    for (int i = 0; i < numSignatures1; ++i) {
+      byte[] signature1 = getSignature(policy, signatures1, i);
+      for (int j = 0; j < numSignatures2; ++j) {
+        byte[] signature2 = getSignature(policy, signatures2, j);
+        expectedCounts[i * numSignatures2 + j] =
+            policy.getNumberOfEqualComponents(signature1, signature2);
+        expectedFractions[i * numSignatures2 + j] =
+            policy.getFractionOfEqualComponents(signature1, signature2);
+      }
+    }
+
+    int[] counts = new int[numSignatures1 * numSignatures2];
+    double[] fractions = new double[numSignatures1 * numSignatures2];
+    comparator.getPairwiseNumberOfEqualComponents(signatures1, signatures2, counts);
+    comparator.getPairwiseFractionOfEqualComponents(signatures1, signatures2, fractions);
+    assertThat(counts).isEqualTo(expectedCounts);
+    assertThat(fractions).isEqualTo(expectedFractions);
+
+    ByteBuffer heapBuffer = ByteBuffer.allocate(signatures2.length + 3);
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(signatures2.length + 3);
+    for (ByteBuffer buffer : new ByteBuffer[] {heapBuffer, directBuffer}) {
+      buffer.position(3);
+      buffer.put(signatures2);
+      buffer.position(3);
+    }
+
+    for (int i = 0; i < numSignatures1; ++i) {
+      byte[] signature1 = getSignature(policy, signatures1, i);
+      int[] expectedRowCounts = new int[numSignatures2];
+      double[] expectedRowFractions = new double[numSignatures2];
+      System.arraycopy(
+          expectedCounts, i * numSignatures2, expectedRowCounts, 0, numSignatures2);
+      System.arraycopy(
+          expectedFractions, i * numSignatures2, expectedRowFractions, 0, numSignatures2);
+
+      int[] rowCounts = new int[numSignatures2];
+      double[] rowFractions = new double[numSignatures2];
+      comparator.getNumberOfEqualComponents(signature1, signatures2, rowCounts);
+      comparator.getFractionOfEqualComponents(signature1, signatures2, rowFractions);
+      assertThat(rowCounts).isEqualTo(expectedRowCounts);
+      assertThat(rowFractions).isEqualTo(expectedRowFractions);
+
+      for (ByteBuffer buffer : new ByteBuffer[] {heapBuffer, directBuffer}) {
+        int[] bufferCounts = new int[numSignatures2];
+        double[] bufferFractions = new double[numSignatures2];
+        comparator.getNumberOfEqualComponents(signature1, buffer, bufferCounts);
+        comparator.getFractionOfEqualComponents(signature1, buffer, bufferFractions);
+        assertThat(bufferCounts).isEqualTo(expectedRowCounts);
+        assertThat(bufferFractions).isEqualTo(expectedRowFractions);
+        assertThat(buffer.position()).isEqualTo(3);
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 3, 8, 16, 21, 32, 64})
+  void testComparison(int bitsPerComponent) {
+    SplittableRandom random = new SplittableRandom(0x4f1bbcdcbfa53e0bL + bitsPerComponent);
+    for (int numberOfComponents : new int[] {1, 7, 64, 100}) {
+      SimilarityHashPolicy policy =
+          SimilarityHashing.minHash(numberOfComponents, bitsPerComponent);
+      testComparator(policy, SignatureComparator.create(policy), random);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 8, 16})
+  void testParallelComparison(int bitsPerComponent) {
+    SplittableRandom random = new SplittableRandom(0x6a2f0f1e3c3d2b9aL + bitsPerComponent);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int numberOfComponents : new int[] {1, 100}) {
+        SimilarityHashPolicy policy =
+            SimilarityHashing.superMinHash(numberOfComponents, bitsPerComponent);
+        testComparator(policy, SignatureComparator.create(policy, pool), random);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testSimHash() {
+    SplittableRandom random = new SplittableRandom(0x0d6b21e1c4d4bd49L);
+    SimilarityHashPolicy policy = SimilarityHashing.fastSimHash(200);
+    testComparator(policy, SignatureComparator.create(policy), random);
+  }
+
+  @Test
+  void testIllegalArguments() {
+    SimilarityHashPolicy policy = SimilarityHashing.minHash(10, 8);
+    SignatureComparator comparator = SignatureComparator.create(policy);
+    byte[] signature = new byte[10];
+    byte[] signatures = new byte[30];
+    assertThatNullPointerException().isThrownBy(() -> SignatureComparator.create(null));
+    assertThatNullPointerException()
+        .isThrownBy(() -> SignatureComparator.create(policy, (ForkJoinPool) null));
+    assertThatNullPointerException()
+        .isThrownBy(() -> comparator.getNumberOfEqualComponents(null, signatures, new int[3]));
+    assertThatNullPointerException()
+        .isThrownBy(
+            () -> comparator.getNumberOfEqualComponents(signature, (byte[]) null, new int[3]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () -> comparator.getNumberOfEqualComponents(new byte[9], signatures, new int[3]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> comparator.getNumberOfEqualComponents(signature, signatures, new int[2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                comparator.getFractionOfEqualComponents(
+                    signature, ByteBuffer.allocate(31), new double[3]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                comparator.getPairwiseNumberOfEqualComponents(
+                    new byte[31], signatures, new int[9]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                comparator.getPairwiseNumberOfEqualComponents(
+                    signatures, signatures, new int[8]));
+    assertThatNoException()
+        .isThrownBy(
+            () ->
+                comparator.getPairwiseNumberOfEqualComponents(
+                    signatures, signatures, new int[9]));
+  }
+}
@@ -124,6 +124,50 @@ class PackedArrayTest {
     }
   }
 
+  @ParameterizedTest
+  @MethodSource("getBitSizes")
+  void testNumberOfEqualComponentsWithOffsets(int bitSize) {
+    SplittableRandom random = new SplittableRandom(0x1d3cc9b5a5e9b7f2L);
+    PackedArrayHandler handler = PackedArray.getHandler(bitSize);
+    int maxLength = 200;
+    int numCycles = 10;
+    for (int len = 1; len < maxLength; ++len) {
+      int numBytes = handler.numBytes(len);
+      for (int c = 0; c < numCycles; ++c) {
+        byte[] array1 = handler.create(len);
+        byte[] array2 = handler.create(len);
+        for (int i = 0; i < len; ++i) {
+          long value1 = random.nextLong();
+          long value2 = value1;
+          if (bitSize > 0 && random.nextBoolean()) {
+            // flip a single bit to make sure that also small differences are detected
+            value2 ^= 1L << random.nextInt(bitSize);
+          }
+          handler.set(array1, i, value1);
+          handler.set(array2, i, value2);
+        }
+        int offset1 = random.nextInt(10);
+        int offset2 = random.nextInt(10);
+        byte[] block1 = new byte[offset1 + numBytes + random.nextInt(10)];
+        byte[] block2 = new byte[offset2 + numBytes + random.nextInt(10)];
+        random.nextBytes(block1);
+        random.nextBytes(block2);
+        System.arraycopy(array1, 0, block1, offset1, numBytes);
+        System.arraycopy(array2, 0, block2, offset2, numBytes);
+
+        int numEquals = 0;
+        for (int i = 0; i < len; ++i) {
+          if (handler.get(array1, i) == handler.get(array2, i)) {
+            numEquals += 1;
+          }
+        }
+        assertThat(handler.numEqualComponents(array1, array2, len)).isEqualTo(numEquals);
+        assertThat(handler.numEqualComponents(block1, offset1, block2, offset2, len))
+            .isEqualTo(numEquals);
+      }
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("getBitSizes")
   void testCreateWithValues(int bitSize) {